@@ -14,6 +14,7 @@ package org.eclipse.serializer.collections;
  * #L%
  */
 
+import org.eclipse.serializer.functional._longPredicate;
 import org.eclipse.serializer.math.XMath;
 import org.eclipse.serializer.typing.Composition;
 
@@ -159,6 +160,59 @@ public final class HashMapIdId implements Composition
 		return notFoundValue;
 	}
 
+	/**
+	 * Puts all entries of the passed map into this map, replacing the values of already present keys.
+	 *
+	 * @param other the map whose entries shall be put
+	 */
+	public final void putAll(final HashMapIdId other)
+	{
+		for(Entry entry : other.hashSlots)
+		{
+			for(; entry != null; entry = entry.link)
+			{
+				this.put(entry.id, entry.value);
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries whose key is matched by the passed predicate.
+	 *
+	 * @param idPredicate the predicate selecting the keys to be removed
+	 * @return the number of removed entries
+	 */
+	public final long removeBy(final _longPredicate idPredicate)
+	{
+		final Entry[] slots = this.hashSlots;
+
+		int removeCount = 0;
+		for(int i = 0; i < slots.length; i++)
+		{
+			Entry last = null;
+			for(Entry entry = slots[i]; entry != null; entry = entry.link)
+			{
+				if(!idPredicate.test(entry.id))
+				{
+					last = entry;
+					continue;
+				}
+				if(last == null)
+				{
+					slots[i] = entry.link;
+				}
+				else
+				{
+					last.link = entry.link;
+				}
+				removeCount++;
+			}
+		}
+		this.size -= removeCount;
+
+		return removeCount;
+	}
+
 	public final void clear()
 	{
 		final Entry[] slots = this.hashSlots;
@@ -0,0 +1,266 @@
+package org.eclipse.serializer.collections;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.Arrays;
+
+import org.eclipse.serializer.memory.XMemory;
+
+/**
+ * Segmented off-heap memory for the hash chains of {@link OffHeapLongHashSet} and {@link OffHeapLongLongHashMap}.
+ * <p>
+ * A chain is a fixed-size memory block holding {@code chainLength} entries of {@code entryByteSize} bytes,
+ * followed by the address of the next chain of the same hash bucket or {@link #NO_CHAIN}. The hash table consists
+ * of one head chain per bucket. Both the table and the overflow chains appended to full chains are allocated in
+ * segments of {@code chainsPerSegment} chains, so no single memory block is ever larger than one segment and
+ * existing memory is never reallocated. Chains never move, their addresses stay valid until the storage is
+ * {@linkplain #clear() cleared} or {@linkplain #free() freed}.
+ * <p>
+ * The interpretation of the entries is completely up to the owner, the storage only guarantees that newly
+ * allocated chains are filled with zeros.
+ */
+final class OffHeapChainStorage
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	static final long NO_CHAIN = 0L;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	/**
+	 * Validates the configuration shared by the off-heap hash collections and returns the maximum table length
+	 * rounded up to a power of two.
+	 */
+	static long validateMaximumTableLength(final long maximumTableLength, final int chainsPerSegment)
+	{
+		final long padded = OffHeapLongHashSet.padCapacity(maximumTableLength);
+		if(padded / Integer.highestOneBit(chainsPerSegment) > Integer.MAX_VALUE)
+		{
+			throw new IllegalArgumentException(
+				"Maximum table length " + maximumTableLength + " requires more than " + Integer.MAX_VALUE
+				+ " segments of " + chainsPerSegment + " chains."
+			);
+		}
+
+		return padded;
+	}
+
+	static OffHeapChainStorage New(
+		final long tableLength     ,
+		final int  chainLength     ,
+		final int  entryByteSize   ,
+		final int  chainsPerSegment
+	)
+	{
+		return new OffHeapChainStorage(
+			tableLength                         ,
+			chainLength                         ,
+			entryByteSize                       ,
+			Integer.highestOneBit(chainsPerSegment)
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	final long tableLength  ; // number of head chains, always 2^n.
+	final long hashRange    ; // shortcut for tableLength - 1
+	final int  chainLength  ; // number of entries per chain
+	final long linkOffset   ; // offset of the next chain's address, i.e. the byte size of all entries of a chain
+	final long chainByteSize;
+
+	private final int  chainsPerSegment;
+	private final int  segmentShift    ;
+	private final long segmentMask     ;
+
+	private final long[] tableSegments;
+
+	private long[] overflowSegments      = new long[4];
+	private int    overflowSegmentCount  = 0;
+	private long   overflowAddress       = 0;
+	private long   overflowBound         = 0;
+	private long   overflowChainCount    = 0;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	OffHeapChainStorage(
+		final long tableLength     ,
+		final int  chainLength     ,
+		final int  entryByteSize   ,
+		final int  chainsPerSegment
+	)
+	{
+		super();
+		this.tableLength      = tableLength;
+		this.hashRange        = tableLength - 1;
+		this.chainLength      = chainLength;
+		this.linkOffset       = (long)chainLength * entryByteSize;
+		this.chainByteSize    = this.linkOffset + Long.BYTES;
+		this.chainsPerSegment = chainsPerSegment;
+		this.segmentShift     = Integer.numberOfTrailingZeros(chainsPerSegment);
+		this.segmentMask      = chainsPerSegment - 1;
+		this.tableSegments    = this.allocateTable();
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	private long[] allocateTable()
+	{
+		final long   segmentChains = Math.min(this.tableLength, this.chainsPerSegment);
+		final long[] segments      = new long[(int)(this.tableLength / segmentChains)];
+		try
+		{
+			for(int i = 0; i < segments.length; i++)
+			{
+				segments[i] = XMemory.allocateCleared(segmentChains * this.chainByteSize);
+			}
+		}
+		catch(final Throwable t)
+		{
+			// do not leak the segments that could already be allocated.
+			freeSegments(segments, segments.length);
+			throw t;
+		}
+
+		return segments;
+	}
+
+	/**
+	 * Returns the address of the head chain of the bucket the passed hash value belongs to.
+	 */
+	final long headChain(final long hash)
+	{
+		final long index = hash & this.hashRange;
+
+		return this.tableSegments[(int)(index >>> this.segmentShift)]
+			+ (index & this.segmentMask) * this.chainByteSize
+		;
+	}
+
+	final long nextChain(final long chain)
+	{
+		return XMemory.get_long(chain + this.linkOffset);
+	}
+
+	/**
+	 * Appends a new, empty chain to the passed chain, which must be the last one of its bucket.
+	 */
+	final long appendChain(final long chain)
+	{
+		if(this.overflowAddress == this.overflowBound)
+		{
+			this.addOverflowSegment();
+		}
+
+		final long newChain = this.overflowAddress;
+		this.overflowAddress += this.chainByteSize;
+		this.overflowChainCount++;
+		XMemory.set_long(chain + this.linkOffset, newChain);
+
+		return newChain;
+	}
+
+	private void addOverflowSegment()
+	{
+		final long segmentByteSize = this.chainsPerSegment * this.chainByteSize;
+		final long segment         = XMemory.allocateCleared(segmentByteSize);
+
+		if(this.overflowSegmentCount == this.overflowSegments.length)
+		{
+			this.overflowSegments = Arrays.copyOf(this.overflowSegments, this.overflowSegmentCount * 2);
+		}
+		this.overflowSegments[this.overflowSegmentCount++] = segment;
+		this.overflowAddress = segment;
+		this.overflowBound   = segment + segmentByteSize;
+	}
+
+	/**
+	 * The number of all chains, i.e. head chains and overflow chains.
+	 */
+	final long chainCount()
+	{
+		return this.tableLength + this.overflowChainCount;
+	}
+
+	/**
+	 * The number of bytes of all allocated segments, including the not yet used chains of the current segment.
+	 */
+	final long allocatedByteSize()
+	{
+		return (this.tableLength + (long)this.overflowSegmentCount * this.chainsPerSegment) * this.chainByteSize;
+	}
+
+	/**
+	 * Resets all head chains to empty ones and frees all overflow chains.
+	 */
+	final void clear()
+	{
+		final long tableSegmentByteSize = Math.min(this.tableLength, this.chainsPerSegment) * this.chainByteSize;
+		for(final long segment : this.tableSegments)
+		{
+			XMemory.clearMemory(segment, tableSegmentByteSize);
+		}
+		this.freeOverflowSegments();
+	}
+
+	private void freeOverflowSegments()
+	{
+		freeSegments(this.overflowSegments, this.overflowSegmentCount);
+		this.overflowSegments     = new long[4];
+		this.overflowSegmentCount = 0;
+		this.overflowAddress      = 0;
+		this.overflowBound        = 0;
+		this.overflowChainCount   = 0;
+	}
+
+	/**
+	 * Frees all allocated memory. The storage must not be used afterwards.
+	 */
+	final void free()
+	{
+		this.freeOverflowSegments();
+		freeSegments(this.tableSegments, this.tableSegments.length);
+		Arrays.fill(this.tableSegments, 0L);
+	}
+
+	private static void freeSegments(final long[] segments, final int count)
+	{
+		for(int i = 0; i < count; i++)
+		{
+			if(segments[i] != 0L)
+			{
+				XMemory.free(segments[i]);
+			}
+		}
+	}
+
+}
@@ -14,58 +14,46 @@ package org.eclipse.serializer.collections;
  * #L%
  */
 
+import org.eclipse.serializer.functional._longPredicate;
+import org.eclipse.serializer.functional._longProcedure;
 import org.eclipse.serializer.math.XMath;
 import org.eclipse.serializer.memory.XMemory;
 
-import java.nio.ByteBuffer;
-
 /**
- * A hash set for primitive {@code long} values whose backing storage is allocated off-heap
- * via a direct {@link ByteBuffer}.
+ * A hash set for primitive {@code long} values whose backing storage is allocated off-heap.
+ * <p>
+ * This implementation uses chained hashing with fixed-size chains. The hash table consists of one chain of
+ * {@link #defaultChainLength() chainLength} values per bucket. When a chain is full, another chain is appended to
+ * it, so a single crowded bucket never forces a storage enlargement. The table and the appended chains are
+ * allocated in segments of {@link #defaultChainsPerSegment() chainsPerSegment} chains each, so the set never
+ * needs one monolithic memory block and never reallocates existing memory.
  * <p>
- * This implementation uses open addressing with linear probing. It is designed for the use case
- * of collecting a large number of {@code long} values and testing them for presence; it does
- * <i>not</i> support removal of elements. The value {@code 0L} is supported and tracked separately,
- * since {@code 0L} is also used internally as the sentinel for empty slots.
+ * As long as the table is shorter than the configured {@link #defaultMaximumTableLength() maximum table length},
+ * its length is doubled whenever the set holds more values than three quarters of the table's chains can take.
+ * From then on, the set grows only by appending more and more chains. This way, the set can hold hundreds of
+ * millions of values in memory that is allocated step by step. The tradeoff between table size and chain length
+ * can be configured via {@link #New(long, long, int, int)}.
  * <p>
- * When the number of collisions during an insertion exceeds the configured thresholds,
- * the backing storage is doubled and all contained values are rehashed into the new storage.
- * The previous direct buffer is deallocated explicitly in order to release large off-heap
- * memory chunks immediately instead of waiting for garbage collection.
+ * Enlarging the table rehashes all values into a completely new storage before the old one is freed. So while
+ * the table is doubled, the old and the new storage are allocated at the same time, i.e. the memory temporarily
+ * required is about three times the one of the old storage. A desired initial capacity that fits the
+ * expected number of values avoids the enlargements and their peaks altogether.
+ * <p>
+ * The set is designed for the use case of collecting a large number of {@code long} values and testing them for
+ * presence; it does <i>not</i> support removal of single elements. The value {@code 0L} is supported and tracked
+ * separately, since {@code 0L} is also used internally as the sentinel for empty slots.
  * <p>
  * Instances are not safe for concurrent modification by multiple threads.
  * <p>
- * The backing direct buffer holds off-heap memory that is not released by ordinary garbage
- * collection in a timely manner. Callers must invoke {@link #close()} (e.g. via
- * try-with-resources) when the set is no longer needed to free the native memory immediately.
+ * The backing off-heap memory is not released by garbage collection at all. Callers must invoke {@link #close()}
+ * (e.g. via try-with-resources) when the set is no longer needed to free the native memory.
  * After {@code close()}, the set must not be used again.
  *
+ * @see OffHeapLongLongHashMap
  * @see XMemory
  */
-public final class OffHeapLongHashSet implements AutoCloseable
+public final class OffHeapLongHashSet implements Set_long, AutoCloseable
 {
-	/* TODO: OffHeapLongHashSet memory segmentation
-	 * Currently, this implementation can theoretically grow very large (as long as enough
-	 * native memory is available), but it has one problem:
-	 * It needs to allocate larger and larger monolithic memory blocks, eventually exceeding
-	 * the available native memory.
-	 * A solution would be:
-	 * - Switch from open addressing to chaining.
-	 * - Chains are held in another allocated memory block. e.g. always 1024 chains per block (configurable).
-	 * - Multiple chain blocks are allocated as needed, as long as the configuration does not require a storage enlargement.
-	 * - Each chain has a pointer at its end, pointing to the next chain, if necessary.
-	 *   This is important to not force a storage enlargement just because a single chain is full.
-	 *
-	 * This way, the set can be configured to have a maximum hash table length of a certain size (e.g. 1 GB)
-	 * and from then on grow only by having larger and larger chains.
-	 * This creates multiple memory segments that can be allocated and swapped step by step
-	 * without the need to allocate one gigantic block that exceeds the available native memory.
-	 *
-	 * The tradeoff between hash table size and chain length can be perfectly configured
-	 * using a few simple int values. (maximum hash table length, chain length, chains per block, etc.)
-	 */
-
-
 	///////////////////////////////////////////////////////////////////////////
 	// constants //
 	//////////////
@@ -73,11 +61,10 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	private static final long EMPTY = 0L;
 
 	/**
-	 * The maximum capacity in number of {@code long} slots. Constrained by the underlying
-	 * {@link ByteBuffer} which is int-addressed, so the byte size must not exceed
-	 * {@link Integer#MAX_VALUE}.
+	 * The maximum capacity in number of {@code long} slots that {@link #padCapacity(long)} accepts.
+	 * Far beyond any realistic amount of native memory, it only guards against overflows.
 	 */
-	private static final long MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+	private static final long MAX_CAPACITY = 1L<<48;
 
 
 
@@ -97,48 +84,83 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	}
 
 	/**
-	 * Returns the default collision threshold, i.e. the number of collisions during an
-	 * insertion that are tolerated before the {@linkplain #defaultExcessLimit() excess counter}
-	 * starts to be incremented.
+	 * Returns the default number of values per chain. Together with the link to the next chain,
+	 * a chain occupies exactly 64 bytes, i.e. one cache line on common hardware.
+	 *
+	 * @return the default chain length.
+	 */
+	public static int defaultChainLength()
+	{
+		return 7;
+	}
+
+	/**
+	 * Returns the default maximum length of the hash table in number of chains. With the
+	 * {@linkplain #defaultChainLength() default chain length}, the table occupies at most 1 GB.
+	 *
+	 * @return the default maximum table length, always a power of two.
+	 */
+	public static long defaultMaximumTableLength()
+	{
+		return 1L<<24;
+	}
+
+	/**
+	 * Returns the default number of chains allocated together in one memory segment. With the
+	 * {@linkplain #defaultChainLength() default chain length}, one segment occupies 1 MB.
+	 *
+	 * @return the default number of chains per segment, always a power of two.
+	 */
+	public static int defaultChainsPerSegment()
+	{
+		return 1<<14;
+	}
+
+	/**
+	 * Returns the default collision threshold of the former open addressing storage.
 	 *
 	 * @return the default collision threshold.
+	 * @deprecated collisions no longer enlarge the set, as crowded buckets are extended by appending chains.
+	 *             See {@link #defaultChainLength()} and {@link #defaultMaximumTableLength()}.
 	 */
+	@Deprecated
 	public static int defaultCollisionThreshold()
 	{
 		return 8;
 	}
 
 	/**
-	 * Returns the default collision limit, i.e. the number of collisions during a single
-	 * insertion that immediately triggers an enlargement of the backing storage.
+	 * Returns the default collision limit of the former open addressing storage.
 	 *
 	 * @return the default collision limit, derived from the {@linkplain #defaultCollisionThreshold() default collision threshold}.
+	 * @deprecated collisions no longer enlarge the set, see {@link #defaultCollisionThreshold()}.
 	 */
+	@Deprecated
 	public static int defaultCollisionLimit()
 	{
 		return deriveCollisionLimit(defaultCollisionThreshold());
 	}
 
 	/**
-	 * Derives a collision limit from the given collision threshold. The limit is always
-	 * a multiple of the threshold and represents the hard per-insertion limit after which
-	 * the storage is enlarged regardless of the excess counter.
+	 * Derives a collision limit of the former open addressing storage from the given collision threshold.
 	 *
 	 * @param collisionThreshold the collision threshold to derive the limit from.
 	 * @return the derived collision limit.
+	 * @deprecated collisions no longer enlarge the set, see {@link #defaultCollisionThreshold()}.
 	 */
+	@Deprecated
 	public static int deriveCollisionLimit(final int collisionThreshold)
 	{
 		return collisionThreshold * 8;
 	}
 
 	/**
-	 * Returns the default excess limit, i.e. the number of insertions exceeding the
-	 * {@linkplain #defaultCollisionThreshold() collision threshold} that are tolerated
-	 * before the backing storage is enlarged.
+	 * Returns the default excess limit of the former open addressing storage.
 	 *
 	 * @return the default excess limit.
+	 * @deprecated collisions no longer enlarge the set, see {@link #defaultCollisionThreshold()}.
 	 */
+	@Deprecated
 	public static int defaultExcessLimit()
 	{
 		return 64;
@@ -146,7 +168,7 @@ public final class OffHeapLongHashSet implements AutoCloseable
 
 	/**
 	 * Rounds the given desired capacity up to the next power of two. Since the set relies on
-	 * a power-of-two capacity for its hash masking, this method is used internally to normalize
+	 * a power-of-two table length for its hash masking, this method is used internally to normalize
 	 * capacities supplied by callers.
 	 *
 	 * @param desiredCapacity the desired (minimum) capacity; must be positive.
@@ -170,19 +192,20 @@ public final class OffHeapLongHashSet implements AutoCloseable
 			capacity <<= 1;
 		}
 
-		// The rounded-up power of two may exceed MAX_CAPACITY even when desiredCapacity didn't
-		// (e.g. desiredCapacity == MAX_CAPACITY is not itself a power of two).
-		if(capacity > MAX_CAPACITY)
-		{
-			throw new IllegalArgumentException(
-				"Desired capacity " + desiredCapacity + " rounds up to " + capacity
-				+ " which exceeds the maximum of " + MAX_CAPACITY + "."
-			);
-		}
-
 		return capacity;
 	}
 
+	static long initialTableLength(
+		final long desiredCapacity   ,
+		final int  chainLength       ,
+		final long maximumTableLength
+	)
+	{
+		final long desiredTableLength = (XMath.positive(desiredCapacity) + chainLength - 1) / chainLength;
+
+		return Math.min(padCapacity(desiredTableLength), maximumTableLength);
+	}
+
 
 
 	/**
@@ -190,66 +213,63 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	 *
 	 * @return the new set instance.
 	 * @see #defaultInitialCapacity()
-	 * @see #defaultCollisionThreshold()
-	 * @see #defaultCollisionLimit()
-	 * @see #defaultExcessLimit()
+	 * @see #defaultMaximumTableLength()
+	 * @see #defaultChainLength()
+	 * @see #defaultChainsPerSegment()
 	 */
 	public static OffHeapLongHashSet New()
 	{
-		return new OffHeapLongHashSet(
-			defaultInitialCapacity(),
-			defaultCollisionThreshold(),
-			defaultCollisionLimit(),
-			defaultExcessLimit()
-		);
+		return New(defaultInitialCapacity());
 	}
 
 	/**
 	 * Creates a new {@link OffHeapLongHashSet} with the given initial capacity and otherwise
-	 * default configuration. The capacity is rounded up to the next power of two via
-	 * {@link #padCapacity(long)}.
+	 * default configuration.
 	 *
-	 * @param desiredCapacity the desired initial capacity; must be positive.
+	 * @param desiredCapacity the desired initial capacity in number of values; must be positive.
 	 * @return the new set instance.
 	 */
 	public static OffHeapLongHashSet New(final long desiredCapacity)
 	{
-		return new OffHeapLongHashSet(
-			padCapacity(desiredCapacity),
-			defaultCollisionThreshold(),
-			defaultCollisionLimit(),
-			defaultExcessLimit()
+		return New(
+			desiredCapacity            ,
+			defaultMaximumTableLength(),
+			defaultChainLength()       ,
+			defaultChainsPerSegment()
 		);
 	}
 
 	/**
-	 * Creates a new {@link OffHeapLongHashSet} with the given initial capacity and collision
-	 * threshold. The collision limit is {@linkplain #deriveCollisionLimit(int) derived} from
-	 * the threshold, and the excess limit defaults to {@link #defaultExcessLimit()}.
+	 * Creates a new {@link OffHeapLongHashSet} with the given initial capacity and otherwise
+	 * default configuration. The collision threshold is only validated.
 	 *
-	 * @param desiredCapacity    the desired initial capacity; must be positive.
-	 * @param collisionThreshold the collision threshold; must be positive.
+	 * @param desiredCapacity    the desired initial capacity in number of values; must be positive.
+	 * @param collisionThreshold the collision threshold of the former open addressing storage; must be positive.
 	 * @return the new set instance.
+	 * @deprecated collisions no longer enlarge the set, use {@link #New(long)} or
+	 *             {@link #New(long, long, int, int)} instead.
 	 */
+	@Deprecated
 	public static OffHeapLongHashSet New(final long desiredCapacity, final int collisionThreshold)
 	{
-		return new OffHeapLongHashSet(
-			padCapacity(desiredCapacity),
-			XMath.positive(collisionThreshold),
-			deriveCollisionLimit(collisionThreshold),
-			defaultExcessLimit()
-		);
+		XMath.positive(collisionThreshold);
+
+		return New(desiredCapacity);
 	}
 
 	/**
-	 * Creates a new {@link OffHeapLongHashSet} with fully custom configuration values.
+	 * Creates a new {@link OffHeapLongHashSet} with the given initial capacity and otherwise
+	 * default configuration. The collision configuration values are only validated.
 	 *
-	 * @param desiredCapacity    the desired initial capacity; must be positive. Rounded up to the next power of two.
-	 * @param collisionThreshold the number of collisions during a single insertion tolerated before the excess counter is incremented; must be positive.
-	 * @param collisionLimit     the hard per-insertion collision count that triggers a storage enlargement; must be positive.
-	 * @param excessLimit        the number of excess incidents tolerated before a storage enlargement is triggered; must be positive.
+	 * @param desiredCapacity    the desired initial capacity in number of values; must be positive.
+	 * @param collisionThreshold the collision threshold of the former open addressing storage; must be positive.
+	 * @param collisionLimit     the collision limit of the former open addressing storage; must be positive.
+	 * @param excessLimit        the excess limit of the former open addressing storage; must be positive.
 	 * @return the new set instance.
+	 * @deprecated collisions no longer enlarge the set, use {@link #New(long)} or
+	 *             {@link #New(long, long, int, int)} instead.
 	 */
+	@Deprecated
 	public static OffHeapLongHashSet New(
 		final long desiredCapacity   ,
 		final int  collisionThreshold,
@@ -257,11 +277,45 @@ public final class OffHeapLongHashSet implements AutoCloseable
 		final int  excessLimit
 	)
 	{
+		XMath.positive(collisionThreshold);
+		XMath.positive(collisionLimit);
+		XMath.positive(excessLimit);
+
+		return New(desiredCapacity);
+	}
+
+	/**
+	 * Creates a new {@link OffHeapLongHashSet} with fully custom configuration values.
+	 * <p>
+	 * Note that the maximum table length must be passed as a {@code long}, as a call with four {@code int}
+	 * arguments resolves to the deprecated {@link #New(long, int, int, int)}.
+	 *
+	 * @param desiredCapacity    the desired initial capacity in number of values; must be positive.
+	 * @param maximumTableLength the number of chains up to which the hash table is enlarged; must be positive.
+	 *                           Rounded up to the next power of two.
+	 * @param chainLength        the number of values per chain; must be positive.
+	 * @param chainsPerSegment   the number of chains allocated together in one memory segment; must be positive.
+	 *                           Rounded down to the next power of two.
+	 * @return the new set instance.
+	 * @throws IllegalArgumentException if the maximum table length would require more than
+	 *         {@link Integer#MAX_VALUE} segments.
+	 */
+	public static OffHeapLongHashSet New(
+		final long desiredCapacity   ,
+		final long maximumTableLength,
+		final int  chainLength       ,
+		final int  chainsPerSegment
+	)
+	{
+		XMath.positive(chainLength);
+		XMath.positive(chainsPerSegment);
+		final long maximum = OffHeapChainStorage.validateMaximumTableLength(maximumTableLength, chainsPerSegment);
+
 		return new OffHeapLongHashSet(
-			padCapacity(desiredCapacity),
-			XMath.positive(collisionThreshold),
-			XMath.positive(collisionLimit),
-			XMath.positive(excessLimit)
+			initialTableLength(desiredCapacity, chainLength, maximum),
+			maximum                                                 ,
+			chainLength                                             ,
+			chainsPerSegment
 		);
 	}
 
@@ -272,17 +326,14 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	////////////////////
 
 	// configuration values.
-	private final int collisionThreshold, collisionLimit, excessLimit; // It's a hash COLLISION! Not a "probe"!
+	private final long initialTableLength, maximumTableLength;
+	private final int  chainLength, chainsPerSegment;
 
-	private ByteBuffer dbb;
-	private long dbbBaseAddress;
-
-	private long capacity ; // number of long value slots, always 2^n.
-	private long hashRange; // shortcut for capacity - 1
+	private OffHeapChainStorage storage;
 
+	private long    enlargeBound; // size that triggers the next table enlargement.
 	private boolean containsZero = false;
 	private long    size         = 0;
-	private int     excessCount  = 0;
 
 
 
@@ -291,17 +342,18 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	/////////////////
 
 	OffHeapLongHashSet(
-		final long initialCapacity   ,
-		final int  collisionThreshold,
-		final int  collisionLimit    ,
-		final int  excessLimit
+		final long initialTableLength,
+		final long maximumTableLength,
+		final int  chainLength       ,
+		final int  chainsPerSegment
 	)
 	{
 		super();
-		this.collisionThreshold = collisionThreshold;
-		this.collisionLimit     = collisionLimit    ;
-		this.excessLimit        = excessLimit       ;
-		this.resize(initialCapacity);
+		this.initialTableLength = initialTableLength;
+		this.maximumTableLength = maximumTableLength;
+		this.chainLength        = chainLength       ;
+		this.chainsPerSegment   = chainsPerSegment  ;
+		this.setStorage(this.createStorage(initialTableLength));
 	}
 
 
@@ -312,7 +364,7 @@ public final class OffHeapLongHashSet implements AutoCloseable
 
 	private void ensureOpen()
 	{
-		if(this.dbb == null)
+		if(this.storage == null)
 		{
 			throw new IllegalStateException("OffHeapLongHashSet has been closed.");
 		}
@@ -325,6 +377,7 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	 * @return {@code true} if the value is contained, {@code false} otherwise.
 	 * @throws IllegalStateException if this set has been {@linkplain #close() closed}.
 	 */
+	@Override
 	public boolean contains(final long value)
 	{
 		this.ensureOpen();
@@ -333,23 +386,25 @@ public final class OffHeapLongHashSet implements AutoCloseable
 			return this.containsZero;
 		}
 
-		// Probe until an EMPTY slot is found. insertBlind() (used during resize) places elements
-		// without enforcing collision limits, so a value may sit further from its hash position
-		// than collisionLimit. Bounding the lookup by collisionLimit would falsely miss it.
-		// The capacity guard ensures termination even if the table is unexpectedly full.
-		final long cap = this.capacity;
-		for(long i = this.hash(value), probes = 0; probes < cap; i = this.advanceIndex(i), probes++)
+		final OffHeapChainStorage storage = this.storage;
+		for(long chain = storage.headChain(calculateHashValue(value)); chain != OffHeapChainStorage.NO_CHAIN;)
 		{
-			final long slotValue = this.getValue(i);
-			if(slotValue == EMPTY)
-			{
-				return false;
-			}
-			if(slotValue == value)
+			for(long address = chain, bound = chain + storage.linkOffset; address < bound; address += Long.BYTES)
 			{
-				return true;
+				final long slotValue = XMemory.get_long(address);
+				if(slotValue == value)
+				{
+					return true;
+				}
+				if(slotValue == EMPTY)
+				{
+					// values are packed from the head chain on, so an empty slot ends the bucket.
+					return false;
+				}
 			}
+			chain = storage.nextChain(chain);
 		}
+
 		return false;
 	}
 
@@ -392,10 +447,10 @@ public final class OffHeapLongHashSet implements AutoCloseable
 
 		return insertCount;
 	}
+
 	/**
-	 * Inserts the given value into this set if it is not already contained. If the configured
-	 * collision thresholds are exceeded, the backing storage is enlarged and all contained
-	 * values are rehashed before the insertion completes.
+	 * Inserts the given value into this set if it is not already contained. If the set then holds more values
+	 * than the current table is meant to take, the table is enlarged and all contained values are rehashed.
 	 *
 	 * @param value the value to insert.
 	 * @return {@code true} if the value was inserted, {@code false} if it was already contained.
@@ -408,126 +463,177 @@ public final class OffHeapLongHashSet implements AutoCloseable
 			return this.ensureInsertedZero();
 		}
 
-		/*!*\ NOTE:
-		 * This algorithm does intentionally NOT use "tombstones"
-		 * since the purpose of this implementation is only to collect and lookup.
-		 * So if removal should be added, this must be enhanced accordingly.
-		 * However, an enhanced version of this implementation should use
-		 * a segmented chain hashing strategy instead, so using tombstones
-		 * here is irrelevant anyway.
-		 */
-
-		// Outer loop: if a resize occurs during probing, the probe must restart with the new
-		// hash range and a fresh collision count, otherwise the value could land in a slot
-		// that is unreachable from hash(value) in the resized table (breaking future contains).
+		if(!insert(this.storage, value))
+		{
+			return false;
+		}
+		if(++this.size > this.enlargeBound)
+		{
+			this.enlarge();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Alias for {@link #put(long)}.
+	 *
+	 * @param element the value to insert.
+	 * @return {@code true} if the value was inserted, {@code false} if it was already contained.
+	 */
+	@Override
+	public boolean add(final long element)
+	{
+		return this.put(element);
+	}
+
+	private static boolean insert(final OffHeapChainStorage storage, final long value)
+	{
+		long chain = storage.headChain(calculateHashValue(value));
 		while(true)
 		{
-			int collisions = 0;
-			for(long i = this.hash(value); true; i = this.advanceIndex(i))
+			for(long address = chain, bound = chain + storage.linkOffset; address < bound; address += Long.BYTES)
 			{
-				final long slotValue = this.getValue(i);
+				final long slotValue = XMemory.get_long(address);
 				if(slotValue == EMPTY)
 				{
-					this.insertAt(i, value); // empty slot found, insert and return.
+					XMemory.set_long(address, value); // empty slot found, insert and return.
 					return true;
 				}
 				if(slotValue == value)
 				{
 					return false; // value already contained
 				}
-				if(this.checkForRebuild(++collisions))
-				{
-					break; // resize happened; restart probing from hash(value) for the new table.
-				}
 			}
-		}
-	}
 
-	private long advanceIndex(final long index)
-	{
-		return index >= this.hashRange ? 0 : index + 1;
+			final long next = storage.nextChain(chain);
+			chain = next != OffHeapChainStorage.NO_CHAIN
+				? next
+				: storage.appendChain(chain)
+			;
+		}
 	}
 
-
-	private long hash(final long value)
+	private boolean ensureInsertedZero()
 	{
-		return calculateHashValue(value) & this.hashRange;
-	}
+		if(this.containsZero)
+		{
+			return false; // zero already contained
+		}
 
-	private void setValue(final long i, final long value)
-	{
-		XMemory.set_long(this.toAddress(i), value);
-	}
+		this.containsZero = true;
+		this.size++;
 
-	private long getValue(final long i)
-	{
-		return XMemory.get_long(this.toAddress(i));
+		return true;
 	}
 
-	private long toAddress(final long i)
+	static long calculateHashValue(long v)
 	{
-		return this.dbbBaseAddress + to_longByteSize(i);
-	}
+		// Simple but reasonably good mixing for longs.
+		v ^= v >>> 33;
+		v *= 0xff51afd7ed558ccdL;
+		v ^= v >>> 33;
+		v *= 0xc4ceb9fe1a85ec53L;
+		v ^= v >>> 33;
 
-	private static long to_longByteSize(final long i)
-	{
-		return i << 3;
+		return v;
 	}
 
 	/**
-	 * @return {@code true} if a resize was performed (caller must restart probing with a fresh hash),
-	 *         {@code false} otherwise.
+	 * Calls the given procedure for every value contained in this set, in no particular order.
+	 * The set must not be modified during the iteration.
+	 *
+	 * @param procedure the procedure to be called for every value.
+	 * @throws IllegalStateException if this set has been {@linkplain #close() closed}.
 	 */
-	private boolean checkForRebuild(final int collisions)
+	@Override
+	public void iterate(final _longProcedure procedure)
 	{
-		if(collisions >= this.collisionLimit)
+		this.ensureOpen();
+		if(this.containsZero)
 		{
-			this.enlarge(); // Hard limit reached, enlarge immediately.
-			return true;
+			procedure.accept(EMPTY);
 		}
 
-		// Increment excessCount exactly once per insertion — at the moment collisions
-		// first reach the threshold — so that excessCount reflects the number of
-		// insertions that exceeded the acceptable collision count, not the number of
-		// excess probe steps.
-		if(collisions == this.collisionThreshold && ++this.excessCount >= this.excessLimit)
+		final OffHeapChainStorage storage = this.storage;
+		for(long i = 0; i < storage.tableLength; i++)
 		{
-			this.enlarge(); // Too many insertions exceeded the collision threshold.
-			return true;
+			iterateBucket(storage, storage.headChain(i), procedure);
 		}
-
-		return false;
 	}
 
-	private boolean ensureInsertedZero()
+	private static void iterateBucket(
+		final OffHeapChainStorage storage  ,
+		final long                headChain,
+		final _longProcedure      procedure
+	)
 	{
-		if(this.containsZero)
+		for(long chain = headChain; chain != OffHeapChainStorage.NO_CHAIN; chain = storage.nextChain(chain))
 		{
-			return false; // zero already contained
+			for(long address = chain, bound = chain + storage.linkOffset; address < bound; address += Long.BYTES)
+			{
+				final long value = XMemory.get_long(address);
+				if(value == EMPTY)
+				{
+					return;
+				}
+				procedure.accept(value);
+			}
 		}
+	}
 
-		this.containsZero = true;
-		this.size++;
+	/**
+	 * Creates a new {@link OffHeapLongHashSet} with the same configuration containing all values of this set
+	 * that are matched by the given predicate. The caller is responsible for {@linkplain #close() closing} it.
+	 *
+	 * @param selector the predicate selecting the values to be contained in the new set.
+	 * @return the new set instance.
+	 */
+	@Override
+	public OffHeapLongHashSet filter(final _longPredicate selector)
+	{
+		this.ensureOpen();
+		final OffHeapLongHashSet result = new OffHeapLongHashSet(
+			this.initialTableLength,
+			this.maximumTableLength,
+			this.chainLength       ,
+			this.chainsPerSegment
+		);
+		this.iterate(value ->
+		{
+			if(selector.test(value))
+			{
+				result.put(value);
+			}
+		});
 
-		return true;
+		return result;
 	}
 
-	private void insertAt(final long index, final long value)
+	/**
+	 * Removes all values, keeps the current table but frees all appended chains.
+	 */
+	@Override
+	public void clear()
 	{
-		this.setValue(index , value);
-		this.size++;
+		this.ensureOpen();
+		this.storage.clear();
+		this.size         = 0;
+		this.containsZero = false;
 	}
 
-	private static long calculateHashValue(long v)
+	/**
+	 * Removes all values and shrinks the table to its initial length, freeing all other memory.
+	 */
+	@Override
+	public void truncate()
 	{
-		// Simple but reasonably good mixing for longs.
-		v ^= v >>> 33;
-		v *= 0xff51afd7ed558ccdL;
-		v ^= v >>> 33;
-		v *= 0xc4ceb9fe1a85ec53L;
-		v ^= v >>> 33;
-
-		return v;
+		this.ensureOpen();
+		final OffHeapChainStorage initial = this.createStorage(this.initialTableLength);
+		this.storage.free();
+		this.setStorage(initial);
+		this.size         = 0;
+		this.containsZero = false;
 	}
 
 
@@ -536,74 +642,34 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	// resizing //
 	/////////////
 
-	private void enlarge()
+	private OffHeapChainStorage createStorage(final long tableLength)
 	{
-		final long doubled = this.capacity << 1;
-		if(doubled > MAX_CAPACITY)
-		{
-			throw new CapacityExceededException(
-				"Cannot enlarge beyond maximum capacity of " + MAX_CAPACITY + " long slots."
-			);
-		}
-		this.resize(doubled);
+		return OffHeapChainStorage.New(tableLength, this.chainLength, Long.BYTES, this.chainsPerSegment);
 	}
 
-	private void resize(final long newCapacity)
+	private void setStorage(final OffHeapChainStorage storage)
 	{
-		// DirectByteBuffer allocation
-		final long newByteCapacity = to_longByteSize(newCapacity);
-		if(newByteCapacity < 0 || newByteCapacity > Integer.MAX_VALUE)
-		{
-			throw new CapacityExceededException(
-				"Required byte capacity " + newByteCapacity + " exceeds the DirectByteBuffer int limit."
-			);
-		}
-		final ByteBuffer newDbb = XMemory.allocateDirectNative(newByteCapacity);
-		final long newBaseAddress = XMemory.getDirectByteBufferAddress(newDbb);
-		XMemory.clearMemory(newBaseAddress, newByteCapacity);
-
-		// rehash all existing elements
-		if(this.size > 0 && this.dbb != null)
-		{
-			this.rebuildTo(newBaseAddress, newCapacity);
-		}
-
-		// DirectByteBuffer management
-		XMemory.deallocateDirectByteBuffer(this.dbb); // explicit deallocation to free huge memory chunks before GC run.
-		this.dbb = newDbb;
-		this.dbbBaseAddress = newBaseAddress;
-
-		// Updated logic state
-		this.capacity = newCapacity;
-		this.hashRange = newCapacity - 1;
-		this.excessCount = 0;
+		this.storage      = storage;
+		this.enlargeBound = storage.tableLength < this.maximumTableLength
+			? storage.tableLength * this.chainLength / 4 * 3
+			: Long.MAX_VALUE // maximum table length reached, only chains grow from now on.
+		;
 	}
 
-	private void rebuildTo(final long newBaseAddress, final long newCapacity)
+	private void enlarge()
 	{
-		for(long i = 0; i < this.capacity; i++)
-		{
-			final long value = this.getValue(i);
-			if(value != EMPTY)
-			{
-				// All already contained values are guaranteed to fit nicely in an even bigger space.
-				insertBlind(newBaseAddress, newCapacity, value);
-			}
-		}
-	}
+		final OffHeapChainStorage oldStorage = this.storage;
+		final OffHeapChainStorage newStorage = this.createStorage(oldStorage.tableLength << 1);
 
-	private static void insertBlind(final long baseAddress, final long capacity, final long value)
-	{
-		final long hashRange = capacity - 1;
-		for(long i = calculateHashValue(value) & hashRange; true; i = i >= hashRange ? 0 : i + 1)
+		// rehash all existing elements, all already contained values are guaranteed to be distinct.
+		for(long i = 0; i < oldStorage.tableLength; i++)
 		{
-			final long current = XMemory.get_long(baseAddress + to_longByteSize(i));
-			if(current == EMPTY)
-			{
-				XMemory.set_long(baseAddress + to_longByteSize(i), value);
-				return;
-			}
+			iterateBucket(oldStorage, oldStorage.headChain(i), value -> insert(newStorage, value));
 		}
+
+		// the old storage is freed only now, it is still allocated completely next to the new one until here.
+		oldStorage.free();
+		this.setStorage(newStorage);
 	}
 
 
@@ -613,6 +679,7 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	 *
 	 * @return the current size.
 	 */
+	@Override
 	public long size()
 	{
 		this.ensureOpen();
@@ -620,8 +687,8 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	}
 
 	/**
-	 * Returns the current capacity of the backing off-heap storage, in number of {@code long} slots.
-	 * The capacity is always a power of two and grows only via storage enlargement.
+	 * Returns the current capacity of the backing off-heap storage, in number of {@code long} slots,
+	 * i.e. the number of slots of all chains, including the appended ones.
 	 *
 	 * @return the current capacity.
 	 * @throws IllegalStateException if this set has been {@linkplain #close() closed}.
@@ -629,7 +696,32 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	public long capacity()
 	{
 		this.ensureOpen();
-		return this.capacity;
+		return this.storage.chainCount() * this.chainLength;
+	}
+
+	/**
+	 * Returns the current length of the hash table in number of chains. The length is always a power of two
+	 * and does not grow beyond the configured maximum table length.
+	 *
+	 * @return the current table length.
+	 * @throws IllegalStateException if this set has been {@linkplain #close() closed}.
+	 */
+	public long tableLength()
+	{
+		this.ensureOpen();
+		return this.storage.tableLength;
+	}
+
+	/**
+	 * Returns the number of bytes of off-heap memory currently allocated by this set.
+	 *
+	 * @return the allocated memory in bytes.
+	 * @throws IllegalStateException if this set has been {@linkplain #close() closed}.
+	 */
+	public long allocatedByteSize()
+	{
+		this.ensureOpen();
+		return this.storage.allocatedByteSize();
 	}
 
 	/**
@@ -641,8 +733,8 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	 */
 	public double currentLoad()
 	{
-		this.ensureOpen();
-		return this.capacity == 0 ? 0.0 : (double)this.size / this.capacity;
+		final long capacity = this.capacity();
+		return capacity == 0 ? 0.0 : (double)this.size / capacity;
 	}
 
 	/**
@@ -653,19 +745,16 @@ public final class OffHeapLongHashSet implements AutoCloseable
 	@Override
 	public void close()
 	{
-		final ByteBuffer buffer = this.dbb;
-		if(buffer == null)
+		final OffHeapChainStorage storage = this.storage;
+		if(storage == null)
 		{
 			return; // already closed
 		}
-		this.dbb            = null;
-		this.dbbBaseAddress = 0L;
-		this.capacity       = 0L;
-		this.hashRange      = 0L;
-		this.size           = 0L;
-		this.excessCount    = 0;
-		this.containsZero   = false;
-		XMemory.deallocateDirectByteBuffer(buffer);
+		this.storage      = null;
+		this.enlargeBound = 0L;
+		this.size         = 0L;
+		this.containsZero = false;
+		storage.free();
 	}
 
 }
@@ -0,0 +1,563 @@
+package org.eclipse.serializer.collections;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import org.eclipse.serializer.functional._longLongProcedure;
+import org.eclipse.serializer.functional._longPredicate;
+import org.eclipse.serializer.math.XMath;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.typing.Composition;
+
+/**
+ * A hash map from primitive {@code long} keys to primitive {@code long} values whose backing storage is allocated
+ * off-heap. It offers the same operations as {@link HashMapIdId}, e.g. for mapping object ids to other object ids,
+ * but holds its entries in segmented native memory instead of the heap.
+ * <p>
+ * The storage is organized like the one of {@link OffHeapLongHashSet}: chained hashing with fixed-size chains of
+ * key/value pairs, allocated in segments of a configurable number of chains, a hash table that is enlarged up to
+ * a configurable maximum length and chains that grow beyond that by appending further chains. The key {@code 0L}
+ * is supported and tracked separately, since {@code 0L} is also used internally as the sentinel for empty slots.
+ * Like there, enlarging the table rehashes all entries into a new storage before the old one is freed, so both
+ * are allocated at the same time while the table is doubled.
+ * <p>
+ * Instances are not safe for concurrent modification by multiple threads.
+ * <p>
+ * The backing off-heap memory is not released by garbage collection at all. Callers must invoke {@link #close()}
+ * (e.g. via try-with-resources) when the map is no longer needed to free the native memory.
+ * After {@code close()}, the map must not be used again.
+ *
+ * @see HashMapIdId
+ * @see OffHeapLongHashSet
+ */
+public final class OffHeapLongLongHashMap implements Composition, AutoCloseable
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	private static final long EMPTY = 0L;
+
+	private static final int ENTRY_BYTE_SIZE = Long.BYTES * 2;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	/**
+	 * Returns the default number of key/value pairs per chain. Together with the link to the next chain,
+	 * a chain occupies 56 bytes, i.e. it fits into one cache line on common hardware.
+	 *
+	 * @return the default chain length.
+	 */
+	public static int defaultChainLength()
+	{
+		return 3;
+	}
+
+	/**
+	 * Creates a new {@link OffHeapLongLongHashMap} with all-default configuration values.
+	 *
+	 * @return the new map instance.
+	 * @see OffHeapLongHashSet#defaultInitialCapacity()
+	 * @see OffHeapLongHashSet#defaultMaximumTableLength()
+	 * @see OffHeapLongHashSet#defaultChainsPerSegment()
+	 * @see #defaultChainLength()
+	 */
+	public static OffHeapLongLongHashMap New()
+	{
+		return New(OffHeapLongHashSet.defaultInitialCapacity());
+	}
+
+	/**
+	 * Creates a new {@link OffHeapLongLongHashMap} with the given initial capacity and otherwise
+	 * default configuration.
+	 *
+	 * @param desiredCapacity the desired initial capacity in number of entries; must be positive.
+	 * @return the new map instance.
+	 */
+	public static OffHeapLongLongHashMap New(final long desiredCapacity)
+	{
+		return New(
+			desiredCapacity                               ,
+			OffHeapLongHashSet.defaultMaximumTableLength(),
+			defaultChainLength()                          ,
+			OffHeapLongHashSet.defaultChainsPerSegment()
+		);
+	}
+
+	/**
+	 * Creates a new {@link OffHeapLongLongHashMap} with fully custom configuration values.
+	 *
+	 * @param desiredCapacity    the desired initial capacity in number of entries; must be positive.
+	 * @param maximumTableLength the number of chains up to which the hash table is enlarged; must be positive.
+	 *                           Rounded up to the next power of two.
+	 * @param chainLength        the number of key/value pairs per chain; must be positive.
+	 * @param chainsPerSegment   the number of chains allocated together in one memory segment; must be positive.
+	 *                           Rounded down to the next power of two.
+	 * @return the new map instance.
+	 * @throws IllegalArgumentException if the maximum table length would require more than
+	 *         {@link Integer#MAX_VALUE} segments.
+	 */
+	public static OffHeapLongLongHashMap New(
+		final long desiredCapacity   ,
+		final long maximumTableLength,
+		final int  chainLength       ,
+		final int  chainsPerSegment
+	)
+	{
+		XMath.positive(chainLength);
+		XMath.positive(chainsPerSegment);
+		final long maximum = OffHeapChainStorage.validateMaximumTableLength(maximumTableLength, chainsPerSegment);
+
+		return new OffHeapLongLongHashMap(
+			OffHeapLongHashSet.initialTableLength(desiredCapacity, chainLength, maximum),
+			maximum                                                                    ,
+			chainLength                                                                ,
+			chainsPerSegment
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	// configuration values.
+	private final long maximumTableLength;
+	private final int  chainLength, chainsPerSegment;
+
+	private OffHeapChainStorage storage;
+
+	private long    enlargeBound; // size that triggers the next table enlargement.
+	private boolean containsZeroKey = false;
+	private long    zeroKeyValue    = 0;
+	private long    size            = 0;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	OffHeapLongLongHashMap(
+		final long initialTableLength,
+		final long maximumTableLength,
+		final int  chainLength       ,
+		final int  chainsPerSegment
+	)
+	{
+		super();
+		this.maximumTableLength = maximumTableLength;
+		this.chainLength        = chainLength       ;
+		this.chainsPerSegment   = chainsPerSegment  ;
+		this.setStorage(this.createStorage(initialTableLength));
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	private void ensureOpen()
+	{
+		if(this.storage == null)
+		{
+			throw new IllegalStateException("OffHeapLongLongHashMap has been closed.");
+		}
+	}
+
+	/**
+	 * Returns the number of entries currently contained in this map.
+	 *
+	 * @return the current size.
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public long size()
+	{
+		this.ensureOpen();
+		return this.size;
+	}
+
+	public boolean isEmpty()
+	{
+		return this.size() == 0;
+	}
+
+	/**
+	 * Associates the specified value with the specified key.
+	 * If the key was already present, the old value is replaced.
+	 *
+	 * @param id    the key
+	 * @param value the value to associate
+	 * @return {@code true} if this was a new key, {@code false} if an existing key was replaced
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public boolean put(final long id, final long value)
+	{
+		this.ensureOpen();
+		if(id == EMPTY)
+		{
+			this.zeroKeyValue = value;
+			if(this.containsZeroKey)
+			{
+				return false;
+			}
+			this.containsZeroKey = true;
+			this.size++;
+			return true;
+		}
+
+		if(!put(this.storage, id, value))
+		{
+			return false;
+		}
+		if(++this.size > this.enlargeBound)
+		{
+			this.enlarge();
+		}
+
+		return true;
+	}
+
+	private static boolean put(final OffHeapChainStorage storage, final long id, final long value)
+	{
+		long chain = storage.headChain(OffHeapLongHashSet.calculateHashValue(id));
+		while(true)
+		{
+			for(long address = chain, bound = chain + storage.linkOffset; address < bound; address += ENTRY_BYTE_SIZE)
+			{
+				final long key = XMemory.get_long(address);
+				if(key == EMPTY)
+				{
+					XMemory.set_long(address, id);
+					XMemory.set_long(address + Long.BYTES, value);
+					return true;
+				}
+				if(key == id)
+				{
+					XMemory.set_long(address + Long.BYTES, value);
+					return false;
+				}
+			}
+
+			final long next = storage.nextChain(chain);
+			chain = next != OffHeapChainStorage.NO_CHAIN
+				? next
+				: storage.appendChain(chain)
+			;
+		}
+	}
+
+	/**
+	 * Returns the value associated with the specified key,
+	 * or the provided {@code notFoundValue} if the key is not present.
+	 *
+	 * @param id            the key to look up
+	 * @param notFoundValue the value to return when the key is absent
+	 * @return the associated value, or {@code notFoundValue}
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public long get(final long id, final long notFoundValue)
+	{
+		this.ensureOpen();
+		if(id == EMPTY)
+		{
+			return this.containsZeroKey ? this.zeroKeyValue : notFoundValue;
+		}
+
+		final OffHeapChainStorage storage = this.storage;
+		for(long chain = storage.headChain(OffHeapLongHashSet.calculateHashValue(id)); chain != OffHeapChainStorage.NO_CHAIN;)
+		{
+			for(long address = chain, bound = chain + storage.linkOffset; address < bound; address += ENTRY_BYTE_SIZE)
+			{
+				final long key = XMemory.get_long(address);
+				if(key == id)
+				{
+					return XMemory.get_long(address + Long.BYTES);
+				}
+				if(key == EMPTY)
+				{
+					// entries are packed from the head chain on, so an empty slot ends the bucket.
+					return notFoundValue;
+				}
+			}
+			chain = storage.nextChain(chain);
+		}
+
+		return notFoundValue;
+	}
+
+	/**
+	 * Puts all entries of the passed map into this map, replacing the values of already present keys.
+	 *
+	 * @param other the map whose entries shall be put
+	 */
+	public void putAll(final OffHeapLongLongHashMap other)
+	{
+		other.iterate(this::put);
+	}
+
+	/**
+	 * Calls the given procedure for every entry contained in this map, in no particular order.
+	 * The map must not be modified during the iteration.
+	 *
+	 * @param procedure the procedure to be called for every key and its value.
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public void iterate(final _longLongProcedure procedure)
+	{
+		this.ensureOpen();
+		if(this.containsZeroKey)
+		{
+			procedure.accept(EMPTY, this.zeroKeyValue);
+		}
+
+		final OffHeapChainStorage storage = this.storage;
+		for(long i = 0; i < storage.tableLength; i++)
+		{
+			iterateBucket(storage, storage.headChain(i), procedure);
+		}
+	}
+
+	private static void iterateBucket(
+		final OffHeapChainStorage storage  ,
+		final long                headChain,
+		final _longLongProcedure  procedure
+	)
+	{
+		for(long chain = headChain; chain != OffHeapChainStorage.NO_CHAIN; chain = storage.nextChain(chain))
+		{
+			for(long address = chain, bound = chain + storage.linkOffset; address < bound; address += ENTRY_BYTE_SIZE)
+			{
+				final long key = XMemory.get_long(address);
+				if(key == EMPTY)
+				{
+					return;
+				}
+				procedure.accept(key, XMemory.get_long(address + Long.BYTES));
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries whose key is matched by the passed predicate. Chains that become empty
+	 * are kept for later insertions.
+	 *
+	 * @param idPredicate the predicate selecting the keys to be removed
+	 * @return the number of removed entries
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public long removeBy(final _longPredicate idPredicate)
+	{
+		this.ensureOpen();
+
+		long removeCount = 0;
+		if(this.containsZeroKey && idPredicate.test(EMPTY))
+		{
+			this.containsZeroKey = false;
+			this.zeroKeyValue    = 0;
+			removeCount++;
+		}
+
+		final OffHeapChainStorage storage = this.storage;
+		for(long i = 0; i < storage.tableLength; i++)
+		{
+			removeCount += removeBy(storage, storage.headChain(i), idPredicate);
+		}
+		this.size -= removeCount;
+
+		return removeCount;
+	}
+
+	private static long removeBy(
+		final OffHeapChainStorage storage    ,
+		final long                headChain  ,
+		final _longPredicate      idPredicate
+	)
+	{
+		// the remaining entries are moved towards the head chain to keep the bucket packed.
+		long writeChain   = headChain;
+		long writeAddress = headChain;
+		long removeCount  = 0;
+
+		read:
+		for(long chain = headChain; chain != OffHeapChainStorage.NO_CHAIN; chain = storage.nextChain(chain))
+		{
+			for(long address = chain, bound = chain + storage.linkOffset; address < bound; address += ENTRY_BYTE_SIZE)
+			{
+				final long key = XMemory.get_long(address);
+				if(key == EMPTY)
+				{
+					break read;
+				}
+				if(idPredicate.test(key))
+				{
+					removeCount++;
+					continue;
+				}
+				if(writeAddress == writeChain + storage.linkOffset)
+				{
+					writeAddress = writeChain = storage.nextChain(writeChain);
+				}
+				if(writeAddress != address)
+				{
+					XMemory.set_long(writeAddress, key);
+					XMemory.set_long(writeAddress + Long.BYTES, XMemory.get_long(address + Long.BYTES));
+				}
+				writeAddress += ENTRY_BYTE_SIZE;
+			}
+		}
+
+		if(removeCount > 0)
+		{
+			clearFrom(storage, writeChain, writeAddress);
+		}
+
+		return removeCount;
+	}
+
+	private static void clearFrom(final OffHeapChainStorage storage, final long startChain, final long startAddress)
+	{
+		for(long chain = startChain, address = startAddress; chain != OffHeapChainStorage.NO_CHAIN;)
+		{
+			for(final long bound = chain + storage.linkOffset; address < bound; address += ENTRY_BYTE_SIZE)
+			{
+				if(XMemory.get_long(address) == EMPTY)
+				{
+					return;
+				}
+				XMemory.set_long(address, EMPTY);
+				XMemory.set_long(address + Long.BYTES, 0L);
+			}
+			address = chain = storage.nextChain(chain);
+		}
+	}
+
+	/**
+	 * Removes all entries, keeps the current table but frees all appended chains.
+	 *
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public void clear()
+	{
+		this.ensureOpen();
+		this.storage.clear();
+		this.size            = 0;
+		this.containsZeroKey = false;
+		this.zeroKeyValue    = 0;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// resizing //
+	/////////////
+
+	private OffHeapChainStorage createStorage(final long tableLength)
+	{
+		return OffHeapChainStorage.New(tableLength, this.chainLength, ENTRY_BYTE_SIZE, this.chainsPerSegment);
+	}
+
+	private void setStorage(final OffHeapChainStorage storage)
+	{
+		this.storage      = storage;
+		this.enlargeBound = storage.tableLength < this.maximumTableLength
+			? storage.tableLength * this.chainLength / 4 * 3
+			: Long.MAX_VALUE // maximum table length reached, only chains grow from now on.
+		;
+	}
+
+	private void enlarge()
+	{
+		final OffHeapChainStorage oldStorage = this.storage;
+		final OffHeapChainStorage newStorage = this.createStorage(oldStorage.tableLength << 1);
+
+		// rehash all existing entries, all already contained keys are guaranteed to be distinct.
+		for(long i = 0; i < oldStorage.tableLength; i++)
+		{
+			iterateBucket(oldStorage, oldStorage.headChain(i), (id, value) -> put(newStorage, id, value));
+		}
+
+		// the old storage is freed only now, it is still allocated completely next to the new one until here.
+		oldStorage.free();
+		this.setStorage(newStorage);
+	}
+
+
+
+	/**
+	 * Returns the current capacity of the backing off-heap storage in number of entries,
+	 * i.e. the number of slots of all chains, including the appended ones.
+	 *
+	 * @return the current capacity.
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public long capacity()
+	{
+		this.ensureOpen();
+		return this.storage.chainCount() * this.chainLength;
+	}
+
+	/**
+	 * Returns the current length of the hash table in number of chains. The length is always a power of two
+	 * and does not grow beyond the configured maximum table length.
+	 *
+	 * @return the current table length.
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public long tableLength()
+	{
+		this.ensureOpen();
+		return this.storage.tableLength;
+	}
+
+	/**
+	 * Returns the number of bytes of off-heap memory currently allocated by this map.
+	 *
+	 * @return the allocated memory in bytes.
+	 * @throws IllegalStateException if this map has been {@linkplain #close() closed}.
+	 */
+	public long allocatedByteSize()
+	{
+		this.ensureOpen();
+		return this.storage.allocatedByteSize();
+	}
+
+	/**
+	 * Releases the off-heap memory backing this map. After this call, further calls to
+	 * {@link #put(long, long)}, {@link #get(long, long)}, etc. will throw {@link IllegalStateException}.
+	 * Calling {@code close()} more than once is a no-op.
+	 */
+	@Override
+	public void close()
+	{
+		final OffHeapChainStorage storage = this.storage;
+		if(storage == null)
+		{
+			return; // already closed
+		}
+		this.storage         = null;
+		this.enlargeBound    = 0L;
+		this.size            = 0L;
+		this.containsZeroKey = false;
+		this.zeroKeyValue    = 0L;
+		storage.free();
+	}
+
+}
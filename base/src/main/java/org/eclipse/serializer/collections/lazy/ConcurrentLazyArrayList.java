@@ -0,0 +1,421 @@
+package org.eclipse.serializer.collections.lazy;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.serializer.reference.Lazy;
+
+
+/**
+ * Thread-safe {@link LazyList} backed by a {@link LazyArrayList}.
+ * <p>
+ * Reads don't block each other: as long as there is no concurrent modification, {@link #get(int)} and
+ * {@link #size()} acquire no lock at all, and a segment that is loaded by several readers at once is loaded only
+ * once. {@link #set(int, Object)} only locks the affected segment. All other modifications move elements between
+ * segments or shift the segments' offsets and lock the whole list.
+ * <p>
+ * Iterators are weakly consistent: they never throw a {@link java.util.ConcurrentModificationException} and
+ * reflect each segment as it was when the iteration reached it. {@link Iterator#remove()} is not supported.
+ * <p>
+ * The wrapped list is persisted as usual, the locks are not. Storing the list is not synchronized with
+ * concurrent modifications.
+ *
+ * @param <E> the type of elements in this collection
+ */
+public final class ConcurrentLazyArrayList<E> extends AbstractList<E> implements LazyList<E>, RandomAccess
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private final LazyArrayList<E> list;
+
+	// guards the segment structure. Not persisted, recreated on demand after a persisted instance has been loaded.
+	private transient volatile StampedLock lock;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	/**
+	 * Creates a new {@link ConcurrentLazyArrayList} with a maximum segment size of 1000.
+	 */
+	public ConcurrentLazyArrayList()
+	{
+		this(new LazyArrayList<>());
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLazyArrayList} with a defined maximum segment size.
+	 *
+	 * @param maxSegmentSize maximum segment size, must be positive
+	 */
+	public ConcurrentLazyArrayList(final int maxSegmentSize)
+	{
+		this(new LazyArrayList<>(maxSegmentSize));
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLazyArrayList} with a defined maximum segment size.
+	 *
+	 * @param maxSegmentSize maximum segment size, must be positive
+	 * @param lazySegmentUnloader LazySegmentUnloader instance
+	 */
+	public ConcurrentLazyArrayList(final int maxSegmentSize, final LazySegmentUnloader lazySegmentUnloader)
+	{
+		this(new LazyArrayList<>(maxSegmentSize, lazySegmentUnloader));
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLazyArrayList} backed by the supplied {@link LazyArrayList}.
+	 * The supplied list must not be accessed directly afterwards.
+	 *
+	 * @param list the list to be wrapped.
+	 */
+	public ConcurrentLazyArrayList(final LazyArrayList<E> list)
+	{
+		super();
+		this.list = list;
+		this.lock = new StampedLock();
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	private StampedLock lock()
+	{
+		StampedLock lock;
+		if((lock = this.lock) == null)
+		{
+			synchronized(this)
+			{
+				if((lock = this.lock) == null)
+				{
+					this.lock = lock = new StampedLock();
+				}
+			}
+		}
+		return lock;
+	}
+
+	/**
+	 * Executes the reading operation without a lock and validates afterwards that no structural modification
+	 * took place. Otherwise, the operation is repeated with the read lock.
+	 */
+	private <R> R read(final Supplier<R> operation)
+	{
+		final StampedLock lock = this.lock();
+		final long optimisticStamp = lock.tryOptimisticRead();
+		if(optimisticStamp != 0L)
+		{
+			try
+			{
+				final R result = operation.get();
+				if(lock.validate(optimisticStamp))
+				{
+					return result;
+				}
+			}
+			catch(final RuntimeException e)
+			{
+				if(lock.validate(optimisticStamp))
+				{
+					throw e;
+				}
+				// inconsistent read caused by a concurrent structural modification, repeated below
+			}
+		}
+
+		return this.readLocked(operation);
+	}
+
+	private <R> R readLocked(final Supplier<R> operation)
+	{
+		final StampedLock lock  = this.lock();
+		final long        stamp = lock.readLock();
+		try
+		{
+			return operation.get();
+		}
+		finally
+		{
+			lock.unlockRead(stamp);
+		}
+	}
+
+	private <R> R write(final Supplier<R> operation)
+	{
+		final StampedLock lock  = this.lock();
+		final long        stamp = lock.writeLock();
+		try
+		{
+			return operation.get();
+		}
+		finally
+		{
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Returns the maximum segment size of the backing {@link LazyArrayList}.
+	 *
+	 * @return the maximum segment size
+	 */
+	public int getMaxSegmentSize()
+	{
+		return this.list.getMaxSegmentSize();
+	}
+
+	/**
+	 * Defines the number of segments that are loaded in one batch,
+	 * see {@link LazyArrayList#setPrefetchSegmentCount(int)}.
+	 *
+	 * @param prefetchSegmentCount the number of segments to load in one batch, 0 to disable prefetching.
+	 * @return this list.
+	 */
+	public ConcurrentLazyArrayList<E> setPrefetchSegmentCount(final int prefetchSegmentCount)
+	{
+		this.list.setPrefetchSegmentCount(prefetchSegmentCount);
+		return this;
+	}
+
+	@Override
+	public int size()
+	{
+		return this.read(this.list::size);
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return this.size() == 0;
+	}
+
+	@Override
+	public E get(final int index)
+	{
+		return this.read(() -> this.list.getConcurrently(index));
+	}
+
+	@Override
+	public E set(final int index, final E element)
+	{
+		// the segment locks itself for the modification
+		return this.readLocked(() -> this.list.set(index, element));
+	}
+
+	@Override
+	public boolean contains(final Object element)
+	{
+		return this.indexOf(element) >= 0;
+	}
+
+	@Override
+	public int indexOf(final Object element)
+	{
+		return this.readLocked(() -> this.list.indexOf(element));
+	}
+
+	@Override
+	public int lastIndexOf(final Object element)
+	{
+		return this.readLocked(() -> this.list.lastIndexOf(element));
+	}
+
+	@Override
+	public Object[] toArray()
+	{
+		return this.readLocked(this.list::toArray);
+	}
+
+	@Override
+	public <T> T[] toArray(final T[] array)
+	{
+		return this.readLocked(() -> this.list.toArray(array));
+	}
+
+	@Override
+	public boolean add(final E element)
+	{
+		return this.write(() -> this.list.add(element));
+	}
+
+	@Override
+	public void add(final int index, final E element)
+	{
+		this.write(() ->
+		{
+			this.list.add(index, element);
+			return null;
+		});
+	}
+
+	@Override
+	public boolean addAll(final Collection<? extends E> elements)
+	{
+		return this.write(() -> this.list.addAll(elements));
+	}
+
+	@Override
+	public boolean addAll(final int index, final Collection<? extends E> elements)
+	{
+		return this.write(() -> this.list.addAll(index, elements));
+	}
+
+	@Override
+	public E remove(final int index)
+	{
+		return this.write(() -> this.list.remove(index));
+	}
+
+	@Override
+	public boolean remove(final Object element)
+	{
+		return this.write(() -> this.list.remove(element));
+	}
+
+	@Override
+	public boolean removeAll(final Collection<?> elements)
+	{
+		return this.write(() -> this.list.removeAll(elements));
+	}
+
+	@Override
+	public boolean removeIf(final Predicate<? super E> filter)
+	{
+		return this.write(() -> this.list.removeIf(filter));
+	}
+
+	@Override
+	public boolean retainAll(final Collection<?> elements)
+	{
+		return this.write(() -> this.list.retainAll(elements));
+	}
+
+	@Override
+	public void clear()
+	{
+		this.write(() ->
+		{
+			this.list.clear();
+			return null;
+		});
+	}
+
+	@Override
+	public boolean consolidate()
+	{
+		return this.write(this.list::consolidate);
+	}
+
+	@Override
+	public void tryUnload(final boolean unloadAll)
+	{
+		// segments that are being modified are skipped by the unloading
+		this.readLocked(() ->
+		{
+			this.list.tryUnload(unloadAll);
+			return null;
+		});
+	}
+
+	@Override
+	public <P extends Consumer<Lazy<?>>> P iterateLazyReferences(final P procedure)
+	{
+		return this.readLocked(() -> this.list.iterateLazyReferences(procedure));
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new WeaklyConsistentIterator();
+	}
+
+	@Override
+	public Spliterator<E> spliterator()
+	{
+		return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED);
+	}
+
+
+	/**
+	 * Iterates segment by segment over copies of the segments' elements.
+	 */
+	private final class WeaklyConsistentIterator implements Iterator<E>
+	{
+		private int      cursor        ;
+		private Object[] elements      ;
+		private int      elementsCursor;
+
+		WeaklyConsistentIterator()
+		{
+			super();
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if(this.elements != null && this.elementsCursor < this.elements.length)
+			{
+				return true;
+			}
+
+			final Object[] next = ConcurrentLazyArrayList.this.readLocked(() ->
+				this.cursor < ConcurrentLazyArrayList.this.list.size()
+					? ConcurrentLazyArrayList.this.list.segmentElementsFrom(this.cursor)
+					: null
+			);
+			if(next == null || next.length == 0)
+			{
+				return false;
+			}
+
+			this.elements       = next;
+			this.elementsCursor = 0;
+			this.cursor        += next.length;
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next()
+		{
+			if(!this.hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			return (E)this.elements[this.elementsCursor++];
+		}
+
+	}
+
+}
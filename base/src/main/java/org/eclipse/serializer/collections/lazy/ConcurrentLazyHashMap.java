@@ -0,0 +1,462 @@
+package org.eclipse.serializer.collections.lazy;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+
+/**
+ * Thread-safe {@link ConcurrentMap} backed by a {@link LazyHashMap}.
+ * <p>
+ * Reads don't block each other: as long as there is no concurrent modification, {@link #get(Object)},
+ * {@link #containsKey(Object)} and {@link #size()} acquire no lock at all, and a segment that is loaded by several
+ * readers at once is loaded only once. Replacing the value of an existing key only locks the key's segment.
+ * Adding and removing keys may split or remove segments and lock the whole map.
+ * <p>
+ * Iterators are weakly consistent: they never throw a {@link java.util.ConcurrentModificationException},
+ * return every key at most once and reflect each segment as it was when the iteration reached it.
+ * Unlike {@link java.util.concurrent.ConcurrentHashMap}, <code>null</code> keys and values are permitted
+ * like in {@link LazyHashMap}.
+ * <p>
+ * The wrapped map is persisted as usual, the locks are not. Storing the map is not synchronized with
+ * concurrent modifications.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public final class ConcurrentLazyHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	private static final Object NOT_FOUND = new Object();
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private final LazyHashMap<K, V> map;
+
+	// guards the segment structure. Not persisted, recreated on demand after a persisted instance has been loaded.
+	private transient volatile StampedLock lock;
+
+	private transient EntrySet entrySet;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	/**
+	 * Creates a new {@link ConcurrentLazyHashMap} with a default maximum segment size of 1000.
+	 */
+	public ConcurrentLazyHashMap()
+	{
+		this(new LazyHashMap<>());
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLazyHashMap} with a defined maximum segment size.
+	 *
+	 * @param maxSegmentSize maximum segment size, must be positive
+	 */
+	public ConcurrentLazyHashMap(final int maxSegmentSize)
+	{
+		this(new LazyHashMap<>(maxSegmentSize));
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLazyHashMap} with a defined maximum segment size.
+	 *
+	 * @param maxSegmentSize maximum segment size, must be positive
+	 * @param lazySegmentUnloader LazySegmentUnloader instance
+	 */
+	public ConcurrentLazyHashMap(final int maxSegmentSize, final LazySegmentUnloader lazySegmentUnloader)
+	{
+		this(new LazyHashMap<>(maxSegmentSize, lazySegmentUnloader));
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLazyHashMap} backed by the supplied {@link LazyHashMap}.
+	 * The supplied map must not be accessed directly afterwards.
+	 *
+	 * @param map the map to be wrapped.
+	 */
+	public ConcurrentLazyHashMap(final LazyHashMap<K, V> map)
+	{
+		super();
+		this.map  = map;
+		this.lock = new StampedLock();
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	private StampedLock lock()
+	{
+		StampedLock lock;
+		if((lock = this.lock) == null)
+		{
+			synchronized(this)
+			{
+				if((lock = this.lock) == null)
+				{
+					this.lock = lock = new StampedLock();
+				}
+			}
+		}
+		return lock;
+	}
+
+	/**
+	 * Executes the reading operation without a lock and validates afterwards that no structural modification
+	 * took place. Otherwise, the operation is repeated with the read lock.
+	 */
+	private <R> R read(final Supplier<R> operation)
+	{
+		final StampedLock lock = this.lock();
+		final long optimisticStamp = lock.tryOptimisticRead();
+		if(optimisticStamp != 0L)
+		{
+			try
+			{
+				final R result = operation.get();
+				if(lock.validate(optimisticStamp))
+				{
+					return result;
+				}
+			}
+			catch(final RuntimeException e)
+			{
+				if(lock.validate(optimisticStamp))
+				{
+					throw e;
+				}
+				// inconsistent read caused by a concurrent structural modification, repeated below
+			}
+		}
+
+		return this.readLocked(operation);
+	}
+
+	private <R> R readLocked(final Supplier<R> operation)
+	{
+		final StampedLock lock  = this.lock();
+		final long        stamp = lock.readLock();
+		try
+		{
+			return operation.get();
+		}
+		finally
+		{
+			lock.unlockRead(stamp);
+		}
+	}
+
+	private <R> R write(final Supplier<R> operation)
+	{
+		final StampedLock lock  = this.lock();
+		final long        stamp = lock.writeLock();
+		try
+		{
+			return operation.get();
+		}
+		finally
+		{
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Returns the maximum segment size of the backing {@link LazyHashMap}.
+	 *
+	 * @return the maximum segment size
+	 */
+	public int getMaxSegmentSize()
+	{
+		return this.map.getMaxSegmentSize();
+	}
+
+	/**
+	 * Tries to unload segments, see {@link LazyCollection#tryUnload(boolean)}.
+	 * Segments that are being modified are skipped.
+	 *
+	 * @param unloadAll if true try to unload everything, try to fall below limit if possible.
+	 */
+	public void tryUnload(final boolean unloadAll)
+	{
+		this.readLocked(() ->
+		{
+			this.map.entrySet().tryUnload(unloadAll);
+			return null;
+		});
+	}
+
+	@Override
+	public int size()
+	{
+		return this.read(this.map::size);
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return this.size() == 0;
+	}
+
+	@Override
+	public boolean containsKey(final Object key)
+	{
+		return this.read(() -> this.map.getConcurrently(key, NOT_FOUND)) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean containsValue(final Object value)
+	{
+		return this.readLocked(() -> this.map.containsValue(value));
+	}
+
+	@Override
+	public V get(final Object key)
+	{
+		return this.getOrDefault(key, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V getOrDefault(final Object key, final V defaultValue)
+	{
+		final Object value = this.read(() -> this.map.getConcurrently(key, NOT_FOUND));
+		return value == NOT_FOUND
+			? defaultValue
+			: (V)value
+		;
+	}
+
+	@Override
+	public V put(final K key, final V value)
+	{
+		// replacing the value of an existing key only modifies the key's segment, which locks itself
+		final Optional<V> replaced = this.readLocked(() -> this.map.replaceExisting(key, value));
+		if(replaced != null)
+		{
+			return replaced.orElse(null);
+		}
+
+		return this.write(() -> this.map.put(key, value));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V putIfAbsent(final K key, final V value)
+	{
+		final Object current = this.read(() -> this.map.getConcurrently(key, NOT_FOUND));
+		if(current != NOT_FOUND && current != null)
+		{
+			return (V)current;
+		}
+
+		return this.write(() ->
+		{
+			final V existing = this.map.get(key);
+			return existing != null
+				? existing
+				: this.map.put(key, value)
+			;
+		});
+	}
+
+	@Override
+	public V remove(final Object key)
+	{
+		return this.write(() -> this.map.remove(key));
+	}
+
+	@Override
+	public boolean remove(final Object key, final Object value)
+	{
+		return this.write(() ->
+		{
+			if(!this.map.containsKey(key) || !Objects.equals(this.map.get(key), value))
+			{
+				return false;
+			}
+			this.map.remove(key);
+			return true;
+		});
+	}
+
+	@Override
+	public V replace(final K key, final V value)
+	{
+		return this.readLocked(() -> this.map.replace(key, value));
+	}
+
+	@Override
+	public boolean replace(final K key, final V oldValue, final V newValue)
+	{
+		return this.readLocked(() -> this.map.replace(key, oldValue, newValue));
+	}
+
+	@Override
+	public void putAll(final Map<? extends K, ? extends V> m)
+	{
+		for(final Map.Entry<? extends K, ? extends V> e : m.entrySet())
+		{
+			this.put(e.getKey(), e.getValue());
+		}
+	}
+
+	@Override
+	public void clear()
+	{
+		this.write(() ->
+		{
+			this.map.clear();
+			return null;
+		});
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet()
+	{
+		final EntrySet entrySet;
+		return (entrySet = this.entrySet) != null
+			? entrySet
+			: (this.entrySet = new EntrySet())
+		;
+	}
+
+
+	final class EntrySet extends AbstractSet<Map.Entry<K, V>>
+	{
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator()
+		{
+			return new WeaklyConsistentIterator();
+		}
+
+		@Override
+		public int size()
+		{
+			return ConcurrentLazyHashMap.this.size();
+		}
+
+		@Override
+		public void clear()
+		{
+			ConcurrentLazyHashMap.this.clear();
+		}
+
+	}
+
+	/**
+	 * Iterates in hash order segment by segment over copies of the segments' entries. The hash of the last
+	 * visited segment's upper bound is the starting point for the next one, so concurrently split or removed
+	 * segments neither cause entries to be returned twice nor skipped.
+	 */
+	final class WeaklyConsistentIterator implements Iterator<Map.Entry<K, V>>
+	{
+		private int                        nextHash  = Integer.MIN_VALUE;
+		private boolean                    exhausted;
+		private ArrayList<Map.Entry<K, V>> entries  ;
+		private int                        cursor   ;
+		private Map.Entry<K, V>            last     ;
+
+		WeaklyConsistentIterator()
+		{
+			super();
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			while(this.entries == null || this.cursor >= this.entries.size())
+			{
+				if(this.exhausted)
+				{
+					return false;
+				}
+				this.entries = ConcurrentLazyHashMap.this.readLocked(this::nextSegmentEntries);
+				this.cursor  = 0;
+			}
+			return true;
+		}
+
+		private ArrayList<Map.Entry<K, V>> nextSegmentEntries()
+		{
+			final LazyHashMap<K, V>.Segment<LazyHashMap.Entry<K, V>> segment =
+				ConcurrentLazyHashMap.this.map.segmentForHash(this.nextHash)
+			;
+			if(segment == null)
+			{
+				this.exhausted = true;
+				return null;
+			}
+
+			final ArrayList<Map.Entry<K, V>> entries = segment.copyEntries(this.nextHash);
+			if(segment.maxHash() == Integer.MAX_VALUE)
+			{
+				this.exhausted = true;
+			}
+			else
+			{
+				this.nextHash = segment.maxHash();
+			}
+			return entries;
+		}
+
+		@Override
+		public Map.Entry<K, V> next()
+		{
+			if(!this.hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			return this.last = this.entries.get(this.cursor++);
+		}
+
+		@Override
+		public void remove()
+		{
+			if(this.last == null)
+			{
+				throw new IllegalStateException();
+			}
+			ConcurrentLazyHashMap.this.remove(this.last.getKey());
+			this.last = null;
+		}
+
+	}
+
+}
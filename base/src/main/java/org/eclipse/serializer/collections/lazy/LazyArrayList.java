@@ -20,6 +20,7 @@ import static org.eclipse.serializer.math.XMath.positive;
 import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
@@ -27,6 +28,7 @@ import java.util.NoSuchElementException;
 import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.Stack;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -65,6 +67,7 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 	private final ArrayList<Segment>  segments      ;
 	private int                       size          ;
 	private final LazySegmentUnloader unloader      ;
+	private transient int             prefetchCount ;
 	
 	///////////////////////////////////////////////////////////////////////////
 	// constructors //
@@ -173,6 +176,65 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		return this.size == 0;
 	}
 	
+	/**
+	 * Returns the number of segments that are loaded in one batch when an unloaded segment is entered,
+	 * see {@link #setPrefetchSegmentCount(int)}.
+	 * 
+	 * @return the number of segments loaded in one batch, 0 if prefetching is disabled.
+	 */
+	public int getPrefetchSegmentCount()
+	{
+		return this.prefetchCount;
+	}
+	
+	/**
+	 * Defines the number of segments that are loaded in one batch (see {@link Lazy#prefetch(Iterable)})
+	 * when the first element of an unloaded segment is accessed, e.g. while iterating.
+	 * The accessed segment and the following unloaded ones up to that count are loaded together instead of
+	 * one by one. 0, the default, disables prefetching. The setting is not persisted.
+	 * <p>
+	 * Note that prefetched segments are handed to the {@link LazySegmentUnloader} only when they are accessed.
+	 * 
+	 * @param prefetchSegmentCount the number of segments to load in one batch, 0 to disable prefetching.
+	 * @return this list.
+	 */
+	public LazyArrayList<E> setPrefetchSegmentCount(final int prefetchSegmentCount)
+	{
+		if(prefetchSegmentCount < 0)
+		{
+			throw new IllegalArgumentException("Negative prefetch segment count: " + prefetchSegmentCount);
+		}
+		this.prefetchCount = prefetchSegmentCount;
+		return this;
+	}
+	
+	/**
+	 * Loads the unloaded segments among the <code>segmentCount</code> segments starting at
+	 * <code>segmentIndex</code> in one batch, see {@link Lazy#prefetch(Iterable)}.
+	 * 
+	 * @param segmentIndex the index of the first segment.
+	 * @param segmentCount the number of segments.
+	 * @return the number of segments that have been loaded.
+	 */
+	public int prefetchSegments(final int segmentIndex, final int segmentCount)
+	{
+		final int bound = Math.min(this.segments.size(), segmentIndex + segmentCount);
+		final ArrayList<Lazy<?>> unloaded = new ArrayList<>(Math.max(bound - segmentIndex, 0));
+		for(int i = Math.max(segmentIndex, 0); i < bound; i++)
+		{
+			final Segment segment = this.segments.get(i);
+			if(!segment.isLoaded())
+			{
+				unloaded.add(segment.data);
+			}
+		}
+		
+		return unloaded.isEmpty()
+			? 0
+			: Lazy.prefetch(unloaded)
+		;
+	}
+	
 	@Override
 	public void tryUnload(final boolean unloadAll)
 	{
@@ -251,9 +313,23 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 	{
 		validateIndex(this.size, index);
 		final Segment segment = this.segmentForIndex(index);
+		if(this.prefetchCount > 0 && index == segment.offset && !segment.isLoaded())
+		{
+			this.prefetchSegments(index / this.maxSegmentSize, segment);
+		}
 		return segment.getData().get(index - segment.offset);
 	}
 	
+	private void prefetchSegments(final int firstGuess, final Segment segment)
+	{
+		// segments are usually full, so the guess is exact in most cases.
+		final int segmentIndex = firstGuess < this.segments.size() && this.segments.get(firstGuess) == segment
+			? firstGuess
+			: this.segments.indexOf(segment)
+		;
+		this.prefetchSegments(segmentIndex, this.prefetchCount);
+	}
+	
 	@Override
 	public E set(final int index, final E element)
 	{
@@ -262,6 +338,33 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		return segment.set(index - segment.offset, element);
 	}
 	
+	/*
+	 * Reads for ConcurrentLazyArrayList, which guards the segment structure and calls these methods
+	 * only while no structural modification can take place, or validates the result afterwards.
+	 */
+	
+	E getConcurrently(final int index)
+	{
+		validateIndex(this.size, index);
+		final Segment segment = this.segmentForIndex(index);
+		if(this.prefetchCount > 0 && index == segment.offset && !segment.isLoaded())
+		{
+			this.prefetchSegments(index / this.maxSegmentSize, segment);
+		}
+		return segment.readConcurrently(index - segment.offset);
+	}
+	
+	Object[] segmentElementsFrom(final int index)
+	{
+		final Segment  segment  = this.segmentForIndex(index);
+		final Object[] elements = segment.toArrayConcurrently();
+		final int      from     = index - segment.offset;
+		return from == 0
+			? elements
+			: Arrays.copyOfRange(elements, from, elements.length)
+		;
+	}
+	
 	@Override
 	public boolean add(final E element)
 	{
@@ -1022,6 +1125,12 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		private final ControlledLazyReference<ArrayList<E>> data       ;
 		private boolean allowUnloading = true;
 		
+		/*
+		 * Held exclusively while the segment's data is modified, so the data can't be unloaded in the middle of
+		 * a modification. Also used for lock-free reads by ConcurrentLazyArrayList. Not persisted.
+		 */
+		private final transient StampedLock lock = new StampedLock();
+		
 		
 		///////////////////////////////////////////////////////////////////////////
 		// constructors //
@@ -1107,7 +1216,7 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		@Override
 		public boolean allowClear()
 		{
-			return !this.modified;
+			return !this.modified && !this.lock.isWriteLocked();
 		}
 
 		//required by BinaryHandlerLazyArrayList
@@ -1130,6 +1239,19 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 		
 		private boolean retainAll(final Collection<?> elements)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchRetainAll(elements);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private boolean synchRetainAll(final Collection<?> elements)
 		{
 			if(this.getData().retainAll(elements)) {
 				this.segmentSize = this.getData().size();
@@ -1140,6 +1262,19 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 
 		private boolean removeIf(final Predicate<? super E> filter)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchRemoveIf(filter);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private boolean synchRemoveIf(final Predicate<? super E> filter)
 		{
 			if(this.getData().removeIf(filter)) {
 				this.segmentSize = this.getData().size();
@@ -1150,6 +1285,19 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 
 		private boolean removeAll(final Collection<?> elements)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchRemoveAll(elements);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private boolean synchRemoveAll(final Collection<?> elements)
 		{
 			if(this.getData().removeAll(elements)) {
 				this.segmentSize = this.getData().size();
@@ -1160,6 +1308,19 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 
 		private boolean remove(final Object element)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchRemove(element);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private boolean synchRemove(final Object element)
 		{
 			if(this.getData().remove(element))
 			{
@@ -1171,6 +1332,19 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 		
 		private E remove(final int index)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchRemove(index);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private E synchRemove(final int index)
 		{
 			final E element = this.getData().remove(index);
 			this.modified = true;
@@ -1179,6 +1353,19 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 
 		private boolean addAll(final int index, final Collection<? extends E> elements)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchAddAll(index, elements);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private boolean synchAddAll(final int index, final Collection<? extends E> elements)
 		{
 			if(this.getData().addAll(index, elements)) {
 				this.segmentSize = this.getData().size();
@@ -1189,6 +1376,19 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 
 		private boolean add(final E element)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchAdd(element);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private boolean synchAdd(final E element)
 		{
 			this.getData().add(element);
 			this.modified = true;
@@ -1197,6 +1397,19 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 
 		private void add(final int index, final E element)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				this.synchAdd(index, element);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private void synchAdd(final int index, final E element)
 		{
 			this.getData().add(index, element);
 			this.modified = true;
@@ -1204,11 +1417,71 @@ public final class LazyArrayList<E> extends AbstractList<E> implements LazyList<
 		}
 
 		private E set(final int index, final E element)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchSet(index, element);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+		
+		private E synchSet(final int index, final E element)
 		{
 			final E previous = this.getData().set(index, element);
 			this.modified = true;
 			return previous;
 		}
+	
+		/**
+		 * Reads the element at the index without blocking concurrent readers. Without a concurrent modification
+		 * of this segment, no lock is acquired at all.
+		 */
+		private E readConcurrently(final int index)
+		{
+			final long optimisticStamp = this.lock.tryOptimisticRead();
+			if(optimisticStamp != 0L)
+			{
+				try
+				{
+					final E element = this.getData().get(index);
+					if(this.lock.validate(optimisticStamp))
+					{
+						return element;
+					}
+				}
+				catch(final RuntimeException e)
+				{
+					// inconsistent read of a concurrently modified segment, repeated with the read lock below
+				}
+			}
+		
+			final long stamp = this.lock.readLock();
+			try
+			{
+				return this.getData().get(index);
+			}
+			finally
+			{
+				this.lock.unlockRead(stamp);
+			}
+		}
+		
+		private Object[] toArrayConcurrently()
+		{
+			final long stamp = this.lock.readLock();
+			try
+			{
+				return this.getData().toArray();
+			}
+			finally
+			{
+				this.lock.unlockRead(stamp);
+			}
+		}
 			
 		@Override
 		public ArrayList<E> getData()
@@ -18,6 +18,7 @@ import org.eclipse.serializer.branching.*;
 import org.eclipse.serializer.reference.*;
 
 import java.util.*;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.*;
 
 
@@ -68,6 +69,7 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 	private int modCount;
 	private transient ObjectSwizzling loader;
 	private final LazySegmentUnloader unloader;
+	private transient int prefetchCount;
 
 	///////////////////////////////////////////////////////////////////////////
 	// constructors //
@@ -279,6 +281,43 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 		return segment.getByHash(hash, key);
 	}
 
+	/*
+	 * Access for ConcurrentLazyHashMap, which guards the segment structure and calls these methods
+	 * only while no structural modification can take place, or validates the result afterwards.
+	 */
+	
+	Object getConcurrently(final Object key, final Object notFound)
+	{
+		final int hash = this.hash(key);
+		final Segment<Entry<K, V>> segment = this.searchSegment(hash, 0, this.segments.size());
+		
+		return segment == null
+			? notFound
+			: segment.readConcurrently(hash, key, notFound)
+		;
+	}
+	
+	Segment<Entry<K, V>> segmentForHash(final int hash)
+	{
+		return this.searchSegment(hash, 0, this.segments.size());
+	}
+	
+	/**
+	 * Replaces the value of an existing key, which only modifies the key's segment.
+	 * 
+	 * @return the previous value or <code>null</code> if there is no such key.
+	 */
+	Optional<V> replaceExisting(final K key, final V value)
+	{
+		if(this.segments.size() < 1)
+		{
+			return null;
+		}
+		
+		final int hash = this.hash(key);
+		return this.searchSegment(hash, 0, this.segments.size()).replace(hash, key, value);
+	}
+
 	@Override
 	public int size()
 	{
@@ -290,6 +329,65 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 	{
 		return this.size < 1;
 	}
+	
+	/**
+	 * Returns the number of segments that are loaded in one batch when iterating enters an unloaded segment,
+	 * see {@link #setPrefetchSegmentCount(int)}.
+	 * 
+	 * @return the number of segments loaded in one batch, 0 if prefetching is disabled.
+	 */
+	public int getPrefetchSegmentCount()
+	{
+		return this.prefetchCount;
+	}
+	
+	/**
+	 * Defines the number of segments that are loaded in one batch (see {@link Lazy#prefetch(Iterable)})
+	 * when an iterator of this map enters an unloaded segment. The entered segment and the following unloaded
+	 * ones up to that count are loaded together instead of one by one.
+	 * 0, the default, disables prefetching. The setting is not persisted.
+	 * <p>
+	 * Note that prefetched segments are handed to the {@link LazySegmentUnloader} only when they are accessed.
+	 * 
+	 * @param prefetchSegmentCount the number of segments to load in one batch, 0 to disable prefetching.
+	 * @return this map.
+	 */
+	public LazyHashMap<K, V> setPrefetchSegmentCount(final int prefetchSegmentCount)
+	{
+		if(prefetchSegmentCount < 0)
+		{
+			throw new IllegalArgumentException("Negative prefetch segment count: " + prefetchSegmentCount);
+		}
+		this.prefetchCount = prefetchSegmentCount;
+		return this;
+	}
+	
+	/**
+	 * Loads the unloaded segments among the <code>segmentCount</code> segments starting at
+	 * <code>segmentIndex</code> in one batch, see {@link Lazy#prefetch(Iterable)}.
+	 * 
+	 * @param segmentIndex the index of the first segment.
+	 * @param segmentCount the number of segments.
+	 * @return the number of segments that have been loaded.
+	 */
+	public int prefetchSegments(final int segmentIndex, final int segmentCount)
+	{
+		final int bound = Math.min(this.segments.size(), segmentIndex + segmentCount);
+		final ArrayList<Lazy<?>> unloaded = new ArrayList<>(Math.max(bound - segmentIndex, 0));
+		for(int i = Math.max(segmentIndex, 0); i < bound; i++)
+		{
+			final Segment<Entry<K, V>> segment = this.segments.get(i);
+			if(!segment.isLoaded())
+			{
+				unloaded.add(segment.data);
+			}
+		}
+
+		return unloaded.isEmpty()
+			? 0
+			: Lazy.prefetch(unloaded)
+		;
+	}
 
 	@Override
 	public boolean containsKey(final Object key)
@@ -619,6 +717,12 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 		private transient boolean modified;
 		private boolean allowUnloading = true;
 
+		/*
+		 * Held exclusively while the segment's data is modified, so the data can't be unloaded in the middle of
+		 * a modification. Also used for lock-free reads by ConcurrentLazyHashMap. Not persisted.
+		 */
+		private final transient StampedLock lock = new StampedLock();
+
 		
 		///////////////////////////////////////////////////////////////////////////
 		// constructors //
@@ -748,6 +852,19 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 		}
 		
 		private Optional<V> remove(final Object key)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchRemove(key);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+
+		private Optional<V> synchRemove(final Object key)
 		{
 			final LazyHashMapSegmentEntryList<K, V>  entries = this.getData();
 			for (final Entry<K, V> entry : entries)
@@ -765,6 +882,19 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 		}
 		
 		private Entry<K, V> remove(final int i)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchRemove(i);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+
+		private Entry<K, V> synchRemove(final int i)
 		{
 			this.segmentSize--;
 			this.modified = true;
@@ -772,6 +902,24 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 		}
 		
 		private  Entry<K, V> insert(final E entry)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchInsert(entry);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+
+		private  Entry<K, V> synchInsert(final E entry)
+		{
+			return this.insertLocked(entry);
+		}
+		
+		private  Entry<K, V> insertLocked(final E entry)
 		{
 			final LazyHashMapSegmentEntryList<K, V> entries = this.getData();
 			final LazyHashMapSegmentEntryList<K, V> e = this.getData();
@@ -807,6 +955,19 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 		}
 		
 		private Optional<V> replace(final int hash, final K key, final V value)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchReplace(hash, key, value);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+
+		private Optional<V> synchReplace(final int hash, final K key, final V value)
 		{
 			final Entry<K, V> current = this.getByHash(hash, key);
 			if(current != null)
@@ -821,6 +982,19 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 		}
 		
 		private boolean replace(final int hash, final K key, final V oldValue, final V newValue)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchReplace(hash, key, oldValue, newValue);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+
+		private boolean synchReplace(final int hash, final K key, final V oldValue, final V newValue)
 		{
 			final Entry<K, V> current = this.getByHash(hash, key);
 			if(current != null && current.value.equals(oldValue))
@@ -832,10 +1006,79 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 			return false;
 		}
 		
+		/**
+		 * Looks up the value of the key without blocking concurrent readers. Without a concurrent modification
+		 * of this segment, no lock is acquired at all.
+		 */
+		private Object readConcurrently(final int hash, final Object key, final Object notFound)
+		{
+			final long optimisticStamp = this.lock.tryOptimisticRead();
+			if(optimisticStamp != 0L)
+			{
+				try
+				{
+					final Entry<K, V> entry = this.getByHash(hash, key);
+					final Object      value = entry == null ? notFound : entry.value;
+					if(this.lock.validate(optimisticStamp))
+					{
+						return value;
+					}
+				}
+				catch(final RuntimeException e)
+				{
+					// inconsistent read of a concurrently modified segment, repeated with the read lock below
+				}
+			}
+			
+			final long stamp = this.lock.readLock();
+			try
+			{
+				final Entry<K, V> entry = this.getByHash(hash, key);
+				return entry == null ? notFound : entry.value;
+			}
+			finally
+			{
+				this.lock.unlockRead(stamp);
+			}
+		}
+	
+		/**
+		 * Copies the key-value pairs with a hash of at least <code>fromHash</code>, in hash order.
+		 */
+		ArrayList<Map.Entry<K, V>> copyEntries(final int fromHash)
+		{
+			final long stamp = this.lock.readLock();
+			try
+			{
+				final LazyHashMapSegmentEntryList<K, V> entries = this.getData();
+				final ArrayList<Map.Entry<K, V>>        copy    = new ArrayList<>(entries.size());
+				for(final Entry<K, V> entry : entries)
+				{
+					if(entry.hash >= fromHash)
+					{
+						copy.add(new AbstractMap.SimpleImmutableEntry<>(entry.key, entry.value));
+					}
+				}
+				return copy;
+			}
+			finally
+			{
+				this.lock.unlockRead(stamp);
+			}
+		}
+	
+		/**
+		 * @return the exclusive upper bound of the hashes in this segment.
+		 */
+		int maxHash()
+		{
+			return this.max;
+		}
+		
 		@Override
 		public boolean allowClear()
 		{
-			return !this.modified;
+			return !this.modified && !this.lock.isWriteLocked();
 		}
 
 		/**
@@ -860,6 +1103,19 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 		}
 
 		private Segment<Entry<K, V>> split(final int index)
+		{
+			final long stamp = this.lock.writeLock();
+			try
+			{
+				return this.synchSplit(index);
+			}
+			finally
+			{
+				this.lock.unlockWrite(stamp);
+			}
+		}
+
+		private Segment<Entry<K, V>> synchSplit(final int index)
 		{
 			final LazyHashMapSegmentEntryList<K, V> e = this.getData();
 			final List<Entry<K, V>> part = e.subList(index, e.size());
@@ -870,6 +1126,7 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 
 			e.removeAll(part);
 			this.segmentSize = e.size();
+			this.modified = true;
 
 			return newSegment;
 		}
@@ -1296,6 +1553,10 @@ public final class LazyHashMap<K, V> implements Map<K, V>
 			}
 			                                   
 			this.currentSegment = LazyHashMap.this.segments.get(this.segmentIndex);
+			if(this.localIndex == 0 && LazyHashMap.this.prefetchCount > 0 && !this.currentSegment.isLoaded())
+			{
+				LazyHashMap.this.prefetchSegments(this.segmentIndex, LazyHashMap.this.prefetchCount);
+			}
 			final Entry<K, V> e = this.currentSegment.getData().get(this.localIndex);
 			
 			this.currentLocalIndex = this.localIndex;
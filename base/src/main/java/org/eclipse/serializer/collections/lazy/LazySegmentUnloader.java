@@ -201,7 +201,7 @@ public interface LazySegmentUnloader
 		}
 
 		@Override
-		public void remove(final LazySegment<?> segment)
+		public synchronized void remove(final LazySegment<?> segment)
 		{
 			if(this.loadedSegments != null)
 			{
@@ -307,7 +307,7 @@ public interface LazySegmentUnloader
 		}
 
 		@Override
-		public void remove(final LazySegment<?> segment)
+		public synchronized void remove(final LazySegment<?> segment)
 		{
 			if(this.loadedSegments != null)
 			{
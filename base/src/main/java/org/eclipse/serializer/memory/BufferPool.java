@@ -0,0 +1,625 @@
+package org.eclipse.serializer.memory;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.eclipse.serializer.math.XMath.positive;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Source of direct {@link ByteBuffer}s for components that frequently allocate and release buffers of
+ * similar sizes, e.g. the chunk buffers of a storer or the default buffers of a network channel.
+ * <p>
+ * A buffer obtained via {@link #allocate(long)} is owned exclusively by the caller until it is passed
+ * to {@link #release(ByteBuffer)}. After that, it may not be accessed any longer, since it is either
+ * handed out again or deallocated.
+ * <p>
+ * {@link #Unpooled()} allocates and deallocates every buffer directly and is the default wherever a
+ * pool can be configured. {@link #New()} creates a pooling implementation, see {@link Default}.
+ */
+public interface BufferPool
+{
+	/**
+	 * Provides a cleared direct buffer with at least the passed capacity. The actual capacity may be
+	 * larger, rounded up to the pool's size class.
+	 *
+	 * @param capacity the minimum required capacity.
+	 *
+	 * @return a direct buffer with a capacity of at least {@code capacity} bytes.
+	 */
+	public ByteBuffer allocate(long capacity);
+
+	/**
+	 * Returns the passed direct buffer to the pool or deallocates it.
+	 *
+	 * @param buffer the buffer to be released.
+	 */
+	public void release(ByteBuffer buffer);
+
+	/**
+	 * Deallocates all currently retained buffers.
+	 */
+	public void clear();
+
+	/**
+	 * @return the number of allocations that were served by a retained buffer.
+	 */
+	public long hitCount();
+
+	/**
+	 * @return the number of allocations that required a new native allocation.
+	 */
+	public long missCount();
+
+	/**
+	 * @return the amount of bytes currently retained for reuse.
+	 */
+	public long retainedBytes();
+
+	/**
+	 * @return the maximum amount of bytes that are retained for reuse.
+	 */
+	public long maximumRetainedBytes();
+
+	/**
+	 * @return the ratio of allocations served by a retained buffer, in the range [0.0; 1.0].
+	 */
+	public default double hitRate()
+	{
+		final long hits  = this.hitCount();
+		final long total = hits + this.missCount();
+
+		return total == 0
+			? 0.0
+			: (double)hits / total
+		;
+	}
+
+
+
+	/**
+	 * @return a {@link BufferPool} allocating and deallocating every buffer directly.
+	 */
+	public static BufferPool Unpooled()
+	{
+		return new BufferPool.Unpooled();
+	}
+
+	/**
+	 * Creates a new pooling {@link BufferPool} with default settings: size classes from
+	 * {@link XMemory#defaultBufferSize()} to 16 MiB, 64 MiB maximum retained bytes and magazines of
+	 * 4 buffers per size class and thread.
+	 *
+	 * @return the newly created pool.
+	 */
+	public static BufferPool New()
+	{
+		return New(Default.DEFAULT_MAXIMUM_RETAINED_BYTES);
+	}
+
+	/**
+	 * Creates a new pooling {@link BufferPool} with default settings and the passed retention bound.
+	 *
+	 * @param maximumRetainedBytes the maximum amount of bytes that are retained for reuse.
+	 *
+	 * @return the newly created pool.
+	 */
+	public static BufferPool New(final long maximumRetainedBytes)
+	{
+		return New(
+			XMemory.defaultBufferSize()           ,
+			Default.DEFAULT_MAXIMUM_CLASS_CAPACITY,
+			maximumRetainedBytes                  ,
+			Default.DEFAULT_MAGAZINE_CAPACITY
+		);
+	}
+
+	/**
+	 * Creates a new pooling {@link BufferPool}.
+	 *
+	 * @param minimumClassCapacity the capacity of the smallest size class, rounded up to a power of two.
+	 * @param maximumClassCapacity the capacity of the largest size class, rounded up to a power of two.
+	 *                             Larger buffers are never retained.
+	 * @param maximumRetainedBytes the maximum amount of bytes that are retained for reuse.
+	 * @param magazineCapacity     the number of buffers per size class held in a thread-local magazine.
+	 *
+	 * @return the newly created pool.
+	 */
+	public static BufferPool New(
+		final int  minimumClassCapacity,
+		final int  maximumClassCapacity,
+		final long maximumRetainedBytes,
+		final int  magazineCapacity
+	)
+	{
+		final int minimumShift = shift(positive(minimumClassCapacity));
+		final int maximumShift = shift(positive(maximumClassCapacity));
+		if(maximumShift < minimumShift)
+		{
+			throw new IllegalArgumentException(
+				"Maximum class capacity " + maximumClassCapacity
+				+ " is lower than minimum class capacity " + minimumClassCapacity
+			);
+		}
+
+		return new BufferPool.Default(
+			minimumShift                  ,
+			maximumShift                  ,
+			positive(maximumRetainedBytes),
+			positive(magazineCapacity)
+		);
+	}
+
+	private static int shift(final int capacity)
+	{
+		// the lowest power of two that is greater than or equal to capacity
+		final int shift = Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+		if(shift > Integer.SIZE - 2)
+		{
+			throw new IllegalArgumentException("Class capacity too large: " + capacity);
+		}
+
+		return shift;
+	}
+
+
+
+	public final class Unpooled implements BufferPool
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final LongAdder missCount = new LongAdder();
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Unpooled()
+		{
+			super();
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public final ByteBuffer allocate(final long capacity)
+		{
+			this.missCount.increment();
+
+			return XMemory.allocateDirectNative(capacity);
+		}
+
+		@Override
+		public final void release(final ByteBuffer buffer)
+		{
+			XMemory.deallocateDirectByteBuffer(buffer);
+		}
+
+		@Override
+		public final void clear()
+		{
+			// nothing retained
+		}
+
+		@Override
+		public final long hitCount()
+		{
+			return 0;
+		}
+
+		@Override
+		public final long missCount()
+		{
+			return this.missCount.sum();
+		}
+
+		@Override
+		public final long retainedBytes()
+		{
+			return 0;
+		}
+
+		@Override
+		public final long maximumRetainedBytes()
+		{
+			return 0;
+		}
+
+	}
+
+	/**
+	 * Pooling {@link BufferPool} organized in power-of-two size classes.
+	 * <p>
+	 * Every thread owns a small magazine of buffers per size class that serves allocations and takes
+	 * releases without contention. Full magazines overflow into a shared depot, empty ones are refilled
+	 * from it. The total capacity of all retained buffers (magazines and depot) never exceeds
+	 * {@link #maximumRetainedBytes()}, surplus buffers are deallocated on release.
+	 * <p>
+	 * Magazines only reference their threads weakly. The magazines of terminated threads are drained into the
+	 * depot and dropped on the slow paths of allocations and releases and whenever the number of magazines
+	 * has doubled, so short-lived or virtual threads do not accumulate magazines.
+	 * <p>
+	 * Buffers larger than the largest size class are neither rounded nor retained.
+	 */
+	public final class Default implements BufferPool
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		static final int  DEFAULT_MAXIMUM_CLASS_CAPACITY = 16 * 1024 * 1024;
+		static final long DEFAULT_MAXIMUM_RETAINED_BYTES = 64L * 1024 * 1024;
+		static final int  DEFAULT_MAGAZINE_CAPACITY      = 4;
+		static final int  MINIMUM_PRUNE_BOUND            = 16;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final int  minimumShift        ;
+		private final int  maximumShift        ;
+		private final long maximumRetainedBytes;
+		private final int  magazineCapacity    ;
+
+		private final ArrayDeque<ByteBuffer>[]        depot        ;
+		private final ThreadLocal<Magazine>           magazine     ;
+		private final ConcurrentLinkedQueue<Magazine> allMagazines ;
+		private final AtomicInteger                   magazineCount = new AtomicInteger();
+		private final AtomicInteger                   pruneBound    = new AtomicInteger(MINIMUM_PRUNE_BOUND);
+		private final AtomicLong                      retainedBytes = new AtomicLong();
+		private final LongAdder                       hitCount      = new LongAdder() ;
+		private final LongAdder                       missCount     = new LongAdder() ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Default(
+			final int  minimumShift        ,
+			final int  maximumShift        ,
+			final long maximumRetainedBytes,
+			final int  magazineCapacity
+		)
+		{
+			super();
+			this.minimumShift         = minimumShift        ;
+			this.maximumShift         = maximumShift        ;
+			this.maximumRetainedBytes = maximumRetainedBytes;
+			this.magazineCapacity     = magazineCapacity    ;
+			this.allMagazines         = new ConcurrentLinkedQueue<>();
+			this.depot                = createDepot(maximumShift - minimumShift + 1);
+			this.magazine = ThreadLocal.withInitial(this::createMagazine);
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@SuppressWarnings({"rawtypes", "unchecked"}) // generic arrays cannot be created otherwise
+		private static ArrayDeque<ByteBuffer>[] createDepot(final int classCount)
+		{
+			final ArrayDeque<ByteBuffer>[] depot = new ArrayDeque[classCount];
+			for(int i = 0; i < depot.length; i++)
+			{
+				depot[i] = new ArrayDeque<>();
+			}
+
+			return depot;
+		}
+
+		private Magazine createMagazine()
+		{
+			final Magazine magazine = new Magazine(Thread.currentThread(), this.depot.length, this.magazineCapacity);
+			this.allMagazines.add(magazine);
+
+			// amortized pruning, as threads may come and go without ever reaching a slow path.
+			final int count = this.magazineCount.incrementAndGet();
+			if(count > this.pruneBound.get())
+			{
+				this.reclaimTerminatedMagazines();
+				this.pruneBound.set(Math.max(MINIMUM_PRUNE_BOUND, this.magazineCount.get() * 2));
+			}
+
+			return magazine;
+		}
+
+		private int classIndex(final long capacity)
+		{
+			if(capacity <= 1L << this.minimumShift)
+			{
+				return 0;
+			}
+			if(capacity > 1L << this.maximumShift)
+			{
+				return -1;
+			}
+
+			return Long.SIZE - Long.numberOfLeadingZeros(capacity - 1) - this.minimumShift;
+		}
+
+		private long classCapacity(final int classIndex)
+		{
+			return 1L << (this.minimumShift + classIndex);
+		}
+
+		@Override
+		public final ByteBuffer allocate(final long capacity)
+		{
+			final int classIndex = this.classIndex(capacity);
+			if(classIndex < 0)
+			{
+				this.missCount.increment();
+				return XMemory.allocateDirectNative(capacity);
+			}
+
+			ByteBuffer buffer = this.magazine.get().poll(classIndex);
+			if(buffer == null)
+			{
+				buffer = this.pollDepot(classIndex);
+			}
+			if(buffer == null)
+			{
+				this.missCount.increment();
+				return XMemory.allocateDirectNative(this.classCapacity(classIndex));
+			}
+
+			this.retainedBytes.addAndGet(-buffer.capacity());
+			this.hitCount.increment();
+
+			// a previous user may have switched the byte order, but pooled buffers are handed out like new ones.
+			return buffer.clear().order(ByteOrder.nativeOrder());
+		}
+
+		@Override
+		public final void release(final ByteBuffer buffer)
+		{
+			final int classIndex = this.classIndex(buffer.capacity());
+			if(classIndex < 0 || buffer.capacity() != this.classCapacity(classIndex) || !buffer.isDirect())
+			{
+				// not pool-compatible, e.g. an oversized or foreign buffer.
+				XMemory.deallocateDirectByteBuffer(buffer);
+				return;
+			}
+
+			if(this.retainedBytes.addAndGet(buffer.capacity()) > this.maximumRetainedBytes)
+			{
+				this.retainedBytes.addAndGet(-buffer.capacity());
+				XMemory.deallocateDirectByteBuffer(buffer);
+				this.reclaimTerminatedMagazines();
+				return;
+			}
+
+			if(!this.magazine.get().offer(classIndex, buffer))
+			{
+				this.offerDepot(classIndex, buffer);
+				this.reclaimTerminatedMagazines();
+			}
+		}
+
+		private ByteBuffer pollDepot(final int classIndex)
+		{
+			final ByteBuffer buffer = this.synchPollDepot(classIndex);
+			if(buffer != null)
+			{
+				return buffer;
+			}
+
+			// buffers retained by magazines of terminated threads would otherwise be lost.
+			return this.reclaimTerminatedMagazines()
+				? this.synchPollDepot(classIndex)
+				: null
+			;
+		}
+
+		private ByteBuffer synchPollDepot(final int classIndex)
+		{
+			final ArrayDeque<ByteBuffer> depot = this.depot[classIndex];
+			synchronized(depot)
+			{
+				return depot.pollLast();
+			}
+		}
+
+		private void offerDepot(final int classIndex, final ByteBuffer buffer)
+		{
+			final ArrayDeque<ByteBuffer> depot = this.depot[classIndex];
+			synchronized(depot)
+			{
+				depot.addLast(buffer);
+			}
+		}
+
+		private boolean reclaimTerminatedMagazines()
+		{
+			boolean reclaimed = false;
+			for(final Magazine magazine : this.allMagazines)
+			{
+				if(magazine.isOwnerTerminated() && this.allMagazines.remove(magazine))
+				{
+					this.magazineCount.decrementAndGet();
+					magazine.drainTo(this);
+					reclaimed = true;
+				}
+			}
+
+			return reclaimed;
+		}
+
+		@Override
+		public final void clear()
+		{
+			for(final Magazine magazine : this.allMagazines)
+			{
+				magazine.drainTo(this);
+			}
+			this.reclaimTerminatedMagazines();
+
+			for(final ArrayDeque<ByteBuffer> depot : this.depot)
+			{
+				synchronized(depot)
+				{
+					for(ByteBuffer buffer; (buffer = depot.pollLast()) != null;)
+					{
+						this.retainedBytes.addAndGet(-buffer.capacity());
+						XMemory.deallocateDirectByteBuffer(buffer);
+					}
+				}
+			}
+		}
+
+		@Override
+		public final long hitCount()
+		{
+			return this.hitCount.sum();
+		}
+
+		@Override
+		public final long missCount()
+		{
+			return this.missCount.sum();
+		}
+
+		@Override
+		public final long retainedBytes()
+		{
+			return this.retainedBytes.get();
+		}
+
+		@Override
+		public final long maximumRetainedBytes()
+		{
+			return this.maximumRetainedBytes;
+		}
+
+		/**
+		 * @return the number of thread-local magazines currently registered, including the ones of terminated
+		 *         threads that have not been reclaimed yet.
+		 */
+		public final int magazineCount()
+		{
+			return this.magazineCount.get();
+		}
+
+
+
+		/**
+		 * Per-thread buffer stacks, one per size class. Only accessed by the owning thread, except for
+		 * draining during {@link Default#clear()} or after the owner has terminated, hence the uncontended
+		 * locking.
+		 */
+		static final class Magazine
+		{
+			///////////////////////////////////////////////////////////////////////////
+			// instance fields //
+			////////////////////
+
+			// weak, so a magazine never keeps a terminated thread, e.g. a virtual one, reachable.
+			final WeakReference<Thread> owner  ;
+			final ByteBuffer[][]        buffers;
+			final int[]                 sizes  ;
+
+
+
+			///////////////////////////////////////////////////////////////////////////
+			// constructors //
+			/////////////////
+
+			Magazine(final Thread owner, final int classCount, final int capacity)
+			{
+				super();
+				this.owner   = new WeakReference<>(owner);
+				this.buffers = new ByteBuffer[classCount][capacity];
+				this.sizes   = new int[classCount];
+			}
+
+
+
+			///////////////////////////////////////////////////////////////////////////
+			// methods //
+			////////////
+
+			boolean isOwnerTerminated()
+			{
+				final Thread owner = this.owner.get();
+
+				return owner == null || !owner.isAlive();
+			}
+
+			synchronized ByteBuffer poll(final int classIndex)
+			{
+				if(this.sizes[classIndex] == 0)
+				{
+					return null;
+				}
+
+				final ByteBuffer[] buffers = this.buffers[classIndex];
+				final int          index   = --this.sizes[classIndex];
+				final ByteBuffer   buffer  = buffers[index];
+				buffers[index] = null;
+
+				return buffer;
+			}
+
+			synchronized boolean offer(final int classIndex, final ByteBuffer buffer)
+			{
+				final ByteBuffer[] buffers = this.buffers[classIndex];
+				if(this.sizes[classIndex] == buffers.length)
+				{
+					return false;
+				}
+				buffers[this.sizes[classIndex]++] = buffer;
+
+				return true;
+			}
+
+			synchronized void drainTo(final Default pool)
+			{
+				for(int c = 0; c < this.buffers.length; c++)
+				{
+					for(ByteBuffer buffer; (buffer = this.poll(c)) != null;)
+					{
+						pool.offerDepot(c, buffer);
+					}
+				}
+			}
+
+		}
+
+	}
+
+
+}
@@ -21,9 +21,23 @@ import java.util.ServiceLoader;
 
 /**
  * Service loader for {@link MemoryAccessor}s.
+ * <p>
+ * If several {@link MemoryAccessorProvider}s are available, the one to be used can be selected by its class name,
+ * either fully qualified or simple, with the system property {@value #PROVIDER_PROPERTY}.
  */
 public final class MemoryAccessorResolver
 {
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+	
+	/**
+	 * The system property to select a {@link MemoryAccessorProvider} by its class name.
+	 */
+	public static final String PROVIDER_PROPERTY = "org.eclipse.serializer.memory.accessor.provider";
+	
+	
+	
 	///////////////////////////////////////////////////////////////////////////
 	// static methods //
 	///////////////////
@@ -44,8 +58,20 @@ public final class MemoryAccessorResolver
 		return null;
 	}
 
+	/**
+	 * Get the provider selected by the system property {@value #PROVIDER_PROPERTY} or, if it is not set,
+	 * the first found one.
+	 *
+	 * @return the provider or <code>null</code> if none is available
+	 */
 	public static MemoryAccessorProvider resolveProvider()
 	{
+		final String providerName = System.getProperty(PROVIDER_PROPERTY);
+		if(providerName != null && !providerName.isBlank())
+		{
+			return resolveProvider(providerName.trim());
+		}
+		
 		final ServiceLoader<MemoryAccessorProvider> serviceLoader =
 			ServiceLoader.load(MemoryAccessorProvider.class);
 		
@@ -55,6 +81,25 @@ public final class MemoryAccessorResolver
 			: null
 		;
 	}
+	
+	/**
+	 * Get the provider of the passed class name, without instantiating any other available provider.
+	 *
+	 * @param providerName the fully qualified or simple class name of the provider
+	 * @return the provider or <code>null</code> if none of that name is available
+	 */
+	public static MemoryAccessorProvider resolveProvider(final String providerName)
+	{
+		return ServiceLoader.load(MemoryAccessorProvider.class).stream()
+			.filter(p ->
+				p.type().getName().equals(providerName)
+				|| p.type().getSimpleName().equals(providerName)
+			)
+			.map(ServiceLoader.Provider::get)
+			.findFirst()
+			.orElse(null)
+		;
+	}
 
 
 	///////////////////////////////////////////////////////////////////////////
@@ -388,66 +388,42 @@ public class MemoryAccessorReversing implements MemoryAccessor
 	public final void copyRangeToArray(final long sourceAddress, final short[] target)
 	{
 		this.actual.copyRangeToArray(sourceAddress, target);
-		
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = Short.reverseBytes(target[i]);
-		}
+		XByteOrder.reverseBytes(target);
 	}
 
 	@Override
 	public final void copyRangeToArray(final long sourceAddress, final char[] target)
 	{
 		this.actual.copyRangeToArray(sourceAddress, target);
-		
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = Character.reverseBytes(target[i]);
-		}
+		XByteOrder.reverseBytes(target);
 	}
 	
 	@Override
 	public final void copyRangeToArray(final long sourceAddress, final int[] target)
 	{
 		this.actual.copyRangeToArray(sourceAddress, target);
-		
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = Integer.reverseBytes(target[i]);
-		}
+		XByteOrder.reverseBytes(target);
 	}
 
 	@Override
 	public final void copyRangeToArray(final long sourceAddress, final float[] target)
 	{
 		this.actual.copyRangeToArray(sourceAddress, target);
-		
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = Float.intBitsToFloat(Integer.reverseBytes(Float.floatToRawIntBits(target[i])));
-		}
+		XByteOrder.reverseBytes(target);
 	}
 
 	@Override
 	public final void copyRangeToArray(final long sourceAddress, final long[] target)
 	{
 		this.actual.copyRangeToArray(sourceAddress, target);
-		
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = Long.reverseBytes(target[i]);
-		}
+		XByteOrder.reverseBytes(target);
 	}
 
 	@Override
 	public final void copyRangeToArray(final long sourceAddress, final double[] target)
 	{
 		this.actual.copyRangeToArray(sourceAddress, target);
-		
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = Double.longBitsToDouble(Long.reverseBytes(Double.doubleToRawLongBits(target[i])));
-		}
+		XByteOrder.reverseBytes(target);
 	}
 
 	
@@ -469,37 +445,19 @@ public class MemoryAccessorReversing implements MemoryAccessor
 	@Override
 	public final void copyArrayToAddress(final short[] array, final long targetAddress)
 	{
-		final short[] byteReversedArray = new short[array.length];
-		for(int i = 0; i < array.length; i++)
-		{
-			byteReversedArray[i] = Short.reverseBytes(array[i]);
-		}
-		
-		this.actual.copyArrayToAddress(byteReversedArray, targetAddress);
+		this.actual.copyArrayToAddress(XByteOrder.reverseBytes(array.clone()), targetAddress);
 	}
 
 	@Override
 	public final void copyArrayToAddress(final char[] array, final long targetAddress)
 	{
-		final char[] byteReversedArray = new char[array.length];
-		for(int i = 0; i < array.length; i++)
-		{
-			byteReversedArray[i] = Character.reverseBytes(array[i]);
-		}
-		
-		this.actual.copyArrayToAddress(byteReversedArray, targetAddress);
+		this.actual.copyArrayToAddress(XByteOrder.reverseBytes(array.clone()), targetAddress);
 	}
 	
 	@Override
 	public final void copyArrayToAddress(final int[] array, final long targetAddress)
 	{
-		final int[] byteReversedArray = new int[array.length];
-		for(int i = 0; i < array.length; i++)
-		{
-			byteReversedArray[i] = Integer.reverseBytes(array[i]);
-		}
-		
-		this.actual.copyArrayToAddress(byteReversedArray, targetAddress);
+		this.actual.copyArrayToAddress(XByteOrder.reverseBytes(array.clone()), targetAddress);
 	}
 	
 	@Override
@@ -518,13 +476,7 @@ public class MemoryAccessorReversing implements MemoryAccessor
 	@Override
 	public final void copyArrayToAddress(final long[] array, final long targetAddress)
 	{
-		final long[] byteReversedArray = new long[array.length];
-		for(int i = 0; i < array.length; i++)
-		{
-			byteReversedArray[i] = Long.reverseBytes(array[i]);
-		}
-		
-		this.actual.copyArrayToAddress(byteReversedArray, targetAddress);
+		this.actual.copyArrayToAddress(XByteOrder.reverseBytes(array.clone()), targetAddress);
 	}
 	
 	@Override
@@ -599,13 +551,7 @@ public class MemoryAccessorReversing implements MemoryAccessor
 	@Override
 	public final byte[] asByteArray(final long[] values)
 	{
-		final long[] byteReversedArray = new long[values.length];
-		for(int i = 0; i < values.length; i++)
-		{
-			byteReversedArray[i] = Long.reverseBytes(values[i]);
-		}
-		
-		return this.actual.asByteArray(byteReversedArray);
+		return this.actual.asByteArray(XByteOrder.reverseBytes(values.clone()));
 	}
 
 	@Override
@@ -0,0 +1,344 @@
+package org.eclipse.serializer.memory;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+/**
+ * Util class for reversing the byte order of whole primitive arrays and memory ranges, as required to exchange
+ * data with a platform of the opposite endianness.
+ * <p>
+ * Arrays are reversed in place with plain counted loops over {@link Short#reverseBytes(short)} and its siblings.
+ * These are intrinsics of the JIT compiler and the loops are shaped for it to vectorize them where the platform
+ * supports it. Copying between arrays and memory ranges reverses the elements on the fly in unrolled loops over
+ * {@link XMemory}'s primitive accessors, i.e. in a single pass without a temporary array and without a
+ * per-element call of any virtual method.
+ * <p>
+ * All methods interpret memory in the byte order of the current {@link MemoryAccessor}, i.e. they produce the
+ * opposite byte order of plain {@link XMemory#copyRangeToArray(long, long[])} and
+ * {@link XMemory#copyArrayToAddress(long[], long)}.
+ */
+public final class XByteOrder
+{
+	///////////////////////////////////////////////////////////////////////////
+	// in-place array reversal //
+	////////////////////////////
+
+	public static short[] reverseBytes(final short[] array)
+	{
+		for(int i = 0; i < array.length; i++)
+		{
+			array[i] = Short.reverseBytes(array[i]);
+		}
+
+		return array;
+	}
+
+	public static char[] reverseBytes(final char[] array)
+	{
+		for(int i = 0; i < array.length; i++)
+		{
+			array[i] = Character.reverseBytes(array[i]);
+		}
+
+		return array;
+	}
+
+	public static int[] reverseBytes(final int[] array)
+	{
+		for(int i = 0; i < array.length; i++)
+		{
+			array[i] = Integer.reverseBytes(array[i]);
+		}
+
+		return array;
+	}
+
+	public static float[] reverseBytes(final float[] array)
+	{
+		for(int i = 0; i < array.length; i++)
+		{
+			// raw bits in both directions, so no NaN value gets canonicalized.
+			array[i] = Float.intBitsToFloat(Integer.reverseBytes(Float.floatToRawIntBits(array[i])));
+		}
+
+		return array;
+	}
+
+	public static long[] reverseBytes(final long[] array)
+	{
+		for(int i = 0; i < array.length; i++)
+		{
+			array[i] = Long.reverseBytes(array[i]);
+		}
+
+		return array;
+	}
+
+	public static double[] reverseBytes(final double[] array)
+	{
+		for(int i = 0; i < array.length; i++)
+		{
+			// raw bits in both directions, so no NaN value gets canonicalized.
+			array[i] = Double.longBitsToDouble(Long.reverseBytes(Double.doubleToRawLongBits(array[i])));
+		}
+
+		return array;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// address-to-array range copying //
+	///////////////////////////////////
+
+	public static void copyRangeToArrayReversed(final long sourceAddress, final short[] target)
+	{
+		final int unrolledBound = target.length & ~3;
+		long a = sourceAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Short.BYTES)
+		{
+			target[i    ] = Short.reverseBytes(XMemory.get_short(a));
+			target[i + 1] = Short.reverseBytes(XMemory.get_short(a +     Short.BYTES));
+			target[i + 2] = Short.reverseBytes(XMemory.get_short(a + 2 * Short.BYTES));
+			target[i + 3] = Short.reverseBytes(XMemory.get_short(a + 3 * Short.BYTES));
+		}
+		for(; i < target.length; i++, a += Short.BYTES)
+		{
+			target[i] = Short.reverseBytes(XMemory.get_short(a));
+		}
+	}
+
+	public static void copyRangeToArrayReversed(final long sourceAddress, final char[] target)
+	{
+		final int unrolledBound = target.length & ~3;
+		long a = sourceAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Character.BYTES)
+		{
+			target[i    ] = Character.reverseBytes(XMemory.get_char(a));
+			target[i + 1] = Character.reverseBytes(XMemory.get_char(a +     Character.BYTES));
+			target[i + 2] = Character.reverseBytes(XMemory.get_char(a + 2 * Character.BYTES));
+			target[i + 3] = Character.reverseBytes(XMemory.get_char(a + 3 * Character.BYTES));
+		}
+		for(; i < target.length; i++, a += Character.BYTES)
+		{
+			target[i] = Character.reverseBytes(XMemory.get_char(a));
+		}
+	}
+
+	public static void copyRangeToArrayReversed(final long sourceAddress, final int[] target)
+	{
+		final int unrolledBound = target.length & ~3;
+		long a = sourceAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Integer.BYTES)
+		{
+			target[i    ] = Integer.reverseBytes(XMemory.get_int(a));
+			target[i + 1] = Integer.reverseBytes(XMemory.get_int(a +     Integer.BYTES));
+			target[i + 2] = Integer.reverseBytes(XMemory.get_int(a + 2 * Integer.BYTES));
+			target[i + 3] = Integer.reverseBytes(XMemory.get_int(a + 3 * Integer.BYTES));
+		}
+		for(; i < target.length; i++, a += Integer.BYTES)
+		{
+			target[i] = Integer.reverseBytes(XMemory.get_int(a));
+		}
+	}
+
+	public static void copyRangeToArrayReversed(final long sourceAddress, final float[] target)
+	{
+		final int unrolledBound = target.length & ~3;
+		long a = sourceAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Float.BYTES)
+		{
+			target[i    ] = Float.intBitsToFloat(Integer.reverseBytes(XMemory.get_int(a)));
+			target[i + 1] = Float.intBitsToFloat(Integer.reverseBytes(XMemory.get_int(a +     Float.BYTES)));
+			target[i + 2] = Float.intBitsToFloat(Integer.reverseBytes(XMemory.get_int(a + 2 * Float.BYTES)));
+			target[i + 3] = Float.intBitsToFloat(Integer.reverseBytes(XMemory.get_int(a + 3 * Float.BYTES)));
+		}
+		for(; i < target.length; i++, a += Float.BYTES)
+		{
+			target[i] = Float.intBitsToFloat(Integer.reverseBytes(XMemory.get_int(a)));
+		}
+	}
+
+	public static void copyRangeToArrayReversed(final long sourceAddress, final long[] target)
+	{
+		final int unrolledBound = target.length & ~3;
+		long a = sourceAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Long.BYTES)
+		{
+			target[i    ] = Long.reverseBytes(XMemory.get_long(a));
+			target[i + 1] = Long.reverseBytes(XMemory.get_long(a +     Long.BYTES));
+			target[i + 2] = Long.reverseBytes(XMemory.get_long(a + 2 * Long.BYTES));
+			target[i + 3] = Long.reverseBytes(XMemory.get_long(a + 3 * Long.BYTES));
+		}
+		for(; i < target.length; i++, a += Long.BYTES)
+		{
+			target[i] = Long.reverseBytes(XMemory.get_long(a));
+		}
+	}
+
+	public static void copyRangeToArrayReversed(final long sourceAddress, final double[] target)
+	{
+		final int unrolledBound = target.length & ~3;
+		long a = sourceAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Double.BYTES)
+		{
+			target[i    ] = Double.longBitsToDouble(Long.reverseBytes(XMemory.get_long(a)));
+			target[i + 1] = Double.longBitsToDouble(Long.reverseBytes(XMemory.get_long(a +     Double.BYTES)));
+			target[i + 2] = Double.longBitsToDouble(Long.reverseBytes(XMemory.get_long(a + 2 * Double.BYTES)));
+			target[i + 3] = Double.longBitsToDouble(Long.reverseBytes(XMemory.get_long(a + 3 * Double.BYTES)));
+		}
+		for(; i < target.length; i++, a += Double.BYTES)
+		{
+			target[i] = Double.longBitsToDouble(Long.reverseBytes(XMemory.get_long(a)));
+		}
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// array-to-address range copying //
+	///////////////////////////////////
+
+	public static void copyArrayToAddressReversed(final short[] array, final long targetAddress)
+	{
+		final int unrolledBound = array.length & ~3;
+		long a = targetAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Short.BYTES)
+		{
+			XMemory.set_short(a                  , Short.reverseBytes(array[i    ]));
+			XMemory.set_short(a +     Short.BYTES, Short.reverseBytes(array[i + 1]));
+			XMemory.set_short(a + 2 * Short.BYTES, Short.reverseBytes(array[i + 2]));
+			XMemory.set_short(a + 3 * Short.BYTES, Short.reverseBytes(array[i + 3]));
+		}
+		for(; i < array.length; i++, a += Short.BYTES)
+		{
+			XMemory.set_short(a, Short.reverseBytes(array[i]));
+		}
+	}
+
+	public static void copyArrayToAddressReversed(final char[] array, final long targetAddress)
+	{
+		final int unrolledBound = array.length & ~3;
+		long a = targetAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Character.BYTES)
+		{
+			XMemory.set_char(a                      , Character.reverseBytes(array[i    ]));
+			XMemory.set_char(a +     Character.BYTES, Character.reverseBytes(array[i + 1]));
+			XMemory.set_char(a + 2 * Character.BYTES, Character.reverseBytes(array[i + 2]));
+			XMemory.set_char(a + 3 * Character.BYTES, Character.reverseBytes(array[i + 3]));
+		}
+		for(; i < array.length; i++, a += Character.BYTES)
+		{
+			XMemory.set_char(a, Character.reverseBytes(array[i]));
+		}
+	}
+
+	public static void copyArrayToAddressReversed(final int[] array, final long targetAddress)
+	{
+		final int unrolledBound = array.length & ~3;
+		long a = targetAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Integer.BYTES)
+		{
+			XMemory.set_int(a                    , Integer.reverseBytes(array[i    ]));
+			XMemory.set_int(a +     Integer.BYTES, Integer.reverseBytes(array[i + 1]));
+			XMemory.set_int(a + 2 * Integer.BYTES, Integer.reverseBytes(array[i + 2]));
+			XMemory.set_int(a + 3 * Integer.BYTES, Integer.reverseBytes(array[i + 3]));
+		}
+		for(; i < array.length; i++, a += Integer.BYTES)
+		{
+			XMemory.set_int(a, Integer.reverseBytes(array[i]));
+		}
+	}
+
+	public static void copyArrayToAddressReversed(final float[] array, final long targetAddress)
+	{
+		final int unrolledBound = array.length & ~3;
+		long a = targetAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Float.BYTES)
+		{
+			XMemory.set_int(a                  , Integer.reverseBytes(Float.floatToRawIntBits(array[i    ])));
+			XMemory.set_int(a +     Float.BYTES, Integer.reverseBytes(Float.floatToRawIntBits(array[i + 1])));
+			XMemory.set_int(a + 2 * Float.BYTES, Integer.reverseBytes(Float.floatToRawIntBits(array[i + 2])));
+			XMemory.set_int(a + 3 * Float.BYTES, Integer.reverseBytes(Float.floatToRawIntBits(array[i + 3])));
+		}
+		for(; i < array.length; i++, a += Float.BYTES)
+		{
+			XMemory.set_int(a, Integer.reverseBytes(Float.floatToRawIntBits(array[i])));
+		}
+	}
+
+	public static void copyArrayToAddressReversed(final long[] array, final long targetAddress)
+	{
+		final int unrolledBound = array.length & ~3;
+		long a = targetAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Long.BYTES)
+		{
+			XMemory.set_long(a                 , Long.reverseBytes(array[i    ]));
+			XMemory.set_long(a +     Long.BYTES, Long.reverseBytes(array[i + 1]));
+			XMemory.set_long(a + 2 * Long.BYTES, Long.reverseBytes(array[i + 2]));
+			XMemory.set_long(a + 3 * Long.BYTES, Long.reverseBytes(array[i + 3]));
+		}
+		for(; i < array.length; i++, a += Long.BYTES)
+		{
+			XMemory.set_long(a, Long.reverseBytes(array[i]));
+		}
+	}
+
+	public static void copyArrayToAddressReversed(final double[] array, final long targetAddress)
+	{
+		final int unrolledBound = array.length & ~3;
+		long a = targetAddress;
+		int  i = 0;
+		for(; i < unrolledBound; i += 4, a += 4 * Double.BYTES)
+		{
+			XMemory.set_long(a                   , Long.reverseBytes(Double.doubleToRawLongBits(array[i    ])));
+			XMemory.set_long(a +     Double.BYTES, Long.reverseBytes(Double.doubleToRawLongBits(array[i + 1])));
+			XMemory.set_long(a + 2 * Double.BYTES, Long.reverseBytes(Double.doubleToRawLongBits(array[i + 2])));
+			XMemory.set_long(a + 3 * Double.BYTES, Long.reverseBytes(Double.doubleToRawLongBits(array[i + 3])));
+		}
+		for(; i < array.length; i++, a += Double.BYTES)
+		{
+			XMemory.set_long(a, Long.reverseBytes(Double.doubleToRawLongBits(array[i])));
+		}
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	/**
+	 * Dummy constructor to prevent instantiation of this static-only utility class.
+	 *
+	 * @throws UnsupportedOperationException when called
+	 */
+	private XByteOrder()
+	{
+		// static only
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -24,6 +24,11 @@ public class LazyReferenceManagerMonitor implements LazyReferenceManagerMonitorM
 	
 	int lazyRefCount;
 	int lazyRefLoadedCount;
+	
+	long cycleCount;
+	long lastCycleScannedCount;
+	long lastCycleClearedCount;
+	long lastCycleDurationNs;
 
 	public LazyReferenceManagerMonitor(final LazyReferenceManager lazyReferenceManager)
 	{
@@ -49,6 +54,30 @@ public class LazyReferenceManagerMonitor implements LazyReferenceManagerMonitorM
 		return this.lazyRefCount - this.lazyRefLoadedCount;
 	}
 		
+	@Override
+	public long getCycleCount()
+	{
+		return this.cycleCount;
+	}
+	
+	@Override
+	public long getLastCycleScannedCount()
+	{
+		return this.lastCycleScannedCount;
+	}
+	
+	@Override
+	public long getLastCycleClearedCount()
+	{
+		return this.lastCycleClearedCount;
+	}
+	
+	@Override
+	public long getLastCycleDurationNanos()
+	{
+		return this.lastCycleDurationNs;
+	}
+		
 	@Override
 	public void unloadAll()
 	{
@@ -66,4 +95,12 @@ public class LazyReferenceManagerMonitor implements LazyReferenceManagerMonitorM
 		this.lazyRefCount = lazyReferences;
 		this.lazyRefLoadedCount = loadedLazyReferences;
 	}
+	
+	public void updateCycle(final long scannedCount, final long clearedCount, final long durationNs)
+	{
+		this.cycleCount++;
+		this.lastCycleScannedCount = scannedCount;
+		this.lastCycleClearedCount = clearedCount;
+		this.lastCycleDurationNs   = durationNs;
+	}
 }
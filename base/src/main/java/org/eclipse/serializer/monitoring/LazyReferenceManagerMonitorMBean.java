@@ -41,6 +41,30 @@ public interface LazyReferenceManagerMonitorMBean
 	@MonitorDescription("The number of registered, loaded lazy references.")
 	int getLoadedLazyReferencesCount();
 	
+	/**
+	 * @return the number of cleanup cycles performed so far.
+	 */
+	@MonitorDescription("The number of cleanup cycles performed so far.")
+	long getCycleCount();
+
+	/**
+	 * @return the number of lazy references checked in the last cleanup cycle.
+	 */
+	@MonitorDescription("The number of lazy references checked in the last cleanup cycle.")
+	long getLastCycleScannedCount();
+
+	/**
+	 * @return the number of lazy references cleared in the last cleanup cycle.
+	 */
+	@MonitorDescription("The number of lazy references cleared in the last cleanup cycle.")
+	long getLastCycleClearedCount();
+
+	/**
+	 * @return the duration of the last cleanup cycle in nanoseconds.
+	 */
+	@MonitorDescription("The duration of the last cleanup cycle in nanoseconds.")
+	long getLastCycleDurationNanos();
+	
 	/**
 	 * try to unload all lazy references.
 	 */
@@ -19,6 +19,11 @@ import static org.eclipse.serializer.chars.XChars.systemString;
 import static org.eclipse.serializer.util.X.mayNull;
 import static org.eclipse.serializer.util.logging.Logging.LazyArg;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
 import org.eclipse.serializer.chars.VarString;
 import org.eclipse.serializer.chars.XChars;
 import org.eclipse.serializer.memory.MemoryStatistics;
@@ -136,6 +141,19 @@ public interface Lazy<T> extends UsageMarkable, Referencing<T>
 	 */
 	public long lastTouched();
 	
+	/**
+	 * Returns the persisted length in bytes of the entities that have been read the last time the subject has been
+	 * loaded, see {@link ObjectSwizzling#getObject(long, LongConsumer)}, or its share of a batch load, see
+	 * {@link ObjectSwizzling#getObjects(long[], LongConsumer[])}. This is an estimate of the memory retained by the
+	 * loaded subject, e.g. to be used by size-aware {@link LazyEvictionPolicy}s.
+	 * 
+	 * @return the loaded length in bytes, 0 if unknown.
+	 */
+	public default long loadedLength()
+	{
+		return 0;
+	}
+	
 	
 
 	/**
@@ -224,6 +242,22 @@ public interface Lazy<T> extends UsageMarkable, Referencing<T>
 		return reference.isLoaded();
 	}
 
+	/**
+	 * Loads the subjects of all passed references that are not loaded, yet. As opposed to calling {@link Lazy#get()}
+	 * on each of them, all object ids sharing the same loader are retrieved in one pass via
+	 * {@link ObjectSwizzling#getObjects(long...)}, i.e. by one read and one build for all of them.
+	 * <p>
+	 * Delegates to {@link LazyReferenceManager#loadAll(Iterable)} of the current {@link LazyReferenceManager}.
+	 * 
+	 * @param lazyReferences the references to be loaded. <code>null</code> elements are ignored.
+	 * 
+	 * @return the number of references whose subject has been loaded by this call.
+	 */
+	public static int prefetch(final Iterable<? extends Lazy<?>> lazyReferences)
+	{
+		return LazyReferenceManager.get().loadAll(lazyReferences);
+	}
+
 	/**
 	 * Pseudo-constructor method to create a new lazy reference wrapping a <code>subject</code>.
 	 * 
@@ -318,6 +352,12 @@ public interface Lazy<T> extends UsageMarkable, Referencing<T>
 		 * there is no "hard" contract on what the loader instance should specifically be.
 		 */
 		private transient ObjectSwizzling loader;
+		
+		/**
+		 * The persisted length in bytes of the entities read when the subject has been loaded the last time.
+		 * 0 if the subject has never been loaded by this reference or the loader does not report the length.
+		 */
+		private transient int loadedLength;
 
 
 
@@ -369,6 +409,17 @@ public interface Lazy<T> extends UsageMarkable, Referencing<T>
 			return this.lastTouched;
 		}
 		
+		@Override
+		public final long loadedLength()
+		{
+			return this.loadedLength;
+		}
+		
+		private void setLoadedLength(final long loadedLength)
+		{
+			this.loadedLength = (int)Math.min(loadedLength, Integer.MAX_VALUE);
+		}
+		
 		@Override
 		public final synchronized boolean isStored()
 		{
@@ -536,7 +587,7 @@ public interface Lazy<T> extends UsageMarkable, Referencing<T>
 			logger.debug("Lazy loading {}", this.objectId);
 			
 			// this context doesn't have to do anything on an exception inside the get(), just pass it along
-			this.subject = (T)this.loader.getObject(this.objectId);
+			this.subject = (T)this.loader.getObject(this.objectId, this::setLoadedLength);
 			
 			logger.debug(
 				"Lazy loaded {}: {}",
@@ -545,6 +596,85 @@ public interface Lazy<T> extends UsageMarkable, Referencing<T>
 			);
 		}
 
+		/**
+		 * Loads the subjects of all passed unloaded references in one pass per loader, see {@link Lazy#prefetch(Iterable)}.
+		 * The references' monitors are not held while loading, only while reading their state and linking the
+		 * loaded subject, so a concurrent {@link #get()} or {@link #clear()} is never blocked by a batch.
+		 * 
+		 * @param lazyReferences the references to be loaded.
+		 * 
+		 * @return the number of references whose subject has been loaded.
+		 */
+		static int loadAll(final Iterable<? extends Lazy<?>> lazyReferences)
+		{
+			final Map<ObjectSwizzling, ArrayList<Lazy.Default<?>>> batches = new IdentityHashMap<>();
+			for(final Lazy<?> lazyReference : lazyReferences)
+			{
+				if(!(lazyReference instanceof Lazy.Default))
+				{
+					continue;
+				}
+				
+				final Lazy.Default<?> reference = (Lazy.Default<?>)lazyReference;
+				final ObjectSwizzling loader    = reference.requiredLoader();
+				if(loader != null)
+				{
+					batches.computeIfAbsent(loader, l -> new ArrayList<>()).add(reference);
+				}
+			}
+			
+			int loadedCount = 0;
+			for(final Map.Entry<ObjectSwizzling, ArrayList<Lazy.Default<?>>> batch : batches.entrySet())
+			{
+				final ArrayList<Lazy.Default<?>> references    = batch.getValue();
+				final long[]                     objectIds     = new long[references.size()];
+				final long[]                     loadedLengths = new long[objectIds.length];
+				final LongConsumer[]             acceptors     = new LongConsumer[objectIds.length];
+				for(int i = 0; i < objectIds.length; i++)
+				{
+					final int index = i;
+					objectIds[i] = references.get(i).objectId;
+					acceptors[i] = loadedLength -> loadedLengths[index] = loadedLength;
+				}
+				
+				logger.debug("Lazy loading {} references", objectIds.length);
+				final Object[] subjects = batch.getKey().getObjects(objectIds, acceptors);
+				for(int i = 0; i < objectIds.length; i++)
+				{
+					if(references.get(i).linkLoaded(objectIds[i], subjects[i], loadedLengths[i]))
+					{
+						loadedCount++;
+					}
+				}
+			}
+			
+			return loadedCount;
+		}
+		
+		private synchronized ObjectSwizzling requiredLoader()
+		{
+			return this.subject == null && Swizzling.isProperId(this.objectId)
+				? this.loader
+				: null
+			;
+		}
+		
+		@SuppressWarnings("unchecked") // safety of cast guaranteed by logic
+		private synchronized boolean linkLoaded(final long objectId, final Object subject, final long loadedLength)
+		{
+			// the reference might have been loaded or relinked concurrently in the meantime
+			if(this.subject != null || this.objectId != objectId)
+			{
+				return false;
+			}
+			
+			this.subject = (T)subject;
+			this.setLoadedLength(loadedLength);
+			this.touch();
+			
+			return subject != null;
+		}
+
 		final synchronized boolean clearIfTimedout(final long millisecondThreshold)
 		{
 			logger.trace(
@@ -0,0 +1,552 @@
+package org.eclipse.serializer.reference;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.Arrays;
+
+import org.eclipse.serializer.memory.MemoryStatistics;
+import org.eclipse.serializer.memory.MemoryStatisticsProvider;
+
+
+/**
+ * A {@link Lazy.Checker} that decides which loaded references to clear under memory pressure by ranking them,
+ * as opposed to the age penalty of {@link Lazy.Checker.Default}.
+ * <p>
+ * Like {@link Lazy.Checker.Default}, references are never cleared within a grace time after they have been touched
+ * and always cleared after the timeout. In between, if the used memory exceeds the memory quota of the committed
+ * memory, every loaded reference gets a score by the policy and the ones with the lowest scores are cleared.
+ * The fraction to clear is the fraction by which the used memory exceeds the limit. The score threshold for that
+ * fraction is derived from a sample of the scores of the previous check cycle, so the first cycle under memory
+ * pressure only clears by timeout.
+ * <p>
+ * The policies are:
+ * <ul>
+ * <li>{@link #Lru(long, double)}: approximate least recently used, the score is {@link Lazy#lastTouched()}.</li>
+ * <li>{@link #Frequency(long, double, int)}: W-TinyLFU-style, the score is the access frequency estimated by a
+ * count-min sketch of 4 bit counters that are periodically halved, with the recency as a tie-breaker.</li>
+ * <li>{@link #SizeAware(long, double, int)}: the frequency score divided by the estimated retained memory
+ * ({@link Lazy#loadedLength()}), so large, cold subgraphs are cleared before small, hot ones.</li>
+ * </ul>
+ * Accesses are not intercepted. Instead, a reference counts as accessed once per check cycle if it has been
+ * touched since the previous cycle, so frequencies are measured in check intervals.
+ * <p>
+ * Instances are not thread-safe and must only be used by one {@link LazyReferenceManager}.
+ */
+public interface LazyEvictionPolicy extends Lazy.Checker, Lazy.ClearingEvaluator
+{
+	public static LazyEvictionPolicy Lru()
+	{
+		return Lru(Lazy.Checker.Defaults.defaultTimeout(), Lazy.Checker.Defaults.defaultMemoryQuota());
+	}
+
+	public static LazyEvictionPolicy Lru(final long millisecondTimeout, final double memoryQuota)
+	{
+		return new Lru(
+			Lazy.Checker.validateTimeout(millisecondTimeout),
+			Lazy.Checker.validateMemoryQuota(memoryQuota)
+		);
+	}
+
+	public static LazyEvictionPolicy Frequency()
+	{
+		return Frequency(
+			Lazy.Checker.Defaults.defaultTimeout()    ,
+			Lazy.Checker.Defaults.defaultMemoryQuota(),
+			FrequencySketch.DEFAULT_EXPECTED_COUNT
+		);
+	}
+
+	public static LazyEvictionPolicy Frequency(
+		final long   millisecondTimeout    ,
+		final double memoryQuota           ,
+		final int    expectedReferenceCount
+	)
+	{
+		return new Frequency(
+			Lazy.Checker.validateTimeout(millisecondTimeout),
+			Lazy.Checker.validateMemoryQuota(memoryQuota)   ,
+			new FrequencySketch(expectedReferenceCount)
+		);
+	}
+
+	public static LazyEvictionPolicy SizeAware()
+	{
+		return SizeAware(
+			Lazy.Checker.Defaults.defaultTimeout()    ,
+			Lazy.Checker.Defaults.defaultMemoryQuota(),
+			FrequencySketch.DEFAULT_EXPECTED_COUNT
+		);
+	}
+
+	public static LazyEvictionPolicy SizeAware(
+		final long   millisecondTimeout    ,
+		final double memoryQuota           ,
+		final int    expectedReferenceCount
+	)
+	{
+		return new SizeAware(
+			Lazy.Checker.validateTimeout(millisecondTimeout),
+			Lazy.Checker.validateMemoryQuota(memoryQuota)   ,
+			new FrequencySketch(expectedReferenceCount)
+		);
+	}
+
+
+
+	public abstract class Abstract implements LazyEvictionPolicy
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		static final int SAMPLE_SIZE = 1024;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final long   timeoutMs  ;
+		private final long   graceTimeMs;
+		private final double memoryQuota;
+		private final long   epochMs    ;
+
+		// scores of the current cycle (reservoir sample) and the threshold derived from the previous cycle's sample
+		private double[] samples             = new double[SAMPLE_SIZE];
+		private double[] previousSamples     = new double[SAMPLE_SIZE];
+		private int      previousSampleCount;
+		private long     sampledCount       ;
+		private long     randomState         = 0x9E3779B97F4A7C15L;
+
+		private long   cycleStartMs             ;
+		private long   previousCycleStartMs     ;
+		private long   cycleTimeoutThresholdMs  ;
+		private long   cycleGraceTimeThresholdMs;
+		private double cycleScoreThreshold      ;
+		private double cycleEvictionFraction    ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Abstract(final long timeoutMs, final double memoryQuota)
+		{
+			super();
+			this.timeoutMs   = timeoutMs  ;
+			this.graceTimeMs = Math.min(Lazy.Checker.Default.graceTimeMinimum(), timeoutMs / 2);
+			this.memoryQuota = memoryQuota;
+			this.epochMs     = System.currentTimeMillis();
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		/**
+		 * Returns the score of a loaded, clearable reference. References with lower scores are cleared first.
+		 *
+		 * @param lazyReference the reference to score.
+		 * @param lastTouched the reference's {@link Lazy#lastTouched()}.
+		 * @return the score.
+		 */
+		protected abstract double score(Lazy<?> lazyReference, long lastTouched);
+
+		/**
+		 * Called for every loaded reference that is considered for clearing, before it is scored.
+		 *
+		 * @param lazyReference the reference.
+		 * @param accessed whether the reference has been touched since the previous check cycle.
+		 */
+		protected void record(final Lazy<?> lazyReference, final boolean accessed)
+		{
+			// no-op by default
+		}
+
+		protected final long cycleStartMs()
+		{
+			return this.cycleStartMs;
+		}
+
+		/**
+		 * @return the fraction of the loaded references to be cleared in the current cycle, 0.0 without memory pressure.
+		 */
+		public final double cycleEvictionFraction()
+		{
+			return this.cycleEvictionFraction;
+		}
+
+		@Override
+		public void beginCheckCycle()
+		{
+			this.previousCycleStartMs      = this.cycleStartMs;
+			this.cycleStartMs              = System.currentTimeMillis();
+			this.cycleTimeoutThresholdMs   = this.cycleStartMs - this.timeoutMs;
+			this.cycleGraceTimeThresholdMs = this.cycleStartMs - this.graceTimeMs;
+
+			// the sample of the last cycle defines the threshold for this one
+			final double[] samples = this.previousSamples;
+			this.previousSamples     = this.samples;
+			this.previousSampleCount = (int)Math.min(this.sampledCount, SAMPLE_SIZE);
+			this.samples             = samples;
+			this.sampledCount        = 0;
+
+			this.cycleEvictionFraction = this.evictionFraction(MemoryStatisticsProvider.get().heapMemoryUsage());
+			this.cycleScoreThreshold   = this.scoreThreshold(this.cycleEvictionFraction);
+		}
+
+		private double evictionFraction(final MemoryStatistics memoryStatistics)
+		{
+			if(this.memoryQuota == Lazy.Checker.Default.memoryQuotaNoCheck())
+			{
+				return 0.0;
+			}
+
+			// committed heap is guaranteed. Max might be unsupported or not providable by the OS.
+			final double limit = memoryStatistics.committed() * this.memoryQuota;
+			final long   used  = memoryStatistics.used();
+
+			return used > limit
+				? (used - limit) / used
+				: 0.0
+			;
+		}
+
+		private double scoreThreshold(final double evictionFraction)
+		{
+			if(evictionFraction <= 0.0 || this.previousSampleCount == 0)
+			{
+				return Double.NEGATIVE_INFINITY;
+			}
+
+			final double[] sorted = Arrays.copyOf(this.previousSamples, this.previousSampleCount);
+			Arrays.sort(sorted);
+
+			// everything strictly below the returned score is cleared
+			final int index = (int)Math.ceil(evictionFraction * sorted.length);
+			return index >= sorted.length
+				? Double.POSITIVE_INFINITY
+				: sorted[index]
+			;
+		}
+
+		private void sample(final double score)
+		{
+			final long count = this.sampledCount++;
+			if(count < SAMPLE_SIZE)
+			{
+				this.samples[(int)count] = score;
+				return;
+			}
+
+			// reservoir sampling: replace a random sample with probability SAMPLE_SIZE / (count + 1)
+			final long slot = Long.remainderUnsigned(this.nextRandom(), count + 1);
+			if(slot < SAMPLE_SIZE)
+			{
+				this.samples[(int)slot] = score;
+			}
+		}
+
+		private long nextRandom()
+		{
+			// xorshift64, sufficient for sampling and cheaper than a shared Random
+			long x = this.randomState;
+			x ^= x << 13;
+			x ^= x >>> 7;
+			x ^= x << 17;
+			return this.randomState = x;
+		}
+
+		@Override
+		public final boolean check(final Lazy<?> lazyReference)
+		{
+			return lazyReference.clear(this);
+		}
+
+		@Override
+		public final boolean needsClearing(final Lazy<?> lazyReference)
+		{
+			final long lastTouched = lazyReference.lastTouched();
+			this.record(lazyReference, lastTouched >= this.previousCycleStartMs);
+
+			// simple time-based checks: never clear inside grace time, always clear beyond timeout.
+			if(lastTouched >= this.cycleGraceTimeThresholdMs)
+			{
+				return false;
+			}
+			if(lastTouched < this.cycleTimeoutThresholdMs)
+			{
+				return true;
+			}
+
+			final double score = this.score(lazyReference, lastTouched);
+			this.sample(score);
+
+			return score < this.cycleScoreThreshold;
+		}
+
+		/**
+		 * Maps a {@link Lazy#lastTouched()} value to a value in [0.0; 1.0), the higher the more recently touched.
+		 * The value does not change over time, so scores stay comparable to the previous cycle's threshold.
+		 *
+		 * @param lastTouched a {@link Lazy#lastTouched()} value.
+		 * @return the recency.
+		 */
+		protected final double recency(final long lastTouched)
+		{
+			final long sinceEpochMs = Math.max(lastTouched - this.epochMs, 0);
+
+			return 1.0 - 1.0 / (1.0 + sinceEpochMs / 1000.0);
+		}
+
+	}
+
+	public final class Lru extends Abstract
+	{
+		Lru(final long timeoutMs, final double memoryQuota)
+		{
+			super(timeoutMs, memoryQuota);
+		}
+
+		@Override
+		protected double score(final Lazy<?> lazyReference, final long lastTouched)
+		{
+			return lastTouched;
+		}
+
+	}
+
+	public class Frequency extends Abstract
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		final FrequencySketch sketch;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Frequency(final long timeoutMs, final double memoryQuota, final FrequencySketch sketch)
+		{
+			super(timeoutMs, memoryQuota);
+			this.sketch = sketch;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		/**
+		 * @param lazyReference a reference.
+		 * @return the estimated number of check intervals in which the reference has been accessed, at most 15.
+		 */
+		public final int frequency(final Lazy<?> lazyReference)
+		{
+			return this.sketch.frequency(System.identityHashCode(lazyReference));
+		}
+
+		@Override
+		protected final void record(final Lazy<?> lazyReference, final boolean accessed)
+		{
+			if(accessed)
+			{
+				this.sketch.increment(System.identityHashCode(lazyReference));
+			}
+		}
+
+		@Override
+		protected double score(final Lazy<?> lazyReference, final long lastTouched)
+		{
+			// frequency first, recency as the tie-breaker between equally frequent references
+			return this.frequency(lazyReference) + this.recency(lastTouched);
+		}
+
+	}
+
+	public final class SizeAware extends Frequency
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		// running average of the known loaded lengths, used for references with unknown length
+		private double averageLength = 1024.0;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		SizeAware(final long timeoutMs, final double memoryQuota, final FrequencySketch sketch)
+		{
+			super(timeoutMs, memoryQuota, sketch);
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		protected double score(final Lazy<?> lazyReference, final long lastTouched)
+		{
+			long length = lazyReference.loadedLength();
+			if(length > 0)
+			{
+				this.averageLength += (length - this.averageLength) / 1024.0;
+			}
+			else
+			{
+				length = (long)this.averageLength;
+			}
+
+			// frequency (plus recency) per retained byte, so large, cold subgraphs are cleared first.
+			return (1 + super.score(lazyReference, lastTouched)) / Math.max(length, 1);
+		}
+
+	}
+
+	/**
+	 * Count-min sketch with 4 bit counters, as used by TinyLFU: four counters per key in a table of
+	 * {@code long}s holding 16 counters each. All counters are halved after a number of increments
+	 * proportional to the table size, so old accesses fade out.
+	 */
+	public final class FrequencySketch
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		static final int DEFAULT_EXPECTED_COUNT = 1 << 16;
+
+		private static final long[] SEEDS =
+		{
+			0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+		};
+
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private static final int MAXIMUM_TABLE_LENGTH = 1 << 26;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final long[] table     ;
+		private final int    tableMask ;
+		private final int    sampleSize;
+		private       int    size      ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		FrequencySketch(final int expectedCount)
+		{
+			super();
+			if(expectedCount <= 0)
+			{
+				throw new IllegalArgumentException("Expected count must be positive: " + expectedCount);
+			}
+			final int length = Math.min(Integer.highestOneBit(Math.max(expectedCount, 64) * 2 - 1), MAXIMUM_TABLE_LENGTH);
+			this.table      = new long[length];
+			this.tableMask  = length - 1;
+			this.sampleSize = 10 * length;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		private static int spread(final int hash, final int row)
+		{
+			long h = (hash + SEEDS[row]) * SEEDS[row];
+			h += h >>> 32;
+			return (int)h;
+		}
+
+		private int index(final int spread)
+		{
+			return spread >>> 4 & this.tableMask;
+		}
+
+		private static int shift(final int spread)
+		{
+			// one of the 16 counters in a long
+			return (spread & 15) << 2;
+		}
+
+		public final int frequency(final int hash)
+		{
+			int frequency = Integer.MAX_VALUE;
+			for(int row = 0; row < SEEDS.length; row++)
+			{
+				final int spread = spread(hash, row);
+				frequency = Math.min(frequency, (int)(this.table[this.index(spread)] >>> shift(spread) & 15L));
+			}
+			return frequency;
+		}
+
+		public final void increment(final int hash)
+		{
+			boolean incremented = false;
+			for(int row = 0; row < SEEDS.length; row++)
+			{
+				final int spread = spread(hash, row);
+				final int index  = this.index(spread);
+				final int shift  = shift(spread);
+				if((this.table[index] >>> shift & 15L) != 15L)
+				{
+					this.table[index] += 1L << shift;
+					incremented = true;
+				}
+			}
+
+			if(incremented && ++this.size >= this.sampleSize)
+			{
+				this.reset();
+			}
+		}
+
+		private void reset()
+		{
+			for(int i = 0; i < this.table.length; i++)
+			{
+				this.table[i] = this.table[i] >>> 1 & RESET_MASK;
+			}
+			this.size /= 2;
+		}
+
+	}
+
+}
@@ -14,10 +14,13 @@ package org.eclipse.serializer.reference;
  * #L%
  */
 
+import static org.eclipse.serializer.util.X.notNull;
+
 import java.lang.ref.WeakReference;
 import java.util.function.Consumer;
 
 import org.eclipse.serializer.memory.MemoryStatistics;
+import org.eclipse.serializer.memory.MemoryStatisticsProvider;
 import org.eclipse.serializer.monitoring.LazyReferenceManagerMonitor;
 import org.eclipse.serializer.monitoring.MonitoringManager;
 import org.eclipse.serializer.time.XTime;
@@ -60,6 +63,19 @@ public interface LazyReferenceManager
 
 	public <P extends Consumer<? super LazyReferenceManager.Controller>> P iterateControllers(P iterator);
 
+	/**
+	 * Loads the subjects of all passed unloaded references in one pass per loader instead of one
+	 * load per reference. See {@link Lazy#prefetch(Iterable)}.
+	 * 
+	 * @param lazyReferences the references to be loaded.
+	 * 
+	 * @return the number of references whose subject has been loaded.
+	 */
+	public default int loadAll(final Iterable<? extends Lazy<?>> lazyReferences)
+	{
+		return Lazy.Default.loadAll(lazyReferences);
+	}
+
 	
 
 	public static LazyReferenceManager set(final LazyReferenceManager referenceManager)
@@ -73,6 +89,55 @@ public interface LazyReferenceManager
 	}
 
 
+	/**
+	 * Creates a {@link Sharded} manager with the default check interval, time budget and shard count.
+	 * 
+	 * @param checker the checker to check every reference with.
+	 * @return a new {@link Sharded} manager.
+	 */
+	public static LazyReferenceManager.Sharded Sharded(final Lazy.Checker checker)
+	{
+		return Sharded(
+			checker                                            ,
+			_longReference.New(Default.DEFAULT_CHECK_INTERVAL_MS),
+			_longReference.New(Default.DEFAULT_TIME_BUDGET_NS)   ,
+			MonitoringManager.PlatformDependent()              ,
+			Sharded.defaultShardCount()
+		);
+	}
+	
+	/**
+	 * Creates a {@link Sharded} manager.
+	 * 
+	 * @param checker the checker to check every reference with.
+	 * @param milliTimeCheckIntervalProvider the interval between two cleanup cycles in milliseconds.
+	 * @param nanoTimeBudgetProvider the base time budget per cleanup cycle in nanoseconds.
+	 * @param monitoringManager the monitoring manager to register the monitor at.
+	 * @param shardCount the number of registration queues, must be a power of 2.
+	 * @return a new {@link Sharded} manager.
+	 */
+	public static LazyReferenceManager.Sharded Sharded(
+		final Lazy.Checker      checker                       ,
+		final _longReference    milliTimeCheckIntervalProvider,
+		final _longReference    nanoTimeBudgetProvider        ,
+		final MonitoringManager monitoringManager             ,
+		final int               shardCount
+	)
+	{
+		if(shardCount <= 0 || Integer.bitCount(shardCount) != 1)
+		{
+			throw new IllegalArgumentException("Shard count must be a power of 2: " + shardCount);
+		}
+		
+		return new Sharded(
+			notNull(checker)                       ,
+			notNull(milliTimeCheckIntervalProvider),
+			notNull(nanoTimeBudgetProvider)        ,
+			notNull(monitoringManager)             ,
+			shardCount
+		);
+	}
+
 	public final class Static
 	{
 		static LazyReferenceManager globalReferenceManager = LazyReferenceManager.New();
@@ -171,19 +236,20 @@ public interface LazyReferenceManager
 		);
 	}
 
-	public final class Default implements LazyReferenceManager
+	/**
+	 * Common logic of the {@link LazyReferenceManager} implementations: the {@link Controller} chain,
+	 * the running state, the cleanup thread and the monitoring. Registering, iterating and checking the
+	 * references is left to the implementations.
+	 */
+	public abstract class Abstract implements LazyReferenceManager
 	{
 		///////////////////////////////////////////////////////////////////////////
 		// constants //
 		//////////////
 
-		final static Logger logger = Logging.getLogger(Default.class);
+		final static Logger logger = Logging.getLogger(LazyReferenceManager.class);
 		
-		private static final Clearer CLEARER = new Clearer();
-
-		// defaults mean to check every second with a budget of 1 MS (0.1% thread activity)
-		        static final long    DEFAULT_CHECK_INTERVAL_MS = 1_000        ;
-		        static final long    DEFAULT_TIME_BUDGET_NS    =     1_000_000;
+		static final Clearer CLEARER = new Clearer();
 
 
 
@@ -191,26 +257,23 @@ public interface LazyReferenceManager
 		// instance fields //
 		////////////////////
 
-		private final Lazy.Checker checker                            ;
+		final            Lazy.Checker   checker                       ;
 		private final    _longReference millitimeCheckIntervalProvider;
 		private final    _longReference nanoTimeBudgetProvider        ;
-		private final    Entry          head   = new Entry(null)      ;
-		private          Entry          tail   = this.head            ;
-		private          Entry          cursor = this.head            ; // current "last" entry for checking
 		
 		private boolean         running        ;
 		private ControllerEntry headController ;
 		private long            controllerCount;
 		
 		private final MonitoringManager           monitorManager;
-		private final LazyReferenceManagerMonitor monitor       ;
+		final         LazyReferenceManagerMonitor monitor       ;
 
 		
 		///////////////////////////////////////////////////////////////////////////
 		// constructors //
 		/////////////////
 
-		Default(
+		Abstract(
 			final Lazy.Checker checker                 ,
 			final _longReference checkIntervalProvider ,
 			final _longReference nanoTimeBudgetProvider,
@@ -325,148 +388,16 @@ public interface LazyReferenceManager
 		// methods //
 		////////////
 		
-
-		final void internalCleanUp(final long nanoTimeBudget, final Lazy.Checker checker)
-		{
-			/* (22.06.2016 TM)NOTE: full clear does not clear fully
-			 * productive use of the full clear call clears only like 6 of 300 references on a regular basis.
-			 * Sometimes all, but most of the time not.
-			 * Even though the application is single threaded as far as lazy reference creation is concerned
-			 * (simple "main test" class execution)
-			 * 
-			 * (06.02.2020 TM)NOTE: since then, the LRM has been massively overhauled.
-			 * However, the basic logic of entry iteration and the "Clearer" checker remained unchanged.
-			 * So the age old note might still be relevant.
-			 */
-			
-			final long timeBudgetBound = XTime.calculateNanoTimeBudgetBound(nanoTimeBudget);
-
-			final Entry currentTail;
-
-			/*
-			 * This local synchronized block is crucial to prevent deadlocks!
-			 * The reference manager thread may never keep a lock on the manager instance and then require
-			 * a lock on a lazy reference in order to complete its cleanup cycle.
-			 * Consider the following scenario:
-			 * - application thread locks lazy instance #1 to load its content.
-			 * - manager thread locks the manager instance for the whole check cycle, starts checking.
-			 * - loading of the LI#1 content causes LI#2 to be created and registered at the manager
-			 * - manager thread wants to check LI#1 for timeout.
-			 * - So app.thread holds LI#1 lock, requires mgr.lock, mgr.thread holds mgr.lock, requires LI#1 lock
-			 * => deadlock (happened in productive use, although very rare)
-			 * The solution to prevent this is:
-			 * The lock on the manager instance is only held for a very short time without requiring any additional lock
-			 * internally to leave the lock again, only to consistently query the current tail entry.
-			 * The rest of the algorithm does not interfere with any other thread, so it can be done without lock.
-			 *
-			 * Of course, it is important that no other method calling this method keeps the mgr.lock for the whole
-			 * check cycle, otherwise the deadlock can still occur (i.e. no synchronized method!).
-			 * Happened in productive use after fixing this method :(.
-			 */
-			synchronized(this)
-			{
-				currentTail = this.tail;
-			}
-
-			Entry last, e = (last = this.cursor).nextLazyManagerEntry;
-
-			// special case check initially, there is only the head with no next entry
-			if(e == null)
-			{
-				return;
-			}
-		
-			checker.beginCheckCycle();
-
-			cleanUp:
-			do // do at least one check, no matter what
-			{
-				// keep strong reference to avoid intermediate garbage collection
-				final Lazy<?> ref = e.get();
-
-				// check for orphan entry
-				if(ref != null)
-				{
-					// leave checking logic completely to checker (also for lock atomicity reasons)
-					checker.check(ref);
-				}
-				else if(e != currentTail)
-				{
-					// remove orphan entry (never remove current tail entry for list consistency reasons)
-					e = last.nextLazyManagerEntry = e.nextLazyManagerEntry;
-					continue;
-				}
-
-				if(e == currentTail)
-				{
-					/*
-					 * if the iteration reached the current tail entry, the cursor gets reset (outside the loop)
-					 * and the iteration gets aborted. Rationale behind that:
-					 * It might be that there have been added new entry to the chain while the iteration was
-					 * executed. However, these entries are newly created, hence will hardly timeout right away.
-					 * The oldest entries near the head are much more likely for that, so it is efficient to restart.
-					 */
-					last = this.head;
-					break cleanUp;
-				}
-
-				e = (last = e).nextLazyManagerEntry;
-			}
-			while(System.nanoTime() < timeBudgetBound);
-
-			// remember last checked entry for next cleanup run. Cursor field is strictly only used by one thread.
-			this.cursor = last;
-
-			checker.endCheckCycle();
-			
-			this.updateStatistics();
-		}
-		
-		private void updateStatistics()
-		{
-			/*
-			 * This method is intentionally not synchronized.
-			 * locking the LazyReferenceManager instance here may
-			 * cause deadlocks. See comments in internalCleanUp above.
-			 */
-			
-			int lazyReferences       = 0;
-			int loadedLazyReferences = 0;
-			
-			for(Entry e = this.head; (e = e.nextLazyManagerEntry) != null;)
-			{
-				lazyReferences++;
-				final Lazy<?> ref = e.get();
-				if(ref != null && ref.isLoaded())
-				{
-					loadedLazyReferences++;
-				}
-			}
-			
-			this.monitor.update(lazyReferences, loadedLazyReferences);
-		}
-
-		final void cleanUpBudgeted()
-		{
-			// this method may NOT (and needs not to) be synchronized (see comment in internalCleanUp).
-
-			// perform actual cleanup for the dynamically specified nano time budget
-			this.cleanUp(this.nanoTimeBudgetProvider.get());
-		}
-
-
-
-		///////////////////////////////////////////////////////////////////////////
-		// methods //
-		////////////
-
-		@Override
-		public synchronized void register(final Lazy<?> lazyReference)
-		{
-			// uniqueness of references is guaranteed by calling this method only exactely once per reference instance
-			this.tail = this.tail.nextLazyManagerEntry = new Entry(lazyReference);
-		}
-		
+		/**
+		 * Checks the registered references via the passed {@link Lazy.Checker} within the passed time budget.
+		 * <p>
+		 * Implementations may never keep a lock on the manager instance while checking references,
+		 * see the comment in {@link Default#internalCleanUp(long, Lazy.Checker)}.
+		 *
+		 * @param nanoTimeBudget the time budget in nanoseconds.
+		 * @param checker the checker to check every reference with.
+		 */
+		abstract void internalCleanUp(long nanoTimeBudget, Lazy.Checker checker);
 
 		@Override
 		public synchronized LazyReferenceManager registerAll(final LazyReferenceManager other)
@@ -520,7 +451,11 @@ public interface LazyReferenceManager
 			if(!this.running && this.mayRun())
 			{
 				this.running = true;
-				new LazyReferenceCleanupThread(new WeakReference<>(this), this.millitimeCheckIntervalProvider).start();
+				new LazyReferenceCleanupThread(
+					new WeakReference<>(this)          ,
+					this.millitimeCheckIntervalProvider,
+					this.nanoTimeBudgetProvider
+				).start();
 			}
 			
 			return this;
@@ -639,35 +574,24 @@ public interface LazyReferenceManager
 			return iterator;
 		}
 
-		@Override
-		public synchronized <P extends Consumer<? super Lazy<?>>> P iterate(final P iterator)
-		{
-			for(Entry e = this.head; (e = e.nextLazyManagerEntry) != null;)
-			{
-				final Lazy<?> ref = e.get();
-				if(ref != null)
-				{
-					iterator.accept(ref);
-				}
-			}
-			return iterator;
-		}
-
 
 		static final class LazyReferenceCleanupThread extends Thread
 		{
 			// lazy reference for automatic thread termination
-			private final WeakReference<LazyReferenceManager.Default> parent               ;
-			private final _longReference                              checkIntervalProvider;
+			private final WeakReference<? extends LazyReferenceManager> parent                ;
+			private final _longReference                                checkIntervalProvider ;
+			private final _longReference                                nanoTimeBudgetProvider;
 
 			LazyReferenceCleanupThread(
-				final WeakReference<LazyReferenceManager.Default> parent,
-				final _longReference checkIntervalProvider
+				final WeakReference<? extends LazyReferenceManager> parent                ,
+				final _longReference                                checkIntervalProvider ,
+				final _longReference                                nanoTimeBudgetProvider
 			)
 			{
 				super(LazyReferenceManager.class.getSimpleName() + '@' + System.identityHashCode(parent));
-				this.parent                = parent               ;
-				this.checkIntervalProvider = checkIntervalProvider;
+				this.parent                 = parent                ;
+				this.checkIntervalProvider  = checkIntervalProvider ;
+				this.nanoTimeBudgetProvider = nanoTimeBudgetProvider;
 			}
 
 
@@ -676,7 +600,7 @@ public interface LazyReferenceManager
 			{
 				logger.debug("LazyReferenceManager started");
 				
-				LazyReferenceManager.Default parent;
+				LazyReferenceManager parent;
 				while((parent = this.parent.get()) != null)
 				{
 					// sleep for a dynamically specified milli time until the next check
@@ -688,8 +612,8 @@ public interface LazyReferenceManager
 							break;
 						}
 
-						// perform check
-						parent.cleanUpBudgeted();
+						// perform check for the dynamically specified nano time budget
+						parent.cleanUp(this.nanoTimeBudgetProvider.get());
 
 						// very nasty: must clear the reference from the stack in order for the WeakReference to work
 						parent = null;
@@ -732,6 +656,578 @@ public interface LazyReferenceManager
 
 	}
 
+	public final class Default extends Abstract
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		// defaults mean to check every second with a budget of 1 MS (0.1% thread activity)
+		        static final long    DEFAULT_CHECK_INTERVAL_MS = 1_000        ;
+		        static final long    DEFAULT_TIME_BUDGET_NS    =     1_000_000;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final    Entry          head   = new Entry(null)      ;
+		private          Entry          tail   = this.head            ;
+		private          Entry          cursor = this.head            ; // current "last" entry for checking
+
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Default(
+			final Lazy.Checker checker                 ,
+			final _longReference checkIntervalProvider ,
+			final _longReference nanoTimeBudgetProvider,
+			final MonitoringManager monitorManager
+		)
+		{
+			super(checker, checkIntervalProvider, nanoTimeBudgetProvider, monitorManager);
+		}
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+
+		@Override
+		final void internalCleanUp(final long nanoTimeBudget, final Lazy.Checker checker)
+		{
+			/* (22.06.2016 TM)NOTE: full clear does not clear fully
+			 * productive use of the full clear call clears only like 6 of 300 references on a regular basis.
+			 * Sometimes all, but most of the time not.
+			 * Even though the application is single threaded as far as lazy reference creation is concerned
+			 * (simple "main test" class execution)
+			 * 
+			 * (06.02.2020 TM)NOTE: since then, the LRM has been massively overhauled.
+			 * However, the basic logic of entry iteration and the "Clearer" checker remained unchanged.
+			 * So the age old note might still be relevant.
+			 */
+			
+			final long cycleStart = System.nanoTime();
+			final long timeBudgetBound = XTime.calculateNanoTimeBudgetBound(nanoTimeBudget);
+
+			final Entry currentTail;
+
+			/*
+			 * This local synchronized block is crucial to prevent deadlocks!
+			 * The reference manager thread may never keep a lock on the manager instance and then require
+			 * a lock on a lazy reference in order to complete its cleanup cycle.
+			 * Consider the following scenario:
+			 * - application thread locks lazy instance #1 to load its content.
+			 * - manager thread locks the manager instance for the whole check cycle, starts checking.
+			 * - loading of the LI#1 content causes LI#2 to be created and registered at the manager
+			 * - manager thread wants to check LI#1 for timeout.
+			 * - So app.thread holds LI#1 lock, requires mgr.lock, mgr.thread holds mgr.lock, requires LI#1 lock
+			 * => deadlock (happened in productive use, although very rare)
+			 * The solution to prevent this is:
+			 * The lock on the manager instance is only held for a very short time without requiring any additional lock
+			 * internally to leave the lock again, only to consistently query the current tail entry.
+			 * The rest of the algorithm does not interfere with any other thread, so it can be done without lock.
+			 *
+			 * Of course, it is important that no other method calling this method keeps the mgr.lock for the whole
+			 * check cycle, otherwise the deadlock can still occur (i.e. no synchronized method!).
+			 * Happened in productive use after fixing this method :(.
+			 */
+			synchronized(this)
+			{
+				currentTail = this.tail;
+			}
+
+			Entry last, e = (last = this.cursor).nextLazyManagerEntry;
+
+			// special case check initially, there is only the head with no next entry
+			if(e == null)
+			{
+				return;
+			}
+		
+			long scannedCount = 0, clearedCount = 0;
+			checker.beginCheckCycle();
+
+			cleanUp:
+			do // do at least one check, no matter what
+			{
+				// keep strong reference to avoid intermediate garbage collection
+				final Lazy<?> ref = e.get();
+
+				// check for orphan entry
+				if(ref != null)
+				{
+					// leave checking logic completely to checker (also for lock atomicity reasons)
+					scannedCount++;
+					if(checker.check(ref))
+					{
+						clearedCount++;
+					}
+				}
+				else if(e != currentTail)
+				{
+					// remove orphan entry (never remove current tail entry for list consistency reasons)
+					e = last.nextLazyManagerEntry = e.nextLazyManagerEntry;
+					continue;
+				}
+
+				if(e == currentTail)
+				{
+					/*
+					 * if the iteration reached the current tail entry, the cursor gets reset (outside the loop)
+					 * and the iteration gets aborted. Rationale behind that:
+					 * It might be that there have been added new entry to the chain while the iteration was
+					 * executed. However, these entries are newly created, hence will hardly timeout right away.
+					 * The oldest entries near the head are much more likely for that, so it is efficient to restart.
+					 */
+					last = this.head;
+					break cleanUp;
+				}
+
+				e = (last = e).nextLazyManagerEntry;
+			}
+			while(System.nanoTime() < timeBudgetBound);
+
+			// remember last checked entry for next cleanup run. Cursor field is strictly only used by one thread.
+			this.cursor = last;
+
+			checker.endCheckCycle();
+			
+			this.updateStatistics();
+			this.monitor.updateCycle(scannedCount, clearedCount, System.nanoTime() - cycleStart);
+		}
+		
+		private void updateStatistics()
+		{
+			/*
+			 * This method is intentionally not synchronized.
+			 * locking the LazyReferenceManager instance here may
+			 * cause deadlocks. See comments in internalCleanUp above.
+			 */
+			
+			int lazyReferences       = 0;
+			int loadedLazyReferences = 0;
+			
+			for(Entry e = this.head; (e = e.nextLazyManagerEntry) != null;)
+			{
+				lazyReferences++;
+				final Lazy<?> ref = e.get();
+				if(ref != null && ref.isLoaded())
+				{
+					loadedLazyReferences++;
+				}
+			}
+			
+			this.monitor.update(lazyReferences, loadedLazyReferences);
+		}
+
+		@Override
+		public synchronized void register(final Lazy<?> lazyReference)
+		{
+			// uniqueness of references is guaranteed by calling this method only exactely once per reference instance
+			this.tail = this.tail.nextLazyManagerEntry = new Entry(lazyReference);
+		}
+
+		@Override
+		public synchronized <P extends Consumer<? super Lazy<?>>> P iterate(final P iterator)
+		{
+			for(Entry e = this.head; (e = e.nextLazyManagerEntry) != null;)
+			{
+				final Lazy<?> ref = e.get();
+				if(ref != null)
+				{
+					iterator.accept(ref);
+				}
+			}
+			return iterator;
+		}
+
+	}
+
+	/**
+	 * A {@link LazyReferenceManager} for very large numbers of lazy references.
+	 * <p>
+	 * Registering appends to one of several striped queues ("shards"), selected by the registering thread,
+	 * so concurrent registrations hardly contend. Every cleanup cycle drains the queues into generations
+	 * that are only accessed by the (single) checking logic:
+	 * <ul>
+	 * <li><i>old</i>: loaded references not touched within {@link #YOUNG_AGE_MS}. Checked every cycle.</li>
+	 * <li><i>young</i>: loaded references touched within {@link #YOUNG_AGE_MS}. Checked every 2nd cycle.</li>
+	 * <li><i>unloaded</i>: references without a loaded subject. Checked every 8th cycle.</li>
+	 * </ul>
+	 * Every checked reference is moved to the generation matching its state. As a consequence, the clearing of a
+	 * reference that has been loaded or touched in the meantime can be delayed by a few check intervals, which is
+	 * negligible compared to the usual timeouts, while most of the checks of references that cannot be cleared
+	 * anyway are saved.
+	 * <p>
+	 * The time budget per cycle adapts to the heap usage reported by {@link MemoryStatisticsProvider}:
+	 * below {@link #PRESSURE_LOW} the configured budget is used, above it the budget grows linearly up to
+	 * {@link #PRESSURE_BUDGET_FACTOR} times the configured one at full heap usage, and above {@link #PRESSURE_HIGH}
+	 * all generations are checked in every cycle.
+	 * <p>
+	 * The reference counts reported to the {@link LazyReferenceManagerMonitor} are derived from the generation sizes
+	 * and are therefore approximations, as opposed to a full scan per cycle.
+	 */
+	public final class Sharded extends Abstract
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		/**
+		 * References touched within this age are not checked in every cycle. Equal to
+		 * {@link Lazy.Checker.Default#graceTimeMinimum()}, within which the default checker never clears anyway.
+		 */
+		public static final long   YOUNG_AGE_MS           = 1_000;
+		public static final double PRESSURE_LOW           =   0.5;
+		public static final double PRESSURE_HIGH          =   0.9;
+		public static final int    PRESSURE_BUDGET_FACTOR =    10;
+
+		static final int MAXIMUM_DEFAULT_SHARD_COUNT = 64;
+
+		private static final int   GENERATION_OLD      = 0;
+		private static final int   GENERATION_YOUNG    = 1;
+		private static final int   GENERATION_UNLOADED = 2;
+
+		// check intervals in cycles per generation. Must be powers of 2.
+		private static final int[] GENERATION_INTERVALS = {1, 2, 8};
+
+		public static int defaultShardCount()
+		{
+			return Math.min(
+				Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 2 - 1, 1)),
+				MAXIMUM_DEFAULT_SHARD_COUNT
+			);
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final Shard[]      shards     ;
+		private final int          shardMask  ;
+		private final Generation[] generations;
+
+		// guards the generations, i.e. everything beyond the shards, against concurrent cleanups and iterations.
+		private final Object cycleLock = new Object();
+		private       long   cycleNumber;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Sharded(
+			final Lazy.Checker      checker               ,
+			final _longReference    checkIntervalProvider ,
+			final _longReference    nanoTimeBudgetProvider,
+			final MonitoringManager monitorManager        ,
+			final int               shardCount
+		)
+		{
+			super(checker, checkIntervalProvider, nanoTimeBudgetProvider, monitorManager);
+
+			this.shards    = new Shard[shardCount];
+			this.shardMask = shardCount - 1;
+			for(int i = 0; i < shardCount; i++)
+			{
+				this.shards[i] = new Shard();
+			}
+
+			this.generations = new Generation[GENERATION_INTERVALS.length];
+			for(int i = 0; i < this.generations.length; i++)
+			{
+				this.generations[i] = new Generation();
+			}
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		public final int shardCount()
+		{
+			return this.shards.length;
+		}
+
+		@Override
+		public final void register(final Lazy<?> lazyReference)
+		{
+			// uniqueness of references is guaranteed by calling this method only exactely once per reference instance
+			this.shards[(int)Thread.currentThread().getId() & this.shardMask].add(new Entry(lazyReference));
+		}
+
+		@Override
+		public final <P extends Consumer<? super Lazy<?>>> P iterate(final P iterator)
+		{
+			synchronized(this.cycleLock)
+			{
+				this.drainShards();
+				for(final Generation generation : this.generations)
+				{
+					generation.iterate(iterator);
+				}
+			}
+
+			return iterator;
+		}
+
+		private void drainShards()
+		{
+			// new entries are checked in the next cycle to be assigned to their generation
+			for(final Shard shard : this.shards)
+			{
+				shard.drainTo(this.generations[GENERATION_OLD]);
+			}
+		}
+
+		private static double memoryPressure()
+		{
+			final MemoryStatistics memory = MemoryStatisticsProvider.get().heapMemoryUsage();
+			final long limit = memory.max() > 0
+				? memory.max()
+				: memory.committed()
+			;
+
+			return limit > 0
+				? (double)memory.used() / limit
+				: 0.0
+			;
+		}
+
+		static long scaleTimeBudget(final long nanoTimeBudget, final double memoryPressure)
+		{
+			if(memoryPressure <= PRESSURE_LOW || nanoTimeBudget == Long.MAX_VALUE)
+			{
+				return nanoTimeBudget;
+			}
+
+			final double factor = 1.0 + (PRESSURE_BUDGET_FACTOR - 1)
+				* (Math.min(memoryPressure, 1.0) - PRESSURE_LOW) / (1.0 - PRESSURE_LOW)
+			;
+			final double scaled = nanoTimeBudget * factor;
+
+			return scaled >= Long.MAX_VALUE
+				? Long.MAX_VALUE
+				: (long)scaled
+			;
+		}
+
+		private int classify(final Lazy<?> lazyReference, final long youngThresholdMs)
+		{
+			if(lazyReference.peek() == null)
+			{
+				return GENERATION_UNLOADED;
+			}
+
+			return lazyReference.lastTouched() >= youngThresholdMs
+				? GENERATION_YOUNG
+				: GENERATION_OLD
+			;
+		}
+
+		@Override
+		final void internalCleanUp(final long nanoTimeBudget, final Lazy.Checker checker)
+		{
+			// never holds the manager's or a shard's lock while checking, see comment in Default#internalCleanUp.
+			synchronized(this.cycleLock)
+			{
+				final long   cycleStart     = System.nanoTime();
+				final double memoryPressure = memoryPressure();
+				final long   timeBudgetBound = XTime.calculateNanoTimeBudgetBound(
+					scaleTimeBudget(nanoTimeBudget, memoryPressure)
+				);
+				final boolean checkAll = checker == CLEARER || memoryPressure >= PRESSURE_HIGH;
+
+				this.drainShards();
+
+				final long cycle            = this.cycleNumber++;
+				final long youngThresholdMs = System.currentTimeMillis() - YOUNG_AGE_MS;
+
+				// entries moved to a generation during this cycle are not checked again in this cycle.
+				final Entry[] generationTails = new Entry[this.generations.length];
+				for(int g = 0; g < this.generations.length; g++)
+				{
+					generationTails[g] = this.generations[g].tail;
+				}
+
+				long scannedCount = 0, clearedCount = 0;
+				checker.beginCheckCycle();
+
+				for(int g = 0; g < this.generations.length; g++)
+				{
+					final Generation generation = this.generations[g];
+
+					// an unfinished generation continues in the next cycle regardless of its interval
+					if(!checkAll && !generation.isInProgress() && (cycle & GENERATION_INTERVALS[g] - 1) != 0)
+					{
+						continue;
+					}
+
+					if(checker == CLEARER)
+					{
+						// clearing all references must not skip the ones before the cursor
+						generation.cursor = generation.head;
+					}
+
+					final Entry generationTail = generationTails[g];
+					if(generation.cursor == generationTail)
+					{
+						generation.cursor = generation.head;
+						continue;
+					}
+
+					Entry last = generation.cursor, e;
+					while((e = last.nextLazyManagerEntry) != null)
+					{
+						final Lazy<?> ref = e.get();
+						if(ref != null)
+						{
+							scannedCount++;
+							if(checker.check(ref))
+							{
+								clearedCount++;
+							}
+
+							final int target = this.classify(ref, youngThresholdMs);
+							if(target == g)
+							{
+								last = e;
+							}
+							else
+							{
+								generation.remove(last, e);
+								this.generations[target].add(e);
+							}
+						}
+						else
+						{
+							// orphan entry
+							generation.remove(last, e);
+						}
+
+						if(e == generationTail || System.nanoTime() >= timeBudgetBound)
+						{
+							break;
+						}
+					}
+
+					// a generation passed completely starts from its head in the next cycle
+					generation.cursor = e == null || e == generationTail || last.nextLazyManagerEntry == null
+						? generation.head
+						: last
+					;
+					if(System.nanoTime() >= timeBudgetBound)
+					{
+						break;
+					}
+				}
+
+				checker.endCheckCycle();
+
+				final long unloadedCount = this.generations[GENERATION_UNLOADED].size;
+				final long totalCount    = this.generations[GENERATION_OLD].size
+					+ this.generations[GENERATION_YOUNG].size
+					+ unloadedCount
+				;
+				this.monitor.update(
+					(int)Math.min(totalCount                , Integer.MAX_VALUE),
+					(int)Math.min(totalCount - unloadedCount, Integer.MAX_VALUE)
+				);
+				this.monitor.updateCycle(scannedCount, clearedCount, System.nanoTime() - cycleStart);
+			}
+		}
+
+
+		static final class Shard
+		{
+			private final Entry head = new Entry(null);
+			private       Entry tail = this.head      ;
+			private       long  size                  ;
+
+			final synchronized void add(final Entry entry)
+			{
+				this.tail = this.tail.nextLazyManagerEntry = entry;
+				this.size++;
+			}
+
+			final synchronized void drainTo(final Generation generation)
+			{
+				if(this.head.nextLazyManagerEntry == null)
+				{
+					return;
+				}
+
+				generation.addChain(this.head.nextLazyManagerEntry, this.tail, this.size);
+				this.head.nextLazyManagerEntry = null;
+				this.tail = this.head;
+				this.size = 0;
+			}
+
+		}
+
+		// NOT threadsafe! Must be secured by the cycle lock.
+		static final class Generation
+		{
+			final Entry head   = new Entry(null);
+			      Entry tail   = this.head      ;
+			      Entry cursor = this.head      ; // last entry checked in the current, unfinished pass
+			      long  size                    ;
+
+			final boolean isInProgress()
+			{
+				return this.cursor != this.head;
+			}
+
+			final void add(final Entry entry)
+			{
+				entry.nextLazyManagerEntry = null;
+				this.tail = this.tail.nextLazyManagerEntry = entry;
+				this.size++;
+			}
+
+			final void addChain(final Entry first, final Entry last, final long count)
+			{
+				this.tail.nextLazyManagerEntry = first;
+				this.tail = last;
+				this.size += count;
+			}
+
+			final void remove(final Entry predecessor, final Entry entry)
+			{
+				predecessor.nextLazyManagerEntry = entry.nextLazyManagerEntry;
+				if(this.tail == entry)
+				{
+					this.tail = predecessor;
+				}
+				this.size--;
+			}
+
+			final void iterate(final Consumer<? super Lazy<?>> iterator)
+			{
+				for(Entry e = this.head; (e = e.nextLazyManagerEntry) != null;)
+				{
+					final Lazy<?> ref = e.get();
+					if(ref != null)
+					{
+						iterator.accept(ref);
+					}
+				}
+			}
+
+		}
+
+	}
+
 	
 	@FunctionalInterface
 	public interface Controller
@@ -14,6 +14,8 @@ package org.eclipse.serializer.reference;
  * #L%
  */
 
+import java.util.function.LongConsumer;
+
 public interface ObjectSwizzling
 {
 	/**
@@ -26,4 +28,66 @@ public interface ObjectSwizzling
 	 * @return the instance associated with the passed {@literal objectId}.
 	 */
 	public Object getObject(long objectId);
+	
+	/**
+	 * Retrieves the instance associated with the passed {@literal objectId}, see {@link #getObject(long)}, and reports
+	 * the persisted length in bytes of all entities that had to be read to do so to the passed acceptor.
+	 * That length is an estimate of the memory retained by the instance and its non-lazily referenced objects.
+	 * <p>
+	 * Implementations that cannot tell the length do not call the acceptor, which is what the default
+	 * implementation does.
+	 * 
+	 * @param objectId the {@literal objectId} defining which instance to return.
+	 * @param loadedLengthAcceptor the acceptor of the read length in bytes.
+	 * 
+	 * @return the instance associated with the passed {@literal objectId}.
+	 */
+	public default Object getObject(final long objectId, final LongConsumer loadedLengthAcceptor)
+	{
+		return this.getObject(objectId);
+	}
+	
+	/**
+	 * Retrieves the instances associated with the passed {@literal objectIds}, see {@link #getObject(long)}.
+	 * The returned array holds the instance for {@literal objectIds[i]} at index {@literal i}.
+	 * <p>
+	 * Implementations should retrieve all instances in one pass (i.e. by one read of all required persisted data
+	 * and one build), which is considerably cheaper than one {@link #getObject(long)} call per id.
+	 * The default implementation does exactly that: one call per id.
+	 * 
+	 * @param objectIds the {@literal objectIds} defining which instances to return.
+	 * 
+	 * @return the instances associated with the passed {@literal objectIds}.
+	 */
+	public default Object[] getObjects(final long... objectIds)
+	{
+		final Object[] instances = new Object[objectIds.length];
+		for(int i = 0; i < objectIds.length; i++)
+		{
+			instances[i] = this.getObject(objectIds[i]);
+		}
+		
+		return instances;
+	}
+	
+	/**
+	 * Retrieves the instances associated with the passed {@literal objectIds} in one pass, see
+	 * {@link #getObjects(long...)}, and reports the persisted length in bytes of the entities read for
+	 * {@literal objectIds[i]} to {@literal loadedLengthAcceptors[i]}, see {@link #getObject(long, LongConsumer)}.
+	 * As entities read in one pass can be shared by several of the instances, the reported lengths may be
+	 * estimates. No length is reported for instances that did not have to be read.
+	 * <p>
+	 * Implementations that cannot tell the lengths do not call the acceptors, which is what the default
+	 * implementation does.
+	 * 
+	 * @param objectIds the {@literal objectIds} defining which instances to return.
+	 * @param loadedLengthAcceptors the acceptors of the read lengths in bytes, one per {@literal objectId}.
+	 * 
+	 * @return the instances associated with the passed {@literal objectIds}.
+	 */
+	public default Object[] getObjects(final long[] objectIds, final LongConsumer[] loadedLengthAcceptors)
+	{
+		return this.getObjects(objectIds);
+	}
+	
 }
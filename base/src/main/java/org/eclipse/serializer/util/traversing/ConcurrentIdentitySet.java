@@ -0,0 +1,126 @@
+package org.eclipse.serializer.util.traversing;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import org.eclipse.serializer.collections.types.XGettingCollection;
+
+
+/**
+ * Thread-safe identity set used as the visited set of parallel traversals.
+ * <p>
+ * The elements are distributed over a number of stripes by the upper bits of their mixed identity hash code.
+ * Each stripe is a {@link OpenAdressingMiniSet} that is locked only for the duration of a single {@link #add(Object)},
+ * so concurrent adding threads only contend if they happen to hit the same stripe.
+ */
+final class ConcurrentIdentitySet
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	// 2^8 stripes keep the collision probability of even dozens of threads low at negligible memory cost.
+	private static final int STRIPE_SHIFT = 8;
+
+	private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	static ConcurrentIdentitySet New()
+	{
+		return new ConcurrentIdentitySet();
+	}
+
+	static ConcurrentIdentitySet New(final XGettingCollection<?> elements)
+	{
+		final ConcurrentIdentitySet set = New();
+		for(final Object element : elements)
+		{
+			set.add(element);
+		}
+
+		return set;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private final OpenAdressingMiniSet<Object>[] stripes;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	ConcurrentIdentitySet()
+	{
+		super();
+		this.stripes = new OpenAdressingMiniSet[1 << STRIPE_SHIFT];
+		for(int i = 0; i < this.stripes.length; i++)
+		{
+			this.stripes[i] = OpenAdressingMiniSet.New();
+		}
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	private OpenAdressingMiniSet<Object> stripe(final Object element)
+	{
+		// the upper bits select the stripe, the stripe itself uses the lower bits of the identity hash code.
+		return this.stripes[System.identityHashCode(element) * GOLDEN_RATIO >>> Integer.SIZE - STRIPE_SHIFT];
+	}
+
+	/**
+	 * Adds the passed element if no identical element is contained yet.
+	 *
+	 * @param element the element to be added, not <code>null</code>
+	 * @return <code>true</code> if the element has been added by this call
+	 */
+	boolean add(final Object element)
+	{
+		final OpenAdressingMiniSet<Object> stripe = this.stripe(element);
+		synchronized(stripe)
+		{
+			return stripe.add(element);
+		}
+	}
+
+	long size()
+	{
+		long size = 0;
+		for(final OpenAdressingMiniSet<Object> stripe : this.stripes)
+		{
+			synchronized(stripe)
+			{
+				size += stripe.size();
+			}
+		}
+
+		return size;
+	}
+
+}
@@ -17,12 +17,17 @@ package org.eclipse.serializer.util.traversing;
 import static org.eclipse.serializer.util.X.coalesce;
 import static org.eclipse.serializer.util.X.notNull;
 
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.serializer.collections.types.XGettingCollection;
 import org.eclipse.serializer.collections.types.XSet;
+import org.eclipse.serializer.math.XMath;
 import org.eclipse.serializer.util.X;
 
 
@@ -70,6 +75,40 @@ public interface ObjectGraphTraverser
 	
 	public <M extends TraversalMutator> M traverseAll(Object[] instances, M mutator);
 	
+	/**
+	 * Returns a {@link Spliterator} that lazily traverses the graph reachable from the roots and emits every
+	 * handled instance exactly once, in no defined order. The skipping, handling and traversal mode configuration
+	 * applies, the configured acceptor, mutator, initializer and finalizer logic does not.
+	 * <p>
+	 * The returned {@link Spliterator} and all of its splits can be consumed concurrently.
+	 * 
+	 * @return a {@link Spliterator} over all instances of the graph.
+	 */
+	public Spliterator<Object> spliterator();
+	
+	/**
+	 * Returns a {@link Spliterator} over the graph reachable from the passed instances, see {@link #spliterator()}.
+	 * 
+	 * @param instances the roots of the graph.
+	 * @return a {@link Spliterator} over all instances of the graph.
+	 */
+	public Spliterator<Object> spliteratorAll(Object[] instances);
+	
+	public default Stream<Object> stream()
+	{
+		return StreamSupport.stream(this.spliterator(), false);
+	}
+	
+	public default Stream<Object> parallelStream()
+	{
+		return StreamSupport.stream(this.spliterator(), true);
+	}
+	
+	public default Stream<Object> streamAll(final Object[] instances, final boolean parallel)
+	{
+		return StreamSupport.stream(this.spliteratorAll(instances), parallel);
+	}
+	
 	
 	public static void signalAbortTraversal() throws TraversalSignalAbort
 	{
@@ -100,6 +139,51 @@ public interface ObjectGraphTraverser
 		final Runnable                                           initializerLogic        ,
 		final Runnable                                           finalizerLogic
 	)
+	{
+		return New(
+			roots                   ,
+			skipped                 ,
+			alreadyHandledProvider  ,
+			referenceHandlerProvider,
+			traverserProvider       ,
+			predicateSkip           ,
+			predicateNode           ,
+			predicateLeaf           ,
+			predicateFull           ,
+			predicateHandle         ,
+			traversalAcceptor       ,
+			traversalMutator        ,
+			mutationListener        ,
+			traversalMode           ,
+			initializerLogic        ,
+			finalizerLogic          ,
+			1
+		);
+	}
+	
+	/**
+	 * Creates a new {@link ObjectGraphTraverser}. With a parallelism greater than 1, the graph is traversed by
+	 * that many threads, see {@link ObjectGraphTraverserBuilder#parallelism(int)}.
+	 */
+	public static ObjectGraphTraverser New(
+		final Object[]                                           roots                   ,
+		final XGettingCollection<Object>                         skipped                 ,
+		final Function<XGettingCollection<Object>, XSet<Object>> alreadyHandledProvider  ,
+		final TraversalReferenceHandlerProvider                  referenceHandlerProvider,
+		final TypeTraverserProvider                              traverserProvider       ,
+		final TraversalPredicateSkip                             predicateSkip           ,
+		final TraversalPredicateNode                             predicateNode           ,
+		final TraversalPredicateLeaf                             predicateLeaf           ,
+		final TraversalPredicateFull                             predicateFull           ,
+		final Predicate<Object>                                  predicateHandle         ,
+		final TraversalAcceptor                                  traversalAcceptor       ,
+		final TraversalMutator                                   traversalMutator        ,
+		final MutationListener                                   mutationListener        ,
+		final TraversalMode                                      traversalMode           ,
+		final Runnable                                           initializerLogic        ,
+		final Runnable                                           finalizerLogic          ,
+		final int                                                parallelism
+	)
 	{
 		return new ObjectGraphTraverser.Default(
 			roots                                                             ,
@@ -117,7 +201,8 @@ public interface ObjectGraphTraverser
 			mutationListener                                                  ,
 			traversalMode                                                     ,
 			initializerLogic                                                  ,
-			finalizerLogic
+			finalizerLogic                                                    ,
+			XMath.positive(parallelism)
 		);
 	}
 	
@@ -143,6 +228,7 @@ public interface ObjectGraphTraverser
 		private final TraversalMode                                      traversalMode           ;
 		private final Runnable                                           initializerLogic        ;
 		private final Runnable                                           finalizerLogic          ;
+		private final int                                                parallelism             ;
 		
 		
 		
@@ -166,7 +252,8 @@ public interface ObjectGraphTraverser
 			final MutationListener                                   mutationListener        ,
 			final TraversalMode                                      traversalMode           ,
 			final Runnable                                           initializerLogic        ,
-			final Runnable                                           finalizerLogic
+			final Runnable                                           finalizerLogic          ,
+			final int                                                parallelism
 		)
 		{
 			super();
@@ -186,6 +273,7 @@ public interface ObjectGraphTraverser
 			this.traversalMode            = traversalMode           ;
 			this.initializerLogic         = initializerLogic        ;
 			this.finalizerLogic           = finalizerLogic          ;
+			this.parallelism              = parallelism             ;
 		}
 		
 		
@@ -206,19 +294,26 @@ public interface ObjectGraphTraverser
 				this.initializerLogic.run();
 			}
 			
-			final AbstractReferenceHandler referenceHandler = this.referenceHandlerProvider.provideReferenceHandler(
-				this.alreadyHandledProvider.apply(this.skipped),
-				this.traverserProvider                         ,
-				this.predicateSkip                             ,
-				this.predicateNode                             ,
-				this.predicateLeaf                             ,
-				this.predicateFull                             ,
-				this.predicateHandle                           ,
-				traversalAcceptor                              ,
-				traversalMutator                               ,
-				mutationListener
-			);
-			this.traversalMode.handle(instances, referenceHandler);
+			if(this.parallelism > 1)
+			{
+				this.internalTraverseAllParallel(instances, traversalAcceptor, traversalMutator, mutationListener);
+			}
+			else
+			{
+				final AbstractReferenceHandler referenceHandler = this.referenceHandlerProvider.provideReferenceHandler(
+					this.alreadyHandledProvider.apply(this.skipped),
+					this.traverserProvider                         ,
+					this.predicateSkip                             ,
+					this.predicateNode                             ,
+					this.predicateLeaf                             ,
+					this.predicateFull                             ,
+					this.predicateHandle                           ,
+					traversalAcceptor                              ,
+					traversalMutator                               ,
+					mutationListener
+				);
+				this.traversalMode.handle(instances, referenceHandler);
+			}
 			
 			if(this.finalizerLogic != null)
 			{
@@ -227,6 +322,65 @@ public interface ObjectGraphTraverser
 		}
 		
 		
+		private void internalTraverseAllParallel(
+			final Object[]          instances               ,
+			final TraversalAcceptor traversalAcceptor       ,
+			final TraversalMutator  traversalMutator        ,
+			final MutationListener  mutationListener
+		)
+		{
+			final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+			try
+			{
+				this.traversalMode.handle(
+					instances,
+					this.createParallelReferenceHandler(pool, traversalAcceptor, traversalMutator, mutationListener)
+				);
+			}
+			finally
+			{
+				pool.shutdown();
+			}
+		}
+		
+		private ParallelReferenceHandler createParallelReferenceHandler(
+			final ForkJoinPool      pool             ,
+			final TraversalAcceptor traversalAcceptor,
+			final TraversalMutator  traversalMutator ,
+			final MutationListener  mutationListener
+		)
+		{
+			// the alreadyHandledProvider and the referenceHandlerProvider create single-threaded implementations.
+			return new ParallelReferenceHandler(
+				pool                                   ,
+				this.traverserProvider                 ,
+				ConcurrentIdentitySet.New(this.skipped),
+				this.predicateSkip                     ,
+				this.predicateNode                     ,
+				this.predicateLeaf                     ,
+				this.predicateFull                     ,
+				this.predicateHandle                   ,
+				traversalAcceptor                      ,
+				traversalMutator                       ,
+				mutationListener
+			);
+		}
+		
+		@Override
+		public Spliterator<Object> spliterator()
+		{
+			return this.spliteratorAll(this.roots);
+		}
+		
+		@Override
+		public Spliterator<Object> spliteratorAll(final Object[] instances)
+		{
+			return this.createParallelReferenceHandler(null, null, null, null).spliterator(
+				instances,
+				ParallelReferenceHandler.mode(this.traversalMode)
+			);
+		}
+		
 		@Override
 		public void traverse()
 		{
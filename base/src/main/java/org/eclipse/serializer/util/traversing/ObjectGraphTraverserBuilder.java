@@ -18,6 +18,7 @@ import org.eclipse.serializer.collections.ConstHashEnum;
 import org.eclipse.serializer.collections.ConstHashTable;
 import org.eclipse.serializer.collections.HashTable;
 import org.eclipse.serializer.collections.types.*;
+import org.eclipse.serializer.math.XMath;
 import org.eclipse.serializer.util.X;
 
 import java.io.File;
@@ -82,6 +83,8 @@ public interface ObjectGraphTraverserBuilder
 	public TraversalReferenceHandlerProvider referenceHandlerProvider();
 
 	public Object[] roots();
+	
+	public int parallelism();
 
 
 	public ObjectGraphTraverserBuilder fieldSelector(TraversalFieldSelector fieldSelector);
@@ -112,6 +115,18 @@ public interface ObjectGraphTraverserBuilder
 
 	public ObjectGraphTraverserBuilder roots(Object... roots);
 	
+	/**
+	 * Defines the number of threads traversing the graph, 1 by default.
+	 * <p>
+	 * With more than one thread, the instances are handled concurrently and in no defined order, so all
+	 * configured logic like acceptors, mutators, mutation listeners and predicates must be thread-safe.
+	 * The {@link #alreadyHandledProvider()} and the {@link #referenceHandlerProvider()} are not used then.
+	 * 
+	 * @param parallelism the number of traversing threads, must be positive.
+	 * @return this builder.
+	 */
+	public ObjectGraphTraverserBuilder parallelism(int parallelism);
+	
 	
 	
 		
@@ -328,6 +343,7 @@ public interface ObjectGraphTraverserBuilder
 		private TraversalMode                                      traversalMode             ;
 		private TraversalReferenceHandlerProvider                  referenceHandlerProvider  ;
 		private Object[]                                           roots                     ;
+		private int                                                parallelism               ;
 		private Predicate<Object>                                  predicateHandle           ;
 		
 		private Runnable                                           initializerLogic          ;
@@ -353,6 +369,7 @@ public interface ObjectGraphTraverserBuilder
 			this.traversersPerPolymorphType = HashTable.New(
 				ObjectGraphTraverserBuilder.defaultPolymorphTypeTraversers())
 			;
+			this.parallelism = 1;
 		}
 		
 		
@@ -527,6 +544,12 @@ public interface ObjectGraphTraverserBuilder
 			return this.roots;
 		}
 		
+		@Override
+		public synchronized int parallelism()
+		{
+			return this.parallelism;
+		}
+		
 		@Override
 		public synchronized ObjectGraphTraverserBuilder fieldSelector(
 			final TraversalFieldSelector fieldSelector
@@ -632,6 +655,13 @@ public interface ObjectGraphTraverserBuilder
 			this.roots = roots;
 			return this;
 		}
+		
+		@Override
+		public synchronized ObjectGraphTraverserBuilder parallelism(final int parallelism)
+		{
+			this.parallelism = XMath.positive(parallelism);
+			return this;
+		}
 				
 		@Override
 		public synchronized ObjectGraphTraverserBuilder mutate(final Predicate<Object> predicate, final Function<Object, ?> logic)
@@ -893,7 +923,8 @@ public interface ObjectGraphTraverserBuilder
 				this.provideMutationListener()        ,
 				this.provideTraversalMode()           ,
 				this.initializerLogic()               ,
-				this.finalizerLogic()
+				this.finalizerLogic()                 ,
+				this.parallelism()
 			);
 		}
 							
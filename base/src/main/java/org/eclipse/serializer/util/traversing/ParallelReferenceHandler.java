@@ -0,0 +1,596 @@
+package org.eclipse.serializer.util.traversing;
+
+/*-
+ * #%L
+ * Eclipse Serializer Base
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+
+/**
+ * Reference handler that traverses the graph with several threads of a {@link ForkJoinPool}.
+ * <p>
+ * Every worker processes its own frontier of enqueued instances depth-first. If its frontier grows while other
+ * workers are idle, it forks the older half of it as a new task which the idle workers can steal.
+ * All workers share one {@link ConcurrentIdentitySet} as the visited set, so every instance is handled exactly once,
+ * but in no defined order and by any of the workers.
+ * <p>
+ * As a consequence, the {@link TraversalAcceptor}, {@link TraversalMutator}, {@link MutationListener} and all
+ * predicates must be thread-safe. A mutator only ever modifies the instance currently handled by its thread.
+ */
+final class ParallelReferenceHandler implements TraversalReferenceHandler
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	/**
+	 * Frontier size from which on a worker forks half of its frontier if there are idle workers.
+	 * Small enough to distribute narrow graphs quickly, big enough to keep the task overhead negligible.
+	 */
+	static final int SPLIT_THRESHOLD = 32;
+
+	/**
+	 * Maximum number of already handled instances a {@link Spliterator} buffers while expanding its frontier
+	 * in order to be able to split.
+	 */
+	static final int SPLIT_EXPANSION_LIMIT = 1024;
+
+	static final int
+		MODE_FULL = 0,
+		MODE_NODE = 1,
+		MODE_LEAF = 2
+	;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	static int mode(final TraversalMode traversalMode)
+	{
+		// custom modes can't be mapped, so they are treated like the default mode.
+		return traversalMode instanceof TraversalMode.Node
+			? MODE_NODE
+			: traversalMode instanceof TraversalMode.Leaf
+				? MODE_LEAF
+				: MODE_FULL
+		;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	final ForkJoinPool           pool             ;
+	final TypeTraverserProvider  traverserProvider;
+	final ConcurrentIdentitySet  alreadyHandled   ;
+	final TraversalPredicateSkip predicateSkip    ;
+	final TraversalPredicateNode predicateNode    ;
+	final TraversalPredicateLeaf predicateLeaf    ;
+	final TraversalPredicateFull predicateFull    ;
+	final Predicate<Object>      predicateHandle  ;
+	final TraversalAcceptor      traversalAcceptor;
+	final TraversalMutator       traversalMutator ;
+	final MutationListener       mutationListener ;
+
+	private          Object[]  pending     ;
+	private          int       pendingCount;
+	private volatile boolean   aborted     ;
+	private volatile Throwable problem     ;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	ParallelReferenceHandler(
+		final ForkJoinPool           pool             ,
+		final TypeTraverserProvider  traverserProvider,
+		final ConcurrentIdentitySet  alreadyHandled   ,
+		final TraversalPredicateSkip predicateSkip    ,
+		final TraversalPredicateNode predicateNode    ,
+		final TraversalPredicateLeaf predicateLeaf    ,
+		final TraversalPredicateFull predicateFull    ,
+		final Predicate<Object>      predicateHandle  ,
+		final TraversalAcceptor      traversalAcceptor,
+		final TraversalMutator       traversalMutator ,
+		final MutationListener       mutationListener
+	)
+	{
+		super();
+		this.pool              = pool             ;
+		this.traverserProvider = traverserProvider;
+		this.alreadyHandled    = alreadyHandled   ;
+		this.predicateSkip     = predicateSkip    ;
+		this.predicateNode     = predicateNode    ;
+		this.predicateLeaf     = predicateLeaf    ;
+		this.predicateFull     = predicateFull    ;
+		this.predicateHandle   = predicateHandle  ;
+		this.traversalAcceptor = traversalAcceptor;
+		this.traversalMutator  = traversalMutator ;
+		this.mutationListener  = mutationListener ;
+		this.pending           = new Object[SPLIT_THRESHOLD];
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	@Override
+	public final boolean skip(final Object instance)
+	{
+		return this.alreadyHandled.add(instance);
+	}
+
+	final boolean isEnqueueable(final Object instance)
+	{
+		// must check for null as there is no control over what custom handler implementations might pass.
+		return instance != null
+			&& this.alreadyHandled.add(instance)
+			&& (this.predicateSkip == null || !this.predicateSkip.skip(instance))
+		;
+	}
+
+	/**
+	 * Enqueues an instance to be handled by the next {@code handleAs*} call.
+	 */
+	@Override
+	public final synchronized void enqueue(final Object instance)
+	{
+		if(!this.isEnqueueable(instance))
+		{
+			return;
+		}
+		if(this.pendingCount == this.pending.length)
+		{
+			this.pending = Arrays.copyOf(this.pending, this.pendingCount * 2);
+		}
+		this.pending[this.pendingCount++] = instance;
+	}
+
+	private synchronized Task createRootTask(final Object[] instances, final int mode)
+	{
+		final Frontier frontier = new Frontier(this.pending, this.pendingCount);
+		this.pending      = new Object[SPLIT_THRESHOLD];
+		this.pendingCount = 0;
+		for(final Object instance : instances)
+		{
+			frontier.enqueue(instance);
+		}
+
+		return new Task(mode, frontier);
+	}
+
+	private void handle(final Object[] instances, final int mode)
+	{
+		final Task task = this.createRootTask(instances, mode);
+		if(task.frontier.size == 0)
+		{
+			return;
+		}
+
+		this.aborted = false;
+		this.problem = null;
+		try
+		{
+			this.pool.invoke(task);
+		}
+		catch(final RuntimeException | Error e)
+		{
+			// the pool rethrows problems of other threads wrapped, the original one is more meaningful.
+			final Throwable problem = this.problem;
+			if(problem instanceof Error)
+			{
+				throw (Error)problem;
+			}
+			if(problem instanceof RuntimeException)
+			{
+				throw (RuntimeException)problem;
+			}
+			throw e;
+		}
+	}
+
+	final synchronized void registerProblem(final Throwable problem)
+	{
+		this.aborted = true;
+		if(this.problem == null)
+		{
+			this.problem = problem;
+		}
+	}
+
+	@Override
+	public final void handleAsFull(final Object[] instances)
+	{
+		this.handle(instances, MODE_FULL);
+	}
+
+	@Override
+	public final void handleAsNode(final Object[] instances)
+	{
+		this.handle(instances, MODE_NODE);
+	}
+
+	@Override
+	public final void handleAsLeaf(final Object[] instances)
+	{
+		this.handle(instances, MODE_LEAF);
+	}
+
+	final Spliterator<Object> spliterator(final Object[] instances, final int mode)
+	{
+		final Frontier frontier = new Frontier(new Object[SPLIT_THRESHOLD], 0);
+		for(final Object instance : instances)
+		{
+			frontier.enqueue(instance);
+		}
+
+		return new TraversalSpliterator(mode, frontier, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Handles the passed instance according to the traversal mode and the node, leaf and full predicates,
+	 * see {@link AbstractReferenceHandler#handleAsFull(Object[])} and its siblings.
+	 *
+	 * @return whether the instance has been handled or was filtered out by the handle predicate.
+	 */
+	final boolean handle(final Object instance, final TraversalEnqueuer enqueuer, final int mode)
+	{
+		if(this.predicateHandle != null && !this.predicateHandle.test(instance))
+		{
+			return false;
+		}
+
+		final TypeTraverser<Object> traverser = this.traverserProvider.provide(instance);
+
+		if(this.predicateFull != null && mode != MODE_FULL && this.predicateFull.isFull(instance))
+		{
+			this.handleFull(instance, traverser, enqueuer);
+		}
+		else if(this.predicateLeaf != null && mode != MODE_LEAF && this.predicateLeaf.isLeaf(instance))
+		{
+			this.handleLeaf(instance, traverser);
+		}
+		else if(this.predicateNode != null && mode != MODE_NODE && this.predicateNode.isNode(instance))
+		{
+			traverser.traverseReferences(instance, enqueuer);
+		}
+		else if(mode == MODE_FULL)
+		{
+			this.handleFull(instance, traverser, enqueuer);
+		}
+		else if(mode == MODE_LEAF)
+		{
+			this.handleLeaf(instance, traverser);
+		}
+		else
+		{
+			traverser.traverseReferences(instance, enqueuer);
+		}
+
+		return true;
+	}
+
+	private <T> void handleFull(final T instance, final TypeTraverser<T> traverser, final TraversalEnqueuer enqueuer)
+	{
+		if(this.traversalMutator != null)
+		{
+			if(this.traversalAcceptor != null)
+			{
+				traverser.traverseReferences(
+					instance, enqueuer, this.traversalAcceptor, this.traversalMutator, this.mutationListener
+				);
+			}
+			else
+			{
+				traverser.traverseReferences(instance, enqueuer, this.traversalMutator, this.mutationListener);
+			}
+		}
+		else if(this.traversalAcceptor != null)
+		{
+			traverser.traverseReferences(instance, enqueuer, this.traversalAcceptor);
+		}
+		else
+		{
+			// without any logic to be applied, a full instance is only a node.
+			traverser.traverseReferences(instance, enqueuer);
+		}
+	}
+
+	private <T> void handleLeaf(final T instance, final TypeTraverser<T> traverser)
+	{
+		if(this.traversalMutator != null)
+		{
+			if(this.traversalAcceptor != null)
+			{
+				traverser.traverseReferences(
+					instance, this.traversalAcceptor, this.traversalMutator, this.mutationListener
+				);
+			}
+			else
+			{
+				traverser.traverseReferences(instance, this.traversalMutator, this.mutationListener);
+			}
+		}
+		else if(this.traversalAcceptor != null)
+		{
+			traverser.traverseReferences(instance, this.traversalAcceptor);
+		}
+	}
+
+
+
+	/**
+	 * A thread-local part of the frontier. Instances are processed last-in-first-out, which keeps the frontier
+	 * small compared to the breadth-first queue of the single-threaded handlers.
+	 */
+	final class Frontier implements TraversalEnqueuer
+	{
+		Object[] stack;
+		int      size ;
+
+		Frontier(final Object[] stack, final int size)
+		{
+			super();
+			this.stack = stack;
+			this.size  = size ;
+		}
+
+		@Override
+		public final boolean skip(final Object instance)
+		{
+			return ParallelReferenceHandler.this.skip(instance);
+		}
+
+		@Override
+		public final void enqueue(final Object instance)
+		{
+			if(!ParallelReferenceHandler.this.isEnqueueable(instance))
+			{
+				return;
+			}
+			if(this.size == this.stack.length)
+			{
+				this.stack = Arrays.copyOf(this.stack, this.size * 2);
+			}
+			this.stack[this.size++] = instance;
+		}
+
+		final Object pop()
+		{
+			final Object instance = this.stack[--this.size];
+			this.stack[this.size] = null;
+			return instance;
+		}
+
+		final void clear()
+		{
+			Arrays.fill(this.stack, 0, this.size, null);
+			this.size = 0;
+		}
+
+		/**
+		 * Removes the older half of the frontier, i.e. the instances that are likely to be the roots of
+		 * the biggest unprocessed subgraphs.
+		 */
+		final Frontier splitOff()
+		{
+			final int      half  = this.size >>> 1;
+			final Object[] split = Arrays.copyOf(this.stack, Math.max(half, SPLIT_THRESHOLD));
+			System.arraycopy(this.stack, half, this.stack, 0, this.size - half);
+			Arrays.fill(this.stack, this.size - half, this.size, null);
+			this.size -= half;
+			return new Frontier(split, half);
+		}
+
+	}
+
+	final class Task extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int      mode      ;
+		private final Frontier frontier  ;
+		private       Task     nextForked;
+
+		Task(final int mode, final Frontier frontier)
+		{
+			super();
+			this.mode     = mode    ;
+			this.frontier = frontier;
+		}
+
+		@Override
+		protected void compute()
+		{
+			final Frontier frontier = this.frontier;
+			Task forked = null;
+			try
+			{
+				while(frontier.size > 0 && !ParallelReferenceHandler.this.aborted)
+				{
+					if(frontier.size >= SPLIT_THRESHOLD && getSurplusQueuedTaskCount() <= 0)
+					{
+						// some workers are idle, so hand half of the frontier over to them.
+						final Task task = new Task(this.mode, frontier.splitOff());
+						task.nextForked = forked;
+						forked = task;
+						task.fork();
+					}
+					ParallelReferenceHandler.this.handle(frontier.pop(), frontier, this.mode);
+				}
+			}
+			catch(final TraversalSignalAbort s)
+			{
+				// some logic signaled to abort the traversal. So abort and return. (This is a signal, NOT a problem!)
+				ParallelReferenceHandler.this.aborted = true;
+			}
+			catch(final RuntimeException | Error e)
+			{
+				// let the other workers stop as soon as possible
+				ParallelReferenceHandler.this.registerProblem(e);
+				throw e;
+			}
+			finally
+			{
+				// the forked tasks see the abort flag and stop early, but must not outlive a failed one.
+				for(Task task = forked; task != null; task = task.nextForked)
+				{
+					task.quietlyJoin();
+				}
+			}
+
+			// all forked tasks are done, this only rethrows their problems.
+			for(Task task = forked; task != null; task = task.nextForked)
+			{
+				task.join();
+			}
+		}
+
+	}
+
+	/**
+	 * Lazily traversing {@link Spliterator} that emits every handled instance. Splitting hands the older half of
+	 * the frontier over to the new {@link Spliterator}. All of them share the visited set, so they can be consumed
+	 * concurrently and every instance is emitted exactly once.
+	 */
+	final class TraversalSpliterator implements Spliterator<Object>
+	{
+		private final int      mode        ;
+		private final Frontier frontier    ;
+		private       long     estimate    ;
+
+		// instances that have already been handled while expanding the frontier for splitting, but not emitted yet.
+		private       Object[] expanded    ;
+		private       int      expandedSize;
+
+		TraversalSpliterator(final int mode, final Frontier frontier, final long estimate)
+		{
+			super();
+			this.mode     = mode    ;
+			this.frontier = frontier;
+			this.estimate = estimate;
+		}
+
+		private boolean isExhausted()
+		{
+			if(ParallelReferenceHandler.this.aborted)
+			{
+				this.frontier.clear();
+			}
+			return this.frontier.size == 0;
+		}
+
+		private boolean handle(final Object instance)
+		{
+			try
+			{
+				return ParallelReferenceHandler.this.handle(instance, this.frontier, this.mode);
+			}
+			catch(final TraversalSignalAbort s)
+			{
+				// some logic signaled to abort the traversal. (This is a signal, NOT a problem!)
+				ParallelReferenceHandler.this.aborted = true;
+				return false;
+			}
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super Object> action)
+		{
+			if(this.expandedSize > 0)
+			{
+				final Object instance = this.expanded[--this.expandedSize];
+				this.expanded[this.expandedSize] = null;
+				action.accept(instance);
+				return true;
+			}
+
+			while(!this.isExhausted())
+			{
+				final Object instance = this.frontier.pop();
+				if(this.handle(instance))
+				{
+					action.accept(instance);
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		@Override
+		public Spliterator<Object> trySplit()
+		{
+			// a single root must be expanded first, otherwise nothing could ever be split off.
+			while(this.frontier.size < 2 && this.expandedSize < SPLIT_EXPANSION_LIMIT && !this.isExhausted())
+			{
+				final Object instance = this.frontier.pop();
+				if(this.handle(instance))
+				{
+					this.addExpanded(instance);
+				}
+			}
+			if(this.frontier.size < 2)
+			{
+				return null;
+			}
+
+			return new TraversalSpliterator(this.mode, this.frontier.splitOff(), this.estimate >>>= 1);
+		}
+
+		private void addExpanded(final Object instance)
+		{
+			if(this.expanded == null)
+			{
+				this.expanded = new Object[SPLIT_THRESHOLD];
+			}
+			else if(this.expandedSize == this.expanded.length)
+			{
+				this.expanded = Arrays.copyOf(this.expanded, this.expandedSize * 2);
+			}
+			this.expanded[this.expandedSize++] = instance;
+		}
+
+		@Override
+		public long estimateSize()
+		{
+			// the size of the graph is unknown until it has been traversed, only an empty frontier is certain.
+			return this.frontier.size == 0 && this.expandedSize == 0
+				? 0
+				: this.estimate
+			;
+		}
+
+		@Override
+		public int characteristics()
+		{
+			return Spliterator.NONNULL;
+		}
+
+	}
+
+}
@@ -54,7 +54,8 @@ public interface TypeTraverserProvider
 		////////////////////
 		
 		private final XGettingMap<Object, TypeTraverser<?>>     traversersPerInstance     ;
-		private final HashTable<Class<?>, TypeTraverser<?>>     traversersPerConcreteType ;
+		// copy on write: lookups are lock-free as the provider is shared by the workers of parallel traversals.
+		private volatile HashTable<Class<?>, TypeTraverser<?>>  traversersPerConcreteType ;
 		private final XGettingTable<Class<?>, TypeTraverser<?>> traversersPerPolymorphType;
 		private final TypeTraverser.Creator                     traverserCreator          ;
 		
@@ -86,26 +87,40 @@ public interface TypeTraverserProvider
 			return localMap;
 		}
 		
-		private TypeTraverser<?> handleNewType(final Class<?> type)
+		private synchronized TypeTraverser<?> handleNewType(final Class<?> type)
 		{
+			// another thread might have registered the type in the meantime
+			final TypeTraverser<?> registered;
+			if((registered = this.traversersPerConcreteType.get(type)) != null)
+			{
+				return registered;
+			}
+			
 			for(final KeyValue<Class<?>, TypeTraverser<?>> entry : this.traversersPerPolymorphType)
 			{
 				if(entry.key().isAssignableFrom(type))
 				{
-					this.traversersPerConcreteType.add(type, entry.value());
-					return entry.value();
+					return this.register(type, entry.value());
 				}
 			}
 						
 			final TypeTraverser<?> created = this.traverserCreator.createTraverser(type);
 			if(created != null)
 			{
-				this.traversersPerConcreteType.add(type, created);
-				return created;
+				return this.register(type, created);
 			}
 
 			throw new IllegalArgumentException("Untraversable type: " + type.getName());
 		}
+		
+		private TypeTraverser<?> register(final Class<?> type, final TypeTraverser<?> traverser)
+		{
+			final HashTable<Class<?>, TypeTraverser<?>> copy = this.traversersPerConcreteType.copy();
+			copy.add(type, traverser);
+			this.traversersPerConcreteType = copy;
+			
+			return traverser;
+		}
 				
 		protected final TypeTraverser<?> internalProvideTraversalHandler(final Object instance)
 		{
@@ -0,0 +1,47 @@
+package org.eclipse.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.types.PersistenceContextDispatcher;
+
+/**
+ * Benchmark fixture: a {@link SerializerFoundation} with the pass-through context dispatcher
+ * instead of the serializer's default {@link PersistenceContextDispatcher.LocalObjectRegistration}.
+ * <p>
+ * With pass-through dispatching, all storers and loaders of a persistence manager share its global
+ * object registry, like in an embedded storage.
+ * ({@code SerializerFoundation#setContextDispatcher} is intentionally unsupported, hence
+ * this same-package subclass overriding the {@code ensure~} default.)
+ */
+public final class SharedRegistrySerializerFoundation
+extends SerializerFoundation.Default<SharedRegistrySerializerFoundation>
+{
+	public static SharedRegistrySerializerFoundation New()
+	{
+		return new SharedRegistrySerializerFoundation();
+	}
+
+	private SharedRegistrySerializerFoundation()
+	{
+		super();
+	}
+
+	@Override
+	protected PersistenceContextDispatcher<Binary> ensureContextDispatcher()
+	{
+		return PersistenceContextDispatcher.PassThrough();
+	}
+}
@@ -0,0 +1,399 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.serializer.collections.EqHashTable;
+import org.eclipse.serializer.collections.lazy.LazyHashMap;
+import org.eclipse.serializer.collections.lazy.LazySegmentUnloader;
+
+
+/**
+ * Deterministic object graphs shared by the benchmark suites. Every graph is created from a fixed seed,
+ * so runs on different revisions operate on identical data.
+ */
+public final class BenchmarkGraphs
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	private static final long SEED              = 0xC0FFEE;
+	private static final int  LAZY_SEGMENT_SIZE = 1000    ;
+
+	public static final String
+		SMALL  = "small" ,
+		MEDIUM = "medium",
+		DEEP   = "deep"  ,
+		WIDE   = "wide"
+	;
+
+	public static final String
+		ARRAY_LIST    = "ArrayList"   ,
+		HASH_MAP      = "HashMap"     ,
+		EQ_HASH_TABLE = "EqHashTable" ,
+		LAZY_HASH_MAP = "LazyHashMap"
+	;
+
+	public static final String
+		STRINGS = "strings",
+		INTS    = "ints"   ,
+		LONGS   = "longs"  ,
+		DOUBLES = "doubles",
+		BYTES   = "bytes"
+	;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	/**
+	 * @param shape one of {@link #SMALL} (a single customer), {@link #MEDIUM} (100 customers with orders),
+	 *              {@link #DEEP} (a linked chain of 1000 nodes) or {@link #WIDE} (1000 entities with many
+	 *              primitive fields each).
+	 *
+	 * @return the created graph.
+	 */
+	public static Object entityGraph(final String shape)
+	{
+		final Random random = new Random(SEED);
+		switch(shape)
+		{
+			case SMALL:
+			{
+				return customer(random, 0);
+			}
+			case MEDIUM:
+			{
+				final List<Customer> customers = new ArrayList<>();
+				for(int i = 0; i < 100; i++)
+				{
+					customers.add(customer(random, i));
+				}
+				return customers;
+			}
+			case DEEP:
+			{
+				Node node = null;
+				for(int i = 0; i < 1000; i++)
+				{
+					node = new Node(i, "node" + i, node);
+				}
+				return node;
+			}
+			case WIDE:
+			{
+				final List<Sample> samples = new ArrayList<>();
+				for(int i = 0; i < 1000; i++)
+				{
+					samples.add(sample(random, i));
+				}
+				return samples;
+			}
+			default:
+			{
+				throw new IllegalArgumentException("Unknown shape: " + shape);
+			}
+		}
+	}
+
+	/**
+	 * @param count the number of customers, each of which makes up about 27 entities including its orders.
+	 *
+	 * @return a list of the passed number of customers with orders.
+	 */
+	public static List<Customer> customers(final int count)
+	{
+		final Random random = new Random(SEED);
+		final List<Customer> customers = new ArrayList<>(count);
+		for(int i = 0; i < count; i++)
+		{
+			customers.add(customer(random, i));
+		}
+		return customers;
+	}
+
+	/**
+	 * @param type one of {@link #ARRAY_LIST}, {@link #HASH_MAP}, {@link #EQ_HASH_TABLE} or {@link #LAZY_HASH_MAP}.
+	 * @param size the number of elements.
+	 *
+	 * @return the created collection, containing small entities as elements or values.
+	 */
+	public static Object collectionGraph(final String type, final int size)
+	{
+		final Random random = new Random(SEED);
+		switch(type)
+		{
+			case ARRAY_LIST:
+			{
+				final ArrayList<Address> list = new ArrayList<>(size);
+				for(int i = 0; i < size; i++)
+				{
+					list.add(address(random, i));
+				}
+				return list;
+			}
+			case HASH_MAP:
+			{
+				return fill(new HashMap<>(), random, size);
+			}
+			case EQ_HASH_TABLE:
+			{
+				final EqHashTable<String, Address> table = EqHashTable.New();
+				for(int i = 0; i < size; i++)
+				{
+					table.add("key" + i, address(random, i));
+				}
+				return table;
+			}
+			case LAZY_HASH_MAP:
+			{
+				// segments stay loaded, so that only the (de)serialization is measured, not the unloading
+				return fill(new LazyHashMap<>(LAZY_SEGMENT_SIZE, new LazySegmentUnloader.Never()), random, size);
+			}
+			default:
+			{
+				throw new IllegalArgumentException("Unknown collection type: " + type);
+			}
+		}
+	}
+
+	/**
+	 * @param type one of {@link #STRINGS}, {@link #INTS}, {@link #LONGS}, {@link #DOUBLES} or {@link #BYTES}.
+	 * @param size the number of strings or array elements.
+	 *
+	 * @return the created payload.
+	 */
+	public static Object payload(final String type, final int size)
+	{
+		final Random random = new Random(SEED);
+		switch(type)
+		{
+			case STRINGS:
+			{
+				final String[] strings = new String[size];
+				for(int i = 0; i < size; i++)
+				{
+					strings[i] = "value-" + random.nextInt() + "-" + i;
+				}
+				return strings;
+			}
+			case INTS:
+			{
+				return random.ints(size).toArray();
+			}
+			case LONGS:
+			{
+				return random.longs(size).toArray();
+			}
+			case DOUBLES:
+			{
+				return random.doubles(size).toArray();
+			}
+			case BYTES:
+			{
+				final byte[] bytes = new byte[size];
+				random.nextBytes(bytes);
+				return bytes;
+			}
+			default:
+			{
+				throw new IllegalArgumentException("Unknown payload type: " + type);
+			}
+		}
+	}
+
+	private static Map<String, Address> fill(final Map<String, Address> map, final Random random, final int size)
+	{
+		for(int i = 0; i < size; i++)
+		{
+			map.put("key" + i, address(random, i));
+		}
+		return map;
+	}
+
+	private static Customer customer(final Random random, final int index)
+	{
+		final List<Order> orders = new ArrayList<>();
+		for(int i = 0; i < 10; i++)
+		{
+			orders.add(new Order(index * 100L + i, random.nextDouble() * 1000, "item" + random.nextInt(1000)));
+		}
+
+		return new Customer("customer" + index, random.nextInt(100), address(random, index), orders);
+	}
+
+	private static Sample sample(final Random random, final int index)
+	{
+		return new Sample(
+			index,
+			random.nextLong(),
+			random.nextLong(),
+			random.nextDouble(),
+			random.nextDouble(),
+			random.nextFloat(),
+			random.nextInt(),
+			(short)random.nextInt(),
+			(byte)random.nextInt(),
+			random.nextBoolean(),
+			(char)('A' + random.nextInt(26)),
+			"sensor" + index % 100
+		);
+	}
+
+	private static Address address(final Random random, final int index)
+	{
+		return new Address("street " + random.nextInt(1000), "city" + index % 50, 10000 + random.nextInt(90000));
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// entity types //
+	/////////////////
+
+	public static final class Customer
+	{
+		final String      name   ;
+		final int         age    ;
+		final Address     address;
+		final List<Order> orders ;
+
+		Customer(final String name, final int age, final Address address, final List<Order> orders)
+		{
+			super();
+			this.name    = name   ;
+			this.age     = age    ;
+			this.address = address;
+			this.orders  = orders ;
+		}
+	}
+
+	public static final class Order
+	{
+		final long   id    ;
+		final double amount;
+		final String item  ;
+
+		Order(final long id, final double amount, final String item)
+		{
+			super();
+			this.id     = id    ;
+			this.amount = amount;
+			this.item   = item  ;
+		}
+	}
+
+	public static final class Address
+	{
+		final String street ;
+		final String city   ;
+		final int    zipCode;
+
+		Address(final String street, final String city, final int zipCode)
+		{
+			super();
+			this.street  = street ;
+			this.city    = city   ;
+			this.zipCode = zipCode;
+		}
+	}
+
+	public static final class Sample
+	{
+		final long    id        ;
+		final long    timestamp ;
+		final long    sequence  ;
+		final double  value     ;
+		final double  deviation ;
+		final float   weight    ;
+		final int     count     ;
+		final short   channel   ;
+		final byte    quality   ;
+		final boolean calibrated;
+		final char    unit      ;
+		final String  source    ;
+
+		Sample(
+			final long    id        ,
+			final long    timestamp ,
+			final long    sequence  ,
+			final double  value     ,
+			final double  deviation ,
+			final float   weight    ,
+			final int     count     ,
+			final short   channel   ,
+			final byte    quality   ,
+			final boolean calibrated,
+			final char    unit      ,
+			final String  source
+		)
+		{
+			super();
+			this.id         = id        ;
+			this.timestamp  = timestamp ;
+			this.sequence   = sequence  ;
+			this.value      = value     ;
+			this.deviation  = deviation ;
+			this.weight     = weight    ;
+			this.count      = count     ;
+			this.channel    = channel   ;
+			this.quality    = quality   ;
+			this.calibrated = calibrated;
+			this.unit       = unit      ;
+			this.source     = source    ;
+		}
+	}
+
+	public static final class Node
+	{
+		final int    index;
+		final String label;
+		final Node   next ;
+
+		Node(final int index, final String label, final Node next)
+		{
+			super();
+			this.index = index;
+			this.label = label;
+			this.next  = next ;
+		}
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	/**
+	 * Dummy constructor to prevent instantiation of this static-only utility class.
+	 *
+	 * @throws UnsupportedOperationException when called
+	 */
+	private BenchmarkGraphs()
+	{
+		// static only
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -0,0 +1,89 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Entry point of the benchmarks jar. Accepts all regular JMH command line options, but unless specified
+ * otherwise writes the results as JSON to {@value #DEFAULT_RESULT_FILE} and runs the {@link GCProfiler},
+ * so that allocation rates are recorded alongside the throughput.
+ */
+public final class BenchmarkRunner
+{
+	static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+	public static void main(final String[] args) throws CommandLineOptionException, RunnerException, IOException
+	{
+		final CommandLineOptions commandLine = new CommandLineOptions(args);
+		if(commandLine.shouldHelp())
+		{
+			commandLine.showHelp();
+			return;
+		}
+		if(commandLine.shouldList() || commandLine.shouldListWithParams() || commandLine.shouldListProfilers()
+			|| commandLine.shouldListResultFormats()
+		)
+		{
+			// listing is handled by the regular JMH main
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+
+		final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+		if(!commandLine.getResultFormat().hasValue())
+		{
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		if(!commandLine.getResult().hasValue())
+		{
+			options.result(DEFAULT_RESULT_FILE);
+		}
+		if(commandLine.getProfilers().isEmpty())
+		{
+			options.addProfiler(GCProfiler.class);
+		}
+
+		new Runner(options.build()).run();
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	/**
+	 * Dummy constructor to prevent instantiation of this static-only utility class.
+	 *
+	 * @throws UnsupportedOperationException when called
+	 */
+	private BenchmarkRunner()
+	{
+		// static only
+		throw new UnsupportedOperationException();
+	}
+
+}
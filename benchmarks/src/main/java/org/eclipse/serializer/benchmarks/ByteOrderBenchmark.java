@@ -0,0 +1,135 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.memory.XByteOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Serialization of large primitive arrays and {@link BitSet}s in the native and in the opposite byte order,
+ * i.e. plain memory copying versus the bulk reversal of {@link XByteOrder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ByteOrderBenchmark
+{
+	static final String
+		NATIVE   = "native"  ,
+		REVERSED = "reversed",
+		BIT_SET  = "bitset"
+	;
+
+	@Param({NATIVE, REVERSED})
+	public String byteOrder;
+
+	@Param({
+		BenchmarkGraphs.INTS   ,
+		BenchmarkGraphs.LONGS  ,
+		BenchmarkGraphs.DOUBLES,
+		BIT_SET
+	})
+	public String payloadType;
+
+	@Param({"1000", "1000000"})
+	public int size;
+
+	private Serializer<byte[]> serializer;
+	private Object             payload   ;
+	private byte[]             serialized;
+
+	private static ByteOrder byteOrder(final String byteOrder)
+	{
+		if(NATIVE.equals(byteOrder))
+		{
+			return ByteOrder.nativeOrder();
+		}
+
+		return ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN
+			? ByteOrder.LITTLE_ENDIAN
+			: ByteOrder.BIG_ENDIAN
+		;
+	}
+
+	private static Object payload(final String type, final int size)
+	{
+		if(!BIT_SET.equals(type))
+		{
+			return BenchmarkGraphs.payload(type, size);
+		}
+
+		// one word per 64 bits, so size words in total
+		final Random random = new Random(42);
+		final BitSet bitSet = new BitSet(size * Long.SIZE);
+		for(int i = 0; i < size * 8; i++)
+		{
+			bitSet.set(random.nextInt(size * Long.SIZE));
+		}
+
+		return bitSet;
+	}
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		this.serializer = Serializer.Bytes(
+			SerializerFoundation.New().setTargetByteOrder(byteOrder(this.byteOrder))
+		);
+		this.payload    = payload(this.payloadType, this.size);
+		this.serialized = this.serializer.serialize(this.payload);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.serializer.close();
+	}
+
+	@Benchmark
+	public byte[] serialize()
+	{
+		return this.serializer.serialize(this.payload);
+	}
+
+	@Benchmark
+	public Object deserialize()
+	{
+		return this.serializer.deserialize(this.serialized);
+	}
+
+}
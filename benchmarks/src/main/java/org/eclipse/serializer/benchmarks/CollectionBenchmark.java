@@ -0,0 +1,89 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Serialization of collection-heavy graphs, covering the JDK collection handlers as well as the
+ * {@code EqHashTable} handler.<br>
+ * {@code LazyHashMap} is covered by {@link LazyCollectionBenchmark}, since the {@link Serializer}
+ * does not support lazy references.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionBenchmark
+{
+	@Param({
+		BenchmarkGraphs.ARRAY_LIST   ,
+		BenchmarkGraphs.HASH_MAP     ,
+		BenchmarkGraphs.EQ_HASH_TABLE
+	})
+	public String collectionType;
+
+	@Param({"100", "10000"})
+	public int size;
+
+	private Serializer<byte[]> serializer;
+	private Object             graph     ;
+	private byte[]             serialized;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		this.serializer = Serializer.Bytes();
+		this.graph      = BenchmarkGraphs.collectionGraph(this.collectionType, this.size);
+		this.serialized = this.serializer.serialize(this.graph);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.serializer.close();
+	}
+
+	@Benchmark
+	public byte[] serialize()
+	{
+		return this.serializer.serialize(this.graph);
+	}
+
+	@Benchmark
+	public Object deserialize()
+	{
+		return this.serializer.deserialize(this.serialized);
+	}
+
+}
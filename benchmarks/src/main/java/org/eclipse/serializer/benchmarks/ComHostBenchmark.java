@@ -0,0 +1,178 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.communication.binarydynamic.ComBinaryDynamic;
+import org.eclipse.serializer.communication.types.ComChannel;
+import org.eclipse.serializer.communication.types.ComClient;
+import org.eclipse.serializer.communication.types.ComConnection;
+import org.eclipse.serializer.communication.types.ComFoundation;
+import org.eclipse.serializer.communication.types.ComHost;
+import org.eclipse.serializer.communication.types.ComHostCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Complete client sessions, i.e. connecting, one request and reply and closing, against a {@link ComHost} on the
+ * loopback interface, for the default host serving one connection after the other and for the
+ * {@link ComHost.Concurrent} host. Every benchmark thread is one client, the thread count defaults to 8 and can
+ * be changed with JMH's {@code -t} option. The host may spend some time on every request, simulating blocking
+ * work like a database access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ComHostBenchmark
+{
+	static final String
+		SEQUENTIAL = "sequential",
+		CONCURRENT = "concurrent"
+	;
+
+	@Param({SEQUENTIAL, CONCURRENT})
+	public String hostType;
+
+	@Param({"0", "20"})
+	public int serviceMillis;
+
+	private ComHost<ComConnection> host      ;
+	private Thread                 hostThread;
+	private int                    port      ;
+
+	private static int findFreePort() throws IOException
+	{
+		try(ServerSocket socket = new ServerSocket(0))
+		{
+			return socket.getLocalPort();
+		}
+	}
+
+	private static ComHostCreator<ComConnection> hostCreator(final String hostType)
+	{
+		switch(hostType)
+		{
+			case SEQUENTIAL:
+			{
+				return ComHost.Creator();
+			}
+			case CONCURRENT:
+			{
+				return ComHostCreator.Concurrent(256);
+			}
+			default:
+			{
+				throw new IllegalArgumentException("Unknown host type: " + hostType);
+			}
+		}
+	}
+
+	private static List<Integer> createReply(final Object request)
+	{
+		final List<Integer> reply = new ArrayList<>(100);
+		for(int i = 0; i < 100; i++)
+		{
+			reply.add(request.hashCode() + i);
+		}
+
+		return reply;
+	}
+
+	private ComHost<ComConnection> createHost(final ComFoundation.Default<?> foundation)
+	{
+		return foundation
+			.setHostCreator(hostCreator(this.hostType))
+			.setPort(this.port)
+			.setHostChannelAcceptor(hostChannel ->
+			{
+				try
+				{
+					final Object request = hostChannel.receive();
+					if(this.serviceMillis > 0)
+					{
+						Thread.sleep(this.serviceMillis);
+					}
+					hostChannel.send(createReply(request));
+				}
+				catch(final InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+				finally
+				{
+					hostChannel.close();
+				}
+			})
+			.createHost()
+		;
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		this.port       = findFreePort();
+		this.host       = this.createHost(ComBinaryDynamic.Foundation());
+		this.hostThread = new Thread(this.host, "ComHostBenchmark-Host");
+		this.hostThread.setDaemon(true);
+		this.hostThread.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws InterruptedException
+	{
+		this.host.stop();
+		this.hostThread.join(5_000);
+	}
+
+	@Benchmark
+	public Object session()
+	{
+		final ComClient<?> client  = ComBinaryDynamic.Client(this.port);
+		final ComChannel   channel = client.connect(100, Duration.ofMillis(10));
+		try
+		{
+			channel.send("request");
+			return channel.receive();
+		}
+		finally
+		{
+			channel.close();
+		}
+	}
+
+}
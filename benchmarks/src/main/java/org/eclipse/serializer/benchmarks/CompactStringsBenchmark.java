@@ -0,0 +1,106 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Size and throughput of a string payload in the regular versus the compact chars layout, see
+ * {@link SerializerFoundation#setCompactStrings(boolean)}. Besides the throughput, the serialize benchmark reports the produced bytes per second
+ * as the secondary result <code>serializedBytes</code>. Divided by the primary score, that is the size of one
+ * serialized payload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactStringsBenchmark
+{
+	@Param({"regular", "compact"})
+	public String layout;
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private Serializer<byte[]> serializer;
+	private Object             payload   ;
+	private byte[]             serialized;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		this.serializer = Serializer.Bytes(
+			SerializerFoundation.New().setCompactStrings("compact".equals(this.layout))
+		);
+		this.payload    = BenchmarkGraphs.payload(BenchmarkGraphs.STRINGS, this.size);
+		this.serialized = this.serializer.serialize(this.payload);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.serializer.close();
+	}
+
+	@Benchmark
+	public byte[] serialize(final Size size)
+	{
+		final byte[] serialized = this.serializer.serialize(this.payload);
+		size.serializedBytes += serialized.length;
+
+		return serialized;
+	}
+
+	@Benchmark
+	public Object deserialize()
+	{
+		return this.serializer.deserialize(this.serialized);
+	}
+
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Size
+	{
+		public long serializedBytes;
+
+		@Setup(Level.Iteration)
+		public void reset()
+		{
+			this.serializedBytes = 0;
+		}
+	}
+
+}
@@ -0,0 +1,160 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompressionCodec;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Ratio and throughput of the {@link BinaryCompressionCodec}s, both for complete {@link Serializer} round trips
+ * and for the codecs alone on the uncompressed serialized graph.
+ * <p>
+ * The serialize benchmark reports the produced bytes per second as the secondary result
+ * <code>serializedBytes</code>. Divided by the primary score, that is the size of one serialized graph, so the
+ * ratio is that size relative to the one of the <code>none</code> codec. The compress and decompress benchmarks
+ * report the uncompressed bytes per second as <code>rawBytes</code>, i.e. the codec's throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark
+{
+	@Param({"none", "lz4", "deflate"})
+	public String codec;
+
+	@Param({BenchmarkGraphs.SMALL, BenchmarkGraphs.MEDIUM, BenchmarkGraphs.DEEP})
+	public String shape;
+
+	private BinaryCompressionCodec compressionCodec;
+	private Serializer<byte[]>     serializer      ;
+	private Object                 graph           ;
+	private byte[]                 serialized      ;
+	private ByteBuffer             raw             ;
+	private ByteBuffer             compressed      ;
+	private ByteBuffer             decompressed    ;
+
+	private static BinaryCompressionCodec codec(final String name)
+	{
+		switch(name)
+		{
+			case "none"   : return BinaryCompressionCodec.None();
+			case "lz4"    : return BinaryCompressionCodec.Lz4();
+			case "deflate": return BinaryCompressionCodec.Deflate();
+			default:
+				throw new IllegalArgumentException("Unknown codec: " + name);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception
+	{
+		this.compressionCodec = codec(this.codec);
+		this.serializer       = Serializer.Bytes(SerializerFoundation.New().setCompressionCodec(this.compressionCodec));
+		this.graph            = BenchmarkGraphs.entityGraph(this.shape);
+		this.serialized       = this.serializer.serialize(this.graph);
+
+		try(Serializer<byte[]> uncompressed = Serializer.Bytes())
+		{
+			this.raw = XMemory.toDirectByteBuffer(uncompressed.serialize(this.graph));
+		}
+		this.compressed   = XMemory.allocateDirectNative(this.compressionCodec.maximumCompressedLength(this.raw.limit()));
+		this.decompressed = XMemory.allocateDirectNative(this.raw.limit());
+		this.compressionCodec.compress(this.raw.duplicate(), this.compressed);
+		this.compressed.flip();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.serializer.close();
+		XMemory.deallocateDirectByteBuffer(this.raw);
+		XMemory.deallocateDirectByteBuffer(this.compressed);
+		XMemory.deallocateDirectByteBuffer(this.decompressed);
+	}
+
+	@Benchmark
+	public byte[] serialize(final Size size)
+	{
+		final byte[] serialized = this.serializer.serialize(this.graph);
+		size.serializedBytes += serialized.length;
+
+		return serialized;
+	}
+
+	@Benchmark
+	public Object deserialize()
+	{
+		return this.serializer.deserialize(this.serialized);
+	}
+
+	@Benchmark
+	public int compress(final Size size)
+	{
+		final ByteBuffer target = this.compressed.duplicate().clear();
+		size.rawBytes += this.raw.limit();
+
+		return this.compressionCodec.compress(this.raw.duplicate(), target);
+	}
+
+	@Benchmark
+	public ByteBuffer decompress(final Size size)
+	{
+		final ByteBuffer target = this.decompressed.duplicate().clear();
+		this.compressionCodec.decompress(this.compressed.duplicate(), target);
+		size.rawBytes += this.raw.limit();
+
+		return target;
+	}
+
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Size
+	{
+		public long serializedBytes;
+		public long rawBytes       ;
+
+		@Setup(Level.Iteration)
+		public void reset()
+		{
+			this.serializedBytes = 0;
+			this.rawBytes        = 0;
+		}
+	}
+
+}
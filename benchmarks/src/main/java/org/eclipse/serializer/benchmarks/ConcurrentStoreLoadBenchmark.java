@@ -0,0 +1,132 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SharedRegistrySerializerFoundation;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceObjectRegistry;
+import org.eclipse.serializer.persistence.types.PersistenceStorer;
+import org.eclipse.serializer.util.X;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Storing and loading by several threads at once via one persistence manager, whose storers and loaders
+ * all share its global {@link PersistenceObjectRegistry}, for each registry type of
+ * {@link ObjectRegistryBenchmark#registryCreator(String)}.
+ * <p>
+ * Every thread eagerly stores its own graph, so every store looks up every instance of the graph in the
+ * shared registry, and loads the data it has written last, resolving every instance from the registry.
+ * Additionally, every thread stores newly created graphs, so every store assigns new object ids to all
+ * of their instances.
+ * The thread count defaults to 8 and can be changed with JMH's {@code -t} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ConcurrentStoreLoadBenchmark
+{
+	@Param({ObjectRegistryBenchmark.DEFAULT, ObjectRegistryBenchmark.CONCURRENT})
+	public String registryType;
+
+	@Param({BenchmarkGraphs.SMALL, BenchmarkGraphs.MEDIUM})
+	public String shape;
+
+	PersistenceManager<Binary> persistenceManager;
+
+	// every thread reads what it has written itself.
+	final ThreadLocal<Binary> data = new ThreadLocal<>();
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		final Serializer.Source source = () -> X.Constant(this.data.get());
+		final Serializer.Target target = this.data::set;
+
+		this.persistenceManager = SharedRegistrySerializerFoundation.New()
+			.setObjectRegistryCreator(ObjectRegistryBenchmark.registryCreator(this.registryType))
+			.setPersistenceSource(source)
+			.setPersistenceTarget(target)
+			.createPersistenceManager()
+		;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.persistenceManager.close();
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadGraph
+	{
+		Object graph;
+
+		@Setup(Level.Trial)
+		public void setup(final ConcurrentStoreLoadBenchmark benchmark)
+		{
+			this.graph = BenchmarkGraphs.entityGraph(benchmark.shape);
+			benchmark.store(this);
+		}
+	}
+
+	@Benchmark
+	public Binary store(final ThreadGraph threadGraph)
+	{
+		final PersistenceStorer storer = this.persistenceManager.createEagerStorer();
+		storer.store(threadGraph.graph);
+		storer.commit();
+
+		return this.data.get();
+	}
+
+	@Benchmark
+	public Binary storeNew()
+	{
+		final PersistenceStorer storer = this.persistenceManager.createStorer();
+		storer.store(BenchmarkGraphs.entityGraph(this.shape));
+		storer.commit();
+
+		return this.data.get();
+	}
+
+	@Benchmark
+	public Object load(final ThreadGraph threadGraph)
+	{
+		return this.persistenceManager.get();
+	}
+
+}
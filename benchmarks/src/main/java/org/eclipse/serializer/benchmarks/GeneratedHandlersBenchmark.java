@@ -0,0 +1,87 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.persistence.binary.types.BinaryHandlerGeneratedType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Throughput of the reflective generic type handlers, storing and setting values via one function call per
+ * field, versus the {@link BinaryHandlerGeneratedType}s with a generated accessor per type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratedHandlersBenchmark
+{
+	@Param({"reflective", "generated"})
+	public String handlers;
+
+	@Param({BenchmarkGraphs.MEDIUM, BenchmarkGraphs.WIDE})
+	public String shape;
+
+	private Serializer<byte[]> serializer;
+	private Object             graph     ;
+	private byte[]             serialized;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		this.serializer = Serializer.Bytes(
+			SerializerFoundation.New().setGeneratedTypeHandlers("generated".equals(this.handlers))
+		);
+		this.graph      = BenchmarkGraphs.entityGraph(this.shape);
+		this.serialized = this.serializer.serialize(this.graph);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.serializer.close();
+	}
+
+	@Benchmark
+	public byte[] serialize()
+	{
+		return this.serializer.serialize(this.graph);
+	}
+
+	@Benchmark
+	public Object deserialize()
+	{
+		return this.serializer.deserialize(this.serialized);
+	}
+
+}
@@ -0,0 +1,105 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceStorer;
+import org.eclipse.serializer.util.X;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Storing and loading a {@code LazyHashMap} via the persistence manager of a serializer foundation,
+ * like {@link StorerLoaderBenchmark} does for entity graphs.
+ * <p>
+ * A stored lazy reference is bound to the object id of its subject, so every store operates on a
+ * freshly created map. The {@link Serializer} itself rejects lazy references.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyCollectionBenchmark
+{
+	@Param({"1000", "10000"})
+	public int size;
+
+	private PersistenceManager<Binary> persistenceManager;
+	private Object                     graph             ;
+	private Binary                     data              ;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		final Serializer.Source source = () -> X.Constant(this.data);
+		final Serializer.Target target = data -> this.data = data;
+
+		this.persistenceManager = SerializerFoundation.New()
+			.setPersistenceSource(source)
+			.setPersistenceTarget(target)
+			.createPersistenceManager()
+		;
+		this.createGraph();
+		this.store();
+	}
+
+	@Setup(Level.Invocation)
+	public void createGraph()
+	{
+		this.graph = BenchmarkGraphs.collectionGraph(BenchmarkGraphs.LAZY_HASH_MAP, this.size);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.persistenceManager.close();
+	}
+
+	@Benchmark
+	public Binary store()
+	{
+		final PersistenceStorer storer = this.persistenceManager.createStorer();
+		storer.store(this.graph);
+		storer.commit();
+
+		return this.data;
+	}
+
+	@Benchmark
+	public Object load()
+	{
+		return this.persistenceManager.get();
+	}
+
+}
@@ -0,0 +1,162 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.monitoring.MonitoringManager;
+import org.eclipse.serializer.reference.Lazy;
+import org.eclipse.serializer.reference.LazyReferenceManager;
+import org.eclipse.serializer.reference._longReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Registering lazy references from several threads and checking them in a cleanup cycle,
+ * for the {@link LazyReferenceManager.Default} and the {@link LazyReferenceManager.Sharded} manager.
+ * <p>
+ * {@code register} registers batches of references from 4 threads into a fresh manager per iteration.
+ * {@code cleanUpCycle} performs one unbudgeted cleanup cycle over a million registered references,
+ * half of them unloaded, without clearing any of them.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class LazyReferenceManagerBenchmark
+{
+	static final long BASE_OBJECT_ID = 1_000_000_000_000_000_000L;
+
+	static final int REFERENCE_COUNT = 1_000_000;
+
+	static final String
+		DEFAULT = "default",
+		SHARDED = "sharded"
+	;
+
+	static LazyReferenceManager manager(final String managerType)
+	{
+		// checks, but never clears
+		final Lazy.Checker checker = lazyReference -> false;
+		switch(managerType)
+		{
+			case DEFAULT:
+			{
+				return LazyReferenceManager.New(
+					checker                           ,
+					_longReference.New(1_000)         ,
+					_longReference.New(Long.MAX_VALUE),
+					MonitoringManager.Disabled()
+				);
+			}
+			case SHARDED:
+			{
+				return LazyReferenceManager.Sharded(
+					checker                                  ,
+					_longReference.New(1_000)                ,
+					_longReference.New(Long.MAX_VALUE)       ,
+					MonitoringManager.Disabled()             ,
+					LazyReferenceManager.Sharded.defaultShardCount()
+				);
+			}
+			default:
+			{
+				throw new IllegalArgumentException("Unknown manager type: " + managerType);
+			}
+		}
+	}
+
+	static Lazy<Object> storedLazy(final long objectId, final boolean loaded)
+	{
+		final Object       subject = new Object();
+		final Lazy<Object> lazy    = Lazy.UnregisteredReference(subject);
+		((Lazy.Default<Object>)lazy).$link(objectId, id -> subject);
+		if(!loaded)
+		{
+			lazy.clear();
+		}
+		return lazy;
+	}
+
+	@Param({DEFAULT, SHARDED})
+	public String managerType;
+
+	LazyReferenceManager registerManager;
+	LazyReferenceManager cleanUpManager ;
+	Lazy<?>[]            references     ;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		this.references     = new Lazy<?>[REFERENCE_COUNT];
+		this.cleanUpManager = manager(this.managerType);
+		for(int i = 0; i < REFERENCE_COUNT; i++)
+		{
+			this.references[i] = storedLazy(BASE_OBJECT_ID + i, i % 2 == 0);
+			this.cleanUpManager.register(this.references[i]);
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void newRegisterManager()
+	{
+		this.registerManager = manager(this.managerType);
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor
+	{
+		int index;
+
+		final int next()
+		{
+			final int index = this.index;
+			this.index = index + 1 == REFERENCE_COUNT ? 0 : index + 1;
+			return index;
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 5, batchSize = 250_000)
+	@Measurement(iterations = 10, batchSize = 250_000)
+	@Threads(4)
+	public void register(final Cursor cursor)
+	{
+		this.registerManager.register(this.references[cursor.next()]);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@Warmup(iterations = 3, time = 2)
+	@Measurement(iterations = 5, time = 2)
+	@Threads(1)
+	public void cleanUpCycle()
+	{
+		this.cleanUpManager.cleanUp();
+	}
+
+}
@@ -0,0 +1,145 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.memory.MemoryAccessor;
+import org.eclipse.serializer.memory.MemoryAccessorProvider;
+import org.eclipse.serializer.memory.MemoryAccessorResolver;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.memory.sun.JdkMemoryAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * {@link Serializer#Bytes()} round trips with the different {@link MemoryAccessor} implementations:
+ * the {@link JdkMemoryAccessor} based on {@code sun.misc.Unsafe}, the JNI based {@code NativeMemoryAccessor} and
+ * the {@code ForeignMemoryAccessor} based on the Foreign Function and Memory API.
+ * <p>
+ * The latter two are provided by the nativememory module, which is only built on Java 24 and newer and is then
+ * added to the benchmarks. They are resolved by their {@link MemoryAccessorProvider}. Every accessor is measured
+ * in its own fork, as the accessor is set globally.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemoryAccessorBenchmark
+{
+	static final String
+		JDK     = "jdk"    ,
+		NATIVE  = "native" ,
+		FOREIGN = "foreign"
+	;
+
+	@Param({JDK, NATIVE, FOREIGN})
+	public String accessor;
+
+	@Param({BenchmarkGraphs.SMALL, BenchmarkGraphs.MEDIUM, BenchmarkGraphs.DEEP})
+	public String shape;
+
+	private Serializer<byte[]> serializer;
+	private Object             graph     ;
+	private byte[]             serialized;
+
+	private static MemoryAccessor resolve(final String providerName)
+	{
+		final MemoryAccessorProvider provider = MemoryAccessorResolver.resolveProvider(providerName);
+		if(provider == null)
+		{
+			throw new IllegalStateException(
+				providerName + " is not available, the nativememory module requires Java 24 or newer."
+			);
+		}
+
+		return provider.create();
+	}
+
+	private static void setMemoryAccessor(final String accessor)
+	{
+		switch(accessor)
+		{
+			case JDK:
+			{
+				XMemory.setMemoryHandling(JdkMemoryAccessor.New());
+				break;
+			}
+			case NATIVE:
+			{
+				XMemory.setMemoryAccessor(resolve("NativeMemoryAccessorProvider"));
+				break;
+			}
+			case FOREIGN:
+			{
+				XMemory.setMemoryAccessor(resolve("ForeignMemoryAccessorProvider"));
+				break;
+			}
+			default:
+			{
+				throw new IllegalArgumentException("Unknown accessor: " + accessor);
+			}
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		setMemoryAccessor(this.accessor);
+		this.serializer = Serializer.Bytes();
+		this.graph      = BenchmarkGraphs.entityGraph(this.shape);
+		this.serialized = this.serializer.serialize(this.graph);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.serializer.close();
+	}
+
+	@Benchmark
+	public byte[] serialize()
+	{
+		return this.serializer.serialize(this.graph);
+	}
+
+	@Benchmark
+	public Object deserialize()
+	{
+		return this.serializer.deserialize(this.serialized);
+	}
+
+	@Benchmark
+	public Object roundTrip()
+	{
+		return this.serializer.deserialize(this.serializer.serialize(this.graph));
+	}
+
+}
@@ -0,0 +1,131 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.serializer.util.traversing.ObjectGraphTraverser;
+import org.eclipse.serializer.util.traversing.TraversalAcceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Traversing a random graph of a million nodes with additional cross references with the
+ * {@link ObjectGraphTraverser}, single-threaded and with several threads.
+ * <p>
+ * {@code traverse} counts every visited reference with a thread-safe acceptor,
+ * {@code stream} counts the instances emitted by the sequential or parallel stream view of the traversal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectGraphTraverserBenchmark
+{
+	static final int NODE_COUNT = 1_000_000;
+
+	static final class Node
+	{
+		final int id      ;
+		Node[]    children;
+
+		Node(final int id)
+		{
+			super();
+			this.id = id;
+		}
+	}
+
+	static Node createGraph()
+	{
+		final Random           random   = new Random(42);
+		final Node[]           nodes    = new Node[NODE_COUNT];
+		final List<List<Node>> children = new ArrayList<>(NODE_COUNT);
+		for(int i = 0; i < NODE_COUNT; i++)
+		{
+			nodes[i] = new Node(i);
+			children.add(new ArrayList<>());
+		}
+		for(int i = 1; i < NODE_COUNT; i++)
+		{
+			children.get(random.nextInt(i)).add(nodes[i]);
+			children.get(random.nextInt(NODE_COUNT)).add(nodes[random.nextInt(NODE_COUNT)]);
+		}
+		for(int i = 0; i < NODE_COUNT; i++)
+		{
+			nodes[i].children = children.get(i).toArray(new Node[0]);
+		}
+		return nodes[0];
+	}
+
+	@Param({"1", "4"})
+	public int parallelism;
+
+	Node                 root     ;
+	ObjectGraphTraverser traverser;
+	LongAdder            counter  ;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		this.root      = createGraph();
+		this.counter   = new LongAdder();
+		final LongAdder counter = this.counter;
+		this.traverser = ObjectGraphTraverser.Builder()
+			.parallelism(this.parallelism)
+			.acceptor((TraversalAcceptor)(instance, parent) ->
+			{
+				counter.increment();
+				return true;
+			})
+			.roots(this.root)
+			.buildObjectGraphTraverser()
+		;
+	}
+
+	@Benchmark
+	public long traverse()
+	{
+		this.traverser.traverse();
+		return this.counter.sumThenReset();
+	}
+
+	@Benchmark
+	public long stream()
+	{
+		return this.parallelism > 1
+			? this.traverser.parallelStream().count()
+			: this.traverser.stream().count()
+		;
+	}
+
+}
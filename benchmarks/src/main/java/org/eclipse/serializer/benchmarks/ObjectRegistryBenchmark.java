@@ -0,0 +1,156 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.serializer.persistence.types.ConcurrentObjectRegistry;
+import org.eclipse.serializer.persistence.types.DefaultObjectRegistry;
+import org.eclipse.serializer.persistence.types.PersistenceObjectRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Lookups and registrations on a shared {@link PersistenceObjectRegistry} by several threads at once,
+ * for the {@link DefaultObjectRegistry} and the {@link ConcurrentObjectRegistry}.
+ * The thread count defaults to 4 and can be changed with JMH's {@code -t} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ObjectRegistryBenchmark
+{
+	static final long BASE_OBJECT_ID = 1_000_000_000_000_000_000L;
+
+	static final String
+		DEFAULT    = "default"   ,
+		CONCURRENT = "concurrent"
+	;
+
+	/**
+	 * @param registryType {@link #DEFAULT} or {@link #CONCURRENT}.
+	 *
+	 * @return the creator for the object registry type.
+	 */
+	static PersistenceObjectRegistry.Creator registryCreator(final String registryType)
+	{
+		switch(registryType)
+		{
+			case DEFAULT:
+			{
+				return DefaultObjectRegistry::New;
+			}
+			case CONCURRENT:
+			{
+				return ConcurrentObjectRegistry::New;
+			}
+			default:
+			{
+				throw new IllegalArgumentException("Unknown registry type: " + registryType);
+			}
+		}
+	}
+
+	@Param({DEFAULT, CONCURRENT})
+	public String registryType;
+
+	@Param({"10000", "1000000"})
+	public int size;
+
+	PersistenceObjectRegistry registry    ;
+	Object[]                  objects     ;
+	long[]                    objectIds   ;
+	AtomicLong                nextObjectId;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		this.registry  = registryCreator(this.registryType).createObjectRegistry();
+		this.objects   = new Object[this.size];
+		this.objectIds = new long[this.size];
+		for(int i = 0; i < this.size; i++)
+		{
+			this.objects[i]   = new Object();
+			this.objectIds[i] = BASE_OBJECT_ID + i;
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void populate()
+	{
+		this.registry.truncateAll();
+		for(int i = 0; i < this.size; i++)
+		{
+			this.registry.registerObject(this.objectIds[i], this.objects[i]);
+		}
+		this.nextObjectId = new AtomicLong(BASE_OBJECT_ID + this.size);
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor
+	{
+		int index;
+
+		final int next(final int size)
+		{
+			final int index = this.index;
+			this.index = index + 1 == size ? 0 : index + 1;
+			return index;
+		}
+	}
+
+	@Benchmark
+	public long lookupObjectId(final Cursor cursor)
+	{
+		return this.registry.lookupObjectId(this.objects[cursor.next(this.size)]);
+	}
+
+	@Benchmark
+	public Object lookupObject(final Cursor cursor)
+	{
+		return this.registry.lookupObject(this.objectIds[cursor.next(this.size)]);
+	}
+
+	@Benchmark
+	public Object optionalRegisterKnownObject(final Cursor cursor)
+	{
+		final int index = cursor.next(this.size);
+		return this.registry.optionalRegisterObject(this.objectIds[index], this.objects[index]);
+	}
+
+	@Benchmark
+	public boolean registerNewObject()
+	{
+		return this.registry.registerObject(this.nextObjectId.getAndIncrement(), new Object());
+	}
+
+}
@@ -0,0 +1,114 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SharedRegistrySerializerFoundation;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryLoader;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.util.X;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Loading a graph of millions of entities that are not registered yet, built sequentially and in parallel
+ * (see {@link BinaryLoader#CreatorSimple(boolean, java.util.concurrent.Executor, int)}).
+ * <p>
+ * The object registry is cleared before every invocation, so all instances are created anew.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelLoadingBenchmark
+{
+	static final String
+		SEQUENTIAL = "sequential",
+		PARALLEL   = "parallel"
+	;
+
+	@Param({SEQUENTIAL, PARALLEL})
+	public String mode;
+
+	// about 27 entities per customer
+	@Param({"40000"})
+	public int customerCount;
+
+	private SharedRegistrySerializerFoundation foundation        ;
+	private PersistenceManager<Binary>         persistenceManager;
+	private BinaryLoader.Creator               loaderCreator     ;
+	private Binary                             data              ;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		final Serializer.Source source = () -> X.Constant(this.data);
+		final Serializer.Target target = data -> this.data = data;
+
+		this.foundation = SharedRegistrySerializerFoundation.New()
+			.setPersistenceSource(source)
+			.setPersistenceTarget(target)
+		;
+		this.persistenceManager = this.foundation.createPersistenceManager();
+		this.loaderCreator = PARALLEL.equals(this.mode)
+			? BinaryLoader.CreatorSimple(false, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() + 1)
+			: BinaryLoader.CreatorSimple(false)
+		;
+
+		this.persistenceManager.store(BenchmarkGraphs.customers(this.customerCount));
+	}
+
+	@Setup(Level.Invocation)
+	public void clearRegistry()
+	{
+		this.foundation.getObjectRegistry().clear();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.persistenceManager.close();
+	}
+
+	@Benchmark
+	public Object load()
+	{
+		return this.loaderCreator.createLoader(
+			this.foundation.getTypeHandlerManager(),
+			this.foundation.getObjectRegistry()    ,
+			this.persistenceManager                ,
+			this.persistenceManager
+		).get();
+	}
+
+}
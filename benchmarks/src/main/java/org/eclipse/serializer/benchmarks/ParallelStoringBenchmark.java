@@ -0,0 +1,136 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SharedRegistrySerializerFoundation;
+import org.eclipse.serializer.memory.BufferPool;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryStorer;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceStorer;
+import org.eclipse.serializer.util.BufferSizeProviderIncremental;
+import org.eclipse.serializer.util.X;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Storing a graph of millions of new entities in one commit, sequentially and in parallel per channel
+ * (see {@link BinaryStorer.Collaborators#New(BufferPool, java.util.concurrent.Executor,
+ * org.eclipse.serializer.persistence.binary.types.BinaryChangeTracker)}).
+ * <p>
+ * Every invocation stores a freshly created graph, so all entities are new and get object ids assigned.
+ * The written data is discarded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelStoringBenchmark
+{
+	static final String
+		SEQUENTIAL = "sequential",
+		PARALLEL   = "parallel"
+	;
+
+	@Param({SEQUENTIAL, PARALLEL})
+	public String mode;
+
+	@Param({"4", "16"})
+	public int channelCount;
+
+	// about 27 entities per customer
+	@Param({"40000"})
+	public int customerCount;
+
+	private SharedRegistrySerializerFoundation foundation        ;
+	private PersistenceManager<Binary>         persistenceManager;
+	private BinaryStorer.Creator               storerCreator     ;
+	private Object                             graph             ;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		final Serializer.Source source = () -> X.empty();
+		final Serializer.Target target = data -> {};
+
+		this.foundation = SharedRegistrySerializerFoundation.New()
+			.setPersistenceSource(source)
+			.setPersistenceTarget(target)
+		;
+		this.persistenceManager = this.foundation.createPersistenceManager();
+		this.storerCreator = BinaryStorer.Creator(
+			() -> this.channelCount,
+			false,
+			false,
+			false,
+			BinaryStorer.Collaborators.New(
+				BufferPool.Unpooled(),
+				PARALLEL.equals(this.mode) ? ForkJoinPool.commonPool() : null,
+				null
+			)
+		);
+
+		// registers the type handlers beforehand
+		this.persistenceManager.store(BenchmarkGraphs.customers(1));
+	}
+
+	@Setup(Level.Invocation)
+	public void createGraph()
+	{
+		this.graph = BenchmarkGraphs.customers(this.customerCount);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.persistenceManager.close();
+	}
+
+	@Benchmark
+	public long store()
+	{
+		final PersistenceStorer storer = this.storerCreator.createLazyStorer(
+			this.foundation.getTypeHandlerManager(),
+			this.foundation.getObjectManager()     ,
+			this.persistenceManager                ,
+			this.foundation.getPersistenceTarget() ,
+			BufferSizeProviderIncremental.New()    ,
+			null
+		);
+		final long objectId = storer.store(this.graph);
+		storer.commit();
+
+		return objectId;
+	}
+
+}
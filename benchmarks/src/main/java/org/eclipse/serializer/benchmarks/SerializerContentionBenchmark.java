@@ -0,0 +1,100 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+
+/**
+ * Round-trips by several threads at once through one serializer, comparing the single monitor of
+ * {@link Serializer#Bytes(SerializerFoundation)} with the pooled contexts of
+ * {@link Serializer#Concurrent(SerializerFoundation, int)}.
+ * <p>
+ * The pooled serializer gets one context per thread. The thread count defaults to 8 and can be changed
+ * with JMH's {@code -t} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class SerializerContentionBenchmark
+{
+	static final String SINGLE = "single";
+	static final String POOLED = "pooled";
+
+	@Param({SINGLE, POOLED})
+	public String serializerType;
+
+	@Param({BenchmarkGraphs.SMALL, BenchmarkGraphs.MEDIUM})
+	public String shape;
+
+	Serializer<byte[]> serializer;
+
+	@Setup(Level.Trial)
+	public void setup(final BenchmarkParams params)
+	{
+		this.serializer = POOLED.equals(this.serializerType)
+			? Serializer.Concurrent(SerializerFoundation.New(), params.getThreads())
+			: Serializer.Bytes(SerializerFoundation.New())
+		;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.serializer.close();
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadGraph
+	{
+		Object graph;
+
+		@Setup(Level.Trial)
+		public void setup(final SerializerContentionBenchmark benchmark)
+		{
+			this.graph = BenchmarkGraphs.entityGraph(benchmark.shape);
+		}
+	}
+
+	@Benchmark
+	public Object roundTrip(final ThreadGraph threadGraph)
+	{
+		return this.serializer.deserialize(this.serializer.serialize(threadGraph.graph));
+	}
+
+}
@@ -0,0 +1,101 @@
+package org.eclipse.serializer.benchmarks;
+
+/*-
+ * #%L
+ * Eclipse Serializer Benchmarks
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryLoader;
+import org.eclipse.serializer.persistence.binary.types.BinaryStorer;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceStorer;
+import org.eclipse.serializer.util.X;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Storing via the foundation's {@link BinaryStorer} and loading via its {@link BinaryLoader}, against an
+ * in-memory target that just keeps the last written {@link Binary}.
+ * <p>
+ * The serializer foundation registers instances only locally per storer and loader, so every store
+ * writes the complete graph and every load materializes all instances anew.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorerLoaderBenchmark
+{
+	@Param({BenchmarkGraphs.SMALL, BenchmarkGraphs.MEDIUM, BenchmarkGraphs.DEEP})
+	public String shape;
+
+	private PersistenceManager<Binary> persistenceManager;
+	private Object                     graph             ;
+	private Binary                     data              ;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		final Serializer.Source source = () -> X.Constant(this.data);
+		final Serializer.Target target = data -> this.data = data;
+
+		this.persistenceManager = SerializerFoundation.New()
+			.setPersistenceSource(source)
+			.setPersistenceTarget(target)
+			.createPersistenceManager()
+		;
+		this.graph = BenchmarkGraphs.entityGraph(this.shape);
+		this.store();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception
+	{
+		this.persistenceManager.close();
+	}
+
+	@Benchmark
+	public Binary store()
+	{
+		final PersistenceStorer storer = this.persistenceManager.createStorer();
+		storer.store(this.graph);
+		storer.commit();
+
+		return this.data;
+	}
+
+	@Benchmark
+	public Object load()
+	{
+		return this.persistenceManager.get();
+	}
+
+}
@@ -28,6 +28,7 @@ import org.eclipse.serializer.communication.types.ComFoundation;
 import org.eclipse.serializer.communication.types.ComHost;
 import org.eclipse.serializer.communication.types.ComHostChannelAcceptor;
 import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompressionCodec;
 import org.eclipse.serializer.util.X;
 
 public class ComBinary
@@ -38,6 +39,10 @@ public class ComBinary
 	 * See {@link org.eclipse.serializer.persistence.binary.types.Binary#lengthLength() Binary.lengthLength()}.
 	 * And a crc32 checksum of the chunk content length
 	 * <p>
+	 * The upper {@link Byte#SIZE} bits of the content length field hold the id of the
+	 * {@link BinaryCompressionCodec} the content is compressed with, 0 for uncompressed content.
+	 * So the header of uncompressed chunks did not change and the checksum covers the codec id as well.
+	 * <p>
 	 * In the future, the header might contain validation values like protocol name, version, byte order, etc.<br>
 	 * Maybe, the consequence will be a dynamically sized header, meaning there
 	 * <p>
@@ -50,10 +55,29 @@ public class ComBinary
 		return Long.BYTES + Long.BYTES;
 	}
 	
+	static final int  CHUNK_HEADER_CODEC_SHIFT         = Long.SIZE - Byte.SIZE;
+	static final long CHUNK_HEADER_CONTENT_LENGTH_MASK = (1L << CHUNK_HEADER_CODEC_SHIFT) - 1;
+	
 	public static long getChunkHeaderContentLength(
 		final ByteBuffer directByteBuffer ,
 		final boolean    switchedByteOrder
 	)
+	{
+		return getChunkHeaderField(directByteBuffer, switchedByteOrder) & CHUNK_HEADER_CONTENT_LENGTH_MASK;
+	}
+	
+	public static int getChunkHeaderCodecId(
+		final ByteBuffer directByteBuffer ,
+		final boolean    switchedByteOrder
+	)
+	{
+		return (int)(getChunkHeaderField(directByteBuffer, switchedByteOrder) >>> CHUNK_HEADER_CODEC_SHIFT);
+	}
+	
+	private static long getChunkHeaderField(
+		final ByteBuffer directByteBuffer ,
+		final boolean    switchedByteOrder
+	)
 	{
 		return switchedByteOrder
 			? Long.reverseBytes(XMemory.get_long(XMemory.getDirectByteBufferAddress(directByteBuffer)))
@@ -78,12 +102,33 @@ public class ComBinary
 		final boolean    switchedByteOrder
 	)
 	{
+		return setChunkHeaderContentLength(
+			directByteBuffer,
+			contentLength,
+			BinaryCompressionCodec.NONE_ID,
+			switchedByteOrder
+		);
+	}
+	
+	public static ByteBuffer setChunkHeaderContentLength(
+		final ByteBuffer directByteBuffer ,
+		final long       contentLength    ,
+		final int        codecId          ,
+		final boolean    switchedByteOrder
+	)
+	{
+		if((contentLength & ~CHUNK_HEADER_CONTENT_LENGTH_MASK) != 0)
+		{
+			throw new ComException("Invalid chunk content length: " + contentLength);
+		}
+		final long field = contentLength | (long)codecId << CHUNK_HEADER_CODEC_SHIFT;
+		
 		directByteBuffer.clear().limit(ComBinary.chunkHeaderLength());
 		XMemory.set_long(
 			XMemory.getDirectByteBufferAddress(directByteBuffer),
 			switchedByteOrder
-			? Long.reverseBytes(contentLength)
-			:                   contentLength
+			? Long.reverseBytes(field)
+			:                   field
 		);
 		
 		return directByteBuffer;
@@ -152,17 +197,42 @@ public class ComBinary
 	)
 		throws ComException, ComExceptionTimeout
 	{
-		ByteBuffer filledHeaderBuffer;
-		ByteBuffer filledContentBuffer;
+		final ByteBuffer filledHeaderBuffer = readChunkHeader(connection, defaultBuffer, switchedByteOrder);
 		
-		// the known-length header is read into a buffer
-		filledHeaderBuffer = connection.read(defaultBuffer, ComBinary.chunkHeaderLength());
-							
-		// the header starts with the content length (and currently, that is the whole header)
-		final long chunkContentLength = ComBinary.getChunkHeaderContentLength(
-			filledHeaderBuffer,
-			switchedByteOrder
+		// compressed content can only be read by a channel that knows the codecs, see readChunkContent.
+		final int codecId = ComBinary.getChunkHeaderCodecId(filledHeaderBuffer, switchedByteOrder);
+		if(codecId != BinaryCompressionCodec.NONE_ID)
+		{
+			throw new ComException("Unexpected compressed chunk content, codec id " + codecId);
+		}
+		
+		return readChunkContent(
+			connection,
+			defaultBuffer,
+			ComBinary.getChunkHeaderContentLength(filledHeaderBuffer, switchedByteOrder)
 		);
+	}
+	
+	/**
+	 * Reads the chunk header into the passed buffer and validates its checksum.
+	 * The content length and the codec id can then be read from the returned buffer.
+	 * 
+	 * @param connection the connection to read from
+	 * @param defaultBuffer the buffer to read into
+	 * @param switchedByteOrder whether the header has to be byte reversed
+	 * @return the buffer containing the header
+	 * @throws ComException if the checksum does not match
+	 * @throws ComExceptionTimeout if reading timed out
+	 */
+	public static ByteBuffer readChunkHeader(
+		final ComConnection connection       ,
+		final ByteBuffer    defaultBuffer    ,
+		final boolean       switchedByteOrder
+	)
+		throws ComException, ComExceptionTimeout
+	{
+		// the known-length header is read into a buffer
+		final ByteBuffer filledHeaderBuffer = connection.read(defaultBuffer, ComBinary.chunkHeaderLength());
 		
 		//get checksum, calculate and compare
 		final long contentLengthCheckSum = getChunkHeaderContentLengthChecksum(filledHeaderBuffer, switchedByteOrder);
@@ -172,15 +242,24 @@ public class ComBinary
 		{
 			throw new ComException("ContentLength checksum missmatch");
 		}
-				
 		
 		/* (13.11.2018 TM)NOTE:
 		 * Should the header contain validation meta-data in the future, they have to be validated here.
 		 * This would probably mean turning this method into an instance of a com-handling type.
 		 */
 		
+		return filledHeaderBuffer;
+	}
+	
+	public static ByteBuffer readChunkContent(
+		final ComConnection connection        ,
+		final ByteBuffer    defaultBuffer     ,
+		final long          chunkContentLength
+	)
+		throws ComException, ComExceptionTimeout
+	{
 		// the content after the header is read into a buffer since the header has already been siphoned off.
-		filledContentBuffer = connection.read(defaultBuffer, X.checkArrayRange(chunkContentLength));
+		final ByteBuffer filledContentBuffer = connection.read(defaultBuffer, X.checkArrayRange(chunkContentLength));
 		filledContentBuffer.flip();
 		
 		return filledContentBuffer;
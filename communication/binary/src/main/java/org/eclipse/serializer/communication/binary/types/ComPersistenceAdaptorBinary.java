@@ -28,6 +28,7 @@ import org.eclipse.serializer.persistence.binary.types.BinaryPersistenceFoundati
 import org.eclipse.serializer.persistence.types.PersistenceContextDispatcher;
 import org.eclipse.serializer.persistence.types.PersistenceFoundation;
 import org.eclipse.serializer.persistence.types.PersistenceIdStrategy;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
 import org.eclipse.serializer.persistence.types.PersistenceSizedArrayLengthController;
 import org.eclipse.serializer.persistence.types.PersistenceTypeDictionaryViewProvider;
 import org.eclipse.serializer.util.BufferSizeProvider;
@@ -150,6 +151,34 @@ public interface ComPersistenceAdaptorBinary<C> extends ComPersistenceAdaptor<C>
 		// methods //
 		////////////
 		
+		/*
+		 * The foundation and the type dictionary it contains are shared by all connections, only the channel is
+		 * set per connection. With connections being accepted concurrently (see ComHost.Concurrent), setting the
+		 * channel and creating the manager capturing it must not interleave.
+		 */
+		@Override
+		public PersistenceManager<?> provideHostPersistenceManager(
+			final ComConnection connection
+		)
+		{
+			synchronized(this.persistenceFoundation())
+			{
+				return this.provideHostPersistenceFoundation(connection).createPersistenceManager();
+			}
+		}
+		
+		@Override
+		public PersistenceManager<?> provideClientPersistenceManager(
+			final ComConnection connection,
+			final ComProtocol   protocol
+		)
+		{
+			synchronized(this.persistenceFoundation())
+			{
+				return this.provideClientPersistenceFoundation(connection, protocol).createPersistenceManager();
+			}
+		}
+		
 		@Override
 		public PersistenceFoundation<?, ?> provideHostPersistenceFoundation(
 			final ComConnection connection
@@ -165,7 +194,10 @@ public interface ComPersistenceAdaptorBinary<C> extends ComPersistenceAdaptor<C>
 					connection,
 					this.bufferSizeProvider(),
 					foundation,
-					this.comWriteController()
+					this.comWriteController(),
+					foundation.getBufferPool(),
+					foundation.getCompressionCodec(),
+					foundation.getMaximumDecodedLength()
 				);
 				foundation.setPersistenceChannel(channel);
 			}
@@ -187,7 +219,10 @@ public interface ComPersistenceAdaptorBinary<C> extends ComPersistenceAdaptor<C>
 				connection,
 				this.bufferSizeProvider(),
 				foundation,
-				this.comWriteController()
+				this.comWriteController(),
+				foundation.getBufferPool(),
+				foundation.getCompressionCodec(),
+				foundation.getMaximumDecodedLength()
 			);
 			foundation.setPersistenceChannel(channel);
 			
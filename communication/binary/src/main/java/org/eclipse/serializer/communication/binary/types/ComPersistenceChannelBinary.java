@@ -22,8 +22,10 @@ import org.eclipse.serializer.collections.types.XGettingCollection;
 import org.eclipse.serializer.com.ComException;
 import org.eclipse.serializer.communication.types.ComConnection;
 import org.eclipse.serializer.communication.types.ComPersistenceChannel;
-import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.math.XMath;
+import org.eclipse.serializer.memory.BufferPool;
 import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompressionCodec;
 import org.eclipse.serializer.persistence.binary.types.ChunksWrapper;
 import org.eclipse.serializer.persistence.binary.types.ChunksWrapperByteReversing;
 import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionTransfer;
@@ -40,12 +42,92 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 		final ByteOrderTargeting<?>      byteOrderTargeting,
 		final PersistenceWriteController writeController
 	)
+	{
+		return New(connection, bufferSizeProvider, byteOrderTargeting, writeController, BufferPool.Unpooled());
+	}
+	
+	public static ComPersistenceChannelBinary.Default New(
+		final ComConnection              connection        ,
+		final BufferSizeProvider         bufferSizeProvider,
+		final ByteOrderTargeting<?>      byteOrderTargeting,
+		final PersistenceWriteController writeController   ,
+		final BufferPool                 bufferPool
+	)
+	{
+		return New(
+			connection,
+			bufferSizeProvider,
+			byteOrderTargeting,
+			writeController,
+			bufferPool,
+			BinaryCompressionCodec.None()
+		);
+	}
+	
+	/**
+	 * Creates a channel compressing the content of every written chunk with the passed codec.
+	 * Chunks are decompressed with the codec recorded in their header, so both sides may use different codecs.
+	 * 
+	 * @param connection the connection to transfer the chunks over
+	 * @param bufferSizeProvider the provider of the default buffer sizes
+	 * @param byteOrderTargeting the byte order of the other side
+	 * @param writeController the controller of writing chunks
+	 * @param bufferPool the pool to obtain the default, encoding and decoding buffers from
+	 * @param compressionCodec the codec to compress written chunks with
+	 * @return the new channel
+	 */
+	public static ComPersistenceChannelBinary.Default New(
+		final ComConnection              connection        ,
+		final BufferSizeProvider         bufferSizeProvider,
+		final ByteOrderTargeting<?>      byteOrderTargeting,
+		final PersistenceWriteController writeController   ,
+		final BufferPool                 bufferPool        ,
+		final BinaryCompressionCodec     compressionCodec
+	)
+	{
+		return New(
+			connection,
+			bufferSizeProvider,
+			byteOrderTargeting,
+			writeController,
+			bufferPool,
+			compressionCodec,
+			BinaryCompressionCodec.DEFAULT_MAXIMUM_DECODED_LENGTH
+		);
+	}
+	
+	/**
+	 * Creates a channel compressing the content of every written chunk with the passed codec.
+	 * Chunks are decompressed with the codec recorded in their header, so both sides may use different codecs,
+	 * chunks claiming a decompressed length of more than the passed maximum are rejected.
+	 * 
+	 * @param connection the connection to transfer the chunks over
+	 * @param bufferSizeProvider the provider of the default buffer sizes
+	 * @param byteOrderTargeting the byte order of the other side
+	 * @param writeController the controller of writing chunks
+	 * @param bufferPool the pool to obtain the default, encoding and decoding buffers from
+	 * @param compressionCodec the codec to compress written chunks with
+	 * @param maximumDecodedLength the absolute maximum length a read chunk is decompressed to
+	 * @return the new channel
+	 */
+	public static ComPersistenceChannelBinary.Default New(
+		final ComConnection              connection          ,
+		final BufferSizeProvider         bufferSizeProvider  ,
+		final ByteOrderTargeting<?>      byteOrderTargeting  ,
+		final PersistenceWriteController writeController     ,
+		final BufferPool                 bufferPool          ,
+		final BinaryCompressionCodec     compressionCodec    ,
+		final long                       maximumDecodedLength
+	)
 	{
 		return new ComPersistenceChannelBinary.Default(
-			notNull(connection)           ,
-			notNull(bufferSizeProvider),
-			notNull(byteOrderTargeting),
-			notNull(writeController)
+			notNull(connection)                ,
+			notNull(bufferSizeProvider)        ,
+			notNull(byteOrderTargeting)        ,
+			notNull(writeController)           ,
+			notNull(bufferPool)                ,
+			notNull(compressionCodec)          ,
+			XMath.positive(maximumDecodedLength)
 		);
 	}
 	
@@ -58,8 +140,10 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 		////////////////////
 		
 		private final BufferSizeProvider bufferSizeProvider;
-		private       ByteBuffer         defaultBufferRead;
+		private final BufferPool         bufferPool        ;
+		private       ByteBuffer         defaultBufferRead ;
 		private       ByteBuffer         defaultBufferWrite;
+		private       ByteBuffer         decodeBuffer      ;
 		
 		
 		
@@ -68,9 +152,15 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 		/////////////////
 
 		Abstract(final C channel, final BufferSizeProvider bufferSizeProvider)
+		{
+			this(channel, bufferSizeProvider, BufferPool.Unpooled());
+		}
+		
+		Abstract(final C channel, final BufferSizeProvider bufferSizeProvider, final BufferPool bufferPool)
 		{
 			super(channel);
 			this.bufferSizeProvider = bufferSizeProvider;
+			this.bufferPool         = bufferPool        ;
 		}
 		
 		
@@ -83,7 +173,7 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 		{
 			if(this.defaultBufferRead == null)
 			{
-				this.defaultBufferRead = XMemory.allocateDirectNative(
+				this.defaultBufferRead = this.bufferPool.allocate(
 					this.bufferSizeProvider.provideBufferSize()
 				);
 			}
@@ -95,7 +185,7 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 		{
 			if(this.defaultBufferWrite == null)
 			{
-				this.defaultBufferWrite = XMemory.allocateDirectNative(
+				this.defaultBufferWrite = this.bufferPool.allocate(
 					this.bufferSizeProvider.provideBufferSize()
 				);
 			}
@@ -103,6 +193,54 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 			return this.defaultBufferWrite;
 		}
 		
+		protected BufferPool bufferPool()
+		{
+			return this.bufferPool;
+		}
+		
+		/**
+		 * Provides the cleared buffer compressed chunks are decompressed into, which is reused like the default
+		 * buffers and grown as required.
+		 * 
+		 * @param capacity the minimum required capacity
+		 * @return the cleared decode buffer
+		 */
+		protected ByteBuffer ensureDecodeBuffer(final long capacity)
+		{
+			if(this.decodeBuffer != null && this.decodeBuffer.capacity() < capacity)
+			{
+				this.bufferPool.release(this.decodeBuffer);
+				this.decodeBuffer = null;
+			}
+			if(this.decodeBuffer == null)
+			{
+				this.decodeBuffer = this.bufferPool.allocate(
+					Math.max(capacity, this.bufferSizeProvider.provideBufferSize())
+				);
+			}
+			
+			return this.decodeBuffer.clear();
+		}
+		
+		protected void releaseDefaultBuffers()
+		{
+			if(this.defaultBufferRead != null)
+			{
+				this.bufferPool.release(this.defaultBufferRead);
+				this.defaultBufferRead = null;
+			}
+			if(this.defaultBufferWrite != null)
+			{
+				this.bufferPool.release(this.defaultBufferWrite);
+				this.defaultBufferWrite = null;
+			}
+			if(this.decodeBuffer != null)
+			{
+				this.bufferPool.release(this.decodeBuffer);
+				this.decodeBuffer = null;
+			}
+		}
+		
 	}
 	
 
@@ -113,8 +251,10 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 		// instance fields //
 		////////////////////
 
-		private final ByteOrderTargeting<?>      byteOrderTargeting;
-		private final PersistenceWriteController writeController   ;
+		private final ByteOrderTargeting<?>      byteOrderTargeting  ;
+		private final PersistenceWriteController writeController     ;
+		private final BinaryCompressionCodec     compressionCodec    ;
+		private final long                       maximumDecodedLength;
 		
 		
 		
@@ -123,15 +263,20 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 		/////////////////
 
 		Default(
-			final ComConnection              connection           ,
-			final BufferSizeProvider         bufferSizeProvider,
-			final ByteOrderTargeting<?>      byteOrderTargeting,
-			final PersistenceWriteController writeController
+			final ComConnection              connection          ,
+			final BufferSizeProvider         bufferSizeProvider  ,
+			final ByteOrderTargeting<?>      byteOrderTargeting  ,
+			final PersistenceWriteController writeController     ,
+			final BufferPool                 bufferPool          ,
+			final BinaryCompressionCodec     compressionCodec    ,
+			final long                       maximumDecodedLength
 		)
 		{
-			super(connection, bufferSizeProvider);
-			this.byteOrderTargeting = byteOrderTargeting;
-			this.writeController    = writeController   ;
+			super(connection, bufferSizeProvider, bufferPool);
+			this.byteOrderTargeting   = byteOrderTargeting  ;
+			this.writeController      = writeController     ;
+			this.compressionCodec     = compressionCodec    ;
+			this.maximumDecodedLength = maximumDecodedLength;
 		}
 		
 		
@@ -155,11 +300,22 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 			ByteBuffer filledContentBuffer;
 			try
 			{
-				filledContentBuffer = ComBinary.readChunk(
+				final ByteBuffer filledHeaderBuffer = ComBinary.readChunkHeader(
 					connection,
 					defaultBuffer,
 					this.switchByteOrder()
 				);
+				final int codecId = ComBinary.getChunkHeaderCodecId(filledHeaderBuffer, this.switchByteOrder());
+				
+				filledContentBuffer = ComBinary.readChunkContent(
+					connection,
+					defaultBuffer,
+					ComBinary.getChunkHeaderContentLength(filledHeaderBuffer, this.switchByteOrder())
+				);
+				if(codecId != BinaryCompressionCodec.NONE_ID)
+				{
+					filledContentBuffer = this.decode(filledContentBuffer, codecId);
+				}
 			}
 			catch(final ComException e)
 			{
@@ -179,11 +335,30 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 			
 			return X.<Binary>Constant(chunks);
 		}
+		
+		private ByteBuffer decode(final ByteBuffer content, final int codecId)
+		{
+			// the codec is resolved by its id, so chunks of all built-in codecs are readable regardless of the setting.
+			final BinaryCompressionCodec codec   = BinaryCompressionCodec.resolve(codecId, this.compressionCodec);
+			final Binary                 encoded = ChunksWrapper.New(content);
+			final ByteBuffer             decoded = this.ensureDecodeBuffer(
+				codec.decodedLength(encoded, this.maximumDecodedLength)
+			);
+			codec.decode(encoded, decoded);
+			
+			return decoded.flip();
+		}
 
 		@Override
 		protected void internalWrite(final ComConnection connection, final Binary chunk)
 			throws PersistenceExceptionTransfer
 		{
+			if(this.compressionCodec.isCompressing())
+			{
+				this.internalWriteCompressed(connection, chunk);
+				return;
+			}
+			
 			final ByteBuffer defaultBuffer = ComBinary.setChunkHeaderContentLength(
 				this.ensureDefaultBufferWrite(),
 				chunk.totalLength(),
@@ -206,9 +381,43 @@ public interface ComPersistenceChannelBinary<C> extends ComPersistenceChannel<C,
 			}
 		}
 		
+		private void internalWriteCompressed(final ComConnection connection, final Binary chunk)
+			throws PersistenceExceptionTransfer
+		{
+			final ByteBuffer encoded = this.bufferPool().allocate(this.compressionCodec.maximumEncodedLength(chunk));
+			try
+			{
+				this.compressionCodec.encode(chunk, encoded, this.bufferPool());
+				encoded.flip();
+				
+				final ByteBuffer defaultBuffer = ComBinary.setChunkHeaderContentLength(
+					this.ensureDefaultBufferWrite(),
+					encoded.remaining(),
+					this.compressionCodec.id(),
+					this.switchByteOrder()
+				);
+				ComBinary.setChunkHeaderContentLengthChecksum(
+					defaultBuffer,
+					ComBinary.calculateChunkHeaderContentLengthChecksum(defaultBuffer),
+					this.switchByteOrder()
+				);
+				
+				ComBinary.writeChunk(connection, defaultBuffer, new ByteBuffer[]{encoded});
+			}
+			catch(final ComException e)
+			{
+				throw new PersistenceExceptionTransfer(e);
+			}
+			finally
+			{
+				this.bufferPool().release(encoded);
+			}
+		}
+		
 		private final void close()
 		{
 			this.getConnection().close();
+			this.releaseDefaultBuffers();
 		}
 		
 		@Override
@@ -159,7 +159,17 @@ public class ComPersistenceAdaptorBinaryDynamic implements ComPersistenceAdaptor
 	{
 		final BinaryPersistenceFoundation<?> initFoundation = this.foundation.Clone();
 		
-		initFoundation.setContextDispatcher(
+		// all connections share the configured foundation's buffer pool and compression settings
+		initFoundation.setBufferPool(
+				this.foundation.getBufferPool()
+			)
+			.setCompressionCodec(
+				this.foundation.getCompressionCodec()
+			)
+			.setMaximumDecodedLength(
+				this.foundation.getMaximumDecodedLength()
+			)
+			.setContextDispatcher(
 				PersistenceContextDispatcher.LocalObjectRegistration()
 			)
 			.setSizedArrayLengthController(
@@ -226,7 +236,10 @@ public class ComPersistenceAdaptorBinaryDynamic implements ComPersistenceAdaptor
 				connection,
 				this.bufferSizeProvider(),
 				hostFoundation,
-				this.comWriteController()
+				this.comWriteController(),
+				hostFoundation.getBufferPool(),
+				hostFoundation.getCompressionCodec(),
+				hostFoundation.getMaximumDecodedLength()
 			);
 		
 		hostFoundation.setPersistenceChannel(channel);
@@ -268,7 +281,10 @@ public class ComPersistenceAdaptorBinaryDynamic implements ComPersistenceAdaptor
 			connection,
 			this.bufferSizeProvider(),
 			clientFoundation,
-			this.comWriteController()
+			this.comWriteController(),
+			clientFoundation.getBufferPool(),
+			clientFoundation.getCompressionCodec(),
+			clientFoundation.getMaximumDecodedLength()
 		);
 		
 		clientFoundation.setPersistenceChannel(channel);
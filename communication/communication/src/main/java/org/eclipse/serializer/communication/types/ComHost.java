@@ -14,10 +14,19 @@ package org.eclipse.serializer.communication.types;
  * #L%
  */
 
+import static org.eclipse.serializer.math.XMath.positive;
 import static org.eclipse.serializer.util.X.mayNull;
 import static org.eclipse.serializer.util.X.notNull;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.eclipse.serializer.com.ComException;
 import org.eclipse.serializer.util.logging.Logging;
@@ -62,7 +71,43 @@ public interface ComHost<C> extends Runnable
 		);
 	}
 	
-	public final class Default<C> implements ComHost<C>
+	/**
+	 * Creates a host that serves every accepted connection in a task of an executor, so that a slow or
+	 * long-lived connection does not delay accepting and serving other ones.
+	 * 
+	 * @param <C> the communication layer type
+	 * @param address the address to listen on, <code>null</code> for the default address
+	 * @param connectionHandler the connection handler
+	 * @param connectionAcceptor the logic to process accepted connections
+	 * @param executorProvider provides the executor serving the connections whenever the host starts listening,
+	 *        which is shut down when the host stops
+	 * @param maximumConnections the maximum number of connections served at the same time
+	 * @param rejectWhenFull whether connections exceeding the maximum are closed right away instead of
+	 *        waiting in the listen backlog until a served connection ends
+	 * @return the new host
+	 * 
+	 * @see Concurrent
+	 */
+	public static <C> ComHost.Concurrent<C> Concurrent(
+		final InetSocketAddress                   address           ,
+		final ComConnectionHandler<C>             connectionHandler ,
+		final ComConnectionAcceptor<C>            connectionAcceptor,
+		final Supplier<? extends ExecutorService> executorProvider  ,
+		final int                                 maximumConnections,
+		final boolean                             rejectWhenFull
+	)
+	{
+		return new ComHost.Concurrent<>(
+			mayNull(address)            ,
+			notNull(connectionHandler)  ,
+			notNull(connectionAcceptor) ,
+			notNull(executorProvider)   ,
+			positive(maximumConnections),
+			rejectWhenFull
+		);
+	}
+	
+	public abstract class Abstract<C> implements ComHost<C>
 	{
 		///////////////////////////////////////////////////////////////////////////
 		// instance fields //
@@ -75,7 +120,7 @@ public interface ComHost<C> extends Runnable
 		private transient ComConnectionListener<C> liveConnectionListener;
 		private volatile boolean stopped;
 		
-		private final static Logger logger = Logging.getLogger(Default.class);
+		private final static Logger logger = Logging.getLogger(ComHost.class);
 		
 		
 		
@@ -83,7 +128,7 @@ public interface ComHost<C> extends Runnable
 		// constructors //
 		/////////////////
 		
-		Default(
+		Abstract(
 			final InetSocketAddress        address           ,
 			final ComConnectionHandler<C>  connectionHandler ,
 			final ComConnectionAcceptor<C> connectionAcceptor
@@ -112,6 +157,26 @@ public interface ComHost<C> extends Runnable
 		{
 			return this.connectionAcceptor.protocolProvider();
 		}
+		
+		protected final ComConnectionHandler<C> connectionHandler()
+		{
+			return this.connectionHandler;
+		}
+		
+		protected final ComConnectionAcceptor<C> connectionAcceptor()
+		{
+			return this.connectionAcceptor;
+		}
+		
+		protected final ComConnectionListener<C> liveConnectionListener()
+		{
+			return this.liveConnectionListener;
+		}
+		
+		protected final boolean isStopped()
+		{
+			return this.stopped;
+		}
 
 		@Override
 		public void run()
@@ -163,12 +228,43 @@ public interface ComHost<C> extends Runnable
 			
 			return false;
 		}
+		
+	}
+	
+	public final class Default<C> extends ComHost.Abstract<C>
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+		
+		private final static Logger logger = Logging.getLogger(Default.class);
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Default(
+			final InetSocketAddress        address           ,
+			final ComConnectionHandler<C>  connectionHandler ,
+			final ComConnectionAcceptor<C> connectionAcceptor
+		)
+		{
+			super(address, connectionHandler, connectionAcceptor);
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
 
 		@Override
 		public void acceptConnections()
 		{
 			// repeatedly accept new connections until stopped.
-			while(!this.stopped)
+			while(!this.isStopped())
 			{
 				synchronized(this)
 				{
@@ -187,7 +283,7 @@ public interface ComHost<C> extends Runnable
 			final C connection;
 			try
 			{
-				connection = this.liveConnectionListener.listenForConnection();
+				connection = this.liveConnectionListener().listenForConnection();
 			}
 			catch(final ComException e)
 			{
@@ -196,10 +292,224 @@ public interface ComHost<C> extends Runnable
 				return;
 			}
 			
-			this.connectionAcceptor.acceptConnection(connection, this);
+			this.connectionAcceptor().acceptConnection(connection, this);
 		}
 	}
 	
+	/**
+	 * Host serving every accepted connection, i.e. the handshake and the {@link ComHostChannelAcceptor},
+	 * in a task of an executor instead of in the accepting thread. The number of connections served at the
+	 * same time is limited: when the limit is reached, the host either stops accepting until a served connection
+	 * ends, so further clients wait in the listen backlog or eventually time out (backpressure), or it accepts
+	 * and closes them right away, so they fail fast.
+	 * <p>
+	 * By default, every connection is served by a thread of a cached pool. An executor starting a virtual thread
+	 * per task can be provided instead where the runtime supports it.
+	 * <p>
+	 * All channels are created by the same {@link ComPersistenceAdaptor}, so they share its type dictionary,
+	 * which is only read after the host has been initialized.
+	 *
+	 * @param <C> the communication layer type
+	 */
+	public final class Concurrent<C> extends ComHost.Abstract<C>
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+		
+		private final static Logger logger = Logging.getLogger(Concurrent.class);
+		
+		// interval to recheck the stopped state while waiting for a served connection to end.
+		private static final long PERMIT_WAIT_MS = 100;
+		
+		/**
+		 * @return a cached thread pool with daemon threads, the default executor serving the connections.
+		 */
+		public static ExecutorService defaultExecutor()
+		{
+			final AtomicInteger threadCount = new AtomicInteger();
+			
+			return Executors.newCachedThreadPool(runnable ->
+			{
+				final Thread thread = new Thread(runnable, "ComHost-Connection-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				
+				return thread;
+			});
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		private final Supplier<? extends ExecutorService> executorProvider  ;
+		private final int                                 maximumConnections;
+		private final boolean                             rejectWhenFull    ;
+		private final Semaphore                           permits           ;
+		private final AtomicLong                          rejectedCount     ;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Concurrent(
+			final InetSocketAddress                   address           ,
+			final ComConnectionHandler<C>             connectionHandler ,
+			final ComConnectionAcceptor<C>            connectionAcceptor,
+			final Supplier<? extends ExecutorService> executorProvider  ,
+			final int                                 maximumConnections,
+			final boolean                             rejectWhenFull
+		)
+		{
+			super(address, connectionHandler, connectionAcceptor);
+			this.executorProvider   = executorProvider                  ;
+			this.maximumConnections = maximumConnections                ;
+			this.rejectWhenFull     = rejectWhenFull                    ;
+			this.permits            = new Semaphore(maximumConnections) ;
+			this.rejectedCount      = new AtomicLong()                  ;
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		public final int maximumConnections()
+		{
+			return this.maximumConnections;
+		}
+		
+		/**
+		 * @return the number of connections currently being served.
+		 */
+		public final int activeConnectionCount()
+		{
+			return this.maximumConnections - this.permits.availablePermits();
+		}
+		
+		/**
+		 * @return the number of connections that have been closed right away because the limit was reached.
+		 */
+		public final long rejectedConnectionCount()
+		{
+			return this.rejectedCount.get();
+		}
+
+		@Override
+		public void acceptConnections()
+		{
+			final ExecutorService executor = this.executorProvider.get();
+			try
+			{
+				// repeatedly accept new connections until stopped, without blocking other threads meanwhile.
+				while(!this.isStopped())
+				{
+					if(!this.rejectWhenFull && !this.awaitPermit())
+					{
+						continue;
+					}
+					
+					final ComConnectionListener<C> listener = this.liveConnectionListener();
+					if(listener == null || !listener.isAlive())
+					{
+						this.releasePermit();
+						break;
+					}
+					
+					final C connection;
+					try
+					{
+						connection = listener.listenForConnection();
+					}
+					catch(final ComException e)
+					{
+						this.releasePermit();
+						if(!this.isStopped())
+						{
+							//intentional, don't stop the host if a connection attempt failed
+							logger.error("Failed connection attempt", e);
+						}
+						continue;
+					}
+					
+					if(this.rejectWhenFull && !this.permits.tryAcquire())
+					{
+						this.reject(connection);
+						continue;
+					}
+					this.serve(executor, connection);
+				}
+			}
+			finally
+			{
+				// connections being served are not interrupted, only no new ones are accepted.
+				executor.shutdown();
+			}
+		}
+		
+		private boolean awaitPermit()
+		{
+			try
+			{
+				return this.permits.tryAcquire(PERMIT_WAIT_MS, TimeUnit.MILLISECONDS);
+			}
+			catch(final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				this.stop();
+				
+				return false;
+			}
+		}
+		
+		private void releasePermit()
+		{
+			// with rejecting, the permit is only acquired after a connection has been accepted.
+			if(!this.rejectWhenFull)
+			{
+				this.permits.release();
+			}
+		}
+		
+		private void reject(final C connection)
+		{
+			this.rejectedCount.incrementAndGet();
+			logger.warn("Connection limit of {} reached, closing connection {}", this.maximumConnections, connection);
+			this.connectionHandler().close(connection);
+		}
+		
+		private void serve(final ExecutorService executor, final C connection)
+		{
+			try
+			{
+				executor.execute(() ->
+				{
+					try
+					{
+						this.connectionAcceptor().acceptConnection(connection, this);
+					}
+					finally
+					{
+						this.permits.release();
+					}
+				});
+			}
+			catch(final RejectedExecutionException e)
+			{
+				this.permits.release();
+				this.rejectedCount.incrementAndGet();
+				logger.warn("Executor rejected connection {}", connection, e);
+				this.connectionHandler().close(connection);
+			}
+		}
+		
+	}
+	
 	
 	
 	public static <C> ComHostCreator<C> Creator()
@@ -14,7 +14,12 @@ package org.eclipse.serializer.communication.types;
  * #L%
  */
 
+import static org.eclipse.serializer.math.XMath.positive;
+import static org.eclipse.serializer.util.X.notNull;
+
 import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 /**
  * 
@@ -36,6 +41,52 @@ public interface ComHostCreator<C>
 		return new ComHostCreator.Default<>();
 	}
 	
+	/**
+	 * Creates a creator for {@link ComHost.Concurrent} hosts serving up to the passed number of connections
+	 * at the same time in threads of a cached pool, letting further clients wait until a connection ends.
+	 * 
+	 * @param <C> the communication layer type
+	 * @param maximumConnections the maximum number of connections served at the same time
+	 * @return the new creator
+	 */
+	public static <C> ComHostCreator<C> Concurrent(final int maximumConnections)
+	{
+		return Concurrent(ComHost.Concurrent::defaultExecutor, maximumConnections, false);
+	}
+	
+	/**
+	 * Creates a creator for {@link ComHost.Concurrent} hosts.
+	 * 
+	 * @param <C> the communication layer type
+	 * @param executorProvider provides the executor serving the connections of a host
+	 * @param maximumConnections the maximum number of connections served at the same time
+	 * @param rejectWhenFull whether connections exceeding the maximum are closed right away instead of
+	 *        waiting until a served connection ends
+	 * @return the new creator
+	 * 
+	 * @see ComHost#Concurrent(InetSocketAddress, ComConnectionHandler, ComConnectionAcceptor, Supplier, int, boolean)
+	 */
+	public static <C> ComHostCreator<C> Concurrent(
+		final Supplier<? extends ExecutorService> executorProvider  ,
+		final int                                 maximumConnections,
+		final boolean                             rejectWhenFull
+	)
+	{
+		notNull(executorProvider);
+		positive(maximumConnections);
+		
+		return (address, connectionHandler, connectionAcceptor) ->
+			ComHost.Concurrent(
+				address           ,
+				connectionHandler ,
+				connectionAcceptor,
+				executorProvider  ,
+				maximumConnections,
+				rejectWhenFull
+			)
+		;
+	}
+	
 	public final class Default<C> implements ComHostCreator<C>
 	{
 		///////////////////////////////////////////////////////////////////////////
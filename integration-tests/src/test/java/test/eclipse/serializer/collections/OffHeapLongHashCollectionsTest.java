@@ -0,0 +1,200 @@
+package test.eclipse.serializer.collections;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.serializer.collections.OffHeapLongHashSet;
+import org.eclipse.serializer.collections.OffHeapLongLongHashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * {@link OffHeapLongHashSet} and {@link OffHeapLongLongHashMap} must behave like their on-heap counterparts,
+ * also when the table is enlarged, when it has reached its maximum length and the chains grow instead, and when
+ * the memory is spread over many small segments.
+ */
+@Timeout(60)
+public class OffHeapLongHashCollectionsTest
+{
+    private static final int COUNT = 200_000;
+
+    // tiny table, chains and segments to force chain appending and many segments.
+    private static final long SMALL_MAXIMUM_TABLE_LENGTH = 1L << 10;
+    private static final int  SMALL_CHAIN_LENGTH         = 2;
+    private static final int  SMALL_CHAINS_PER_SEGMENT   = 64;
+
+    @Test
+    public void setGrowsBeyondTheMaximumTableLength()
+    {
+        final Random    random   = new Random(42);
+        final Set<Long> expected = new HashSet<>();
+
+        try(OffHeapLongHashSet set = OffHeapLongHashSet.New(
+            1, SMALL_MAXIMUM_TABLE_LENGTH, SMALL_CHAIN_LENGTH, SMALL_CHAINS_PER_SEGMENT
+        ))
+        {
+            assertTrue(set.put(0L));
+            expected.add(0L);
+            for(int i = 0; i < COUNT; i++)
+            {
+                final long value = random.nextInt(COUNT * 2) - COUNT;
+                assertEquals(expected.add(value), set.put(value));
+            }
+
+            assertEquals(expected.size(), set.size());
+            assertEquals(SMALL_MAXIMUM_TABLE_LENGTH, set.tableLength());
+            assertTrue(set.capacity() >= set.size());
+            for(long value = -COUNT; value < COUNT; value++)
+            {
+                assertEquals(expected.contains(value), set.contains(value));
+            }
+
+            final Set<Long> iterated = new HashSet<>();
+            set.iterate(value -> assertTrue(iterated.add(value)));
+            assertEquals(expected, iterated);
+
+            try(OffHeapLongHashSet positives = set.filter(value -> value > 0))
+            {
+                expected.removeIf(value -> value <= 0);
+                assertEquals(expected.size(), positives.size());
+                positives.iterate(value -> assertTrue(expected.contains(value)));
+            }
+
+            set.truncate();
+            assertEquals(0, set.size());
+            assertFalse(set.contains(0L));
+            assertTrue(set.put(7L));
+            assertTrue(set.contains(7L));
+        }
+    }
+
+    @Test
+    public void setEnlargesItsTableWithDefaultConfiguration()
+    {
+        try(OffHeapLongHashSet set = OffHeapLongHashSet.New())
+        {
+            final long initialTableLength = set.tableLength();
+            for(long value = 1; value <= COUNT; value++)
+            {
+                assertTrue(set.put(value * 31));
+            }
+
+            assertTrue(set.tableLength() > initialTableLength);
+            assertTrue(set.containsAll(31, 62, COUNT * 31L));
+            assertFalse(set.contains(30));
+
+            set.clear();
+            assertEquals(0, set.size());
+            assertFalse(set.contains(31));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedFactoriesUseTheDefaultConfiguration()
+    {
+        try(
+            OffHeapLongHashSet set1 = OffHeapLongHashSet.New(1000, OffHeapLongHashSet.defaultCollisionThreshold());
+            OffHeapLongHashSet set2 = OffHeapLongHashSet.New(
+                1000,
+                OffHeapLongHashSet.defaultCollisionThreshold(),
+                OffHeapLongHashSet.defaultCollisionLimit(),
+                OffHeapLongHashSet.defaultExcessLimit()
+            );
+            OffHeapLongHashSet expected = OffHeapLongHashSet.New(1000)
+        )
+        {
+            assertEquals(expected.tableLength(), set1.tableLength());
+            assertEquals(expected.tableLength(), set2.tableLength());
+            assertTrue(set1.put(42));
+            assertTrue(set1.contains(42));
+            assertTrue(set2.put(0));
+            assertTrue(set2.contains(0));
+        }
+    }
+
+    @Test
+    public void mapBehavesLikeAHashMap()
+    {
+        final Random          random   = new Random(4711);
+        final Map<Long, Long> expected = new HashMap<>();
+
+        try(OffHeapLongLongHashMap map = OffHeapLongLongHashMap.New(
+            1, SMALL_MAXIMUM_TABLE_LENGTH, SMALL_CHAIN_LENGTH, SMALL_CHAINS_PER_SEGMENT
+        ))
+        {
+            for(int i = 0; i < COUNT; i++)
+            {
+                final long key   = random.nextInt(COUNT);
+                final long value = random.nextLong();
+                assertEquals(expected.put(key, value) == null, map.put(key, value));
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(SMALL_MAXIMUM_TABLE_LENGTH, map.tableLength());
+
+            // remove every third key, including the key 0.
+            final long removed = map.removeBy(key -> key % 3 == 0);
+            assertEquals(removed, expected.keySet().stream().filter(key -> key % 3 == 0).count());
+            expected.keySet().removeIf(key -> key % 3 == 0);
+            assertEquals(expected.size(), map.size());
+
+            for(long key = 0; key < COUNT; key++)
+            {
+                final Long value = expected.get(key);
+                assertEquals(value == null ? -1L : value, map.get(key, -1L));
+            }
+
+            try(OffHeapLongLongHashMap copy = OffHeapLongLongHashMap.New())
+            {
+                copy.putAll(map);
+                final Map<Long, Long> iterated = new HashMap<>();
+                copy.iterate((key, value) -> assertEquals(null, iterated.put(key, value)));
+                assertEquals(expected, iterated);
+            }
+
+            // removed keys can be inserted again into the emptied chain slots.
+            assertTrue(map.put(3L, 33L));
+            assertEquals(33L, map.get(3L, -1L));
+
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertEquals(-1L, map.get(1L, -1L));
+        }
+    }
+
+    @Test
+    public void closedCollectionsCannotBeUsed()
+    {
+        final OffHeapLongHashSet set = OffHeapLongHashSet.New();
+        set.close();
+        set.close();
+        assertThrows(IllegalStateException.class, () -> set.put(1L));
+
+        final OffHeapLongLongHashMap map = OffHeapLongLongHashMap.New();
+        map.close();
+        assertThrows(IllegalStateException.class, () -> map.get(1L, 0L));
+    }
+
+}
@@ -0,0 +1,98 @@
+package test.eclipse.serializer.communication;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.serializer.communication.binarydynamic.ComBinaryDynamic;
+import org.eclipse.serializer.communication.binarydynamic.ComPersistenceAdaptorBinaryDynamic;
+import org.eclipse.serializer.communication.types.ComChannel;
+import org.eclipse.serializer.communication.types.ComClient;
+import org.eclipse.serializer.communication.types.ComHost;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompressionCodec;
+import org.eclipse.serializer.persistence.binary.types.BinaryPersistenceFoundation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Chunks are compressed with the codec of the sending side and decompressed with the codec recorded in their
+ * header, so both sides may use different codecs.
+ */
+@Timeout(60)
+public class CompressedCommunicationTest extends AbstractCommunicationTest
+{
+    private static List<String> createPayload()
+    {
+        final List<String> payload = new ArrayList<>();
+        for(int i = 0; i < 10_000; i++)
+        {
+            payload.add("compressible message number " + i % 100);
+        }
+
+        return payload;
+    }
+
+    @Test
+    public void compressedChunksAreTransferred() throws InterruptedException
+    {
+        final int                     port     = findFreePort();
+        final List<String>            payload  = createPayload();
+        final AtomicReference<Object> received = new AtomicReference<>();
+        final AtomicReference<ComHost<?>> host = new AtomicReference<>();
+
+        final Thread hostThread = new Thread(() ->
+        {
+            host.set(ComBinaryDynamic.Foundation()
+                .setPersistenceAdaptorCreator(ComPersistenceAdaptorBinaryDynamic.Creator(
+                    BinaryPersistenceFoundation.New().setCompressionCodec(BinaryCompressionCodec.Lz4())
+                ))
+                .setHostByteOrder(ByteOrder.BIG_ENDIAN)
+                .setPort(port)
+                .setHostChannelAcceptor(hostChannel ->
+                {
+                    hostChannel.send(payload);
+                    received.set(hostChannel.receive());
+                    host.get().stop();
+                })
+                .createHost()
+            );
+            host.get().run();
+        });
+        hostThread.start();
+
+        final ComClient<?> client = ComBinaryDynamic.Client(
+            port,
+            ComPersistenceAdaptorBinaryDynamic.Creator(
+                BinaryPersistenceFoundation.New().setCompressionCodec(BinaryCompressionCodec.Deflate())
+            )
+        );
+        final ComChannel channel = client.connect(100, Duration.ofMillis(500));
+
+        final Object copy = channel.receive();
+        Assertions.assertEquals(payload, copy);
+
+        channel.send(copy);
+        hostThread.join(10_000);
+        channel.close();
+
+        Assertions.assertEquals(payload, received.get());
+    }
+
+}
@@ -0,0 +1,240 @@
+package test.eclipse.serializer.communication;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.communication.binarydynamic.ComBinaryDynamic;
+import org.eclipse.serializer.communication.types.ComChannel;
+import org.eclipse.serializer.communication.types.ComClient;
+import org.eclipse.serializer.communication.types.ComConnection;
+import org.eclipse.serializer.communication.types.ComFoundation;
+import org.eclipse.serializer.communication.types.ComHost;
+import org.eclipse.serializer.communication.types.ComHostChannelAcceptor;
+import org.eclipse.serializer.communication.types.ComHostCreator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * A {@link ComHost.Concurrent} must serve several connections at the same time and enforce its connection limit,
+ * either by letting further clients wait or by closing their connections.
+ */
+@Timeout(60)
+public class ConcurrentComHostTest extends AbstractCommunicationTest
+{
+    private static final int CLIENT_COUNT = 4;
+
+    private final Queue<Throwable> hostErrors = new ConcurrentLinkedQueue<>();
+
+    private ComHost.Concurrent<?> host      ;
+    private Thread                hostThread;
+
+    private int startHost(
+        final ComFoundation.Default<?>              foundation     ,
+        final ComHostCreator<ComConnection>         hostCreator    ,
+        final ComHostChannelAcceptor<ComConnection> channelAcceptor
+    )
+    {
+        final int port = findFreePort();
+
+        this.host = (ComHost.Concurrent<?>)foundation
+            .setHostCreator(hostCreator)
+            .setHostChannelAcceptor(channelAcceptor)
+            .setPort(port)
+            .createHost()
+        ;
+        this.hostThread = new Thread(this.host);
+        this.hostThread.start();
+
+        return port;
+    }
+
+    @AfterEach
+    public void stopHost() throws InterruptedException
+    {
+        if(this.host != null)
+        {
+            this.host.stop();
+            this.hostThread.join(5_000);
+        }
+        assertTrue(this.hostErrors.isEmpty(), () -> "host errors: " + this.hostErrors);
+    }
+
+    @Test
+    public void clientsAreServedSimultaneously() throws Exception
+    {
+        // every connection waits until all are served at the same time, which a sequential host could never achieve.
+        final CountDownLatch allConnected = new CountDownLatch(CLIENT_COUNT);
+        final int port = this.startHost(
+            ComBinaryDynamic.Foundation(),
+            ComHostCreator.Concurrent(CLIENT_COUNT),
+            hostChannel ->
+            {
+                try
+                {
+                    allConnected.countDown();
+                    assertTrue(allConnected.await(20, TimeUnit.SECONDS), "connections are not served simultaneously");
+                    final Object request = hostChannel.receive();
+                    hostChannel.send(List.of("reply", request));
+                }
+                catch(final Throwable t)
+                {
+                    this.hostErrors.add(t);
+                }
+                finally
+                {
+                    hostChannel.close();
+                }
+            }
+        );
+
+        final ExecutorService clients = Executors.newFixedThreadPool(CLIENT_COUNT);
+        try
+        {
+            final List<Future<Object>> replies = new ArrayList<>();
+            for(int i = 0; i < CLIENT_COUNT; i++)
+            {
+                final String request = "request " + i;
+                replies.add(clients.submit(() ->
+                {
+                    final ComChannel channel = ComBinaryDynamic.Client(port).connect(100, Duration.ofMillis(100));
+                    try
+                    {
+                        channel.send(request);
+                        return channel.receive();
+                    }
+                    finally
+                    {
+                        channel.close();
+                    }
+                }));
+            }
+            for(int i = 0; i < CLIENT_COUNT; i++)
+            {
+                assertEquals(List.of("reply", "request " + i), replies.get(i).get(30, TimeUnit.SECONDS));
+            }
+        }
+        finally
+        {
+            clients.shutdownNow();
+        }
+    }
+
+    private int startBlockingHost(final boolean rejectWhenFull, final CountDownLatch release)
+    {
+        return this.startHost(
+            ComBinaryDynamic.Foundation(),
+            ComHostCreator.Concurrent(ComHost.Concurrent::defaultExecutor, 1, rejectWhenFull),
+            hostChannel ->
+            {
+                try
+                {
+                    hostChannel.send("served");
+                    assertTrue(release.await(20, TimeUnit.SECONDS));
+                }
+                catch(final Throwable t)
+                {
+                    this.hostErrors.add(t);
+                }
+                finally
+                {
+                    hostChannel.close();
+                }
+            }
+        );
+    }
+
+    @Test
+    public void connectionsExceedingTheLimitWait() throws Exception
+    {
+        final CountDownLatch release = new CountDownLatch(1);
+        final int            port    = this.startBlockingHost(false, release);
+        final ComClient<?>   client  = ComBinaryDynamic.Client(port);
+
+        final ComChannel first = client.connect(100, Duration.ofMillis(100));
+        assertEquals("served", first.receive());
+        assertEquals(1, this.host.activeConnectionCount());
+
+        final ExecutorService waiting = Executors.newSingleThreadExecutor();
+        try
+        {
+            final Future<Object> second = waiting.submit(() ->
+            {
+                final ComChannel channel = client.connect();
+                try
+                {
+                    return channel.receive();
+                }
+                finally
+                {
+                    channel.close();
+                }
+            });
+            Thread.sleep(500);
+            assertFalse(second.isDone(), "the second connection must wait until the first one has ended");
+
+            release.countDown();
+            first.close();
+            assertEquals("served", second.get(30, TimeUnit.SECONDS));
+            assertEquals(0, this.host.rejectedConnectionCount());
+        }
+        finally
+        {
+            waiting.shutdownNow();
+        }
+    }
+
+    @Test
+    public void connectionsExceedingTheLimitAreRejected() throws Exception
+    {
+        final CountDownLatch release = new CountDownLatch(1);
+        final int            port    = this.startBlockingHost(true, release);
+        final ComClient<?>   client  = ComBinaryDynamic.Client(port);
+
+        final ComChannel first = client.connect(100, Duration.ofMillis(100));
+        assertEquals("served", first.receive());
+
+        assertThrows(Exception.class, () -> client.connect().receive());
+        assertEquals(1, this.host.rejectedConnectionCount());
+        assertEquals(1, this.host.activeConnectionCount());
+
+        release.countDown();
+        first.close();
+        while(this.host.activeConnectionCount() > 0)
+        {
+            Thread.sleep(10);
+        }
+
+        final ComChannel third = client.connect();
+        assertEquals("served", third.receive());
+        third.close();
+    }
+
+}
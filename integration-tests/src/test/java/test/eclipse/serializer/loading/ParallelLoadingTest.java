@@ -0,0 +1,260 @@
+package test.eclipse.serializer.loading;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.serializer.PassThroughSerializerFoundation;
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.collections.types.XGettingCollection;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryLoader;
+import org.eclipse.serializer.persistence.binary.types.BinaryField;
+import org.eclipse.serializer.persistence.binary.types.CustomBinaryHandler;
+import org.eclipse.serializer.persistence.types.PersistenceIdSet;
+import org.eclipse.serializer.persistence.types.PersistenceLoadHandler;
+import org.eclipse.serializer.persistence.types.PersistenceLoader;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceObjectRegistry;
+import org.eclipse.serializer.util.X;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Parallel building of {@link BinaryLoader}: the loaded graph must be the same as with sequential building,
+ * including the deferred publication of the built instances to the object registry.
+ */
+@Timeout(60)
+public class ParallelLoadingTest
+{
+    private static final int BUILD_PARALLELISM = 4;
+    private static final int ENTITY_COUNT      = 20_000;
+
+    private final BulkList<Binary> written = BulkList.New();
+
+    private PassThroughSerializerFoundation foundation;
+    private PersistenceManager<Binary>      manager   ;
+    private ExecutorService                 executor  ;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.executor   = Executors.newFixedThreadPool(BUILD_PARALLELISM - 1);
+        this.foundation = PassThroughSerializerFoundation.New()
+            .registerCustomTypeHandler(new FailingValueHandler())
+            .setPersistenceTarget((Serializer.Target)this.written::add)
+            .setPersistenceSource(new Serializer.Source()
+            {
+                @Override
+                public XGettingCollection<? extends Binary> read()
+                {
+                    return X.Constant(ParallelLoadingTest.this.written.last());
+                }
+
+                @Override
+                public XGettingCollection<? extends Binary> readByObjectIds(final PersistenceIdSet[] oids)
+                {
+                    // replay everything, the loader picks what it needs via its build items.
+                    return this.read();
+                }
+            })
+        ;
+        this.manager = this.foundation.createPersistenceManager();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+        this.manager.close();
+    }
+
+    private static List<Entity> createGraph()
+    {
+        final List<Entity> entities = new ArrayList<>(ENTITY_COUNT);
+        Entity previous = null;
+        for(int i = 0; i < ENTITY_COUNT; i++)
+        {
+            final Map<String, Integer> attributes = new HashMap<>();
+            attributes.put("index", i);
+            entities.add(previous = new Entity(i, "entity" + i, new int[]{i, i + 1, i + 2}, attributes, previous));
+        }
+
+        return entities;
+    }
+
+    private Object storeAndReload(final Object graph)
+    {
+        final long                      objectId = this.manager.store(graph);
+        final PersistenceObjectRegistry registry = this.manager.objectRegistry();
+
+        // simulate a fresh session: the data exists only in the written chunks.
+        registry.clear();
+        assertNull(registry.lookupObject(objectId));
+
+        return this.loadParallel(objectId);
+    }
+
+    private Object loadParallel(final long objectId)
+    {
+        final PersistenceLoader loader = BinaryLoader.CreatorSimple(false, this.executor, BUILD_PARALLELISM)
+            .createLoader(
+                this.foundation.getTypeHandlerManager(),
+                this.foundation.getObjectRegistry(),
+                this.manager,
+                this.manager
+            )
+        ;
+
+        return loader.getObject(objectId);
+    }
+
+    @Test
+    void parallelBuildingLoadsTheSameGraph()
+    {
+        final List<Entity> graph = createGraph();
+
+        @SuppressWarnings("unchecked")
+        final List<Entity> loaded = (List<Entity>)this.storeAndReload(graph);
+
+        assertNotSame(graph, loaded);
+        assertEquals(ENTITY_COUNT, loaded.size());
+        for(int i = 0; i < ENTITY_COUNT; i++)
+        {
+            final Entity expected = graph.get(i);
+            final Entity entity   = loaded.get(i);
+            assertEquals(expected.id, entity.id);
+            assertEquals(expected.name, entity.name);
+            assertArrayEquals(expected.values, entity.values);
+            assertEquals(expected.attributes, entity.attributes, "hash collections must be completed");
+            assertSame(i == 0 ? null : loaded.get(i - 1), entity.previous, "references must be resolved");
+        }
+    }
+
+    @Test
+    void builtInstancesArePublishedToTheRegistry()
+    {
+        @SuppressWarnings("unchecked")
+        final List<Entity> loaded = (List<Entity>)this.storeAndReload(createGraph());
+
+        final PersistenceObjectRegistry registry = this.manager.objectRegistry();
+        final long                      objectId = registry.lookupObjectId(loaded);
+        assertSame(loaded, registry.lookupObject(objectId));
+        for(final Entity entity : loaded)
+        {
+            assertSame(entity, registry.lookupObject(registry.lookupObjectId(entity)));
+            assertSame(entity.attributes, registry.lookupObject(registry.lookupObjectId(entity.attributes)));
+        }
+        assertSame(loaded, this.loadParallel(objectId), "a subsequent load must resolve to the registered instance");
+    }
+
+    @Test
+    void handlerFailureIsPropagated()
+    {
+        final List<Object> graph = new ArrayList<>(createGraph());
+        graph.add(new FailingValue(FailingValueHandler.FAILING));
+
+        final long objectId = this.manager.store(graph);
+        this.manager.objectRegistry().clear();
+
+        assertThrows(IllegalStateException.class, () -> this.loadParallel(objectId));
+    }
+
+
+    static final class Entity
+    {
+        final int                  id        ;
+        final String               name      ;
+        final int[]                values    ;
+        final Map<String, Integer> attributes;
+        final Entity               previous  ;
+
+        Entity(
+            final int                  id        ,
+            final String               name      ,
+            final int[]                values    ,
+            final Map<String, Integer> attributes,
+            final Entity               previous
+        )
+        {
+            super();
+            this.id         = id        ;
+            this.name       = name      ;
+            this.values     = values    ;
+            this.attributes = attributes;
+            this.previous   = previous  ;
+        }
+    }
+
+    public static class FailingValue
+    {
+        String state;
+
+        public FailingValue(final String state)
+        {
+            super();
+            this.state = state;
+        }
+    }
+
+    static final class FailingValueHandler extends CustomBinaryHandler<FailingValue>
+    {
+        static final String FAILING = "failing";
+
+        @SuppressWarnings("unused")
+        private final BinaryField<FailingValue> state = Field(
+            String.class,
+            value -> value.state,
+            (value, state) -> value.state = state
+        );
+
+        FailingValueHandler()
+        {
+            super(FailingValue.class);
+        }
+
+        @Override
+        protected FailingValue instantiate(final Binary data)
+        {
+            return new FailingValue(null);
+        }
+
+        @Override
+        public void initializeState(final Binary data, final FailingValue instance, final PersistenceLoadHandler handler)
+        {
+            super.initializeState(data, instance, handler);
+            if(FAILING.equals(instance.state))
+            {
+                throw new IllegalStateException("failing value");
+            }
+        }
+    }
+
+}
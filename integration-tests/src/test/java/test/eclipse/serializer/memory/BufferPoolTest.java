@@ -0,0 +1,171 @@
+package test.eclipse.serializer.memory;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.eclipse.serializer.memory.BufferPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import test.eclipse.serializer.serializer.PooledSerializerTest;
+
+public class BufferPoolTest
+{
+    @Test
+    public void reuseTest()
+    {
+        final BufferPool pool = BufferPool.New(4096, 64 * 1024, 1024 * 1024, 2);
+
+        final ByteBuffer buffer = pool.allocate(5000);
+        Assertions.assertTrue(buffer.isDirect());
+        Assertions.assertEquals(8192, buffer.capacity());
+        Assertions.assertEquals(0, pool.hitCount());
+        Assertions.assertEquals(1, pool.missCount());
+
+        buffer.putLong(42L);
+        buffer.order(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        pool.release(buffer);
+        Assertions.assertEquals(8192, pool.retainedBytes());
+
+        final ByteBuffer reused = pool.allocate(8000);
+        Assertions.assertSame(buffer, reused);
+        Assertions.assertEquals(0, reused.position());
+        Assertions.assertEquals(reused.capacity(), reused.limit());
+        Assertions.assertEquals(ByteOrder.nativeOrder(), reused.order());
+        Assertions.assertEquals(1, pool.hitCount());
+        Assertions.assertEquals(0.5, pool.hitRate());
+        Assertions.assertEquals(0, pool.retainedBytes());
+
+        // other size classes are not served by the retained buffer
+        pool.release(reused);
+        Assertions.assertNotSame(reused, pool.allocate(100));
+        Assertions.assertNotSame(reused, pool.allocate(10_000));
+    }
+
+    @Test
+    public void boundsTest()
+    {
+        final BufferPool pool = BufferPool.New(4096, 64 * 1024, 16 * 1024, 1);
+
+        // larger than the largest size class: neither rounded nor retained
+        final ByteBuffer oversized = pool.allocate(100_000);
+        Assertions.assertEquals(100_000, oversized.capacity());
+        pool.release(oversized);
+        Assertions.assertEquals(0, pool.retainedBytes());
+
+        // retention is bounded, surplus buffers are deallocated
+        final ByteBuffer[] buffers = new ByteBuffer[8];
+        for(int i = 0; i < buffers.length; i++)
+        {
+            buffers[i] = pool.allocate(4096);
+        }
+        for(final ByteBuffer buffer : buffers)
+        {
+            pool.release(buffer);
+        }
+        Assertions.assertEquals(16 * 1024, pool.retainedBytes());
+
+        pool.clear();
+        Assertions.assertEquals(0, pool.retainedBytes());
+    }
+
+    @Test
+    public void crossThreadTest() throws Exception
+    {
+        final BufferPool pool = BufferPool.New(4096, 64 * 1024, 1024 * 1024, 1);
+
+        // buffers released by a terminated thread's magazine must still be reusable
+        final Thread thread = new Thread(() ->
+        {
+            final ByteBuffer first  = pool.allocate(4096);
+            final ByteBuffer second = pool.allocate(4096);
+            pool.release(first);
+            pool.release(second);
+        });
+        thread.start();
+        thread.join();
+        Assertions.assertEquals(2 * 4096, pool.retainedBytes());
+
+        pool.allocate(4096);
+        pool.allocate(4096);
+        Assertions.assertEquals(2, pool.hitCount());
+        Assertions.assertEquals(0, pool.retainedBytes());
+    }
+
+    @Test
+    public void threadChurnTest() throws Exception
+    {
+        final BufferPool.Default pool = (BufferPool.Default)BufferPool.New(4096, 64 * 1024, 1024 * 1024, 2);
+
+        // short-lived threads, each registering a magazine and leaving a buffer in it
+        for(int i = 0; i < 1000; i++)
+        {
+            final Thread thread = new Thread(() -> pool.release(pool.allocate(4096)));
+            thread.start();
+            thread.join();
+            Assertions.assertTrue(pool.retainedBytes() <= 2 * 4096, "retained: " + pool.retainedBytes());
+            Assertions.assertTrue(pool.magazineCount() <= 17, "magazines: " + pool.magazineCount());
+        }
+
+        // the buffers of terminated threads have been reused instead of being allocated anew
+        Assertions.assertTrue(pool.hitCount() >= 990, "hits: " + pool.hitCount());
+    }
+
+    @Test
+    public void serializerTest() throws Exception
+    {
+        final BufferPool pool = BufferPool.New();
+        this.serializeRepeatedly(pool, Serializer.Bytes(SerializerFoundation.New().setBufferPool(pool)));
+        this.serializeRepeatedly(pool, TypedSerializer.Bytes(SerializerFoundation.New().setBufferPool(pool)));
+    }
+
+    private void serializeRepeatedly(final BufferPool pool, final Serializer<byte[]> serializer) throws Exception
+    {
+        final long hitCount = pool.hitCount();
+        final ByteBuffer target = ByteBuffer.allocateDirect(64 * 1024);
+        try(serializer)
+        {
+            for(int i = 0; i < 20; i++)
+            {
+                final Map<String, List<Integer>> graph = PooledSerializerTest.createGraph(i);
+                target.clear();
+                final int length = serializer.serializeInto(graph, target);
+                Assertions.assertEquals(graph, serializer.deserialize(target, 0, length));
+            }
+            Assertions.assertTrue(pool.hitCount() - hitCount >= 10, "hits: " + (pool.hitCount() - hitCount));
+
+            // the output buffers are reused by serialize, too, as they are copied into the array
+            final long serializeHitCount = pool.hitCount();
+            for(int i = 0; i < 20; i++)
+            {
+                final Map<String, List<Integer>> graph = PooledSerializerTest.createGraph(i);
+                Assertions.assertEquals(graph, serializer.deserialize(serializer.serialize(graph)));
+            }
+            Assertions.assertTrue(
+                pool.hitCount() - serializeHitCount >= 10,
+                "hits: " + (pool.hitCount() - serializeHitCount)
+            );
+        }
+    }
+
+}
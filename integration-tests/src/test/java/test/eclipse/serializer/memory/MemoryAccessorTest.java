@@ -0,0 +1,61 @@
+package test.eclipse.serializer.memory;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.eclipse.serializer.exceptions.ArrayCapacityException;
+import org.eclipse.serializer.memory.MemoryAccessorResolver;
+import org.eclipse.serializer.memory.XMemory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs against the configured memory accessor, e.g. the ForeignMemoryAccessor selected by the
+ * foreign-memory profile of the integration tests.
+ */
+public class MemoryAccessorTest
+{
+    @Test
+    public void selectedProviderTest()
+    {
+        final String providerName = System.getProperty(MemoryAccessorResolver.PROVIDER_PROPERTY);
+        if(providerName != null && !providerName.isBlank())
+        {
+            Assertions.assertEquals(
+                MemoryAccessorResolver.resolveProvider(providerName.trim()).create().getClass(),
+                XMemory.memoryAccessor().getClass()
+            );
+        }
+    }
+
+    @Test
+    public void allocateDirectNativeTest()
+    {
+        final ByteBuffer buffer = XMemory.allocateDirectNative(1000L);
+        Assertions.assertTrue(buffer.isDirect());
+        Assertions.assertEquals(1000, buffer.capacity());
+        Assertions.assertEquals(ByteOrder.nativeOrder(), buffer.order());
+
+        // capacities beyond the int range must not be truncated
+        Assertions.assertThrows(
+            ArrayCapacityException.class,
+            () -> XMemory.allocateDirectNative((long)Integer.MAX_VALUE + 1)
+        );
+        Assertions.assertThrows(ArrayCapacityException.class, () -> XMemory.allocateDirectNative(1L << 32));
+    }
+}
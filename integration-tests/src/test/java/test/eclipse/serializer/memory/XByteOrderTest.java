@@ -0,0 +1,174 @@
+package test.eclipse.serializer.memory;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.memory.XByteOrder;
+import org.eclipse.serializer.memory.XMemory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * The bulk byte order reversal must produce exactly the bytes of an element-wise reversal, for every array length
+ * (i.e. including the remainders of the unrolled loops), and arrays must survive a round trip in the opposite
+ * byte order.
+ */
+@Timeout(60)
+public class XByteOrderTest
+{
+    private static final int MAX_LENGTH = 37;
+
+    private static ByteOrder oppositeByteOrder()
+    {
+        return ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN
+            ? ByteOrder.LITTLE_ENDIAN
+            : ByteOrder.BIG_ENDIAN
+        ;
+    }
+
+    @Test
+    public void longsMatchElementWiseReversal()
+    {
+        final Random random = new Random(42);
+        final long address = XMemory.allocate(MAX_LENGTH * Long.BYTES);
+        try
+        {
+            for(int length = 0; length <= MAX_LENGTH; length++)
+            {
+                final long[] values = random.longs(length).toArray();
+                XByteOrder.copyArrayToAddressReversed(values, address);
+                for(int i = 0; i < length; i++)
+                {
+                    assertEquals(Long.reverseBytes(values[i]), XMemory.get_long(address + i * Long.BYTES));
+                }
+
+                final long[] copy = new long[length];
+                XByteOrder.copyRangeToArrayReversed(address, copy);
+                assertArrayEquals(values, copy);
+            }
+        }
+        finally
+        {
+            XMemory.free(address);
+        }
+    }
+
+    @Test
+    public void intsAndShortsMatchElementWiseReversal()
+    {
+        final Random random = new Random(42);
+        final long address = XMemory.allocate(MAX_LENGTH * Integer.BYTES);
+        try
+        {
+            for(int length = 0; length <= MAX_LENGTH; length++)
+            {
+                final int[] ints = random.ints(length).toArray();
+                XByteOrder.copyArrayToAddressReversed(ints, address);
+                for(int i = 0; i < length; i++)
+                {
+                    assertEquals(Integer.reverseBytes(ints[i]), XMemory.get_int(address + i * Integer.BYTES));
+                }
+                final int[] intsCopy = new int[length];
+                XByteOrder.copyRangeToArrayReversed(address, intsCopy);
+                assertArrayEquals(ints, intsCopy);
+
+                final short[] shorts = new short[length];
+                for(int i = 0; i < length; i++)
+                {
+                    shorts[i] = (short)random.nextInt();
+                }
+                XByteOrder.copyArrayToAddressReversed(shorts, address);
+                for(int i = 0; i < length; i++)
+                {
+                    assertEquals(Short.reverseBytes(shorts[i]), XMemory.get_short(address + i * Short.BYTES));
+                }
+                final short[] shortsCopy = new short[length];
+                XByteOrder.copyRangeToArrayReversed(address, shortsCopy);
+                assertArrayEquals(shorts, shortsCopy);
+            }
+        }
+        finally
+        {
+            XMemory.free(address);
+        }
+    }
+
+    @Test
+    public void floatingPointBitPatternsArePreserved()
+    {
+        final double[] doubles = {
+            0.0, -0.0, 1.5, Double.MIN_VALUE, Double.MAX_VALUE, Double.NEGATIVE_INFINITY,
+            Double.longBitsToDouble(0x7FF8000012345678L)
+        };
+        final float[] floats = {
+            0.0f, -0.0f, 1.5f, Float.MIN_VALUE, Float.MAX_VALUE, Float.NEGATIVE_INFINITY,
+            Float.intBitsToFloat(0x7FC01234)
+        };
+
+        final double[] doublesCopy = XByteOrder.reverseBytes(XByteOrder.reverseBytes(doubles.clone()));
+        final float[]  floatsCopy  = XByteOrder.reverseBytes(XByteOrder.reverseBytes(floats.clone()));
+        for(int i = 0; i < doubles.length; i++)
+        {
+            assertEquals(Double.doubleToRawLongBits(doubles[i]), Double.doubleToRawLongBits(doublesCopy[i]));
+            assertEquals(Float.floatToRawIntBits(floats[i]), Float.floatToRawIntBits(floatsCopy[i]));
+        }
+    }
+
+    @Test
+    public void oppositeByteOrderRoundTrip() throws Exception
+    {
+        final Random random = new Random(42);
+        final BitSet bitSet = new BitSet();
+        for(int i = 0; i < 1000; i++)
+        {
+            bitSet.set(random.nextInt(100_000));
+        }
+
+        final List<Object> payload = new ArrayList<>();
+        payload.add(random.longs(1001).toArray());
+        payload.add(random.ints(1002).toArray());
+        payload.add(random.doubles(1003).toArray());
+        payload.add(new char[] {'a', 'b', 'c', Character.MAX_VALUE, 'e'});
+        payload.add(new short[] {1, -2, Short.MAX_VALUE, Short.MIN_VALUE, 5});
+        payload.add(new float[] {1.5f, -0.0f, Float.MAX_VALUE});
+        payload.add(bitSet);
+
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(
+            SerializerFoundation.New().setTargetByteOrder(oppositeByteOrder())
+        ))
+        {
+            final List<Object> copy = serializer.deserialize(serializer.serialize(payload));
+
+            assertArrayEquals((long[])payload.get(0), (long[])copy.get(0));
+            assertArrayEquals((int[])payload.get(1), (int[])copy.get(1));
+            assertArrayEquals((double[])payload.get(2), (double[])copy.get(2));
+            assertArrayEquals((char[])payload.get(3), (char[])copy.get(3));
+            assertArrayEquals((short[])payload.get(4), (short[])copy.get(4));
+            assertArrayEquals((float[])payload.get(5), (float[])copy.get(5));
+            assertEquals(bitSet, copy.get(6));
+        }
+    }
+
+}
@@ -0,0 +1,337 @@
+package test.eclipse.serializer.reference;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.serializer.collections.lazy.ConcurrentLazyArrayList;
+import org.eclipse.serializer.collections.lazy.ConcurrentLazyHashMap;
+import org.eclipse.serializer.collections.lazy.LazyArrayList;
+import org.eclipse.serializer.collections.lazy.LazyHashMap;
+import org.eclipse.serializer.collections.lazy.LazySegmentUnloader;
+import org.eclipse.serializer.reference.Lazy;
+import org.eclipse.serializer.reference.ObjectSwizzling;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Concurrent readers and writers of the concurrent lazy collections, with segments being unloaded and reloaded
+ * all the time.
+ */
+@Timeout(60)
+public class ConcurrentLazyCollectionsTest
+{
+    private static final AtomicLong OBJECT_IDS = new AtomicLong(1_000_000_000_000_000_000L);
+
+    private static final int THREADS = 4;
+
+    /**
+     * Stands in for the storage: keeps a copy of the segment data as of the last "store".
+     */
+    static final class SnapshotLoader implements ObjectSwizzling
+    {
+        final Map<Long, Object>        snapshots = new ConcurrentHashMap<>();
+        final Map<Long, AtomicInteger> loads     = new ConcurrentHashMap<>();
+
+        @Override
+        public Object getObject(final long objectId)
+        {
+            this.loads.computeIfAbsent(objectId, id -> new AtomicInteger()).incrementAndGet();
+            return copy(this.snapshots.get(objectId));
+        }
+
+        int totalLoads()
+        {
+            return this.loads.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object copy(final Object data)
+    {
+        if(data instanceof LazyHashMap.LazyHashMapSegmentEntryList)
+        {
+            final LazyHashMap.LazyHashMapSegmentEntryList copy =
+                new LazyHashMap.LazyHashMapSegmentEntryList<>(((List<?>)data).size())
+            ;
+            copy.addAll((List)data);
+            return copy;
+        }
+        return new ArrayList<>((List<?>)data);
+    }
+
+    /**
+     * Does what the type handlers do when storing: links each segment's lazy reference and resets its
+     * modified state, so the segment can be unloaded.
+     */
+    private static void store(final Iterable<?> segments, final SnapshotLoader loader) throws Exception
+    {
+        for(final Object segment : segments)
+        {
+            final Lazy.Default<?> lazy = (Lazy.Default<?>)invoke(segment, "getLazy");
+            final long objectId = lazy.isStored()
+                ? lazy.objectId()
+                : OBJECT_IDS.incrementAndGet()
+            ;
+            loader.snapshots.put(objectId, copy(lazy.get()));
+            lazy.$link(objectId, loader);
+            invoke(segment, "cleanModified");
+        }
+    }
+
+    private static Object invoke(final Object segment, final String methodName) throws Exception
+    {
+        final Method method = segment.getClass().getDeclaredMethod(methodName);
+        method.setAccessible(true);
+        return method.invoke(segment);
+    }
+
+    private static void runConcurrently(final Runnable... tasks) throws Exception
+    {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch             start   = new CountDownLatch(1);
+        final List<Thread>               threads = new ArrayList<>();
+        for(final Runnable task : tasks)
+        {
+            final Thread thread = new Thread(() ->
+            {
+                try
+                {
+                    start.await();
+                    task.run();
+                }
+                catch(final Throwable t)
+                {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for(final Thread thread : threads)
+        {
+            thread.join();
+        }
+        if(failure.get() != null)
+        {
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    @Test
+    void listReadersAndWriters() throws Exception
+    {
+        final LazyArrayList<Integer> backing = new LazyArrayList<>(100, new LazySegmentUnloader.Default(2));
+        for(int i = 0; i < 10_000; i++)
+        {
+            backing.add(i);
+        }
+        final SnapshotLoader loader = new SnapshotLoader();
+        store(backing.segments(), loader);
+        final ConcurrentLazyArrayList<Integer> list = new ConcurrentLazyArrayList<>(backing);
+
+        final Runnable reader = () ->
+        {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            for(int n = 0; n < 20_000; n++)
+            {
+                final int index = random.nextInt(10_000);
+                assertEquals(index, list.get(index) % 100_000);
+            }
+        };
+        final Runnable setter = () ->
+        {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            for(int n = 0; n < 5_000; n++)
+            {
+                final int index = random.nextInt(10_000);
+                list.set(index, index + 100_000 * random.nextInt(1, 10));
+            }
+        };
+        final Runnable appender = () ->
+        {
+            for(int i = 10_000; i < 12_000; i++)
+            {
+                list.add(i);
+            }
+        };
+        final Runnable iterator = () ->
+        {
+            for(int n = 0; n < 5; n++)
+            {
+                int expected = 0;
+                for(final Integer element : list)
+                {
+                    assertEquals(expected++, element % 100_000);
+                }
+                assertTrue(expected >= 10_000);
+            }
+        };
+        runConcurrently(reader, reader, setter, appender, iterator);
+
+        assertEquals(12_000, list.size());
+        for(int i = 0; i < list.size(); i++)
+        {
+            assertEquals(i, list.get(i) % 100_000);
+        }
+        assertTrue(loader.totalLoads() > 0, "segments have been unloaded and reloaded");
+    }
+
+    @Test
+    void mapReadersAndWriters() throws Exception
+    {
+        final LazyHashMap<Integer, Integer> backing = new LazyHashMap<>(100, new LazySegmentUnloader.Default(2));
+        for(int i = 0; i < 10_000; i++)
+        {
+            backing.put(i, i);
+        }
+        final SnapshotLoader loader = new SnapshotLoader();
+        store(backing.segments(), loader);
+        final ConcurrentLazyHashMap<Integer, Integer> map = new ConcurrentLazyHashMap<>(backing);
+
+        final Runnable reader = () ->
+        {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            for(int n = 0; n < 20_000; n++)
+            {
+                final int key = random.nextInt(10_000);
+                assertEquals(key, map.get(key) % 100_000);
+            }
+        };
+        final Runnable replacer = () ->
+        {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            for(int n = 0; n < 5_000; n++)
+            {
+                final int key = random.nextInt(10_000);
+                map.put(key, key + 100_000 * random.nextInt(1, 10));
+            }
+        };
+        final Runnable inserterRemover = () ->
+        {
+            for(int key = 10_000; key < 14_000; key++)
+            {
+                assertNull(map.putIfAbsent(key, key));
+            }
+            for(int key = 12_000; key < 14_000; key++)
+            {
+                assertEquals(key, map.remove(key));
+            }
+        };
+        final Runnable iterator = () ->
+        {
+            for(int n = 0; n < 5; n++)
+            {
+                final Set<Integer> keys = new HashSet<>();
+                for(final Map.Entry<Integer, Integer> entry : map.entrySet())
+                {
+                    assertTrue(keys.add(entry.getKey()), "key returned twice: " + entry.getKey());
+                    assertEquals(entry.getKey(), entry.getValue() % 100_000);
+                }
+                for(int key = 0; key < 10_000; key++)
+                {
+                    assertTrue(keys.contains(key), "key missing: " + key);
+                }
+            }
+        };
+        runConcurrently(reader, reader, replacer, inserterRemover, iterator);
+
+        assertEquals(12_000, map.size());
+        for(int key = 0; key < 14_000; key++)
+        {
+            assertEquals(key < 12_000, map.containsKey(key));
+        }
+        assertTrue(loader.totalLoads() > 0, "segments have been unloaded and reloaded");
+    }
+
+    @Test
+    void concurrentReadersLoadSegmentOnce() throws Exception
+    {
+        final LazyArrayList<Integer> backing = new LazyArrayList<>(100, new LazySegmentUnloader.Never());
+        for(int i = 0; i < 1_000; i++)
+        {
+            backing.add(i);
+        }
+        final SnapshotLoader loader = new SnapshotLoader();
+        store(backing.segments(), loader);
+        final ConcurrentLazyArrayList<Integer> list = new ConcurrentLazyArrayList<>(backing);
+        list.iterateLazyReferences(lazy -> lazy.clear());
+
+        final Runnable reader = () ->
+        {
+            for(int i = 0; i < 1_000; i++)
+            {
+                assertEquals(i, list.get(i));
+            }
+        };
+        runConcurrently(reader, reader, reader, reader);
+
+        assertEquals(10, loader.loads.size());
+        loader.loads.values().forEach(loads -> assertEquals(1, loads.get()));
+    }
+
+    @Test
+    void modifiedSegmentsAreNotUnloaded() throws Exception
+    {
+        final LazyArrayList<Integer> backing = new LazyArrayList<>(100, new LazySegmentUnloader.Default(1));
+        for(int i = 0; i < 1_000; i++)
+        {
+            backing.add(i);
+        }
+        final SnapshotLoader loader = new SnapshotLoader();
+        store(backing.segments(), loader);
+        final ConcurrentLazyArrayList<Integer> list = new ConcurrentLazyArrayList<>(backing);
+
+        final Runnable[] tasks = new Runnable[THREADS];
+        for(int t = 0; t < THREADS; t++)
+        {
+            final int offset = t;
+            tasks[t] = () ->
+            {
+                for(int i = offset; i < 1_000; i += THREADS)
+                {
+                    list.set(i, -i);
+                    list.tryUnload(true);
+                }
+            };
+        }
+        runConcurrently(tasks);
+
+        for(int i = 0; i < 1_000; i++)
+        {
+            assertEquals(-i, list.get(i));
+        }
+        list.tryUnload(true);
+        assertFalse(list.isEmpty());
+    }
+
+}
@@ -0,0 +1,201 @@
+package test.eclipse.serializer.reference;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import org.eclipse.serializer.memory.MemoryStatistics;
+import org.eclipse.serializer.memory.MemoryStatisticsProvider;
+import org.eclipse.serializer.reference.Lazy;
+import org.eclipse.serializer.reference.LazyEvictionPolicy;
+import org.eclipse.serializer.reference.ObjectSwizzling;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(60)
+public class LazyEvictionPolicyTest
+{
+    private static final long BASE_OBJECT_ID = 1_000_000_000_000_000_000L;
+
+    private MemoryStatisticsProvider originalProvider;
+
+    @BeforeEach
+    void simulateMemoryPressure()
+    {
+        // half of the used memory exceeds the limit of 50% of the committed memory
+        final MemoryStatistics statistics = MemoryStatistics.New(1_000_000, 1_000_000, 1_000_000);
+        this.originalProvider = MemoryStatisticsProvider.set(new MemoryStatisticsProvider()
+        {
+            @Override
+            public MemoryStatistics heapMemoryUsage()
+            {
+                return statistics;
+            }
+
+            @Override
+            public MemoryStatistics nonHeapMemoryUsage()
+            {
+                return statistics;
+            }
+        });
+    }
+
+    @AfterEach
+    void restoreMemoryStatistics()
+    {
+        MemoryStatisticsProvider.set(this.originalProvider);
+    }
+
+    private static Lazy<String> loadedLazy(final long index, final long length)
+    {
+        final String subject = "subject" + index;
+        final Lazy<String> lazy = Lazy.UnregisteredReference(subject);
+        ((Lazy.Default<String>)lazy).$link(BASE_OBJECT_ID + index, new ObjectSwizzling()
+        {
+            @Override
+            public Object getObject(final long objectId)
+            {
+                return subject;
+            }
+
+            @Override
+            public Object getObject(final long objectId, final LongConsumer loadedLengthAcceptor)
+            {
+                loadedLengthAcceptor.accept(length);
+                return subject;
+            }
+        });
+        lazy.clear();
+        assertNotNull(lazy.get());
+        return lazy;
+    }
+
+    private static void cycle(final LazyEvictionPolicy policy, final List<Lazy<String>> lazies)
+    {
+        policy.beginCheckCycle();
+        lazies.forEach(policy::check);
+        policy.endCheckCycle();
+    }
+
+    @Test
+    void frequencyCountsAccessedCycles() throws Exception
+    {
+        final LazyEvictionPolicy.Frequency policy =
+            (LazyEvictionPolicy.Frequency)LazyEvictionPolicy.Frequency(60_000, 0.0, 1024)
+        ;
+        final List<Lazy<String>> hot  = new ArrayList<>();
+        final List<Lazy<String>> cold = new ArrayList<>();
+        final List<Lazy<String>> all  = new ArrayList<>();
+        for(int i = 0; i < 100; i++)
+        {
+            (i % 2 == 0 ? hot : cold).add(loadedLazy(i, 100));
+        }
+        all.addAll(hot);
+        all.addAll(cold);
+
+        // the first cycle counts every loaded reference once
+        Thread.sleep(5);
+        cycle(policy, all);
+        for(int i = 0; i < 5; i++)
+        {
+            Thread.sleep(5);
+            hot.forEach(lazy -> lazy.get());
+            cycle(policy, all);
+        }
+
+        hot.forEach(lazy -> assertTrue(policy.frequency(lazy) >= 6, String.valueOf(policy.frequency(lazy))));
+        cold.forEach(lazy -> assertTrue(policy.frequency(lazy) <= 2, String.valueOf(policy.frequency(lazy))));
+        all.forEach(lazy -> assertNotNull(lazy.peek()));
+    }
+
+    @Test
+    void sizeAwareClearsLargeReferencesFirst() throws Exception
+    {
+        final LazyEvictionPolicy policy = LazyEvictionPolicy.SizeAware(60_000, 0.5, 1024);
+        final List<Lazy<String>> small = new ArrayList<>();
+        final List<Lazy<String>> large = new ArrayList<>();
+        final List<Lazy<String>> all   = new ArrayList<>();
+        for(int i = 0; i < 100; i++)
+        {
+            final boolean isLarge = i % 2 == 0;
+            (isLarge ? large : small).add(loadedLazy(i, isLarge ? 100_000 : 100));
+        }
+        all.addAll(small);
+        all.addAll(large);
+        assertEquals(100_000, large.get(0).loadedLength());
+
+        // leave the grace time
+        Thread.sleep(1_200);
+
+        // without scores of a previous cycle, nothing is cleared below the timeout
+        cycle(policy, all);
+        all.forEach(lazy -> assertNotNull(lazy.peek()));
+
+        cycle(policy, all);
+        large.forEach(lazy -> assertNull(lazy.peek()));
+        small.forEach(lazy -> assertNotNull(lazy.peek()));
+    }
+
+    @Test
+    void lruClearsOldestReferencesFirst() throws Exception
+    {
+        final LazyEvictionPolicy policy = LazyEvictionPolicy.Lru(60_000, 0.5);
+        final List<Lazy<String>> old   = new ArrayList<>();
+        final List<Lazy<String>> young = new ArrayList<>();
+        for(int i = 0; i < 50; i++)
+        {
+            old.add(loadedLazy(i, 100));
+        }
+        Thread.sleep(200);
+        for(int i = 50; i < 100; i++)
+        {
+            young.add(loadedLazy(i, 100));
+        }
+        final List<Lazy<String>> all = new ArrayList<>(old);
+        all.addAll(young);
+        Thread.sleep(1_200);
+
+        cycle(policy, all);
+        cycle(policy, all);
+        old.forEach(lazy -> assertNull(lazy.peek()));
+        young.forEach(lazy -> assertNotNull(lazy.peek()));
+    }
+
+    @Test
+    void noClearingWithoutMemoryPressure() throws Exception
+    {
+        final LazyEvictionPolicy policy = LazyEvictionPolicy.SizeAware(60_000, 0.0, 1024);
+        final List<Lazy<String>> all = new ArrayList<>();
+        for(int i = 0; i < 10; i++)
+        {
+            all.add(loadedLazy(i, 100_000));
+        }
+        Thread.sleep(1_200);
+
+        cycle(policy, all);
+        cycle(policy, all);
+        all.forEach(lazy -> assertNotNull(lazy.peek()));
+    }
+
+}
@@ -0,0 +1,146 @@
+package test.eclipse.serializer.reference;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import org.eclipse.serializer.reference.Lazy;
+import org.eclipse.serializer.reference.ObjectSwizzling;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * {@link Lazy#prefetch(Iterable)} must load all unloaded references sharing a loader with one
+ * {@link ObjectSwizzling#getObjects(long...)} call and leave loaded and unstored references untouched.
+ * The loaded lengths reported by the batch must be set like for a single load.
+ */
+@Timeout(60)
+public class LazyPrefetchTest
+{
+    private static final long BASE_OBJECT_ID = 1_000_000_000_000_000_000L;
+
+    static class CountingLoader implements ObjectSwizzling
+    {
+        final List<long[]> batches = new ArrayList<>();
+
+        @Override
+        public Object getObject(final long objectId)
+        {
+            return this.getObjects(objectId)[0];
+        }
+
+        @Override
+        public Object[] getObjects(final long... objectIds)
+        {
+            this.batches.add(objectIds);
+            final Object[] subjects = new Object[objectIds.length];
+            for(int i = 0; i < objectIds.length; i++)
+            {
+                subjects[i] = "subject" + (objectIds[i] - BASE_OBJECT_ID);
+            }
+            return subjects;
+        }
+    }
+
+    private static Lazy<String> unloaded(final long index, final ObjectSwizzling loader)
+    {
+        final Lazy<String> lazy = Lazy.UnregisteredReference("subject" + index);
+        ((Lazy.Default<String>)lazy).$link(BASE_OBJECT_ID + index, loader);
+        lazy.clear();
+        return lazy;
+    }
+
+    @Test
+    void prefetchLoadsInOneBatchPerLoader()
+    {
+        final CountingLoader loader1 = new CountingLoader();
+        final CountingLoader loader2 = new CountingLoader();
+
+        final List<Lazy<String>> lazies = new ArrayList<>();
+        for(int i = 0; i < 100; i++)
+        {
+            lazies.add(unloaded(i, i % 2 == 0 ? loader1 : loader2));
+        }
+        lazies.get(10).get(); // already loaded
+        lazies.add(Lazy.UnregisteredReference("unstored"));
+        lazies.add(null);
+
+        assertEquals(99, Lazy.prefetch(lazies));
+
+        assertEquals(2, loader1.batches.size(), "one batch besides the single get()");
+        assertEquals(49, loader1.batches.get(1).length);
+        assertEquals(1, loader2.batches.size());
+        assertEquals(50, loader2.batches.get(0).length);
+
+        for(int i = 0; i < 100; i++)
+        {
+            assertTrue(lazies.get(i).isLoaded());
+            assertEquals("subject" + i, lazies.get(i).peek());
+        }
+        assertEquals("unstored", lazies.get(100).peek());
+
+        // nothing left to load
+        assertEquals(0, Lazy.prefetch(lazies));
+        assertEquals(2, loader1.batches.size());
+    }
+
+    @Test
+    void batchLoadedLengthsAreSet()
+    {
+        final CountingLoader loader = new CountingLoader()
+        {
+            @Override
+            public Object[] getObjects(final long[] objectIds, final LongConsumer[] loadedLengthAcceptors)
+            {
+                // no length for the first one, like for an instance that did not have to be read
+                for(int i = 1; i < objectIds.length; i++)
+                {
+                    loadedLengthAcceptors[i].accept(100 * (objectIds[i] - BASE_OBJECT_ID));
+                }
+                return this.getObjects(objectIds);
+            }
+        };
+
+        final List<Lazy<String>> lazies = new ArrayList<>();
+        for(int i = 0; i < 10; i++)
+        {
+            lazies.add(unloaded(i, loader));
+        }
+
+        assertEquals(10, Lazy.prefetch(lazies));
+        assertEquals(1, loader.batches.size());
+        for(int i = 0; i < 10; i++)
+        {
+            assertEquals(100 * i, lazies.get(i).loadedLength());
+        }
+    }
+
+    @Test
+    void missingSubjectsStayUnloaded()
+    {
+        final ObjectSwizzling nullLoader = objectId -> null;
+        final Lazy<String> lazy = unloaded(1, nullLoader);
+
+        assertEquals(0, Lazy.prefetch(List.of(lazy)));
+        assertNull(lazy.peek());
+    }
+
+}
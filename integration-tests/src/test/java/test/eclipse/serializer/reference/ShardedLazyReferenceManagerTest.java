@@ -0,0 +1,156 @@
+package test.eclipse.serializer.reference;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.serializer.monitoring.MonitoringManager;
+import org.eclipse.serializer.reference.Lazy;
+import org.eclipse.serializer.reference.LazyReferenceManager;
+import org.eclipse.serializer.reference._longReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(60)
+public class ShardedLazyReferenceManagerTest
+{
+    private static final long BASE_OBJECT_ID = 1_000_000_000_000_000_000L;
+
+    private static LazyReferenceManager.Sharded manager(final Lazy.Checker checker)
+    {
+        return LazyReferenceManager.Sharded(
+            checker,
+            _longReference.New(1_000),
+            _longReference.New(Long.MAX_VALUE),
+            MonitoringManager.Disabled(),
+            4
+        );
+    }
+
+    private static Lazy<String> storedLazy(final long index)
+    {
+        final String subject = "subject" + index;
+        final Lazy<String> lazy = Lazy.UnregisteredReference(subject);
+        ((Lazy.Default<String>)lazy).$link(BASE_OBJECT_ID + index, objectId -> subject);
+        return lazy;
+    }
+
+    @Test
+    void concurrentRegistration() throws Exception
+    {
+        final LazyReferenceManager.Sharded manager = manager(lazy -> false);
+        final List<Lazy<String>> lazies = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for(int t = 0; t < 4; t++)
+        {
+            final List<Lazy<String>> threadLazies = new ArrayList<>();
+            for(int i = 0; i < 10_000; i++)
+            {
+                threadLazies.add(storedLazy(t * 10_000 + i));
+            }
+            lazies.addAll(threadLazies);
+            threads.add(new Thread(() -> threadLazies.forEach(manager::register)));
+        }
+        threads.forEach(Thread::start);
+        for(final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        final AtomicInteger count = new AtomicInteger();
+        manager.iterate(lazy -> count.incrementAndGet());
+        assertEquals(lazies.size(), count.get());
+    }
+
+    @Test
+    void generationsAreCheckedByInterval()
+    {
+        final AtomicInteger loadedChecks   = new AtomicInteger();
+        final AtomicInteger unloadedChecks = new AtomicInteger();
+        final LazyReferenceManager.Sharded manager = manager(lazy ->
+        {
+            (lazy.peek() == null ? unloadedChecks : loadedChecks).incrementAndGet();
+            return false;
+        });
+
+        final List<Lazy<String>> lazies = new ArrayList<>();
+        for(int i = 0; i < 200; i++)
+        {
+            final Lazy<String> lazy = storedLazy(i);
+            if(i % 2 == 0)
+            {
+                lazy.clear();
+            }
+            lazies.add(lazy);
+            manager.register(lazy);
+        }
+
+        // cycle 0: new references are checked once and assigned to their generation
+        manager.cleanUp();
+        assertEquals(100, loadedChecks.get());
+        assertEquals(100, unloadedChecks.get());
+
+        // cycles 1 to 7: unloaded references are not checked again
+        for(int cycle = 1; cycle < 8; cycle++)
+        {
+            manager.cleanUp();
+        }
+        assertEquals(100, unloadedChecks.get());
+
+        // cycle 8: unloaded references are due again
+        manager.cleanUp();
+        assertEquals(200, unloadedChecks.get());
+    }
+
+    @Test
+    void clearClearsAllGenerations()
+    {
+        final LazyReferenceManager.Sharded manager = manager(lazy -> false);
+        final List<Lazy<String>> lazies = new ArrayList<>();
+        for(int i = 0; i < 1_000; i++)
+        {
+            final Lazy<String> lazy = storedLazy(i);
+            lazies.add(lazy);
+            manager.register(lazy);
+        }
+        manager.cleanUp();
+        manager.cleanUp();
+
+        manager.clear();
+        for(final Lazy<String> lazy : lazies)
+        {
+            assertNull(lazy.peek());
+        }
+    }
+
+    @Test
+    void shardCountMustBePowerOfTwo()
+    {
+        assertThrows(IllegalArgumentException.class, () -> LazyReferenceManager.Sharded(
+            lazy -> false,
+            _longReference.New(1_000),
+            _longReference.New(1_000_000),
+            MonitoringManager.Disabled(),
+            3
+        ));
+    }
+
+}
@@ -0,0 +1,416 @@
+package test.eclipse.serializer.registry;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.serializer.PassThroughSerializerFoundation;
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionConsistencyObject;
+import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionConsistencyObjectId;
+import org.eclipse.serializer.persistence.types.ConcurrentObjectRegistry;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceObjectRegistry;
+import org.eclipse.serializer.persistence.types.PersistenceStorer;
+import org.eclipse.serializer.reference.Swizzling;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+
+@Timeout(60)
+public class ConcurrentObjectRegistryTest
+{
+    private static final long BASE_OID = 1_000_000_000_000_000_000L;
+
+    @Test
+    void registersAndLooksUpBothWays()
+    {
+        final ConcurrentObjectRegistry registry = ConcurrentObjectRegistry.New();
+        final Object                   object   = new Object();
+
+        assertTrue(registry.registerObject(BASE_OID, object));
+        assertFalse(registry.registerObject(BASE_OID, object), "re-registering the same pair is a no-op");
+
+        assertSame(object, registry.lookupObject(BASE_OID));
+        assertEquals(BASE_OID, registry.lookupObjectId(object));
+        assertEquals(Swizzling.notFoundId(), registry.lookupObjectId(new Object()));
+        assertNull(registry.lookupObject(BASE_OID + 1));
+        assertTrue(registry.containsLiveObject(BASE_OID));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void rejectsInconsistentRegistrations()
+    {
+        final ConcurrentObjectRegistry registry = ConcurrentObjectRegistry.New();
+        final Object                   object   = new Object();
+        registry.registerObject(BASE_OID, object);
+
+        assertThrows(PersistenceExceptionConsistencyObject.class,
+            () -> registry.registerObject(BASE_OID, new Object()));
+        assertThrows(PersistenceExceptionConsistencyObjectId.class,
+            () -> registry.registerObject(BASE_OID + 1, object));
+        assertThrows(PersistenceExceptionConsistencyObjectId.class,
+            () -> registry.validate(BASE_OID + 1, object));
+        assertFalse(registry.isValid(BASE_OID, new Object()));
+
+        final Object other = new Object();
+        assertSame(object, registry.optionalRegisterObject(BASE_OID, other),
+            "the already registered instance must be returned");
+        assertSame(other, registry.optionalRegisterObject(BASE_OID + 1, other));
+    }
+
+    @Test
+    void registrationVersionCountsNewAssociationsOnly()
+    {
+        final ConcurrentObjectRegistry registry = ConcurrentObjectRegistry.New();
+        final Object                   object   = new Object();
+
+        final long initial = registry.registrationVersion();
+        registry.registerObject(BASE_OID, object);
+        final long afterRegistration = registry.registrationVersion();
+        assertNotEquals(initial, afterRegistration);
+
+        registry.registerObject(BASE_OID, object);
+        registry.lookupObject(BASE_OID);
+        registry.optionalRegisterObject(BASE_OID, object);
+        assertEquals(afterRegistration, registry.registrationVersion());
+    }
+
+    @Test
+    void constantsSurviveClearAndTruncate()
+    {
+        final ConcurrentObjectRegistry registry = ConcurrentObjectRegistry.New(0.75f, 1, 4);
+        final Object                   constant = new Object();
+        registry.registerConstant(1L, constant);
+        registry.registerObject(BASE_OID, new Object());
+
+        registry.clear();
+        assertSame(constant, registry.lookupObject(1L));
+        assertFalse(registry.containsObjectId(BASE_OID));
+
+        registry.truncate();
+        assertSame(constant, registry.lookupObject(1L));
+
+        registry.truncateAll();
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    void concurrentRegistrationsAreAllVisible() throws Exception
+    {
+        final int THREADS            = 8;
+        final int OBJECTS_PER_THREAD = 50_000;
+
+        // minimal capacity and few segments to force many concurrent segment rebuilds.
+        final ConcurrentObjectRegistry registry = ConcurrentObjectRegistry.New(1.0f, 1, 4);
+        final Object[][]               objects  = new Object[THREADS][OBJECTS_PER_THREAD];
+        final Object[][]               shared   = new Object[THREADS][OBJECTS_PER_THREAD];
+        final CyclicBarrier            barrier  = new CyclicBarrier(THREADS);
+        final ExecutorService          executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+            for(int t = 0; t < THREADS; t++)
+            {
+                final int thread = t;
+                futures.add(executor.submit(() ->
+                {
+                    barrier.await();
+                    for(int i = 0; i < OBJECTS_PER_THREAD; i++)
+                    {
+                        final long   objectId = BASE_OID + (long)i * THREADS + thread;
+                        final Object object   = objects[thread][i] = new Object();
+                        registry.registerObject(objectId, object);
+
+                        if(registry.lookupObjectId(object) != objectId)
+                        {
+                            throw new AssertionError("Lost registration of " + objectId);
+                        }
+
+                        // one object id shared by all threads per index: exactly one instance wins.
+                        // strongly referenced, orphaned entries would be discarded by segment rebuilds.
+                        final Object candidate = shared[thread][i] = new Object();
+                        final Object winner    = registry.optionalRegisterObject(BASE_OID * 2 + i, candidate);
+                        if(winner != candidate && registry.lookupObjectId(candidate) != Swizzling.notFoundId())
+                        {
+                            throw new AssertionError("Losing candidate registered for index " + i);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for(final Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals((THREADS + 1L) * OBJECTS_PER_THREAD, registry.size());
+        for(int t = 0; t < THREADS; t++)
+        {
+            for(int i = 0; i < OBJECTS_PER_THREAD; i++)
+            {
+                final long objectId = BASE_OID + (long)i * THREADS + t;
+                assertSame(objects[t][i], registry.lookupObject(objectId));
+            }
+        }
+    }
+
+    @Test
+    void reservesOneObjectIdPerObject() throws Exception
+    {
+        final int THREADS = 8;
+        final int OBJECTS = 20_000;
+
+        final ConcurrentObjectRegistry registry = ConcurrentObjectRegistry.New(1.0f, 1, 4);
+        final AtomicLong               provider = new AtomicLong(BASE_OID);
+        final Object[]                 objects  = new Object[OBJECTS];
+        for(int i = 0; i < OBJECTS; i++)
+        {
+            objects[i] = new Object();
+        }
+
+        final long[][]        reserved = new long[THREADS][OBJECTS];
+        final CyclicBarrier   barrier  = new CyclicBarrier(THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+            for(int t = 0; t < THREADS; t++)
+            {
+                final int thread = t;
+                futures.add(executor.submit(() ->
+                {
+                    barrier.await();
+                    for(int i = 0; i < OBJECTS; i++)
+                    {
+                        reserved[thread][i] = registry.lookupReserveObjectId(objects[i], provider::incrementAndGet);
+                    }
+                    return null;
+                }));
+            }
+            for(final Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals(BASE_OID + OBJECTS, provider.get(), "exactly one object id per object must be provided");
+        for(int t = 1; t < THREADS; t++)
+        {
+            for(int i = 0; i < OBJECTS; i++)
+            {
+                assertEquals(reserved[0][i], reserved[t][i]);
+            }
+        }
+        assertTrue(registry.isEmpty(), "reservations are no registrations");
+        assertEquals(Swizzling.notFoundId(), registry.lookupObjectId(objects[0]));
+    }
+
+    @Test
+    void reservationsEndWithRegistrationAndClearing()
+    {
+        final ConcurrentObjectRegistry registry  = ConcurrentObjectRegistry.New();
+        final AtomicLong               provider  = new AtomicLong(BASE_OID);
+        final Object                   object    = new Object();
+        final Object                   other     = new Object();
+
+        final long objectId = registry.lookupReserveObjectId(object, provider::incrementAndGet);
+        assertEquals(objectId, registry.lookupReserveObjectId(object, provider::incrementAndGet));
+        registry.registerObject(objectId, object);
+        assertEquals(objectId, registry.lookupReserveObjectId(object, () -> { throw new AssertionError(); }));
+
+        final long otherId = registry.lookupReserveObjectId(other, provider::incrementAndGet);
+        registry.clear();
+        assertNotEquals(otherId, registry.lookupReserveObjectId(other, provider::incrementAndGet),
+            "clearing must drop the reservations");
+    }
+
+    @Test
+    void storersAssignObjectIdsWithoutTheRegistryMonitor() throws Exception
+    {
+        final BulkList<Binary> written = BulkList.New();
+
+        final PersistenceManager<Binary> manager = PassThroughSerializerFoundation.New()
+            .setObjectRegistryCreator(ConcurrentObjectRegistry::New)
+            .setPersistenceTarget((Serializer.Target)written::add)
+            .setPersistenceSource((Serializer.Source)() -> written)
+            .createPersistenceManager()
+        ;
+        final CountDownLatch  locked   = new CountDownLatch(1);
+        final CountDownLatch  release  = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            assertTrue(manager.isolatesLocalRegistries());
+            final List<String> known = new ArrayList<>(List.of("a"));
+            manager.store(known);
+
+            // attaching a storer's local registry does hold the registry monitor.
+            final PersistenceStorer first  = manager.createStorer();
+            final PersistenceStorer second = manager.createStorer();
+
+            final Future<?> holder = executor.submit(() ->
+            {
+                synchronized(manager.objectRegistryMonitor())
+                {
+                    locked.countDown();
+                    release.await(30, TimeUnit.SECONDS);
+                }
+                return null;
+            });
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            // two storers in flight at once must agree on the object ids of new instances.
+            final List<String> graph = new ArrayList<>(List.of("b", "c"));
+            final long         oid   = first.store(graph);
+            assertEquals(oid, second.store(graph));
+            assertEquals(manager.lookupObjectId(known), first.store(known));
+            assertSame(known, manager.lookupObject(manager.lookupObjectId(known)));
+
+            release.countDown();
+            holder.get();
+
+            first.commit();
+            second.commit();
+            assertEquals(oid, manager.lookupObjectId(graph));
+        }
+        finally
+        {
+            release.countDown();
+            executor.shutdownNow();
+            manager.close();
+        }
+    }
+
+    @Test
+    void concurrentLoadsPublishOneInstance() throws Exception
+    {
+        final int THREADS = 8;
+
+        final BulkList<Binary> written = BulkList.New();
+        final PersistenceManager<Binary> writer = PassThroughSerializerFoundation.New()
+            .setObjectRegistryCreator(ConcurrentObjectRegistry::New)
+            .setPersistenceTarget((Serializer.Target)written::add)
+            .setPersistenceSource((Serializer.Source)() -> written)
+            .createPersistenceManager()
+        ;
+        final List<List<String>> graph = new ArrayList<>();
+        for(int i = 0; i < 1_000; i++)
+        {
+            graph.add(new ArrayList<>(List.of("s" + i, "t" + i)));
+        }
+        writer.store(graph);
+        writer.close();
+
+        final PersistenceManager<Binary> reader = PassThroughSerializerFoundation.New()
+            .setObjectRegistryCreator(ConcurrentObjectRegistry::New)
+            .setPersistenceTarget((Serializer.Target)written::add)
+            .setPersistenceSource((Serializer.Source)() -> written)
+            .createPersistenceManager()
+        ;
+        final CyclicBarrier   barrier  = new CyclicBarrier(THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            final List<Future<Object>> futures = new ArrayList<>();
+            for(int t = 0; t < THREADS; t++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    barrier.await();
+                    return reader.get();
+                }));
+            }
+
+            final List<Object> loaded = new ArrayList<>();
+            for(final Future<Object> future : futures)
+            {
+                loaded.add(future.get());
+            }
+
+            // loading registered instances updates them, so only compare once all loaders are done.
+            assertEquals(graph, loaded.get(0));
+            for(final Object instance : loaded)
+            {
+                assertSame(loaded.get(0), instance, "all loaders must get the one published instance");
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+            reader.close();
+        }
+    }
+
+    @Test
+    void foundationUsesTheConfiguredRegistryCreator()
+    {
+        final BulkList<Binary> written = BulkList.New();
+
+        final PersistenceManager<Binary> manager = PassThroughSerializerFoundation.New()
+            .setObjectRegistryCreator(ConcurrentObjectRegistry::New)
+            .setPersistenceTarget((Serializer.Target)written::add)
+            .setPersistenceSource((Serializer.Source)() -> written)
+            .createPersistenceManager()
+        ;
+        try
+        {
+            final PersistenceObjectRegistry registry = manager.objectRegistry();
+            assertInstanceOf(ConcurrentObjectRegistry.class, registry);
+            assertFalse(registry.isEmpty(), "the java constants must have been registered");
+
+            final List<String> graph = new ArrayList<>(List.of("a", "b", "c"));
+            final long         oid   = manager.store(graph);
+
+            assertFalse(written.isEmpty());
+            assertEquals(oid, registry.lookupObjectId(graph));
+            assertSame(graph, manager.getObject(oid));
+        }
+        finally
+        {
+            manager.close();
+        }
+    }
+
+}
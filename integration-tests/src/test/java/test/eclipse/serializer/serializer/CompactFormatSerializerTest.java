@@ -0,0 +1,240 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompactFormat;
+import org.eclipse.serializer.persistence.binary.types.ChunksWrapper;
+import org.eclipse.serializer.persistence.exceptions.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Serializers using the compact wire format must restore the same graphs as with the regular format,
+ * with considerably less bytes.
+ */
+@Timeout(60)
+public class CompactFormatSerializerTest
+{
+    private static final int NODE_COUNT = 2_000;
+
+    private static List<Node> createGraph()
+    {
+        final List<Node> nodes = new ArrayList<>(NODE_COUNT);
+        Node previous = null;
+        for(int i = 0; i < NODE_COUNT; i++)
+        {
+            final Map<String, Object> attributes = new HashMap<>();
+            attributes.put("index", i);
+            attributes.put("date", LocalDate.of(2000, 1, 1).plusDays(i));
+            final Node node = new Node(
+                i,
+                i * 0.5,
+                "node" + i,
+                new int[]{i, -i, Integer.MAX_VALUE},
+                new Object[]{previous, null, "element" + i},
+                attributes,
+                previous
+            );
+            if(previous != null)
+            {
+                previous.next = node;
+            }
+            nodes.add(previous = node);
+        }
+        nodes.add(null);
+
+        return nodes;
+    }
+
+    private static void assertGraph(final List<Node> expected, final Object actual)
+    {
+        @SuppressWarnings("unchecked")
+        final List<Node> nodes = (List<Node>)actual;
+        assertEquals(expected.size(), nodes.size());
+        assertNull(nodes.get(NODE_COUNT));
+        for(int i = 0; i < NODE_COUNT; i++)
+        {
+            final Node e = expected.get(i);
+            final Node n = nodes.get(i);
+            assertEquals(e.id, n.id);
+            assertEquals(e.weight, n.weight);
+            assertEquals(e.name, n.name);
+            assertArrayEquals(e.values, n.values);
+            assertEquals(e.attributes, n.attributes);
+            assertEquals(e.elements[2], n.elements[2]);
+            assertNull(n.elements[1]);
+            assertSame(i == 0 ? null : nodes.get(i - 1), n.previous);
+            assertSame(n.previous, n.elements[0]);
+            assertSame(i == NODE_COUNT - 1 ? null : nodes.get(i + 1), n.next);
+        }
+    }
+
+    private static SerializerFoundation<?> compactFoundation()
+    {
+        return SerializerFoundation.New().setCompactFormat(true);
+    }
+
+    @Test
+    void serializerRoundTrip() throws Exception
+    {
+        final List<Node> graph = createGraph();
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(compactFoundation()))
+        {
+            final byte[] bytes = serializer.serialize(graph);
+            assertGraph(graph, serializer.deserialize(bytes));
+
+            final ByteBuffer buffer  = ByteBuffer.allocateDirect(bytes.length + 16);
+            final int        written = serializer.serializeInto(graph, buffer);
+            assertGraph(graph, serializer.deserialize(buffer, 0, written));
+        }
+    }
+
+    @Test
+    void compactFormatIsSmaller() throws Exception
+    {
+        final List<Node> graph = createGraph();
+        try(
+            final Serializer<byte[]> regular = Serializer.Bytes(SerializerFoundation.New());
+            final Serializer<byte[]> compact = Serializer.Bytes(compactFoundation())
+        )
+        {
+            final int regularLength = regular.serialize(graph).length;
+            final int compactLength = compact.serialize(graph).length;
+            assertTrue(
+                compactLength < regularLength * 0.6,
+                "compact: " + compactLength + " bytes, regular: " + regularLength + " bytes"
+            );
+        }
+    }
+
+    @Test
+    void typedSerializerReadsBothFormats() throws Exception
+    {
+        final List<Node> graph = createGraph();
+        try(
+            final Serializer<byte[]> compact = TypedSerializer.Bytes(compactFoundation());
+            final Serializer<byte[]> regular = TypedSerializer.Bytes(SerializerFoundation.New())
+        )
+        {
+            final byte[] compactBytes = compact.serialize(graph);
+            final byte[] regularBytes = regular.serialize(graph);
+            assertTrue(compactBytes.length < regularBytes.length);
+
+            // the format is flagged in the data, so the receiver's setting does not matter.
+            assertGraph(graph, regular.deserialize(compactBytes));
+            assertGraph(graph, compact.deserialize(regularBytes));
+            assertGraph(graph, compact.deserialize(compactBytes));
+        }
+    }
+
+    @Test
+    void regularDataIsRejected() throws Exception
+    {
+        try(
+            final Serializer<byte[]> regular = Serializer.Bytes(SerializerFoundation.New());
+            final Serializer<byte[]> compact = Serializer.Bytes(compactFoundation())
+        )
+        {
+            final byte[] bytes = regular.serialize(List.of("a", "b"));
+            assertThrows(PersistenceException.class, () -> compact.deserialize(bytes));
+        }
+    }
+
+
+    @Test
+    void corruptVariableLengthValuesAreRejected()
+    {
+        final BinaryCompactFormat format = BinaryCompactFormat.New(
+            SerializerFoundation.New().getTypeHandlerManager(),
+            false
+        );
+
+        // marker byte followed by an entity header that ends within a variable length value
+        final PersistenceException truncated = assertThrows(
+            PersistenceException.class,
+            () -> format.decode(message((byte)0x80))
+        );
+        assertTrue(truncated.getMessage().contains("Truncated"), truncated.getMessage());
+
+        // more than the 10 bytes a long can take
+        final byte[] overlong = new byte[11];
+        Arrays.fill(overlong, (byte)0x80);
+        final PersistenceException invalid = assertThrows(
+            PersistenceException.class,
+            () -> format.decode(message(overlong))
+        );
+        assertTrue(invalid.getMessage().contains("Invalid"), invalid.getMessage());
+    }
+
+    private static Binary message(final byte... content)
+    {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(content.length + 1);
+        buffer.put((byte)0xC5).put(content).flip();
+
+        return ChunksWrapper.New(buffer);
+    }
+
+    static final class Node
+    {
+        final int                 id        ;
+        final double              weight    ;
+        final String              name      ;
+        final int[]               values    ;
+        final Object[]            elements  ;
+        final Map<String, Object> attributes;
+        final Node                previous  ;
+        Node                      next      ;
+
+        Node(
+            final int                 id        ,
+            final double              weight    ,
+            final String              name      ,
+            final int[]               values    ,
+            final Object[]            elements  ,
+            final Map<String, Object> attributes,
+            final Node                previous
+        )
+        {
+            super();
+            this.id         = id        ;
+            this.weight     = weight    ;
+            this.name       = name      ;
+            this.values     = values    ;
+            this.elements   = elements  ;
+            this.attributes = attributes;
+            this.previous   = previous  ;
+        }
+    }
+
+}
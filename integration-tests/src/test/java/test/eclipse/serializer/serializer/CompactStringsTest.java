@@ -0,0 +1,190 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.eclipse.serializer.persistence.exceptions.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Strings persisted in the compact chars layout must restore the same values as with the regular layout.
+ * Data and type dictionaries of the respective other layout must be read as well.
+ */
+@Timeout(60)
+public class CompactStringsTest
+{
+    private static final int STRING_COUNT = 1_000;
+
+    private static List<Object> createGraph()
+    {
+        final List<Object> graph = new ArrayList<>();
+        for(int i = 0; i < STRING_COUNT; i++)
+        {
+            graph.add("Latin-1 text with umlauts äöü and number " + i);
+        }
+        graph.add("");
+        graph.add("non-Latin-1: € Δ 日本");
+        graph.add("supplementary: 😀");
+        graph.add(new StringBuilder("builder ß").append('☃'));
+        graph.add(new StringBuffer(64).append("buffer"));
+
+        return graph;
+    }
+
+    private static void assertGraph(final List<Object> expected, final Object actual)
+    {
+        @SuppressWarnings("unchecked")
+        final List<Object> loaded = (List<Object>)actual;
+        assertEquals(expected.size(), loaded.size());
+        for(int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(expected.get(i).getClass(), loaded.get(i).getClass());
+            assertEquals(expected.get(i).toString(), loaded.get(i).toString());
+        }
+    }
+
+    private static SerializerFoundation<?> compactFoundation()
+    {
+        return SerializerFoundation.New().setCompactStrings(true);
+    }
+
+    @Test
+    void roundTrip() throws Exception
+    {
+        final List<Object> graph = createGraph();
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(compactFoundation()))
+        {
+            assertGraph(graph, serializer.deserialize(serializer.serialize(graph)));
+        }
+    }
+
+    @Test
+    void latin1StringsAreSmaller() throws Exception
+    {
+        final List<Object> graph = new ArrayList<>(createGraph().subList(0, STRING_COUNT));
+        try(
+            final Serializer<byte[]> regular = Serializer.Bytes(SerializerFoundation.New());
+            final Serializer<byte[]> compact = Serializer.Bytes(compactFoundation())
+        )
+        {
+            final int regularLength = regular.serialize(graph).length;
+            final int compactLength = compact.serialize(graph).length;
+            assertTrue(
+                compactLength < regularLength * 0.75,
+                "compact: " + compactLength + " bytes, regular: " + regularLength + " bytes"
+            );
+        }
+    }
+
+    @Test
+    void typedSerializerRoundTrip() throws Exception
+    {
+        final List<Object> graph = createGraph();
+        try(final Serializer<byte[]> serializer = TypedSerializer.Bytes(compactFoundation()))
+        {
+            assertGraph(graph, serializer.deserialize(serializer.serialize(graph)));
+        }
+    }
+
+    @Test
+    void typedDataOfBothLayoutsIsRead() throws Exception
+    {
+        final List<Object> graph = createGraph();
+        try(
+            final Serializer<byte[]> compact = TypedSerializer.Bytes(compactFoundation());
+            final Serializer<byte[]> regular = TypedSerializer.Bytes(SerializerFoundation.New())
+        )
+        {
+            final byte[] compactBytes = compact.serialize(graph);
+            final byte[] regularBytes = regular.serialize(graph);
+            assertGraph(graph, regular.deserialize(compactBytes));
+            assertGraph(graph, compact.deserialize(regularBytes));
+
+            // the imported type information of the other layout does not affect the serializers' own data
+            assertGraph(graph, compact.deserialize(compact.serialize(graph)));
+            assertGraph(graph, regular.deserialize(regular.serialize(graph)));
+        }
+    }
+
+    @Test
+    void compactFormatDataOfOtherLayoutIsRejected() throws Exception
+    {
+        try(
+            final Serializer<byte[]> compact = TypedSerializer.Bytes(compactFoundation().setCompactFormat(true));
+            final Serializer<byte[]> regular = TypedSerializer.Bytes(SerializerFoundation.New().setCompactFormat(true))
+        )
+        {
+            final byte[] compactBytes = compact.serialize(createGraph());
+            assertThrows(PersistenceException.class, () -> regular.deserialize(compactBytes));
+        }
+    }
+
+    @Test
+    void untypedDataOfBothLayoutsIsRead() throws Exception
+    {
+        final List<Object> graph = createGraph();
+        try(
+            final Serializer<byte[]> compact = Serializer.Bytes(compactFoundation());
+            final Serializer<byte[]> regular = Serializer.Bytes(SerializerFoundation.New())
+        )
+        {
+            final byte[] compactBytes = compact.serialize(graph);
+            final byte[] regularBytes = regular.serialize(graph);
+            assertGraph(graph, regular.deserialize(compactBytes));
+            assertGraph(graph, compact.deserialize(regularBytes));
+        }
+    }
+
+    @Test
+    void otherLayoutTypeDictionaryIsAccepted() throws Exception
+    {
+        final List<Object> graph = createGraph();
+        final String       regularTypeDictionary;
+        final byte[]       regularBytes;
+        try(final Serializer<byte[]> regular = Serializer.Bytes(SerializerFoundation.New()))
+        {
+            regularBytes          = regular.serialize(graph);
+            regularTypeDictionary = regular.exportTypeDictionary();
+        }
+
+        final String compactTypeDictionary;
+        try(final Serializer<byte[]> compact = Serializer.Bytes(
+            compactFoundation().setInitialTypeDictionary(regularTypeDictionary)
+        ))
+        {
+            assertGraph(graph, compact.deserialize(regularBytes));
+            assertGraph(graph, compact.deserialize(compact.serialize(graph)));
+            compactTypeDictionary = compact.exportTypeDictionary();
+        }
+
+        try(final Serializer<byte[]> regular = Serializer.Bytes(
+            SerializerFoundation.New().setInitialTypeDictionary(compactTypeDictionary)
+        ))
+        {
+            assertGraph(graph, regular.deserialize(regularBytes));
+        }
+    }
+
+}
@@ -0,0 +1,297 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.eclipse.serializer.memory.BufferPool;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.binary.exceptions.BinaryPersistenceException;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompressionCodec;
+import org.eclipse.serializer.persistence.binary.types.ChunksWrapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * {@link BinaryCompressionCodec}s must restore every block exactly, and compressed serializer messages must be
+ * deserialized to equal graphs.
+ */
+@Timeout(60)
+public class CompressionCodecTest
+{
+    static Stream<BinaryCompressionCodec> codecs()
+    {
+        return Stream.of(
+            BinaryCompressionCodec.None(),
+            BinaryCompressionCodec.Lz4(),
+            BinaryCompressionCodec.Deflate(),
+            BinaryCompressionCodec.Deflate(9)
+        );
+    }
+
+    private static byte[] compressible(final int length)
+    {
+        final byte[] bytes = new byte[length];
+        final Random random = new Random(42);
+        for(int i = 0; i < length; i++)
+        {
+            // repetitions of short random phrases, including overlapping runs
+            bytes[i] = i % 97 < 60 ? (byte)('a' + i % 7) : (byte)random.nextInt(4);
+        }
+
+        return bytes;
+    }
+
+    private static byte[] random(final int length)
+    {
+        final byte[] bytes = new byte[length];
+        new Random(7).nextBytes(bytes);
+
+        return bytes;
+    }
+
+    private static ByteBuffer direct(final byte[] bytes)
+    {
+        return XMemory.allocateDirectNative(Math.max(bytes.length, 1)).put(bytes).flip();
+    }
+
+    private static byte[] roundTrip(final BinaryCompressionCodec codec, final Binary data)
+    {
+        final ByteBuffer encoded = XMemory.allocateDirectNative(codec.maximumEncodedLength(data));
+        codec.encode(data, encoded, BufferPool.Unpooled());
+        encoded.flip();
+
+        return XMemory.toArray(codec.decode(ChunksWrapper.New(encoded)).buffers()[0]);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void blocksAreRestored(final BinaryCompressionCodec codec)
+    {
+        for(final byte[] bytes : List.of(
+            new byte[0],
+            new byte[]{1, 2, 3},
+            new byte[100_000],
+            compressible(13),
+            compressible(100_000),
+            random(100_000)
+        ))
+        {
+            assertArrayEquals(bytes, roundTrip(codec, ChunksWrapper.New(direct(bytes))), codec.name());
+        }
+
+        final byte[] compressible = compressible(1 << 20);
+        final ByteBuffer target = XMemory.allocateDirectNative(codec.maximumCompressedLength(compressible.length));
+        final int length = codec.compress(direct(compressible), target);
+        if(codec.isCompressing())
+        {
+            assertTrue(length < compressible.length / 2, codec.name() + " compressed to " + length);
+        }
+    }
+
+    @Test
+    void chunksOfSeveralBuffersAreGathered()
+    {
+        final byte[] first  = compressible(5_000);
+        final byte[] second = random(3_000);
+        final byte[] joined = new byte[first.length + second.length];
+        System.arraycopy(first, 0, joined, 0, first.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+
+        final BufferPool pool = BufferPool.New();
+        final Binary data = ChunksWrapper.New(direct(first), direct(second));
+        final ByteBuffer encoded = XMemory.allocateDirectNative(BinaryCompressionCodec.Lz4().maximumEncodedLength(data));
+        BinaryCompressionCodec.Lz4().encode(data, encoded, pool);
+        encoded.flip();
+
+        assertArrayEquals(joined, XMemory.toArray(BinaryCompressionCodec.Lz4().decode(ChunksWrapper.New(encoded)).buffers()[0]));
+        assertTrue(pool.missCount() > 0, "the chunk's buffers must have been gathered in a pooled buffer");
+    }
+
+    @Test
+    void malformedDataIsRejected()
+    {
+        final byte[] bytes = compressible(10_000);
+        final BinaryCompressionCodec lz4 = BinaryCompressionCodec.Lz4();
+        final Binary data = ChunksWrapper.New(direct(bytes));
+        final ByteBuffer encoded = XMemory.allocateDirectNative(lz4.maximumEncodedLength(data));
+        lz4.encode(data, encoded, BufferPool.Unpooled());
+        encoded.flip();
+
+        assertThrows(BinaryPersistenceException.class, () -> BinaryCompressionCodec.Deflate().decode(ChunksWrapper.New(encoded)));
+
+        final ByteBuffer truncated = encoded.slice(0, encoded.limit() - 10);
+        assertThrows(BinaryPersistenceException.class, () -> lz4.decode(ChunksWrapper.New(truncated)));
+
+        // a corrupted offset must not lead to reading outside of the decompressed data
+        for(int i = 10; i < 40; i++)
+        {
+            encoded.put(i, (byte)0xFF);
+        }
+        assertThrows(BinaryPersistenceException.class, () -> lz4.decode(ChunksWrapper.New(encoded)));
+
+        assertThrows(BinaryPersistenceException.class, () -> BinaryCompressionCodec.resolve(9, lz4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void implausibleRawLengthsAreRejected(final BinaryCompressionCodec codec)
+    {
+        final Binary data = ChunksWrapper.New(direct(compressible(10_000)));
+        final ByteBuffer encoded = XMemory.allocateDirectNative(codec.maximumEncodedLength(data));
+        codec.encode(data, encoded, BufferPool.Unpooled());
+        encoded.flip();
+
+        // the raw length of the first frame, forged to claim far more than its compressed length can expand to
+        encoded.order(ByteOrder.LITTLE_ENDIAN).putInt(1, Integer.MAX_VALUE);
+        assertThrows(BinaryPersistenceException.class, () -> codec.decodedLength(ChunksWrapper.New(encoded)));
+        assertThrows(BinaryPersistenceException.class, () -> codec.decode(ChunksWrapper.New(encoded)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void decodedLengthsBeyondTheMaximumAreRejected(final BinaryCompressionCodec codec) throws Exception
+    {
+        final Binary data = ChunksWrapper.New(direct(compressible(10_000)));
+        final ByteBuffer encoded = XMemory.allocateDirectNative(codec.maximumEncodedLength(data));
+        codec.encode(data, encoded, BufferPool.Unpooled());
+        encoded.flip();
+
+        assertEquals(10_000, codec.decodedLength(ChunksWrapper.New(encoded), 10_000));
+        assertThrows(BinaryPersistenceException.class, () -> codec.decodedLength(ChunksWrapper.New(encoded), 9_999));
+        assertThrows(BinaryPersistenceException.class, () -> codec.decode(ChunksWrapper.New(encoded), 9_999));
+
+        if(!codec.isCompressing())
+        {
+            return;
+        }
+        try(
+            Serializer<byte[]> sender   = TypedSerializer.Bytes(SerializerFoundation.New().setCompressionCodec(codec));
+            Serializer<byte[]> receiver = TypedSerializer.Bytes(SerializerFoundation.New().setMaximumDecodedLength(10_000))
+        )
+        {
+            final byte[] bytes = sender.serialize(createGraph());
+            assertThrows(BinaryPersistenceException.class, () -> receiver.deserialize(bytes));
+        }
+    }
+
+    private static List<Object> createGraph()
+    {
+        final List<Object> graph = new ArrayList<>();
+        for(int i = 0; i < 5_000; i++)
+        {
+            graph.add(new SimpleObject(i, "object " + i % 50));
+        }
+        graph.add(compressible(10_000));
+
+        return graph;
+    }
+
+    private static void assertGraph(final List<Object> expected, final List<Object> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size() - 1; i++)
+        {
+            assertEquals(((SimpleObject)expected.get(i)).id  , ((SimpleObject)actual.get(i)).id  );
+            assertEquals(((SimpleObject)expected.get(i)).name, ((SimpleObject)actual.get(i)).name);
+        }
+        assertArrayEquals((byte[])expected.get(expected.size() - 1), (byte[])actual.get(actual.size() - 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void serializedGraphsAreRestored(final BinaryCompressionCodec codec) throws Exception
+    {
+        final List<Object> graph = createGraph();
+        try(
+            Serializer<byte[]> plain      = Serializer.Bytes();
+            Serializer<byte[]> compressed = Serializer.Bytes(SerializerFoundation.New()
+                .setCompressionCodec(codec)
+                .setCompactFormat(true)
+            )
+        )
+        {
+            final byte[] bytes = compressed.serialize(graph);
+            assertGraph(graph, compressed.deserialize(bytes));
+            if(codec.isCompressing())
+            {
+                assertTrue(bytes.length < plain.serialize(graph).length / 4, codec.name() + ": " + bytes.length);
+            }
+
+            final ByteBuffer target = ByteBuffer.allocate(bytes.length * 2);
+            final int length = compressed.serializeInto(graph, target);
+            assertGraph(graph, compressed.deserialize(target, 0, length));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void typedMessagesFlagTheirCodec(final BinaryCompressionCodec codec) throws Exception
+    {
+        final List<Object> graph = createGraph();
+        try(
+            Serializer<byte[]> sender   = TypedSerializer.Bytes(SerializerFoundation.New().setCompressionCodec(codec));
+            Serializer<byte[]> receiver = TypedSerializer.Bytes()
+        )
+        {
+            assertGraph(graph, receiver.deserialize(sender.serialize(graph)));
+            assertGraph(graph, receiver.deserialize(sender.serialize(graph)));
+        }
+    }
+
+    @Test
+    void untypedSerializersMustUseTheSameCodec() throws Exception
+    {
+        try(
+            Serializer<byte[]> sender   = Serializer.Bytes(SerializerFoundation.New().setCompressionCodec(BinaryCompressionCodec.Lz4()));
+            Serializer<byte[]> receiver = Serializer.Bytes(SerializerFoundation.New().setCompressionCodec(BinaryCompressionCodec.Deflate()))
+        )
+        {
+            final byte[] bytes = sender.serialize(createGraph());
+            assertThrows(BinaryPersistenceException.class, () -> receiver.deserialize(bytes));
+        }
+    }
+
+
+    static final class SimpleObject
+    {
+        final int    id  ;
+        final String name;
+
+        SimpleObject(final int id, final String name)
+        {
+            super();
+            this.id   = id  ;
+            this.name = name;
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.SerializerSnapshot;
+import org.eclipse.serializer.TypedSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Delta serialization must only transfer the entities changed since the last message and the receiver must
+ * patch its previously deserialized graph in place, keeping the identity of all instances.
+ */
+@Timeout(60)
+public class DeltaSerializerTest
+{
+    private static final int NODE_COUNT = 10_000;
+
+    private static SerializerFoundation<?> foundation()
+    {
+        return SerializerFoundation.New().registerEntityTypes(Node.class);
+    }
+
+    private static List<Node> createGraph()
+    {
+        final List<Node> nodes = new ArrayList<>(NODE_COUNT);
+        Node previous = null;
+        for(int i = 0; i < NODE_COUNT; i++)
+        {
+            nodes.add(previous = new Node(i, "node" + i, previous));
+        }
+
+        return nodes;
+    }
+
+    private static void assertGraph(final List<Node> expected, final List<Node> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++)
+        {
+            final Node e = expected.get(i);
+            final Node n = actual.get(i);
+            assertEquals(e.id, n.id);
+            assertEquals(e.name, n.name);
+            assertEquals(e.count, n.count);
+            assertSame(i == 0 ? null : actual.get(i - 1), n.previous);
+        }
+    }
+
+    private static void assertDeltas(final Supplier<Serializer<byte[]>> serializerSupplier) throws Exception
+    {
+        final SerializerSnapshot snapshot = SerializerSnapshot.New();
+        try(Serializer<byte[]> sender = serializerSupplier.get(); Serializer<byte[]> receiver = serializerSupplier.get())
+        {
+            final List<Node> graph = createGraph();
+
+            final byte[]     full   = sender.serializeDelta(graph, snapshot);
+            final List<Node> copy   = receiver.applyDelta(full);
+            assertGraph(graph, copy);
+            assertTrue(snapshot.size() > 2 * NODE_COUNT, "all nodes and names must be contained in the snapshot");
+            assertTrue(full.length >= sender.serialize(graph).length / 2, "the first delta must contain all entities");
+
+            final Node       changedNode = copy.get(NODE_COUNT / 2);
+            graph.get(NODE_COUNT / 2).count++;
+            final byte[]     delta       = sender.serializeDelta(graph, snapshot);
+            // the list's record alone references all nodes, a typed serializer adds its type information.
+            assertTrue(delta.length < full.length / 5, "only the list and the node must be contained");
+            assertSame(copy, receiver.applyDelta(delta));
+            assertSame(changedNode, copy.get(NODE_COUNT / 2));
+            assertGraph(graph, copy);
+
+            graph.get(42).name = "renamed";
+            graph.add(new Node(NODE_COUNT, "added", graph.get(NODE_COUNT - 1)));
+            assertSame(copy, receiver.applyDelta(sender.serializeDelta(graph, snapshot)));
+            assertGraph(graph, copy);
+
+            snapshot.clear();
+            assertEquals(0, snapshot.size());
+            final byte[] resent = sender.serializeDelta(graph, snapshot);
+            assertTrue(resent.length > full.length, "a cleared snapshot must result in the complete graph");
+            assertSame(copy, receiver.applyDelta(resent));
+            assertGraph(graph, copy);
+        }
+    }
+
+    @Test
+    void deltasPatchTheReceiverGraph() throws Exception
+    {
+        assertDeltas(() -> Serializer.Bytes(foundation()));
+    }
+
+    @Test
+    void typedDeltasPatchTheReceiverGraph() throws Exception
+    {
+        assertDeltas(() -> TypedSerializer.Bytes(foundation()));
+    }
+
+    @Test
+    void unchangedGraphOnlyContainsRoot() throws Exception
+    {
+        final SerializerSnapshot snapshot = SerializerSnapshot.New();
+        try(Serializer<byte[]> sender = Serializer.Bytes(foundation()))
+        {
+            final List<Node> graph = createGraph();
+            final byte[]     full  = sender.serializeDelta(graph, snapshot);
+            final long       size  = snapshot.size();
+
+            // the list's record alone references all nodes.
+            final byte[] delta = sender.serializeDelta(graph, snapshot);
+            assertTrue(delta.length < NODE_COUNT * Long.BYTES + 1024, "only the list may be contained");
+            assertTrue(delta.length < full.length / 10);
+            assertEquals(size, snapshot.size());
+        }
+    }
+
+    @Test
+    void pooledDeltasPatchTheReceiverGraph() throws Exception
+    {
+        assertDeltas(() -> Serializer.Concurrent(foundation(), 2));
+        assertDeltas(() -> TypedSerializer.Concurrent(foundation(), 2));
+    }
+
+    @Test
+    void pooledDeltasAreIndependentOfOtherCalls() throws Exception
+    {
+        final SerializerSnapshot snapshot = SerializerSnapshot.New();
+        try(Serializer<byte[]> sender = Serializer.Concurrent(foundation(), 2))
+        {
+            final List<Node> graph = createGraph();
+            sender.serializeDelta(graph, snapshot);
+
+            // regular calls of the pooled contexts must not affect the object ids of the delta context.
+            final byte[] full = sender.serialize(graph);
+            assertGraph(graph, sender.deserialize(full));
+
+            final byte[] delta = sender.serializeDelta(graph, snapshot);
+            assertTrue(delta.length < full.length / 10, "only the list may be contained");
+        }
+    }
+
+    @Test
+    void defaultMethodsRejectDeltas() throws Exception
+    {
+        try(Serializer<byte[]> serializer = new MinimalSerializer(Serializer.Bytes(foundation())))
+        {
+            assertThrows(
+                UnsupportedOperationException.class,
+                () -> serializer.serializeDelta(createGraph(), SerializerSnapshot.New())
+            );
+            assertThrows(UnsupportedOperationException.class, () -> serializer.applyDelta(new byte[0]));
+        }
+    }
+
+
+    static final class Node
+    {
+        final int id      ;
+        String    name    ;
+        int       count   ;
+        Node      previous;
+
+        Node(final int id, final String name, final Node previous)
+        {
+            super();
+            this.id       = id      ;
+            this.name     = name    ;
+            this.previous = previous;
+        }
+    }
+
+}
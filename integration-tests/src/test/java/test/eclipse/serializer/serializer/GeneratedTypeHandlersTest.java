@@ -0,0 +1,193 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.persistence.binary.types.BinaryHandlerGeneratedType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Handlers with generated value accessors must produce exactly the binary form of the reflective handlers.
+ */
+@Timeout(60)
+public class GeneratedTypeHandlersTest
+{
+    private static Serializer<byte[]> serializer(final boolean generated, final ByteOrder byteOrder)
+    {
+        return Serializer.Bytes(
+            SerializerFoundation.New()
+                .setGeneratedTypeHandlers(generated)
+                .setTargetByteOrder(byteOrder)
+                .registerEntityTypes(Base.class, AllTypes.class)
+        );
+    }
+
+    private static List<Base> createGraph()
+    {
+        final List<Base> graph = new ArrayList<>();
+        AllTypes previous = null;
+        for(int i = 0; i < 100; i++)
+        {
+            graph.add(previous = new AllTypes(i, previous));
+            graph.add(new Base("base" + i));
+        }
+        // extreme values, including a NaN with a non-canonical bit pattern
+        final AllTypes extreme = new AllTypes(-1, previous);
+        extreme.f = Float.intBitsToFloat(0x7FC01234);
+        extreme.d = Double.longBitsToDouble(0x7FF8000012345678L);
+        extreme.l = Long.MIN_VALUE;
+        extreme.c = Character.MAX_VALUE;
+        graph.add(extreme);
+
+        return graph;
+    }
+
+    private static byte[] serialize(final boolean generated, final ByteOrder byteOrder, final Object graph)
+        throws Exception
+    {
+        try(final Serializer<byte[]> serializer = serializer(generated, byteOrder))
+        {
+            return serializer.serialize(graph);
+        }
+    }
+
+    private static List<Base> deserialize(final boolean generated, final ByteOrder byteOrder, final byte[] bytes)
+        throws Exception
+    {
+        try(final Serializer<byte[]> serializer = serializer(generated, byteOrder))
+        {
+            return serializer.deserialize(bytes);
+        }
+    }
+
+    private static void assertGraph(final List<Base> expected, final List<Base> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(expected.get(i).name, actual.get(i).name);
+            if(expected.get(i) instanceof AllTypes)
+            {
+                final AllTypes e = (AllTypes)expected.get(i);
+                final AllTypes a = (AllTypes)actual.get(i);
+                assertEquals(e.b, a.b);
+                assertEquals(e.z, a.z);
+                assertEquals(e.s, a.s);
+                assertEquals(e.c, a.c);
+                assertEquals(e.i, a.i);
+                assertEquals(Float.floatToRawIntBits(e.f), Float.floatToRawIntBits(a.f));
+                assertEquals(e.l, a.l);
+                assertEquals(Double.doubleToRawLongBits(e.d), Double.doubleToRawLongBits(a.d));
+                assertArrayEquals(e.values, a.values);
+                assertEquals(0, a.cache);
+                assertSame(e.previous == null ? null : actual.get(i - 2), a.previous);
+            }
+        }
+    }
+
+    @Test
+    void generatedHandlerIsUsed()
+    {
+        final SerializerFoundation<?> foundation = SerializerFoundation.New().setGeneratedTypeHandlers(true);
+        final BinaryHandlerGeneratedType<?> handler = assertInstanceOf(
+            BinaryHandlerGeneratedType.class,
+            foundation.getTypeHandlerCreator().createTypeHandlerGeneric(AllTypes.class)
+        );
+        assertTrue(handler.isGenerated());
+    }
+
+    @Test
+    void binaryFormIsIdentical() throws Exception
+    {
+        final List<Base> graph = createGraph();
+        for(final ByteOrder byteOrder : List.of(ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN))
+        {
+            final byte[] reflective = serialize(false, byteOrder, graph);
+            final byte[] generated  = serialize(true , byteOrder, graph);
+            assertArrayEquals(reflective, generated, byteOrder.toString());
+
+            assertGraph(graph, deserialize(true , byteOrder, generated));
+            assertGraph(graph, deserialize(true , byteOrder, reflective));
+            assertGraph(graph, deserialize(false, byteOrder, generated));
+        }
+    }
+
+    @Test
+    void nullReferences() throws Exception
+    {
+        final Base base = new Base(null);
+        final List<Base> loaded = deserialize(true, ByteOrder.nativeOrder(),
+            serialize(true, ByteOrder.nativeOrder(), new ArrayList<>(List.of(base)))
+        );
+        assertNull(loaded.get(0).name);
+    }
+
+
+    static class Base
+    {
+        String name;
+
+        Base(final String name)
+        {
+            super();
+            this.name = name;
+        }
+    }
+
+    static final class AllTypes extends Base
+    {
+        byte      b       ;
+        boolean   z       ;
+        short     s       ;
+        char      c       ;
+        int       i       ;
+        float     f       ;
+        long      l       ;
+        double    d       ;
+        long[]    values  ;
+        AllTypes  previous;
+        transient int cache;
+
+        AllTypes(final int i, final AllTypes previous)
+        {
+            super("all" + i);
+            this.b        = (byte)i;
+            this.z        = i % 2 == 0;
+            this.s        = (short)(i * 3);
+            this.c        = (char)('a' + i);
+            this.i        = i * 1_000_003;
+            this.f        = i / 3f;
+            this.l        = i * 10_000_000_019L;
+            this.d        = i / 7d;
+            this.values   = new long[]{i, -i};
+            this.previous = previous;
+            this.cache    = i;
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompressionCodec;
+import org.eclipse.serializer.persistence.exceptions.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Files written by a serializer must be deserialized from their memory mapping to equal graphs, and large files
+ * must be split into mapped regions at entity boundaries.
+ */
+@Timeout(60)
+public class MappedDeserializationTest
+{
+    // larger than the list entity, but less than the whole graph
+    private static final int MAXIMUM_CHUNK_LENGTH = 1 << 18;
+
+    @TempDir
+    Path directory;
+
+    private static List<Object> createGraph()
+    {
+        final List<Object> graph = new ArrayList<>();
+        for(int i = 0; i < 10_000; i++)
+        {
+            graph.add("entry" + i);
+            graph.add(new long[]{i, -i, Long.MAX_VALUE - i});
+        }
+
+        return graph;
+    }
+
+    private static void assertGraph(final List<Object> expected, final List<Object> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i += 2)
+        {
+            assertEquals(expected.get(i), actual.get(i));
+            assertEquals(((long[])expected.get(i + 1))[2], ((long[])actual.get(i + 1))[2]);
+        }
+    }
+
+    private Path write(final Serializer<byte[]> serializer, final Object graph) throws IOException
+    {
+        final Path file = this.directory.resolve("graph.bin");
+        try(final FileChannel channel = FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+        ))
+        {
+            serializer.serializeInto(graph, channel);
+        }
+
+        return file;
+    }
+
+    private void assertRoundTrip(final Supplier<Serializer<byte[]>> serializers) throws Exception
+    {
+        final List<Object> graph = createGraph();
+        try(
+            final Serializer<byte[]> writer = serializers.get();
+            final Serializer<byte[]> reader = serializers.get()
+        )
+        {
+            final Path file = this.write(writer, graph);
+            assertGraph(graph, reader.deserialize(file));
+
+            // the reader can be used again, the former mapping has been released.
+            try(final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+            {
+                assertGraph(graph, reader.deserializeMapped(channel));
+                assertEquals(0, channel.position());
+            }
+        }
+    }
+
+    @Test
+    public void plainRoundTrip() throws Exception
+    {
+        this.assertRoundTrip(Serializer::Bytes);
+    }
+
+    @Test
+    public void oppositeByteOrderRoundTrip() throws Exception
+    {
+        final ByteOrder opposite = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN
+            ? ByteOrder.LITTLE_ENDIAN
+            : ByteOrder.BIG_ENDIAN
+        ;
+        this.assertRoundTrip(() -> Serializer.Bytes(SerializerFoundation.New().setTargetByteOrder(opposite)));
+    }
+
+    @Test
+    public void compressedRoundTrip() throws Exception
+    {
+        this.assertRoundTrip(() -> Serializer.Bytes(
+            SerializerFoundation.New().setCompressionCodec(BinaryCompressionCodec.Lz4())
+        ));
+    }
+
+    @Test
+    public void typedRoundTrip() throws Exception
+    {
+        this.assertRoundTrip(TypedSerializer::Bytes);
+    }
+
+    @Test
+    public void defaultMethodRoundTrip() throws Exception
+    {
+        // an implementation that doesn't override deserializeMapped
+        this.assertRoundTrip(() -> new MinimalSerializer(Serializer.Bytes()));
+    }
+
+    @Test
+    public void defaultMethodPassesAnOwnedBuffer() throws Exception
+    {
+        final List<ByteBuffer> passed = new ArrayList<>();
+        try(final Serializer<byte[]> serializer = new MinimalSerializer(Serializer.Bytes())
+        {
+            @Override
+            public <T> T deserialize(final ByteBuffer source, final int offset, final int length)
+            {
+                // an implementation keeping the passed buffer beyond the call
+                passed.add(source);
+                return super.deserialize(source, offset, length);
+            }
+        })
+        {
+            final Path file = this.write(serializer, createGraph());
+            serializer.deserialize(file);
+
+            final ByteBuffer buffer = passed.get(0);
+            final byte[]     bytes  = new byte[buffer.limit()];
+            buffer.get(0, bytes);
+            assertArrayEquals(Files.readAllBytes(file), bytes);
+        }
+    }
+
+    @Test
+    public void regionsEndAtEntityBoundaries() throws Exception
+    {
+        try(final Serializer<byte[]> serializer = Serializer.Bytes())
+        {
+            final Path file = this.write(serializer, createGraph());
+            try(final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+            {
+                final ByteBuffer[] chunks = Serializer.Static.mapEntityChunks(channel, false, MAXIMUM_CHUNK_LENGTH);
+                try
+                {
+                    assertTrue(chunks.length > 1);
+
+                    long totalLength = 0;
+                    for(final ByteBuffer chunk : chunks)
+                    {
+                        assertTrue(chunk.limit() <= MAXIMUM_CHUNK_LENGTH);
+
+                        // walking the entity lengths must end exactly at the region's limit.
+                        final long address = XMemory.getDirectByteBufferAddress(chunk);
+                        long offset = 0;
+                        while(offset < chunk.limit())
+                        {
+                            offset += XMemory.get_long(address + offset);
+                        }
+                        assertEquals(chunk.limit(), offset);
+                        totalLength += chunk.limit();
+                    }
+                    assertEquals(Files.size(file), totalLength);
+                }
+                finally
+                {
+                    Serializer.Static.unmap(chunks);
+                }
+
+                // an entity longer than the maximum region length can't be mapped.
+                assertThrows(PersistenceException.class, () -> Serializer.Static.mapEntityChunks(channel, false, 16));
+            }
+        }
+    }
+
+    @Test
+    public void emptyFileIsRejected() throws Exception
+    {
+        final Path file = Files.createFile(this.directory.resolve("empty.bin"));
+        try(final Serializer<byte[]> serializer = Serializer.Bytes())
+        {
+            assertThrows(PersistenceException.class, () -> serializer.deserialize(file));
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+
+
+import org.eclipse.serializer.Serializer;
+
+/**
+ * A {@link Serializer} implementing only the abstract methods, like an implementation outside of this
+ * project, to test the interface's default methods.
+ */
+public class MinimalSerializer implements Serializer<byte[]>
+{
+    private final Serializer<byte[]> delegate;
+
+    public MinimalSerializer(final Serializer<byte[]> delegate)
+    {
+        super();
+        this.delegate = delegate;
+    }
+
+    @Override
+    public byte[] serialize(final Object object)
+    {
+        return this.delegate.serialize(object);
+    }
+
+    @Override
+    public <T> T deserialize(final byte[] medium)
+    {
+        return this.delegate.deserialize(medium);
+    }
+
+    @Override
+    public String exportTypeDictionary()
+    {
+        return this.delegate.exportTypeDictionary();
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        this.delegate.close();
+    }
+
+}
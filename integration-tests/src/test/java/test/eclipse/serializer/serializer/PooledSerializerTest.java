@@ -0,0 +1,229 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.exceptions.PersistenceException;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.reference.Swizzling;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PooledSerializerTest
+{
+    private static final int THREADS    = 8 ;
+    private static final int ITERATIONS = 200;
+
+    @Test
+    public void concurrentRoundTripTest() throws Exception
+    {
+        try(final Serializer<byte[]> serializer = Serializer.Concurrent(SerializerFoundation.New(), 4))
+        {
+            this.runConcurrently(serializer);
+            // how many contexts have been created depends on the threads' timing, but never exceeds the maximum
+            final int contextCount = ((Serializer.Pooled<?>)serializer).contextCount();
+            Assertions.assertTrue(contextCount >= 1 && contextCount <= 4, "context count " + contextCount);
+        }
+    }
+
+    @Test
+    public void concurrentTypedRoundTripTest() throws Exception
+    {
+        try(final Serializer<byte[]> serializer = TypedSerializer.Concurrent(SerializerFoundation.New(), 4))
+        {
+            this.runConcurrently(serializer);
+        }
+    }
+
+    @Test
+    public void crossContextTest() throws Exception
+    {
+        // data serialized by one context must be readable by any other context of the same pool
+        try(final Serializer<byte[]> serializer = Serializer.Concurrent(SerializerFoundation.New(), 2))
+        {
+            final List<byte[]> serialized = new ArrayList<>();
+            for(int i = 0; i < 10; i++)
+            {
+                serialized.add(serializer.serialize(createGraph(i)));
+            }
+            for(int i = 0; i < 10; i++)
+            {
+                Assertions.assertEquals(createGraph(i), serializer.deserialize(serialized.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void contextIsolationTest()
+    {
+        // contexts of the same foundation must neither share object ids nor clear them for each other
+        final SerializerFoundation<?> foundation = SerializerFoundation.New();
+        final Serializer.Source source = () -> null;
+        final Serializer.Target target = data -> { /* not written */ };
+        
+        final PersistenceManager<Binary> first  = foundation.createContextPersistenceManager(source, target);
+        final PersistenceManager<Binary> second = foundation.createContextPersistenceManager(source, target);
+        Assertions.assertNotSame(first.objectRegistry(), second.objectRegistry());
+        Assertions.assertNotSame(foundation.getObjectRegistry(), first.objectRegistry());
+        Assertions.assertSame(first.typeDictionary(), second.typeDictionary());
+        
+        final Object instance = new Object();
+        final long   objectId = first.ensureObjectId(instance);
+        first.objectRegistry().registerObject(objectId, instance);
+        Assertions.assertEquals(objectId, first.lookupObjectId(instance));
+        Assertions.assertTrue(Swizzling.isNotFoundId(second.lookupObjectId(instance)));
+        
+        second.objectRegistry().truncateAll();
+        Assertions.assertEquals(objectId, first.lookupObjectId(instance));
+    }
+
+    @Test
+    public void closedTest() throws Exception
+    {
+        final Serializer<byte[]> serializer = Serializer.Concurrent(SerializerFoundation.New(), 2);
+        serializer.close();
+        Assertions.assertThrows(RuntimeException.class, () -> serializer.serialize("test"));
+    }
+
+    @Test
+    public void closeFailsWaitingCallersTest() throws Exception
+    {
+        final Serializer<byte[]> serializer = Serializer.Concurrent(SerializerFoundation.New(), 1);
+        final CountDownLatch     writing    = new CountDownLatch(1);
+        final CountDownLatch     proceed    = new CountDownLatch(1);
+        final ExecutorService    executor   = Executors.newFixedThreadPool(2);
+        try
+        {
+            // occupies the only context until the latch is released
+            final Future<Long> busy = executor.submit(() -> serializer.serializeInto("busy", new WritableByteChannel()
+            {
+                @Override
+                public int write(final ByteBuffer source) throws IOException
+                {
+                    writing.countDown();
+                    try
+                    {
+                        proceed.await();
+                    }
+                    catch(final InterruptedException e)
+                    {
+                        throw new IOException(e);
+                    }
+                    final int length = source.remaining();
+                    source.position(source.limit());
+                    return length;
+                }
+
+                @Override
+                public boolean isOpen()
+                {
+                    return true;
+                }
+
+                @Override
+                public void close()
+                {
+                    // nothing to close
+                }
+            }));
+            Assertions.assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+            final Future<byte[]> waiting = executor.submit(() -> serializer.serialize("waiting"));
+            serializer.close();
+
+            final ExecutionException failure = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> waiting.get(10, TimeUnit.SECONDS)
+            );
+            Assertions.assertInstanceOf(PersistenceException.class, failure.getCause());
+
+            // the busy context is closed only after its call has been completed
+            proceed.countDown();
+            Assertions.assertTrue(busy.get(10, TimeUnit.SECONDS) > 0);
+            Assertions.assertThrows(PersistenceException.class, () -> serializer.serialize("closed"));
+        }
+        finally
+        {
+            proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private void runConcurrently(final Serializer<byte[]> serializer) throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+            for(int t = 0; t < THREADS; t++)
+            {
+                final int seed = t;
+                futures.add(executor.submit(() ->
+                {
+                    for(int i = 0; i < ITERATIONS; i++)
+                    {
+                        final Map<String, List<Integer>> graph = createGraph(seed * ITERATIONS + i);
+                        final byte[] bytes = serializer.serialize(graph);
+                        Assertions.assertEquals(graph, serializer.deserialize(bytes));
+                    }
+                    return null;
+                }));
+            }
+            for(final Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    public static Map<String, List<Integer>> createGraph(final int seed)
+    {
+        final Map<String, List<Integer>> graph = new HashMap<>();
+        for(int i = 0; i < 10; i++)
+        {
+            final List<Integer> values = new ArrayList<>();
+            for(int j = 0; j < i; j++)
+            {
+                values.add(seed + j);
+            }
+            graph.put("key" + seed + "_" + i, values);
+        }
+        return graph;
+    }
+
+}
@@ -0,0 +1,245 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Records must be created via their canonical constructor when deserialized, with all referenced instances
+ * already resolved, including references to other records and to mutable instances referencing the record.
+ */
+@Timeout(60)
+public class RecordSerializerTest
+{
+    private static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    record Primitives(byte b, short s, char c, int i, long l, float f, double d, boolean z)
+    {
+    }
+
+    record Person(String name, int age, Address address)
+    {
+        Person
+        {
+            CONSTRUCTIONS.incrementAndGet();
+        }
+    }
+
+    record Address(String street, String city)
+    {
+    }
+
+    record Link(int index, Link next)
+    {
+    }
+
+    record Pair(String name, Holder owner)
+    {
+    }
+
+    record Branch(Branch left, Branch right)
+    {
+    }
+
+    static final class Holder
+    {
+        Pair pair;
+    }
+
+    record ItemV1(String name, List<String> tags)
+    {
+    }
+
+    // the same record as ItemV1 after a component has been added.
+    record ItemV2(String name, int level, List<String> tags)
+    {
+        ItemV2
+        {
+            CONSTRUCTIONS.incrementAndGet();
+        }
+    }
+
+    private static Serializer<byte[]> serializer()
+    {
+        return Serializer.Bytes(SerializerFoundation.New().registerEntityTypes(
+            Primitives.class, Person.class, Address.class, Link.class, Pair.class, Holder.class, Branch.class
+        ));
+    }
+
+    @Test
+    public void primitiveComponents() throws Exception
+    {
+        final Primitives primitives = new Primitives((byte)-1, (short)2, 'x', -3, Long.MAX_VALUE, 1.5f, -2.25, true);
+        try(final Serializer<byte[]> serializer = serializer())
+        {
+            assertEquals(primitives, serializer.deserialize(serializer.serialize(primitives)));
+        }
+    }
+
+    @Test
+    public void canonicalConstructorIsInvoked() throws Exception
+    {
+        final Address address = new Address("Main Street 1", "Springfield");
+        final List<Person> persons = new ArrayList<>();
+        persons.add(new Person("Alice", 30, address));
+        persons.add(new Person("Bob", 40, address));
+        persons.add(new Person(null, 50, null));
+
+        try(final Serializer<byte[]> serializer = serializer())
+        {
+            final byte[] bytes = serializer.serialize(persons);
+
+            CONSTRUCTIONS.set(0);
+            final List<Person> copy = serializer.deserialize(bytes);
+
+            assertEquals(persons, copy);
+            assertEquals(persons.size(), CONSTRUCTIONS.get());
+            assertSame(copy.get(0).address(), copy.get(1).address());
+            assertNull(copy.get(2).name());
+            assertNull(copy.get(2).address());
+        }
+    }
+
+    @Test
+    public void deepRecordChain() throws Exception
+    {
+        final int length = 10_000;
+        Link head = null;
+        for(int i = 0; i < length; i++)
+        {
+            head = new Link(i, head);
+        }
+
+        try(final Serializer<byte[]> serializer = serializer())
+        {
+            Link copy = serializer.deserialize(serializer.serialize(head));
+            for(int i = length; i-- > 0; copy = copy.next())
+            {
+                assertNotNull(copy);
+                assertEquals(i, copy.index());
+            }
+            assertNull(copy);
+        }
+    }
+
+    @Test
+    public void sharedRecordComponents() throws Exception
+    {
+        final int depth = 10_000;
+        Branch root = new Branch(null, null);
+        for(int i = 1; i < depth; i++)
+        {
+            root = new Branch(root, root);
+        }
+
+        try(final Serializer<byte[]> serializer = serializer())
+        {
+            Branch copy = serializer.deserialize(serializer.serialize(root));
+            for(int i = 1; i < depth; i++, copy = copy.left())
+            {
+                assertSame(copy.left(), copy.right());
+            }
+            assertNull(copy.left());
+            assertNull(copy.right());
+        }
+    }
+
+    /**
+     * Legacy data of a changed record layout is passed to the canonical constructor, with the default value for
+     * the added component.
+     */
+    @Test
+    public void legacyRecordWithAddedComponent() throws Exception
+    {
+        final byte[] bytes;
+        try(final Serializer<byte[]> serializer = TypedSerializer.Bytes())
+        {
+            bytes = serializer.serialize(new ItemV1("item", List.of("a", "b")));
+        }
+
+        // the embedded type dictionary now describes the old layout of ItemV2.
+        final int renamings = replace(bytes, "$ItemV1", "$ItemV2");
+        assertEquals(3, renamings, "the type name and both member qualifiers must have been renamed");
+
+        try(final Serializer<byte[]> serializer = TypedSerializer.Bytes())
+        {
+            CONSTRUCTIONS.set(0);
+            final ItemV2 copy = serializer.deserialize(bytes);
+
+            assertEquals(1, CONSTRUCTIONS.get(), "the canonical constructor must have been invoked");
+            assertEquals(new ItemV2("item", 0, List.of("a", "b")), copy);
+        }
+    }
+
+    private static int replace(final byte[] bytes, final String oldName, final String newName)
+    {
+        // the type dictionary is embedded as a string, whose chars are written in the native byte order.
+        final Charset charset = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN
+            ? StandardCharsets.UTF_16LE
+            : StandardCharsets.UTF_16BE
+        ;
+        final byte[] oldBytes = oldName.getBytes(charset);
+        final byte[] newBytes = newName.getBytes(charset);
+
+        int count = 0;
+        search:
+        for(int i = 0; i <= bytes.length - oldBytes.length; i++)
+        {
+            for(int j = 0; j < oldBytes.length; j++)
+            {
+                if(bytes[i + j] != oldBytes[j])
+                {
+                    continue search;
+                }
+            }
+            System.arraycopy(newBytes, 0, bytes, i, newBytes.length);
+            count++;
+        }
+
+        return count;
+    }
+
+    @Test
+    public void recordInMutableCycle() throws Exception
+    {
+        final Holder holder = new Holder();
+        holder.pair = new Pair("pair", holder);
+
+        try(final Serializer<byte[]> serializer = serializer())
+        {
+            final Holder copy = serializer.deserialize(serializer.serialize(holder));
+
+            assertEquals("pair", copy.pair.name());
+            assertSame(copy, copy.pair.owner());
+        }
+    }
+
+}
@@ -0,0 +1,312 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.eclipse.serializer.memory.BufferPool;
+import org.eclipse.serializer.persistence.exceptions.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Streaming serialization must produce the same bytes as the <code>byte[]</code> medium with bounded buffer memory,
+ * and streaming deserialization must restore the graph regardless of how the stream is fragmented.
+ */
+@Timeout(60)
+public class StreamingSerializerTest
+{
+    private static final int NODE_COUNT = 100_000;
+
+    private static SerializerFoundation<?> foundation()
+    {
+        // the type must be known in advance to deserialize with a different serializer.
+        return SerializerFoundation.New().registerEntityTypes(Node.class);
+    }
+
+    private static List<Node> createGraph()
+    {
+        final List<Node> nodes = new ArrayList<>(NODE_COUNT);
+        Node previous = null;
+        for(int i = 0; i < NODE_COUNT; i++)
+        {
+            nodes.add(previous = new Node(i, "node" + i, new long[]{i, -i}, previous));
+        }
+
+        return nodes;
+    }
+
+    private static void assertGraph(final List<Node> expected, final Object actual)
+    {
+        @SuppressWarnings("unchecked")
+        final List<Node> nodes = (List<Node>)actual;
+        assertEquals(expected.size(), nodes.size());
+        for(int i = 0; i < expected.size(); i++)
+        {
+            final Node e = expected.get(i);
+            final Node n = nodes.get(i);
+            assertEquals(e.id, n.id);
+            assertEquals(e.name, n.name);
+            assertArrayEquals(e.values, n.values);
+            assertSame(i == 0 ? null : nodes.get(i - 1), n.previous);
+        }
+    }
+
+    private static byte[] serializeToStream(final Serializer<byte[]> serializer, final Object graph)
+    {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final long written = serializer.serializeInto(graph, stream);
+        assertEquals(stream.size(), written);
+
+        return stream.toByteArray();
+    }
+
+    @Test
+    void streamedBytesAreIdentical() throws Exception
+    {
+        final List<Node> graph = createGraph();
+        final byte[]     bytes;
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(foundation()))
+        {
+            bytes = serializer.serialize(graph);
+        }
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(foundation()))
+        {
+            assertArrayEquals(bytes, serializeToStream(serializer, graph));
+        }
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(foundation()))
+        {
+            assertGraph(graph, serializer.deserializeFrom(new ByteArrayInputStream(bytes)));
+        }
+    }
+
+    @Test
+    void bufferMemoryIsBounded() throws Exception
+    {
+        final TrackingBufferPool pool  = new TrackingBufferPool();
+        final List<Node>         graph = createGraph();
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(foundation().setBufferPool(pool)))
+        {
+            final long initialBytes = pool.allocatedBytes;
+            final int  length       = serializeToStream(serializer, graph).length;
+            assertTrue(length > 8 << 20, "graph too small: " + length + " bytes");
+            assertTrue(
+                pool.maximumAllocatedBytes < 4 << 20,
+                "allocated " + pool.maximumAllocatedBytes + " bytes for " + length + " bytes"
+            );
+            assertEquals(initialBytes, pool.allocatedBytes);
+        }
+    }
+
+    @Test
+    void fragmentedStreamWithLargeEntity() throws Exception
+    {
+        final byte[]       large = new byte[3 << 20];
+        Arrays.fill(large, (byte)7);
+        final List<Object> graph = new ArrayList<>(createGraph());
+        graph.add(large);
+        graph.add("after the large entity");
+
+        final byte[] bytes;
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(foundation()))
+        {
+            bytes = serializeToStream(serializer, graph);
+        }
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(foundation()))
+        {
+            final List<?> loaded = serializer.deserializeFrom(new FragmentingChannel(bytes, 1_000));
+            assertEquals(graph.size(), loaded.size());
+            assertArrayEquals(large, (byte[])loaded.get(NODE_COUNT));
+            assertEquals("after the large entity", loaded.get(NODE_COUNT + 1));
+        }
+    }
+
+    @Test
+    void truncatedStreamIsRejected() throws Exception
+    {
+        final byte[] bytes;
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(foundation()))
+        {
+            bytes = serializeToStream(serializer, createGraph());
+        }
+        try(final Serializer<byte[]> serializer = Serializer.Bytes(foundation()))
+        {
+            assertThrows(
+                PersistenceException.class,
+                () -> serializer.deserializeFrom(new ByteArrayInputStream(bytes, 0, bytes.length - 10))
+            );
+            assertThrows(
+                PersistenceException.class,
+                () -> serializer.deserializeFrom(new ByteArrayInputStream(new byte[0]))
+            );
+        }
+    }
+
+    @Test
+    void otherSerializers() throws Exception
+    {
+        final List<Node> graph = createGraph();
+        final List<Supplier<Serializer<byte[]>>> creators = List.of(
+            TypedSerializer::Bytes,
+            () -> Serializer.Bytes(foundation().setCompactFormat(true)),
+            // the default methods of an implementation that doesn't override them
+            () -> new MinimalSerializer(Serializer.Bytes(foundation()))
+        );
+        for(final Supplier<Serializer<byte[]>> creator : creators)
+        {
+            final byte[] bytes;
+            try(final Serializer<byte[]> serializer = creator.get())
+            {
+                bytes = serializeToStream(serializer, graph);
+            }
+            try(final Serializer<byte[]> serializer = creator.get())
+            {
+                assertGraph(graph, serializer.deserializeFrom(new ByteArrayInputStream(bytes)));
+            }
+        }
+    }
+
+
+    static final class Node
+    {
+        final int    id      ;
+        final String name    ;
+        final long[] values  ;
+        final Node   previous;
+
+        Node(final int id, final String name, final long[] values, final Node previous)
+        {
+            super();
+            this.id       = id      ;
+            this.name     = name    ;
+            this.values   = values  ;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * Returns at most the given number of bytes per read, like a slow network connection.
+     */
+    static final class FragmentingChannel implements ReadableByteChannel
+    {
+        private final ByteBuffer data     ;
+        private final int        maxLength;
+
+        FragmentingChannel(final byte[] data, final int maxLength)
+        {
+            super();
+            this.data      = ByteBuffer.wrap(data);
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public int read(final ByteBuffer target)
+        {
+            if(!this.data.hasRemaining())
+            {
+                return -1;
+            }
+            final int length = Math.min(Math.min(this.maxLength, target.remaining()), this.data.remaining());
+            target.put(this.data.slice(this.data.position(), length));
+            this.data.position(this.data.position() + length);
+
+            return length;
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return true;
+        }
+
+        @Override
+        public void close()
+        {
+            // nothing to close
+        }
+    }
+
+    static final class TrackingBufferPool implements BufferPool
+    {
+        private final BufferPool delegate = BufferPool.Unpooled();
+
+        long allocatedBytes       ;
+        long maximumAllocatedBytes;
+
+        @Override
+        public synchronized ByteBuffer allocate(final long capacity)
+        {
+            final ByteBuffer buffer = this.delegate.allocate(capacity);
+            this.allocatedBytes += buffer.capacity();
+            this.maximumAllocatedBytes = Math.max(this.maximumAllocatedBytes, this.allocatedBytes);
+
+            return buffer;
+        }
+
+        @Override
+        public synchronized void release(final ByteBuffer buffer)
+        {
+            this.allocatedBytes -= buffer.capacity();
+            this.delegate.release(buffer);
+        }
+
+        @Override
+        public void clear()
+        {
+            this.delegate.clear();
+        }
+
+        @Override
+        public long hitCount()
+        {
+            return 0;
+        }
+
+        @Override
+        public long missCount()
+        {
+            return 0;
+        }
+
+        @Override
+        public long retainedBytes()
+        {
+            return 0;
+        }
+
+        @Override
+        public long maximumRetainedBytes()
+        {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+package test.eclipse.serializer.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.SerializerFoundation;
+import org.eclipse.serializer.TypedSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class ZeroCopySerializerTest
+{
+    static Stream<Supplier<Serializer<byte[]>>> serializers()
+    {
+        return Stream.of(
+            () -> Serializer.Bytes(SerializerFoundation.New()),
+            () -> TypedSerializer.Bytes(SerializerFoundation.New()),
+            () -> Serializer.Concurrent(SerializerFoundation.New(), 2),
+            () -> new MinimalSerializer(Serializer.Bytes(SerializerFoundation.New()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializers")
+    public void heapBufferTest(final Supplier<Serializer<byte[]>> creator) throws Exception
+    {
+        this.roundTrip(creator, ByteBuffer.allocate(64 * 1024));
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializers")
+    public void directBufferTest(final Supplier<Serializer<byte[]>> creator) throws Exception
+    {
+        this.roundTrip(creator, ByteBuffer.allocateDirect(64 * 1024));
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializers")
+    public void channelTest(final Supplier<Serializer<byte[]>> creator) throws Exception
+    {
+        try(final Serializer<byte[]> serializer = creator.get())
+        {
+            final Map<String, List<Integer>> graph = PooledSerializerTest.createGraph(7);
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final long written = serializer.serializeInto(graph, Channels.newChannel(out));
+            final byte[] bytes = out.toByteArray();
+
+            // object ids differ between two serializations, so compatibility is checked via deserialization
+            Assertions.assertEquals(bytes.length, written);
+            Assertions.assertEquals(graph, serializer.deserialize(bytes));
+            Assertions.assertEquals(graph, serializer.deserialize(ByteBuffer.wrap(bytes), 0, bytes.length));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializers")
+    public void overflowTest(final Supplier<Serializer<byte[]>> creator) throws Exception
+    {
+        try(final Serializer<byte[]> serializer = creator.get())
+        {
+            final ByteBuffer target = ByteBuffer.allocate(8);
+            Assertions.assertThrows(
+                BufferOverflowException.class,
+                () -> serializer.serializeInto(PooledSerializerTest.createGraph(1), target)
+            );
+            Assertions.assertEquals(0, target.position());
+        }
+    }
+
+    private void roundTrip(final Supplier<Serializer<byte[]>> creator, final ByteBuffer target) throws Exception
+    {
+        try(final Serializer<byte[]> serializer = creator.get())
+        {
+            final Map<String, List<Integer>> graph1 = PooledSerializerTest.createGraph(1);
+            final Map<String, List<Integer>> graph2 = PooledSerializerTest.createGraph(2);
+
+            // write two messages back to back to verify that offsets are respected
+            target.position(3);
+            final int length1 = serializer.serializeInto(graph1, target);
+            final int length2 = serializer.serializeInto(graph2, target);
+            Assertions.assertEquals(3 + length1 + length2, target.position());
+
+            // compatible to the byte[] medium in both directions
+            final byte[] bytes = new byte[length1];
+            target.get(3, bytes);
+            Assertions.assertEquals(graph1, serializer.deserialize(bytes));
+            final byte[] serialized = serializer.serialize(graph2);
+            Assertions.assertEquals(graph2, serializer.deserialize(ByteBuffer.wrap(serialized), 0, serialized.length));
+
+            Assertions.assertEquals(graph2, serializer.deserialize(target, 3 + length1, length2));
+            Assertions.assertEquals(graph1, serializer.deserialize(target, 3, length1));
+            Assertions.assertEquals(3 + length1 + length2, target.position());
+        }
+    }
+
+}
@@ -0,0 +1,342 @@
+package test.eclipse.serializer.storing;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.serializer.PassThroughSerializerFoundation;
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.collections.types.XGettingCollection;
+import org.eclipse.serializer.memory.BufferPool;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryChangeTracker;
+import org.eclipse.serializer.persistence.binary.types.BinaryLoader;
+import org.eclipse.serializer.persistence.binary.types.BinaryStorer;
+import org.eclipse.serializer.persistence.types.PersistenceIdSet;
+import org.eclipse.serializer.persistence.types.PersistenceLoader;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceStorer;
+import org.eclipse.serializer.util.BufferSizeProviderIncremental;
+import org.eclipse.serializer.util.X;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Change tracking storing of {@link BinaryStorer.ChangeTracking}: of all the entities reachable from the root,
+ * only those whose state differs from the last written one may be written.
+ */
+@Timeout(60)
+public class ChangeTrackingStorerTest
+{
+    private static final int CHANNEL_COUNT = 4;
+    private static final int ENTITY_COUNT  = 10_000;
+
+    private final BulkList<Binary> written = BulkList.New();
+
+    private final BinaryChangeTracker changeTracker = BinaryChangeTracker.New();
+
+    private boolean failWriting;
+
+    private PassThroughSerializerFoundation foundation;
+    private PersistenceManager<Binary>      manager   ;
+    private ExecutorService                 executor  ;
+    private BinaryStorer.Creator            creator   ;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.foundation = PassThroughSerializerFoundation.New()
+            .setPersistenceTarget((Serializer.Target)data ->
+            {
+                if(this.failWriting)
+                {
+                    throw new IllegalStateException("writing failed");
+                }
+                this.written.add(data);
+            })
+            .setPersistenceSource(new Serializer.Source()
+            {
+                @Override
+                public XGettingCollection<? extends Binary> read()
+                {
+                    return X.Constant(ChangeTrackingStorerTest.this.written.last());
+                }
+
+                @Override
+                public XGettingCollection<? extends Binary> readByObjectIds(final PersistenceIdSet[] oids)
+                {
+                    // replay everything, the loader picks what it needs via its build items.
+                    return this.read();
+                }
+            })
+        ;
+        this.manager  = this.foundation.createPersistenceManager();
+        this.executor = Executors.newFixedThreadPool(CHANNEL_COUNT - 1);
+        this.creator  = BinaryStorer.Creator(
+            () -> CHANNEL_COUNT,
+            false,
+            false,
+            false,
+            BinaryStorer.Collaborators.New(BufferPool.Unpooled(), this.executor, this.changeTracker)
+        );
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+        this.manager.close();
+    }
+
+    private BinaryStorer.ChangeTracking createChangeTrackingStorer()
+    {
+        return this.creator.createChangeTrackingStorer(
+            this.foundation.getTypeHandlerManager(),
+            this.foundation.getObjectManager(),
+            this.manager,
+            this.foundation.getPersistenceTarget(),
+            BufferSizeProviderIncremental.New(),
+            null
+        );
+    }
+
+    private PersistenceStorer createLazyStorer()
+    {
+        return this.creator.createLazyStorer(
+            this.foundation.getTypeHandlerManager(),
+            this.foundation.getObjectManager(),
+            this.manager,
+            this.foundation.getPersistenceTarget(),
+            BufferSizeProviderIncremental.New(),
+            null
+        );
+    }
+
+    private Set<Long> storeChanged(final Object root)
+    {
+        final BinaryStorer.ChangeTracking storer = this.createChangeTrackingStorer();
+        storer.storeChanged(root);
+        storer.commit();
+
+        return entitiesByObjectId(this.written.last()).keySet();
+    }
+
+    private static Map<Long, byte[]> entitiesByObjectId(final Binary data)
+    {
+        final Map<Long, byte[]> entities = new HashMap<>();
+        data.iterateChannelChunks(chunk ->
+        {
+            for(final ByteBuffer buffer : chunk.buffers())
+            {
+                final ByteBuffer entityData = buffer.duplicate().order(ByteOrder.nativeOrder());
+                while(entityData.hasRemaining())
+                {
+                    final int    position = entityData.position();
+                    final long   length   = entityData.getLong(position);
+                    final long   objectId = entityData.getLong(position + 2 * Long.BYTES);
+                    final byte[] entity   = new byte[(int)length];
+                    entityData.get(entity);
+                    assertNull(entities.put(objectId, entity), "entity stored twice: " + objectId);
+                }
+            }
+        });
+
+        return entities;
+    }
+
+    private static List<Entity> createGraph()
+    {
+        final List<Entity> entities = new ArrayList<>(ENTITY_COUNT);
+        Entity previous = null;
+        for(int i = 0; i < ENTITY_COUNT; i++)
+        {
+            entities.add(previous = new Entity(i, "entity" + i, previous));
+        }
+
+        return entities;
+    }
+
+    private long objectId(final Object instance)
+    {
+        return this.manager.lookupObjectId(instance);
+    }
+
+    @Test
+    void onlyChangedEntitiesAreWritten()
+    {
+        final List<Entity> graph = createGraph();
+        final PersistenceStorer storer = this.createLazyStorer();
+        storer.store(graph);
+        storer.commit();
+        assertTrue(this.changeTracker.size() > 2 * ENTITY_COUNT, "the lazy storer records the fingerprints");
+
+        assertEquals(Set.of(), this.storeChanged(graph));
+
+        final Entity changed = graph.get(ENTITY_COUNT / 2);
+        changed.count++;
+        assertEquals(Set.of(this.objectId(changed)), this.storeChanged(graph));
+        assertEquals(Set.of(), this.storeChanged(graph));
+
+        final Entity replaced = graph.get(42);
+        replaced.name = "renamed";
+        final Entity added = new Entity(ENTITY_COUNT, "added", graph.get(ENTITY_COUNT - 1));
+        graph.add(added);
+        final Set<Long> stored = this.storeChanged(graph);
+        assertEquals(
+            Set.of(
+                this.objectId(graph),
+                this.objectId(replaced),
+                this.objectId(added),
+                this.objectId(replaced.name),
+                this.objectId(added.name)
+            ),
+            stored
+        );
+    }
+
+    @Test
+    void entitiesWithoutFingerprintAreWrittenOnce()
+    {
+        final List<Entity> graph = createGraph();
+
+        // stored by the manager's own storer, which does not track changes.
+        this.manager.store(graph);
+        assertEquals(0, this.changeTracker.size());
+
+        final Set<Long> all = this.storeChanged(graph);
+        assertTrue(all.size() > 2 * ENTITY_COUNT, "all entities and strings must have been written");
+        assertTrue(all.contains(this.objectId(graph)));
+
+        graph.get(0).count++;
+        assertEquals(Set.of(this.objectId(graph.get(0))), this.storeChanged(graph));
+    }
+
+    @Test
+    void loadedEntitiesAreNotWrittenUnlessChanged()
+    {
+        final List<Entity> graph = createGraph();
+
+        final PersistenceStorer storer = this.createLazyStorer();
+        storer.store(graph);
+        storer.commit();
+        final long rootObjectId = this.objectId(graph);
+        this.foundation.getObjectRegistry().clear();
+        this.changeTracker.clear();
+
+        final PersistenceLoader loader = BinaryLoader.CreatorSimple(false, null, 1, this.changeTracker).createLoader(
+            this.foundation.getTypeHandlerManager(),
+            this.foundation.getObjectRegistry(),
+            this.manager,
+            this.manager
+        );
+        @SuppressWarnings("unchecked")
+        final List<Entity> loaded = (List<Entity>)loader.getObject(rootObjectId);
+        assertEquals(ENTITY_COUNT, loaded.size());
+        assertTrue(this.changeTracker.size() > 2 * ENTITY_COUNT, "the loader records the fingerprints");
+
+        assertEquals(Set.of(), this.storeChanged(loaded));
+
+        final Entity changed = loaded.get(ENTITY_COUNT / 3);
+        changed.count++;
+        assertEquals(Set.of(this.objectId(changed)), this.storeChanged(loaded));
+    }
+
+    @Test
+    void failedCommitKeepsFingerprints()
+    {
+        final List<Entity> graph = createGraph();
+        this.storeChanged(graph);
+
+        final Entity changed = graph.get(7);
+        changed.count++;
+
+        this.failWriting = true;
+        final BinaryStorer.ChangeTracking storer = this.createChangeTrackingStorer();
+        storer.storeChanged(graph);
+        assertThrows(IllegalStateException.class, storer::commit);
+        this.failWriting = false;
+
+        assertEquals(Set.of(this.objectId(changed)), this.storeChanged(graph));
+    }
+
+    @Test
+    void cleanUpDiscardsFingerprintsOfUnknownObjects()
+    {
+        final List<Entity> graph = createGraph();
+        this.storeChanged(graph);
+        final long size = this.changeTracker.size();
+
+        assertEquals(0, this.changeTracker.cleanUp(this.foundation.getObjectRegistry()));
+        assertEquals(size, this.changeTracker.size());
+
+        this.foundation.getObjectRegistry().clear();
+        assertEquals(size, this.changeTracker.cleanUp(this.foundation.getObjectRegistry()));
+        assertEquals(0, this.changeTracker.size());
+    }
+
+    @Test
+    void creatorWithoutChangeTrackerRejectsChangeTrackingStorers()
+    {
+        final BinaryStorer.Creator creator = BinaryStorer.Creator(
+            () -> 1,
+            false,
+            false,
+            false,
+            BinaryStorer.Collaborators.New()
+        );
+        assertThrows(UnsupportedOperationException.class, () -> creator.createChangeTrackingStorer(
+            this.foundation.getTypeHandlerManager(),
+            this.foundation.getObjectManager(),
+            this.manager,
+            this.foundation.getPersistenceTarget(),
+            BufferSizeProviderIncremental.New(),
+            null
+        ));
+    }
+
+
+    static final class Entity
+    {
+        final int id      ;
+        String    name    ;
+        int       count   ;
+        Entity    previous;
+
+        Entity(final int id, final String name, final Entity previous)
+        {
+            super();
+            this.id       = id      ;
+            this.name     = name    ;
+            this.previous = previous;
+        }
+    }
+
+}
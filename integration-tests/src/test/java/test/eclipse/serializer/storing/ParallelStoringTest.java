@@ -0,0 +1,221 @@
+package test.eclipse.serializer.storing;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.serializer.PassThroughSerializerFoundation;
+import org.eclipse.serializer.Serializer;
+import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.memory.BufferPool;
+import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryStorer;
+import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceStorer;
+import org.eclipse.serializer.util.BufferSizeProviderIncremental;
+import org.eclipse.serializer.util.X;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Parallel multi-channel storing of {@link BinaryStorer}: every entity must be written exactly as by
+ * sequential storing, only the entity order within a channel may differ.
+ */
+@Timeout(60)
+public class ParallelStoringTest
+{
+    private static final int CHANNEL_COUNT = 4;
+    private static final int ENTITY_COUNT  = 20_000;
+
+    private final BulkList<Binary> written = BulkList.New();
+
+    private PassThroughSerializerFoundation foundation;
+    private PersistenceManager<Binary>      manager   ;
+    private ExecutorService                 executor  ;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.foundation = PassThroughSerializerFoundation.New()
+            .setPersistenceTarget((Serializer.Target)this.written::add)
+            .setPersistenceSource((Serializer.Source)() -> X.Constant(this.written.last()))
+        ;
+        this.manager  = this.foundation.createPersistenceManager();
+        this.executor = Executors.newFixedThreadPool(CHANNEL_COUNT - 1);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+        this.manager.close();
+    }
+
+    private PersistenceStorer createStorer(final boolean eager, final boolean parallel)
+    {
+        final BinaryStorer.Creator creator = BinaryStorer.Creator(
+            () -> CHANNEL_COUNT,
+            false,
+            false,
+            false,
+            BinaryStorer.Collaborators.New(BufferPool.Unpooled(), parallel ? this.executor : null, null)
+        );
+
+        return eager
+            ? creator.createEagerStorer(
+                this.foundation.getTypeHandlerManager(),
+                this.foundation.getObjectManager(),
+                this.manager,
+                this.foundation.getPersistenceTarget(),
+                BufferSizeProviderIncremental.New(),
+                null
+            )
+            : creator.createLazyStorer(
+                this.foundation.getTypeHandlerManager(),
+                this.foundation.getObjectManager(),
+                this.manager,
+                this.foundation.getPersistenceTarget(),
+                BufferSizeProviderIncremental.New(),
+                null
+            )
+        ;
+    }
+
+    private Binary store(final PersistenceStorer storer, final Object root)
+    {
+        storer.store(root);
+        storer.commit();
+
+        return this.written.last();
+    }
+
+    private static Map<Long, byte[]> entitiesByObjectId(final Binary data)
+    {
+        final Map<Long, byte[]> entities = new HashMap<>();
+        data.iterateChannelChunks(chunk ->
+        {
+            for(final ByteBuffer buffer : chunk.buffers())
+            {
+                final ByteBuffer entityData = buffer.duplicate().order(ByteOrder.nativeOrder());
+                while(entityData.hasRemaining())
+                {
+                    final int    position = entityData.position();
+                    final long   length   = entityData.getLong(position);
+                    final long   objectId = entityData.getLong(position + 2 * Long.BYTES);
+                    final byte[] entity   = new byte[(int)length];
+                    entityData.get(entity);
+                    assertNull(entities.put(objectId, entity), "entity stored twice: " + objectId);
+                }
+            }
+        });
+
+        return entities;
+    }
+
+    private static List<Entity> createGraph()
+    {
+        final List<Entity> entities = new ArrayList<>(ENTITY_COUNT);
+        Entity previous = null;
+        for(int i = 0; i < ENTITY_COUNT; i++)
+        {
+            entities.add(previous = new Entity(i, "entity" + i, new int[]{i, i + 1, i + 2}, previous));
+        }
+
+        return entities;
+    }
+
+    @Test
+    void parallelStoringWritesTheSameEntitiesAsSequentialStoring()
+    {
+        final List<Entity> graph = createGraph();
+
+        // assigns the object ids, so that both eager stores below write the same ids.
+        this.manager.store(graph);
+
+        final Map<Long, byte[]> sequential = entitiesByObjectId(this.store(this.createStorer(true, false), graph));
+        final Map<Long, byte[]> parallel   = entitiesByObjectId(this.store(this.createStorer(true, true), graph));
+
+        assertTrue(sequential.size() > 3 * ENTITY_COUNT, "entities, strings and arrays must have been stored");
+        assertEquals(sequential.keySet(), parallel.keySet());
+        for(final Map.Entry<Long, byte[]> entity : sequential.entrySet())
+        {
+            assertArrayEquals(entity.getValue(), parallel.get(entity.getKey()), "entity " + entity.getKey());
+        }
+    }
+
+    @Test
+    void parallelStoringAssignsConsistentObjectIds()
+    {
+        final List<Entity>      graph    = createGraph();
+        final long              rootOid  = this.manager.store(graph); // ensures all types are known
+        final List<Entity>      newGraph = createGraph();
+        final Map<Long, byte[]> stored   = entitiesByObjectId(this.store(this.createStorer(false, true), newGraph));
+
+        assertTrue(stored.size() > 3 * ENTITY_COUNT);
+        for(final Entity entity : newGraph)
+        {
+            final long objectId = this.manager.lookupObjectId(entity);
+            assertNotNull(stored.get(objectId), "missing entity " + objectId);
+            assertNotNull(stored.get(this.manager.lookupObjectId(entity.name)));
+            assertNotNull(stored.get(this.manager.lookupObjectId(entity.values)));
+        }
+        assertTrue(this.manager.lookupObjectId(graph) == rootOid);
+    }
+
+    @Test
+    void handlerFailureIsPropagated()
+    {
+        final List<Object> graph = new ArrayList<>(createGraph());
+        graph.add(Thread.currentThread()); // not persistable
+
+        final PersistenceStorer storer = this.createStorer(false, true);
+        assertThrows(RuntimeException.class, () -> storer.store(graph));
+    }
+
+
+    static final class Entity
+    {
+        final int    id      ;
+        final String name    ;
+        final int[]  values  ;
+        final Entity previous;
+
+        Entity(final int id, final String name, final int[] values, final Entity previous)
+        {
+            super();
+            this.id       = id      ;
+            this.name     = name    ;
+            this.values   = values  ;
+            this.previous = previous;
+        }
+    }
+
+}
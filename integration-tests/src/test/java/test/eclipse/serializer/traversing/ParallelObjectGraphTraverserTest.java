@@ -0,0 +1,274 @@
+package test.eclipse.serializer.traversing;
+
+/*-
+ * #%L
+ * Eclipse Serializer Integration Tests
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.serializer.util.traversing.ObjectGraphTraverser;
+import org.eclipse.serializer.util.traversing.TraversalAcceptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(60)
+public class ParallelObjectGraphTraverserTest
+{
+    private static final int NODE_COUNT  = 50_000;
+    private static final int PARALLELISM = 4;
+
+    static final class Payload
+    {
+        final String name;
+
+        Payload(final String name)
+        {
+            this.name = name;
+        }
+    }
+
+    static final class Node
+    {
+        final int id      ;
+        Node[]    children;
+        Object    payload ;
+
+        Node(final int id, final Object payload)
+        {
+            this.id      = id     ;
+            this.payload = payload;
+        }
+    }
+
+    /**
+     * A random tree with additional cross and back references, so that many instances are reachable more than once.
+     */
+    private static List<Node> createGraph(final Object payload)
+    {
+        final Random     random = new Random(42);
+        final List<Node> nodes  = new ArrayList<>(NODE_COUNT);
+        for(int i = 0; i < NODE_COUNT; i++)
+        {
+            nodes.add(new Node(i, payload));
+        }
+        final List<List<Node>> children = new ArrayList<>(NODE_COUNT);
+        for(int i = 0; i < NODE_COUNT; i++)
+        {
+            children.add(new ArrayList<>());
+        }
+        for(int i = 1; i < NODE_COUNT; i++)
+        {
+            children.get(random.nextInt(i)).add(nodes.get(i));
+            children.get(random.nextInt(NODE_COUNT)).add(nodes.get(random.nextInt(NODE_COUNT)));
+        }
+        for(int i = 0; i < NODE_COUNT; i++)
+        {
+            nodes.get(i).children = children.get(i).toArray(new Node[0]);
+        }
+        return nodes;
+    }
+
+    private static Set<Object> identitySet()
+    {
+        return Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    @Test
+    void everyInstanceIsHandledExactlyOnce()
+    {
+        final List<Node>          nodes   = createGraph(new Payload("shared"));
+        final Map<Object, Object> handled = Collections.synchronizedMap(new IdentityHashMap<>());
+        final AtomicInteger       twice   = new AtomicInteger();
+        final Set<Object>         threads = Collections.synchronizedSet(new HashSet<>());
+
+        ObjectGraphTraverser.Builder()
+            .parallelism(PARALLELISM)
+            .predicateHandle(instance ->
+            {
+                threads.add(Thread.currentThread());
+                if(handled.put(instance, instance) != null)
+                {
+                    twice.incrementAndGet();
+                }
+                return true;
+            })
+            .buildObjectGraphTraverser()
+            .traverse(nodes.get(0))
+        ;
+
+        assertEquals(0, twice.get());
+        for(final Node node : nodes)
+        {
+            assertTrue(handled.containsKey(node), "not handled: " + node.id);
+            assertTrue(handled.containsKey(node.children), "not handled: children of " + node.id);
+        }
+        assertTrue(handled.containsKey(nodes.get(0).payload));
+        assertEquals(2 * NODE_COUNT + 1, handled.size());
+        assertTrue(threads.size() >= 1);
+    }
+
+    @Test
+    void parallelAcceptorSeesTheSameReferencesAsSequential()
+    {
+        final List<Node> nodes = createGraph(new Payload("shared"));
+
+        final AtomicInteger sequential = new AtomicInteger();
+        ObjectGraphTraverser.Builder()
+            .acceptor((instance, parent) -> sequential.incrementAndGet() >= 0)
+            .buildObjectGraphTraverser()
+            .traverse(nodes.get(0))
+        ;
+
+        final AtomicInteger parallel = new AtomicInteger();
+        ObjectGraphTraverser.Builder()
+            .parallelism(PARALLELISM)
+            .acceptor((instance, parent) -> parallel.incrementAndGet() >= 0)
+            .buildObjectGraphTraverser()
+            .traverse(nodes.get(0))
+        ;
+
+        assertEquals(sequential.get(), parallel.get());
+    }
+
+    @Test
+    void parallelMutatorReplacesAllReferences()
+    {
+        final Payload    oldPayload = new Payload("old");
+        final Payload    newPayload = new Payload("new");
+        final List<Node> nodes      = createGraph(oldPayload);
+
+        ObjectGraphTraverser.Builder()
+            .parallelism(PARALLELISM)
+            .mutate(instance -> instance == oldPayload, instance -> newPayload)
+            .buildObjectGraphTraverser()
+            .traverse(nodes.get(0))
+        ;
+
+        nodes.forEach(node -> assertSame(newPayload, node.payload));
+    }
+
+    @Test
+    void abortSignalStopsAllWorkers()
+    {
+        final List<Node>    nodes    = createGraph(null);
+        final AtomicInteger accepted = new AtomicInteger();
+
+        ObjectGraphTraverser.Builder()
+            .parallelism(PARALLELISM)
+            .acceptor((TraversalAcceptor)(instance, parent) ->
+            {
+                if(accepted.incrementAndGet() == 1_000)
+                {
+                    ObjectGraphTraverser.signalAbortTraversal();
+                }
+                return true;
+            })
+            .buildObjectGraphTraverser()
+            .traverse(nodes.get(0))
+        ;
+
+        assertTrue(accepted.get() < NODE_COUNT, String.valueOf(accepted.get()));
+    }
+
+    @Test
+    void problemsArePropagated()
+    {
+        final List<Node> nodes = createGraph(null);
+        final ObjectGraphTraverser traverser = ObjectGraphTraverser.Builder()
+            .parallelism(PARALLELISM)
+            .acceptor((TraversalAcceptor)(instance, parent) ->
+            {
+                if(instance instanceof Node && ((Node)instance).id == NODE_COUNT / 2)
+                {
+                    throw new IllegalStateException("test");
+                }
+                return true;
+            })
+            .buildObjectGraphTraverser()
+        ;
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class, () -> traverser.traverse(nodes.get(0)));
+        assertEquals("test", e.getMessage());
+    }
+
+    @Test
+    void noWorkerOutlivesAPropagatedProblem() throws InterruptedException
+    {
+        final List<Node>    nodes    = createGraph(null);
+        final AtomicInteger accepted = new AtomicInteger();
+        final ObjectGraphTraverser traverser = ObjectGraphTraverser.Builder()
+            .parallelism(PARALLELISM)
+            .acceptor((TraversalAcceptor)(instance, parent) ->
+            {
+                if(accepted.incrementAndGet() == 1_000)
+                {
+                    throw new IllegalStateException("test");
+                }
+                return true;
+            })
+            .buildObjectGraphTraverser()
+        ;
+
+        assertThrows(IllegalStateException.class, () -> traverser.traverse(nodes.get(0)));
+        final int acceptedOnThrow = accepted.get();
+        Thread.sleep(100);
+        assertEquals(acceptedOnThrow, accepted.get());
+    }
+
+    @Test
+    void streamsEmitEveryInstanceExactlyOnce()
+    {
+        final List<Node> nodes     = createGraph(new Payload("shared"));
+        final Node       skipped   = nodes.get(NODE_COUNT - 1);
+        final ObjectGraphTraverser traverser = ObjectGraphTraverser.Builder()
+            .roots(nodes.get(0))
+            .skip().instance(skipped)
+            .buildObjectGraphTraverser()
+        ;
+
+        final List<Node> sequential = traverser.stream()
+            .filter(Node.class::isInstance)
+            .map(Node.class::cast)
+            .collect(Collectors.toList())
+        ;
+        final List<Node> parallel = traverser.parallelStream()
+            .filter(Node.class::isInstance)
+            .map(Node.class::cast)
+            .collect(Collectors.toList())
+        ;
+
+        for(final List<Node> emitted : List.of(sequential, parallel))
+        {
+            assertEquals(NODE_COUNT - 1, emitted.size());
+            final Set<Object> distinct = identitySet();
+            distinct.addAll(emitted);
+            assertEquals(NODE_COUNT - 1, distinct.size());
+            assertTrue(!distinct.contains(skipped));
+        }
+    }
+
+}
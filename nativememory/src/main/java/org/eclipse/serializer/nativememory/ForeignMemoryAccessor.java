@@ -0,0 +1,962 @@
+package org.eclipse.serializer.nativememory;
+
+/*-
+ * #%L
+ * Eclipse Serializer NativeMemory
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.eclipse.serializer.exceptions.InstantiationRuntimeException;
+import org.eclipse.serializer.exceptions.MemoryException;
+import org.eclipse.serializer.functional.DefaultInstantiator;
+import org.eclipse.serializer.memory.MemoryAccessor;
+import org.eclipse.serializer.memory.MemoryStatistics;
+import org.eclipse.serializer.memory.sun.JdkInstantiatorBlank;
+import org.eclipse.serializer.typing.XTypes;
+import org.eclipse.serializer.util.X;
+
+
+/**
+ * Java 22 and greater MemoryAccessor implementation in pure Java, based on the Foreign Function and Memory API
+ * instead of native code.
+ * <p>
+ * Off-heap memory is accessed by absolute addresses through one {@link MemorySegment} spanning the whole
+ * address space and unaligned native order {@link ValueLayout}s, so every access compiles to a plain memory access
+ * without a JNI transition. Like with {@code sun.misc.Unsafe}, the addresses are not checked.
+ * Memory is allocated with {@code malloc}, {@code realloc} and {@code free} of the C standard library,
+ * bound by {@link Linker#downcallHandle}.
+ * <p>
+ * The offset of a field is an index into the method handles created for it, so fields can only be accessed
+ * if their package is open to this module, for example with {@code --add-opens}. Fields of records and
+ * static final fields cannot be written.
+ * <p>
+ * Accessing memory by absolute addresses is a restricted operation, the module or class path must therefore be
+ * granted native access, e.g. with {@code --enable-native-access=ALL-UNNAMED}.
+ */
+public class ForeignMemoryAccessor implements MemoryAccessor
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	// the whole address space, indexed by absolute addresses.
+	private static final MemorySegment MEMORY = MemorySegment.NULL.reinterpret(Long.MAX_VALUE);
+
+	private static final ValueLayout.OfBoolean BOOLEAN = ValueLayout.JAVA_BOOLEAN          ;
+	private static final ValueLayout.OfByte    BYTE    = ValueLayout.JAVA_BYTE             ;
+	private static final ValueLayout.OfShort   SHORT   = ValueLayout.JAVA_SHORT_UNALIGNED  ;
+	private static final ValueLayout.OfChar    CHAR    = ValueLayout.JAVA_CHAR_UNALIGNED   ;
+	private static final ValueLayout.OfInt     INT     = ValueLayout.JAVA_INT_UNALIGNED    ;
+	private static final ValueLayout.OfFloat   FLOAT   = ValueLayout.JAVA_FLOAT_UNALIGNED  ;
+	private static final ValueLayout.OfLong    LONG    = ValueLayout.JAVA_LONG_UNALIGNED   ;
+	private static final ValueLayout.OfDouble  DOUBLE  = ValueLayout.JAVA_DOUBLE_UNALIGNED ;
+
+	private static final VarHandle
+		SHORTS_IN_BYTES  = MethodHandles.byteArrayViewVarHandle(short[] .class, ByteOrder.nativeOrder()),
+		CHARS_IN_BYTES   = MethodHandles.byteArrayViewVarHandle(char[]  .class, ByteOrder.nativeOrder()),
+		INTS_IN_BYTES    = MethodHandles.byteArrayViewVarHandle(int[]   .class, ByteOrder.nativeOrder()),
+		FLOATS_IN_BYTES  = MethodHandles.byteArrayViewVarHandle(float[] .class, ByteOrder.nativeOrder()),
+		LONGS_IN_BYTES   = MethodHandles.byteArrayViewVarHandle(long[]  .class, ByteOrder.nativeOrder()),
+		DOUBLES_IN_BYTES = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.nativeOrder())
+	;
+
+	private static final MethodHandle
+		MALLOC  = downcall("malloc" , FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.JAVA_LONG)),
+		REALLOC = downcall("realloc", FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG)),
+		FREE    = downcall("free"   , FunctionDescriptor.ofVoid(ValueLayout.ADDRESS))
+	;
+
+	private static MethodHandle downcall(final String name, final FunctionDescriptor descriptor)
+	{
+		final Linker       linker = Linker.nativeLinker();
+		final SymbolLookup libc   = linker.defaultLookup();
+
+		return linker.downcallHandle(
+			libc.find(name).orElseThrow(() -> new MemoryException("Native function not found: " + name)),
+			descriptor
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private final DefaultInstantiator classInstantiator = JdkInstantiatorBlank.New();
+
+	// copy on write, so that reading accesses need no lock.
+	private volatile FieldAccess[]       fieldAccesses = new FieldAccess[0];
+	private final    HashMap<Field, Long> fieldOffsets  = new HashMap<>() ;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	public static MemoryAccessor New()
+	{
+		return new ForeignMemoryAccessor();
+	}
+
+	public ForeignMemoryAccessor()
+	{
+		super();
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	private static RuntimeException rethrow(final Throwable t)
+	{
+		if(t instanceof RuntimeException)
+		{
+			return (RuntimeException)t;
+		}
+		if(t instanceof Error)
+		{
+			throw (Error)t;
+		}
+
+		return new MemoryException(t);
+	}
+
+	private static MemoryStatistics createMemoryStatistics(final MemoryUsage usage)
+	{
+		return MemoryStatistics.New(
+			usage.getMax()      ,
+			usage.getCommitted(),
+			usage.getUsed()
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// helper methods //
+	///////////////////
+
+	@Override
+	public void guaranteeUsability()
+	{
+		//no-op
+	}
+
+	///////////////////////////////////////////////////////////////////////////
+	// ByteBuffer //
+	///////////////
+
+	@Override
+	public ByteBuffer allocateDirectNative(final int capacity)
+	{
+		return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+	}
+
+	@Override
+	public ByteBuffer allocateDirectNative(final long capacity)
+	{
+		return this.allocateDirectNative(
+			X.checkArrayRange(capacity)
+		);
+	}
+
+	@Override
+	public long getDirectByteBufferAddress(final ByteBuffer directBuffer)
+	{
+		// the segment of a buffer starts at its position
+		return MemorySegment.ofBuffer(directBuffer).address() - directBuffer.position();
+	}
+
+	@Override
+	public boolean deallocateDirectByteBuffer(final ByteBuffer directBuffer)
+	{
+		return false;
+	}
+
+	@Override
+	public boolean isDirectByteBuffer(final ByteBuffer byteBuffer)
+	{
+		return XTypes.isDirectByteBuffer(byteBuffer);
+	}
+
+	@Override
+	public ByteBuffer guaranteeDirectByteBuffer(final ByteBuffer directBuffer)
+	{
+		return XTypes.guaranteeDirectByteBuffer(directBuffer);
+	}
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// memory allocation //
+	//////////////////////
+
+	@Override
+	public long allocateMemory(final long bytes)
+	{
+		try
+		{
+			return ((MemorySegment)MALLOC.invokeExact(bytes)).address();
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public long reallocateMemory(final long address, final long bytes)
+	{
+		try
+		{
+			return ((MemorySegment)REALLOC.invokeExact(MemorySegment.ofAddress(address), bytes)).address();
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void freeMemory(final long address)
+	{
+		try
+		{
+			FREE.invokeExact(MemorySegment.ofAddress(address));
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void fillMemory(final long targetAddress, final long length, final byte value)
+	{
+		MEMORY.asSlice(targetAddress, length).fill(value);
+	}
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// primitive values getter //
+	////////////////////////////
+
+	@Override
+	public byte get_byte(final long address)
+	{
+		return MEMORY.get(BYTE, address);
+	}
+
+	@Override
+	public boolean get_boolean(final long address)
+	{
+		return MEMORY.get(BOOLEAN, address);
+	}
+
+	@Override
+	public short get_short(final long address)
+	{
+		return MEMORY.get(SHORT, address);
+	}
+
+	@Override
+	public char get_char(final long address)
+	{
+		return MEMORY.get(CHAR, address);
+	}
+
+	@Override
+	public int get_int(final long address)
+	{
+		return MEMORY.get(INT, address);
+	}
+
+	@Override
+	public float get_float(final long address)
+	{
+		return MEMORY.get(FLOAT, address);
+	}
+
+	@Override
+	public long get_long(final long address)
+	{
+		return MEMORY.get(LONG, address);
+	}
+
+	@Override
+	public double get_double(final long address)
+	{
+		return MEMORY.get(DOUBLE, address);
+	}
+
+	@Override
+	public byte get_byte(final Object instance, final long offset)
+	{
+		try
+		{
+			return (byte)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public boolean get_boolean(final Object instance, final long offset)
+	{
+		try
+		{
+			return (boolean)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public short get_short(final Object instance, final long offset)
+	{
+		try
+		{
+			return (short)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public char get_char(final Object instance, final long offset)
+	{
+		try
+		{
+			return (char)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public int get_int(final Object instance, final long offset)
+	{
+		try
+		{
+			return (int)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public float get_float(final Object instance, final long offset)
+	{
+		try
+		{
+			return (float)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public long get_long(final Object instance, final long offset)
+	{
+		try
+		{
+			return (long)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public double get_double(final Object instance, final long offset)
+	{
+		try
+		{
+			return (double)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public Object getObject(final Object instance, final long offset)
+	{
+		try
+		{
+			return (Object)this.fieldAccess(offset).getter.invokeExact(instance);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// primitive values setter //
+	////////////////////////////
+
+	@Override
+	public void set_byte(final long address, final byte value)
+	{
+		MEMORY.set(BYTE, address, value);
+	}
+
+	@Override
+	public void set_boolean(final long address, final boolean value)
+	{
+		MEMORY.set(BOOLEAN, address, value);
+	}
+
+	@Override
+	public void set_short(final long address, final short value)
+	{
+		MEMORY.set(SHORT, address, value);
+	}
+
+	@Override
+	public void set_char(final long address, final char value)
+	{
+		MEMORY.set(CHAR, address, value);
+	}
+
+	@Override
+	public void set_int(final long address, final int value)
+	{
+		MEMORY.set(INT, address, value);
+	}
+
+	@Override
+	public void set_float(final long address, final float value)
+	{
+		MEMORY.set(FLOAT, address, value);
+	}
+
+	@Override
+	public void set_long(final long address, final long value)
+	{
+		MEMORY.set(LONG, address, value);
+	}
+
+	@Override
+	public void set_double(final long address, final double value)
+	{
+		MEMORY.set(DOUBLE, address, value);
+	}
+
+	@Override
+	public void set_byte(final Object instance, final long offset, final byte value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void set_boolean(final Object instance, final long offset, final boolean value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void set_short(final Object instance, final long offset, final short value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void set_char(final Object instance, final long offset, final char value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void set_int(final Object instance, final long offset, final int value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void set_float(final Object instance, final long offset, final float value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void set_long(final Object instance, final long offset, final long value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void set_double(final Object instance, final long offset, final double value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void setObject(final Object instance, final long offset, final Object value)
+	{
+		try
+		{
+			this.fieldAccess(offset).setter.invokeExact(instance, value);
+		}
+		catch(final Throwable t)
+		{
+			throw rethrow(t);
+		}
+	}
+
+
+	@Override
+	public final void set_byteInBytes(final byte[] bytes, final int index, final byte value)
+	{
+		bytes[index] = value;
+	}
+
+	@Override
+	public final void set_booleanInBytes(final byte[] bytes, final int index, final boolean value)
+	{
+		bytes[index] = value ? (byte)1 : (byte)0;
+	}
+
+	@Override
+	public final void set_shortInBytes(final byte[] bytes, final int index, final short value)
+	{
+		SHORTS_IN_BYTES.set(bytes, index, value);
+	}
+
+	@Override
+	public final void set_charInBytes(final byte[] bytes, final int index, final char value)
+	{
+		CHARS_IN_BYTES.set(bytes, index, value);
+	}
+
+	@Override
+	public final void set_intInBytes(final byte[] bytes, final int index, final int value)
+	{
+		INTS_IN_BYTES.set(bytes, index, value);
+	}
+
+	@Override
+	public final void set_floatInBytes(final byte[] bytes, final int index, final float value)
+	{
+		FLOATS_IN_BYTES.set(bytes, index, value);
+	}
+
+	@Override
+	public final void set_longInBytes(final byte[] bytes, final int index, final long value)
+	{
+		LONGS_IN_BYTES.set(bytes, index, value);
+	}
+
+	@Override
+	public final void set_doubleInBytes(final byte[] bytes, final int index, final double value)
+	{
+		DOUBLES_IN_BYTES.set(bytes, index, value);
+	}
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// range and arrays //
+	/////////////////////
+
+	@Override
+	public void copyRange(final long sourceAddress, final long targetAddress, final long length)
+	{
+		MemorySegment.copy(MEMORY, sourceAddress, MEMORY, targetAddress, length);
+	}
+
+	@Override
+	public void copyRangeToArray(final long sourceAddress, final byte[] target)
+	{
+		MemorySegment.copy(MEMORY, BYTE, sourceAddress, target, 0, target.length);
+	}
+
+	@Override
+	public void copyRangeToArray(final long sourceAddress, final boolean[] target)
+	{
+		// there is no bulk copy for boolean arrays
+		for(int i = 0; i < target.length; i++)
+		{
+			target[i] = MEMORY.get(BOOLEAN, sourceAddress + i);
+		}
+	}
+
+	@Override
+	public void copyRangeToArray(final long sourceAddress, final short[] target)
+	{
+		MemorySegment.copy(MEMORY, SHORT, sourceAddress, target, 0, target.length);
+	}
+
+	@Override
+	public void copyRangeToArray(final long sourceAddress, final char[] target)
+	{
+		MemorySegment.copy(MEMORY, CHAR, sourceAddress, target, 0, target.length);
+	}
+
+	@Override
+	public void copyRangeToArray(final long sourceAddress, final int[] target)
+	{
+		MemorySegment.copy(MEMORY, INT, sourceAddress, target, 0, target.length);
+	}
+
+	@Override
+	public void copyRangeToArray(final long sourceAddress, final float[] target)
+	{
+		MemorySegment.copy(MEMORY, FLOAT, sourceAddress, target, 0, target.length);
+	}
+
+	@Override
+	public void copyRangeToArray(final long sourceAddress, final long[] target)
+	{
+		MemorySegment.copy(MEMORY, LONG, sourceAddress, target, 0, target.length);
+	}
+
+	@Override
+	public void copyRangeToArray(final long sourceAddress, final double[] target)
+	{
+		MemorySegment.copy(MEMORY, DOUBLE, sourceAddress, target, 0, target.length);
+	}
+
+	@Override
+	public void copyArrayToAddress(final byte[] array, final long targetAddress)
+	{
+		MemorySegment.copy(array, 0, MEMORY, BYTE, targetAddress, array.length);
+	}
+
+	@Override
+	public void copyArrayToAddress(final boolean[] array, final long targetAddress)
+	{
+		// there is no bulk copy for boolean arrays
+		for(int i = 0; i < array.length; i++)
+		{
+			MEMORY.set(BOOLEAN, targetAddress + i, array[i]);
+		}
+	}
+
+	@Override
+	public void copyArrayToAddress(final short[] array, final long targetAddress)
+	{
+		MemorySegment.copy(array, 0, MEMORY, SHORT, targetAddress, array.length);
+	}
+
+	@Override
+	public void copyArrayToAddress(final char[] array, final long targetAddress)
+	{
+		MemorySegment.copy(array, 0, MEMORY, CHAR, targetAddress, array.length);
+	}
+
+	@Override
+	public void copyArrayToAddress(final int[] array, final long targetAddress)
+	{
+		MemorySegment.copy(array, 0, MEMORY, INT, targetAddress, array.length);
+	}
+
+	@Override
+	public void copyArrayToAddress(final float[] array, final long targetAddress)
+	{
+		MemorySegment.copy(array, 0, MEMORY, FLOAT, targetAddress, array.length);
+	}
+
+	@Override
+	public void copyArrayToAddress(final long[] array, final long targetAddress)
+	{
+		MemorySegment.copy(array, 0, MEMORY, LONG, targetAddress, array.length);
+	}
+
+	@Override
+	public void copyArrayToAddress(final double[] array, final long targetAddress)
+	{
+		MemorySegment.copy(array, 0, MEMORY, DOUBLE, targetAddress, array.length);
+	}
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// Field access    //
+	////////////////////
+
+	private FieldAccess fieldAccess(final long offset)
+	{
+		return this.fieldAccesses[(int)offset];
+	}
+
+	@Override
+	public long objectFieldOffset(final Field field)
+	{
+		synchronized(this.fieldOffsets)
+		{
+			final Long registered = this.fieldOffsets.get(field);
+			if(registered != null)
+			{
+				return registered;
+			}
+
+			final FieldAccess[] fieldAccesses = Arrays.copyOf(this.fieldAccesses, this.fieldAccesses.length + 1);
+			fieldAccesses[fieldAccesses.length - 1] = FieldAccess.New(field);
+			this.fieldAccesses = fieldAccesses;
+
+			final long offset = fieldAccesses.length - 1;
+			this.fieldOffsets.put(field, offset);
+
+			return offset;
+		}
+	}
+
+	@Override
+	public long[] objectFieldOffsets(final Field... fields)
+	{
+		final long[] offsets = new long[fields.length];
+
+		for(int i = 0; i < fields.length; i++)
+		{
+			offsets[i] = this.objectFieldOffset(fields[i]);
+		}
+
+		return offsets;
+	}
+
+	@Override
+	public final long objectFieldOffset(final Class<?> objectClass, final Field field)
+	{
+		return this.objectFieldOffset(field);
+	}
+
+	@Override
+	public final long[] objectFieldOffsets(final Class<?> objectClass, final Field... fields)
+	{
+		return this.objectFieldOffsets(fields);
+	}
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// class initialization //
+	/////////////////////////
+
+	@Override
+	public void ensureClassInitialized(final Class<?> c)
+	{
+		try
+		{
+			Class.forName(c.getName(), true, c.getClassLoader());
+		}
+		catch(final ClassNotFoundException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public <T> T instantiateBlank(final Class<T> c) throws InstantiationRuntimeException
+	{
+		return this.classInstantiator.instantiate(c);
+	}
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// volatile //
+	/////////////
+
+	@Override
+	public long volatileGet_long(final Object subject, final long offset)
+	{
+		return (long)this.fieldAccess(offset).handle.getVolatile(subject);
+	}
+
+	@Override
+	public void volatileSet_long(final Object subject, final long offset, final long value)
+	{
+		this.fieldAccess(offset).handle.setVolatile(subject, value);
+	}
+
+	@Override
+	public boolean compareAndSwap_int(final Object subject, final long offset, final int expected, final int replacement)
+	{
+		return this.fieldAccess(offset).handle.compareAndSet(subject, expected, replacement);
+	}
+
+	@Override
+	public boolean compareAndSwap_long(final Object subject, final long offset, final long expected, final long replacement)
+	{
+		return this.fieldAccess(offset).handle.compareAndSet(subject, expected, replacement);
+	}
+
+	@Override
+	public boolean compareAndSwapObject(final Object subject, final long offset, final Object expected, final Object replacement)
+	{
+		return this.fieldAccess(offset).handle.compareAndSet(subject, expected, replacement);
+	}
+
+
+	@Override
+	public MemoryStatistics createHeapMemoryStatistics()
+	{
+		return createMemoryStatistics(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage());
+	}
+
+	@Override
+	public MemoryStatistics createNonHeapMemoryStatistics()
+	{
+		return createMemoryStatistics(ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage());
+	}
+
+
+
+	/**
+	 * The method handles to access one instance field, typed to an {@link Object} instance and the field's
+	 * primitive type or {@link Object}, so that they can be invoked exactly.
+	 */
+	static final class FieldAccess
+	{
+		static FieldAccess New(final Field field)
+		{
+			if(Modifier.isStatic(field.getModifiers()))
+			{
+				throw new MemoryException("Not an instance field: " + field);
+			}
+
+			final Class<?> valueType = field.getType().isPrimitive()
+				? field.getType()
+				: Object.class
+			;
+			try
+			{
+				final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+					field.getDeclaringClass(),
+					MethodHandles.lookup()
+				);
+				if(Modifier.isFinal(field.getModifiers()))
+				{
+					// final instance fields can only be written through an accessible field
+					field.setAccessible(true);
+				}
+
+				return new FieldAccess(
+					lookup.unreflectVarHandle(field),
+					lookup.unreflectGetter(field).asType(MethodType.methodType(valueType, Object.class)),
+					lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, valueType))
+				);
+			}
+			catch(final IllegalAccessException | RuntimeException e)
+			{
+				throw new MemoryException(
+					"Field " + field + " is not accessible, its package must be opened to "
+					+ ForeignMemoryAccessor.class.getModule(),
+					e
+				);
+			}
+		}
+
+		final VarHandle    handle;
+		final MethodHandle getter;
+		final MethodHandle setter;
+
+		FieldAccess(final VarHandle handle, final MethodHandle getter, final MethodHandle setter)
+		{
+			super();
+			this.handle = handle;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+	}
+
+}
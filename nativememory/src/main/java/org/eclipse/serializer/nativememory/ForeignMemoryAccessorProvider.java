@@ -0,0 +1,31 @@
+package org.eclipse.serializer.nativememory;
+
+/*-
+ * #%L
+ * Eclipse Serializer NativeMemory
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import org.eclipse.serializer.memory.MemoryAccessor;
+import org.eclipse.serializer.memory.MemoryAccessorProvider;
+
+/**
+ * Simple java service provider for the
+ * ForeignMemoryAccessor, which needs no native library.
+ */
+public class ForeignMemoryAccessorProvider implements MemoryAccessorProvider
+{
+	@Override
+	public MemoryAccessor create()
+	{
+		return ForeignMemoryAccessor.New();
+	}
+}
@@ -15,10 +15,14 @@ package org.eclipse.serializer.persistence.binary.java.lang;
  */
 
 import org.eclipse.serializer.util.X;
+import org.eclipse.serializer.collections.types.XGettingSequence;
 import org.eclipse.serializer.persistence.binary.types.AbstractBinaryHandlerCustom;
 import org.eclipse.serializer.persistence.binary.types.Binary;
 import org.eclipse.serializer.persistence.types.PersistenceReferenceLoader;
 import org.eclipse.serializer.persistence.types.PersistenceStoreHandler;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDefinitionMemberFieldGeneric;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDescription;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDescriptionMember;
 
 public abstract class AbstractBinaryHandlerAbstractStringBuilder<B/*extends AbstractStringBuilder*/>
 extends AbstractBinaryHandlerCustom<B>
@@ -36,19 +40,47 @@ extends AbstractBinaryHandlerCustom<B>
 
 
 
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	private final boolean compactChars;
+
+
+
 	///////////////////////////////////////////////////////////////////////////
 	// constructors //
 	/////////////////
 
 	public AbstractBinaryHandlerAbstractStringBuilder(final Class<B> type)
 	{
-		super(
-			type,
-			CustomFields(
+		this(type, false);
+	}
+	
+	/**
+	 * @param type         the handled type.
+	 * @param compactChars whether the chars are stored in the compact chars layout, i.e. a coder byte followed
+	 *                     by either Latin-1 bytes or UTF-16 chars, instead of always UTF-16 chars.
+	 */
+	public AbstractBinaryHandlerAbstractStringBuilder(final Class<B> type, final boolean compactChars)
+	{
+		super(type, Fields(compactChars));
+		this.compactChars = compactChars;
+	}
+	
+	static XGettingSequence<? extends PersistenceTypeDefinitionMemberFieldGeneric> Fields(final boolean compactChars)
+	{
+		return compactChars
+			? CustomFields(
+				CustomField(long.class, "capacity"),
+				CustomField(byte.class, "coder"),
+				bytes("value")
+			)
+			: CustomFields(
 				CustomField(long.class, "capacity"),
 				chars("value")
 			)
-		);
+		;
 	}
 
 
@@ -75,6 +107,29 @@ extends AbstractBinaryHandlerCustom<B>
 		data.storeCharsAsList(OFFSET_CHARS, chars, 0, chars.length);
 	}
 	
+	protected final void storeDataCompact(
+		final Binary data    ,
+		final String string  ,
+		final int    capacity,
+		final long   objectId
+	)
+	{
+		final byte[] latin1 = Binary.toLatin1(string);
+		
+		data.storeEntityHeader(
+			LENGTH_CAPACITY + Binary.calculateBinaryLengthCompactChars(latin1 != null, string.length()),
+			this.typeId(),
+			objectId
+		);
+		data.store_long(OFFSET_CAPACITY, capacity);
+		data.storeStringValueCompact(OFFSET_CHARS, string, latin1);
+	}
+	
+	public final boolean isCompactChars()
+	{
+		return this.compactChars;
+	}
+	
 	protected final int readCapacity(final Binary data)
 	{
 		return X.checkArrayRange(data.read_long(OFFSET_CAPACITY));
@@ -85,6 +140,28 @@ extends AbstractBinaryHandlerCustom<B>
 		return data.build_chars(OFFSET_CHARS);
 	}
 	
+	protected final String readStringCompact(final Binary data)
+	{
+		return data.buildStringCompact(OFFSET_CHARS);
+	}
+	
+	/**
+	 * @param data the binary data of the instance.
+	 * @return whether the chars of the passed data are stored in the compact chars layout, regardless of
+	 *         {@link #isCompactChars()}, see {@link Binary#isCompactChars(long)}.
+	 */
+	protected final boolean hasCompactChars(final Binary data)
+	{
+		return data.isCompactChars(OFFSET_CHARS);
+	}
+	
+	@Override
+	public boolean isReadableLayout(final PersistenceTypeDescription description)
+	{
+		// records of both chars layouts are read, see #hasCompactChars.
+		return PersistenceTypeDescriptionMember.equalStructures(description.allMembers(), Fields(!this.compactChars));
+	}
+	
 	@Override
 	public final boolean hasPersistedReferences()
 	{
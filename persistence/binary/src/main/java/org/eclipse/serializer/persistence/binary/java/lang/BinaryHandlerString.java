@@ -14,10 +14,14 @@ package org.eclipse.serializer.persistence.binary.java.lang;
  * #L%
  */
 
+import org.eclipse.serializer.collections.types.XGettingSequence;
 import org.eclipse.serializer.persistence.binary.types.AbstractBinaryHandlerCustomValueVariableLength;
 import org.eclipse.serializer.persistence.binary.types.Binary;
 import org.eclipse.serializer.persistence.types.PersistenceLoadHandler;
 import org.eclipse.serializer.persistence.types.PersistenceStoreHandler;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDescription;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDescriptionMember;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDefinitionMemberFieldGeneric;
 
 public final class BinaryHandlerString extends AbstractBinaryHandlerCustomValueVariableLength<String, String>
 {
@@ -27,23 +31,51 @@ public final class BinaryHandlerString extends AbstractBinaryHandlerCustomValueV
 	
 	public static BinaryHandlerString New()
 	{
-		return new BinaryHandlerString();
+		return New(false);
 	}
 	
+	/**
+	 * @param compactChars whether strings are stored in the compact chars layout, i.e. a coder byte followed
+	 *                     by either Latin-1 bytes or UTF-16 chars, instead of always UTF-16 chars.
+	 * 
+	 * @return a new {@link BinaryHandlerString} for the specified layout.
+	 */
+	public static BinaryHandlerString New(final boolean compactChars)
+	{
+		return new BinaryHandlerString(compactChars);
+	}
+	
+	static XGettingSequence<? extends PersistenceTypeDefinitionMemberFieldGeneric> Fields(final boolean compactChars)
+	{
+		return compactChars
+			? CustomFields(
+				CustomField(byte.class, "coder"),
+				bytes("value")
+			)
+			: CustomFields(
+				chars("value")
+			)
+		;
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	private final boolean compactChars;
+	
 	
 	
 	///////////////////////////////////////////////////////////////////////////
 	// constructors //
 	/////////////////
 
-	BinaryHandlerString()
+	BinaryHandlerString(final boolean compactChars)
 	{
-		super(
-			String.class,
-			CustomFields(
-				chars("value")
-			)
-		);
+		super(String.class, Fields(compactChars));
+		this.compactChars = compactChars;
 	}
 
 
@@ -60,13 +92,31 @@ public final class BinaryHandlerString extends AbstractBinaryHandlerCustomValueV
 		final PersistenceStoreHandler<Binary> handler
 	)
 	{
-		data.storeStringSingleValue(this.typeId(), objectId, instance);
+		if(this.compactChars)
+		{
+			data.storeStringSingleValueCompact(this.typeId(), objectId, instance);
+		}
+		else
+		{
+			data.storeStringSingleValue(this.typeId(), objectId, instance);
+		}
+	}
+
+	@Override
+	public boolean isReadableLayout(final PersistenceTypeDescription description)
+	{
+		// records of both chars layouts are read, see #create.
+		return PersistenceTypeDescriptionMember.equalStructures(description.allMembers(), Fields(!this.compactChars));
 	}
 
 	@Override
 	public String create(final Binary data, final PersistenceLoadHandler handler)
 	{
-		return data.buildString();
+		// the layout is checked per record, as untyped data does not tell which layout its writer used.
+		return data.isCompactChars(0)
+			? data.buildStringCompact(0)
+			: data.buildString()
+		;
 	}
 	
 	
@@ -85,7 +135,7 @@ public final class BinaryHandlerString extends AbstractBinaryHandlerCustomValueV
 	@Override
 	public String getValidationStateFromBinary(final Binary data)
 	{
-		return data.buildString();
+		return this.create(data, null);
 	}
 
 }
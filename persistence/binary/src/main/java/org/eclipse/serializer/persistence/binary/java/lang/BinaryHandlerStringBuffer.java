@@ -28,7 +28,12 @@ public final class BinaryHandlerStringBuffer extends AbstractBinaryHandlerAbstra
 	
 	public static BinaryHandlerStringBuffer New()
 	{
-		return new BinaryHandlerStringBuffer();
+		return New(false);
+	}
+	
+	public static BinaryHandlerStringBuffer New(final boolean compactChars)
+	{
+		return new BinaryHandlerStringBuffer(compactChars);
 	}
 	
 	
@@ -37,9 +42,9 @@ public final class BinaryHandlerStringBuffer extends AbstractBinaryHandlerAbstra
 	// constructors //
 	/////////////////
 
-	BinaryHandlerStringBuffer()
+	BinaryHandlerStringBuffer(final boolean compactChars)
 	{
-		super(StringBuffer.class);
+		super(StringBuffer.class, compactChars);
 	}
 
 
@@ -56,7 +61,14 @@ public final class BinaryHandlerStringBuffer extends AbstractBinaryHandlerAbstra
 		final PersistenceStoreHandler<Binary> handler
 	)
 	{
-		this.storeData(data, XChars.toCharArray(instance), instance.capacity(), objectId, handler);
+		if(this.isCompactChars())
+		{
+			this.storeDataCompact(data, instance.toString(), instance.capacity(), objectId);
+		}
+		else
+		{
+			this.storeData(data, XChars.toCharArray(instance), instance.capacity(), objectId, handler);
+		}
 	}
 
 	@Override
@@ -72,7 +84,14 @@ public final class BinaryHandlerStringBuffer extends AbstractBinaryHandlerAbstra
 		instance.delete(0, instance.length());
 		
 		instance.ensureCapacity(this.readCapacity(data));
-		instance.append(this.readChars(data));
+		if(this.hasCompactChars(data))
+		{
+			instance.append(this.readStringCompact(data));
+		}
+		else
+		{
+			instance.append(this.readChars(data));
+		}
 	}
 
 }
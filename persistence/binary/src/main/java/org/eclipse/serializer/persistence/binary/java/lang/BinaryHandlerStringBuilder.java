@@ -28,7 +28,12 @@ public final class BinaryHandlerStringBuilder extends AbstractBinaryHandlerAbstr
 	
 	public static BinaryHandlerStringBuilder New()
 	{
-		return new BinaryHandlerStringBuilder();
+		return New(false);
+	}
+	
+	public static BinaryHandlerStringBuilder New(final boolean compactChars)
+	{
+		return new BinaryHandlerStringBuilder(compactChars);
 	}
 	
 	
@@ -37,9 +42,9 @@ public final class BinaryHandlerStringBuilder extends AbstractBinaryHandlerAbstr
 	// constructors //
 	/////////////////
 
-	BinaryHandlerStringBuilder()
+	BinaryHandlerStringBuilder(final boolean compactChars)
 	{
-		super(StringBuilder.class);
+		super(StringBuilder.class, compactChars);
 	}
 
 
@@ -56,7 +61,14 @@ public final class BinaryHandlerStringBuilder extends AbstractBinaryHandlerAbstr
 		final PersistenceStoreHandler<Binary> handler
 	)
 	{
-		this.storeData(data, XChars.toCharArray(instance), instance.capacity(), objectId, handler);
+		if(this.isCompactChars())
+		{
+			this.storeDataCompact(data, instance.toString(), instance.capacity(), objectId);
+		}
+		else
+		{
+			this.storeData(data, XChars.toCharArray(instance), instance.capacity(), objectId, handler);
+		}
 	}
 
 	@Override
@@ -72,7 +84,14 @@ public final class BinaryHandlerStringBuilder extends AbstractBinaryHandlerAbstr
 		instance.delete(0, instance.length());
 		
 		instance.ensureCapacity(this.readCapacity(data));
-		instance.append(this.readChars(data));
+		if(this.hasCompactChars(data))
+		{
+			instance.append(this.readStringCompact(data));
+		}
+		else
+		{
+			instance.append(this.readChars(data));
+		}
 	}
 
 }
@@ -49,8 +49,8 @@ import org.eclipse.serializer.util.UtilStackTrace;
  * {@link PersistenceEagerStoringFieldEvaluator}, and provides default {@link #store}, {@link #updateState},
  * and reference-iteration logic on top of these arrays.
  * <p>
- * Concrete subclasses are {@link BinaryHandlerGenericType} (regular classes) and
- * {@link BinaryHandlerGenericEnum} (enums). The base class is also reused by reflective legacy handlers
+ * Concrete subclasses are {@link BinaryHandlerGenericType} (regular classes), {@link BinaryHandlerGeneratedType}
+ * (regular classes with generated value accessors) and {@link BinaryHandlerGenericEnum} (enums). The base class is also reused by reflective legacy handlers
  * via {@link AbstractBinaryLegacyTypeHandlerReflective}.
  *
  * @param <T> the runtime type handled.
@@ -381,6 +381,22 @@ implements PersistenceTypeHandlerReflective<Binary, T>
 		}
 	}
 	
+	/**
+	 * @return a {@link BinaryValueAccessor} equivalent to this handler's storers and setters or {@code null}
+	 *         if they cannot be translated, see {@link BinaryValueAccessorGenerator}.
+	 */
+	protected BinaryValueAccessor generateValueAccessor()
+	{
+		return BinaryValueAccessorGenerator.generate(
+			this.storingMembers      ,
+			this.storers             ,
+			this.storingMemoryOffsets,
+			this.setters             ,
+			this.settingMemoryOffsets,
+			this.switchByteOrder
+		);
+	}
+	
 	protected long[] initializeStoringRefMemOffsets()
 	{
 		return objectFieldOffsets(this.type(), this.referenceMembers);
@@ -557,11 +573,16 @@ implements PersistenceTypeHandlerReflective<Binary, T>
 			throw new TypeCastException(this.type(), instance);
 		}
 
-		data.updateFixedSize(instance, this.setters, this.settingMemoryOffsets, handler);
+		this.updateValues(data, instance, handler);
 		
 		this.setPersister(instance, handler);
 	}
 	
+	protected void updateValues(final Binary data, final T instance, final PersistenceLoadHandler handler)
+	{
+		data.updateFixedSize(instance, this.setters, this.settingMemoryOffsets, handler);
+	}
+	
 	private void setPersister(final T instance, final PersistenceLoadHandler handler)
 	{
 		if(this.persisterFields == null)
@@ -269,6 +269,13 @@ extends BinaryLegacyTypeHandler.Abstract<T>
 		return this.typeHandler.isSubTypeInstanceViable();
 	}
 
+	@Override
+	public boolean requiresReferencesForCreation()
+	{
+		// legacy data is translated into an instance created without any values, see #internalCreate.
+		return false;
+	}
+
 	@Override
 	public Object[] collectEnumConstants()
 	{
@@ -19,6 +19,7 @@ import static org.eclipse.serializer.util.X.mayNull;
 import static org.eclipse.serializer.util.X.notNull;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -143,6 +144,16 @@ public abstract class Binary implements Chunk
 		SIZED_ARRAY_OFFSET_ELEMENTS = SIZED_ARRAY_LENGTH_HEADER  // the element list begins after the header
 	;
 	
+	/* compact chars binary layout:
+	 * [1 byte coder][byte list of either one Latin-1 byte per char or the UTF-16 chars]
+	 * Told apart from the regular chars list by its first long, see isCompactChars(long).
+	 */
+	private static final byte
+		COMPACT_CHARS_CODER_LATIN1 = 0,
+		COMPACT_CHARS_CODER_UTF16  = 1
+	;
+	private static final long COMPACT_CHARS_OFFSET_LIST = Byte.BYTES;
+	
 	/**
 	 * Obviously 2 references: the key and the value.
 	 */
@@ -380,6 +391,45 @@ public abstract class Binary implements Chunk
 	{
 		return toBinaryListTotalByteLength(count << 1);  // header plus 2 bytes per char
 	}
+
+	/**
+	 * @param isLatin1 whether all chars are stored as Latin-1, see {@link #toLatin1(String)}.
+	 * @param count    the number of chars.
+	 *
+	 * @return the byte length of {@code count} chars in the compact chars layout (coder byte plus byte list).
+	 */
+	public static long calculateBinaryLengthCompactChars(final boolean isLatin1, final long count)
+	{
+		return COMPACT_CHARS_OFFSET_LIST + toBinaryListTotalByteLength(isLatin1 ? count : count << 1);
+	}
+
+	/**
+	 * Returns the Latin-1 bytes of the passed string or {@code null} if it contains chars outside of the
+	 * Latin-1 range. For the JDK's compact strings, this is a plain copy of the string's internal bytes.
+	 *
+	 * @param string the string to encode.
+	 *
+	 * @return the string's Latin-1 bytes or {@code null}.
+	 */
+	public static byte[] toLatin1(final String string)
+	{
+		final byte[] bytes = string.getBytes(StandardCharsets.ISO_8859_1);
+		if(bytes.length != string.length())
+		{
+			// supplementary chars are encoded as one replacement char.
+			return null;
+		}
+		for(int i = 0; i < bytes.length; i++)
+		{
+			// unmappable chars are replaced by '?', so only those have to be checked.
+			if(bytes[i] == '?' && string.charAt(i) != '?')
+			{
+				return null;
+			}
+		}
+
+		return bytes;
+	}
 		
 	
 	
@@ -539,7 +589,21 @@ public abstract class Binary implements Chunk
 			: this.get_longFromAddress(this.loadItemEntityAddress() + OFFSET_OID)
 		;
 	}
-			
+
+	/**
+	 * Computes the {@link BinaryChangeTracker#fingerprint(long, long) fingerprint} of the loaded entity record,
+	 * header included, just like a storer does for the records it writes.
+	 *
+	 * @return the record's fingerprint or {@link BinaryChangeTracker#NO_FINGERPRINT} for skip and dummy items.
+	 */
+	public final long getBuildItemFingerprint()
+	{
+		return this.isProper()
+			? BinaryChangeTracker.fingerprint(this.loadItemEntityAddress(), this.internalBuildItemTotalLength())
+			: BinaryChangeTracker.NO_FINGERPRINT
+		;
+	}
+
 	/**
 	 * Reserves space for an entity header in the underlying chunk and writes the supplied length, type id,
 	 * and object id into it. Subsequent {@code store_xxx} calls append the entity's content right after.
@@ -1401,6 +1465,68 @@ public abstract class Binary implements Chunk
 	{
 		this.storeCharsAsList(binaryOffset, chars, offset, length);
 	}
+
+	public final void storeStringSingleValueCompact(
+		final long   typeId  ,
+		final long   objectId,
+		final String string
+	)
+	{
+		final byte[] latin1 = toLatin1(string);
+		this.storeEntityHeader(
+			calculateBinaryLengthCompactChars(latin1 != null, string.length()),
+			typeId,
+			objectId
+		);
+		this.storeStringValueCompact(0, string, latin1);
+	}
+	
+	/**
+	 * Stores the passed string in the compact chars layout.
+	 * 
+	 * @param binaryOffset the offset to store the string at.
+	 * @param string       the string to store.
+	 * @param latin1       the string's Latin-1 bytes, see {@link #toLatin1(String)}, or {@code null}.
+	 * 
+	 * @return the offset after the stored string.
+	 */
+	public final long storeStringValueCompact(
+		final long   binaryOffset,
+		final String string      ,
+		final byte[] latin1
+	)
+	{
+		if(latin1 == null)
+		{
+			return this.storeStringValueCompactUtf16(binaryOffset, string);
+		}
+		
+		this.store_byte(binaryOffset, COMPACT_CHARS_CODER_LATIN1);
+		this.storeListHeader(binaryOffset + COMPACT_CHARS_OFFSET_LIST, latin1.length, latin1.length);
+		this.store_bytesToAddress(
+			this.address + binaryOffset + COMPACT_CHARS_OFFSET_LIST + LIST_OFFSET_ELEMENTS,
+			latin1
+		);
+		
+		return binaryOffset + calculateBinaryLengthCompactChars(true, latin1.length);
+	}
+	
+	private long storeStringValueCompactUtf16(final long binaryOffset, final String string)
+	{
+		// the chars are stored as such to be subject to byte order handling, but listed as bytes.
+		final int  length               = string.length();
+		final long elementsBinaryLength = (long)length << 1;
+		final long elementsDataAddress  = this.address + binaryOffset + COMPACT_CHARS_OFFSET_LIST + LIST_OFFSET_ELEMENTS;
+		
+		this.store_byte(binaryOffset, COMPACT_CHARS_CODER_UTF16);
+		this.storeListHeader(binaryOffset + COMPACT_CHARS_OFFSET_LIST, elementsBinaryLength, elementsBinaryLength);
+		for(int i = 0; i < length; i++)
+		{
+			this.set_charToAddress(elementsDataAddress + ((long)i << 1), string.charAt(i));
+		}
+		
+		return binaryOffset + calculateBinaryLengthCompactChars(false, length);
+	}
 	
 	
 	public final void storeReferences(
@@ -1451,6 +1577,19 @@ public abstract class Binary implements Chunk
 		}
 	}
 
+	public final void storeFixedSize(
+		final PersistenceStoreHandler<Binary> handler      ,
+		final long                            contentLength,
+		final long                            typeId       ,
+		final long                            objectId     ,
+		final Object                          instance     ,
+		final BinaryValueAccessor             accessor
+	)
+	{
+		this.storeEntityHeader(contentLength, typeId, objectId);
+		accessor.storeValues(instance, this.address, handler);
+	}
+
 	public final String[] buildStrings(final long stringsListOffset)
 	{
 		// validation is done on each single string
@@ -1635,6 +1774,60 @@ public abstract class Binary implements Chunk
 		// since Java 9, there is no sane way to build a string without copying the loaded data multiple times.
 		return String.valueOf(this.build_chars(offset));
 	}
+	
+	/**
+	 * Returns whether the chars at the passed offset, which must extend to the end of the entity, are stored in
+	 * the compact chars layout, see {@link #storeStringValueCompact(long, String, byte[])}, or as a regular
+	 * chars list. The total length in the header of a regular chars list always equals the remaining content
+	 * length, whereas the first long of the compact layout, made up of the coder byte and the following list
+	 * header, never does.
+	 * 
+	 * @param offset the offset of the chars.
+	 * 
+	 * @return whether the chars are stored in the compact chars layout.
+	 */
+	public final boolean isCompactChars(final long offset)
+	{
+		final long remainingLength = this.getLoadItemAvailableContentLength() - offset;
+		
+		// too short for both layouts, reading it as a regular list reports it as malformed.
+		return remainingLength >= LIST_OFFSET_ELEMENTS
+			&& this.get_longFromAddress(this.loadItemEntityContentAddress() + offset) != remainingLength
+		;
+	}
+	
+	/**
+	 * Builds a string stored in the compact chars layout, see {@link #storeStringValueCompact(long, String, byte[])}.
+	 * Latin-1 chars are read as bytes, without an intermediate {@code char[]}.
+	 * 
+	 * @param offset the offset of the compact chars.
+	 * 
+	 * @return the built string.
+	 */
+	public final String buildStringCompact(final long offset)
+	{
+		final long listOffset = offset + COMPACT_CHARS_OFFSET_LIST;
+		final int  byteCount  = X.checkArrayRange(this.getBinaryListElementCountValidating(listOffset, Byte.BYTES));
+		final byte coder      = this.read_byte(offset);
+		if(coder == COMPACT_CHARS_CODER_LATIN1)
+		{
+			final byte[] bytes = new byte[byteCount];
+			this.update_bytesFromAddress(this.binaryListElementsAddress(listOffset), bytes);
+			
+			return new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+		if(coder != COMPACT_CHARS_CODER_UTF16 || (byteCount & 1) != 0)
+		{
+			throw new BinaryPersistenceException(
+				"Invalid compact chars of entity " + this.getBuildItemObjectId() + " at offset " + offset
+			);
+		}
+		
+		final char[] chars = new char[byteCount >>> 1];
+		this.update_charsFromAddress(this.binaryListElementsAddress(listOffset), chars);
+		
+		return String.valueOf(chars);
+	}
 
 	
 	public final byte[] create_bytes()
@@ -2302,6 +2495,15 @@ public abstract class Binary implements Chunk
 		}
 	}
 
+	public final void updateFixedSize(
+		final Object                 instance,
+		final BinaryValueAccessor    accessor,
+		final PersistenceLoadHandler handler
+	)
+	{
+		accessor.setValues(this.loadItemEntityContentAddress(), instance, handler);
+	}
+
 		
 	/**
 	 * Updates the passed array up to the size defined by the binary data, returns the size.
@@ -0,0 +1,189 @@
+package org.eclipse.serializer.persistence.binary.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence Binary
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.eclipse.serializer.util.X.notNull;
+
+import org.eclipse.serializer.collections.HashMapIdId;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.types.PersistenceObjectRegistry;
+
+
+/**
+ * Keeps a compact fingerprint per entity: a 64-bit hash of the binary record last written for its object id.
+ * <p>
+ * A {@link BinaryStorer.Creator} that has been created with a change tracker passes it to all its storers.
+ * Every storer records the fingerprints of the entities it writes, but they are only taken over by the tracker
+ * once the storer's commit has been written successfully, so a tracker always reflects the persisted state.
+ * A {@link BinaryStorer.ChangeTracking} storer uses the fingerprints to drop entities whose record is identical
+ * to the one already persisted, see {@link BinaryStorer.ChangeTracking#storeChanged(Object)}.
+ * <p>
+ * A {@link BinaryLoader.Creator} created with the same change tracker, see
+ * {@link BinaryLoader#CreatorSimple(boolean, java.util.concurrent.Executor, int, BinaryChangeTracker)}, passes it to
+ * all its loaders, which take over the fingerprints of the entity records they load once the loaded instances are
+ * built. Entities that have been loaded by loaders without a tracker (or written by storers without one) have no
+ * fingerprint and are considered changed, i.e. the first change-tracking store of such an entity always writes it.
+ */
+public interface BinaryChangeTracker
+{
+	/**
+	 * The fingerprint value meaning "unknown", i.e. the entity is always considered changed.
+	 */
+	public long NO_FINGERPRINT = 0L;
+
+	// 64-bit primes as used by xxHash
+	static final long PRIME_1 = 0x9E3779B185EBCA87L;
+	static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+
+	/**
+	 * Returns the fingerprint of the record last written for the passed object id or {@link #NO_FINGERPRINT}.
+	 *
+	 * @param objectId the object id of the entity
+	 * @return the entity's fingerprint or {@link #NO_FINGERPRINT}
+	 */
+	public long fingerprint(long objectId);
+
+	/**
+	 * Takes over the fingerprints of a successfully written commit. A fingerprint value of
+	 * {@link #NO_FINGERPRINT} replaces the known fingerprint of the object id, so the entity is considered changed.
+	 *
+	 * @param committedFingerprints the fingerprints of the written entities, mapped by object id
+	 */
+	public void update(HashMapIdId committedFingerprints);
+
+	/**
+	 * Discards the fingerprints of all object ids that are no longer associated with a live instance in the passed
+	 * object registry. As the registry itself, the fingerprints would otherwise grow with every entity ever stored.
+	 *
+	 * @param objectRegistry the registry to check the object ids against
+	 * @return the number of discarded fingerprints
+	 */
+	public long cleanUp(PersistenceObjectRegistry objectRegistry);
+
+	/**
+	 * @return the number of tracked fingerprints.
+	 */
+	public long size();
+
+	/**
+	 * Discards all fingerprints, so that every entity is considered changed again.
+	 */
+	public void clear();
+
+
+
+	/**
+	 * Computes the fingerprint of the passed memory range, never {@link #NO_FINGERPRINT}.
+	 * <p>
+	 * The hash is not cryptographically secure, but the probability of two different records of the same
+	 * entity having the same fingerprint is in the order of 2<sup>-64</sup>.
+	 *
+	 * @param address the start address of the range
+	 * @param length the length in bytes of the range
+	 * @return the range's fingerprint
+	 */
+	public static long fingerprint(final long address, final long length)
+	{
+		final long bound     = address + length;
+		final long wordBound = address + (length & ~(Long.BYTES - 1));
+
+		long hash = length * PRIME_1;
+		long a = address;
+		for(; a < wordBound; a += Long.BYTES)
+		{
+			hash = Long.rotateLeft(hash ^ XMemory.get_long(a) * PRIME_2, 31) * PRIME_1;
+		}
+		for(; a < bound; a++)
+		{
+			hash = Long.rotateLeft(hash ^ (XMemory.get_byte(a) & 0xFFL) * PRIME_2, 11) * PRIME_1;
+		}
+
+		// murmur3 finalization mix, so that every input bit affects every output bit.
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+
+		return hash == NO_FINGERPRINT ? 1L : hash;
+	}
+
+	public static BinaryChangeTracker New()
+	{
+		return new BinaryChangeTracker.Default(HashMapIdId.New(1024));
+	}
+
+	/**
+	 * Thread-safe default implementation, synchronized on the instance itself.
+	 */
+	public final class Default implements BinaryChangeTracker
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final HashMapIdId fingerprints;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Default(final HashMapIdId fingerprints)
+		{
+			super();
+			this.fingerprints = notNull(fingerprints);
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public final synchronized long fingerprint(final long objectId)
+		{
+			return this.fingerprints.get(objectId, NO_FINGERPRINT);
+		}
+
+		@Override
+		public final synchronized void update(final HashMapIdId committedFingerprints)
+		{
+			this.fingerprints.putAll(committedFingerprints);
+		}
+
+		@Override
+		public final synchronized long cleanUp(final PersistenceObjectRegistry objectRegistry)
+		{
+			return this.fingerprints.removeBy(objectId -> !objectRegistry.containsLiveObject(objectId));
+		}
+
+		@Override
+		public final synchronized long size()
+		{
+			return this.fingerprints.size();
+		}
+
+		@Override
+		public final synchronized void clear()
+		{
+			this.fingerprints.clear();
+		}
+
+	}
+
+}
@@ -0,0 +1,715 @@
+package org.eclipse.serializer.persistence.binary.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence Binary
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.eclipse.serializer.util.X.notNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.collections.HashMapIdObject;
+import org.eclipse.serializer.collections.types.XGettingSequence;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.binary.exceptions.BinaryPersistenceException;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDescriptionMember;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDescriptionMemberFieldGenericComplex;
+import org.eclipse.serializer.persistence.types.PersistenceTypeHandler;
+import org.eclipse.serializer.persistence.types.PersistenceTypeHandlerLookup;
+
+/**
+ * Transcoder between the regular entity format written by {@link BinaryStorer}s and read by
+ * {@link BinaryLoader}s and a compact wire format for self-contained messages, e.g. of a serializer.
+ * <p>
+ * The regular format spends 24 bytes on every entity header and 8 bytes on every reference and every
+ * binary list header value. The compact format encodes a message as a marker byte followed by its entities,
+ * each of which consists of
+ * <ul>
+ *   <li>a variable-length index into the message's type table, the first occurrence of a type being
+ *       followed by its type id,</li>
+ *   <li>the variable-length difference of its object id to the previous entity's object id,</li>
+ *   <li>its content, with every reference encoded as the variable-length difference to the entity's own object
+ *       id and every binary list header as variable-length values. Primitive values are copied as they are.</li>
+ * </ul>
+ * The content layout is derived from the type handler's {@link PersistenceTypeHandler#instanceMembers()},
+ * just like the reference traversal of the storage. Entities whose content does not match that layout are
+ * transferred with their content copied as it is. Decoding restores the regular format exactly, including all
+ * object ids, so loading works unchanged.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public interface BinaryCompactFormat
+{
+	/**
+	 * Encodes the passed data in the regular format into one compact message.
+	 *
+	 * @param data the entity data in the regular format.
+	 *
+	 * @return the compact message.
+	 */
+	public Binary encode(Binary data);
+
+	/**
+	 * Decodes the compact messages contained in the passed data's buffers into the regular format.
+	 *
+	 * @param data the data containing one compact message per buffer.
+	 *
+	 * @return the entity data in the regular format.
+	 */
+	public Binary decode(Binary data);
+
+
+
+	/**
+	 * Creates a new {@link BinaryCompactFormat}.
+	 *
+	 * @param typeLookup      the lookup for the type handlers describing the entities' layouts.
+	 * @param switchByteOrder whether the regular format uses a non-native byte order.
+	 *
+	 * @return the newly created format.
+	 */
+	public static BinaryCompactFormat New(
+		final PersistenceTypeHandlerLookup<Binary> typeLookup     ,
+		final boolean                              switchByteOrder
+	)
+	{
+		return new BinaryCompactFormat.Default(
+			notNull(typeLookup),
+			switchByteOrder
+		);
+	}
+
+	/**
+	 * Default {@link BinaryCompactFormat} implementation. Keeps one compiled layout per type id.
+	 */
+	public final class Default implements BinaryCompactFormat
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		// first byte of every compact message, to detect messages in the regular format early.
+		static final byte MESSAGE_MARKER = (byte)0xC5;
+
+		static final int
+			HEADER_LENGTH      = Binary.entityHeaderLength(),
+			LIST_HEADER_LENGTH = Long.BYTES * 2
+		;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final PersistenceTypeHandlerLookup<Binary> typeLookup     ;
+		private final ByteOrder                            byteOrder      ;
+		private final HashMapIdObject<Layout>              layouts        ;
+		private final BulkList<Layout>                     decodingTypes  ;
+		private       int                                  encodingStamp  ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Default(final PersistenceTypeHandlerLookup<Binary> typeLookup, final boolean switchByteOrder)
+		{
+			super();
+			this.typeLookup    = typeLookup;
+			this.byteOrder     = switchByteOrder
+				? XMemory.nativeByteOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN
+				: XMemory.nativeByteOrder()
+			;
+			this.layouts       = HashMapIdObject.New();
+			this.decodingTypes = BulkList.New();
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		private Layout layout(final long typeId)
+		{
+			Layout layout = this.layouts.get(typeId);
+			if(layout == null)
+			{
+				this.layouts.add(typeId, layout = new Layout(typeId, this.compileMembers(typeId)));
+			}
+
+			return layout;
+		}
+
+		private Member[] compileMembers(final long typeId)
+		{
+			final PersistenceTypeHandler<Binary, ?> handler = this.typeLookup.lookupTypeHandler(typeId);
+			if(handler == null)
+			{
+				return null;
+			}
+
+			try
+			{
+				return compile(handler.instanceMembers());
+			}
+			catch(final BinaryPersistenceException e)
+			{
+				// not describable, so entities of this type are transferred as they are.
+				return null;
+			}
+		}
+
+		static Member[] compile(final XGettingSequence<? extends PersistenceTypeDescriptionMember> members)
+		{
+			final BulkList<Member> compiled = BulkList.New();
+			int primitiveLength = 0;
+			for(final PersistenceTypeDescriptionMember member : members)
+			{
+				if(!member.isVariableLength() && !member.isReference())
+				{
+					// consecutive primitives are copied at once.
+					primitiveLength += member.persistentMinimumLength();
+					continue;
+				}
+				if(primitiveLength != 0)
+				{
+					compiled.add(new Primitives(primitiveLength));
+					primitiveLength = 0;
+				}
+
+				if(member.isReference())
+				{
+					compiled.add(Reference.INSTANCE);
+				}
+				else if(member instanceof PersistenceTypeDescriptionMemberFieldGenericComplex)
+				{
+					compiled.add(new ComplexList(
+						compile(((PersistenceTypeDescriptionMemberFieldGenericComplex)member).members())
+					));
+				}
+				else if(member.hasReferences())
+				{
+					throw new BinaryPersistenceException("Unhandled variable length member: " + member);
+				}
+				else
+				{
+					compiled.add(PrimitiveList.INSTANCE);
+				}
+			}
+			if(primitiveLength != 0)
+			{
+				compiled.add(new Primitives(primitiveLength));
+			}
+
+			return compiled.toArray(Member.class);
+		}
+
+		@Override
+		public Binary encode(final Binary data)
+		{
+			// like loading, every buffer's data spans from its start to its limit, regardless of its position.
+			long length = 0;
+			for(final ByteBuffer buffer : data.buffers())
+			{
+				length += buffer.limit();
+			}
+
+			final Output out = new Output(length / 2 + 64, this.byteOrder);
+			out.buffer.put(MESSAGE_MARKER);
+
+			final int stamp = ++this.encodingStamp;
+			int  typeCount        = 0;
+			long previousObjectId = 0;
+			for(final ByteBuffer buffer : data.buffers())
+			{
+				final ByteBuffer in    = buffer.duplicate().position(0).order(this.byteOrder);
+				final int        bound = in.limit();
+				while(in.position() < bound)
+				{
+					final int  start    = in.position();
+					final long length_  = in.getLong(start);
+					final long typeId   = in.getLong(start + Long.BYTES);
+					final long objectId = in.getLong(start + Long.BYTES * 2);
+					if(length_ < HEADER_LENGTH || length_ > bound - start)
+					{
+						throw new BinaryPersistenceException("Invalid entity length " + length_ + " at " + start);
+					}
+
+					final Layout layout = this.layout(typeId);
+					final boolean isNewType = layout.encodingStamp != stamp;
+					if(isNewType)
+					{
+						layout.encodingStamp = stamp;
+						layout.encodingIndex = typeCount++;
+					}
+
+					final int contentEnd = start + (int)length_;
+					in.limit(contentEnd).position(start + HEADER_LENGTH);
+					if(!encodeEntity(in, out, layout, isNewType, objectId, previousObjectId))
+					{
+						in.limit(contentEnd).position(start + HEADER_LENGTH);
+						encodeRawEntity(in, out, layout, isNewType, objectId, previousObjectId);
+					}
+					in.limit(bound).position(contentEnd);
+
+					previousObjectId = objectId;
+				}
+			}
+
+			return ChunksWrapper.New(out.yield());
+		}
+
+		private static void writeEntityHeader(
+			final Output  out             ,
+			final Layout  layout          ,
+			final boolean isNewType       ,
+			final boolean isRaw           ,
+			final long    objectId        ,
+			final long    previousObjectId
+		)
+		{
+			out.putVarLong((long)layout.encodingIndex << 1 | (isRaw ? 1 : 0));
+			if(isNewType)
+			{
+				out.putVarLong(layout.typeId);
+			}
+			out.putVarLong(zigZag(objectId - previousObjectId));
+		}
+
+		private static boolean encodeEntity(
+			final ByteBuffer in              ,
+			final Output     out             ,
+			final Layout     layout          ,
+			final boolean    isNewType       ,
+			final long       objectId        ,
+			final long       previousObjectId
+		)
+		{
+			if(layout.members == null)
+			{
+				return false;
+			}
+
+			final int mark = out.buffer.position();
+			writeEntityHeader(out, layout, isNewType, false, objectId, previousObjectId);
+			if(encodeMembers(layout.members, in, out, objectId) && !in.hasRemaining())
+			{
+				return true;
+			}
+
+			// the content does not match the layout, so the entity is transferred as it is.
+			out.buffer.position(mark);
+			return false;
+		}
+
+		private static void encodeRawEntity(
+			final ByteBuffer in              ,
+			final Output     out             ,
+			final Layout     layout          ,
+			final boolean    isNewType       ,
+			final long       objectId        ,
+			final long       previousObjectId
+		)
+		{
+			writeEntityHeader(out, layout, isNewType, true, objectId, previousObjectId);
+			out.putVarLong(in.remaining());
+			out.putBytes(in, in.remaining());
+		}
+
+		static boolean encodeMembers(final Member[] members, final ByteBuffer in, final Output out, final long objectId)
+		{
+			for(final Member member : members)
+			{
+				if(!member.encode(in, out, objectId))
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		static void decodeMembers(final Member[] members, final ByteBuffer in, final Output out, final long objectId)
+		{
+			for(final Member member : members)
+			{
+				member.decode(in, out, objectId);
+			}
+		}
+
+		@Override
+		public Binary decode(final Binary data)
+		{
+			long length = 0;
+			for(final ByteBuffer buffer : data.buffers())
+			{
+				length += buffer.limit();
+			}
+
+			final Output out = new Output(length * 4 + 64, this.byteOrder);
+			for(final ByteBuffer buffer : data.buffers())
+			{
+				this.decodeMessage(buffer.duplicate().position(0), out);
+			}
+
+			return ChunksWrapper.New(out.yield());
+		}
+
+		private void decodeMessage(final ByteBuffer in, final Output out)
+		{
+			if(!in.hasRemaining() || in.get() != MESSAGE_MARKER)
+			{
+				throw new BinaryPersistenceException("Data is not in the compact format.");
+			}
+
+			final BulkList<Layout> types = this.decodingTypes;
+			types.clear();
+
+			long objectId = 0;
+			while(in.hasRemaining())
+			{
+				final long header    = readVarLong(in);
+				final long typeIndex = header >>> 1;
+				if(typeIndex == types.size())
+				{
+					types.add(this.layout(readVarLong(in)));
+				}
+				else if(typeIndex > types.size())
+				{
+					throw new BinaryPersistenceException("Invalid type index " + typeIndex);
+				}
+				final Layout layout = types.at(typeIndex);
+				objectId += unZigZag(readVarLong(in));
+
+				final int start = out.ensure(HEADER_LENGTH).position();
+				out.buffer
+					.putLong(0L)
+					.putLong(layout.typeId)
+					.putLong(objectId)
+				;
+				if((header & 1) != 0)
+				{
+					out.putBytes(in, checkedLength(readVarLong(in), in));
+				}
+				else if(layout.members != null)
+				{
+					decodeMembers(layout.members, in, out, objectId);
+				}
+				else
+				{
+					throw new BinaryPersistenceException("No layout for compact entity of type id " + layout.typeId);
+				}
+				out.buffer.putLong(start, out.buffer.position() - start);
+			}
+			types.clear();
+		}
+
+		static int checkedLength(final long length, final ByteBuffer in)
+		{
+			if(length < 0 || length > in.remaining())
+			{
+				throw new BinaryPersistenceException("Invalid length " + length + " at " + in.position());
+			}
+
+			return (int)length;
+		}
+
+		static long zigZag(final long value)
+		{
+			return value << 1 ^ value >> 63;
+		}
+
+		static long unZigZag(final long value)
+		{
+			return value >>> 1 ^ -(value & 1);
+		}
+
+		static long readVarLong(final ByteBuffer in)
+		{
+			final int start = in.position();
+			long value = 0;
+			for(int shift = 0; shift < Long.SIZE; shift += 7)
+			{
+				if(!in.hasRemaining())
+				{
+					throw new BinaryPersistenceException("Truncated variable length value at " + start);
+				}
+				final byte b = in.get();
+				value |= (long)(b & 0x7F) << shift;
+				if(b >= 0)
+				{
+					return value;
+				}
+			}
+
+			// a long has at most 10 groups of 7 bits.
+			throw new BinaryPersistenceException("Invalid variable length value at " + start);
+		}
+
+
+
+		static final class Layout
+		{
+			final long     typeId ;
+			final Member[] members;
+
+			// index in the type table of the message currently being encoded, valid if the stamps match.
+			int encodingStamp, encodingIndex;
+
+			Layout(final long typeId, final Member[] members)
+			{
+				super();
+				this.typeId  = typeId ;
+				this.members = members;
+			}
+		}
+
+		/**
+		 * Growable native output buffer.
+		 */
+		static final class Output
+		{
+			ByteBuffer buffer;
+
+			Output(final long initialCapacity, final ByteOrder byteOrder)
+			{
+				super();
+				this.buffer = XMemory.allocateDirectNative(Math.min(initialCapacity, Integer.MAX_VALUE)).order(byteOrder);
+			}
+
+			final ByteBuffer ensure(final int length)
+			{
+				if(this.buffer.remaining() < length)
+				{
+					final long capacity = Math.max(
+						(long)this.buffer.capacity() * 2,
+						(long)this.buffer.position() + length
+					);
+					if(capacity > Integer.MAX_VALUE)
+					{
+						throw new BinaryPersistenceException("Compact format data exceeds the maximum buffer capacity.");
+					}
+					final ByteBuffer grown = XMemory.allocateDirectNative(capacity).order(this.buffer.order());
+					grown.put(this.buffer.flip());
+					XMemory.deallocateDirectByteBuffer(this.buffer);
+					this.buffer = grown;
+				}
+
+				return this.buffer;
+			}
+
+			final void putVarLong(final long value)
+			{
+				final ByteBuffer buffer = this.ensure(10);
+				long v = value;
+				while((v & ~0x7FL) != 0)
+				{
+					buffer.put((byte)(v & 0x7F | 0x80));
+					v >>>= 7;
+				}
+				buffer.put((byte)v);
+			}
+
+			final void putBytes(final ByteBuffer source, final int length)
+			{
+				final int position = source.position();
+				this.ensure(length).put(this.buffer.position(), source, position, length);
+				this.buffer.position(this.buffer.position() + length);
+				source.position(position + length);
+			}
+
+			final ByteBuffer yield()
+			{
+				return this.buffer.flip();
+			}
+		}
+
+		/**
+		 * Encoding and decoding logic of one part of an entity's content.
+		 */
+		interface Member
+		{
+			/**
+			 * Encodes the member's part of the entity's content.
+			 *
+			 * @return {@code false} if the content does not match the member, e.g. for a list longer than the
+			 *         remaining content. The entity is then transferred as it is.
+			 */
+			public boolean encode(ByteBuffer in, Output out, long objectId);
+
+			public void decode(ByteBuffer in, Output out, long objectId);
+		}
+
+		static final class Primitives implements Member
+		{
+			final int length;
+
+			Primitives(final int length)
+			{
+				super();
+				this.length = length;
+			}
+
+			@Override
+			public boolean encode(final ByteBuffer in, final Output out, final long objectId)
+			{
+				if(this.length > in.remaining())
+				{
+					return false;
+				}
+				out.putBytes(in, this.length);
+
+				return true;
+			}
+
+			@Override
+			public void decode(final ByteBuffer in, final Output out, final long objectId)
+			{
+				out.putBytes(in, checkedLength(this.length, in));
+			}
+		}
+
+		static final class Reference implements Member
+		{
+			static final Reference INSTANCE = new Reference();
+
+			@Override
+			public boolean encode(final ByteBuffer in, final Output out, final long objectId)
+			{
+				if(in.remaining() < Long.BYTES)
+				{
+					return false;
+				}
+
+				// references are mostly close to the referencing entity. 0 is reserved for null.
+				final long reference = in.getLong();
+				out.putVarLong(reference == 0 ? 0 : zigZag(reference - objectId) + 1);
+
+				return true;
+			}
+
+			@Override
+			public void decode(final ByteBuffer in, final Output out, final long objectId)
+			{
+				final long value = readVarLong(in);
+				out.ensure(Long.BYTES).putLong(value == 0 ? 0 : objectId + unZigZag(value - 1));
+			}
+		}
+
+		/**
+		 * Binary list of primitive elements, e.g. the characters of a string.
+		 */
+		static final class PrimitiveList implements Member
+		{
+			static final PrimitiveList INSTANCE = new PrimitiveList();
+
+			@Override
+			public boolean encode(final ByteBuffer in, final Output out, final long objectId)
+			{
+				if(in.remaining() < LIST_HEADER_LENGTH)
+				{
+					return false;
+				}
+				final long byteLength = in.getLong();
+				final long count      = in.getLong();
+				if(byteLength < LIST_HEADER_LENGTH || byteLength - LIST_HEADER_LENGTH > in.remaining())
+				{
+					return false;
+				}
+				out.putVarLong(count);
+				out.putVarLong(byteLength - LIST_HEADER_LENGTH);
+				out.putBytes(in, (int)(byteLength - LIST_HEADER_LENGTH));
+
+				return true;
+			}
+
+			@Override
+			public void decode(final ByteBuffer in, final Output out, final long objectId)
+			{
+				final long count  = readVarLong(in);
+				final int  length = checkedLength(readVarLong(in), in);
+				out.ensure(LIST_HEADER_LENGTH)
+					.putLong(LIST_HEADER_LENGTH + length)
+					.putLong(count)
+				;
+				out.putBytes(in, length);
+			}
+		}
+
+		/**
+		 * Binary list of elements with a layout of their own, e.g. the references of an array.
+		 */
+		static final class ComplexList implements Member
+		{
+			final Member[] elementMembers;
+
+			ComplexList(final Member[] elementMembers)
+			{
+				super();
+				this.elementMembers = elementMembers;
+			}
+
+			@Override
+			public boolean encode(final ByteBuffer in, final Output out, final long objectId)
+			{
+				if(in.remaining() < LIST_HEADER_LENGTH)
+				{
+					return false;
+				}
+				final int  start      = in.position();
+				final long byteLength = in.getLong();
+				final long count      = in.getLong();
+				if(byteLength < LIST_HEADER_LENGTH || byteLength > in.limit() - start)
+				{
+					return false;
+				}
+				final int bound = start + (int)byteLength;
+
+				out.putVarLong(count);
+				for(long i = 0; i < count; i++)
+				{
+					if(!encodeMembers(this.elementMembers, in, out, objectId))
+					{
+						return false;
+					}
+				}
+
+				// elements not matching the list length
+				return in.position() == bound;
+			}
+
+			@Override
+			public void decode(final ByteBuffer in, final Output out, final long objectId)
+			{
+				final long count = readVarLong(in);
+				final int  start = out.ensure(LIST_HEADER_LENGTH).position();
+				out.buffer
+					.putLong(0L)
+					.putLong(count)
+				;
+				for(long i = 0; i < count; i++)
+				{
+					decodeMembers(this.elementMembers, in, out, objectId);
+				}
+				out.buffer.putLong(start, out.buffer.position() - start);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,897 @@
+package org.eclipse.serializer.persistence.binary.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence Binary
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.memory.BufferPool;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.binary.exceptions.BinaryPersistenceException;
+import org.eclipse.serializer.util.X;
+
+
+/**
+ * Block compression of binary data, e.g. of the messages of a serializer or the chunks of a network channel.
+ * <p>
+ * A codec only has to compress and decompress single contiguous blocks of direct memory, see
+ * {@link #compress(ByteBuffer, ByteBuffer)} and {@link #decompress(ByteBuffer, ByteBuffer)}.
+ * {@link #encode(Binary, ByteBuffer, BufferPool)} compresses every channel chunk of a {@link Binary} as one block
+ * into an encoded buffer consisting of the codec's {@link #id()} followed by one frame per chunk:
+ * the raw and the compressed length as little endian <code>int</code> values, followed by the compressed block.
+ * {@link #decode(Binary)} restores the chunks' concatenated data from encoded buffers.
+ * As the frame headers are received data, a raw length exceeding the
+ * {@link #maximumDecompressedLength(int) maximum expansion} of its compressed length is rejected
+ * before any memory is allocated for it, as well as data exceeding an absolute maximum decoded length,
+ * see {@link #decodedLength(Binary, long)}.
+ * <p>
+ * Every codec is identified by an id in the range 1 to {@link #MAXIMUM_ID}, which is recorded in message headers,
+ * so a receiver can {@link #resolve(int, BinaryCompressionCodec) resolve} the codec of every built-in
+ * implementation regardless of its own setting. {@link #None()} has the id 0 and passes data through.
+ * <p>
+ * Compression only pays off if it is cheaper than transferring or writing the saved bytes:
+ * {@link #Lz4()} trades ratio for speed, {@link #Deflate()} the other way round.
+ */
+public interface BinaryCompressionCodec
+{
+	/**
+	 * The id of {@link #None()}, meaning the data is not compressed.
+	 */
+	public int NONE_ID = 0;
+
+	/**
+	 * The highest valid codec id, as ids are recorded in four bits of a message header.
+	 */
+	public int MAXIMUM_ID = 0xF;
+
+	public int LZ4_ID     = 1;
+	public int DEFLATE_ID = 2;
+
+	/**
+	 * The default absolute maximum length encoded data may be decoded to, 1 GiB.
+	 */
+	public long DEFAULT_MAXIMUM_DECODED_LENGTH = 1L << 30;
+
+	// id byte and, per chunk, the raw and the compressed length
+	static final int ENCODED_HEADER_LENGTH = Byte.BYTES;
+	static final int FRAME_HEADER_LENGTH   = Integer.BYTES + Integer.BYTES;
+
+	// the highest ratio of the deflate format: 258 bytes per match of at least 2 bits, plus the block headers
+	static final int DEFAULT_MAXIMUM_RATIO         = 1032;
+	static final int DEFAULT_MAXIMUM_RATIO_PADDING =   64;
+
+	/**
+	 * @return the codec's id, in the range 1 to {@link #MAXIMUM_ID} for compressing codecs.
+	 */
+	public int id();
+
+	/**
+	 * @return a human readable name of the codec.
+	 */
+	public String name();
+
+	/**
+	 * @param length the length of a block to be compressed.
+	 * @return the maximum length of the compressed block.
+	 */
+	public int maximumCompressedLength(int length);
+
+	/**
+	 * Returns the length a block of the passed compressed length can decompress to at most.
+	 * Frames claiming a longer raw length are malformed and rejected by {@link #decodedLength(Binary, long)}
+	 * and {@link #decode(Binary, ByteBuffer)}.
+	 * <p>
+	 * The default is the highest ratio of the deflate format, codecs with a lower ratio should override it.
+	 *
+	 * @param compressedLength the length of a compressed block.
+	 * @return the maximum length of the decompressed block.
+	 */
+	public default long maximumDecompressedLength(final int compressedLength)
+	{
+		return (long)compressedLength * DEFAULT_MAXIMUM_RATIO + DEFAULT_MAXIMUM_RATIO_PADDING;
+	}
+
+	/**
+	 * Compresses the remaining bytes of the passed source into the passed target, starting at its position.
+	 * The positions of both buffers are advanced.
+	 *
+	 * @param source the direct buffer to be compressed.
+	 * @param target the direct buffer with at least {@link #maximumCompressedLength(int)} remaining bytes.
+	 * @return the compressed length.
+	 */
+	public int compress(ByteBuffer source, ByteBuffer target);
+
+	/**
+	 * Decompresses the remaining bytes of the passed source into the remaining bytes of the passed target,
+	 * which must exactly match the length of the original data. The positions of both buffers are advanced.
+	 *
+	 * @param source the direct buffer containing one compressed block.
+	 * @param target the direct buffer to decompress into.
+	 * @throws BinaryPersistenceException if the block is malformed.
+	 */
+	public void decompress(ByteBuffer source, ByteBuffer target);
+
+	/**
+	 * @return whether this codec actually compresses, i.e. is not {@link #None()}.
+	 */
+	public default boolean isCompressing()
+	{
+		return true;
+	}
+
+	/**
+	 * @param data the data to be encoded.
+	 * @return the maximum length of the encoded data, see {@link #encode(Binary, ByteBuffer, BufferPool)}.
+	 */
+	public default long maximumEncodedLength(final Binary data)
+	{
+		long length = ENCODED_HEADER_LENGTH;
+		for(final ByteBuffer[] chunkBuffers : channelChunks(data))
+		{
+			length += FRAME_HEADER_LENGTH + this.maximumCompressedLength(X.checkArrayRange(contentLength(chunkBuffers)));
+		}
+
+		return length;
+	}
+
+	/**
+	 * Encodes the passed data into the passed target, starting at its position, and advances the position.
+	 * Chunks consisting of several buffers are gathered into a buffer of the passed pool before being compressed.
+	 *
+	 * @param data the data to be encoded, which is not modified.
+	 * @param target the direct buffer with at least {@link #maximumEncodedLength(Binary)} remaining bytes.
+	 * @param bufferPool the pool to obtain temporary buffers from.
+	 * @return the encoded length.
+	 */
+	public default int encode(final Binary data, final ByteBuffer target, final BufferPool bufferPool)
+	{
+		final ByteBuffer output = target.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		final int        start  = output.position();
+		output.put((byte)this.id());
+
+		for(final ByteBuffer[] chunkBuffers : channelChunks(data))
+		{
+			final int rawLength = X.checkArrayRange(contentLength(chunkBuffers));
+			if(rawLength == 0)
+			{
+				continue;
+			}
+
+			final int frameStart = output.position();
+			output.position(frameStart + FRAME_HEADER_LENGTH);
+			final int compressedLength;
+			if(chunkBuffers.length == 1)
+			{
+				compressedLength = this.compress(content(chunkBuffers[0]), output);
+			}
+			else
+			{
+				final ByteBuffer gathered = bufferPool.allocate(rawLength);
+				try
+				{
+					for(final ByteBuffer buffer : chunkBuffers)
+					{
+						gathered.put(content(buffer));
+					}
+					gathered.flip();
+					compressedLength = this.compress(gathered, output);
+				}
+				finally
+				{
+					bufferPool.release(gathered);
+				}
+			}
+			output.putInt(frameStart, rawLength);
+			output.putInt(frameStart + Integer.BYTES, compressedLength);
+		}
+
+		target.position(output.position());
+
+		return output.position() - start;
+	}
+
+	/**
+	 * Returns the length of the decoded data, which must not exceed {@link #DEFAULT_MAXIMUM_DECODED_LENGTH},
+	 * see {@link #decodedLength(Binary, long)}.
+	 *
+	 * @param data the encoded data, consisting of complete encoded buffers.
+	 * @return the length of the decoded data, see {@link #decode(Binary, ByteBuffer)}.
+	 * @throws BinaryPersistenceException if the data was not encoded by this codec or is malformed.
+	 */
+	public default long decodedLength(final Binary data)
+	{
+		return this.decodedLength(data, DEFAULT_MAXIMUM_DECODED_LENGTH);
+	}
+
+	/**
+	 * Returns the length of the decoded data, as the sum of the raw lengths of all frames.
+	 * As the frame headers are received data, the sum is rejected as soon as it exceeds the passed maximum,
+	 * which bounds the memory a receiver allocates for decoding regardless of the codec's expansion ratio.
+	 *
+	 * @param data the encoded data, consisting of complete encoded buffers.
+	 * @param maximumDecodedLength the absolute maximum length of the decoded data.
+	 * @return the length of the decoded data, see {@link #decode(Binary, ByteBuffer)}.
+	 * @throws BinaryPersistenceException if the data was not encoded by this codec, is malformed or
+	 *         decodes to more than the passed maximum length.
+	 */
+	public default long decodedLength(final Binary data, final long maximumDecodedLength)
+	{
+		long length = 0;
+		for(final ByteBuffer buffer : data.buffers())
+		{
+			final ByteBuffer input = this.validateEncoded(buffer);
+			while(input.hasRemaining())
+			{
+				final int rawLength = this.validateFrame(input);
+				length += rawLength;
+				if(length > maximumDecodedLength)
+				{
+					throw new BinaryPersistenceException(
+						"Decoded length exceeds the maximum of " + maximumDecodedLength + " bytes."
+					);
+				}
+				input.position(input.position() + input.getInt(input.position() - Integer.BYTES));
+			}
+		}
+
+		return length;
+	}
+
+	/**
+	 * Decodes the passed data into the passed target, starting at its position, and advances the position.
+	 *
+	 * @param data the encoded data, consisting of complete encoded buffers.
+	 * @param target the direct buffer with at least {@link #decodedLength(Binary)} remaining bytes.
+	 * @throws BinaryPersistenceException if the data was not encoded by this codec or is malformed.
+	 */
+	public default void decode(final Binary data, final ByteBuffer target)
+	{
+		for(final ByteBuffer buffer : data.buffers())
+		{
+			final ByteBuffer input = this.validateEncoded(buffer);
+			while(input.hasRemaining())
+			{
+				final int rawLength = this.validateFrame(input);
+				final int inputEnd  = input.position() + input.getInt(input.position() - Integer.BYTES);
+				if(rawLength > target.remaining())
+				{
+					throw new BinaryPersistenceException("Malformed " + this.name() + " frame.");
+				}
+
+				final int targetEnd = target.position() + rawLength;
+				this.decompress(input.duplicate().limit(inputEnd), target.duplicate().limit(targetEnd));
+				input.position(inputEnd);
+				target.position(targetEnd);
+			}
+		}
+	}
+
+	/**
+	 * Decodes the passed data into a newly allocated buffer, if it does not decode to more than
+	 * {@link #DEFAULT_MAXIMUM_DECODED_LENGTH}.
+	 *
+	 * @param data the encoded data, consisting of complete encoded buffers.
+	 * @return the decoded data.
+	 * @throws BinaryPersistenceException if the data was not encoded by this codec, is malformed or too long.
+	 */
+	public default Binary decode(final Binary data)
+	{
+		return this.decode(data, DEFAULT_MAXIMUM_DECODED_LENGTH);
+	}
+
+	/**
+	 * Decodes the passed data into a newly allocated buffer, which is only allocated if the data does not decode
+	 * to more than the passed maximum length.
+	 *
+	 * @param data the encoded data, consisting of complete encoded buffers.
+	 * @param maximumDecodedLength the absolute maximum length of the decoded data.
+	 * @return the decoded data.
+	 * @throws BinaryPersistenceException if the data was not encoded by this codec, is malformed or too long.
+	 */
+	public default Binary decode(final Binary data, final long maximumDecodedLength)
+	{
+		final ByteBuffer decoded = XMemory.allocateDirectNative(this.decodedLength(data, maximumDecodedLength));
+		this.decode(data, decoded);
+
+		return ChunksWrapper.New(decoded.flip());
+	}
+
+	private ByteBuffer validateEncoded(final ByteBuffer buffer)
+	{
+		final ByteBuffer input = content(buffer).order(ByteOrder.LITTLE_ENDIAN);
+		if(!input.hasRemaining() || input.get() != this.id())
+		{
+			throw new BinaryPersistenceException("Data is not encoded by the " + this.name() + " codec.");
+		}
+
+		return input;
+	}
+
+	// reads the frame header and returns the raw length, the compressed length precedes the position.
+	private int validateFrame(final ByteBuffer input)
+	{
+		if(input.remaining() < FRAME_HEADER_LENGTH)
+		{
+			throw new BinaryPersistenceException("Malformed " + this.name() + " frame.");
+		}
+		final int rawLength        = input.getInt();
+		final int compressedLength = input.getInt();
+		if(rawLength < 0 || compressedLength < 0 || compressedLength > input.remaining()
+			|| rawLength > this.maximumDecompressedLength(compressedLength)
+		)
+		{
+			throw new BinaryPersistenceException("Malformed " + this.name() + " frame.");
+		}
+
+		return rawLength;
+	}
+
+	private static BulkList<ByteBuffer[]> channelChunks(final Binary data)
+	{
+		final BulkList<ByteBuffer[]> chunks = BulkList.New();
+		data.iterateChannelChunks(chunk -> chunks.add(chunk.buffers()));
+
+		return chunks;
+	}
+
+	// like everywhere else, the content of a data buffer ranges from 0 to its limit, regardless of its position.
+	private static ByteBuffer content(final ByteBuffer buffer)
+	{
+		return buffer.duplicate().position(0);
+	}
+
+	private static long contentLength(final ByteBuffer[] buffers)
+	{
+		long length = 0;
+		for(final ByteBuffer buffer : buffers)
+		{
+			length += buffer.limit();
+		}
+
+		return length;
+	}
+
+
+
+	/**
+	 * Returns the codec with the passed id, which is either the passed configured codec or a built-in one.
+	 *
+	 * @param id the codec id, e.g. read from a message header.
+	 * @param configured the codec configured by the receiver.
+	 * @return the codec with the passed id.
+	 * @throws BinaryPersistenceException if no codec with the passed id is known.
+	 */
+	public static BinaryCompressionCodec resolve(final int id, final BinaryCompressionCodec configured)
+	{
+		if(configured.id() == id)
+		{
+			return configured;
+		}
+		switch(id)
+		{
+			case NONE_ID   : return None();
+			case LZ4_ID    : return Lz4();
+			case DEFLATE_ID: return Deflate();
+			default:
+				throw new BinaryPersistenceException("Unknown compression codec id " + id + ".");
+		}
+	}
+
+	/**
+	 * @return the codec passing the data through without compressing it, which is the default.
+	 */
+	public static BinaryCompressionCodec None()
+	{
+		return None.INSTANCE;
+	}
+
+	/**
+	 * @return the fast LZ4-style codec, see {@link Lz4}.
+	 */
+	public static BinaryCompressionCodec Lz4()
+	{
+		return Lz4.INSTANCE;
+	}
+
+	/**
+	 * @return the deflate codec with the {@link Deflater#BEST_SPEED best speed} compression level.
+	 */
+	public static BinaryCompressionCodec Deflate()
+	{
+		return Deflate(Deflater.BEST_SPEED);
+	}
+
+	/**
+	 * @param level the compression level of the {@link Deflater}, from 0 to 9. The data is decodable regardless
+	 *        of the level.
+	 * @return the deflate codec with the passed compression level.
+	 */
+	public static BinaryCompressionCodec Deflate(final int level)
+	{
+		if(level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+		{
+			throw new IllegalArgumentException("Invalid deflate level: " + level);
+		}
+
+		return new Deflate(level);
+	}
+
+
+
+	/**
+	 * The codec passing data through, see {@link BinaryCompressionCodec#None()}.
+	 */
+	public final class None implements BinaryCompressionCodec
+	{
+		static final None INSTANCE = new None();
+
+		None()
+		{
+			super();
+		}
+
+		@Override
+		public int id()
+		{
+			return NONE_ID;
+		}
+
+		@Override
+		public String name()
+		{
+			return "none";
+		}
+
+		@Override
+		public boolean isCompressing()
+		{
+			return false;
+		}
+
+		@Override
+		public int maximumCompressedLength(final int length)
+		{
+			return length;
+		}
+
+		@Override
+		public long maximumDecompressedLength(final int compressedLength)
+		{
+			return compressedLength;
+		}
+
+		@Override
+		public int compress(final ByteBuffer source, final ByteBuffer target)
+		{
+			final int length = source.remaining();
+			target.put(source);
+
+			return length;
+		}
+
+		@Override
+		public void decompress(final ByteBuffer source, final ByteBuffer target)
+		{
+			if(source.remaining() != target.remaining())
+			{
+				throw new BinaryPersistenceException("Malformed uncompressed block.");
+			}
+			target.put(source);
+		}
+
+	}
+
+	/**
+	 * Pure Java codec writing the LZ4 block format: a greedy compressor hashing four-byte sequences into
+	 * a table of recent positions, with matches of at least four bytes within a window of 64 KiB.
+	 * Ratios are moderate, but compressing and especially decompressing are fast enough for network payloads.
+	 * <p>
+	 * Instances are stateless and thread-safe.
+	 */
+	public final class Lz4 implements BinaryCompressionCodec
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		static final Lz4 INSTANCE = new Lz4();
+
+		static final int
+			MIN_MATCH     = 4                ,
+			LAST_LITERALS = 5                ,
+			MF_LIMIT      = 12               ,
+			MAX_OFFSET    = 0xFFFF           ,
+			HASH_LOG      = 13               ,
+			RUN_MASK      = 0xF              ,
+			SKIP_TRIGGER  = 6
+		;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Lz4()
+		{
+			super();
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public int id()
+		{
+			return LZ4_ID;
+		}
+
+		@Override
+		public String name()
+		{
+			return "lz4";
+		}
+
+		@Override
+		public int maximumCompressedLength(final int length)
+		{
+			return length + length / 255 + 16;
+		}
+
+		@Override
+		public long maximumDecompressedLength(final int compressedLength)
+		{
+			// every length byte of a match adds at most 255 bytes, literals are never expanded.
+			return (long)compressedLength * 0xFF;
+		}
+
+		private static int hash(final int sequence)
+		{
+			return sequence * 0x9E3779B1 >>> Integer.SIZE - HASH_LOG;
+		}
+
+		private static long writeLength(long address, int length)
+		{
+			for(; length >= 0xFF; length -= 0xFF)
+			{
+				XMemory.set_byte(address++, (byte)0xFF);
+			}
+			XMemory.set_byte(address++, (byte)length);
+
+			return address;
+		}
+
+		private static long writeLiterals(
+			final long address      ,
+			final long literalStart ,
+			final int  literalLength,
+			final int  matchToken
+		)
+		{
+			long a = address + 1;
+			if(literalLength >= RUN_MASK)
+			{
+				XMemory.set_byte(address, (byte)(RUN_MASK << 4 | matchToken));
+				a = writeLength(a, literalLength - RUN_MASK);
+			}
+			else
+			{
+				XMemory.set_byte(address, (byte)(literalLength << 4 | matchToken));
+			}
+			XMemory.copyRange(literalStart, a, literalLength);
+
+			return a + literalLength;
+		}
+
+		@Override
+		public int compress(final ByteBuffer source, final ByteBuffer target)
+		{
+			final int  length      = source.remaining();
+			final long base        = XMemory.getDirectByteBufferAddress(source) + source.position();
+			final long targetStart = XMemory.getDirectByteBufferAddress(target) + target.position();
+			if(target.remaining() < this.maximumCompressedLength(length))
+			{
+				throw new IllegalArgumentException("Insufficient target capacity: " + target.remaining());
+			}
+
+			long op     = targetStart;
+			int  anchor = 0;
+			if(length > MF_LIMIT)
+			{
+				final int[] table      = new int[1 << HASH_LOG];
+				final int   matchLimit = length - LAST_LITERALS;
+				final int   limit      = length - MF_LIMIT;
+
+				// position 0 is never a match candidate, as table entries of 0 mean "empty".
+				int ip = 1;
+				while(ip < limit)
+				{
+					final int sequence = XMemory.get_int(base + ip);
+					final int h        = hash(sequence);
+					int       ref      = table[h];
+					table[h] = ip;
+
+					if(ref == 0 || ip - ref > MAX_OFFSET || XMemory.get_int(base + ref) != sequence)
+					{
+						// the longer no match is found, the larger the steps, to skip incompressible data quickly.
+						ip += 1 + (ip - anchor >>> SKIP_TRIGGER);
+						continue;
+					}
+
+					int start = ip;
+					while(start > anchor && ref > 0 && XMemory.get_byte(base + start - 1) == XMemory.get_byte(base + ref - 1))
+					{
+						start--;
+						ref--;
+					}
+
+					int matchLength = MIN_MATCH;
+					while(start + matchLength + Long.BYTES <= matchLimit
+						&& XMemory.get_long(base + start + matchLength) == XMemory.get_long(base + ref + matchLength)
+					)
+					{
+						matchLength += Long.BYTES;
+					}
+					while(start + matchLength < matchLimit
+						&& XMemory.get_byte(base + start + matchLength) == XMemory.get_byte(base + ref + matchLength)
+					)
+					{
+						matchLength++;
+					}
+
+					final int matchRun = matchLength - MIN_MATCH;
+					op = writeLiterals(op, base + anchor, start - anchor, Math.min(matchRun, RUN_MASK));
+					final int offset = start - ref;
+					XMemory.set_byte(op    , (byte)offset        );
+					XMemory.set_byte(op + 1, (byte)(offset >>> 8));
+					op += 2;
+					if(matchRun >= RUN_MASK)
+					{
+						op = writeLength(op, matchRun - RUN_MASK);
+					}
+
+					anchor = ip = start + matchLength;
+					if(ip < limit)
+					{
+						table[hash(XMemory.get_int(base + ip - 2))] = ip - 2;
+					}
+				}
+			}
+			op = writeLiterals(op, base + anchor, length - anchor, 0);
+
+			final int compressedLength = (int)(op - targetStart);
+			source.position(source.limit());
+			target.position(target.position() + compressedLength);
+
+			return compressedLength;
+		}
+
+		private static BinaryPersistenceException malformed()
+		{
+			return new BinaryPersistenceException("Malformed lz4 block.");
+		}
+
+		@Override
+		public void decompress(final ByteBuffer source, final ByteBuffer target)
+		{
+			final long ipStart = XMemory.getDirectByteBufferAddress(source) + source.position();
+			final long ipEnd   = ipStart + source.remaining();
+			final long opStart = XMemory.getDirectByteBufferAddress(target) + target.position();
+			final long opEnd   = opStart + target.remaining();
+
+			long ip = ipStart;
+			long op = opStart;
+			while(ip < ipEnd)
+			{
+				final int token = XMemory.get_byte(ip++) & 0xFF;
+
+				long literalLength = token >>> 4;
+				if(literalLength == RUN_MASK)
+				{
+					int b;
+					do
+					{
+						if(ip >= ipEnd)
+						{
+							throw malformed();
+						}
+						literalLength += b = XMemory.get_byte(ip++) & 0xFF;
+					}
+					while(b == 0xFF);
+				}
+				if(literalLength > ipEnd - ip || literalLength > opEnd - op)
+				{
+					throw malformed();
+				}
+				XMemory.copyRange(ip, op, literalLength);
+				ip += literalLength;
+				op += literalLength;
+
+				// the last sequence consists of literals only.
+				if(ip == ipEnd)
+				{
+					break;
+				}
+
+				if(ipEnd - ip < 2)
+				{
+					throw malformed();
+				}
+				final int offset = XMemory.get_byte(ip) & 0xFF | (XMemory.get_byte(ip + 1) & 0xFF) << 8;
+				ip += 2;
+
+				long matchLength = token & RUN_MASK;
+				if(matchLength == RUN_MASK)
+				{
+					int b;
+					do
+					{
+						if(ip >= ipEnd)
+						{
+							throw malformed();
+						}
+						matchLength += b = XMemory.get_byte(ip++) & 0xFF;
+					}
+					while(b == 0xFF);
+				}
+				matchLength += MIN_MATCH;
+
+				if(offset == 0 || offset > op - opStart || matchLength > opEnd - op)
+				{
+					throw malformed();
+				}
+
+				final long match = op - offset;
+				if(offset >= matchLength)
+				{
+					XMemory.copyRange(match, op, matchLength);
+				}
+				else
+				{
+					// overlapping match, i.e. a repetition of the last offset bytes, must be copied bytewise.
+					for(long i = 0; i < matchLength; i++)
+					{
+						XMemory.set_byte(op + i, XMemory.get_byte(match + i));
+					}
+				}
+				op += matchLength;
+			}
+
+			if(op != opEnd)
+			{
+				throw malformed();
+			}
+			source.position(source.limit());
+			target.position(target.limit());
+		}
+
+	}
+
+	/**
+	 * Codec using the raw deflate format of {@link Deflater} and {@link Inflater}.
+	 * Ratios are considerably better than those of {@link Lz4}, but compressing is several times slower.
+	 * <p>
+	 * Instances are thread-safe, as every call uses its own {@link Deflater} or {@link Inflater}.
+	 */
+	public final class Deflate implements BinaryCompressionCodec
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final int level;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Deflate(final int level)
+		{
+			super();
+			this.level = level;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		public final int level()
+		{
+			return this.level;
+		}
+
+		@Override
+		public int id()
+		{
+			return DEFLATE_ID;
+		}
+
+		@Override
+		public String name()
+		{
+			return "deflate";
+		}
+
+		@Override
+		public int maximumCompressedLength(final int length)
+		{
+			// zlib's deflateBound plus some slack for the block headers
+			return length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 64;
+		}
+
+		@Override
+		public int compress(final ByteBuffer source, final ByteBuffer target)
+		{
+			final Deflater deflater = new Deflater(this.level, true);
+			try
+			{
+				final int start = target.position();
+				deflater.setInput(source);
+				deflater.finish();
+				while(!deflater.finished())
+				{
+					if(deflater.deflate(target) == 0 && !target.hasRemaining())
+					{
+						throw new IllegalArgumentException("Insufficient target capacity.");
+					}
+				}
+
+				return target.position() - start;
+			}
+			finally
+			{
+				deflater.end();
+			}
+		}
+
+		@Override
+		public void decompress(final ByteBuffer source, final ByteBuffer target)
+		{
+			final Inflater inflater = new Inflater(true);
+			try
+			{
+				inflater.setInput(source);
+				while(target.hasRemaining())
+				{
+					if(inflater.inflate(target) == 0 && (inflater.finished() || inflater.needsInput()))
+					{
+						throw new BinaryPersistenceException("Malformed deflate block.");
+					}
+				}
+			}
+			catch(final DataFormatException e)
+			{
+				throw new BinaryPersistenceException("Malformed deflate block.", e);
+			}
+			finally
+			{
+				inflater.end();
+			}
+		}
+
+	}
+
+}
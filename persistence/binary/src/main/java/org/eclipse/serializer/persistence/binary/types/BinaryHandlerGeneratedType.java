@@ -0,0 +1,154 @@
+package org.eclipse.serializer.persistence.binary.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence Binary
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.eclipse.serializer.util.X.notNull;
+
+import java.lang.reflect.Field;
+
+import org.eclipse.serializer.collections.types.XGettingEnum;
+import org.eclipse.serializer.persistence.types.PersistenceEagerStoringFieldEvaluator;
+import org.eclipse.serializer.persistence.types.PersistenceFieldLengthResolver;
+import org.eclipse.serializer.persistence.types.PersistenceLoadHandler;
+import org.eclipse.serializer.persistence.types.PersistenceStoreHandler;
+import org.eclipse.serializer.persistence.types.PersistenceTypeInstantiator;
+
+/**
+ * Variant of {@link BinaryHandlerGenericType} that stores and updates instances via a {@link BinaryValueAccessor}
+ * generated for the handled type instead of the per-field {@link BinaryValueStorer}s and {@link BinaryValueSetter}s.
+ * The members, the type definition and the binary form are the same, so both handlers are interchangeable
+ * on either side.
+ * <p>
+ * If no accessor can be generated for the type (see {@link BinaryValueAccessorGenerator}), the per-field
+ * functions are used.
+ *
+ * @param <T> the handled type.
+ */
+public final class BinaryHandlerGeneratedType<T> extends AbstractBinaryHandlerReflective<T>
+{
+	public static <T> BinaryHandlerGeneratedType<T> New(
+		final Class<T>                               type                       ,
+		final String                                 typeName                   ,
+		final XGettingEnum<Field>                    persistableFields          ,
+		final XGettingEnum<Field>                    persisterFields            ,
+		final PersistenceFieldLengthResolver         lengthResolver             ,
+		final PersistenceEagerStoringFieldEvaluator  eagerStoringFieldEvaluator ,
+		final PersistenceTypeInstantiator<Binary, T> persistenceTypeInstantiator,
+		final BinaryFieldHandlerProvider             fieldHandlerProvider       ,
+		final boolean                                switchByteOrder
+	)
+	{
+		return new BinaryHandlerGeneratedType<>(
+			type                       ,
+			typeName                   ,
+			persistableFields          ,
+			persisterFields            ,
+			lengthResolver             ,
+			eagerStoringFieldEvaluator ,
+			persistenceTypeInstantiator,
+			fieldHandlerProvider       ,
+			switchByteOrder
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private final PersistenceTypeInstantiator<Binary, T> instantiator ;
+	private final BinaryValueAccessor                    valueAccessor;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	protected BinaryHandlerGeneratedType(
+		final Class<T>                               type                      ,
+		final String                                 typeName                  ,
+		final XGettingEnum<Field>                    persistableFields         ,
+		final XGettingEnum<Field>                    persisterFields           ,
+		final PersistenceFieldLengthResolver         lengthResolver            ,
+		final PersistenceEagerStoringFieldEvaluator  eagerStoringFieldEvaluator,
+		final PersistenceTypeInstantiator<Binary, T> instantiator              ,
+		final BinaryFieldHandlerProvider             fieldHandlerProvider      ,
+		final boolean                                switchByteOrder
+	)
+	{
+		super(type, typeName, persistableFields, persisterFields, lengthResolver, eagerStoringFieldEvaluator, fieldHandlerProvider, switchByteOrder);
+		this.instantiator  = notNull(instantiator);
+		this.valueAccessor = this.generateValueAccessor();
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	/**
+	 * @return whether a {@link BinaryValueAccessor} could be generated for the handled type.
+	 */
+	public final boolean isGenerated()
+	{
+		return this.valueAccessor != null;
+	}
+
+	@Override
+	public final T create(final Binary data, final PersistenceLoadHandler handler)
+	{
+		return this.instantiator.instantiate(data);
+	}
+
+	@Override
+	public final void store(
+		final Binary                          data    ,
+		final T                               instance,
+		final long                            objectId,
+		final PersistenceStoreHandler<Binary> handler
+	)
+	{
+		if(this.valueAccessor == null)
+		{
+			super.store(data, instance, objectId, handler);
+			return;
+		}
+
+		data.storeFixedSize(
+			handler                             ,
+			this.membersPersistedLengthMinimum(),
+			this.typeId()                       ,
+			objectId                            ,
+			instance                            ,
+			this.valueAccessor
+		);
+	}
+
+	@Override
+	protected final void updateValues(final Binary data, final T instance, final PersistenceLoadHandler handler)
+	{
+		if(this.valueAccessor == null)
+		{
+			super.updateValues(data, instance, handler);
+			return;
+		}
+
+		data.updateFixedSize(instance, this.valueAccessor, handler);
+	}
+
+}
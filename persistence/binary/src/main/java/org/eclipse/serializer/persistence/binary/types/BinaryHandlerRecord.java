@@ -0,0 +1,492 @@
+package org.eclipse.serializer.persistence.binary.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence Binary
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
+
+import org.eclipse.serializer.collections.types.XGettingEnum;
+import org.eclipse.serializer.exceptions.TypeCastException;
+import org.eclipse.serializer.persistence.binary.exceptions.BinaryPersistenceException;
+import org.eclipse.serializer.persistence.types.PersistenceEagerStoringFieldEvaluator;
+import org.eclipse.serializer.persistence.types.PersistenceFieldLengthResolver;
+import org.eclipse.serializer.persistence.types.PersistenceFunction;
+import org.eclipse.serializer.persistence.types.PersistenceLoadHandler;
+import org.eclipse.serializer.persistence.types.PersistenceStoreHandler;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDefinitionMemberFieldReflective;
+import org.eclipse.serializer.persistence.types.Persister;
+
+/**
+ * Type handler for {@link Record}s. The members, the type definition and the binary form are the same as those
+ * of a {@link BinaryHandlerGenericType} for the record class, but instances are never instantiated blank and
+ * their final fields are never written via memory offsets:
+ * <ul>
+ * <li>Storing reads the component values via {@link MethodHandle}s of the record's fields.</li>
+ * <li>Loading reads the component values and invokes the record's canonical constructor via a cached
+ * {@link MethodHandle}. Since this requires the referenced instances, the handler
+ * {@linkplain #requiresReferencesForCreation() requires its references for creation}, i.e. records are
+ * created after the instances they reference.</li>
+ * </ul>
+ * This keeps the record's invariants established by its constructor and works without access to JDK internals.
+ * Already existing instances are never updated, since records are immutable.
+ * <p>
+ * Data of a changed record layout is rerouted into the current layout by a {@link BinaryLegacyTypeHandlerRerouting}
+ * and passed to the canonical constructor as well. Components that have been added get their type's default value,
+ * i.e. {@code 0}, {@code false} or {@code null}, so the constructor must accept these.
+ *
+ * @param <T> the handled record type.
+ */
+public final class BinaryHandlerRecord<T> extends AbstractBinaryHandlerReflective<T>
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	public static <T> BinaryHandlerRecord<T> New(
+		final Class<T>                              type                      ,
+		final String                                typeName                  ,
+		final XGettingEnum<Field>                   persistableFields         ,
+		final XGettingEnum<Field>                   persisterFields           ,
+		final PersistenceFieldLengthResolver        lengthResolver            ,
+		final PersistenceEagerStoringFieldEvaluator eagerStoringFieldEvaluator,
+		final BinaryFieldHandlerProvider            fieldHandlerProvider      ,
+		final boolean                               switchByteOrder
+	)
+	{
+		if(!type.isRecord())
+		{
+			throw new BinaryPersistenceException("Not a record: " + type.getName());
+		}
+
+		return new BinaryHandlerRecord<>(
+			type                      ,
+			typeName                  ,
+			persistableFields         ,
+			persisterFields           ,
+			lengthResolver            ,
+			eagerStoringFieldEvaluator,
+			fieldHandlerProvider      ,
+			switchByteOrder
+		);
+	}
+
+	private static MethodHandle canonicalConstructor(final Class<?> type, final RecordComponent[] components)
+	{
+		final Class<?>[] parameterTypes = new Class<?>[components.length];
+		for(int i = 0; i < components.length; i++)
+		{
+			parameterTypes[i] = components[i].getType();
+		}
+
+		try
+		{
+			final Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+			constructor.setAccessible(true);
+
+			// generic form (Object[])Object, so that it can be invoked exactly for any record type.
+			return MethodHandles.lookup().unreflectConstructor(constructor)
+				.asSpreader(Object[].class, parameterTypes.length)
+				.asType(MethodType.methodType(Object.class, Object[].class))
+			;
+		}
+		catch(final ReflectiveOperationException | RuntimeException e)
+		{
+			throw new BinaryPersistenceException(
+				"Canonical constructor of record " + type.getName() + " is not accessible.", e
+			);
+		}
+	}
+
+	private static MethodHandle getter(final Field field)
+	{
+		try
+		{
+			field.setAccessible(true);
+
+			// generic form (Object)Object, primitive values are boxed.
+			return MethodHandles.lookup().unreflectGetter(field)
+				.asType(MethodType.methodType(Object.class, Object.class))
+			;
+		}
+		catch(final ReflectiveOperationException | RuntimeException e)
+		{
+			throw new BinaryPersistenceException("Record field " + field + " is not accessible.", e);
+		}
+	}
+
+	private static int componentIndex(final RecordComponent[] components, final Field field)
+	{
+		for(int i = 0; i < components.length; i++)
+		{
+			if(components[i].getName().equals(field.getName()))
+			{
+				return i;
+			}
+		}
+
+		throw new BinaryPersistenceException("Field " + field + " is not a record component.");
+	}
+
+	private static Object defaultValue(final Class<?> type)
+	{
+		// boxed zero value for primitive types, null for reference types.
+		return type.isPrimitive()
+			? Array.get(Array.newInstance(type, 1), 0)
+			: null
+		;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private final MethodHandle constructor      ;
+	private final Component[]  components       ; // persisted order
+	private final Object[]     defaultArguments ; // for components that are not persisted
+	private final int[]        persisterIndices ; // components that get the loading persister
+	private final Class<?>[]   parameterTypes   ; // component types by parameter index
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	BinaryHandlerRecord(
+		final Class<T>                              type                      ,
+		final String                                typeName                  ,
+		final XGettingEnum<Field>                   persistableFields         ,
+		final XGettingEnum<Field>                   persisterFields           ,
+		final PersistenceFieldLengthResolver        lengthResolver            ,
+		final PersistenceEagerStoringFieldEvaluator eagerStoringFieldEvaluator,
+		final BinaryFieldHandlerProvider            fieldHandlerProvider      ,
+		final boolean                               switchByteOrder
+	)
+	{
+		super(type, typeName, persistableFields, persisterFields, lengthResolver, eagerStoringFieldEvaluator, fieldHandlerProvider, switchByteOrder);
+
+		final RecordComponent[] recordComponents = type.getRecordComponents();
+		this.constructor      = canonicalConstructor(type, recordComponents);
+		this.defaultArguments = new Object[recordComponents.length];
+		this.parameterTypes   = new Class<?>[recordComponents.length];
+		for(int i = 0; i < recordComponents.length; i++)
+		{
+			this.defaultArguments[i] = defaultValue(recordComponents[i].getType());
+			this.parameterTypes[i]   = recordComponents[i].getType();
+		}
+
+		this.components = new Component[this.storingMembers().intSize()];
+		long binaryOffset = 0;
+		int  i            = 0;
+		for(final PersistenceTypeDefinitionMemberFieldReflective member : this.storingMembers())
+		{
+			final Field field = member.field();
+			this.components[i++] = new Component(
+				field.getType()                                            ,
+				getter(field)                                              ,
+				componentIndex(recordComponents, field)                    ,
+				binaryOffset                                               ,
+				eagerStoringFieldEvaluator.isEagerStoring(type, field)
+			);
+			binaryOffset += member.persistentMinimumLength();
+		}
+
+		this.persisterIndices = persisterIndices(recordComponents, persisterFields);
+	}
+
+	private static int[] persisterIndices(final RecordComponent[] components, final XGettingEnum<Field> persisterFields)
+	{
+		if(persisterFields == null)
+		{
+			return new int[0];
+		}
+
+		final int[] indices = new int[persisterFields.intSize()];
+		int i = 0;
+		for(final Field field : persisterFields)
+		{
+			indices[i++] = componentIndex(components, field);
+		}
+
+		return indices;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// initializer logic //
+	//////////////////////
+
+	@Override
+	protected long[] initializeStoringMemoryOffsets()
+	{
+		// record fields are never accessed via memory offsets.
+		return null;
+	}
+
+	@Override
+	protected long[] initializeStoringRefMemOffsets()
+	{
+		// record fields are never accessed via memory offsets.
+		return null;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	@Override
+	public final boolean requiresReferencesForCreation()
+	{
+		return true;
+	}
+
+	@Override
+	public final void store(
+		final Binary                          data    ,
+		final T                               instance,
+		final long                            objectId,
+		final PersistenceStoreHandler<Binary> handler
+	)
+	{
+		data.storeEntityHeader(this.membersPersistedLengthMinimum(), this.typeId(), objectId);
+		for(final Component component : this.components)
+		{
+			component.store(data, instance, handler);
+		}
+	}
+
+	@Override
+	public final T create(final Binary data, final PersistenceLoadHandler handler)
+	{
+		final Object[] arguments = this.defaultArguments.clone();
+		for(final Component component : this.components)
+		{
+			arguments[component.parameterIndex] = component.read(data, handler);
+		}
+		if(this.persisterIndices.length != 0)
+		{
+			this.setPersister(arguments, handler.getPersister());
+		}
+
+		final Object instance;
+		try
+		{
+			instance = (Object)this.constructor.invokeExact(arguments);
+		}
+		catch(final Throwable t)
+		{
+			throw new BinaryPersistenceException(
+				"Canonical constructor of record " + this.type().getName() + " failed for object id "
+				+ data.getBuildItemObjectId() + ".", t
+			);
+		}
+
+		return this.type().cast(instance);
+	}
+
+	private void setPersister(final Object[] arguments, final Persister persister)
+	{
+		for(final int index : this.persisterIndices)
+		{
+			// field type must be compatible with the specific persister's class.
+			if(this.parameterTypes[index].isInstance(persister))
+			{
+				arguments[index] = persister;
+			}
+		}
+	}
+
+	@Override
+	public final void initializeState(final Binary data, final T instance, final PersistenceLoadHandler handler)
+	{
+		// no-op, the state of a record is completely defined by its canonical constructor.
+	}
+
+	@Override
+	public final void updateState(final Binary data, final T instance, final PersistenceLoadHandler handler)
+	{
+		if(!this.type().isInstance(instance))
+		{
+			throw new TypeCastException(this.type(), instance);
+		}
+
+		// no-op otherwise, records are immutable, so existing instances keep their state.
+	}
+
+	@Override
+	public final void iterateInstanceReferences(final T instance, final PersistenceFunction iterator)
+	{
+		for(final Component component : this.components)
+		{
+			if(!component.type.isPrimitive())
+			{
+				iterator.apply(component.get(instance));
+			}
+		}
+	}
+
+
+
+	static final class Component
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		final Class<?>     type          ;
+		final MethodHandle getter        ;
+		final int          parameterIndex;
+		final long         binaryOffset  ;
+		final boolean      isEager       ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Component(
+			final Class<?>     type          ,
+			final MethodHandle getter        ,
+			final int          parameterIndex,
+			final long         binaryOffset  ,
+			final boolean      isEager
+		)
+		{
+			super();
+			this.type           = type          ;
+			this.getter         = getter        ;
+			this.parameterIndex = parameterIndex;
+			this.binaryOffset   = binaryOffset  ;
+			this.isEager        = isEager       ;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		final Object get(final Object instance)
+		{
+			try
+			{
+				return (Object)this.getter.invokeExact(instance);
+			}
+			catch(final Throwable t)
+			{
+				throw new BinaryPersistenceException("Could not read record component " + this.parameterIndex, t);
+			}
+		}
+
+		final void store(final Binary data, final Object instance, final PersistenceStoreHandler<Binary> handler)
+		{
+			final Object value = this.get(instance);
+			final long   o     = this.binaryOffset;
+			final Class<?> t   = this.type;
+
+			if(!t.isPrimitive())
+			{
+				data.store_long(o, this.isEager ? handler.applyEager(value) : handler.apply(value));
+			}
+			else if(t == long.class)
+			{
+				data.store_long(o, (Long)value);
+			}
+			else if(t == int.class)
+			{
+				data.store_int(o, (Integer)value);
+			}
+			else if(t == double.class)
+			{
+				data.store_double(o, (Double)value);
+			}
+			else if(t == float.class)
+			{
+				data.store_float(o, (Float)value);
+			}
+			else if(t == boolean.class)
+			{
+				data.store_boolean(o, (Boolean)value);
+			}
+			else if(t == char.class)
+			{
+				data.store_char(o, (Character)value);
+			}
+			else if(t == short.class)
+			{
+				data.store_short(o, (Short)value);
+			}
+			else
+			{
+				data.store_byte(o, (Byte)value);
+			}
+		}
+
+		final Object read(final Binary data, final PersistenceLoadHandler handler)
+		{
+			final long     o = this.binaryOffset;
+			final Class<?> t = this.type;
+
+			if(!t.isPrimitive())
+			{
+				// the referenced instance has already been created, see #requiresReferencesForCreation.
+				return handler.lookupObject(data.readObjectId(o));
+			}
+			if(t == long.class)
+			{
+				return data.read_long(o);
+			}
+			if(t == int.class)
+			{
+				return data.read_int(o);
+			}
+			if(t == double.class)
+			{
+				return data.read_double(o);
+			}
+			if(t == float.class)
+			{
+				return data.read_float(o);
+			}
+			if(t == boolean.class)
+			{
+				return data.read_boolean(o);
+			}
+			if(t == char.class)
+			{
+				return data.read_char(o);
+			}
+			if(t == short.class)
+			{
+				return data.read_short(o);
+			}
+
+			return data.read_byte(o);
+		}
+
+	}
+
+}
@@ -43,8 +43,8 @@ import org.eclipse.serializer.util.similarity.Similarity;
 /**
  * Binary-specific specialization of {@link PersistenceLegacyTypeHandlerCreator}. For each legacy/current
  * type mapping result, decides between the rerouting and reflective branches and assembles the matching
- * {@link BinaryLegacyTypeHandler}: a {@link BinaryLegacyTypeHandlerRerouting} for custom handlers, a
- * {@link BinaryLegacyTypeHandlerGenericType} for reflective non-enum types, and one of the
+ * {@link BinaryLegacyTypeHandler}: a {@link BinaryLegacyTypeHandlerRerouting} for custom handlers and records, a
+ * {@link BinaryLegacyTypeHandlerGenericType} for other reflective non-enum types, and one of the
  * {@link BinaryLegacyTypeHandlerGenericEnum} variants for enum types depending on whether the static
  * (constant) structure has changed.
  *
@@ -265,11 +265,17 @@ public interface BinaryLegacyTypeHandlerCreator extends PersistenceLegacyTypeHan
 		}
 
 		@Override
-		protected <T> AbstractBinaryLegacyTypeHandlerReflective<T> deriveReflectiveHandler(
+		protected <T> PersistenceLegacyTypeHandler<Binary, T> deriveReflectiveHandler(
 			final PersistenceLegacyTypeMappingResult<Binary, T> mappingResult     ,
 			final PersistenceTypeHandlerReflective<Binary, T>   currentTypeHandler
 		)
 		{
+			if(currentTypeHandler instanceof BinaryHandlerRecord)
+			{
+				// record fields cannot be set via memory offsets, the canonical constructor gets the rerouted data.
+				return this.deriveCustomWrappingHandler(mappingResult);
+			}
+			
 			// May only use setting members here, since legacy type mapping is only about setting values, not storing.
 			final HashTable<PersistenceTypeDefinitionMember, Long> targetMemberOffsets = createFieldOffsetMap(
 				currentTypeHandler.type(),
@@ -160,6 +160,13 @@ extends AbstractBinaryLegacyTypeHandlerTranslating<T>
 		return instance;
 	}
 
+	@Override
+	public boolean requiresReferencesForCreation()
+	{
+		// the current type handler creates the instance from the rerouted data, see #internalCreate.
+		return this.typeHandler().requiresReferencesForCreation();
+	}
+
 	@Override
 	public final void updateState(final Binary rawData, final T instance, final PersistenceLoadHandler handler)
 	{
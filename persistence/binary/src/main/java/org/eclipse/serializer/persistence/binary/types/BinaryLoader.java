@@ -14,18 +14,32 @@ package org.eclipse.serializer.persistence.binary.types;
  * #L%
  */
 
+import static org.eclipse.serializer.util.X.mayNull;
 import static org.eclipse.serializer.util.X.notNull;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
 import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.collections.HashMapIdId;
+import org.eclipse.serializer.collections.HashMapIdObject;
 import org.eclipse.serializer.collections.Set_long;
 import org.eclipse.serializer.collections.types.XGettingCollection;
 import org.eclipse.serializer.math.XMath;
 import org.eclipse.serializer.memory.XMemory;
 import org.eclipse.serializer.persistence.binary.exceptions.BinaryPersistenceException;
 import org.eclipse.serializer.persistence.binary.org.eclipse.serializer.collections.BinaryHandlerSingleton;
+import org.eclipse.serializer.persistence.exceptions.PersistenceException;
 import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionConsistencyObject;
 import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionTypeHandlerConsistencyUnhandledTypeId;
 import org.eclipse.serializer.persistence.types.*;
@@ -77,6 +91,77 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 		return new BinaryLoader.CreatorSimple(switchByteOrder);
 	}
 
+	/**
+	 * Creates a new single-channel {@link BinaryLoader.Creator} whose loaders build large loads in parallel.
+	 * <p>
+	 * Once all entity data of a load is read, the instantiation of the loaded entities
+	 * ({@link PersistenceTypeHandler#create}) and the filling of their state
+	 * ({@link PersistenceTypeHandler#initializeState} and {@link PersistenceTypeHandler#updateState}) is split
+	 * into up to {@code buildParallelism} contiguous parts of the build items, which are processed by tasks
+	 * run on the passed executor and by the loading thread itself. Everything that requires coordination stays
+	 * on the loading thread: reading the data, looking up type handlers and registered instances, resolving
+	 * the references to be loaded, {@link PersistenceTypeHandler#complete}, and publishing the built instances
+	 * to the object registry only after all of them are complete.<br>
+	 * Type handler calls that need the loader's coordination (e.g. registering a root or looking up another
+	 * instance while instances are still being created) are detected and redone on the loading thread.
+	 * <p>
+	 * Note that the loading thread holds the object registry's monitor for the whole load, so type handlers
+	 * must neither load nor store anything on their own while building, and their {@code create},
+	 * {@code initializeState} and {@code updateState} implementations must be thread-safe.
+	 *
+	 * @param switchByteOrder  whether persisted values use a non-native byte order.
+	 * @param buildExecutor    the executor to run the parallel build tasks on, or {@code null} to build
+	 *                         sequentially.
+	 * @param buildParallelism the maximum number of parts a build is split into.
+	 *
+	 * @return the newly created loader creator.
+	 */
+	public static BinaryLoader.Creator CreatorSimple(
+		final boolean  switchByteOrder ,
+		final Executor buildExecutor   ,
+		final int      buildParallelism
+	)
+	{
+		return new BinaryLoader.CreatorSimple(
+			switchByteOrder,
+			mayNull(buildExecutor),
+			XMath.positive(buildParallelism),
+			null
+		);
+	}
+
+	/**
+	 * Creates a new single-channel {@link BinaryLoader.Creator} whose loaders may build large loads in parallel,
+	 * see {@link #CreatorSimple(boolean, Executor, int)}, and pass the fingerprints of all loaded entity records
+	 * to the passed change tracker.
+	 * <p>
+	 * Passing the change tracker of the {@link BinaryStorer.Creator} of the same persistence manager makes
+	 * {@link BinaryStorer.ChangeTracking} storers recognize loaded entities that have not been changed since,
+	 * instead of writing them once before they are tracked.
+	 *
+	 * @param switchByteOrder  whether persisted values use a non-native byte order.
+	 * @param buildExecutor    the executor to run the parallel build tasks on, or {@code null} to build
+	 *                         sequentially.
+	 * @param buildParallelism the maximum number of parts a build is split into.
+	 * @param changeTracker    the change tracker to pass the loaded entities' fingerprints to.
+	 *
+	 * @return the newly created loader creator.
+	 */
+	public static BinaryLoader.Creator CreatorSimple(
+		final boolean             switchByteOrder ,
+		final Executor            buildExecutor   ,
+		final int                 buildParallelism,
+		final BinaryChangeTracker changeTracker
+	)
+	{
+		return new BinaryLoader.CreatorSimple(
+			switchByteOrder,
+			mayNull(buildExecutor),
+			XMath.positive(buildParallelism),
+			notNull(changeTracker)
+		);
+	}
+
 	/**
 	 * Creates a new {@link BinaryLoader} ready to drive one load operation.
 	 *
@@ -104,7 +189,10 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			notNull(persister),
 			notNull(sourceSupplier),
 			notNull(loadItems),
-			switchByteOrder
+			switchByteOrder,
+			null,
+			1,
+			null
 		);
 	}
 
@@ -123,6 +211,12 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 		//////////////
 
 		private static final int DEFAULT_HASH_SLOTS_LENGTH = 1024;
+		
+		// fewer items per part are not worth the task handover.
+		private static final int MINIMUM_PARALLEL_BUILD_PART_LENGTH = 1024;
+		
+		// attempts without the registry monitor, before a loading falls back to holding it.
+		private static final int MAXIMUM_CONCURRENT_LOAD_ATTEMPTS = 4;
 
 
 		
@@ -133,13 +227,19 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 		// may be a relay lookup that provides special handlers providing logic
 		private final PersistenceTypeHandlerLookup<Binary> typeHandlerLookup;
 		private final PersistenceObjectRegistry            objectRegistry   ;
+		private final boolean                              concurrentLoading;
 		private final Persister                            persister        ;
 		private final PersistenceSourceSupplier<Binary>    sourceSupplier   ;
 		private final LoadItemsChain                       loadItems        ;
 		private final boolean                              switchByteOrder  ;
+		private final Executor                             buildExecutor    ;
+		private final int                                  buildParallelism ;
+		private final BinaryChangeTracker                  changeTracker    ;
 		
 		private final BulkList<XGettingCollection<? extends Binary>> anchor = new BulkList<>();
 		
+		private final HashMapIdObject<PersistenceTypeHandler<Binary, Object>> typeHandlerCache = HashMapIdObject.New();
+		
 		/* (17.10.2013 TM)XXX: refactor to builditems instance similar to ... idk storer or so.
 		 * Also, loadItems and buildItems could be combined to produce less memory waste and
 		 * maybe speed up loading.
@@ -155,6 +255,12 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 		private       BinaryLoadItem[] buildItemsHashSlots = new BinaryLoadItem[DEFAULT_HASH_SLOTS_LENGTH];
 		private       int              buildItemsHashRange = this.buildItemsHashSlots.length - 1;
 		
+		// total length of all entities read by this loader, see #getObject(long, LongConsumer)
+		private       long             readEntitiesLength                              ;
+		
+		// whether a build item's instance is a registered one, see #build.
+		private       boolean          updatesRegisteredInstances                      ;
+		
 
 
 		///////////////////////////////////////////////////////////////////////////
@@ -169,14 +275,33 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			final LoadItemsChain                       loadItems      ,
 			final boolean                              switchByteOrder
 		)
+		{
+			this(typeLookup, objectRegistry, persister, sourceSupplier, loadItems, switchByteOrder, null, 1, null);
+		}
+
+		Default(
+			final PersistenceTypeHandlerLookup<Binary> typeLookup      ,
+			final PersistenceObjectRegistry            objectRegistry  ,
+			final Persister                            persister       ,
+			final PersistenceSourceSupplier<Binary>    sourceSupplier  ,
+			final LoadItemsChain                       loadItems       ,
+			final boolean                              switchByteOrder ,
+			final Executor                             buildExecutor   ,
+			final int                                  buildParallelism,
+			final BinaryChangeTracker                  changeTracker
+		)
 		{
 			super();
-			this.typeHandlerLookup = typeLookup     ;
-			this.objectRegistry    = objectRegistry ;
-			this.persister         = persister      ;
-			this.sourceSupplier    = sourceSupplier ;
-			this.loadItems         = loadItems      ;
-			this.switchByteOrder   = switchByteOrder;
+			this.typeHandlerLookup = typeLookup      ;
+			this.objectRegistry    = objectRegistry  ;
+			this.concurrentLoading = objectRegistry instanceof ConcurrentObjectRegistry;
+			this.persister         = persister       ;
+			this.sourceSupplier    = sourceSupplier  ;
+			this.loadItems         = loadItems       ;
+			this.switchByteOrder   = switchByteOrder ;
+			this.buildExecutor     = buildExecutor   ;
+			this.buildParallelism  = buildParallelism;
+			this.changeTracker     = changeTracker   ;
 		}
 
 
@@ -194,6 +319,7 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 		@Override
 		public void readBinaryEntities(final ByteBuffer entitiesData)
 		{
+			this.readEntitiesLength += entitiesData.limit();
 			if(this.switchByteOrder)
 			{
 				this.internalReadBinaryEntitiesByteReversing(entitiesData);
@@ -243,13 +369,20 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 
 		protected PersistenceTypeHandler<Binary, Object> lookupTypeHandler(final long tid)
 		{
-			final PersistenceTypeHandler<Binary, Object> handler;
+			PersistenceTypeHandler<Binary, Object> handler;
+			
+			// the shared lookup is synchronized, so every load looks up the handler of a type id only once.
+			if((handler = this.typeHandlerCache.get(tid)) != null)
+			{
+				return handler;
+			}
 
 			// proper type must have a typeHandler
 			if((handler = damnTypeErasure(this.typeHandlerLookup.lookupTypeHandler(tid))) == null)
 			{
 				throw new PersistenceExceptionTypeHandlerConsistencyUnhandledTypeId(tid);
 			}
+			this.typeHandlerCache.put(tid, handler);
 			
 			return handler;
 		}
@@ -259,13 +392,231 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			loadItem.handler = this.lookupTypeHandler(loadItem.getBuildItemTypeId());
 			if((loadItem.existingInstance = this.objectRegistry.lookupObject(loadItem.getBuildItemObjectId())) == null)
 			{
-				loadItem.createdInstance = loadItem.handler.create(loadItem, this);
+				if(this.buildExecutor == null && !loadItem.handler.requiresReferencesForCreation())
+				{
+					loadItem.createdInstance = loadItem.handler.create(loadItem, this);
+				}
+			}
+			else
+			{
+				this.updatesRegisteredInstances = true;
 			}
 			
 			// register build item
 			this.putBuildItem(loadItem);
 		}
 		
+		private void createInstance(final BinaryLoadItem loadItem, final PersistenceLoadHandler handler)
+		{
+			if(loadItem.existingInstance == null && !loadItem.handler.requiresReferencesForCreation())
+			{
+				loadItem.createdInstance = loadItem.handler.create(loadItem, handler);
+			}
+		}
+		
+		private static boolean isDeferredCreation(final BinaryLoadItem item)
+		{
+			return item.handler != null
+				&& item.existingInstance == null
+				&& item.createdInstance == null
+				&& item.hasData()
+				&& item.handler.requiresReferencesForCreation()
+			;
+		}
+		
+		/**
+		 * Creates the instances of all build items whose handler {@link PersistenceTypeHandler#requiresReferencesForCreation()
+		 * requires their references for creation}. Such items are skipped by {@link #createBuildItem(BinaryLoadItem)}
+		 * and {@link #createInstances(BinaryLoadItem, int)}, so at this point, all other instances have been created
+		 * and all build items are known. Dependencies between deferred items are resolved depth first with an explicit
+		 * stack, so that long chains (e.g. nested records) cannot overflow the call stack.
+		 */
+		private void createDeferredInstances()
+		{
+			DeferredDependencyFinder finder = null;
+			for(BinaryLoadItem entry = this.buildItemsHead.next; entry != null; entry = entry.next)
+			{
+				if(!isDeferredCreation(entry))
+				{
+					continue;
+				}
+				if(finder == null)
+				{
+					finder = new DeferredDependencyFinder();
+				}
+				this.createDeferredInstance(entry, finder);
+			}
+		}
+		
+		private void createDeferredInstance(final BinaryLoadItem item, final DeferredDependencyFinder finder)
+		{
+			finder.push(item);
+			while(!finder.stack.isEmpty())
+			{
+				final DeferredItem   current    = finder.stack.peek();
+				final BinaryLoadItem dependency = current.nextDependency();
+				if(dependency == null)
+				{
+					finder.stack.pop();
+					finder.pending.remove(current.item);
+					current.item.createdInstance = current.item.handler.create(current.item, this);
+					continue;
+				}
+				if(finder.pending.contains(dependency))
+				{
+					throw new BinaryPersistenceException(
+						"Cyclic reference between instances requiring their references for creation: object id "
+						+ current.item.getBuildItemObjectId() + " references object id " + dependency.getBuildItemObjectId()
+					);
+				}
+				finder.push(dependency);
+			}
+		}
+		
+		/**
+		 * Collects the referenced build items of a deferred item that are deferred themselves, once per item.
+		 */
+		final class DeferredDependencyFinder implements PersistenceReferenceLoader
+		{
+			final ArrayDeque<DeferredItem> stack   = new ArrayDeque<>();
+			final HashSet<BinaryLoadItem>  pending = new HashSet<>();
+			
+			private ArrayList<BinaryLoadItem> dependencies;
+			
+			final void push(final BinaryLoadItem item)
+			{
+				this.dependencies = new ArrayList<>();
+				item.handler.iterateLoadableReferences(item, this);
+				
+				this.stack.push(new DeferredItem(item, this.dependencies));
+				this.pending.add(item);
+			}
+			
+			@Override
+			public void acceptObjectId(final long objectId)
+			{
+				final BinaryLoadItem item = Default.this.lookupLoadItem(objectId);
+				if(item != null && isDeferredCreation(item))
+				{
+					this.dependencies.add(item);
+				}
+			}
+			
+			@Override
+			public void requireReferenceEager(final long objectId)
+			{
+				this.acceptObjectId(objectId);
+			}
+			
+		}
+		
+		/**
+		 * A deferred item on the creation stack and the index of the dependency to resume with, so that the
+		 * references of each item are iterated only once, no matter how many dependencies have to be created first.
+		 */
+		static final class DeferredItem
+		{
+			final BinaryLoadItem            item        ;
+			final ArrayList<BinaryLoadItem> dependencies;
+			
+			private int next;
+			
+			DeferredItem(final BinaryLoadItem item, final ArrayList<BinaryLoadItem> dependencies)
+			{
+				super();
+				this.item         = item        ;
+				this.dependencies = dependencies;
+			}
+			
+			final BinaryLoadItem nextDependency()
+			{
+				for(; this.next < this.dependencies.size(); this.next++)
+				{
+					// dependencies created meanwhile, including the one returned last, are skipped.
+					final BinaryLoadItem dependency = this.dependencies.get(this.next);
+					if(isDeferredCreation(dependency))
+					{
+						return dependency;
+					}
+				}
+				
+				return null;
+			}
+			
+		}
+		
+		private void createInstances(final BinaryLoadItem baseItem, final int itemCount)
+		{
+			// with a build executor, the instances of all read entities are created here instead of in #createBuildItem
+			if(this.isParallelBuild(itemCount))
+			{
+				this.buildParallel(baseItem, itemCount, false, this::createInstance);
+				return;
+			}
+			
+			BinaryLoadItem item = baseItem;
+			for(int i = 0; i < itemCount; i++)
+			{
+				this.createInstance(item = item.next, this);
+			}
+		}
+		
+		private boolean isParallelBuild(final int itemCount)
+		{
+			return this.buildExecutor != null
+				&& this.buildParallelism > 1
+				&& itemCount >= 2 * MINIMUM_PARALLEL_BUILD_PART_LENGTH
+			;
+		}
+		
+		/**
+		 * Processes the {@code itemCount} build items following {@code baseItem} with the passed builder,
+		 * split into contiguous parts that are processed by tasks run on the build executor and by the calling
+		 * thread. The calling thread processes all parts on its own if need be, so an executor that runs the
+		 * tasks late or not at all cannot stall loading.
+		 * <p>
+		 * The tasks get a {@link ParallelBuildHandler} instead of this loader. Items whose type handler calls
+		 * anything requiring the loader's coordination are processed again by the calling thread afterwards,
+		 * in build order.
+		 *
+		 * @param baseItem          the item preceding the items to be processed.
+		 * @param itemCount         the number of items to be processed.
+		 * @param instancesResolved whether the effective instances of all build items are already resolved, so
+		 *                          that the tasks may look them up.
+		 * @param builder           the logic processing each item.
+		 */
+		protected void buildParallel(
+			final BinaryLoadItem            baseItem         ,
+			final int                       itemCount        ,
+			final boolean                   instancesResolved,
+			final ParallelBuild.ItemBuilder builder
+		)
+		{
+			final ParallelBuild build = new ParallelBuild(
+				baseItem,
+				itemCount,
+				Math.min(this.buildParallelism, itemCount / MINIMUM_PARALLEL_BUILD_PART_LENGTH)
+			);
+			final PersistenceLoadHandler handler = new ParallelBuildHandler(instancesResolved);
+			
+			for(int i = 1; i < build.partCount(); i++)
+			{
+				try
+				{
+					this.buildExecutor.execute(() -> build.work(builder, handler));
+				}
+				catch(final RejectedExecutionException e)
+				{
+					// the calling thread does the remaining work on its own
+					logger.debug("Parallel build task rejected", e);
+					break;
+				}
+			}
+			build.work(builder, handler);
+			build.awaitCompletion();
+			build.processDeferredItems(builder, this);
+		}
+		
 		// CHECKSTYLE.OFF: FinalParameters: this method is just an outsourced scroll-helper
 		protected void handleAllReferences(BinaryLoadItem item)
 		{
@@ -322,6 +673,11 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			final Object registeredInstance = this.objectRegistry.lookupObject(entry.getBuildItemObjectId());
 			if(registeredInstance != null)
 			{
+				if(!Thread.holdsLock(this.objectRegistry))
+				{
+					// registered meanwhile without the monitor held by this loader (see #build): load anew to update it.
+					throw ConcurrentRegistration.INSTANCE;
+				}
 				return entry.existingInstance = registeredInstance;
 			}
 
@@ -401,11 +757,81 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			
 		}
 
+		/*
+		 * With a ConcurrentObjectRegistry, loading does not hold the registry monitor (see #load). Only updating
+		 * registered instances, which other threads may use, and publishing the built instances do. Should another
+		 * loader have registered an instance for one of the built object ids meanwhile, the loading is repeated.
+		 */
 		private void build()
 		{
+			if(this.concurrentLoading && !this.updatesRegisteredInstances)
+			{
+				this.buildInstancesUnpublished();
+				synchronized(this.objectRegistry)
+				{
+					this.validateUnregisteredBuiltInstances();
+					this.registerBuiltInstances();
+				}
+				this.trackBuiltEntities();
+				return;
+			}
+			
+			// reentrant if held by #load already.
+			synchronized(this.objectRegistry)
+			{
+				this.buildInstancesUnpublished();
+				if(this.concurrentLoading)
+				{
+					this.validateUnregisteredBuiltInstances();
+				}
+				this.registerBuiltInstances();
+			}
+			this.trackBuiltEntities();
+		}
+		
+		/*
+		 * The built instances' state is the one of their loaded records now, so a change-tracking storer
+		 * may skip them as long as they produce the same records again.
+		 */
+		private void trackBuiltEntities()
+		{
+			if(this.changeTracker == null)
+			{
+				return;
+			}
+			
+			final HashMapIdId fingerprints = HashMapIdId.New(this.buildItemsSize);
+			for(BinaryLoadItem entry = this.buildItemsHead.next; entry != null; entry = entry.next)
+			{
+				final long fingerprint = entry.getBuildItemFingerprint();
+				if(fingerprint != BinaryChangeTracker.NO_FINGERPRINT && entry.existingInstance != null)
+				{
+					fingerprints.put(entry.getBuildItemObjectId(), fingerprint);
+				}
+			}
+			this.changeTracker.update(fingerprints);
+		}
+		
+		private void buildInstancesUnpublished()
+		{
+			this.createDeferredInstances();
 			this.buildInstances();
 			this.completeInstances();
-			this.registerBuiltInstances();
+		}
+		
+		private void validateUnregisteredBuiltInstances()
+		{
+			// all or nothing, a partially published graph would reference discarded instances.
+			for(BinaryLoadItem entry = this.buildItemsHead.next; entry != null; entry = entry.next)
+			{
+				if(entry.createdInstance != null
+					&& entry.existingInstance == entry.createdInstance
+					&& this.objectRegistry.lookupObject(entry.getBuildItemObjectId()) != null
+				)
+				{
+					throw ConcurrentRegistration.INSTANCE;
+				}
+			}
 		}
 
 		private void registerBuiltInstances()
@@ -431,7 +857,8 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 				if(registered != entry.createdInstance)
 				{
 					/*
-					 * Cannot happen for legit paths: the entire build holds the objectRegistry
+					 * Cannot happen for legit paths: the entire build (or, with a concurrent
+					 * registry, the validated publication) holds the objectRegistry
 					 * monitor, all legit registry mutations run under that same monitor, and
 					 * mid-build registrations by the loading thread itself are picked up by
 					 * #getEffectiveInstance. Reaching here means a competing instance was
@@ -449,70 +876,96 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 
 		private void buildInstances()
 		{
-			for(BinaryLoadItem entry = this.buildItemsHead.next; entry != null; entry = entry.next)
+			final BinaryLoadItem first = this.buildItemsHead.next;
+			if(first != null && this.isParallelBuild(this.buildItemsSize - 1))
 			{
-				// dummy-buildItems for skipping (filtering) OIDs don't have data and can and may not update anything.
-				if(!entry.hasData())
-				{
-					continue;
-				}
+				this.buildInstancesParallel(first);
+				return;
+			}
+			
+			for(BinaryLoadItem entry = first; entry != null; entry = entry.next)
+			{
+				this.buildInstance(entry, this);
+			}
+		}
+		
+		private void buildInstancesParallel(final BinaryLoadItem first)
+		{
+			// the first item (e.g. the roots) may register instances mid-build, see #getEffectiveInstance.
+			this.buildInstance(first, this);
+			
+			// resolved by this thread, so that the effective instances are only read by the parallel build.
+			for(BinaryLoadItem entry = first.next; entry != null; entry = entry.next)
+			{
+				this.getEffectiveInstance(entry);
+			}
+			
+			this.buildParallel(first, this.buildItemsSize - 1, true, this::buildInstance);
+		}
+		
+		private void buildInstance(final BinaryLoadItem entry, final PersistenceLoadHandler handler)
+		{
+			// dummy-buildItems for skipping (filtering) OIDs don't have data and can and may not update anything.
+			if(!entry.hasData())
+			{
+				return;
+			}
 
-				// all buildItems that have a handler must be complete and valid to be updated.
-				/* (10.09.2015 TM)TODO: already existing instance gets updated (error for a DB situation)
-				 * Why does the global instance have to be updated?
-				 * Isn't this a bug?
-				 * If the data in memory is the most current and the DB is only a receiving storer of
-				 * information, how can there ever be a situation where an already existing instance has to be
-				 * (or even MAY be!) updated?
-				 * The persistence layer is NOT a data modification reverting tool, it is a persistence layer.
-				 * This means: only newly created instances should have to be updated (filled with data), not already
-				 * existing ones.
-				 *
-				 * This has to be thought through thoroughly.
-				 * Maybe the reason behind it was a more generic use aside from a database.
-				 * E.g. receiving data from a client and directly updating an existing object graph with it.
-				 *
-				 * Also: already existing instances are not registered as to-be-built items anyway, only as skip items.
-				 * So they will never be updated in the first place.
-				 *
-				 * But: if the instance was not already present at oid requiring time but is meanwhile at the
-				 * building time, the already present instance gets updated, which is wrong. So the code below must
-				 * be changed
-				 *
-				 * However: constants MUST be updated on the initial load of a database if they contain mutable fields.
-				 * So maybe a persistence layer must use two different concepts:
-				 * - one for initially loading (updating existing instances)
-				 * - one for normal loading after initialization (never updating existing instances)
-				 * 
-				 * (19.09.2018 TM)NOTE:
-				 * Another use case where it is valid to update instances from the persisted data is to keep
-				 * replicating server nodes ("shadow server" or "read-only node" or whatever) up to date.
-				 * 
-				 * It is also conceivable that a read from the database shall be used to reset modified instances
-				 * to their latest persisted state. While this is generally a rather bad design (an application
-				 * should be able to produce consistent states or store its resetting state on its own), this
-				 * might be a valid approach for specific applications.
-				 * 
-				 * In any case, there should be a distinction between logic to initially restore persisted state
-				 * and logic for regular runtime uses. The latter might be the same thing, but not always.
-				 */
-				
-				logger.trace("Updating {}", entry);
 
-				// (26.08.2019 TM)NOTE: paradigm change: #create may return null. Required for handling deleted enums.
-				final Object effectiveInstance = this.getEffectiveInstance(entry);
-				if(effectiveInstance != null)
+			// all buildItems that have a handler must be complete and valid to be updated.
+			/* (10.09.2015 TM)TODO: already existing instance gets updated (error for a DB situation)
+			 * Why does the global instance have to be updated?
+			 * Isn't this a bug?
+			 * If the data in memory is the most current and the DB is only a receiving storer of
+			 * information, how can there ever be a situation where an already existing instance has to be
+			 * (or even MAY be!) updated?
+			 * The persistence layer is NOT a data modification reverting tool, it is a persistence layer.
+			 * This means: only newly created instances should have to be updated (filled with data), not already
+			 * existing ones.
+			 *
+			 * This has to be thought through thoroughly.
+			 * Maybe the reason behind it was a more generic use aside from a database.
+			 * E.g. receiving data from a client and directly updating an existing object graph with it.
+			 *
+			 * Also: already existing instances are not registered as to-be-built items anyway, only as skip items.
+			 * So they will never be updated in the first place.
+			 *
+			 * But: if the instance was not already present at oid requiring time but is meanwhile at the
+			 * building time, the already present instance gets updated, which is wrong. So the code below must
+			 * be changed
+			 *
+			 * However: constants MUST be updated on the initial load of a database if they contain mutable fields.
+			 * So maybe a persistence layer must use two different concepts:
+			 * - one for initially loading (updating existing instances)
+			 * - one for normal loading after initialization (never updating existing instances)
+			 * 
+			 * (19.09.2018 TM)NOTE:
+			 * Another use case where it is valid to update instances from the persisted data is to keep
+			 * replicating server nodes ("shadow server" or "read-only node" or whatever) up to date.
+			 * 
+			 * It is also conceivable that a read from the database shall be used to reset modified instances
+			 * to their latest persisted state. While this is generally a rather bad design (an application
+			 * should be able to produce consistent states or store its resetting state on its own), this
+			 * might be a valid approach for specific applications.
+			 * 
+			 * In any case, there should be a distinction between logic to initially restore persisted state
+			 * and logic for regular runtime uses. The latter might be the same thing, but not always.
+			 */
+			
+			logger.trace("Updating {}", entry);
+
+			// (26.08.2019 TM)NOTE: paradigm change: #create may return null. Required for handling deleted enums.
+			final Object effectiveInstance = this.getEffectiveInstance(entry);
+			if(effectiveInstance != null)
+			{
+				if(effectiveInstance == entry.createdInstance)
 				{
-					if(effectiveInstance == entry.createdInstance)
-					{
-						entry.handler.initializeState(entry, effectiveInstance, this);
-					}
-					else
-					{
-						entry.handler.updateState(entry, effectiveInstance, this);
-					}
+					entry.handler.initializeState(entry, effectiveInstance, handler);
+				}
+				else
+				{
+					entry.handler.updateState(entry, effectiveInstance, handler);
 				}
-				
 			}
 		}
 
@@ -748,6 +1201,7 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			}
 			
 			this.buildItemsSize = 0;
+			this.updatesRegisteredInstances = false;
 			this.anchor.clear(); // release helper anchor to allow the chunks to be collected
 		}
 
@@ -831,6 +1285,7 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			
 			// remember last buildItem that already has its references registered for later iteration
 			final BinaryLoadItem referenceHandlingBaseItem = this.buildItemsTail;
+			final int            referenceHandlingBaseSize = this.buildItemsSize;
 
 			/*
 			 * Create build items for ALL instances prior to handling references to ensure that already loaded
@@ -853,6 +1308,11 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 				// iterate over all entity data parts in the chunk, creating build items for each one.
 				chunk.iterateEntityData(this);
 			}
+			
+			if(this.buildExecutor != null)
+			{
+				this.createInstances(referenceHandlingBaseItem, this.buildItemsSize - referenceHandlingBaseSize);
+			}
 
 			/*
 			 * Handle all references of all newly created build items (loaded entities/instances).
@@ -874,39 +1334,155 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
             oids.iterate(oid -> collector.accept(this.getBuildInstance(oid)));
         }
 
+		/**
+		 * Executes the passed loading and clears the build items afterwards. The loading holds the object
+		 * registry's monitor, except for a {@link ConcurrentObjectRegistry}, which is locked internally:
+		 * then, only the parts of {@link #build()} that require it do, and the loading is repeated should
+		 * it have been interfered by a concurrent one. As every attempt reads the data anew, the loading
+		 * holds the monitor after {@link #MAXIMUM_CONCURRENT_LOAD_ATTEMPTS} interfered attempts, so that
+		 * sustained contention cannot starve it.
+		 */
+		private <T> T load(final Supplier<T> loading)
+		{
+			if(this.concurrentLoading)
+			{
+				for(int attempt = 1; attempt <= MAXIMUM_CONCURRENT_LOAD_ATTEMPTS; attempt++)
+				{
+					try
+					{
+						return this.internalLoad(loading);
+					}
+					catch(final ConcurrentRegistration e)
+					{
+						logger.debug("Repeating loading after a concurrent registration, attempt {}", attempt);
+						this.clearBuildItems();
+						this.loadItems.clear();
+					}
+				}
+			}
+			
+			// other loaders only register while holding the monitor, so they cannot interfere any longer.
+			synchronized(this.objectRegistry)
+			{
+				return this.internalLoad(loading);
+			}
+		}
+		
+		private <T> T internalLoad(final Supplier<T> loading)
+		{
+			final T result = loading.get();
+			this.clearBuildItems();
+			
+			return result;
+		}
+
 		@Override
 		public final Object get()
 		{
-			synchronized(this.objectRegistry)
+			return this.load(() ->
 			{
 				this.readLoadOnce();
 				this.build();
-				final Object instance = this.internalGetFirst();
-				this.clearBuildItems();
+				
+				return this.internalGetFirst();
+			});
+		}
 
+		@Override
+		public final Object getObject(final long objectId)
+		{
+			return this.load(() -> this.internalGetObject(objectId));
+		}
+		
+		private Object internalGetObject(final long objectId)
+		{
+			this.requireReference(objectId);
+			this.readLoadOidData();
+			this.build();
+			
+			return this.getBuildInstance(objectId);
+		}
+
+		@Override
+		public final Object getObject(final long objectId, final LongConsumer loadedLengthAcceptor)
+		{
+			return this.load(() ->
+			{
+				final long readEntitiesLength = this.readEntitiesLength;
+				final Object instance = this.internalGetObject(objectId);
+				loadedLengthAcceptor.accept(this.readEntitiesLength - readEntitiesLength);
+				
 				return instance;
-			}
+			});
 		}
 
 		@Override
-		public final Object getObject(final long objectId)
+		public final Object[] getObjects(final long[] objectIds, final LongConsumer[] loadedLengthAcceptors)
 		{
-			synchronized(this.objectRegistry)
+			return this.load(() ->
 			{
-				this.requireReference(objectId);
+				final long readEntitiesLength = this.readEntitiesLength;
+				for(int i = 0; i < objectIds.length; i++)
+				{
+					this.requireReference(objectIds[i]);
+				}
 				this.readLoadOidData();
 				this.build();
-				final Object instance = this.getBuildInstance(objectId);
-				this.clearBuildItems();
 				
-				return instance;
+				final Object[] instances = new Object[objectIds.length];
+				for(int i = 0; i < objectIds.length; i++)
+				{
+					instances[i] = this.getBuildInstance(objectIds[i]);
+				}
+				this.reportLoadedLengths(objectIds, loadedLengthAcceptors, this.readEntitiesLength - readEntitiesLength);
+				
+				return instances;
+			});
+		}
+		
+		/*
+		 * Which of the requested instances a read entity has been reached from is not recorded while loading.
+		 * So every requested instance that had to be read is reported the length of its own entity plus
+		 * an even share of the length of all other read entities.
+		 */
+		private void reportLoadedLengths(
+			final long[]         objectIds            ,
+			final LongConsumer[] loadedLengthAcceptors,
+			final long           readLength
+		)
+		{
+			final long[] entityLengths = new long[objectIds.length];
+			long entitiesLength = 0;
+			int  readCount      = 0;
+			for(int i = 0; i < objectIds.length; i++)
+			{
+				// skip items (e.g. registered instances) have not been read and have no length.
+				final BinaryLoadItem item = this.lookupLoadItem(objectIds[i]);
+				if(item != null && (entityLengths[i] = item.getBuildItemTotalLength()) > 0)
+				{
+					entitiesLength += entityLengths[i];
+					readCount++;
+				}
+			}
+			if(readCount == 0)
+			{
+				return;
+			}
+			
+			final long share = Math.max(readLength - entitiesLength, 0) / readCount;
+			for(int i = 0; i < objectIds.length; i++)
+			{
+				if(entityLengths[i] > 0)
+				{
+					loadedLengthAcceptors[i].accept(entityLengths[i] + share);
+				}
 			}
 		}
 
 		@Override
 		public final <C extends Consumer<Object>> C collect(final C collector, final long... objectIds)
 		{
-			synchronized(this.objectRegistry)
+			return this.load(() ->
 			{
 				for(int i = 0; i < objectIds.length; i++)
 				{
@@ -915,26 +1491,24 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 				this.readLoadOidData();
 				this.build();
 				this.populate(collector, objectIds);
-				this.clearBuildItems();
 				
 				return collector;
-			}
+			});
 		}
 
         @Override
         public final <C extends Consumer<Object>> C collect(final C collector, final Set_long objectIds)
         {
-            synchronized(this.objectRegistry)
+            return this.load(() ->
             {
                 objectIds.iterate(this::requireReference);
 
                 this.readLoadOidData();
                 this.build();
                 this.populate(collector, objectIds);
-                this.clearBuildItems();
 
                 return collector;
-            }
+            });
         }
 
         @Override
@@ -983,6 +1557,269 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			}
 		}
 		
+		
+		
+		/**
+		 * The {@link PersistenceLoadHandler} passed to type handlers by the parallel build tasks (see
+		 * {@link Default#buildParallel}). Everything that would read or modify loader or registry state
+		 * not safely accessible from other threads while building signals that the current item has to be
+		 * processed by the loading thread.
+		 */
+		final class ParallelBuildHandler implements PersistenceLoadHandler
+		{
+			///////////////////////////////////////////////////////////////////////////
+			// instance fields //
+			////////////////////
+			
+			private final boolean instancesResolved;
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// constructors //
+			/////////////////
+			
+			ParallelBuildHandler(final boolean instancesResolved)
+			{
+				super();
+				this.instancesResolved = instancesResolved;
+			}
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// methods //
+			////////////
+			
+			@Override
+			public Object lookupObject(final long objectId)
+			{
+				// unresolved effective instances might still have to be looked up in the object registry.
+				if(!this.instancesResolved)
+				{
+					throw ParallelBuild.SequentialBuildRequired.INSTANCE;
+				}
+				
+				return Default.this.getBuildInstance(objectId);
+			}
+			
+			@Override
+			public Persister getPersister()
+			{
+				return Default.this.persister;
+			}
+			
+			@Override
+			public void validateType(final Object object, final long objectId)
+			{
+				Default.this.validateType(object, objectId);
+			}
+			
+			@Override
+			public void requireRoot(final Object rootInstance, final long rootObjectId)
+			{
+				throw ParallelBuild.SequentialBuildRequired.INSTANCE;
+			}
+			
+			@Deprecated
+			@Override
+			public void registerCustomRootRefactoring(final Object rootInstance, final long customRootObjectId)
+			{
+				throw ParallelBuild.SequentialBuildRequired.INSTANCE;
+			}
+			
+			@Deprecated
+			@Override
+			public void registerDefaultRootRefactoring(final Object rootInstance, final long defaultRootObjectId)
+			{
+				throw ParallelBuild.SequentialBuildRequired.INSTANCE;
+			}
+			
+		}
+		
+		/*
+		 * Signals that another thread has registered an instance for an object id this loader has built an
+		 * instance for, see #build. Only thrown by the loading thread and only caught by #load.
+		 */
+		static final class ConcurrentRegistration extends RuntimeException
+		{
+			static final ConcurrentRegistration INSTANCE = new ConcurrentRegistration();
+
+			private ConcurrentRegistration()
+			{
+				super(null, null, false, false);
+			}
+		}
+		
+	}
+	
+	
+	
+	/**
+	 * State of one parallel processing of a loader's build items (see {@code Default#buildParallel}): the
+	 * items are split into contiguous parts, each of which is claimed and processed by exactly one thread.
+	 */
+	static final class ParallelBuild
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		// the loading thread waits for parts claimed by other threads. Short enough to not delay the build noticeably.
+		private static final long IDLE_PARK_NANOS = 20_000;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final Part[]                     parts                              ;
+		private final AtomicInteger              nextPart = new AtomicInteger()     ;
+		private final AtomicInteger              active   = new AtomicInteger()     ;
+		private final AtomicReference<Throwable> failure  = new AtomicReference<>();
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		ParallelBuild(final BinaryLoadItem baseItem, final int itemCount, final int partCount)
+		{
+			super();
+			this.parts = new Part[partCount];
+
+			BinaryLoadItem item = baseItem;
+			for(int p = 0; p < partCount; p++)
+			{
+				// the first (itemCount % partCount) parts get one item more.
+				final int length = itemCount / partCount + (p < itemCount % partCount ? 1 : 0);
+				this.parts[p] = new Part(item.next, length);
+				for(int i = 0; i < length; i++)
+				{
+					item = item.next;
+				}
+			}
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		final int partCount()
+		{
+			return this.parts.length;
+		}
+
+		final void work(final ItemBuilder builder, final PersistenceLoadHandler handler)
+		{
+			this.active.incrementAndGet();
+			try
+			{
+				for(int p; this.failure.get() == null && (p = this.nextPart.getAndIncrement()) < this.parts.length;)
+				{
+					this.parts[p].process(builder, handler);
+				}
+			}
+			catch(final Throwable t)
+			{
+				this.failure.compareAndSet(null, t);
+			}
+			finally
+			{
+				this.active.decrementAndGet();
+			}
+		}
+
+		final void awaitCompletion()
+		{
+			// no other thread may still be building when the loader continues, not even after a failure.
+			while(this.active.get() != 0)
+			{
+				LockSupport.parkNanos(IDLE_PARK_NANOS);
+			}
+
+			final Throwable failure = this.failure.get();
+			if(failure == null)
+			{
+				return;
+			}
+			if(failure instanceof RuntimeException)
+			{
+				throw (RuntimeException)failure;
+			}
+			if(failure instanceof Error)
+			{
+				throw (Error)failure;
+			}
+			throw new PersistenceException(failure);
+		}
+
+		final void processDeferredItems(final ItemBuilder builder, final PersistenceLoadHandler handler)
+		{
+			// parts and their deferred items are in build order.
+			for(final Part part : this.parts)
+			{
+				for(final BinaryLoadItem item : part.deferredItems)
+				{
+					builder.build(item, handler);
+				}
+			}
+		}
+
+		@FunctionalInterface
+		interface ItemBuilder
+		{
+			public void build(BinaryLoadItem item, PersistenceLoadHandler handler);
+		}
+
+		static final class Part
+		{
+			final BinaryLoadItem           first        ;
+			final int                      length       ;
+			final BulkList<BinaryLoadItem> deferredItems = BulkList.New();
+
+			Part(final BinaryLoadItem first, final int length)
+			{
+				super();
+				this.first  = first ;
+				this.length = length;
+			}
+
+			final void process(final ItemBuilder builder, final PersistenceLoadHandler handler)
+			{
+				BinaryLoadItem item = this.first;
+				for(int i = 0; i < this.length; i++, item = item.next)
+				{
+					try
+					{
+						builder.build(item, handler);
+					}
+					catch(final SequentialBuildRequired e)
+					{
+						this.deferredItems.add(item);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Signals that the item being processed requires the loading thread. Preallocated and without stack
+		 * trace, since it is a regular control flow of the parallel build.
+		 */
+		static final class SequentialBuildRequired extends RuntimeException
+		{
+			static final SequentialBuildRequired INSTANCE = new SequentialBuildRequired();
+
+			private SequentialBuildRequired()
+			{
+				super(null, null, false, false);
+			}
+		}
+
 	}
 
 
@@ -997,7 +1834,10 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 		// instance fields //
 		////////////////////
 		
-		private final boolean switchByteOrder;
+		private final boolean             switchByteOrder ;
+		private final Executor            buildExecutor   ;
+		private final int                 buildParallelism;
+		private final BinaryChangeTracker changeTracker   ;
 		
 		
 		
@@ -1006,9 +1846,22 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 		/////////////////
 		
 		CreatorSimple(final boolean switchByteOrder)
+		{
+			this(switchByteOrder, null, 1, null);
+		}
+		
+		CreatorSimple(
+			final boolean             switchByteOrder ,
+			final Executor            buildExecutor   ,
+			final int                 buildParallelism,
+			final BinaryChangeTracker changeTracker
+		)
 		{
 			super();
-			this.switchByteOrder = switchByteOrder;
+			this.switchByteOrder  = switchByteOrder ;
+			this.buildExecutor    = buildExecutor   ;
+			this.buildParallelism = buildParallelism;
+			this.changeTracker    = changeTracker   ;
 		}
 
 
@@ -1031,7 +1884,10 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 				persister,
 				source,
 				new LoadItemsChain.Simple(),
-				this.switchByteOrder
+				this.switchByteOrder,
+				this.buildExecutor,
+				this.buildParallelism,
+				this.changeTracker
 			);
 		}
 
@@ -1052,6 +1908,9 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 
 		private final boolean                    switchByteOrder     ;
 		private final BinaryChannelCountProvider channelCountProvider;
+		private final Executor                   buildExecutor       ;
+		private final int                        buildParallelism    ;
+		private final BinaryChangeTracker        changeTracker       ;
 
 
 
@@ -1063,10 +1922,57 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 			final BinaryChannelCountProvider channelCountProvider,
 			final boolean                    switchByteOrder
 		)
+		{
+			this(channelCountProvider, switchByteOrder, null, 1, null);
+		}
+
+		/**
+		 * Creates a creator whose loaders build large loads in parallel, see
+		 * {@link BinaryLoader#CreatorSimple(boolean, Executor, int)}.
+		 *
+		 * @param channelCountProvider supplies the number of channels the queued object ids are partitioned across.
+		 * @param switchByteOrder      whether persisted values use a non-native byte order.
+		 * @param buildExecutor        the executor to run the parallel build tasks on, or {@code null} to build
+		 *                             sequentially.
+		 * @param buildParallelism     the maximum number of parts a build is split into.
+		 */
+		public CreatorChannelHashing(
+			final BinaryChannelCountProvider channelCountProvider,
+			final boolean                    switchByteOrder     ,
+			final Executor                   buildExecutor       ,
+			final int                        buildParallelism
+		)
+		{
+			this(channelCountProvider, switchByteOrder, buildExecutor, buildParallelism, null);
+		}
+
+		/**
+		 * Creates a creator whose loaders may build large loads in parallel and pass the fingerprints of all
+		 * loaded entity records to the passed change tracker, see
+		 * {@link BinaryLoader#CreatorSimple(boolean, Executor, int, BinaryChangeTracker)}.
+		 *
+		 * @param channelCountProvider supplies the number of channels the queued object ids are partitioned across.
+		 * @param switchByteOrder      whether persisted values use a non-native byte order.
+		 * @param buildExecutor        the executor to run the parallel build tasks on, or {@code null} to build
+		 *                             sequentially.
+		 * @param buildParallelism     the maximum number of parts a build is split into.
+		 * @param changeTracker        the change tracker to pass the loaded entities' fingerprints to, or
+		 *                             {@code null} for none.
+		 */
+		public CreatorChannelHashing(
+			final BinaryChannelCountProvider channelCountProvider,
+			final boolean                    switchByteOrder     ,
+			final Executor                   buildExecutor       ,
+			final int                        buildParallelism    ,
+			final BinaryChangeTracker        changeTracker
+		)
 		{
 			super();
-			this.switchByteOrder      = switchByteOrder     ;
-			this.channelCountProvider = channelCountProvider;
+			this.switchByteOrder      = switchByteOrder                 ;
+			this.channelCountProvider = channelCountProvider            ;
+			this.buildExecutor        = mayNull(buildExecutor)          ;
+			this.buildParallelism     = XMath.positive(buildParallelism);
+			this.changeTracker        = mayNull(changeTracker)          ;
 		}
 
 
@@ -1089,7 +1995,10 @@ public interface BinaryLoader extends PersistenceLoader, PersistenceLoadHandler
 				persister,
 				sourceSupplier,
 				new LoadItemsChain.ChannelHashing(this.channelCountProvider.getChannelCount()),
-				this.switchByteOrder
+				this.switchByteOrder,
+				this.buildExecutor,
+				this.buildParallelism,
+				this.changeTracker
 			);
 		}
 
@@ -195,6 +195,37 @@ public final class BinaryPersistence extends Persistence
 		final PersistenceTypeHandlerCreator<Binary>                           typeHandlerCreator,
 		final XGettingCollection<? extends PersistenceTypeHandler<Binary, ?>> customHandlers
 	)
+	{
+		return createDefaultCustomTypeHandlerRegistry(
+			typeHandlerManager,
+			controller        ,
+			typeHandlerCreator,
+			customHandlers    ,
+			false
+		);
+	}
+
+	/**
+	 * Variant of {@link #createDefaultCustomTypeHandlerRegistry(Referencing, PersistenceSizedArrayLengthController,
+	 * PersistenceTypeHandlerCreator, XGettingCollection)} that optionally persists {@link String},
+	 * {@link StringBuilder} and {@link StringBuffer} in the compact chars layout. The handlers of both layouts
+	 * read data and accept type dictionaries of the respective other chars layout.
+	 *
+	 * @param typeHandlerManager forward reference to the surrounding type-handler manager.
+	 * @param controller         length controller used by sized-array handlers.
+	 * @param typeHandlerCreator the type-handler creator to defer to for derived handlers.
+	 * @param customHandlers     additional caller-supplied handlers, layered on top.
+	 * @param compactStrings     whether to use the compact chars layout for strings.
+	 *
+	 * @return the assembled custom type-handler registry.
+	 */
+	public static final PersistenceCustomTypeHandlerRegistry<Binary> createDefaultCustomTypeHandlerRegistry(
+		final Referencing<PersistenceTypeHandlerManager<Binary>>              typeHandlerManager,
+		final PersistenceSizedArrayLengthController                           controller        ,
+		final PersistenceTypeHandlerCreator<Binary>                           typeHandlerCreator,
+		final XGettingCollection<? extends PersistenceTypeHandler<Binary, ?>> customHandlers    ,
+		final boolean                                                         compactStrings
+	)
 	{
 		/* (16.10.2019 TM)NOTE:
 		 * Native handlers are split into value and referencing types since plugins that handle references
@@ -215,6 +246,7 @@ public final class BinaryPersistence extends Persistence
 			.registerTypeHandlers(defaultCustomHandlers(controller))
 			.registerTypeHandlers(lazyCollectionsHandlers())
 			.registerTypeHandlers(platformDependentHandlers())
+			.registerTypeHandlers(charsLayoutHandlers(compactStrings))
 			.registerTypeHandlers(customHandlers)
 		;
 		
@@ -501,6 +533,25 @@ public final class BinaryPersistence extends Persistence
 		return platformDependentHandlers;
 	}
 	
+	/**
+	 * @param compactStrings whether to use the compact chars layout.
+	 *
+	 * @return the handlers for {@link String}, {@link StringBuffer} and {@link StringBuilder} in the chosen
+	 *         chars layout, replacing the native handlers with the regular layout.
+	 */
+	public static final XGettingSequence<? extends PersistenceTypeHandler<Binary, ?>> charsLayoutHandlers(
+		final boolean compactStrings
+	)
+	{
+		final ConstList<? extends PersistenceTypeHandler<Binary, ?>> charsLayoutHandlers = ConstList.New(
+			BinaryHandlerString.New(compactStrings)       ,
+			BinaryHandlerStringBuffer.New(compactStrings) ,
+			BinaryHandlerStringBuilder.New(compactStrings)
+		);
+
+		return charsLayoutHandlers;
+	}
+	
 
 	/**
 	 * @param fieldType the field's runtime type.
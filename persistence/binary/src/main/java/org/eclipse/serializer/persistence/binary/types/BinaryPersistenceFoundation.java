@@ -18,6 +18,8 @@ import org.eclipse.serializer.collections.EqHashEnum;
 import org.eclipse.serializer.collections.EqHashTable;
 import org.eclipse.serializer.collections.types.XEnum;
 import org.eclipse.serializer.collections.types.XTable;
+import org.eclipse.serializer.math.XMath;
+import org.eclipse.serializer.memory.BufferPool;
 import org.eclipse.serializer.persistence.binary.org.eclipse.serializer.persistence.types.BinaryRootReferenceProvider;
 import org.eclipse.serializer.persistence.types.PersistenceCustomTypeHandlerRegistry;
 import org.eclipse.serializer.persistence.types.PersistenceCustomTypeHandlerRegistryEnsurer;
@@ -32,7 +34,9 @@ import org.eclipse.serializer.persistence.types.PersistenceTypeHandlerCreator;
 /**
  * Factory and master configuration type for assembling a binary persistence layer. Extends the generic
  * {@link PersistenceFoundation} with binary-specific component slots: custom value-translator lookup,
- * translator key builders, value-translator mapping/provider, and the {@link BinaryFieldHandlerProvider}.
+ * translator key builders, value-translator mapping/provider, the {@link BinaryFieldHandlerProvider} and the
+ * {@link BufferPool} for chunk buffers, the {@link BinaryCompressionCodec} for transferred payloads and the choice of
+ * the persisted chars layout for strings.
  * Each slot is lazily ensured on first access and can be overridden via the matching setter.
  * <p>
  * The default implementation also wires the binary-specific storer/loader creators, type-handler creator,
@@ -76,6 +80,40 @@ extends PersistenceFoundation<Binary, F>
 	 */
 	public BinaryFieldHandlerProvider getFieldHandlerProvider();
 
+	/**
+	 * @return the {@link BufferPool} storers obtain their chunk buffers from.
+	 */
+	public BufferPool getBufferPool();
+
+	/**
+	 * @return the {@link BinaryCompressionCodec} serialized and transferred payloads are compressed with.
+	 *
+	 * @see #setCompressionCodec(BinaryCompressionCodec)
+	 */
+	public BinaryCompressionCodec getCompressionCodec();
+
+	/**
+	 * @return the absolute maximum length received compressed data is decoded to.
+	 *
+	 * @see #setMaximumDecodedLength(long)
+	 */
+	public long getMaximumDecodedLength();
+
+	/**
+	 * @return whether {@link String}, {@link StringBuilder} and {@link StringBuffer} are persisted in the
+	 *         compact chars layout.
+	 *
+	 * @see #setCompactStrings(boolean)
+	 */
+	public boolean isCompactStrings();
+
+	/**
+	 * @return whether generic types are handled by {@link BinaryHandlerGeneratedType}s.
+	 *
+	 * @see #setGeneratedTypeHandlers(boolean)
+	 */
+	public boolean isGeneratedTypeHandlers();
+
 
 	/**
 	 * @param customTranslatorLookup the custom translator lookup table to use.
@@ -122,6 +160,85 @@ extends PersistenceFoundation<Binary, F>
 		BinaryFieldHandlerProvider fieldHandlerProvider
 	);
 
+	/**
+	 * Sets the {@link BufferPool} storers obtain their chunk buffers from. Defaults to
+	 * {@link BufferPool#Unpooled()}, a pooling instance can be created via {@link BufferPool#New()}.
+	 * <p>
+	 * Must be set before the storer creator is ensured to take effect.
+	 *
+	 * @param bufferPool the buffer pool to use.
+	 *
+	 * @return this foundation for fluent chaining.
+	 */
+	public F setBufferPool(
+		BufferPool bufferPool
+	);
+
+	/**
+	 * Sets the {@link BinaryCompressionCodec} the messages of serializers and the chunks of communication channels
+	 * built on this foundation are compressed with. Defaults to {@link BinaryCompressionCodec#None()}.
+	 * <p>
+	 * Stored data is not affected. Whether compression pays off depends on the payload and the transfer rate,
+	 * see {@link BinaryCompressionCodec#Lz4()} and {@link BinaryCompressionCodec#Deflate()}.
+	 * Untyped serializers on both sides have to use the same codec, typed serializers and channels record the codec
+	 * in their headers and decode all built-in codecs regardless of this setting.
+	 *
+	 * @param compressionCodec the compression codec to use.
+	 *
+	 * @return this foundation for fluent chaining.
+	 */
+	public F setCompressionCodec(
+		BinaryCompressionCodec compressionCodec
+	);
+
+	/**
+	 * Sets the absolute maximum length the compressed messages of serializers and the compressed chunks of
+	 * communication channels built on this foundation are decoded to. Data claiming a longer decoded length is
+	 * rejected before any memory is allocated for it. Defaults to
+	 * {@link BinaryCompressionCodec#DEFAULT_MAXIMUM_DECODED_LENGTH}.
+	 *
+	 * @param maximumDecodedLength the maximum decoded length in bytes, must be positive.
+	 *
+	 * @return this foundation for fluent chaining.
+	 */
+	public F setMaximumDecodedLength(
+		long maximumDecodedLength
+	);
+
+	/**
+	 * Defines if {@link String}, {@link StringBuilder} and {@link StringBuffer} are persisted in the compact
+	 * chars layout: a coder byte followed by one byte per char if all chars are Latin-1, otherwise by the
+	 * UTF-16 chars. Defaults to <code>false</code>, i.e. two bytes per char.
+	 * <p>
+	 * The layouts have different type definitions under the same native type ids, but both settings accept
+	 * type dictionaries and read data of both layouts, as every record is read in whichever layout it was written.
+	 * Only data in the compact format of serializers has to be read with the setting it was written with.
+	 * Must be set before the custom type handler registry is ensured to take effect.
+	 *
+	 * @param compactStrings whether to use the compact chars layout.
+	 *
+	 * @return this foundation for fluent chaining.
+	 */
+	public F setCompactStrings(
+		boolean compactStrings
+	);
+
+	/**
+	 * Defines if generic types are handled by {@link BinaryHandlerGeneratedType}s, which copy all field values
+	 * of an instance by a class generated for its type instead of by one value function per field.
+	 * Defaults to <code>false</code>.
+	 * <p>
+	 * The binary form is the same either way, so both sides may use different settings.
+	 * Must be set before the type handler creator is ensured to take effect.
+	 *
+	 * @param generatedTypeHandlers whether to generate the value accessors of generic type handlers.
+	 *
+	 * @return this foundation for fluent chaining.
+	 */
+	public F setGeneratedTypeHandlers(
+		boolean generatedTypeHandlers
+	);
+
 	@Override
 	public PersistenceManager<Binary> createPersistenceManager();
 
@@ -156,6 +273,11 @@ extends PersistenceFoundation<Binary, F>
 		private BinaryValueTranslatorMappingProvider   valueTranslatorMapping ;
 		private BinaryValueTranslatorProvider          valueTranslatorProvider;
 		private BinaryFieldHandlerProvider             fieldHandlerProvider   ;
+		private BufferPool                             bufferPool             ;
+		private BinaryCompressionCodec                 compressionCodec       ;
+		private long                                   maximumDecodedLength   ;
+		private boolean                                compactStrings         ;
+		private boolean                                generatedTypeHandlers  ;
 		
 		
 		
@@ -166,6 +288,7 @@ extends PersistenceFoundation<Binary, F>
 		protected Default()
 		{
 			super(Binary.class);
+			this.maximumDecodedLength = BinaryCompressionCodec.DEFAULT_MAXIMUM_DECODED_LENGTH;
 		}
 		
 		
@@ -241,6 +364,46 @@ extends PersistenceFoundation<Binary, F>
 			return this.fieldHandlerProvider;
 		}
 		
+		@Override
+		public BufferPool getBufferPool()
+		{
+			if(this.bufferPool == null)
+			{
+				this.bufferPool = this.dispatch(this.ensureBufferPool());
+			}
+			
+			return this.bufferPool;
+		}
+		
+		@Override
+		public BinaryCompressionCodec getCompressionCodec()
+		{
+			if(this.compressionCodec == null)
+			{
+				this.compressionCodec = this.dispatch(this.ensureCompressionCodec());
+			}
+			
+			return this.compressionCodec;
+		}
+		
+		@Override
+		public long getMaximumDecodedLength()
+		{
+			return this.maximumDecodedLength;
+		}
+		
+		@Override
+		public boolean isCompactStrings()
+		{
+			return this.compactStrings;
+		}
+		
+		@Override
+		public boolean isGeneratedTypeHandlers()
+		{
+			return this.generatedTypeHandlers;
+		}
+		
 		
 		///////////////////////////////////////////////////////////////////////////
 		// setters //
@@ -280,6 +443,41 @@ extends PersistenceFoundation<Binary, F>
 			this.fieldHandlerProvider = fieldHandlerProvider;
 			return this.$();
 		}
+		
+		@Override
+		public F setBufferPool(final BufferPool bufferPool)
+		{
+			this.bufferPool = bufferPool;
+			return this.$();
+		}
+		
+		@Override
+		public F setCompressionCodec(final BinaryCompressionCodec compressionCodec)
+		{
+			this.compressionCodec = compressionCodec;
+			return this.$();
+		}
+		
+		@Override
+		public F setMaximumDecodedLength(final long maximumDecodedLength)
+		{
+			this.maximumDecodedLength = XMath.positive(maximumDecodedLength);
+			return this.$();
+		}
+		
+		@Override
+		public F setCompactStrings(final boolean compactStrings)
+		{
+			this.compactStrings = compactStrings;
+			return this.$();
+		}
+		
+		@Override
+		public F setGeneratedTypeHandlers(final boolean generatedTypeHandlers)
+		{
+			this.generatedTypeHandlers = generatedTypeHandlers;
+			return this.$();
+		}
 	
 
 		///////////////////////////////////////////////////////////////////////////
@@ -291,7 +489,10 @@ extends PersistenceFoundation<Binary, F>
 		{
 			return BinaryStorer.Creator(
 				() -> 1,
-				this.isByteOrderMismatch()
+				this.isByteOrderMismatch(),
+				false,
+				false,
+				BinaryStorer.Collaborators.New(this.getBufferPool(), null, null)
 			);
 		}
 
@@ -314,7 +515,8 @@ extends PersistenceFoundation<Binary, F>
 				this.getInstantiatorProvider(),
 				this.referenceTypeHandlerManager(),
 				this.getFieldHandlerProvider(),
-				this.isByteOrderMismatch()
+				this.isByteOrderMismatch(),
+				this.isGeneratedTypeHandlers()
 			);
 		}
 		
@@ -329,7 +531,8 @@ extends PersistenceFoundation<Binary, F>
 					rthm,
 					f.getSizedArrayLengthController(),
 					f.getTypeHandlerCreator(),
-					f.customTypeHandlers().values()
+					f.customTypeHandlers().values(),
+					this.isCompactStrings()
 				);
 			};
 		}
@@ -403,6 +606,16 @@ extends PersistenceFoundation<Binary, F>
 		{
 			return BinaryFieldHandlerProvider.New();
 		}
+		
+		protected BufferPool ensureBufferPool()
+		{
+			return BufferPool.Unpooled();
+		}
+		
+		protected BinaryCompressionCodec ensureCompressionCodec()
+		{
+			return BinaryCompressionCodec.None();
+		}
 	}
 
 }
@@ -15,10 +15,12 @@ package org.eclipse.serializer.persistence.binary.types;
  */
 
 import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.collections.HashMapIdId;
 import org.eclipse.serializer.collections.HashMapIdObject;
 import org.eclipse.serializer.collections.Set_long;
 import org.eclipse.serializer.hashing.XHashing;
 import org.eclipse.serializer.math.XMath;
+import org.eclipse.serializer.memory.BufferPool;
 import org.eclipse.serializer.persistence.exceptions.PersistenceDanglingReferences;
 import org.eclipse.serializer.persistence.exceptions.PersistenceException;
 import org.eclipse.serializer.persistence.types.*;
@@ -31,9 +33,17 @@ import org.slf4j.Logger;
 import java.lang.ref.WeakReference;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import static java.lang.System.identityHashCode;
 import static org.eclipse.serializer.chars.XChars.systemString;
@@ -55,6 +65,8 @@ import static org.eclipse.serializer.util.logging.Logging.LazyArgInContext;
  *   <li>{@link Eager} &mdash; force-stores every reference reachable from a stored root.</li>
  *   <li>{@link Batching} &mdash; lazy with explicit-root re-storage and time/size-driven background
  *       flushing for write-heavy workloads.</li>
+ *   <li>{@link ChangeTracking} &mdash; eager, but writes only entities whose record differs from the
+ *       persisted one, as known by a {@link BinaryChangeTracker}.</li>
  * </ul>
  * For finer-grained control, {@link PersistenceEagerStoringFieldEvaluator} can decide eagerness on a
  * per-field basis.
@@ -126,14 +138,34 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		
 		// channel hashing fields
 		private final BufferSizeProviderIncremental bufferSizeProvider;
+		private final BufferPool                    bufferPool        ;
 		private final int                           chunksHashRange   ;
 		
 		// cannot be final since every commit needs to pass an independent instance.
 		private ChunksBuffer[] chunks;
 		
+		// chunks handed to the target are owned by it, only never written chunks can be released.
+		private boolean chunksWritten;
+		
+		/*
+		 * Executor for storing items of different channels in parallel, null for sequential storing.
+		 * See #processItemsParallel. parallelStoring is the state of the currently running parallel
+		 * processing, if any, guarded by monitor.
+		 */
+		private final Executor        storingExecutor;
+		private       ParallelStoring parallelStoring;
+		
+		/*
+		 * Fingerprints of the entities written by this storer, taken over by the change tracker
+		 * once the commit has been written successfully. Both null if no change tracking is done.
+		 * writtenFingerprints is guarded by itself, as parallel storing records from several threads.
+		 */
+		private final BinaryChangeTracker changeTracker      ;
+		private final HashMapIdId         writtenFingerprints;
+		
 		/*
 		 * Concurrency / thread-safety concept:
-		 * - The storer uses the parent ObjectManager's registry monitor (objectRegistryMonitor)
+		 * - The storer uses the parent ObjectManager's registry monitor (objectRegistryMonitor())
 		 *   as its single internal lock. Using the registry as the storer's own lock collapses the
 		 *   former two-level hierarchy (objectRegistry -> this.head) into one, which makes the lock
 		 *   order structural instead of convention-based: any storer state mutation is performed
@@ -141,13 +173,16 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		 *   holding the registry) cannot face a lock-order inversion when reading a foreign
 		 *   storer's state. Java synchronization is reentrant, so the recursion through
 		 *   ensureObjectId during typeHandler.store(...) does not self-deadlock.
+		 * - If the ObjectManager isolates the local registries (see isolatesLocalRegistries()), no
+		 *   peer ever reads this storer's state and object ids are assigned without the registry
+		 *   monitor, so the storer uses a monitor of its own instead, not contended by other storers.
 		 * - The head Item below is no longer used as a monitor; it is just the sentinel start of
 		 *   the linked item chain.
 		 * - A storer instance is never meant to be used in a mutating fashion by more than one
 		 *   thread at any given moment. The locking is only there to synchronize reading accesses
 		 *   from other storer instances of other threads.
 		 */
-		final Object objectRegistryMonitor;
+		final Object monitor;
 
 		final   Item   head = new Item(null, 0L, null, null);
 		private Item   tail;
@@ -162,7 +197,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		 * ids), mapped to the referenced instance where one is available (null for Lazy cached ids -
 		 * unhealable). Null when capturing is disabled, so the feature has zero overhead in that case.
 		 * At commit, ids that are also stored by the commit itself are pruned; the remainder is attached
-		 * to the written Binary for the target to validate. Guarded by objectRegistryMonitor.
+		 * to the written Binary for the target to validate. Guarded by monitor.
 		 */
 		private final HashMapIdObject<Object> trustedObjectIds;
 
@@ -276,14 +311,51 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			final int                                   healDepth              ,
 			final Storer                                commitListenerSink
 		)
+		{
+			this(
+				objectManager          ,
+				objectRetriever        ,
+				typeManager            ,
+				target                 ,
+				bufferSizeProvider     ,
+				channelCount           ,
+				switchByteOrder        ,
+				persister              ,
+				captureTrustedObjectIds,
+				healDanglingReferences ,
+				healDepth              ,
+				commitListenerSink     ,
+				Collaborators.New()
+			);
+		}
+
+		protected Default(
+			final PersistenceObjectManager<Binary>      objectManager          ,
+			final ObjectSwizzling                       objectRetriever        ,
+			final PersistenceTypeHandlerManager<Binary> typeManager            ,
+			final PersistenceTarget<Binary>             target                 ,
+			final BufferSizeProviderIncremental         bufferSizeProvider     ,
+			final int                                   channelCount           ,
+			final boolean                               switchByteOrder        ,
+			final Persister                             persister              ,
+			final boolean                               captureTrustedObjectIds,
+			final boolean                               healDanglingReferences ,
+			final int                                   healDepth              ,
+			final Storer                                commitListenerSink     ,
+			final Collaborators                         collaborators
+		)
 		{
 			super();
 			this.objectManager          = notNull(objectManager)               ;
-			this.objectRegistryMonitor  = objectManager.objectRegistryMonitor();
+			this.monitor                = objectManager.isolatesLocalRegistries()
+				? new Object()
+				: objectManager.objectRegistryMonitor()
+			;
 			this.objectRetriever        = notNull(objectRetriever)             ;
 			this.typeManager            = notNull(typeManager)                 ;
 			this.target                 = notNull(target)                      ;
 			this.bufferSizeProvider     = notNull(bufferSizeProvider)          ;
+			this.bufferPool             = notNull(collaborators).bufferPool()  ;
 			this.chunksHashRange        =         channelCount - 1             ;
 			this.switchByteOrder        =         switchByteOrder              ;
 			this.persister              = mayNull(persister)                   ;
@@ -296,6 +368,12 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			this.healDanglingReferences = healDanglingReferences               ;
 			this.healDepth              = healDepth                            ;
 			this.commitListenerSink     = mayNull(commitListenerSink)          ;
+			this.storingExecutor        = collaborators.storingExecutor()      ;
+			this.changeTracker          = collaborators.changeTracker()        ;
+			this.writtenFingerprints    = this.changeTracker != null
+				? HashMapIdId.New()
+				: null
+			;
 
 			this.defaultInitialize();
 		}
@@ -327,7 +405,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		@Override
 		public final long currentCapacity()
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				return this.hashSlots.length;
 			}
@@ -336,7 +414,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		@Override
 		public final long size()
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				/*
 				 * Pin entries are pure retention entries, not store payload: they must not count into
@@ -421,7 +499,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 
 		protected void internalInitialize(final int hashLength)
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				this.itemCount = 0;
 				this.pinCount  = 0;
@@ -441,6 +519,13 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				{
 					this.trustedObjectIds.clear();
 				}
+				if(this.writtenFingerprints != null)
+				{
+					synchronized(this.writtenFingerprints)
+					{
+						this.writtenFingerprints.clear();
+					}
+				}
 			}
 		}
 		
@@ -457,15 +542,25 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			 * might still be used by the storage worker threads to update their entity caches.
 			 * The released chunks must be handled by those threads if existing
 			 * or ultimately by the garbage collector (or by some tailored additional logic)
+			 * Chunks that have never been written, however, were never visible to anyone else
+			 * and can safely be returned to the buffer pool.
 			 */
+			if(this.chunks != null && !this.chunksWritten)
+			{
+				for(final ChunksBuffer chunk : this.chunks)
+				{
+					chunk.release();
+				}
+			}
+			this.chunksWritten = false;
 
 			final boolean        dedup  = this.deduplicateChunkEntities();
 			final ChunksBuffer[] chunks = this.chunks = new ChunksBuffer[this.chunksHashRange + 1];
 			for(int i = 0; i < chunks.length; i++)
 			{
 				chunks[i] = this.switchByteOrder
-					? ChunksBufferByteReversing.New(chunks, this.bufferSizeProvider, dedup)
-					: ChunksBuffer.New(chunks, this.bufferSizeProvider, dedup)
+					? ChunksBufferByteReversing.New(chunks, this.bufferSizeProvider, dedup, this.bufferPool)
+					: ChunksBuffer.New(chunks, this.bufferSizeProvider, dedup, this.bufferPool)
 				;
 			}
 		}
@@ -473,7 +568,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		@Override
 		public PersistenceStorer ensureCapacity(final long desiredCapacity)
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				if(this.currentCapacity() >= desiredCapacity)
 				{
@@ -631,6 +726,16 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		
 		protected void processItems()
 		{
+			/*
+			 * Not if the storer's monitor is held by the calling thread (e.g. pending roots storing during
+			 * commit): helper threads need it for every object id lookup, while the caller would wait for them.
+			 */
+			if(this.storingExecutor != null && this.chunksHashRange > 0 && !Thread.holdsLock(this.monitor))
+			{
+				this.processItemsParallel();
+				return;
+			}
+			
 			// process and collect required instances in item chain (graph recursion transformed to iteration)
 			for(Item item = this.tail; item != null; item = item.next)
 			{
@@ -639,17 +744,63 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			}
 		}
 		
+		/**
+		 * Processes the item chain like {@link #processItems()}, but with up to one thread per channel:
+		 * every item (the pending ones as well as all items registered while processing) is queued for
+		 * its object id's channel, and the calling thread and helper tasks run on the storing executor
+		 * each claim one channel at a time, storing the queued items into that channel's chunk.
+		 * <p>
+		 * Since a chunk is only ever written by the thread holding its channel's claim, and object ids
+		 * are assigned by the object manager as with sequential storing, every
+		 * entity's binary form is identical to the sequential one. Only the order of entities within a
+		 * channel's chunk may differ.<br>
+		 * The calling thread processes the items of all channels on its own if need be, so an executor
+		 * that runs the helper tasks late or not at all cannot stall storing.
+		 */
+		protected void processItemsParallel()
+		{
+			final ParallelStoring storing;
+			synchronized(this.monitor)
+			{
+				storing = this.parallelStoring = new ParallelStoring(this.chunks);
+				for(Item item = this.tail; item != null; item = item.next)
+				{
+					storing.enqueue(item);
+				}
+			}
+			
+			try
+			{
+				for(int i = 1; i < this.chunks.length; i++)
+				{
+					try
+					{
+						this.storingExecutor.execute(() -> storing.work(this));
+					}
+					catch(final RejectedExecutionException e)
+					{
+						// the calling thread does the remaining work on its own
+						logger.debug("Parallel storing task rejected", e);
+						break;
+					}
+				}
+				storing.work(this);
+				storing.awaitCompletion();
+			}
+			finally
+			{
+				synchronized(this.monitor)
+				{
+					this.parallelStoring = null;
+				}
+			}
+		}
+		
 		protected final void storeItem(final Item item)
 		{
-			logger.debug(
-				"Storing     {}: {}({})",
-				item.oid,
-				LazyArg(() -> systemString(item.instance)),
-				LazyArgInContext(STORER_CONTEXT, item.instance)
-			);
 
 			/*
-			 * Look up the chunk under the storer monitor (== objectRegistry) because chunks[]
+			 * Look up the chunk under the storer monitor because chunks[]
 			 * is replaced atomically by internalInitialize(). The type handler call is done
 			 * outside the monitor on purpose: typeHandler.store recurses through apply() ->
 			 * register() -> objectManager.ensureObjectId, which re-acquires the same monitor.
@@ -659,11 +810,62 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			 * needed for the actual write.
 			 */
 			final ChunksBuffer chunk;
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				chunk = this.synchLookupChunk(item.oid);
 			}
+			this.storeItem(item, chunk);
+		}
+		
+		final void storeItem(final Item item, final ChunksBuffer chunk)
+		{
+			logger.debug(
+				"Storing     {}: {}({})",
+				item.oid,
+				LazyArg(() -> systemString(item.instance)),
+				LazyArgInContext(STORER_CONTEXT, item.instance)
+			);
+			
+			if(this.changeTracker == null)
+			{
+				item.typeHandler.store(chunk, item.instance, item.oid, this);
+				return;
+			}
+			this.storeItemTracked(item, chunk);
+		}
+
+		private void storeItemTracked(final Item item, final ChunksBuffer chunk)
+		{
+			final long lengthBefore = chunk.currentTotalLength();
 			item.typeHandler.store(chunk, item.instance, item.oid, this);
+			final long entityLength = chunk.currentTotalLength() - lengthBefore;
+
+			final long fingerprint = chunk.fingerprintTrailingBytes(entityLength);
+			if(fingerprint != BinaryChangeTracker.NO_FINGERPRINT
+				&& this.skipUnchangedEntities()
+				&& fingerprint == this.changeTracker.fingerprint(item.oid)
+			)
+			{
+				logger.debug("Unchanged   {}", item.oid);
+				chunk.discardTrailingBytes(entityLength);
+				return;
+			}
+
+			synchronized(this.writtenFingerprints)
+			{
+				this.writtenFingerprints.put(item.oid, fingerprint);
+			}
+		}
+
+		/**
+		 * Whether entities whose record is identical to the persisted one, according to the change tracker
+		 * this storer has been created with, are dropped instead of being written again.
+		 *
+		 * @return whether unchanged entities are skipped.
+		 */
+		protected boolean skipUnchangedEntities()
+		{
+			return false;
 		}
 
 		@Override
@@ -695,7 +897,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		@Override
 		public void iterateMergeableEntries(final PersistenceAcceptor iterator)
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				for(Item e = this.head; (e = e.next) != null;)
 				{
@@ -727,7 +929,12 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				this.commitListenerSink.registerCommitListener(listener);
 				return;
 			}
-			this.commitListeners.add(listener);
+			
+			// type handlers may register listeners from several threads when storing in parallel
+			synchronized(this.monitor)
+			{
+				this.commitListeners.add(listener);
+			}
 		}
 
 		@Override
@@ -805,12 +1012,13 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 
 				final Binary         writeData;
 				final ChunksBuffer[] chunks   ;
-				synchronized(this.objectRegistryMonitor)
+				synchronized(this.monitor)
 				{
 					this.typeManager.checkForPendingRootInstances();
 					this.typeManager.checkForPendingRootsStoring(this);
 					chunks    = this.chunks;
 					writeData = this.synchComplete();
+					this.chunksWritten = true;
 
 					final long[] trustedObjectIds = this.synchYieldTrustedObjectIds();
 					if(trustedObjectIds != null)
@@ -822,10 +1030,16 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				// very costly IO-operation does not need to occupy the lock
 				this.writeToTarget(writeData, chunks);
 
+				if(this.changeTracker != null)
+				{
+					this.changeTracker.update(this.writtenFingerprints);
+				}
+
 				/*
 				 * mergeEntries acquires the object registry, which is the same monitor we use as
-				 * the storer's own lock. iterateMergeableEntries (called inside) reacquires it
-				 * recursively — fine, Java synchronization is reentrant. clearStorePendingRoots
+				 * the storer's own lock unless the local registries are isolated.
+				 * iterateMergeableEntries (called inside) acquires the storer's monitor, recursively
+				 * or as the only lock taken after the registry — fine either way. clearStorePendingRoots
 				 * is a plain field write on the type manager, called only from this thread.
 				 */
 				this.typeManager.clearStorePendingRoots();
@@ -982,7 +1196,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 
 		private Object synchLookupTrustedInstance(final long objectId)
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				return this.trustedObjectIds == null ? null : this.trustedObjectIds.get(objectId);
 			}
@@ -1004,7 +1218,8 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				this.healDepth + 1        ,
 				// route commit listeners to the ROOT storer (transitive healing flattens to the same
 				// root), so deferred effects fire only with the outermost commit's success.
-				this.commitListenerSink != null ? this.commitListenerSink : this
+				this.commitListenerSink != null ? this.commitListenerSink : this,
+				new Collaborators(this.bufferPool, null, this.changeTracker)
 			);
 			this.objectManager.registerLocalRegistry(healingStorer);
 
@@ -1047,7 +1262,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		 * trusted (e.g. {@code storeAll(parent, child)} re-storing a registry-known child, or an eager
 		 * storer's items). Returns {@code null} if capturing is disabled or nothing remains after pruning.
 		 * <p>
-		 * Must be called under {@code objectRegistryMonitor}.
+		 * Must be called under {@code monitor}.
 		 */
 		private long[] synchYieldTrustedObjectIds()
 		{
@@ -1119,7 +1334,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 
 		private long lookupOid(final Object object, final boolean includePins)
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				for(Item e = this.hashSlots[identityHashCode(object) & this.hashRange]; e != null; e = e.link)
 				{
@@ -1152,7 +1367,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			final PersistenceTypeHandler<Binary, T>    optionalHandler
 		)
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				for(Item e = this.hashSlots[identityHashCode(object) & this.hashRange]; e != null; e = e.link)
 				{
@@ -1205,7 +1420,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			
 			this.persistenceObjectRegistrationListener.forEach(c -> c.onObjectRegistration(objectId, instance));
 
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				// ensure handler (or fail if type is not persistable) before ensuring an OID.
 				final PersistenceTypeHandler<Binary, ? super T> typeHandler = optionalHandler != null
@@ -1214,6 +1429,10 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				;
 				final Item item = this.synchRegisterObjectId(instance, typeHandler, objectId);
 				this.tail = this.tail.next = item;
+				if(this.parallelStoring != null)
+				{
+					this.parallelStoring.enqueue(item);
+				}
 			}
 		}
 		
@@ -1257,7 +1476,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			 * never part of the item chain (not serialized, not merged) and are invisible to lookupOid,
 			 * so explicit stores and eager applies of the instance still get processed normally.
 			 */
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				// the skipped id is also a "trusted reference": referenced but not stored in this commit.
 				// Record it with its instance so the persistence target can validate its existence and,
@@ -1287,7 +1506,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			}
 
 			// the Lazy handler path acquires the monitor fresh.
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				// no instance available (unloaded Lazy cached id): unhealable if missing. add() never
 				// overwrites an instance recorded by registerSkippedOptional for the same id.
@@ -1342,7 +1561,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		
 		final boolean internalSkip(final Object instance, final long objectId)
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				// lookup returns -1 on failure, so 0 is a valid lookup result. Main reason for -1 vs. 0 distinction!
 				if(Swizzling.isNotFoundId(this.lookupOid(instance)))
@@ -1582,6 +1801,35 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			final boolean                               captureTrustedObjectIds,
 			final boolean                               healDanglingReferences
 		)
+		{
+			this(
+				objectManager          ,
+				objectRetriever        ,
+				typeManager            ,
+				target                 ,
+				bufferSizeProvider     ,
+				channelCount           ,
+				switchByteOrder        ,
+				persister              ,
+				captureTrustedObjectIds,
+				healDanglingReferences ,
+				Collaborators.New()
+			);
+		}
+
+		Eager(
+			final PersistenceObjectManager<Binary>      objectManager          ,
+			final ObjectSwizzling                       objectRetriever        ,
+			final PersistenceTypeHandlerManager<Binary> typeManager            ,
+			final PersistenceTarget<Binary>             target                 ,
+			final BufferSizeProviderIncremental         bufferSizeProvider     ,
+			final int                                   channelCount           ,
+			final boolean                               switchByteOrder        ,
+			final Persister                             persister              ,
+			final boolean                               captureTrustedObjectIds,
+			final boolean                               healDanglingReferences ,
+			final Collaborators                         collaborators
+		)
 		{
 			super(
 				objectManager          ,
@@ -1595,7 +1843,8 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				captureTrustedObjectIds,
 				healDanglingReferences ,
 				0                      ,
-				null
+				null                   ,
+				collaborators
 			);
 		}
 		
@@ -1649,6 +1898,86 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 
 	}
 
+	/**
+	 * An eager storer that writes only the entities whose state actually differs from the persisted one.
+	 * <p>
+	 * Every instance reachable from a stored root is serialized as by {@link Eager}, so changes in already
+	 * registered instances are found without having to know which instances have been modified. The record of
+	 * each entity is compared with the one last written for its object id by means of the fingerprints of the
+	 * {@link BinaryChangeTracker} the storer has been created with and is dropped if it is identical.
+	 * The references of dropped entities are traversed nevertheless.
+	 * <p>
+	 * This trades CPU for I/O: the reachable graph is still serialized completely, but only changed entities are
+	 * written. All storers of the same {@link Creator} record the fingerprints of the entities they write, and so do
+	 * the loaders of a {@link BinaryLoader.Creator} created with the same tracker for the entities they load.
+	 * Entities without a fingerprint are always written.
+	 *
+	 * @see Creator#createChangeTrackingStorer
+	 */
+	public class ChangeTracking extends Eager
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		ChangeTracking(
+			final PersistenceObjectManager<Binary>      objectManager          ,
+			final ObjectSwizzling                       objectRetriever        ,
+			final PersistenceTypeHandlerManager<Binary> typeManager            ,
+			final PersistenceTarget<Binary>             target                 ,
+			final BufferSizeProviderIncremental         bufferSizeProvider     ,
+			final int                                   channelCount           ,
+			final boolean                               switchByteOrder        ,
+			final Persister                             persister              ,
+			final boolean                               captureTrustedObjectIds,
+			final boolean                               healDanglingReferences ,
+			final Collaborators                         collaborators
+		)
+		{
+			super(
+				objectManager          ,
+				objectRetriever        ,
+				typeManager            ,
+				target                 ,
+				bufferSizeProvider     ,
+				channelCount           ,
+				switchByteOrder        ,
+				persister              ,
+				captureTrustedObjectIds,
+				healDanglingReferences ,
+				collaborators
+			);
+			// without the persisted fingerprints, no entity could ever be recognized as unchanged.
+			notNull(collaborators.changeTracker());
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		/**
+		 * Walks the entity graph reachable from the passed root and collects all entities whose state differs from
+		 * the persisted one to be written on {@link #commit()}. Equivalent to {@link #store(Object)}, which behaves
+		 * the same for this storer.
+		 *
+		 * @param root the root instance of the graph to be checked for changes
+		 * @return the root's object id
+		 */
+		public final long storeChanged(final Object root)
+		{
+			return this.store(root);
+		}
+
+		@Override
+		protected boolean skipUnchangedEntities()
+		{
+			return true;
+		}
+
+	}
+
 	/**
 	 * A lazy storer with batching support designed for write-heavy operations.
 	 * <p>
@@ -1680,8 +2009,8 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		 * Without it, a background flush could complete & clear chunks while a store thread is
 		 * still writing items into them.
 		 *
-		 * Lock order: commitLock -> objectRegistryMonitor (the storer's only inner lock).
-		 * Nothing acquires objectRegistryMonitor first and then waits on commitLock, so the order
+		 * Lock order: commitLock -> monitor (the storer's only inner lock).
+		 * Nothing acquires monitor first and then waits on commitLock, so the order
 		 * is one-way and cannot cycle.
 		 */
 		private final Object commitLock = new Object();
@@ -1698,7 +2027,8 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			final BatchStorer.Controller                controller             ,
 			final Duration                              checkInterval          ,
 			final boolean                               captureTrustedObjectIds,
-			final boolean                               healDanglingReferences
+			final boolean                               healDanglingReferences ,
+			final Collaborators                         collaborators
 		)
 		{
 			super(
@@ -1713,7 +2043,8 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				captureTrustedObjectIds,
 				healDanglingReferences ,
 				0                      ,
-				null
+				null                   ,
+				collaborators.sequential()
 			);
 			this.controller = notNull(controller);
 
@@ -1800,7 +2131,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		{
 			// super stores into a non-thread-safe BulkList; serialise the add against concurrent
 			// listener registrations and against commit's notifyCommitListeners iteration.
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				super.registerCommitListener(listener);
 			}
@@ -1809,7 +2140,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		@Override
 		public void registerRegistrationListener(final PersistenceObjectRegistrationListener listener)
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				super.registerRegistrationListener(listener);
 			}
@@ -1827,10 +2158,10 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			/*
 			 * commitLock serialises registration + item processing against commit/clear so that
 			 * a background flush cannot drain & clear chunks while items are still being written
-			 * into them. Inside, lookups and registrations briefly acquire objectRegistryMonitor
+			 * into them. Inside, lookups and registrations briefly acquire monitor
 			 * (the storer's only inner lock); recursion through ensureObjectId reacquires it.
 			 *
-			 * Lock order: commitLock -> objectRegistryMonitor.
+			 * Lock order: commitLock -> monitor.
 			 * optFlush() runs after the lock is released so internalFlush()'s commit can take
 			 * commitLock without holding it across the optFlush decision.
 			 */
@@ -1899,7 +2230,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		@Override
 		public void clear()
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				super.clear();
 				this.pendingSinceNanos = 0L;
@@ -1912,7 +2243,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			/*
 			 * commitLock serialises concurrent commits (background flush thread vs. explicit
 			 * user call) and excludes any in-flight processItems on the same storer. super.commit()
-			 * acquires the storer's inner monitor (objectRegistryMonitor) only for the brief
+			 * acquires the storer's inner monitor only for the brief
 			 * synchComplete and the mergeEntries calls; the IO write happens between them with
 			 * no lock held.
 			 */
@@ -1931,7 +2262,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		@Override
 		public boolean hasPendingData()
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				return !this.isEmpty();
 			}
@@ -1940,7 +2271,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		@Override
 		public void close()
 		{
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				if(this.closed)
 				{
@@ -1976,10 +2307,10 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			 * Decide whether to flush under the storer's inner monitor (to read size and
 			 * byte-count atomically), then perform the actual flush outside the lock.
 			 * internalFlush() takes commitLock internally; not holding any lock here keeps
-			 * the lock order single-direction (commitLock -> objectRegistryMonitor).
+			 * the lock order single-direction (commitLock -> monitor).
 			 */
 			final boolean doFlush;
-			synchronized(this.objectRegistryMonitor)
+			synchronized(this.monitor)
 			{
 				if(this.closed || this.isEmpty())
 				{
@@ -2126,6 +2457,157 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 
 	}
 
+	/**
+	 * State of one parallel processing of a storer's item chain (see {@code Default#processItemsParallel}):
+	 * per channel a queue of items to be stored into that channel's chunk, claimed by at most one worker
+	 * thread at a time.
+	 */
+	static final class ParallelStoring
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		// idle workers wait for other workers' discoveries. Short enough to not delay the next item noticeably.
+		private static final long IDLE_PARK_NANOS = 20_000;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final ChunksBuffer[]             chunks          ;
+		private final ChannelItems[]             channels        ;
+		private final int                        channelHashRange;
+		private final AtomicLong                 pending = new AtomicLong()       ;
+		private final AtomicInteger              active  = new AtomicInteger()    ;
+		private final AtomicInteger              workers = new AtomicInteger()    ;
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		ParallelStoring(final ChunksBuffer[] chunks)
+		{
+			super();
+			this.chunks           = chunks;
+			this.channelHashRange = chunks.length - 1;
+			this.channels         = new ChannelItems[chunks.length];
+			for(int i = 0; i < chunks.length; i++)
+			{
+				this.channels[i] = new ChannelItems();
+			}
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		final void enqueue(final Item item)
+		{
+			// counted before being queued, so the item's discoverer is still pending itself until then.
+			this.pending.incrementAndGet();
+			this.channels[(int)(item.oid & this.channelHashRange)].items.add(item);
+		}
+
+		final boolean isDone()
+		{
+			return this.pending.get() == 0 || this.failure.get() != null;
+		}
+
+		final void work(final BinaryStorer.Default storer)
+		{
+			this.active.incrementAndGet();
+			try
+			{
+				// different start channels for different workers reduce claim collisions.
+				final int offset = this.workers.getAndIncrement();
+				while(!this.isDone())
+				{
+					if(!this.storeClaimableItems(storer, offset))
+					{
+						LockSupport.parkNanos(IDLE_PARK_NANOS);
+					}
+				}
+			}
+			catch(final Throwable t)
+			{
+				this.failure.compareAndSet(null, t);
+			}
+			finally
+			{
+				this.active.decrementAndGet();
+			}
+		}
+
+		private boolean storeClaimableItems(final BinaryStorer.Default storer, final int offset)
+		{
+			boolean stored = false;
+			for(int i = 0; i < this.channels.length; i++)
+			{
+				final int          channelIndex = (offset + i) & this.channelHashRange;
+				final ChannelItems channel      = this.channels[channelIndex];
+				if(channel.items.isEmpty() || !channel.claim.compareAndSet(false, true))
+				{
+					continue;
+				}
+
+				try
+				{
+					for(Item item; this.failure.get() == null && (item = channel.items.poll()) != null;)
+					{
+						storer.storeItem(item, this.chunks[channelIndex]);
+						this.pending.decrementAndGet();
+						stored = true;
+					}
+				}
+				finally
+				{
+					channel.claim.set(false);
+				}
+			}
+
+			return stored;
+		}
+
+		final void awaitCompletion()
+		{
+			// no worker may still be writing when the storer continues, not even after a failure.
+			while(this.active.get() != 0)
+			{
+				LockSupport.parkNanos(IDLE_PARK_NANOS);
+			}
+
+			final Throwable failure = this.failure.get();
+			if(failure == null)
+			{
+				return;
+			}
+			if(failure instanceof RuntimeException)
+			{
+				throw (RuntimeException)failure;
+			}
+			if(failure instanceof Error)
+			{
+				throw (Error)failure;
+			}
+			throw new PersistenceException(failure);
+		}
+
+		static final class ChannelItems
+		{
+			final ConcurrentLinkedQueue<Item> items = new ConcurrentLinkedQueue<>();
+			final AtomicBoolean               claim = new AtomicBoolean();
+		}
+
+	}
+
 	/**
 	 * Pure pin entry for a skipped referent (see {@code Default#registerSkippedOptional}): holds the
 	 * instance strongly until commit/clear so the storage GC cannot delete the referenced entity while
@@ -2142,6 +2624,129 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		}
 
 	}
+
+	/**
+	 * The optional collaborators of the storers created by a {@link Creator}: the {@link BufferPool} their chunk
+	 * buffers are obtained from, the executor to store the entities of different channels in parallel on and the
+	 * {@link BinaryChangeTracker} keeping the fingerprints of the written entities.
+	 *
+	 * @see BinaryStorer#Creator(BinaryChannelCountProvider, boolean, boolean, boolean, Collaborators)
+	 */
+	public final class Collaborators
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// static methods //
+		///////////////////
+
+		/**
+		 * Creates collaborators for sequentially storing storers without a buffer pool and change tracking.
+		 *
+		 * @return the newly created collaborators.
+		 */
+		public static Collaborators New()
+		{
+			return New(BufferPool.Unpooled(), null, null);
+		}
+
+		/**
+		 * Creates new {@link Collaborators}.
+		 * <p>
+		 * If a storing executor is passed, the created lazy and eager storers store the entities of different
+		 * channels in parallel: the committing thread and up to {@code channelCount - 1} tasks run on the executor
+		 * each store the items of one channel at a time into that channel's chunk. The stored data per entity
+		 * is the same as with sequential storing, only the order of the entities in a channel's chunk may differ.
+		 * This pays off for large commits with many channels, for small graphs the coordination overhead outweighs
+		 * the gain. Type handlers (including custom ones) must be thread-safe, as the standard handlers are.
+		 * Batch storers always store sequentially.
+		 * <p>
+		 * If a change tracker is passed, the creator supports {@link Creator#createChangeTrackingStorer change
+		 * tracking storers}, see {@link BinaryStorer.ChangeTracking}. The lazy, eager and batch storers record the
+		 * fingerprints of the entities they write as well, which costs hashing every written record. So the same
+		 * tracker must be used by all storers writing to the same target.
+		 *
+		 * @param bufferPool      the {@link BufferPool} the storers obtain their chunk buffers from.
+		 * @param storingExecutor the executor to run parallel storing tasks on, e.g.
+		 *                        {@link java.util.concurrent.ForkJoinPool#commonPool()}, or {@code null}
+		 *                        for sequential storing.
+		 * @param changeTracker   the change tracker keeping the fingerprints of the written entities or
+		 *                        {@code null} for no change tracking.
+		 *
+		 * @return the newly created collaborators.
+		 */
+		public static Collaborators New(
+			final BufferPool          bufferPool     ,
+			final Executor            storingExecutor,
+			final BinaryChangeTracker changeTracker
+		)
+		{
+			return new Collaborators(
+				notNull(bufferPool)     ,
+				mayNull(storingExecutor),
+				mayNull(changeTracker)
+			);
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final BufferPool          bufferPool     ;
+		private final Executor            storingExecutor;
+		private final BinaryChangeTracker changeTracker  ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Collaborators(
+			final BufferPool          bufferPool     ,
+			final Executor            storingExecutor,
+			final BinaryChangeTracker changeTracker
+		)
+		{
+			super();
+			this.bufferPool      = bufferPool     ;
+			this.storingExecutor = storingExecutor;
+			this.changeTracker   = changeTracker  ;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		public BufferPool bufferPool()
+		{
+			return this.bufferPool;
+		}
+
+		public Executor storingExecutor()
+		{
+			return this.storingExecutor;
+		}
+
+		public BinaryChangeTracker changeTracker()
+		{
+			return this.changeTracker;
+		}
+
+		/**
+		 * @return these collaborators without the storing executor.
+		 */
+		Collaborators sequential()
+		{
+			return this.storingExecutor == null
+				? this
+				: new Collaborators(this.bufferPool, null, this.changeTracker)
+			;
+		}
+
+	}
 		
 	/**
 	 * Creates a new default {@link BinaryStorer.Creator}.
@@ -2202,12 +2807,46 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 		final boolean                    captureTrustedObjectIds,
 		final boolean                    healDanglingReferences
 	)
+	{
+		return Creator(
+			channelCountProvider   ,
+			switchByteOrder        ,
+			captureTrustedObjectIds,
+			healDanglingReferences ,
+			Collaborators.New()
+		);
+	}
+
+	/**
+	 * Creates a new default {@link BinaryStorer.Creator} whose storers use the passed {@link Collaborators}.
+	 *
+	 * @param channelCountProvider    supplies the number of channels each created storer will partition its
+	 *                                chunk buffers across.
+	 * @param switchByteOrder         whether persisted values should use a non-native byte order.
+	 * @param captureTrustedObjectIds whether created storers collect the object ids they reference without
+	 *                                storing (see {@link Binary#trustedObjectIds()}) so the persistence
+	 *                                target can validate their existence.
+	 * @param healDanglingReferences  whether created storers automatically heal a write the target rejects
+	 *                                for dangling references, by re-storing the captured instances under
+	 *                                their existing object ids and retrying.
+	 * @param collaborators           the buffer pool, storing executor and change tracker of the created storers.
+	 *
+	 * @return the newly created storer creator.
+	 */
+	public static BinaryStorer.Creator Creator(
+		final BinaryChannelCountProvider channelCountProvider   ,
+		final boolean                    switchByteOrder        ,
+		final boolean                    captureTrustedObjectIds,
+		final boolean                    healDanglingReferences ,
+		final Collaborators              collaborators
+	)
 	{
 		return new BinaryStorer.Creator.Default(
-			notNull(channelCountProvider),
-			        switchByteOrder      ,
+			notNull(channelCountProvider)  ,
+			        switchByteOrder        ,
 			        captureTrustedObjectIds,
-			        healDanglingReferences
+			        healDanglingReferences ,
+			notNull(collaborators)
 		);
 	}
 
@@ -2251,6 +2890,36 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			Persister                             persister
 		);
 
+		/**
+		 * Creates a {@link BinaryStorer.ChangeTracking} storer that writes only the entities reachable from the
+		 * stored roots whose state differs from the persisted one. The default implementation throws
+		 * {@link UnsupportedOperationException}, creators with a {@link BinaryChangeTracker} override it.
+		 *
+		 * @param typeManager        the provided type manager.
+		 * @param objectManager      the provided object manager.
+		 * @param objectRetriever    the provided object retriever.
+		 * @param target             the provided persistence target.
+		 * @param bufferSizeProvider the provided buffer size provider.
+		 * @param persister          the provided storage context.
+		 *
+		 * @return a new change tracking storer.
+		 *
+		 * @throws UnsupportedOperationException if this creator does not track changes.
+		 */
+		public default BinaryStorer.ChangeTracking createChangeTrackingStorer(
+			final PersistenceTypeHandlerManager<Binary> typeManager       ,
+			final PersistenceObjectManager<Binary>      objectManager     ,
+			final ObjectSwizzling                       objectRetriever   ,
+			final PersistenceTarget<Binary>             target            ,
+			final BufferSizeProviderIncremental         bufferSizeProvider,
+			final Persister                             persister
+		)
+		{
+			throw new UnsupportedOperationException(
+				this.getClass().getName() + " does not support change tracking storer creation."
+			);
+		}
+
 		/**
 		 * Skeletal {@link Creator} base holding the channel-count provider and byte-order flag shared by
 		 * all created storers. Subclasses override the per-flavor {@code createXxxStorer} methods.
@@ -2266,6 +2935,7 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 			private final boolean                    switchByteOrder        ;
 			private final boolean                    captureTrustedObjectIds;
 			private final boolean                    healDanglingReferences ;
+			private final Collaborators              collaborators          ;
 
 
 
@@ -2296,12 +2966,24 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				final boolean                    captureTrustedObjectIds,
 				final boolean                    healDanglingReferences
 			)
+			{
+				this(channelCountProvider, switchByteOrder, captureTrustedObjectIds, healDanglingReferences, Collaborators.New());
+			}
+
+			protected Abstract(
+				final BinaryChannelCountProvider channelCountProvider   ,
+				final boolean                    switchByteOrder        ,
+				final boolean                    captureTrustedObjectIds,
+				final boolean                    healDanglingReferences ,
+				final Collaborators              collaborators
+			)
 			{
 				super();
 				this.channelCountProvider    = channelCountProvider   ;
 				this.switchByteOrder         = switchByteOrder        ;
 				this.captureTrustedObjectIds = captureTrustedObjectIds;
 				this.healDanglingReferences  = healDanglingReferences ;
+				this.collaborators           = collaborators          ;
 			}
 
 
@@ -2330,12 +3012,22 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				return this.healDanglingReferences;
 			}
 
+			protected Collaborators collaborators()
+			{
+				return this.collaborators;
+			}
+
+			protected BinaryChangeTracker changeTracker()
+			{
+				return this.collaborators.changeTracker();
+			}
+
 		}
 		
 		/**
 		 * Default {@link Creator} implementation. Wires the channel count and byte-order flag through to
-		 * a {@link BinaryStorer.Default}, {@link BinaryStorer.Eager}, or {@link BinaryStorer.Batching}
-		 * instance and registers each created storer as a local registry on its
+		 * a {@link BinaryStorer.Default}, {@link BinaryStorer.Eager}, {@link BinaryStorer.ChangeTracking}
+		 * or {@link BinaryStorer.Batching} instance and registers each created storer as a local registry on its
 		 * {@link PersistenceObjectManager}.
 		 */
 		public final class Default extends Abstract
@@ -2364,7 +3056,18 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 				final boolean                    healDanglingReferences
 			)
 			{
-				super(channelCountProvider, switchByteOrder, captureTrustedObjectIds, healDanglingReferences);
+				this(channelCountProvider, switchByteOrder, captureTrustedObjectIds, healDanglingReferences, Collaborators.New());
+			}
+
+			Default(
+				final BinaryChannelCountProvider channelCountProvider   ,
+				final boolean                    switchByteOrder        ,
+				final boolean                    captureTrustedObjectIds,
+				final boolean                    healDanglingReferences ,
+				final Collaborators              collaborators
+			)
+			{
+				super(channelCountProvider, switchByteOrder, captureTrustedObjectIds, healDanglingReferences, collaborators);
 			}
 
 			@Override
@@ -2391,7 +3094,8 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 					this.captureTrustedObjectIds(),
 					this.healDanglingReferences() ,
 					0                             ,
-					null
+					null                          ,
+					this.collaborators()
 				);
 				objectManager.registerLocalRegistry(storer);
 
@@ -2419,12 +3123,49 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 					this.switchByteOrder()        ,
 					persister                     ,
 					this.captureTrustedObjectIds(),
-					this.healDanglingReferences()
+					this.healDanglingReferences() ,
+					this.collaborators()
 				);
 				objectManager.registerLocalRegistry(storer);
 				
 				return storer;
 			}
+
+			@Override
+			public BinaryStorer.ChangeTracking createChangeTrackingStorer(
+				final PersistenceTypeHandlerManager<Binary> typeManager       ,
+				final PersistenceObjectManager<Binary>      objectManager     ,
+				final ObjectSwizzling                       objectRetriever   ,
+				final PersistenceTarget<Binary>             target            ,
+				final BufferSizeProviderIncremental         bufferSizeProvider,
+				final Persister                             persister
+			)
+			{
+				if(this.changeTracker() == null)
+				{
+					throw new UnsupportedOperationException(
+						"Change tracking storers require a creator with a " + BinaryChangeTracker.class.getSimpleName() + "."
+					);
+				}
+				this.validateIsStoring(target);
+
+				final BinaryStorer.ChangeTracking storer = new BinaryStorer.ChangeTracking(
+					objectManager                 ,
+					objectRetriever               ,
+					typeManager                   ,
+					target                        ,
+					bufferSizeProvider            ,
+					this.channelCount()           ,
+					this.switchByteOrder()        ,
+					persister                     ,
+					this.captureTrustedObjectIds(),
+					this.healDanglingReferences() ,
+					this.collaborators()
+				);
+				objectManager.registerLocalRegistry(storer);
+
+				return storer;
+			}
 			
 			@Override
 			public BatchStorer createBatchStorer(
@@ -2452,7 +3193,8 @@ public interface BinaryStorer extends PersistenceStorer, PersistenceStoringCallb
 					controller                    ,
 					checkInterval                 ,
 					this.captureTrustedObjectIds(),
-					this.healDanglingReferences()
+					this.healDanglingReferences() ,
+					this.collaborators()
 				);
 				objectManager.registerLocalRegistry(storer);
 
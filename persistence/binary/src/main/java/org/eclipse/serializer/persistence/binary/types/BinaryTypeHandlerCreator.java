@@ -92,6 +92,48 @@ public interface BinaryTypeHandlerCreator extends PersistenceTypeHandlerCreator<
 		final BinaryFieldHandlerProvider                         fieldHandlerProvider      ,
 		final boolean                                            switchByteOrder
 	)
+	{
+		return New(
+			typeAnalyzer              ,
+			typeResolver              ,
+			lengthResolver            ,
+			eagerStoringFieldEvaluator,
+			instantiatorProvider      ,
+			typeHandlerManager        ,
+			fieldHandlerProvider      ,
+			switchByteOrder           ,
+			false
+		);
+	}
+	
+	/**
+	 * Like {@link #New(PersistenceTypeAnalyzer, PersistenceTypeResolver, PersistenceFieldLengthResolver,
+	 * PersistenceEagerStoringFieldEvaluator, PersistenceTypeInstantiatorProvider, Referencing,
+	 * BinaryFieldHandlerProvider, boolean)}, but optionally creating {@link BinaryHandlerGeneratedType}s
+	 * instead of {@link BinaryHandlerGenericType}s for generic types.
+	 * 
+	 * @param typeAnalyzer               the type analyzer
+	 * @param typeResolver               the type resolver
+	 * @param lengthResolver             the field length resolver
+	 * @param eagerStoringFieldEvaluator the eager storing field evaluator
+	 * @param instantiatorProvider       the instantiator provider
+	 * @param typeHandlerManager         the type handler manager
+	 * @param fieldHandlerProvider       the field handler provider
+	 * @param switchByteOrder            whether the byte order is switched
+	 * @param generatedTypeHandlers      whether generic types get handlers with generated value accessors
+	 * @return a new {@link BinaryTypeHandlerCreator}
+	 */
+	public static BinaryTypeHandlerCreator New(
+		final PersistenceTypeAnalyzer                            typeAnalyzer              ,
+		final PersistenceTypeResolver                            typeResolver              ,
+		final PersistenceFieldLengthResolver                     lengthResolver            ,
+		final PersistenceEagerStoringFieldEvaluator              eagerStoringFieldEvaluator,
+		final PersistenceTypeInstantiatorProvider<Binary>        instantiatorProvider      ,
+		final Referencing<PersistenceTypeHandlerManager<Binary>> typeHandlerManager        ,
+		final BinaryFieldHandlerProvider                         fieldHandlerProvider      ,
+		final boolean                                            switchByteOrder           ,
+		final boolean                                            generatedTypeHandlers
+	)
 	{
 		return new BinaryTypeHandlerCreator.Default(
 			notNull(typeAnalyzer)              ,
@@ -101,7 +143,8 @@ public interface BinaryTypeHandlerCreator extends PersistenceTypeHandlerCreator<
 			notNull(instantiatorProvider)      ,
 			notNull(typeHandlerManager)        ,
 			notNull(fieldHandlerProvider)      ,
-			switchByteOrder
+			switchByteOrder                    ,
+			generatedTypeHandlers
 		);
 	}
 
@@ -116,6 +159,7 @@ public interface BinaryTypeHandlerCreator extends PersistenceTypeHandlerCreator<
 		final PersistenceTypeInstantiatorProvider<Binary>        instantiatorProvider    ;
 		final Referencing<PersistenceTypeHandlerManager<Binary>> typeHandlerManager      ;
 		final boolean                                            switchByteOrder         ;
+		final boolean                                            generatedTypeHandlers   ;
 		      EntityTypeHandlerManager entityTypeHandlerManager;
 		final private BinaryFieldHandlerProvider                 fieldHandlerProvider    ;
 		
@@ -134,12 +178,38 @@ public interface BinaryTypeHandlerCreator extends PersistenceTypeHandlerCreator<
 			final BinaryFieldHandlerProvider                         fieldHandlerProvider      ,
 			final boolean                                            switchByteOrder
 		)
+		{
+			this(
+				typeAnalyzer              ,
+				typeResolver              ,
+				lengthResolver            ,
+				eagerStoringFieldEvaluator,
+				instantiatorProvider      ,
+				typeHandlerManager        ,
+				fieldHandlerProvider      ,
+				switchByteOrder           ,
+				false
+			);
+		}
+
+		Default(
+			final PersistenceTypeAnalyzer                            typeAnalyzer              ,
+			final PersistenceTypeResolver                            typeResolver              ,
+			final PersistenceFieldLengthResolver                     lengthResolver            ,
+			final PersistenceEagerStoringFieldEvaluator              eagerStoringFieldEvaluator,
+			final PersistenceTypeInstantiatorProvider<Binary>        instantiatorProvider      ,
+			final Referencing<PersistenceTypeHandlerManager<Binary>> typeHandlerManager        ,
+			final BinaryFieldHandlerProvider                         fieldHandlerProvider      ,
+			final boolean                                            switchByteOrder           ,
+			final boolean                                            generatedTypeHandlers
+		)
 		{
 			super(typeAnalyzer, typeResolver, lengthResolver, eagerStoringFieldEvaluator);
-			this.instantiatorProvider = instantiatorProvider;
-			this.typeHandlerManager   = typeHandlerManager  ;
-			this.fieldHandlerProvider = fieldHandlerProvider;
-			this.switchByteOrder      = switchByteOrder     ;
+			this.instantiatorProvider  = instantiatorProvider ;
+			this.typeHandlerManager    = typeHandlerManager   ;
+			this.fieldHandlerProvider  = fieldHandlerProvider ;
+			this.switchByteOrder       = switchByteOrder      ;
+			this.generatedTypeHandlers = generatedTypeHandlers;
 		}
 
 
@@ -242,11 +312,42 @@ public interface BinaryTypeHandlerCreator extends PersistenceTypeHandlerCreator<
 			 * 
 			 */
 			
+			if(type.isRecord())
+			{
+				// same members and binary form, but instances are created via the canonical constructor
+				return BinaryHandlerRecord.New(
+					type,
+					this.deriveTypeName(type),
+					persistableFields,
+					persisterFields,
+					this.lengthResolver(),
+					this.eagerStoringFieldEvaluator(),
+					this.fieldHandlerProvider        ,
+					this.switchByteOrder
+				);
+			}
+			
 			if(persistableFields.isEmpty())
 			{
 				return this.internalCreateTypeHandlerGenericStateless(type);
 			}
 
+			if(this.generatedTypeHandlers)
+			{
+				// same members and binary form, but with a per-type generated value accessor
+				return BinaryHandlerGeneratedType.New(
+					type,
+					this.deriveTypeName(type),
+					persistableFields,
+					persisterFields,
+					this.lengthResolver(),
+					this.eagerStoringFieldEvaluator(),
+					this.instantiatorProvider.provideTypeInstantiator(type),
+					this.fieldHandlerProvider        ,
+					this.switchByteOrder
+				);
+			}
+
 			// default implementation simply always uses a blank memory instantiator
 			return BinaryHandlerGenericType.New(
 				type,
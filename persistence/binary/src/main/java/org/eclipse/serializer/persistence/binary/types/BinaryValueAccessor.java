@@ -0,0 +1,50 @@
+package org.eclipse.serializer.persistence.binary.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence Binary
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import org.eclipse.serializer.persistence.types.PersistenceLoadHandler;
+import org.eclipse.serializer.persistence.types.PersistenceStoreHandler;
+
+/**
+ * Copies all persistent field values of one entity type between an instance and its binary form at once,
+ * as opposed to one {@link BinaryValueStorer} / {@link BinaryValueSetter} call per field.
+ * Implementations are generated per type by {@link BinaryValueAccessorGenerator} and produce exactly the same
+ * binary form as the per-field functions they replace.
+ *
+ * @see BinaryHandlerGeneratedType
+ */
+public interface BinaryValueAccessor
+{
+	/**
+	 * Writes the persisted form of all field values of {@code instance} to the entity content starting at
+	 * {@code address}. References are resolved to object ids via {@code handler}.
+	 *
+	 * @param instance the instance to read the field values from.
+	 * @param address  the absolute address of the entity content.
+	 * @param handler  the store handler used to resolve references.
+	 */
+	public void storeValues(Object instance, long address, PersistenceStoreHandler<Binary> handler);
+
+	/**
+	 * Sets all field values of {@code instance} from the entity content starting at {@code address}.
+	 * Object ids are resolved to instances via {@code handler}.
+	 *
+	 * @param address  the absolute address of the entity content.
+	 * @param instance the instance to set the field values to.
+	 * @param handler  the load handler used to resolve object ids.
+	 */
+	public void setValues(long address, Object instance, PersistenceLoadHandler handler);
+
+}
@@ -0,0 +1,621 @@
+package org.eclipse.serializer.persistence.binary.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence Binary
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.binary.exceptions.BinaryPersistenceException;
+import org.eclipse.serializer.persistence.types.PersistenceLoadHandler;
+import org.eclipse.serializer.persistence.types.PersistenceStoreHandler;
+import org.eclipse.serializer.persistence.types.PersistenceTypeDefinitionMemberFieldReflective;
+
+
+/**
+ * Generates a {@link BinaryValueAccessor} per entity type as a hidden class (see
+ * {@link MethodHandles.Lookup#defineHiddenClass(byte[], boolean, MethodHandles.Lookup.ClassOption...)}).
+ * Its methods contain one straight-line sequence of {@link XMemory} calls per field with the memory and binary
+ * offsets as constants, instead of a loop over {@link BinaryValueStorer} / {@link BinaryValueSetter} instances.
+ * This replaces a megamorphic call site per field by code the JIT can compile and inline per type.
+ * <p>
+ * Only the standard functions of {@link BinaryValueFunctions} can be translated. If any field uses a different
+ * function, e.g. one provided by a {@link BinaryFieldHandlerProvider}, no accessor is generated.
+ */
+public final class BinaryValueAccessorGenerator
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	private static final int
+		CLASS_FILE_VERSION = 61, // Java 17
+		MAXIMUM_CODE_SIZE  = 65535
+	;
+
+	private static final String
+		GENERATED_CLASS    = BinaryValueAccessorGenerator.class.getName().replace('.', '/') + "$Generated",
+		ACCESSOR_INTERFACE = internalName(BinaryValueAccessor.class)    ,
+		STORE_HANDLER      = internalName(PersistenceStoreHandler.class),
+		LOAD_HANDLER       = internalName(PersistenceLoadHandler.class) ,
+		MEMORY             = internalName(XMemory.class)                ,
+		OBJECT             = "java/lang/Object"
+	;
+
+	private static final int
+		ALOAD_0         = 0x2A,
+		ALOAD_1         = 0x2B,
+		ALOAD_3         = 0x2D,
+		ALOAD           = 0x19,
+		LLOAD_1         = 0x1F,
+		LLOAD_2         = 0x20,
+		LDC2_W          = 0x14,
+		LADD            = 0x61,
+		RETURN          = 0xB1,
+		INVOKESPECIAL   = 0xB7,
+		INVOKESTATIC    = 0xB8,
+		INVOKEINTERFACE = 0xB9
+	;
+
+	private static final int
+		ACC_PUBLIC = 0x0001,
+		ACC_FINAL  = 0x0010,
+		ACC_SUPER  = 0x0020
+	;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	/**
+	 * Generates an accessor equivalent to the passed per-field value functions.
+	 *
+	 * @param members         the persistent members in persisted order.
+	 * @param storers         the storers of the members, in the same order.
+	 * @param storingOffsets  the memory offsets of the members for storing.
+	 * @param setters         the setters of the members, in the same order.
+	 * @param settingOffsets  the memory offsets of the members for setting.
+	 * @param switchByteOrder whether the binary form uses a non-native byte order.
+	 *
+	 * @return the generated accessor or {@code null} if the passed functions cannot be translated.
+	 *
+	 * @throws BinaryPersistenceException if the generated class cannot be defined.
+	 */
+	public static BinaryValueAccessor generate(
+		final Iterable<? extends PersistenceTypeDefinitionMemberFieldReflective> members        ,
+		final BinaryValueStorer[]                                                storers        ,
+		final long[]                                                             storingOffsets ,
+		final BinaryValueSetter[]                                                setters        ,
+		final long[]                                                             settingOffsets ,
+		final boolean                                                            switchByteOrder
+	)
+	{
+		if(storers.length != setters.length || storers.length != storingOffsets.length
+			|| setters.length != settingOffsets.length
+		)
+		{
+			return null;
+		}
+
+		final ClassWriter writer       = new ClassWriter();
+		final CodeWriter  storeCode    = new CodeWriter(writer);
+		final CodeWriter  setCode      = new CodeWriter(writer);
+		long              binaryOffset = 0;
+		int               i            = 0;
+		for(final PersistenceTypeDefinitionMemberFieldReflective member : members)
+		{
+			if(i == storers.length)
+			{
+				return null;
+			}
+
+			final Class<?> type = member.type();
+			if(type.isPrimitive())
+			{
+				if(storers[i] != BinaryValueFunctions.getObjectValueStorer(type, false, switchByteOrder)
+					|| setters[i] != BinaryValueFunctions.getObjectValueSetter(type, switchByteOrder)
+				)
+				{
+					return null;
+				}
+				storeCode.storePrimitive(type, storingOffsets[i], binaryOffset, switchByteOrder);
+				setCode.setPrimitive(type, settingOffsets[i], binaryOffset, switchByteOrder);
+			}
+			else
+			{
+				final boolean isEager;
+				if(storers[i] == BinaryValueFunctions.getObjectValueStorer(type, false, switchByteOrder))
+				{
+					isEager = false;
+				}
+				else if(storers[i] == BinaryValueFunctions.getObjectValueStorer(type, true, switchByteOrder))
+				{
+					isEager = true;
+				}
+				else
+				{
+					return null;
+				}
+				if(setters[i] != BinaryValueFunctions.getObjectValueSetter(type, switchByteOrder))
+				{
+					return null;
+				}
+				storeCode.storeReference(storingOffsets[i], binaryOffset, isEager, switchByteOrder);
+				setCode.setReference(settingOffsets[i], binaryOffset, switchByteOrder);
+			}
+
+			binaryOffset += member.persistentMaximumLength();
+			i++;
+		}
+		if(i != storers.length || storeCode.size() >= MAXIMUM_CODE_SIZE || setCode.size() >= MAXIMUM_CODE_SIZE)
+		{
+			return null;
+		}
+
+		return define(writer.toClassFile(storeCode, setCode));
+	}
+
+	private static BinaryValueAccessor define(final byte[] classFile)
+	{
+		try
+		{
+			// the hidden class is only accessible via the lookup returned for it.
+			final MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(classFile, true);
+
+			return (BinaryValueAccessor)lookup
+				.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class))
+				.invoke()
+			;
+		}
+		catch(final Throwable t)
+		{
+			throw new BinaryPersistenceException("Could not define generated value accessor.", t);
+		}
+	}
+
+	private static String internalName(final Class<?> type)
+	{
+		return type.getName().replace('.', '/');
+	}
+
+	private static String descriptor(final Class<?> primitiveType)
+	{
+		if(primitiveType == byte.class)
+		{
+			return "B";
+		}
+		if(primitiveType == boolean.class)
+		{
+			return "Z";
+		}
+		if(primitiveType == short.class)
+		{
+			return "S";
+		}
+		if(primitiveType == char.class)
+		{
+			return "C";
+		}
+		if(primitiveType == int.class)
+		{
+			return "I";
+		}
+		if(primitiveType == float.class)
+		{
+			return "F";
+		}
+		if(primitiveType == long.class)
+		{
+			return "J";
+		}
+		if(primitiveType == double.class)
+		{
+			return "D";
+		}
+
+		// unknown / unhandled primitive (e.g. void)
+		throw new IllegalArgumentException(String.valueOf(primitiveType));
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	/**
+	 * Dummy constructor to prevent instantiation of this static-only utility class.
+	 *
+	 * @throws UnsupportedOperationException when called
+	 */
+	private BinaryValueAccessorGenerator()
+	{
+		// static only
+		throw new UnsupportedOperationException();
+	}
+
+
+
+	/**
+	 * The minimal subset of the class file format needed for a final class with a default constructor and
+	 * two methods without branches. Without branches, no stack map frames are required.
+	 */
+	static final class ClassWriter
+	{
+		private final HashMap<String, Integer> constants    = new HashMap<>();
+		private final ByteArrayOutputStream    constantPool = new ByteArrayOutputStream();
+		private final DataOutputStream         pool         = new DataOutputStream(this.constantPool);
+		private       int                      poolCount    = 1;
+
+		private int constant(final String key, final int slots, final PoolWriting writing)
+		{
+			final Integer existing = this.constants.get(key);
+			if(existing != null)
+			{
+				return existing;
+			}
+
+			try
+			{
+				writing.write(this.pool);
+			}
+			catch(final IOException e)
+			{
+				// cannot happen for an in-memory stream
+				throw new BinaryPersistenceException(e);
+			}
+			final int index = this.poolCount;
+			this.poolCount += slots;
+			this.constants.put(key, index);
+
+			return index;
+		}
+
+		int utf8(final String value)
+		{
+			return this.constant("U" + value, 1, out ->
+			{
+				out.writeByte(1);
+				out.writeUTF(value);
+			});
+		}
+
+		int longConstant(final long value)
+		{
+			return this.constant("J" + value, 2, out ->
+			{
+				out.writeByte(5);
+				out.writeLong(value);
+			});
+		}
+
+		int classConstant(final String internalName)
+		{
+			final int name = this.utf8(internalName);
+			return this.constant("C" + internalName, 1, out ->
+			{
+				out.writeByte(7);
+				out.writeShort(name);
+			});
+		}
+
+		int methodConstant(final String owner, final String name, final String descriptor, final boolean isInterface)
+		{
+			final int ownerIndex       = this.classConstant(owner);
+			final int nameIndex        = this.utf8(name);
+			final int descriptorIndex  = this.utf8(descriptor);
+			final int nameAndTypeIndex = this.constant("N" + name + descriptor, 1, out ->
+			{
+				out.writeByte(12);
+				out.writeShort(nameIndex);
+				out.writeShort(descriptorIndex);
+			});
+
+			return this.constant((isInterface ? "I" : "M") + owner + '.' + name + descriptor, 1, out ->
+			{
+				out.writeByte(isInterface ? 11 : 10);
+				out.writeShort(ownerIndex);
+				out.writeShort(nameAndTypeIndex);
+			});
+		}
+
+		byte[] toClassFile(final CodeWriter storeCode, final CodeWriter setCode)
+		{
+			final CodeWriter constructorCode = new CodeWriter(this);
+			constructorCode.op(ALOAD_0);
+			constructorCode.op(INVOKESPECIAL, this.methodConstant(OBJECT, "<init>", "()V", false));
+
+			// all indices must be known before the constant pool is written
+			final int thisClass      = this.classConstant(GENERATED_CLASS);
+			final int superClass     = this.classConstant(OBJECT);
+			final int interfaceClass = this.classConstant(ACCESSOR_INTERFACE);
+			final int codeName       = this.utf8("Code");
+			final int[] constructor  = {this.utf8("<init>"), this.utf8("()V")};
+			final int[] storeValues  = {
+				this.utf8("storeValues"),
+				this.utf8("(L" + OBJECT + ";JL" + STORE_HANDLER + ";)V")
+			};
+			final int[] setValues    = {
+				this.utf8("setValues"),
+				this.utf8("(JL" + OBJECT + ";L" + LOAD_HANDLER + ";)V")
+			};
+
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			final DataOutputStream      out   = new DataOutputStream(bytes);
+			try
+			{
+				out.writeInt(0xCAFEBABE);
+				out.writeShort(0);
+				out.writeShort(CLASS_FILE_VERSION);
+				out.writeShort(this.poolCount);
+				this.constantPool.writeTo(out);
+				out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+				out.writeShort(thisClass);
+				out.writeShort(superClass);
+				out.writeShort(1);
+				out.writeShort(interfaceClass);
+				out.writeShort(0); // fields
+				out.writeShort(3); // methods
+				writeMethod(out, constructor, codeName, constructorCode, 1);
+				writeMethod(out, storeValues, codeName, storeCode    , 5);
+				writeMethod(out, setValues  , codeName, setCode      , 5);
+				out.writeShort(0); // attributes
+			}
+			catch(final IOException e)
+			{
+				// cannot happen for an in-memory stream
+				throw new BinaryPersistenceException(e);
+			}
+
+			return bytes.toByteArray();
+		}
+
+		private static void writeMethod(
+			final DataOutputStream out      ,
+			final int[]            signature,
+			final int              codeName ,
+			final CodeWriter       code     ,
+			final int              maxLocals
+		)
+			throws IOException
+		{
+			code.op(RETURN);
+
+			out.writeShort(ACC_PUBLIC);
+			out.writeShort(signature[0]);
+			out.writeShort(signature[1]);
+			out.writeShort(1); // attributes
+			out.writeShort(codeName);
+			out.writeInt(12 + code.size());
+			out.writeShort(CodeWriter.MAXIMUM_STACK);
+			out.writeShort(maxLocals);
+			out.writeInt(code.size());
+			code.writeTo(out);
+			out.writeShort(0); // exception table
+			out.writeShort(0); // attributes
+		}
+
+	}
+
+	@FunctionalInterface
+	interface PoolWriting
+	{
+		public void write(DataOutputStream out) throws IOException;
+	}
+
+	/**
+	 * Writes the per-field instruction sequences of {@link BinaryValueAccessor#storeValues} (locals: instance 1,
+	 * address 2, handler 4) and {@link BinaryValueAccessor#setValues} (locals: address 1, instance 3, handler 4).
+	 */
+	static final class CodeWriter extends ByteArrayOutputStream
+	{
+		// the deepest sequence is a reference setter: instance, offset, handler, address, binary offset
+		static final int MAXIMUM_STACK = 8;
+
+		private final ClassWriter writer;
+
+		CodeWriter(final ClassWriter writer)
+		{
+			super();
+			this.writer = writer;
+		}
+
+		void op(final int opcode)
+		{
+			this.write(opcode);
+		}
+
+		void op(final int opcode, final int index)
+		{
+			this.write(opcode);
+			this.write(index >>> 8);
+			this.write(index);
+		}
+
+		private void loadHandler()
+		{
+			// the handler is the fifth local in both methods
+			this.write(ALOAD);
+			this.write(4);
+		}
+
+		private void constant(final long value)
+		{
+			this.op(LDC2_W, this.writer.longConstant(value));
+		}
+
+		private void address(final int addressOpcode, final long binaryOffset)
+		{
+			this.op(addressOpcode);
+			if(binaryOffset != 0)
+			{
+				this.constant(binaryOffset);
+				this.op(LADD);
+			}
+		}
+
+		private void invokeStatic(final String owner, final String name, final String descriptor)
+		{
+			this.op(INVOKESTATIC, this.writer.methodConstant(owner, name, descriptor, false));
+		}
+
+		private void invokeInterface(final String owner, final String name, final String descriptor, final int argSlots)
+		{
+			this.op(INVOKEINTERFACE, this.writer.methodConstant(owner, name, descriptor, true));
+			this.write(1 + argSlots);
+			this.write(0);
+		}
+
+		private void reverse(final String descriptor)
+		{
+			switch(descriptor)
+			{
+				case "S": this.invokeStatic("java/lang/Short"    , "reverseBytes", "(S)S"); break;
+				case "C": this.invokeStatic("java/lang/Character", "reverseBytes", "(C)C"); break;
+				case "I": this.invokeStatic("java/lang/Integer"  , "reverseBytes", "(I)I"); break;
+				case "J": this.invokeStatic("java/lang/Long"     , "reverseBytes", "(J)J"); break;
+				default : break; // single bytes
+			}
+		}
+
+		void storePrimitive(
+			final Class<?> type           ,
+			final long     memoryOffset   ,
+			final long     binaryOffset   ,
+			final boolean  switchByteOrder
+		)
+		{
+			final String type0 = descriptor(type);
+
+			this.address(LLOAD_2, binaryOffset);
+			this.op(ALOAD_1);
+			this.constant(memoryOffset);
+			this.invokeStatic(MEMORY, "get_" + type.getName(), "(L" + OBJECT + ";J)" + type0);
+
+			String stored = type0;
+			if(switchByteOrder)
+			{
+				// see BinaryValueFunctions: reversed floating point values are written as their reversed raw bits.
+				if(type == float.class)
+				{
+					this.invokeStatic("java/lang/Float", "floatToRawIntBits", "(F)I");
+					stored = "I";
+				}
+				else if(type == double.class)
+				{
+					this.invokeStatic("java/lang/Double", "doubleToRawLongBits", "(D)J");
+					stored = "J";
+				}
+				this.reverse(stored);
+			}
+			this.invokeStatic(MEMORY, "set_" + storedName(stored, type), "(J" + stored + ")V");
+		}
+
+		void storeReference(
+			final long    memoryOffset   ,
+			final long    binaryOffset   ,
+			final boolean isEager        ,
+			final boolean switchByteOrder
+		)
+		{
+			this.address(LLOAD_2, binaryOffset);
+			this.loadHandler();
+			this.op(ALOAD_1);
+			this.constant(memoryOffset);
+			this.invokeStatic(MEMORY, "getObject", "(L" + OBJECT + ";J)L" + OBJECT + ";");
+			this.invokeInterface(STORE_HANDLER, isEager ? "applyEager" : "apply", "(L" + OBJECT + ";)J", 1);
+			if(switchByteOrder)
+			{
+				this.reverse("J");
+			}
+			this.invokeStatic(MEMORY, "set_long", "(JJ)V");
+		}
+
+		void setPrimitive(
+			final Class<?> type           ,
+			final long     memoryOffset   ,
+			final long     binaryOffset   ,
+			final boolean  switchByteOrder
+		)
+		{
+			final String type0 = descriptor(type);
+
+			this.op(ALOAD_3);
+			this.constant(memoryOffset);
+			this.address(LLOAD_1, binaryOffset);
+			if(switchByteOrder && (type == float.class || type == double.class))
+			{
+				// see BinaryValueFunctions: reversed raw bits are converted after reversing.
+				final String raw = type == float.class ? "I" : "J";
+				this.invokeStatic(MEMORY, "get_" + storedName(raw, type), "(J)" + raw);
+				this.reverse(raw);
+				if(type == float.class)
+				{
+					this.invokeStatic("java/lang/Float", "intBitsToFloat", "(I)F");
+				}
+				else
+				{
+					this.invokeStatic("java/lang/Double", "longBitsToDouble", "(J)D");
+				}
+			}
+			else
+			{
+				this.invokeStatic(MEMORY, "get_" + type.getName(), "(J)" + type0);
+				if(switchByteOrder)
+				{
+					this.reverse(type0);
+				}
+			}
+			this.invokeStatic(MEMORY, "set_" + type.getName(), "(L" + OBJECT + ";J" + type0 + ")V");
+		}
+
+		void setReference(
+			final long    memoryOffset   ,
+			final long    binaryOffset   ,
+			final boolean switchByteOrder
+		)
+		{
+			this.op(ALOAD_3);
+			this.constant(memoryOffset);
+			this.loadHandler();
+			this.address(LLOAD_1, binaryOffset);
+			this.invokeStatic(MEMORY, "get_long", "(J)J");
+			if(switchByteOrder)
+			{
+				this.reverse("J");
+			}
+			this.invokeInterface(LOAD_HANDLER, "lookupObject", "(J)L" + OBJECT + ";", 2);
+			this.invokeStatic(MEMORY, "setObject", "(L" + OBJECT + ";JL" + OBJECT + ";)V");
+		}
+
+		private static String storedName(final String storedDescriptor, final Class<?> type)
+		{
+			switch(storedDescriptor)
+			{
+				case "I": return "int";
+				case "J": return "long";
+				default : return type.getName();
+			}
+		}
+
+	}
+
+}
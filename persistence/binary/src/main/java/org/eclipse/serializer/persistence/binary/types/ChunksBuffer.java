@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.function.Consumer;
 
 import org.eclipse.serializer.collections.HashMapIdId;
+import org.eclipse.serializer.memory.BufferPool;
 import org.eclipse.serializer.memory.XMemory;
 import org.eclipse.serializer.persistence.binary.exceptions.BinaryPersistenceExceptionStateInvalidLength;
 import org.eclipse.serializer.persistence.types.PersistenceObjectIdAcceptor;
@@ -38,6 +39,9 @@ import org.eclipse.serializer.util.X;
  * Optionally deduplicates entities within a channel (skipping repeated stores of the same object id
  * during one storing pass) and supplies the {@link MemoryRangeReader} contract so other parts of the
  * binary layer can append already-prepared memory ranges directly.
+ * <p>
+ * All buffers are obtained from and returned to a {@link BufferPool}, which by default
+ * ({@link BufferPool#Unpooled()}) allocates and deallocates them directly.
  *
  * @see Chunk
  * @see ChunksBufferByteReversing
@@ -62,11 +66,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		final BufferSizeProviderIncremental bufferSizeProvider
 	)
 	{
-		return new ChunksBuffer(
-			notNull(channelBuffers),
-			notNull(bufferSizeProvider),
-			false
-		);
+		return New(channelBuffers, bufferSizeProvider, false);
 	}
 
 	public static ChunksBuffer New(
@@ -74,11 +74,22 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		final BufferSizeProviderIncremental bufferSizeProvider    ,
 		final boolean                       deduplicationEnabled
 	)
+	{
+		return New(channelBuffers, bufferSizeProvider, deduplicationEnabled, BufferPool.Unpooled());
+	}
+
+	public static ChunksBuffer New(
+		final ChunksBuffer[]                channelBuffers        ,
+		final BufferSizeProviderIncremental bufferSizeProvider    ,
+		final boolean                       deduplicationEnabled  ,
+		final BufferPool                    bufferPool
+	)
 	{
 		return new ChunksBuffer(
 			notNull(channelBuffers),
 			notNull(bufferSizeProvider),
-			deduplicationEnabled
+			deduplicationEnabled,
+			notNull(bufferPool)
 		);
 	}
 
@@ -90,6 +101,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 
 	private final ChunksBuffer[]                channelBuffers    ;
 	private final BufferSizeProviderIncremental bufferSizeProvider;
+	private final BufferPool                    bufferPool        ;
 
 	private ByteBuffer[] buffers                  ;
 	private int          currentBuffersIndex      ;
@@ -113,16 +125,18 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 	ChunksBuffer(
 		final ChunksBuffer[]                channelBuffers        ,
 		final BufferSizeProviderIncremental bufferSizeProvider    ,
-		final boolean                       deduplicationEnabled
+		final boolean                       deduplicationEnabled  ,
+		final BufferPool                    bufferPool
 	)
 	{
 		super();
 		this.channelBuffers        = channelBuffers       ;
 		this.bufferSizeProvider    = bufferSizeProvider    ;
+		this.bufferPool            = bufferPool            ;
 		this.deduplicationEnabled  = deduplicationEnabled  ;
 		this.entityIndex           = deduplicationEnabled ? HashMapIdId.New() : null;
 		this.setCurrent((this.buffers = new ByteBuffer[DEFAULT_BUFFERS_CAPACITY])[this.currentBuffersIndex = 0] =
-			XMemory.allocateDirectNative(bufferSizeProvider.provideBufferSize()))
+			bufferPool.allocate(bufferSizeProvider.provideBufferSize()))
 		;
 	}
 
@@ -170,7 +184,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		// if current buffer is still empty, replace it instead of enqueuing a new one to avoid storing "dummy" chunks
 		if(this.isEmptyCurrentBuffer())
 		{
-			XMemory.deallocateDirectByteBuffer(this.currentBuffer);
+			this.bufferPool.release(this.currentBuffer);
 			this.allocateNewCurrent(bufferCapacity);
 			return;
 		}
@@ -217,7 +231,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 
 	private void allocateNewCurrent(final int bufferCapacity)
 	{
-		this.setCurrent(this.buffers[this.currentBuffersIndex] = XMemory.allocateDirectNative(bufferCapacity));
+		this.setCurrent(this.buffers[this.currentBuffersIndex] = this.bufferPool.allocate(bufferCapacity));
 	}
 
 	@Override
@@ -226,7 +240,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		final ByteBuffer[] buffers = this.buffers;
 		for(int i = this.currentBuffersIndex; i >= 1; i--)
 		{
-			XMemory.deallocateDirectByteBuffer(buffers[i]);
+			this.bufferPool.release(buffers[i]);
 			buffers[i] = null;
 		}
 		this.setCurrent(buffers[this.currentBuffersIndex = 0]);
@@ -349,6 +363,75 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		}
 	}
 
+	/**
+	 * Returns all buffers of this chunk to its {@link BufferPool}. Only to be called by the owner of this
+	 * chunk once its data is no longer referenced anywhere, e.g. after it has been copied to the final
+	 * medium or if it has never been handed out at all. The chunk may not be used afterwards.
+	 */
+	public final void release()
+	{
+		this.currentBuffer             = null;
+		this.currentBufferStartAddress =   0L;
+		this.currentAddress            =   0L;
+		this.address                   =   0L;
+		this.currentBound              =   0L;
+
+		final ByteBuffer[] buffers = this.buffers;
+		for(int i = this.currentBuffersIndex; i >= 0; i--)
+		{
+			if(buffers[i] != null)
+			{
+				this.bufferPool.release(buffers[i]);
+				buffers[i] = null;
+			}
+		}
+		this.currentBuffersIndex = 0;
+		this.totalLength         = 0L;
+	}
+
+	/**
+	 * Passes all completed buffers of this still incomplete chunk, i.e. all but the one currently being filled,
+	 * in order to the passed logic and returns them to the {@link BufferPool} afterwards. The current buffer
+	 * becomes the first one. This allows to write a large chunk incrementally while it is still being filled.
+	 * As an entity is always stored into a single buffer, the passed buffers contain only complete entities.
+	 * <p>
+	 * Not supported with deduplication, as duplicates are only removed on {@link #complete()}.
+	 *
+	 * @param logic the logic to pass the completed buffers to. It may not keep a reference to them.
+	 *
+	 * @return the byte length of the drained buffers.
+	 *
+	 * @throws IllegalStateException if this chunk is already completed or deduplicates entities.
+	 */
+	public final long drainCompletedBuffers(final Consumer<? super ByteBuffer> logic)
+	{
+		if(this.currentBuffer == null || this.deduplicationEnabled)
+		{
+			throw new IllegalStateException("Cannot drain a completed or deduplicating chunk.");
+		}
+
+		final ByteBuffer[] buffers = this.buffers;
+		final int          count   = this.currentBuffersIndex;
+
+		long drainedLength = 0;
+		for(int i = 0; i < count; i++)
+		{
+			drainedLength += buffers[i].limit();
+			logic.accept(buffers[i]);
+			this.bufferPool.release(buffers[i]);
+			buffers[i] = null;
+		}
+		if(count > 0)
+		{
+			buffers[0]     = buffers[count];
+			buffers[count] = null;
+			this.currentBuffersIndex = 0;
+		}
+		this.totalLength -= drainedLength;
+
+		return drainedLength;
+	}
+
 	private void compactDuplicates()
 	{
 		final ByteBuffer[] oldBuffers     = this.buffers;
@@ -358,7 +441,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		// allocate initial compacted buffer
 		ByteBuffer[] newBuffers    = new ByteBuffer[DEFAULT_BUFFERS_CAPACITY];
 		int          newBufIndex   = 0;
-		ByteBuffer   newBuf        = XMemory.allocateDirectNative(this.bufferSizeProvider.provideBufferSize());
+		ByteBuffer   newBuf        = this.bufferPool.allocate(this.bufferSizeProvider.provideBufferSize());
 		newBuffers[newBufIndex]    = newBuf;
 		long         newAddr       = XMemory.getDirectByteBufferAddress(newBuf);
 		long         newBufStart   = newAddr;
@@ -397,7 +480,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 						{
 							newBuffers = Arrays.copyOf(newBuffers, newBuffers.length << 1);
 						}
-						newBuf              = XMemory.allocateDirectNative(newCap);
+						newBuf              = this.bufferPool.allocate(newCap);
 						newBuffers[newBufIndex] = newBuf;
 						newBufStart         = XMemory.getDirectByteBufferAddress(newBuf);
 						newAddr             = newBufStart;
@@ -418,10 +501,10 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		newBuf.position(X.checkArrayRange(lastWritten)).flip();
 		newTotalLen += lastWritten;
 
-		// deallocate old buffers
+		// release old buffers
 		for(int i = 0; i < oldBufferCount; i++)
 		{
-			XMemory.deallocateDirectByteBuffer(oldBuffers[i]);
+			this.bufferPool.release(oldBuffers[i]);
 			oldBuffers[i] = null;
 		}
 
@@ -502,6 +585,49 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		return this.totalLength + (this.currentAddress - this.currentBufferStartAddress);
 	}
 
+	/**
+	 * Returns the {@link BinaryChangeTracker#fingerprint(long, long) fingerprint} of the last {@code length}
+	 * bytes written to this still incomplete chunk, e.g. of the entity that has just been stored.
+	 * As an entity is always stored into a single buffer, this is only not possible if the bytes span
+	 * several entities in different buffers, in which case {@link BinaryChangeTracker#NO_FINGERPRINT} is returned.
+	 *
+	 * @param length the number of trailing bytes, as determined by two calls of {@link #currentTotalLength()}
+	 * @return the fingerprint of the trailing bytes or {@link BinaryChangeTracker#NO_FINGERPRINT}
+	 */
+	public final long fingerprintTrailingBytes(final long length)
+	{
+		if(length <= 0 || length > this.currentAddress - this.currentBufferStartAddress)
+		{
+			return BinaryChangeTracker.NO_FINGERPRINT;
+		}
+
+		return BinaryChangeTracker.fingerprint(this.currentAddress - length, length);
+	}
+
+	/**
+	 * Discards the last {@code length} bytes written to this still incomplete chunk, e.g. of an entity whose
+	 * record turned out to be identical to the persisted one.
+	 * <p>
+	 * Not supported with deduplication, as the discarded entity would remain in the deduplication index.
+	 *
+	 * @param length the number of trailing bytes whose {@link #fingerprintTrailingBytes(long) fingerprint}
+	 *        could be determined
+	 *
+	 * @throws IllegalStateException if this chunk is already completed or deduplicates entities or if the
+	 *         bytes do not lie completely in the current buffer.
+	 */
+	public final void discardTrailingBytes(final long length)
+	{
+		if(this.currentBuffer == null || this.deduplicationEnabled
+			|| length < 0 || length > this.currentAddress - this.currentBufferStartAddress
+		)
+		{
+			throw new IllegalStateException("Cannot discard " + length + " trailing bytes.");
+		}
+
+		this.currentAddress -= length;
+	}
+
 	@Override
 	public final void copyToAddress(
 		final long entityContentAddressOffset,
@@ -16,6 +16,8 @@ package org.eclipse.serializer.persistence.binary.types;
 
 import static org.eclipse.serializer.util.X.notNull;
 
+import org.eclipse.serializer.memory.BufferPool;
+import org.eclipse.serializer.memory.XByteOrder;
 import org.eclipse.serializer.memory.XMemory;
 import org.eclipse.serializer.util.BufferSizeProviderIncremental;
 
@@ -38,11 +40,7 @@ public class ChunksBufferByteReversing extends ChunksBuffer
 		final BufferSizeProviderIncremental bufferSizeProvider
 	)
 	{
-		return new ChunksBufferByteReversing(
-			notNull(channelBuffers),
-			notNull(bufferSizeProvider),
-			false
-		);
+		return New(channelBuffers, bufferSizeProvider, false);
 	}
 
 	public static final ChunksBufferByteReversing New(
@@ -50,11 +48,22 @@ public class ChunksBufferByteReversing extends ChunksBuffer
 		final BufferSizeProviderIncremental bufferSizeProvider    ,
 		final boolean                       deduplicationEnabled
 	)
+	{
+		return New(channelBuffers, bufferSizeProvider, deduplicationEnabled, BufferPool.Unpooled());
+	}
+
+	public static final ChunksBufferByteReversing New(
+		final ChunksBuffer[]                channelBuffers        ,
+		final BufferSizeProviderIncremental bufferSizeProvider    ,
+		final boolean                       deduplicationEnabled  ,
+		final BufferPool                    bufferPool
+	)
 	{
 		return new ChunksBufferByteReversing(
 			notNull(channelBuffers),
 			notNull(bufferSizeProvider),
-			deduplicationEnabled
+			deduplicationEnabled,
+			notNull(bufferPool)
 		);
 	}
 
@@ -66,13 +75,15 @@ public class ChunksBufferByteReversing extends ChunksBuffer
 	ChunksBufferByteReversing(
 		final ChunksBuffer[]                channelBuffers        ,
 		final BufferSizeProviderIncremental bufferSizeProvider    ,
-		final boolean                       deduplicationEnabled
+		final boolean                       deduplicationEnabled  ,
+		final BufferPool                    bufferPool
 	)
 	{
 		super(
 			channelBuffers        ,
 			bufferSizeProvider    ,
-			deduplicationEnabled
+			deduplicationEnabled  ,
+			bufferPool
 		);
 	}
 	
@@ -165,109 +176,73 @@ public class ChunksBufferByteReversing extends ChunksBuffer
 	@Override
 	final void update_shortsFromAddress(final long address, final short[] target)
 	{
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = this.get_shortfromAddress(address + i * Short.BYTES);
-		}
+		XByteOrder.copyRangeToArrayReversed(address, target);
 	}
 
 	@Override
 	final void update_charsFromAddress(final long address, final char[] target)
 	{
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = this.get_charFromAddress(address + i * Character.BYTES);
-		}
+		XByteOrder.copyRangeToArrayReversed(address, target);
 	}
 
 	@Override
 	final void update_intsFromAddress(final long address, final int[] target)
 	{
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = this.get_intFromAddress(address + i * Integer.BYTES);
-		}
+		XByteOrder.copyRangeToArrayReversed(address, target);
 	}
 
 	@Override
 	final void update_floatsFromAddress(final long address, final float[] target)
 	{
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = this.get_floatFromAddress(address + i * Float.BYTES);
-		}
+		XByteOrder.copyRangeToArrayReversed(address, target);
 	}
 
 	@Override
 	public final void update_longsFromAddress(final long address, final long[] target)
 	{
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = this.get_longFromAddress(address + i * Long.BYTES);
-		}
+		XByteOrder.copyRangeToArrayReversed(address, target);
 	}
 
 	@Override
 	final void update_doublesFromAddress(final long address, final double[] target)
 	{
-		for(int i = 0; i < target.length; i++)
-		{
-			target[i] = this.get_doubleFromAddress(address + i * Double.BYTES);
-		}
+		XByteOrder.copyRangeToArrayReversed(address, target);
 	}
 	
 	@Override
 	final void store_shortsToAddress(final long address, final short[] values)
 	{
-		for(int i = 0; i < values.length; i++)
-		{
-			this.set_shortToAddress(address + i * Short.BYTES, values[i]);
-		}
+		XByteOrder.copyArrayToAddressReversed(values, address);
 	}
 	
 	@Override
 	final void store_charsToAddress(final long address, final char[] values)
 	{
-		for(int i = 0; i < values.length; i++)
-		{
-			this.set_charToAddress(address + i * Character.BYTES, values[i]);
-		}
+		XByteOrder.copyArrayToAddressReversed(values, address);
 	}
 	
 	@Override
 	final void store_intsToAddress(final long address, final int[] values)
 	{
-		for(int i = 0; i < values.length; i++)
-		{
-			this.set_intToAddress(address + i * Integer.BYTES, values[i]);
-		}
+		XByteOrder.copyArrayToAddressReversed(values, address);
 	}
 	
 	@Override
 	final void store_floatsToAddress(final long address, final float[] values)
 	{
-		for(int i = 0; i < values.length; i++)
-		{
-			this.set_floatToAddress(address + i * Float.BYTES, values[i]);
-		}
+		XByteOrder.copyArrayToAddressReversed(values, address);
 	}
 	
 	@Override
 	final void store_longsToAddress(final long address, final long[] values)
 	{
-		for(int i = 0; i < values.length; i++)
-		{
-			this.set_longToAddress(address + i * Long.BYTES, values[i]);
-		}
+		XByteOrder.copyArrayToAddressReversed(values, address);
 	}
 	
 	@Override
 	final void store_doublesToAddress(final long address, final double[] values)
 	{
-		for(int i = 0; i < values.length; i++)
-		{
-			this.set_doubleToAddress(address + i * Double.BYTES, values[i]);
-		}
+		XByteOrder.copyArrayToAddressReversed(values, address);
 	}
 	
 	@Override
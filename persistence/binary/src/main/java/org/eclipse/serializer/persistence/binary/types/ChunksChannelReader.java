@@ -0,0 +1,323 @@
+package org.eclipse.serializer.persistence.binary.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence Binary
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.eclipse.serializer.util.X.notNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.collections.Set_long;
+import org.eclipse.serializer.collections.types.XGettingCollection;
+import org.eclipse.serializer.memory.XMemory;
+import org.eclipse.serializer.persistence.binary.exceptions.BinaryPersistenceException;
+import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionTransfer;
+import org.eclipse.serializer.persistence.types.PersistenceIdSet;
+import org.eclipse.serializer.util.X;
+
+
+/**
+ * Reads a stream of consecutive entities, e.g. the output of a storer written to a channel, as a sequence of
+ * {@link ChunksWrapper} chunks. Every chunk contains only complete entities, so it can be passed to a loader
+ * while the rest of the stream has not been read yet. Bytes of an incomplete trailing entity are carried over
+ * to the next chunk, an entity larger than the chunk size gets a chunk of its own.
+ * <p>
+ * The chunks' native memory is allocated by this reader and must be {@link #release() released} once the
+ * loaded entities are built.
+ */
+public final class ChunksChannelReader
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	/**
+	 * @param source          the channel to read from.
+	 * @param chunkSize       the default byte capacity of a chunk.
+	 * @param switchByteOrder whether the entities use a non-native byte order.
+	 *
+	 * @return a new {@link ChunksChannelReader}.
+	 */
+	public static ChunksChannelReader New(
+		final ReadableByteChannel source         ,
+		final int                 chunkSize      ,
+		final boolean             switchByteOrder
+	)
+	{
+		return new ChunksChannelReader(
+			notNull(source),
+			Math.max(chunkSize, Binary.entityHeaderLength()),
+			switchByteOrder
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private final ReadableByteChannel  source         ;
+	private final int                  chunkSize      ;
+	private final boolean              switchByteOrder;
+	private final BulkList<ByteBuffer> allocated      = BulkList.New();
+
+	private ByteBuffer pending    ;
+	private boolean    endOfStream;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	ChunksChannelReader(
+		final ReadableByteChannel source         ,
+		final int                 chunkSize      ,
+		final boolean             switchByteOrder
+	)
+	{
+		super();
+		this.source          = source         ;
+		this.chunkSize       = chunkSize      ;
+		this.switchByteOrder = switchByteOrder;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	/**
+	 * Reads the next chunk of complete entities.
+	 *
+	 * @return the next chunk or {@code null} if the end of the stream has been reached.
+	 *
+	 * @throws PersistenceExceptionTransfer if reading from the channel fails.
+	 * @throws BinaryPersistenceException   if the stream ends within an entity or contains an invalid length.
+	 */
+	public ChunksWrapper readChunk()
+	{
+		ByteBuffer buffer = this.allocate(Math.max(this.chunkSize, this.pending == null ? 0 : this.pending.remaining()));
+		if(this.pending != null)
+		{
+			buffer.put(this.pending);
+			this.pending = null;
+		}
+
+		while(true)
+		{
+			this.fill(buffer);
+
+			final int filled         = buffer.position();
+			final int entitiesLength = this.completeEntitiesLength(buffer, filled);
+			if(entitiesLength > 0)
+			{
+				if(filled > entitiesLength)
+				{
+					this.pending = buffer.slice(entitiesLength, filled - entitiesLength);
+				}
+				this.allocated.add(buffer);
+
+				return ChunksWrapper.New(buffer, 0, entitiesLength);
+			}
+
+			if(filled == 0 || this.endOfStream)
+			{
+				XMemory.deallocateDirectByteBuffer(buffer);
+				if(filled == 0)
+				{
+					return null;
+				}
+				throw new BinaryPersistenceException("Stream ends within an entity.");
+			}
+
+			// the first entity is larger than the buffer, so it is enlarged to the entity's length.
+			final ByteBuffer enlarged = this.allocate(X.checkArrayRange(this.readEntityLength(buffer, 0)));
+			enlarged.put(buffer.flip());
+			XMemory.deallocateDirectByteBuffer(buffer);
+			buffer = enlarged;
+		}
+	}
+
+	/**
+	 * Reads chunks until all entities with the passed object ids have been read. A loader requests every
+	 * missing entity only once, so the entities preceding them in the stream cannot just be skipped.
+	 *
+	 * @param objectIds the object ids of the required entities.
+	 *
+	 * @return the read chunks, containing at least the required entities.
+	 *
+	 * @throws PersistenceExceptionTransfer if reading from the channel fails.
+	 * @throws BinaryPersistenceException   if the stream ends before all required entities have been read.
+	 */
+	public XGettingCollection<ChunksWrapper> readChunks(final PersistenceIdSet[] objectIds)
+	{
+		final Set_long required = Set_long.New();
+		for(final PersistenceIdSet idSet : objectIds)
+		{
+			idSet.iterate(required::add);
+		}
+
+		final BulkList<ChunksWrapper> chunks    = BulkList.New();
+		long                          remaining = required.size();
+		do
+		{
+			final ChunksWrapper chunk = this.readChunk();
+			if(chunk == null)
+			{
+				throw new BinaryPersistenceException(
+					"Stream ended before " + remaining + " required entities were read."
+				);
+			}
+			chunks.add(chunk);
+			remaining -= this.countContained(chunk.buffers()[0], required);
+		}
+		while(remaining > 0);
+
+		return chunks;
+	}
+
+	private long countContained(final ByteBuffer chunk, final Set_long objectIds)
+	{
+		final long startAddress = XMemory.getDirectByteBufferAddress(chunk);
+		final long boundAddress = startAddress + chunk.limit();
+
+		long count = 0;
+		for(long address = startAddress; address < boundAddress; address += this.toNative(XMemory.get_long(address)))
+		{
+			if(objectIds.contains(this.toNative(Binary.getEntityObjectIdRawValue(address))))
+			{
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	private long toNative(final long value)
+	{
+		return this.switchByteOrder ? Long.reverseBytes(value) : value;
+	}
+
+	/**
+	 * Reads the remaining stream into one direct buffer, without regard to entity boundaries.
+	 *
+	 * @return a buffer containing the remaining stream from position 0 to its limit.
+	 *
+	 * @throws PersistenceExceptionTransfer if reading from the channel fails.
+	 */
+	public ByteBuffer readAll()
+	{
+		ByteBuffer buffer = this.allocate(this.chunkSize);
+		if(this.pending != null)
+		{
+			// not supposed to be mixed with reading chunks, but cheap to handle anyway.
+			buffer = this.ensureCapacity(buffer, this.pending.remaining());
+			buffer.put(this.pending);
+			this.pending = null;
+		}
+
+		while(true)
+		{
+			this.fill(buffer);
+			if(this.endOfStream)
+			{
+				this.allocated.add(buffer);
+
+				return buffer.flip();
+			}
+			buffer = this.ensureCapacity(buffer, (long)buffer.capacity() << 1);
+		}
+	}
+
+	private ByteBuffer ensureCapacity(final ByteBuffer buffer, final long capacity)
+	{
+		if(capacity <= buffer.capacity())
+		{
+			return buffer;
+		}
+
+		final ByteBuffer enlarged = this.allocate(X.checkArrayRange(capacity));
+		enlarged.put(buffer.flip());
+		XMemory.deallocateDirectByteBuffer(buffer);
+
+		return enlarged;
+	}
+
+	/**
+	 * Deallocates the native memory of all chunks read so far. The chunks may not be used afterwards.
+	 */
+	public void release()
+	{
+		for(final ByteBuffer buffer : this.allocated)
+		{
+			XMemory.deallocateDirectByteBuffer(buffer);
+		}
+		this.allocated.clear();
+		this.pending = null;
+	}
+
+	private ByteBuffer allocate(final int capacity)
+	{
+		return XMemory.allocateDirectNative(capacity);
+	}
+
+	private void fill(final ByteBuffer buffer)
+	{
+		try
+		{
+			while(buffer.hasRemaining() && !this.endOfStream)
+			{
+				this.endOfStream = this.source.read(buffer) < 0;
+			}
+		}
+		catch(final IOException e)
+		{
+			throw new PersistenceExceptionTransfer(e);
+		}
+	}
+
+	private int completeEntitiesLength(final ByteBuffer buffer, final int filled)
+	{
+		int offset = 0;
+		while(filled - offset >= Binary.entityHeaderLength())
+		{
+			final long entityLength = this.readEntityLength(buffer, offset);
+			if(filled - offset < entityLength)
+			{
+				break;
+			}
+			offset += (int)entityLength;
+		}
+
+		return offset;
+	}
+
+	private long readEntityLength(final ByteBuffer buffer, final int offset)
+	{
+		final long length = this.toNative(XMemory.get_long(XMemory.getDirectByteBufferAddress(buffer) + offset));
+		if(!Binary.isValidEntityLength(length))
+		{
+			throw new BinaryPersistenceException("Invalid entity length " + length + " in stream.");
+		}
+
+		return length;
+	}
+
+}
@@ -45,6 +45,22 @@ public class ChunksWrapper extends Binary
 		return new ChunksWrapper(chunkDirectBuffers);
 	}
 
+	/**
+	 * Wraps the range {@code [offset; offset + length[} of the passed direct buffer without copying it.
+	 * The passed buffer's position and limit are not modified. The wrapped memory must not be altered or
+	 * released as long as the returned instance is in use.
+	 *
+	 * @param chunkDirectBuffer the direct buffer containing the entity data.
+	 * @param offset            the absolute start index of the entity data in the buffer.
+	 * @param length            the length of the entity data in bytes.
+	 *
+	 * @return a new {@link ChunksWrapper} wrapping a slice of the passed buffer.
+	 */
+	public static ChunksWrapper New(final ByteBuffer chunkDirectBuffer, final int offset, final int length)
+	{
+		return new ChunksWrapper(new ByteBuffer[]{chunkDirectBuffer.slice(offset, length)});
+	}
+
 
 
 	///////////////////////////////////////////////////////////////////////////
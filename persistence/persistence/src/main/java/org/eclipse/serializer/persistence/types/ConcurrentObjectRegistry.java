@@ -0,0 +1,1668 @@
+package org.eclipse.serializer.persistence.types;
+
+/*-
+ * #%L
+ * Eclipse Serializer Persistence
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.eclipse.serializer.util.X.KeyValue;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+import org.eclipse.serializer.collections.EqHashTable;
+import org.eclipse.serializer.collections.Set_long;
+import org.eclipse.serializer.collections.types.XGettingTable;
+import org.eclipse.serializer.hashing.HashStatisticsBucketBased;
+import org.eclipse.serializer.hashing.XHashing;
+import org.eclipse.serializer.math.XMath;
+import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionConsistency;
+import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionConsistencyObject;
+import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionConsistencyObjectId;
+import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionImproperObjectId;
+import org.eclipse.serializer.reference.Swizzling;
+import org.eclipse.serializer.typing.KeyValue;
+import org.eclipse.serializer.util.logging.Logging;
+import org.slf4j.Logger;
+
+/**
+ * Lock-striped {@link PersistenceObjectRegistry} implementation for many threads looking up and registering
+ * objects concurrently.
+ * <p>
+ * Like {@link DefaultObjectRegistry}, every {@code (objectId, object)} association is one weakly referencing
+ * {@link DefaultObjectRegistry.Entry}, chained into a hash table keyed by object id and a hash table keyed by
+ * identity hash code. Instead of one pair of tables guarded by one mutex, both tables are split into a fixed
+ * number of segments, each guarded by its own {@link StampedLock}:
+ * <ul>
+ * <li>Lookups ({@link #lookupObjectId(Object)}, {@link #lookupObject(long)}, ...) read a single segment
+ * optimistically, without writing to shared memory, and only fall back to the segment's read lock
+ * if a concurrent modification of that segment interfered.</li>
+ * <li>Registrations lock the object id's segment, then the object's segment (always in that order), so
+ * the consistency checks of {@link DefaultObjectRegistry} apply unchanged.</li>
+ * <li>Registry-wide operations (clearing, truncating, reconfiguring, iterating, processing live object ids)
+ * acquire all segments in index order.</li>
+ * </ul>
+ * {@link #registrationVersion()} has the same semantics as in {@link DefaultObjectRegistry}: it is
+ * incremented inside the locked section of every new association insertion.
+ * <p>
+ * Additionally, {@link #lookupReserveObjectId(Object, LongSupplier)} reserves object ids for objects that are
+ * not registered yet under the lock of the object's segment. This allows concurrent storers to agree on the
+ * object id of a new object without a registry-wide lock, see {@link PersistenceObjectManager}.
+ * <p>
+ * The segment locks are not reentrant: acceptors and processors passed to {@link #iterateEntries(PersistenceAcceptor)},
+ * {@link #processLiveObjectIds(ObjectIdsProcessor)} and {@link #selectLiveObjectIds(Set_long)} may look up,
+ * but must not modify this registry.
+ * <p>
+ * To use it in place of the default registry, set {@code ConcurrentObjectRegistry::New} as the
+ * foundation's {@link PersistenceFoundation#setObjectRegistryCreator(PersistenceObjectRegistry.Creator)
+ * object registry creator}.
+ *
+ * @see DefaultObjectRegistry
+ */
+public final class ConcurrentObjectRegistry implements PersistenceObjectRegistry
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	/*
+	 * Chains read optimistically may be inconsistent, even cyclic, while a segment is being rebuilt.
+	 * Proper chains are short for any sane hash density, so a longer walk means interference:
+	 * give up and read under the lock.
+	 */
+	private static final int MAX_OPTIMISTIC_CHAIN_LENGTH = 32;
+
+	private static final int MAX_SEGMENT_COUNT = 1 << 16;
+
+	// marker for an optimistic chain walk that has been aborted.
+	private static final DefaultObjectRegistry.Entry ABORTED = new DefaultObjectRegistry.Entry(0, null, null, null, null);
+
+	/**
+	 * The default number of segments: four per available processor, at least 16 and padded to a power of 2.
+	 *
+	 * @return the default segment count.
+	 */
+	public static final int defaultSegmentCount()
+	{
+		return XHashing.padHashLength(Math.max(16, Runtime.getRuntime().availableProcessors() * 4));
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	/**
+	 * Whether the passed value is a permissible segment count (a power of 2 in {@code [1; 65536]}).
+	 *
+	 * @param segmentCount the value to check.
+	 *
+	 * @return {@code true} if the value is valid.
+	 */
+	public static final boolean isValidSegmentCount(final int segmentCount)
+	{
+		return segmentCount > 0
+			&& segmentCount <= MAX_SEGMENT_COUNT
+			&& Integer.bitCount(segmentCount) == 1
+		;
+	}
+
+	/**
+	 * Validates the passed segment count and returns it unchanged. Throws {@link IllegalArgumentException}
+	 * if the value is invalid.
+	 *
+	 * @param segmentCount the value to validate.
+	 *
+	 * @return the validated value.
+	 */
+	public static final int validateSegmentCount(final int segmentCount)
+	{
+		if(!isValidSegmentCount(segmentCount))
+		{
+			throw new IllegalArgumentException(
+				"Segment count must be a power of 2 in [1; " + MAX_SEGMENT_COUNT + "]: " + segmentCount
+			);
+		}
+
+		return segmentCount;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static constructors //
+	////////////////////////
+
+	/**
+	 * Creates a new empty registry with default hash density, minimum capacity and segment count.
+	 *
+	 * @return the newly created registry.
+	 */
+	public static ConcurrentObjectRegistry New()
+	{
+		return New(DefaultObjectRegistry.defaultHashDensity());
+	}
+
+	/**
+	 * Creates a new empty registry with the default hash density and segment count and the passed
+	 * minimum capacity.
+	 *
+	 * @param minimumCapacity the initial minimum capacity.
+	 *
+	 * @return the newly created registry.
+	 */
+	public static ConcurrentObjectRegistry New(final long minimumCapacity)
+	{
+		return New(DefaultObjectRegistry.defaultHashDensity(), minimumCapacity);
+	}
+
+	/**
+	 * Creates a new empty registry with the passed hash density, the default segment count and a minimal
+	 * initial capacity.
+	 *
+	 * @param hashDensity reasonable values are within {@code [0.75; 2.00]}.
+	 *
+	 * @return the newly created registry.
+	 */
+	public static ConcurrentObjectRegistry New(final float hashDensity)
+	{
+		return New(hashDensity, 1);
+	}
+
+	/**
+	 * @param hashDensity reasonable values are within [0.75; 2.00].
+	 * @param minimumCapacity the initial minimum capacity
+	 * @return the newly created {@link ConcurrentObjectRegistry}
+	 */
+	public static ConcurrentObjectRegistry New(
+		final float hashDensity    ,
+		final long  minimumCapacity
+	)
+	{
+		return New(hashDensity, minimumCapacity, defaultSegmentCount());
+	}
+
+	/**
+	 * @param hashDensity reasonable values are within [0.75; 2.00].
+	 * @param minimumCapacity the initial minimum capacity
+	 * @param segmentCount the number of independently locked segments, a power of 2.
+	 * @return the newly created {@link ConcurrentObjectRegistry}
+	 */
+	public static ConcurrentObjectRegistry New(
+		final float hashDensity    ,
+		final long  minimumCapacity,
+		final int   segmentCount
+	)
+	{
+		return new ConcurrentObjectRegistry(
+			DefaultObjectRegistry.validateHashDensity(hashDensity),
+			DefaultObjectRegistry.validateCapacity(minimumCapacity),
+			validateSegmentCount(segmentCount)
+		);
+	}
+
+
+	private final static Logger logger = Logging.getLogger(ConcurrentObjectRegistry.class);
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	/*
+	 * Note:
+	 * As with DefaultObjectRegistry, these locks are purely technical. Processes that must not be
+	 * "disrupted", like loading, still lock the registry instance itself (See BinaryLoader#get),
+	 * which no method of this class ever does.
+	 */
+	private final OidSegment[] oidSegments ;
+	private final RefSegment[] refSegments ;
+	private final int          segmentMask ;
+	private final int          segmentShift;
+
+	// only written while holding all segment locks, read lock-free by the segment operations.
+	private volatile float hashDensity;
+	private volatile long  minCapacity;
+
+	// see DefaultObjectRegistry#registrationVersion. Incremented inside the segment locks of the insertion.
+	private final LongAdder registrationVersion = new LongAdder();
+
+	// guarded by itself. Only ever locked after (never while waiting for) segment locks.
+	private final EqHashTable<Long, Object> constants = EqHashTable.New();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	ConcurrentObjectRegistry(
+		final float hashDensity    ,
+		final long  minimumCapacity,
+		final int   segmentCount
+	)
+	{
+		super();
+		this.hashDensity  = hashDensity;
+		this.minCapacity  = minimumCapacity;
+		this.segmentMask  = segmentCount - 1;
+		this.segmentShift = Integer.numberOfTrailingZeros(segmentCount);
+		this.oidSegments  = new OidSegment[segmentCount];
+		this.refSegments  = new RefSegment[segmentCount];
+
+		final int hashLength = this.segmentHashLength(minimumCapacity);
+		for(int i = 0; i < segmentCount; i++)
+		{
+			this.oidSegments[i] = new OidSegment(this.segmentShift, hashLength, hashDensity);
+			this.refSegments[i] = new RefSegment(this.segmentShift, hashLength, hashDensity);
+		}
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	/* note on naming:
+	 *
+	 * All instance methods starting with "synch~" must be called while holding the lock(s) of the
+	 * segment(s) they operate on, either exclusively for modifications or at least for reading.
+	 * All other instance methods acquire the required locks themselves.
+	 */
+
+	private OidSegment oidSegment(final long objectId)
+	{
+		return this.oidSegments[(int)objectId & this.segmentMask];
+	}
+
+	private RefSegment refSegment(final int refHash)
+	{
+		return this.refSegments[refHash & this.segmentMask];
+	}
+
+	private int segmentHashLength(final long capacity)
+	{
+		// rounded up, so that the segments' capacities add up to at least the passed capacity.
+		final long segmentCapacity = (capacity + this.segmentMask) >>> this.segmentShift;
+		return DefaultObjectRegistry.calculateRequiredHashLength(Math.max(segmentCapacity, 1), this.hashDensity);
+	}
+
+	private void lockAll()
+	{
+		for(final OidSegment segment : this.oidSegments)
+		{
+			segment.lock.writeLock();
+		}
+		for(final RefSegment segment : this.refSegments)
+		{
+			segment.lock.writeLock();
+		}
+	}
+
+	private void unlockAll()
+	{
+		for(int i = this.refSegments.length; i --> 0;)
+		{
+			this.refSegments[i].lock.tryUnlockWrite();
+		}
+		for(int i = this.oidSegments.length; i --> 0;)
+		{
+			this.oidSegments[i].lock.tryUnlockWrite();
+		}
+	}
+
+	private void readLockOidSegments()
+	{
+		for(final OidSegment segment : this.oidSegments)
+		{
+			segment.lock.readLock();
+		}
+	}
+
+	private void unlockReadOidSegments()
+	{
+		for(int i = this.oidSegments.length; i --> 0;)
+		{
+			this.oidSegments[i].lock.tryUnlockRead();
+		}
+	}
+
+	@Override
+	public final ConcurrentObjectRegistry Clone()
+	{
+		return ConcurrentObjectRegistry.New(this.hashDensity, this.minCapacity, this.oidSegments.length);
+	}
+
+	/**
+	 * The number of independently locked segments.
+	 *
+	 * @return the segment count.
+	 */
+	public final int segmentCount()
+	{
+		return this.oidSegments.length;
+	}
+
+	@Override
+	public final int hashRange()
+	{
+		this.readLockOidSegments();
+		try
+		{
+			long hashRange = 0;
+			for(final OidSegment segment : this.oidSegments)
+			{
+				hashRange += segment.table.length;
+			}
+			return (int)Math.min(hashRange, Integer.MAX_VALUE);
+		}
+		finally
+		{
+			this.unlockReadOidSegments();
+		}
+	}
+
+	@Override
+	public final float hashDensity()
+	{
+		return this.hashDensity;
+	}
+
+	@Override
+	public final long minimumCapacity()
+	{
+		return this.minCapacity;
+	}
+
+	@Override
+	public final long capacity()
+	{
+		this.readLockOidSegments();
+		try
+		{
+			long capacity = 0;
+			for(final OidSegment segment : this.oidSegments)
+			{
+				if((capacity += segment.capacity) < 0)
+				{
+					return Long.MAX_VALUE;
+				}
+			}
+			return capacity;
+		}
+		finally
+		{
+			this.unlockReadOidSegments();
+		}
+	}
+
+	@Override
+	public final long size()
+	{
+		this.readLockOidSegments();
+		try
+		{
+			return this.synchSize();
+		}
+		finally
+		{
+			this.unlockReadOidSegments();
+		}
+	}
+
+	private long synchSize()
+	{
+		long size = 0;
+		for(final OidSegment segment : this.oidSegments)
+		{
+			size += segment.size;
+		}
+		return size;
+	}
+
+	@Override
+	public final boolean isEmpty()
+	{
+		return this.size() == 0;
+	}
+
+	@Override
+	public final long registrationVersion()
+	{
+		// deliberately unlocked: the sum of only ever incremented cells never decreases (see interface javadoc).
+		return this.registrationVersion.sum();
+	}
+
+	@Override
+	public final boolean setHashDensity(final float hashDensity)
+	{
+		return this.setConfiguration(hashDensity, this.minCapacity);
+	}
+
+	@Override
+	public final boolean setMinimumCapacity(final long minimumCapacity)
+	{
+		return this.setConfiguration(this.hashDensity, minimumCapacity);
+	}
+
+	@Override
+	public final boolean setConfiguration(
+		final float hashDensity    ,
+		final long  minimumCapacity
+	)
+	{
+		// both values are checked before modifying any state
+		DefaultObjectRegistry.validateHashDensity(hashDensity);
+		DefaultObjectRegistry.validateCapacity(minimumCapacity);
+
+		this.lockAll();
+		try
+		{
+			this.hashDensity = hashDensity;
+			this.minCapacity = minimumCapacity;
+			for(final OidSegment segment : this.oidSegments)
+			{
+				segment.updateCapacity(hashDensity);
+			}
+			for(final RefSegment segment : this.refSegments)
+			{
+				segment.updateCapacity(hashDensity);
+			}
+
+			return this.synchEnsureCapacity(minimumCapacity);
+		}
+		finally
+		{
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public final boolean ensureCapacity(final long desiredCapacity)
+	{
+		DefaultObjectRegistry.validateCapacity(desiredCapacity);
+
+		this.lockAll();
+		try
+		{
+			return this.synchEnsureCapacity(desiredCapacity);
+		}
+		finally
+		{
+			this.unlockAll();
+		}
+	}
+
+	private boolean synchEnsureCapacity(final long desiredCapacity)
+	{
+		final int   requiredHashLength = this.segmentHashLength(desiredCapacity);
+		final float hashDensity        = this.hashDensity;
+
+		boolean rebuilt = false;
+		for(final OidSegment segment : this.oidSegments)
+		{
+			if(requiredHashLength > segment.table.length)
+			{
+				segment.synchRebuild(requiredHashLength, hashDensity);
+				rebuilt = true;
+			}
+		}
+		for(final RefSegment segment : this.refSegments)
+		{
+			if(requiredHashLength > segment.table.length)
+			{
+				segment.synchRebuild(requiredHashLength, hashDensity);
+				rebuilt = true;
+			}
+		}
+
+		return rebuilt;
+	}
+
+	// querying //
+
+	private DefaultObjectRegistry.Entry findEntry(final long objectId)
+	{
+		final OidSegment  segment = this.oidSegment(objectId);
+		final StampedLock lock    = segment.lock;
+
+		final long optimisticStamp = lock.tryOptimisticRead();
+		if(optimisticStamp != 0L)
+		{
+			final DefaultObjectRegistry.Entry entry = segment.find(objectId, MAX_OPTIMISTIC_CHAIN_LENGTH);
+			if(entry != ABORTED && lock.validate(optimisticStamp))
+			{
+				return entry;
+			}
+		}
+
+		final long stamp = lock.readLock();
+		try
+		{
+			return segment.find(objectId, Integer.MAX_VALUE);
+		}
+		finally
+		{
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public final boolean containsObjectId(final long objectId)
+	{
+		return this.findEntry(objectId) != null;
+	}
+
+	@Override
+	public boolean containsLiveObject(final long objectId)
+	{
+		final DefaultObjectRegistry.Entry entry = this.findEntry(objectId);
+		return entry != null && entry.get() != null;
+	}
+
+	@Override
+	public boolean containsClearedObject(final long objectId)
+	{
+		final DefaultObjectRegistry.Entry entry = this.findEntry(objectId);
+		return entry != null && entry.get() == null;
+	}
+
+	@Override
+	public final long lookupObjectId(final Object object)
+	{
+		if(object == null)
+		{
+			throw new NullPointerException();
+		}
+
+		final int         refHash = DefaultObjectRegistry.hash(object);
+		final RefSegment  segment = this.refSegment(refHash);
+		final StampedLock lock    = segment.lock;
+
+		final long optimisticStamp = lock.tryOptimisticRead();
+		if(optimisticStamp != 0L)
+		{
+			final DefaultObjectRegistry.Entry entry = segment.find(object, refHash, MAX_OPTIMISTIC_CHAIN_LENGTH);
+			if(entry != ABORTED && lock.validate(optimisticStamp))
+			{
+				return entry == null ? Swizzling.notFoundId() : entry.objectId;
+			}
+		}
+
+		final long stamp = lock.readLock();
+		try
+		{
+			final DefaultObjectRegistry.Entry entry = segment.find(object, refHash, Integer.MAX_VALUE);
+			return entry == null ? Swizzling.notFoundId() : entry.objectId;
+		}
+		finally
+		{
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public final Object lookupObject(final long objectId)
+	{
+		final OidSegment  segment = this.oidSegment(objectId);
+		final StampedLock lock    = segment.lock;
+
+		final long optimisticStamp = lock.tryOptimisticRead();
+		if(optimisticStamp != 0L)
+		{
+			final DefaultObjectRegistry.Entry entry = segment.find(objectId, MAX_OPTIMISTIC_CHAIN_LENGTH);
+			if(entry != ABORTED)
+			{
+				// the referent must be read before validation, too.
+				final Object object = entry == null ? null : entry.get();
+				if(lock.validate(optimisticStamp))
+				{
+					return object;
+				}
+			}
+		}
+
+		final long stamp = lock.readLock();
+		try
+		{
+			final DefaultObjectRegistry.Entry entry = segment.find(objectId, Integer.MAX_VALUE);
+			return entry == null ? null : entry.get();
+		}
+		finally
+		{
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public final boolean isValid(final long objectId, final Object object)
+	{
+		return this.internalValidate(objectId, object, false);
+	}
+
+	@Override
+	public final void validate(final long objectId, final Object object)
+	{
+		this.internalValidate(objectId, object, true);
+	}
+
+	private boolean internalValidate(final long objectId, final Object object, final boolean throwException)
+	{
+		if(object == null)
+		{
+			throw new NullPointerException();
+		}
+
+		final int        refHash    = DefaultObjectRegistry.hash(object);
+		final OidSegment oidSegment = this.oidSegment(objectId);
+		final RefSegment refSegment = this.refSegment(refHash);
+
+		final long oidStamp = oidSegment.lock.readLock();
+		try
+		{
+			final long refStamp = refSegment.lock.readLock();
+			try
+			{
+				return synchInternalValidate(oidSegment, refSegment, objectId, object, refHash, throwException);
+			}
+			finally
+			{
+				refSegment.lock.unlockRead(refStamp);
+			}
+		}
+		finally
+		{
+			oidSegment.lock.unlockRead(oidStamp);
+		}
+	}
+
+	private static boolean synchInternalValidate(
+		final OidSegment oidSegment    ,
+		final RefSegment refSegment    ,
+		final long       objectId      ,
+		final Object     object        ,
+		final int        refHash       ,
+		final boolean    throwException
+	)
+	{
+		final DefaultObjectRegistry.Entry registeredEntry = refSegment.find(object, refHash, Integer.MAX_VALUE);
+		if(registeredEntry != null && registeredEntry.objectId == objectId)
+		{
+			// already registered entry
+			return true;
+		}
+
+		if(registeredEntry == null)
+		{
+			final DefaultObjectRegistry.Entry entry = oidSegment.find(objectId, Integer.MAX_VALUE);
+			final Object registeredObject = entry == null ? null : entry.get();
+			if(registeredObject == null)
+			{
+				// consistently not registered object
+				return true;
+			}
+
+			if(!throwException)
+			{
+				return false;
+			}
+			if(registeredObject == object)
+			{
+				throw new PersistenceExceptionConsistency("Inconsistent object registry for objectId " + objectId);
+			}
+			throw new PersistenceExceptionConsistencyObject(objectId, registeredObject, object);
+		}
+
+		if(!throwException)
+		{
+			return false;
+		}
+		throw new PersistenceExceptionConsistencyObjectId(object, registeredEntry.objectId, objectId);
+	}
+
+	// registering //
+
+	private static void validateRegistration(final long objectId, final Object object)
+	{
+		if(object == null)
+		{
+			throw new NullPointerException();
+		}
+		if(Swizzling.isNotProperId(objectId))
+		{
+			throw new PersistenceExceptionImproperObjectId();
+		}
+	}
+
+	@Override
+	public final boolean registerObject(final long objectId, final Object object)
+	{
+		validateRegistration(objectId, object);
+
+		final int        refHash    = DefaultObjectRegistry.hash(object);
+		final OidSegment oidSegment = this.oidSegment(objectId);
+		final RefSegment refSegment = this.refSegment(refHash);
+
+		// lock order: object id segment, then object segment.
+		final long oidStamp = oidSegment.lock.writeLock();
+		try
+		{
+			final long refStamp = refSegment.lock.writeLock();
+			try
+			{
+				return this.synchAdd(oidSegment, refSegment, objectId, object, refHash);
+			}
+			finally
+			{
+				refSegment.lock.unlockWrite(refStamp);
+			}
+		}
+		finally
+		{
+			oidSegment.lock.unlockWrite(oidStamp);
+		}
+	}
+
+	@Override
+	public final Object optionalRegisterObject(final long objectId, final Object object)
+	{
+		validateRegistration(objectId, object);
+
+		// the common case of an already registered object id needs no exclusive locking at all.
+		final Object registered;
+		if((registered = this.lookupObject(objectId)) != null)
+		{
+			return registered;
+		}
+
+		final int        refHash    = DefaultObjectRegistry.hash(object);
+		final OidSegment oidSegment = this.oidSegment(objectId);
+		final RefSegment refSegment = this.refSegment(refHash);
+
+		// lock order: object id segment, then object segment.
+		final long oidStamp = oidSegment.lock.writeLock();
+		try
+		{
+			final long refStamp = refSegment.lock.writeLock();
+			try
+			{
+				return this.synchAddGet(oidSegment, refSegment, objectId, object, refHash);
+			}
+			finally
+			{
+				refSegment.lock.unlockWrite(refStamp);
+			}
+		}
+		finally
+		{
+			oidSegment.lock.unlockWrite(oidStamp);
+		}
+	}
+
+	@Override
+	public final boolean registerConstant(final long objectId, final Object constant)
+	{
+		if(!this.registerObject(objectId, constant))
+		{
+			return false;
+		}
+
+		synchronized(this.constants)
+		{
+			this.constants.add(objectId, constant);
+		}
+
+		return true;
+	}
+
+	private boolean synchAdd(
+		final OidSegment oidSegment,
+		final RefSegment refSegment,
+		final long       objectId  ,
+		final Object     object    ,
+		final int        refHash
+	)
+	{
+		final DefaultObjectRegistry.Entry existing = oidSegment.find(objectId, Integer.MAX_VALUE);
+		if(existing != null)
+		{
+			final Object registered = existing.get();
+			if(registered == object)
+			{
+				return false;
+			}
+			if(registered != null)
+			{
+				throw new PersistenceExceptionConsistencyObject(objectId, registered, object);
+			}
+
+			synchValidateObjectNotYetRegistered(refSegment, objectId, object, refHash);
+
+			// the orphan remains in its object segment until that one is cleaned up or rebuilt.
+			oidSegment.synchRemove(existing);
+		}
+		else
+		{
+			synchValidateObjectNotYetRegistered(refSegment, objectId, object, refHash);
+		}
+
+		this.synchPutNewEntry(oidSegment, refSegment, objectId, object);
+
+		return true;
+	}
+
+	private Object synchAddGet(
+		final OidSegment oidSegment,
+		final RefSegment refSegment,
+		final long       objectId  ,
+		final Object     object    ,
+		final int        refHash
+	)
+	{
+		final DefaultObjectRegistry.Entry existing = oidSegment.find(objectId, Integer.MAX_VALUE);
+		if(existing != null)
+		{
+			final Object registered;
+			if((registered = existing.get()) != null)
+			{
+				return registered;
+			}
+
+			// orphan entry removal is always right, even in case of an error.
+			oidSegment.synchRemove(existing);
+		}
+
+		// either no hash chain yet or no (live) entry for that objectId. Validate and register.
+		synchValidateObjectNotYetRegistered(refSegment, objectId, object, refHash);
+		this.synchPutNewEntry(oidSegment, refSegment, objectId, object);
+
+		return object;
+	}
+
+	private static void synchValidateObjectNotYetRegistered(
+		final RefSegment refSegment,
+		final long       objectId  ,
+		final Object     object    ,
+		final int        refHash
+	)
+	{
+		final DefaultObjectRegistry.Entry entry = refSegment.find(object, refHash, Integer.MAX_VALUE);
+		if(entry != null)
+		{
+			throw new PersistenceExceptionConsistencyObjectId(object, entry.objectId, objectId);
+		}
+	}
+
+	private void synchPutNewEntry(
+		final OidSegment oidSegment,
+		final RefSegment refSegment,
+		final long       objectId  ,
+		final Object     object
+	)
+	{
+		final DefaultObjectRegistry.Entry entry = new DefaultObjectRegistry.Entry(objectId, object, null, null, this.queue);
+
+		final float hashDensity = this.hashDensity;
+		oidSegment.synchAdd(entry, hashDensity);
+		refSegment.synchAdd(entry, hashDensity);
+		refSegment.synchRemoveReservation(object, entry.refHash);
+
+		// single choke point for ALL new association insertions; see field comment.
+		this.registrationVersion.increment();
+	}
+
+	// reserving //
+
+	/**
+	 * Returns the object id registered for the passed object or, if there is none, the object id reserved
+	 * for it, reserving a new one provided by {@code objectIdProvider} first if necessary. All of this is done
+	 * under the lock of the object's segment, so concurrent callers always get the same object id for the
+	 * same object.
+	 * <p>
+	 * A reservation is not a registration: it is invisible to all other methods, references its object only
+	 * weakly and ends when the object gets registered or the registry gets cleared or truncated.
+	 *
+	 * @param object           the object to look up or reserve an object id for.
+	 * @param objectIdProvider the provider of a new object id, only called if one has to be reserved.
+	 *
+	 * @return the registered or reserved object id.
+	 */
+	public final long lookupReserveObjectId(final Object object, final LongSupplier objectIdProvider)
+	{
+		if(object == null)
+		{
+			throw new NullPointerException();
+		}
+
+		final int        refHash = DefaultObjectRegistry.hash(object);
+		final RefSegment segment = this.refSegment(refHash);
+
+		final long stamp = segment.lock.writeLock();
+		try
+		{
+			DefaultObjectRegistry.Entry entry;
+			if((entry = segment.find(object, refHash, Integer.MAX_VALUE)) == null
+				&& (entry = segment.findReservation(object, refHash)) == null
+			)
+			{
+				// not enqueued, reservations of collected objects are discarded when rebuilding the reservations.
+				entry = new DefaultObjectRegistry.Entry(objectIdProvider.getAsLong(), object, null, null, null);
+				segment.synchReserve(entry);
+			}
+
+			return entry.objectId;
+		}
+		finally
+		{
+			segment.lock.unlockWrite(stamp);
+		}
+	}
+
+	// iterating //
+
+	@Override
+	public final <A extends PersistenceAcceptor> A iterateEntries(final A acceptor)
+	{
+		this.readLockOidSegments();
+		try
+		{
+			for(final OidSegment segment : this.oidSegments)
+			{
+				segment.synchIterate(acceptor);
+			}
+			return acceptor;
+		}
+		finally
+		{
+			this.unlockReadOidSegments();
+		}
+	}
+
+	@Override
+	public boolean processLiveObjectIds(final ObjectIdsProcessor processor)
+	{
+		// holding all object id segments blocks registrations for the duration, like DefaultObjectRegistry.
+		this.readLockOidSegments();
+		try
+		{
+			processor.processObjectIdsByFilter(this::synchIsLiveObjectId);
+			return true;
+		}
+		finally
+		{
+			this.unlockReadOidSegments();
+		}
+	}
+
+	@Override
+	public Set_long selectLiveObjectIds(final Set_long objectIdsBaseSet)
+	{
+		this.readLockOidSegments();
+		try
+		{
+			return objectIdsBaseSet.filter(this::synchIsLiveObjectId);
+		}
+		finally
+		{
+			this.unlockReadOidSegments();
+		}
+	}
+
+	final boolean synchIsLiveObjectId(final long objectId)
+	{
+		final boolean result = this.oidSegment(objectId).find(objectId, Integer.MAX_VALUE) != null;
+
+		logger.debug("ObjectRegistry checking OID {}: {}", objectId, result);
+
+		return result;
+	}
+
+	// consolidation and clearing //
+
+	@Override
+	public final boolean consolidate()
+	{
+		// segment by segment, a consistent state of the whole registry is not required for that.
+		long orphanCount = 0;
+		boolean rebuilt = false;
+		for(final OidSegment segment : this.oidSegments)
+		{
+			final long stamp = segment.lock.writeLock();
+			try
+			{
+				orphanCount += segment.synchRemoveOrphans();
+				rebuilt |= segment.synchCheckForDecrease(this.segmentHashLength(this.minCapacity), this.hashDensity);
+			}
+			finally
+			{
+				segment.lock.unlockWrite(stamp);
+			}
+		}
+		for(final RefSegment segment : this.refSegments)
+		{
+			final long stamp = segment.lock.writeLock();
+			try
+			{
+				segment.synchRemoveOrphans();
+				rebuilt |= segment.synchCheckForDecrease(this.segmentHashLength(this.minCapacity), this.hashDensity);
+			}
+			finally
+			{
+				segment.lock.unlockWrite(stamp);
+			}
+		}
+		logger.debug("removed {} orphans", orphanCount);
+
+		return rebuilt;
+	}
+
+	@Override
+	public void cleanUp()
+	{
+		long counter = 0;
+		for(Reference<? extends Object> reference; (reference = this.queue.poll()) != null;)
+		{
+			final DefaultObjectRegistry.Entry entry = (DefaultObjectRegistry.Entry)reference;
+
+			// one segment at a time, the entry may already be gone from either of them.
+			final OidSegment oidSegment = this.oidSegment(entry.objectId);
+			final long oidStamp = oidSegment.lock.writeLock();
+			try
+			{
+				oidSegment.synchRemove(entry);
+			}
+			finally
+			{
+				oidSegment.lock.unlockWrite(oidStamp);
+			}
+
+			final RefSegment refSegment = this.refSegment(entry.refHash);
+			final long refStamp = refSegment.lock.writeLock();
+			try
+			{
+				refSegment.synchRemove(entry);
+			}
+			finally
+			{
+				refSegment.lock.unlockWrite(refStamp);
+			}
+			counter++;
+		}
+
+		logger.debug("Cleaned {} gc entries", counter);
+	}
+
+	@Override
+	public final void clear()
+	{
+		this.lockAll();
+		try
+		{
+			this.synchClear();
+			this.synchReregisterConstants();
+		}
+		finally
+		{
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public final void clearAll()
+	{
+		this.lockAll();
+		try
+		{
+			this.synchClear();
+		}
+		finally
+		{
+			this.unlockAll();
+		}
+	}
+
+	private void synchClear()
+	{
+		for(final OidSegment segment : this.oidSegments)
+		{
+			segment.synchClear();
+		}
+		for(final RefSegment segment : this.refSegments)
+		{
+			segment.synchClear();
+			segment.synchClearReservations();
+		}
+	}
+
+	@Override
+	public final void truncate()
+	{
+		this.lockAll();
+		try
+		{
+			final long constantCount;
+			synchronized(this.constants)
+			{
+				constantCount = this.constants.size();
+			}
+
+			// reinitialize storage strucuture with at least enough capacity for the incoming constants.
+			this.synchReset(Math.max(constantCount, this.minCapacity));
+			this.synchReregisterConstants();
+		}
+		finally
+		{
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public final void truncateAll()
+	{
+		this.lockAll();
+		try
+		{
+			// hash table reset, no constants reregistering.
+			this.synchReset(this.minCapacity);
+		}
+		finally
+		{
+			this.unlockAll();
+		}
+	}
+
+	private void synchReset(final long minimumCapacity)
+	{
+		final int   hashLength  = this.segmentHashLength(minimumCapacity);
+		final float hashDensity = this.hashDensity;
+		for(final OidSegment segment : this.oidSegments)
+		{
+			segment.reset(hashLength, hashDensity);
+		}
+		for(final RefSegment segment : this.refSegments)
+		{
+			segment.reset(hashLength, hashDensity);
+			segment.synchClearReservations();
+		}
+	}
+
+	private void synchReregisterConstants()
+	{
+		synchronized(this.constants)
+		{
+			for(final KeyValue<Long, Object> constant : this.constants)
+			{
+				final long   objectId = constant.key();
+				final Object object   = constant.value();
+				final int    refHash  = DefaultObjectRegistry.hash(object);
+
+				// NOT registerConstant() at this point!
+				this.synchAdd(this.oidSegment(objectId), this.refSegment(refHash), objectId, object, refHash);
+			}
+		}
+	}
+
+	// HashStatistics //
+
+	@Override
+	public final XGettingTable<String, HashStatisticsBucketBased> createHashStatistics()
+	{
+		this.lockAll();
+		try
+		{
+			return EqHashTable.New(
+				KeyValue("PerObjectIds", this.synchCreateHashStatistics(this.oidSegments, true)),
+				KeyValue("PerObjects"  , this.synchCreateHashStatistics(this.refSegments, false))
+			);
+		}
+		finally
+		{
+			this.unlockAll();
+		}
+	}
+
+	private HashStatisticsBucketBased synchCreateHashStatistics(
+		final Segment[] segments,
+		final boolean   oidChains
+	)
+	{
+		final EqHashTable<Long, Long> distributionTable = EqHashTable.New();
+
+		long hashLength = 0;
+		for(final Segment segment : segments)
+		{
+			final DefaultObjectRegistry.Entry[] table = segment.table;
+			for(int h = 0; h < table.length; h++)
+			{
+				DefaultObjectRegistry.registerDistribution(
+					distributionTable,
+					oidChains
+						? DefaultObjectRegistry.countOidChainLength(table[h])
+						: DefaultObjectRegistry.countRefChainLength(table[h])
+				);
+			}
+			hashLength += table.length;
+		}
+		DefaultObjectRegistry.complete(distributionTable);
+
+		return HashStatisticsBucketBased.New(
+			hashLength                     ,
+			this.synchSize()               ,
+			this.hashDensity               ,
+			distributionTable.keys().last(),
+			distributionTable
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// member types //
+	/////////////////
+
+	/*
+	 * A segment is one hash table of entries with its own lock. An entry belongs to the segment of its
+	 * objectId and (independently) to the segment of its referent's identity hash code, linked into the
+	 * respective segment's chains via oidNext and refNext.
+	 * The slot index within a segment uses the key bits above the segment selecting ones.
+	 * Tables are indexed via their length, never a separately stored range, so that an optimistic
+	 * reader racing a rebuild cannot index out of bounds.
+	 */
+	static abstract class Segment
+	{
+		final StampedLock                   lock = new StampedLock();
+		final int                           shift   ;
+		      DefaultObjectRegistry.Entry[] table   ;
+		      long                          size    ;
+		      long                          capacity;
+
+		Segment(final int shift, final int hashLength, final float hashDensity)
+		{
+			super();
+			this.shift = shift;
+			this.reset(hashLength, hashDensity);
+		}
+
+		final void reset(final int hashLength, final float hashDensity)
+		{
+			this.table = DefaultObjectRegistry.createHashTable(hashLength);
+			this.size  = 0;
+			this.updateCapacity(hashDensity);
+		}
+
+		final void updateCapacity(final float hashDensity)
+		{
+			this.capacity = this.table.length >= XMath.highestPowerOf2_int()
+				? Long.MAX_VALUE
+				: (long)(this.table.length * hashDensity)
+			;
+		}
+
+		final void synchClear()
+		{
+			final DefaultObjectRegistry.Entry[] table = this.table;
+			for(int i = 0; i < table.length; i++)
+			{
+				table[i] = null;
+			}
+			this.size = 0;
+		}
+
+		final void synchAdd(final DefaultObjectRegistry.Entry entry, final float hashDensity)
+		{
+			this.synchLink(entry, this.table);
+			if(++this.size > this.capacity)
+			{
+				this.synchRebuild(this.table.length << 1, hashDensity);
+			}
+		}
+
+		final boolean synchCheckForDecrease(final int minimumHashLength, final float hashDensity)
+		{
+			final int requiredHashLength = Math.max(
+				DefaultObjectRegistry.calculateRequiredHashLength(Math.max(this.size, 1), hashDensity),
+				minimumHashLength
+			);
+			if(requiredHashLength < this.table.length)
+			{
+				this.synchRebuild(requiredHashLength, hashDensity);
+				return true;
+			}
+
+			return false;
+		}
+
+		final void synchRebuild(final int hashLength, final float hashDensity)
+		{
+			final DefaultObjectRegistry.Entry[] oldTable = this.table;
+			final DefaultObjectRegistry.Entry[] newTable = DefaultObjectRegistry.createHashTable(hashLength);
+
+			// orphaned entries are discarded
+			long orphanCount = 0;
+			for(int i = 0; i < oldTable.length; i++)
+			{
+				for(DefaultObjectRegistry.Entry e = oldTable[i], next; e != null; e = next)
+				{
+					next = this.next(e);
+					if(e.get() != null)
+					{
+						this.synchLink(e, newTable);
+					}
+					else
+					{
+						orphanCount++;
+					}
+				}
+			}
+
+			this.table = newTable;
+			this.size -= orphanCount;
+			this.updateCapacity(hashDensity);
+		}
+
+		final long synchRemoveOrphans()
+		{
+			final DefaultObjectRegistry.Entry[] table = this.table;
+
+			long orphanCount = 0;
+			for(int h = 0; h < table.length; h++)
+			{
+				for(DefaultObjectRegistry.Entry e = table[h], lastProper = null; e != null; e = this.next(e))
+				{
+					if(e.get() != null)
+					{
+						// everything stays as it is.
+						lastProper = e;
+						continue;
+					}
+
+					// orphaned entry is removed. The first entry in the chain is a special case to be handled.
+					if(lastProper == null)
+					{
+						table[h] = this.next(e);
+					}
+					else
+					{
+						this.setNext(lastProper, this.next(e));
+					}
+					orphanCount++;
+				}
+			}
+			this.size -= orphanCount;
+
+			return orphanCount;
+		}
+
+		final boolean synchRemove(final DefaultObjectRegistry.Entry entry)
+		{
+			final DefaultObjectRegistry.Entry[] table = this.table;
+			final int index = this.index(entry, table);
+
+			for(DefaultObjectRegistry.Entry e = table[index], last = null; e != null; e = this.next(last = e))
+			{
+				if(e == entry)
+				{
+					if(last == null)
+					{
+						table[index] = this.next(e);
+					}
+					else
+					{
+						this.setNext(last, this.next(e));
+					}
+					this.size--;
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private void synchLink(final DefaultObjectRegistry.Entry entry, final DefaultObjectRegistry.Entry[] table)
+		{
+			final int index = this.index(entry, table);
+			this.setNext(entry, table[index]);
+			table[index] = entry;
+		}
+
+		abstract int index(DefaultObjectRegistry.Entry entry, DefaultObjectRegistry.Entry[] table);
+
+		abstract DefaultObjectRegistry.Entry next(DefaultObjectRegistry.Entry entry);
+
+		abstract void setNext(DefaultObjectRegistry.Entry entry, DefaultObjectRegistry.Entry next);
+
+	}
+
+	static final class OidSegment extends Segment
+	{
+		OidSegment(final int shift, final int hashLength, final float hashDensity)
+		{
+			super(shift, hashLength, hashDensity);
+		}
+
+		final DefaultObjectRegistry.Entry find(final long objectId, final int maxChainLength)
+		{
+			final DefaultObjectRegistry.Entry[] table = this.table;
+
+			int length = 0;
+			for(DefaultObjectRegistry.Entry e = table[(int)(objectId >>> this.shift) & table.length - 1]; e != null; e = e.oidNext)
+			{
+				if(e.objectId == objectId)
+				{
+					return e;
+				}
+				if(++length > maxChainLength)
+				{
+					return ABORTED;
+				}
+			}
+
+			return null;
+		}
+
+		final void synchIterate(final PersistenceAcceptor acceptor)
+		{
+			final DefaultObjectRegistry.Entry[] table = this.table;
+			for(int s = 0; s < table.length; s++)
+			{
+				for(DefaultObjectRegistry.Entry e = table[s]; e != null; e = e.oidNext)
+				{
+					acceptor.accept(e.objectId, e.get());
+				}
+			}
+		}
+
+		@Override
+		final int index(final DefaultObjectRegistry.Entry entry, final DefaultObjectRegistry.Entry[] table)
+		{
+			return (int)(entry.objectId >>> this.shift) & table.length - 1;
+		}
+
+		@Override
+		final DefaultObjectRegistry.Entry next(final DefaultObjectRegistry.Entry entry)
+		{
+			return entry.oidNext;
+		}
+
+		@Override
+		final void setNext(final DefaultObjectRegistry.Entry entry, final DefaultObjectRegistry.Entry next)
+		{
+			entry.oidNext = next;
+		}
+
+	}
+
+	static final class RefSegment extends Segment
+	{
+		/*
+		 * Object ids reserved for not yet registered objects (see #lookupReserveObjectId), a separate hash table
+		 * of entries chained via refNext. Only ever accessed under the segment's write lock.
+		 */
+		DefaultObjectRegistry.Entry[] reservations = DefaultObjectRegistry.createHashTable(1);
+		int                           reservationCount;
+
+		RefSegment(final int shift, final int hashLength, final float hashDensity)
+		{
+			super(shift, hashLength, hashDensity);
+		}
+
+		final DefaultObjectRegistry.Entry findReservation(final Object object, final int refHash)
+		{
+			if(this.reservationCount == 0)
+			{
+				return null;
+			}
+
+			final DefaultObjectRegistry.Entry[] table = this.reservations;
+			for(DefaultObjectRegistry.Entry e = table[(refHash >>> this.shift) & table.length - 1]; e != null; e = e.refNext)
+			{
+				if(e.get() == object)
+				{
+					return e;
+				}
+			}
+
+			return null;
+		}
+
+		final void synchReserve(final DefaultObjectRegistry.Entry entry)
+		{
+			if(this.reservationCount >= this.reservations.length)
+			{
+				this.synchRebuildReservations();
+			}
+
+			final int index = this.index(entry, this.reservations);
+			entry.refNext = this.reservations[index];
+			this.reservations[index] = entry;
+			this.reservationCount++;
+		}
+
+		final void synchRemoveReservation(final Object object, final int refHash)
+		{
+			if(this.reservationCount == 0)
+			{
+				return;
+			}
+
+			final DefaultObjectRegistry.Entry[] table = this.reservations;
+			final int index = (refHash >>> this.shift) & table.length - 1;
+			for(DefaultObjectRegistry.Entry e = table[index], last = null; e != null; e = (last = e).refNext)
+			{
+				if(e.get() == object)
+				{
+					if(last == null)
+					{
+						table[index] = e.refNext;
+					}
+					else
+					{
+						last.refNext = e.refNext;
+					}
+					this.reservationCount--;
+					return;
+				}
+			}
+		}
+
+		private void synchRebuildReservations()
+		{
+			// reservations of collected objects are discarded, so the table only grows for live ones.
+			final DefaultObjectRegistry.Entry[] oldTable = this.reservations;
+
+			int liveCount = 0;
+			for(int i = 0; i < oldTable.length; i++)
+			{
+				for(DefaultObjectRegistry.Entry e = oldTable[i]; e != null; e = e.refNext)
+				{
+					if(e.get() != null)
+					{
+						liveCount++;
+					}
+				}
+			}
+
+			final DefaultObjectRegistry.Entry[] newTable = DefaultObjectRegistry.createHashTable(
+				XHashing.padHashLength((liveCount + 1) << 1)
+			);
+			for(int i = 0; i < oldTable.length; i++)
+			{
+				for(DefaultObjectRegistry.Entry e = oldTable[i], next; e != null; e = next)
+				{
+					next = e.refNext;
+					if(e.get() != null)
+					{
+						final int index = this.index(e, newTable);
+						e.refNext = newTable[index];
+						newTable[index] = e;
+					}
+				}
+			}
+
+			this.reservations     = newTable ;
+			this.reservationCount = liveCount;
+		}
+
+		final void synchClearReservations()
+		{
+			this.reservations     = DefaultObjectRegistry.createHashTable(1);
+			this.reservationCount = 0;
+		}
+
+		final DefaultObjectRegistry.Entry find(final Object object, final int refHash, final int maxChainLength)
+		{
+			final DefaultObjectRegistry.Entry[] table = this.table;
+
+			int length = 0;
+			for(DefaultObjectRegistry.Entry e = table[(refHash >>> this.shift) & table.length - 1]; e != null; e = e.refNext)
+			{
+				// intentionally no check of refHash first as the hash table is assumed to be rather flat.
+				if(e.get() == object)
+				{
+					return e;
+				}
+				if(++length > maxChainLength)
+				{
+					return ABORTED;
+				}
+			}
+
+			return null;
+		}
+
+		@Override
+		final int index(final DefaultObjectRegistry.Entry entry, final DefaultObjectRegistry.Entry[] table)
+		{
+			return (entry.refHash >>> this.shift) & table.length - 1;
+		}
+
+		@Override
+		final DefaultObjectRegistry.Entry next(final DefaultObjectRegistry.Entry entry)
+		{
+			return entry.refNext;
+		}
+
+		@Override
+		final void setNext(final DefaultObjectRegistry.Entry entry, final DefaultObjectRegistry.Entry next)
+		{
+			entry.refNext = next;
+		}
+
+	}
+
+}
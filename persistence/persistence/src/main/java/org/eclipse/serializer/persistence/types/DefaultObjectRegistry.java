@@ -164,12 +164,12 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return System.identityHashCode(object);
 	}
 	
-	private static Entry[] createHashTable(final int hashLength)
+	static Entry[] createHashTable(final int hashLength)
 	{
 		return new Entry[hashLength];
 	}
 
-	private static int calculateRequiredHashLength(final long minimumCapacity, final float hashDensity)
+	static int calculateRequiredHashLength(final long minimumCapacity, final float hashDensity)
 	{
 		return XHashing.padHashLength((long)(minimumCapacity / hashDensity));
 	}
@@ -1307,7 +1307,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		);
 	}
 	
-	private static Long countOidChainLength(final Entry firstEntry)
+	static Long countOidChainLength(final Entry firstEntry)
 	{
 		long count = 0;
 		for(Entry e = firstEntry; e != null; e = e.oidNext)
@@ -1321,7 +1321,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return count;
 	}
 	
-	private static Long countRefChainLength(final Entry firstEntry)
+	static Long countRefChainLength(final Entry firstEntry)
 	{
 		long count = 0;
 		for(Entry e = firstEntry; e != null; e = e.refNext)
@@ -1335,7 +1335,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return count;
 	}
 	
-	private static void registerDistribution(
+	static void registerDistribution(
 		final EqHashTable<Long, Long> distributionTable,
 		final Long                    bucketLength
 	)
@@ -1352,7 +1352,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		}
 	}
 	
-	private static void complete(final EqHashTable<Long, Long> distributionTable)
+	static void complete(final EqHashTable<Long, Long> distributionTable)
 	{
 		distributionTable.keys().sort(XSort::compare);
 		final Long highest = distributionTable.last().key();
@@ -165,6 +165,8 @@ extends Cloneable<PersistenceFoundation<D, F>>,
 	public PersistenceSource<D> getPersistenceSource();
 	
 	public PersistenceObjectRegistry getObjectRegistry();
+	
+	public PersistenceObjectRegistry.Creator getObjectRegistryCreator();
 
 	public PersistenceObjectManager<D> getObjectManager();
 	
@@ -307,6 +309,16 @@ extends Cloneable<PersistenceFoundation<D, F>>,
 	
 	public F setObjectRegistry(PersistenceObjectRegistry objectRegistry);
 	
+	/**
+	 * Sets the logic to create the object registry, unless an object registry instance is set explicitly
+	 * via {@link #setObjectRegistry(PersistenceObjectRegistry)}.<br>
+	 * E.g. {@code ConcurrentObjectRegistry::New} for a registry with lock-striped concurrent access.
+	 * 
+	 * @param objectRegistryCreator the object registry creator
+	 * @return this
+	 */
+	public F setObjectRegistryCreator(PersistenceObjectRegistry.Creator objectRegistryCreator);
+	
 	public F setTypeRegistry(PersistenceTypeRegistry typeRegistry);
 
 	public F setInstanceDispatcher(InstanceDispatcherLogic instanceDispatcher);
@@ -578,6 +590,7 @@ extends Cloneable<PersistenceFoundation<D, F>>,
 		private PersistenceTypeIdProvider                      tidProvider                     ;
 		private PersistenceTypeRegistry                        typeRegistry                    ;
 		private PersistenceObjectRegistry                      objectRegistry                  ;
+		private PersistenceObjectRegistry.Creator              objectRegistryCreator           ;
 		private PersistenceTypeHandlerManager<D>               typeHandlerManager              ;
 		private PersistenceContextDispatcher<D>                contextDispatcher               ;
 		private PersistenceStorer.Creator<D>                   storerCreator                   ;
@@ -826,6 +839,17 @@ extends Cloneable<PersistenceFoundation<D, F>>,
 			return this.objectRegistry;
 		}
 		
+		@Override
+		public PersistenceObjectRegistry.Creator getObjectRegistryCreator()
+		{
+			if(this.objectRegistryCreator == null)
+			{
+				this.objectRegistryCreator = this.dispatch(this.ensureObjectRegistryCreator());
+			}
+			
+			return this.objectRegistryCreator;
+		}
+		
 		@Override
 		public PersistenceTypeRegistry getTypeRegistry()
 		{
@@ -1662,6 +1686,15 @@ extends Cloneable<PersistenceFoundation<D, F>>,
 			return this.$();
 		}
 		
+		@Override
+		public F setObjectRegistryCreator(
+			final PersistenceObjectRegistry.Creator objectRegistryCreator
+		)
+		{
+			this.objectRegistryCreator = objectRegistryCreator;
+			return this.$();
+		}
+		
 		@Override
 		public F setTypeRegistry(final PersistenceTypeRegistry typeRegistry)
 		{
@@ -2177,11 +2210,16 @@ extends Cloneable<PersistenceFoundation<D, F>>,
 
 		protected PersistenceObjectRegistry ensureObjectRegistry()
 		{
-			final PersistenceObjectRegistry registry = PersistenceObjectRegistry.New();
+			final PersistenceObjectRegistry registry = this.getObjectRegistryCreator().createObjectRegistry();
 			Persistence.registerJavaConstants(registry);
 			
 			return registry;
 		}
+		
+		protected PersistenceObjectRegistry.Creator ensureObjectRegistryCreator()
+		{
+			return PersistenceObjectRegistry::New;
+		}
 
 		protected PersistenceTypeRegistry ensureTypeRegistry()
 		{
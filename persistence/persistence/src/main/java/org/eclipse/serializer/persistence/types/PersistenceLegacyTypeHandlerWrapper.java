@@ -204,6 +204,13 @@ public class PersistenceLegacyTypeHandlerWrapper<D, T> extends PersistenceLegacy
 		return this.typeHandler.isSubTypeInstanceViable();
 	}
 	
+	@Override
+	public boolean requiresReferencesForCreation()
+	{
+		// Must pass through all default methods to be a correct wrapper.
+		return this.typeHandler.requiresReferencesForCreation();
+	}
+	
 	@Override
 	public Object[] collectEnumConstants()
 	{
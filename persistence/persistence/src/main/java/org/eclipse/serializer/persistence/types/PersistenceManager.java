@@ -21,6 +21,7 @@ import org.eclipse.serializer.util.X;
 import java.nio.ByteOrder;
 import java.time.Duration;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 import static org.eclipse.serializer.util.X.mayNull;
 import static org.eclipse.serializer.util.X.notNull;
@@ -534,6 +535,12 @@ ByteOrderTargeting<PersistenceManager<D>>
 			return this.objectManager.objectRegistryMonitor();
 		}
 
+		@Override
+		public final boolean isolatesLocalRegistries()
+		{
+			return this.objectManager.isolatesLocalRegistries();
+		}
+
 		@Override
 		public final Object get()
 		{
@@ -563,6 +570,71 @@ ByteOrderTargeting<PersistenceManager<D>>
 			return this.createLoader().getObject(objectId);
 		}
 
+		@Override
+		public final Object getObject(final long objectId, final LongConsumer loadedLengthAcceptor)
+		{
+			// a registered instance is not loaded, so there is no length to report.
+			final Object cachedInstance;
+			if((cachedInstance = this.objectManager.lookupObject(objectId)) != null)
+			{
+				return cachedInstance;
+			}
+			return this.createLoader().getObject(objectId, loadedLengthAcceptor);
+		}
+
+		@Override
+		public final Object[] getObjects(final long... objectIds)
+		{
+			return this.getObjects(objectIds, null);
+		}
+
+		@Override
+		public final Object[] getObjects(final long[] objectIds, final LongConsumer[] loadedLengthAcceptors)
+		{
+			// as for a single instance, registered instances are not loaded, so there are no lengths to report.
+			final Object[] instances = new Object[objectIds.length];
+			final int[]    missing   = new int[objectIds.length];
+			int missingCount = 0;
+			for(int i = 0; i < objectIds.length; i++)
+			{
+				if((instances[i] = this.objectManager.lookupObject(objectIds[i])) == null)
+				{
+					missing[missingCount++] = i;
+				}
+			}
+			if(missingCount == 0)
+			{
+				return instances;
+			}
+			
+			// all instances not found in the registry are loaded in one pass
+			final long[] missingObjectIds = new long[missingCount];
+			for(int m = 0; m < missingCount; m++)
+			{
+				missingObjectIds[m] = objectIds[missing[m]];
+			}
+			final Object[] loaded;
+			if(loadedLengthAcceptors == null)
+			{
+				loaded = this.createLoader().getObjects(missingObjectIds);
+			}
+			else
+			{
+				final LongConsumer[] missingAcceptors = new LongConsumer[missingCount];
+				for(int m = 0; m < missingCount; m++)
+				{
+					missingAcceptors[m] = loadedLengthAcceptors[missing[m]];
+				}
+				loaded = this.createLoader().getObjects(missingObjectIds, missingAcceptors);
+			}
+			for(int m = 0; m < missingCount; m++)
+			{
+				instances[missing[m]] = loaded[m];
+			}
+			
+			return instances;
+		}
+
 		@Override
 		public final PersistenceLoader createLoader()
 		{
@@ -38,6 +38,11 @@ import org.eclipse.serializer.util.Cloneable;
  * entries back via {@link #mergeEntries(PersistenceLocalObjectIdRegistry)} and they are validated and
  * folded into the global registry.
  * <p>
+ * With a {@link ConcurrentObjectRegistry}, the default implementation assigns object ids without the
+ * registry's monitor instead: new object ids are reserved in the registry itself under the lock of the
+ * object's segment, so the peer local registries never have to be consulted
+ * (see {@link #isolatesLocalRegistries()}).
+ * <p>
  * The {@link #Clone()} default produces a fully independent manager (cloning both the registry and the id
  * provider), used by {@link PersistenceContextDispatcher.LocalObjectRegistration} to give each channel its
  * own private id-assignment context.
@@ -162,6 +167,18 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 	 */
 	public Object objectRegistryMonitor();
 
+	/**
+	 * Whether object ids are assigned without consulting the registered {@link PersistenceLocalObjectIdRegistry}
+	 * instances, so that they do not have to guard their state by {@link #objectRegistryMonitor()} but may use
+	 * a lock of their own, and object ids are assigned without holding {@link #objectRegistryMonitor()}.
+	 *
+	 * @return whether the local registries are independent of each other.
+	 */
+	public default boolean isolatesLocalRegistries()
+	{
+		return false;
+	}
+
 
 
 	/**
@@ -189,6 +206,10 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 	 * {@link PersistenceObjectRegistry} so concurrent storers serialize their id assignments consistently;
 	 * tracks attached {@link PersistenceLocalObjectIdRegistry} instances through weak references so a
 	 * forgotten storer does not pin its registry.
+	 * <p>
+	 * A {@link ConcurrentObjectRegistry} is locked internally, so lookups and id assignments use it
+	 * directly, reserving the object ids of new objects by
+	 * {@link ConcurrentObjectRegistry#lookupReserveObjectId(Object, java.util.function.LongSupplier)}.
 	 *
 	 * @param <D> the persistence data type.
 	 */
@@ -198,8 +219,11 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 		// instance fields //
 		////////////////////
 
-		private final PersistenceObjectRegistry   objectRegistry;
-		private final PersistenceObjectIdProvider oidProvider   ;
+		private final PersistenceObjectRegistry   objectRegistry   ;
+		private final PersistenceObjectIdProvider oidProvider      ;
+		
+		// the object registry if it reserves object ids itself, otherwise null.
+		private final ConcurrentObjectRegistry    reservingRegistry;
 		
 		private WeakReference<PersistenceLocalObjectIdRegistry<D>>[] localRegistries = X.WeakReferences(1);
 		
@@ -217,8 +241,12 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 		)
 		{
 			super();
-			this.objectRegistry = objectRegistry;
-			this.oidProvider    = oidProvider   ;
+			this.objectRegistry    = objectRegistry;
+			this.oidProvider       = oidProvider   ;
+			this.reservingRegistry = objectRegistry instanceof ConcurrentObjectRegistry
+				? (ConcurrentObjectRegistry)objectRegistry
+				: null
+			;
 		}
 
 
@@ -258,10 +286,20 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 		{
 			return this.objectRegistry;
 		}
+		
+		@Override
+		public boolean isolatesLocalRegistries()
+		{
+			return this.reservingRegistry != null;
+		}
 
 		@Override
 		public long lookupObjectId(final Object object)
 		{
+			if(this.reservingRegistry != null)
+			{
+				return this.reservingRegistry.lookupObjectId(object);
+			}
 			synchronized(this.objectRegistry)
 			{
 				return this.objectRegistry.lookupObjectId(object);
@@ -274,6 +312,10 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 //			XDebug.debugln(XChars.systemString(this) + " looking up \n" + objectId
 //				+ " -> " + XChars.systemString(this.objectRegistry.lookupObject(objectId))
 //			);
+			if(this.reservingRegistry != null)
+			{
+				return this.reservingRegistry.lookupObject(objectId);
+			}
 			synchronized(this.objectRegistry)
 			{
 				return this.objectRegistry.lookupObject(objectId);
@@ -301,6 +343,10 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 			 * 2.) check if already locally known in on of the other storers (= "local registries)"
 			 * 3.) otherwise, provide and assign a new ObjectId.
 			 */
+			if(this.reservingRegistry != null)
+			{
+				return this.ensureObjectIdReserving(object, objectIdRequestor, optionalHandler);
+			}
 			synchronized(this.objectRegistry)
 			{
 				long objectId;
@@ -309,7 +355,7 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 					if(Swizzling.isNotProperId(objectId = this.synchCheckLocalRegistries(objectIdRequestor, object, optionalHandler)))
 					{
 						// see below about not globally registering the newly assigned objectId
-						objectId = this.oidProvider.provideNextObjectId();
+						objectId = this.provideNextObjectId();
 					}
 
 					// lazy logic means only apply if not yet globally known (= something new / "store required").
@@ -363,6 +409,13 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 		)
 		{
 			// see #ensureObjectId for explaining comments
+			if(this.reservingRegistry != null)
+			{
+				final long objectId = this.lookupReserveObjectId(object);
+				objectIdRequestor.registerGuaranteed(objectId, object, optionalHandler);
+				
+				return objectId;
+			}
 			synchronized(this.objectRegistry)
 			{
 				long objectId;
@@ -370,7 +423,7 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 				{
 					if(Swizzling.isNotProperId(objectId = this.synchCheckLocalRegistries(objectIdRequestor, object, optionalHandler)))
 					{
-						objectId = this.oidProvider.provideNextObjectId();
+						objectId = this.provideNextObjectId();
 					}
 				}
 				
@@ -381,6 +434,51 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 			}
 		}
 		
+		/*
+		 * The same three steps as #ensureObjectId, but without the registry monitor: the registry is locked
+		 * internally and new object ids are reserved in it instead of being looked up in the other storers'
+		 * local registries, so all storers get the same object id for the same new object.
+		 */
+		private <T> long ensureObjectIdReserving(
+			final T                               object           ,
+			final PersistenceObjectIdRequestor<D> objectIdRequestor,
+			final PersistenceTypeHandler<D, T>    optionalHandler
+		)
+		{
+			long objectId;
+			if(Swizzling.isNotProperId(objectId = this.reservingRegistry.lookupObjectId(object)))
+			{
+				objectId = this.lookupReserveObjectId(object);
+				objectIdRequestor.registerLazyOptional(objectId, object, optionalHandler);
+			}
+			else
+			{
+				// see #ensureObjectId about retaining skipped instances.
+				objectIdRequestor.registerSkippedOptional(objectId, object, optionalHandler);
+			}
+			objectIdRequestor.registerEagerOptional(objectId, object, optionalHandler);
+			
+			return objectId;
+		}
+		
+		private long lookupReserveObjectId(final Object object)
+		{
+			/*
+			 * If another storer's commit has registered the object just now, its registered objectId is
+			 * returned and the object is stored once more. Redundant, but consistent.
+			 */
+			return this.reservingRegistry.lookupReserveObjectId(object, this::provideNextObjectId);
+		}
+		
+		private long provideNextObjectId()
+		{
+			// guarded by itself instead of the registry monitor, as reserving object ids does not hold the latter.
+			synchronized(this.oidProvider)
+			{
+				return this.oidProvider.provideNextObjectId();
+			}
+		}
+		
 		private <T> long synchCheckLocalRegistries(
 			final PersistenceObjectIdRequestor<D> objectIdRequestor,
 			final T                               instance         ,
@@ -410,7 +508,7 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 			return Swizzling.notFoundId();
 		}
 		
-		private void synchInternalMergeEntries(final PersistenceLocalObjectIdRegistry<D> localRegistry)
+		private void internalMergeEntries(final PersistenceLocalObjectIdRegistry<D> localRegistry)
 		{
 			localRegistry.iterateMergeableEntries(this.objectRegistry::validate);
 			localRegistry.iterateMergeableEntries(this.objectRegistry::registerObject);
@@ -488,39 +586,55 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 		@Override
 		public void mergeEntries(final PersistenceLocalObjectIdRegistry<D> localRegistry)
 		{
+			if(this.reservingRegistry == null)
+			{
+				synchronized(this.objectRegistry)
+				{
+					this.synchValidateRegistered(localRegistry);
+					this.internalMergeEntries(localRegistry);
+					this.objectRegistry.cleanUp();
+				}
+				return;
+			}
+			
+			// the registry is locked internally and all storers agree on the object ids of new objects anyway.
 			synchronized(this.objectRegistry)
 			{
-				int emptySlotCount = 0;
-				for(int i = 0; i < this.localRegistries.length; i++)
+				this.synchValidateRegistered(localRegistry);
+			}
+			this.internalMergeEntries(localRegistry);
+			this.objectRegistry.cleanUp();
+		}
+		
+		private void synchValidateRegistered(final PersistenceLocalObjectIdRegistry<D> localRegistry)
+		{
+			int emptySlotCount = 0;
+			for(int i = 0; i < this.localRegistries.length; i++)
+			{
+				if(this.localRegistries[i] == null)
 				{
-					if(this.localRegistries[i] == null)
-					{
-						emptySlotCount++;
-						continue;
-					}
-					
-					final PersistenceLocalObjectIdRegistry<D> registeredLocalRegistry = this.localRegistries[i].get();
-					if(registeredLocalRegistry == null)
+					emptySlotCount++;
+					continue;
+				}
+				
+				final PersistenceLocalObjectIdRegistry<D> registeredLocalRegistry = this.localRegistries[i].get();
+				if(registeredLocalRegistry == null)
+				{
+					// some cleanup along the way
+					this.localRegistries[i] = null;
+					emptySlotCount++;
+					continue;
+				}
+				
+				if(registeredLocalRegistry == localRegistry)
+				{
+					if(emptySlotCount > 2)
 					{
-						// some cleanup along the way
-						this.localRegistries[i] = null;
-						emptySlotCount++;
-						continue;
+						this.localRegistries = X.consolidateWeakReferences(this.localRegistries);
 					}
 					
-					if(registeredLocalRegistry == localRegistry)
-					{
-						this.synchInternalMergeEntries(localRegistry);
-						
-						if(emptySlotCount > 2)
-						{
-							this.localRegistries = X.consolidateWeakReferences(this.localRegistries);
-						}
-						
-						this.objectRegistry.cleanUp();
-						// local registry cannot be removed here as it might be reused. Must be weakly-managed.
-						return;
-					}
+					// local registry cannot be removed here as it might be reused. Must be weakly-managed.
+					return;
 				}
 			}
 			
@@ -536,7 +650,7 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 		@Override
 		public final long currentObjectId()
 		{
-			synchronized(this.objectRegistry)
+			synchronized(this.oidProvider)
 			{
 				return this.oidProvider.currentObjectId();
 			}
@@ -545,7 +659,7 @@ extends PersistenceSwizzlingLookup, PersistenceObjectIdHolder, Cloneable<Persist
 		@Override
 		public PersistenceObjectManager<D> updateCurrentObjectId(final long currentObjectId)
 		{
-			synchronized(this.objectRegistry)
+			synchronized(this.oidProvider)
 			{
 				if(this.oidProvider.currentObjectId() >= currentObjectId)
 				{
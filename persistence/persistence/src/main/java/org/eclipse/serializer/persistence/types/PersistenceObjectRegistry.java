@@ -32,10 +32,13 @@ import org.eclipse.serializer.util.Cloneable;
  * to add them; {@link #clearAll()} and {@link #truncateAll()} remove them too.
  * <p>
  * The default implementation is {@link DefaultObjectRegistry}; the {@link #New()} factory returns it.
+ * {@link ConcurrentObjectRegistry} ({@link #NewConcurrent()}) is a lock-striped alternative for heavily
+ * concurrent lookups and registrations.
  *
  * @see PersistenceSwizzlingLookup
  * @see PersistenceObjectManager
  * @see DefaultObjectRegistry
+ * @see ConcurrentObjectRegistry
  */
 public interface PersistenceObjectRegistry extends PersistenceSwizzlingLookup, Cloneable<PersistenceObjectRegistry>
 {
@@ -377,4 +380,33 @@ public interface PersistenceObjectRegistry extends PersistenceSwizzlingLookup, C
 		return DefaultObjectRegistry.New();
 	}
 	
+	/**
+	 * Creates a new empty {@link ConcurrentObjectRegistry} with default hash density, capacity and segment count.
+	 *
+	 * @return the newly created registry.
+	 */
+	public static ConcurrentObjectRegistry NewConcurrent()
+	{
+		return ConcurrentObjectRegistry.New();
+	}
+	
+	
+	
+	/**
+	 * Creates the (empty) object registry of a persistence foundation.
+	 * Registering constants is done by the foundation itself.
+	 *
+	 * @see PersistenceFoundation#setObjectRegistryCreator(Creator)
+	 */
+	@FunctionalInterface
+	public interface Creator
+	{
+		/**
+		 * Creates a new empty object registry.
+		 *
+		 * @return the newly created registry.
+		 */
+		public PersistenceObjectRegistry createObjectRegistry();
+	}
+	
 }
@@ -16,6 +16,7 @@ package org.eclipse.serializer.persistence.types;
 
 import java.util.function.Consumer;
 
+import org.eclipse.serializer.collections.BulkList;
 import org.eclipse.serializer.collections.Set_long;
 import org.eclipse.serializer.reference.ObjectSwizzling;
 
@@ -84,6 +85,19 @@ public interface PersistenceRetrieving extends ObjectSwizzling
 	 */
     public <C extends Consumer<Object>> C collect(C collector, Set_long objectIds);
 
+	/**
+	 * Retrieves all passed object ids in one pass via {@link #collect(Consumer, long...)}.
+	 *
+	 * @param objectIds the ids to resolve.
+	 *
+	 * @return the instances in the order of {@code objectIds}.
+	 */
+	@Override
+	public default Object[] getObjects(final long... objectIds)
+	{
+		return this.collect(BulkList.New(objectIds.length), objectIds).toArray();
+	}
+
 //	public <T, C extends Collector<? super T>> C collectByType(C collector, Class<T> type);
 
 }
@@ -96,6 +96,21 @@ public interface PersistenceTypeDefinition extends PersistenceTypeDescription, P
 		;
 	}
 
+	/**
+	 * Whether records persisted according to the passed, structurally different description of the same type
+	 * can be loaded by this definition's type handler nevertheless, e.g. because the handler detects the
+	 * persisted layout per record. If so, this definition may replace the passed one in a type dictionary
+	 * instead of requiring a legacy type handler.
+	 *
+	 * @param description the description of the other layout.
+	 *
+	 * @return {@code false} if not implemented otherwise.
+	 */
+	public default boolean isReadableLayout(final PersistenceTypeDescription description)
+	{
+		return false;
+	}
+
 	/* (30.06.2015 TM)TODO: PersistenceTypeDescription <?>Generics
 	 * Must consider Generics Type information as well, at least as a simple normalized String for
 	 * equality comparison.
@@ -126,8 +126,12 @@ public interface PersistenceTypeDictionaryManager extends PersistenceTypeDiction
 		// Only the TypeId is the unique identifier. The type name only identifies the TypeLineage.
 		final PersistenceTypeDefinition registered = dictionary.lookupTypeById(typeDefinition.typeId());
 
-		// Any type definition (e.g. a custom TypeHandler) must match the structural description in the dictionary.
-		if(registered != null && !PersistenceTypeDescription.equalStructure(registered, typeDefinition))
+		// Any type definition (e.g. a custom TypeHandler) must match the structural description in the dictionary,
+		// unless it can read the registered layout as well.
+		if(registered != null
+			&& !PersistenceTypeDescription.equalStructure(registered, typeDefinition)
+			&& !typeDefinition.isReadableLayout(registered)
+		)
 		{
 			throw new PersistenceException("Type Definition mismatch: " + typeDefinition);
 		}
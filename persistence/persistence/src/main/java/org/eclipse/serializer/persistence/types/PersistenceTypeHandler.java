@@ -358,6 +358,21 @@ public interface PersistenceTypeHandler<D, T> extends PersistenceTypeDefinition,
 		return true;
 	}
 
+	/**
+	 * Defines if {@link #create(Object, PersistenceLoadHandler)} requires the instances referenced by the
+	 * passed data, i.e. if {@link PersistenceLoadHandler#lookupObject(long)} must already resolve them.
+	 * This is the case for handlers of immutable types that can only be instantiated with all of their
+	 * values, like records. The loading logic then creates such instances after the instances they reference,
+	 * which means they cannot be part of a reference cycle consisting only of such instances.
+	 *
+	 * @return {@code false} by default, meaning references are only required by
+	 *         {@link #updateState(Object, Object, PersistenceLoadHandler)}.
+	 */
+	public default boolean requiresReferencesForCreation()
+	{
+		return false;
+	}
+
 	// (27.08.2019 TM)TODO: "~Enum~" methods actually belong in a "PersistenceTypeHandlerEnum" subtype. Maybe refactor.
 
 	/**
@@ -235,7 +235,9 @@ public interface PersistenceTypeLineage
 			return PersistenceTypeDescriptionMember.equalStructures(
 				typeDefinition.allMembers(),
 				alreadyRegistered.allMembers()
-			);
+			)
+				|| typeDefinition.isReadableLayout(alreadyRegistered)
+			;
 		}
 		
 		@Override
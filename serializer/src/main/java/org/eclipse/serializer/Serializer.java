@@ -15,23 +15,44 @@ package org.eclipse.serializer;
  */
 
 import org.eclipse.serializer.collections.BulkList;
+import org.eclipse.serializer.collections.HashMapIdId;
 import org.eclipse.serializer.collections.HashTable;
 import org.eclipse.serializer.collections.types.XGettingCollection;
 import org.eclipse.serializer.hashing.XHashing;
+import org.eclipse.serializer.memory.BufferPool;
 import org.eclipse.serializer.memory.XMemory;
 import org.eclipse.serializer.meta.NotImplementedYetError;
 import org.eclipse.serializer.persistence.binary.types.*;
+import org.eclipse.serializer.persistence.exceptions.PersistenceException;
 import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionTransfer;
 import org.eclipse.serializer.persistence.types.*;
 import org.eclipse.serializer.reference.Lazy;
 import org.eclipse.serializer.reference.ObjectSwizzling;
 import org.eclipse.serializer.reference.Swizzling;
+import org.eclipse.serializer.typing.XTypes;
 import org.eclipse.serializer.util.BufferSizeProviderIncremental;
 import org.eclipse.serializer.util.X;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import static org.eclipse.serializer.math.XMath.positive;
 import static org.eclipse.serializer.util.X.mayNull;
 import static org.eclipse.serializer.util.X.notNull;
 
@@ -60,6 +81,232 @@ public interface Serializer<M> extends AutoCloseable
 	 * @return the deserialized object graph
 	 */
 	public <T> T deserialize(M medium);
+	
+	/**
+	 * Serializes the given object graph directly into the passed buffer, starting at its current position.
+	 * The written bytes are identical to the ones of the <code>byte[]</code> medium.
+	 * No intermediate array is created, the passed buffer may be a heap or a direct buffer.
+	 * <p>
+	 * The default implementation copies the medium created by {@link #serialize(Object)}, which must be
+	 * a <code>byte[]</code> or a {@link Binary}.
+	 * 
+	 * @param object the graph's root
+	 * @param target the buffer to write to, its position is advanced by the written length
+	 * @return the number of written bytes
+	 * @throws BufferOverflowException if the target's remaining capacity is insufficient,
+	 *         nothing is written in this case
+	 */
+	public default int serializeInto(final Object object, final ByteBuffer target)
+	{
+		return Static.copyTo(Static.mediumBuffers(this.serialize(object)), target);
+	}
+	
+	/**
+	 * Serializes the given object graph and writes the resulting data directly to the passed channel.
+	 * The written bytes are identical to the ones of the <code>byte[]</code> medium.
+	 * <p>
+	 * Where the format allows it, completed buffers are written while the graph is still being traversed,
+	 * so the required buffer memory is bounded instead of growing with the graph's size.
+	 * <p>
+	 * The default implementation writes the medium created by {@link #serialize(Object)}, which must be
+	 * a <code>byte[]</code> or a {@link Binary}.
+	 * 
+	 * @param object the graph's root
+	 * @param target the channel to write to
+	 * @return the number of written bytes
+	 * @throws PersistenceExceptionTransfer if writing to the channel fails
+	 */
+	public default long serializeInto(final Object object, final WritableByteChannel target)
+	{
+		return Static.writeTo(Static.mediumBuffers(this.serialize(object)), target);
+	}
+	
+	/**
+	 * Serializes the given object graph and writes the resulting data to the passed stream,
+	 * see {@link #serializeInto(Object, WritableByteChannel)}. The stream is neither flushed nor closed.
+	 * 
+	 * @param object the graph's root
+	 * @param target the stream to write to
+	 * @return the number of written bytes
+	 * @throws PersistenceExceptionTransfer if writing to the stream fails
+	 */
+	public default long serializeInto(final Object object, final OutputStream target)
+	{
+		// not closed on purpose, as that would close the passed stream.
+		return this.serializeInto(object, Channels.newChannel(target));
+	}
+	
+	/**
+	 * Recreates an object graph from the data read from the passed channel, e.g. the data written by
+	 * {@link #serializeInto(Object, WritableByteChannel)}.
+	 * <p>
+	 * Where the format allows it, the data is read in chunks of complete entities, and each chunk is
+	 * processed before the next one is read. The loaded data is kept until the graph has been built.
+	 * <p>
+	 * The default implementation reads the channel until its end and passes the read data to
+	 * {@link #deserialize(ByteBuffer, int, int)}.
+	 * 
+	 * @param <T> the object's type
+	 * @param source the channel to read from, it is read until the graph is complete
+	 * @return the deserialized object graph
+	 * @throws PersistenceExceptionTransfer if reading from the channel fails
+	 */
+	public default <T> T deserializeFrom(final ReadableByteChannel source)
+	{
+		final byte[] bytes;
+		try
+		{
+			// not closed on purpose, as that would close the passed channel.
+			bytes = Channels.newInputStream(source).readAllBytes();
+		}
+		catch(final IOException e)
+		{
+			throw new PersistenceExceptionTransfer(e);
+		}
+		
+		return this.deserialize(ByteBuffer.wrap(bytes), 0, bytes.length);
+	}
+	
+	/**
+	 * Recreates an object graph from the data read from the passed stream,
+	 * see {@link #deserializeFrom(ReadableByteChannel)}. The stream is not closed.
+	 * 
+	 * @param <T> the object's type
+	 * @param source the stream to read from
+	 * @return the deserialized object graph
+	 * @throws PersistenceExceptionTransfer if reading from the stream fails
+	 */
+	public default <T> T deserializeFrom(final InputStream source)
+	{
+		// not closed on purpose, as that would close the passed stream.
+		return this.deserializeFrom(Channels.newChannel(source));
+	}
+	
+	/**
+	 * Recreates an object graph based on the data in the range
+	 * <code>[offset; offset + length[</code> of the passed buffer.
+	 * <p>
+	 * Direct buffers are read in place, without any copying. Heap buffers are copied
+	 * once into internal native memory, which is reused for subsequent calls.
+	 * The passed buffer's position and limit are not modified.
+	 * <p>
+	 * The default implementation copies the data into a <code>byte[]</code> and passes it to
+	 * {@link #deserialize(Object)}, so it is only applicable for the <code>byte[]</code> medium type.
+	 * 
+	 * @param <T> the object's type
+	 * @param source the buffer to read from
+	 * @param offset the absolute start index of the data in the buffer
+	 * @param length the length of the data in bytes
+	 * @return the deserialized object graph
+	 */
+	@SuppressWarnings("unchecked")
+	public default <T> T deserialize(final ByteBuffer source, final int offset, final int length)
+	{
+		// without knowing the implementation, a medium can only be created for the byte[] medium type.
+		Objects.checkFromIndexSize(offset, length, source.limit());
+		final byte[] bytes = new byte[length];
+		source.get(offset, bytes);
+		
+		return this.deserialize((M)bytes);
+	}
+	
+	/**
+	 * Recreates an object graph from the complete content of the passed file channel, e.g. a file written by
+	 * {@link #serializeInto(Object, WritableByteChannel)}.
+	 * <p>
+	 * The file is mapped into memory read-only and its entities are read in place, so neither the file's
+	 * content is copied into an array nor additional native memory is allocated for it. Files larger than
+	 * {@link Integer#MAX_VALUE} bytes are mapped in several regions, each ending at an entity boundary.
+	 * All regions are unmapped as soon as the graph has been built, the channel's position is not modified.
+	 * The file must not be modified or truncated while it is being deserialized.
+	 * <p>
+	 * The default implementation maps the file as one region, so it must not be larger than
+	 * {@link Integer#MAX_VALUE} bytes, and passes a heap copy of it to {@link #deserialize(ByteBuffer, int, int)}.
+	 * 
+	 * @param <T> the object's type
+	 * @param source the channel to read from, it must be readable
+	 * @return the deserialized object graph
+	 * @throws PersistenceExceptionTransfer if mapping the file fails
+	 */
+	public default <T> T deserializeMapped(final FileChannel source)
+	{
+		final ByteBuffer copy;
+		final ByteBuffer mapped = Static.map(source);
+		try
+		{
+			// an unknown implementation might keep the passed buffer, so it must not get the unmapped memory.
+			copy = ByteBuffer.allocate(mapped.limit()).order(mapped.order()).put(mapped).flip();
+		}
+		finally
+		{
+			Static.unmap(mapped);
+		}
+		
+		return this.deserialize(copy, 0, copy.limit());
+	}
+	
+	/**
+	 * Recreates an object graph from the complete content of the passed file,
+	 * see {@link #deserializeMapped(FileChannel)}.
+	 * 
+	 * @param <T> the object's type
+	 * @param file the file to read from
+	 * @return the deserialized object graph
+	 * @throws PersistenceExceptionTransfer if opening or mapping the file fails
+	 */
+	public default <T> T deserialize(final Path file)
+	{
+		try(final FileChannel source = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			return this.deserializeMapped(source);
+		}
+		catch(final IOException e)
+		{
+			throw new PersistenceExceptionTransfer(e);
+		}
+	}
+	
+	/**
+	 * Serializes only the entities of the given object graph that have been added or changed since the passed
+	 * snapshot has been taken, plus the root entity. Afterwards, the snapshot reflects the serialized graph,
+	 * so that it can be passed as the base of the next delta.
+	 * <p>
+	 * Object ids are kept stable across calls by this serializer's object registry, so the receiver can patch
+	 * the graph it has deserialized before with {@link #applyDelta(Object)}. Entities that are no longer
+	 * reachable are not transferred, they are simply no longer referenced by the patched graph.
+	 * <p>
+	 * The whole graph is still traversed and serialized, an entity is dropped from the delta if the
+	 * fingerprint of its serialized record equals the one in the snapshot.
+	 * 
+	 * @param root the graph's root
+	 * @param base the snapshot of the graph as last serialized by this serializer, an empty one for a complete graph
+	 * @return the binary format of the delta
+	 * @throws UnsupportedOperationException if this serializer does not support delta serialization
+	 */
+	public default M serializeDelta(final Object root, final SerializerSnapshot base)
+	{
+		throw new UnsupportedOperationException(
+			this.getClass().getName() + " does not support delta serialization."
+		);
+	}
+	
+	/**
+	 * Patches the object graph previously deserialized by this serializer with the passed delta, as created by
+	 * {@link #serializeDelta(Object, SerializerSnapshot)}. Contained entities that are known already are updated
+	 * in place, new ones are created, and references to entities that are not contained are resolved to the
+	 * already known instances.
+	 * 
+	 * @param <T> the root's type
+	 * @param delta the delta to apply
+	 * @return the patched graph's root, the same instance as before unless the root itself has been replaced
+	 * @throws UnsupportedOperationException if this serializer does not support delta serialization
+	 */
+	public default <T> T applyDelta(final M delta)
+	{
+		throw new UnsupportedOperationException(
+			this.getClass().getName() + " does not support delta serialization."
+		);
+	}
 		
 	/**
 	 * Export the current type dictionary as String.
@@ -130,10 +377,85 @@ public interface Serializer<M> extends AutoCloseable
 			notNull(toBinary  )
 		);
 	}
-	
-	
+
+	/**
+	 * Creates a thread-safe, pooled serializer for <code>byte[]</code> media.
+	 *
+	 * @param foundation the foundation to base all pooled contexts on
+	 * @param maximumContextCount the maximum number of contexts, i.e. of concurrently executed calls
+	 * @return a new pooled serializer
+	 *
+	 * @see Pooled
+	 */
+	public static Serializer<byte[]> Concurrent(
+		final SerializerFoundation<?> foundation         ,
+		final int                     maximumContextCount
+	)
+	{
+		return Concurrent(
+			foundation         ,
+			maximumContextCount,
+			Static::toBytes    ,
+			Static::toBinary
+		);
+	}
+
+	/**
+	 * Creates a thread-safe, pooled serializer for the medium type defined by the passed functions.
+	 *
+	 * @param <M> the medium type
+	 * @param foundation the foundation to base all pooled contexts on
+	 * @param maximumContextCount the maximum number of contexts, i.e. of concurrently executed calls
+	 * @param toMedium function to convert a {@link Binary} into the medium
+	 * @param toBinary function to convert the medium into a {@link Binary}
+	 * @return a new pooled serializer
+	 *
+	 * @see Pooled
+	 */
+	public static <M> Serializer<M> Concurrent(
+		final SerializerFoundation<?> foundation         ,
+		final int                     maximumContextCount,
+		final Function<Binary, M>     toMedium           ,
+		final Function<M, Binary>     toBinary
+	)
+	{
+		notNull(foundation);
+		notNull(toMedium  );
+		notNull(toBinary  );
+
+		return new Pooled<>(
+			() -> new Default<>(foundation, toMedium, toBinary, true),
+			positive(maximumContextCount)
+		);
+	}
+
+
 	public final static class Static
 	{
+		/**
+		 * Returns the data of a medium of one of the default medium types, <code>byte[]</code> and {@link Binary},
+		 * as used by the default methods of {@link Serializer}.
+		 * 
+		 * @param medium the medium
+		 * @return the buffers containing the medium's data
+		 * @throws UnsupportedOperationException if the medium is of any other type
+		 */
+		static ByteBuffer[] mediumBuffers(final Object medium)
+		{
+			if(medium instanceof byte[])
+			{
+				return new ByteBuffer[]{ByteBuffer.wrap((byte[])medium)};
+			}
+			if(medium instanceof Binary)
+			{
+				return ((Binary)medium).buffers();
+			}
+			
+			throw new UnsupportedOperationException(
+				"Medium type " + medium.getClass().getName() + " is not supported by the default implementation."
+			);
+		}
+		
 		public static byte[] toBytes(final Binary binary)
 		{
 			return XMemory.toArray(binary.buffers());
@@ -147,6 +469,277 @@ public interface Serializer<M> extends AutoCloseable
 			return ChunksWrapper.New(buffer);
 		}
 		
+		/**
+		 * Copies the content of all buffers of the passed {@link Binary} into the passed target buffer,
+		 * starting at its current position. The source buffers' positions are not modified.
+		 * 
+		 * @param binary the source data
+		 * @param target the buffer to write to
+		 * @return the number of copied bytes
+		 * @throws BufferOverflowException if the target's remaining capacity is insufficient
+		 */
+		public static int copyTo(final Binary binary, final ByteBuffer target)
+		{
+			return copyTo(binary.buffers(), target);
+		}
+		
+		static int copyTo(final ByteBuffer[] sources, final ByteBuffer target)
+		{
+			long overallLength = 0;
+			for(final ByteBuffer source : sources)
+			{
+				overallLength += source.remaining();
+			}
+			if(overallLength > target.remaining())
+			{
+				throw new BufferOverflowException();
+			}
+			
+			int pos = target.position();
+			for(final ByteBuffer source : sources)
+			{
+				final int length = source.remaining();
+				target.put(pos, source, source.position(), length);
+				pos += length;
+			}
+			target.position(pos);
+			
+			return (int)overallLength;
+		}
+		
+		/**
+		 * Writes the content of all buffers of the passed {@link Binary} to the passed channel.
+		 * The source buffers' positions are not modified.
+		 * 
+		 * @param binary the source data
+		 * @param target the channel to write to
+		 * @return the number of written bytes
+		 * @throws PersistenceExceptionTransfer if writing to the channel fails
+		 */
+		public static long writeTo(final Binary binary, final WritableByteChannel target)
+		{
+			return writeTo(binary.buffers(), target);
+		}
+		
+		static long writeTo(final ByteBuffer[] sources, final WritableByteChannel target)
+		{
+			long writtenLength = 0;
+			try
+			{
+				for(final ByteBuffer source : sources)
+				{
+					final ByteBuffer view = source.duplicate();
+					while(view.hasRemaining())
+					{
+						writtenLength += target.write(view);
+					}
+				}
+			}
+			catch(final IOException e)
+			{
+				throw new PersistenceExceptionTransfer(e);
+			}
+			
+			return writtenLength;
+		}
+		
+		/**
+		 * Loads the data provided by the passed manager's source like {@link PersistenceManager#get()}, but with
+		 * the passed object registry instead of a new one per call. So entities that have been loaded before
+		 * are updated in place and references to entities that are not contained in the data are resolved
+		 * to the known instances, as required to apply a delta.
+		 * 
+		 * @param foundation the serializer's foundation
+		 * @param manager the serializer's persistence manager, providing the data
+		 * @param deltaRegistry the registry kept across all deltas
+		 * @return the first loaded entity
+		 */
+		static Object loadDelta(
+			final SerializerFoundation<?>    foundation   ,
+			final PersistenceManager<Binary> manager      ,
+			final PersistenceObjectRegistry  deltaRegistry
+		)
+		{
+			return foundation.getBuilderCreator().createLoader(
+				foundation.getTypeHandlerManager(),
+				deltaRegistry,
+				manager,
+				manager
+			).get();
+		}
+		
+		/**
+		 * Maps the complete content of the passed file channel into memory read-only, as one region.
+		 * 
+		 * @param source the channel to map
+		 * @return the mapped region, in the byte order of the platform
+		 * @throws PersistenceExceptionTransfer if mapping the file fails
+		 * @throws PersistenceException if the file is empty or larger than {@link Integer#MAX_VALUE} bytes
+		 */
+		public static ByteBuffer map(final FileChannel source)
+		{
+			try
+			{
+				final long size = validateMappedSize(source.size());
+				if(size > Integer.MAX_VALUE)
+				{
+					throw new PersistenceException(
+						"File size " + size + " exceeds the maximum size of " + Integer.MAX_VALUE + " bytes."
+					);
+				}
+				
+				return source.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.nativeOrder());
+			}
+			catch(final IOException e)
+			{
+				throw new PersistenceExceptionTransfer(e);
+			}
+		}
+		
+		/**
+		 * Maps the complete content of the passed file channel into memory read-only, as regions of at most
+		 * {@code maximumChunkLength} bytes that each consist of complete entities. The limit of each region
+		 * is set to the length of its complete entities, which can be less than its mapped length.
+		 * 
+		 * @param source the channel to map
+		 * @param switchByteOrder if the file's byte order is the opposite of the platform's byte order
+		 * @param maximumChunkLength the maximum length of a region
+		 * @return the mapped regions, to be released via {@link #unmap(ByteBuffer[])}
+		 * @throws PersistenceExceptionTransfer if mapping the file fails
+		 * @throws PersistenceException if the file is empty, an entity's length is invalid or an entity
+		 *         is longer than {@code maximumChunkLength}
+		 */
+		public static ByteBuffer[] mapEntityChunks(
+			final FileChannel source            ,
+			final boolean     switchByteOrder   ,
+			final long        maximumChunkLength
+		)
+		{
+			positive(maximumChunkLength);
+			
+			final BulkList<ByteBuffer> chunks = BulkList.New();
+			try
+			{
+				final long size     = validateMappedSize(source.size());
+				long       position = 0;
+				while(position < size)
+				{
+					final ByteBuffer chunk = source.map(
+						FileChannel.MapMode.READ_ONLY,
+						position,
+						Math.min(size - position, Math.min(maximumChunkLength, Integer.MAX_VALUE))
+					).order(ByteOrder.nativeOrder());
+					chunks.add(chunk);
+					
+					final int length = entitiesLength(chunk, switchByteOrder, position, size);
+					chunk.limit(length);
+					position += length;
+				}
+			}
+			catch(final IOException e)
+			{
+				unmap(chunks.toArray(ByteBuffer.class));
+				throw new PersistenceExceptionTransfer(e);
+			}
+			catch(final RuntimeException e)
+			{
+				unmap(chunks.toArray(ByteBuffer.class));
+				throw e;
+			}
+			
+			return chunks.toArray(ByteBuffer.class);
+		}
+		
+		private static long validateMappedSize(final long size)
+		{
+			if(size == 0)
+			{
+				throw new PersistenceException("No data to deserialize.");
+			}
+			
+			return size;
+		}
+		
+		/*
+		 * Returns the length of the complete entities at the start of the passed mapped region. Only the
+		 * entity headers are read, which are located in the memory the loader reads anyway.
+		 */
+		private static int entitiesLength(
+			final ByteBuffer chunk          ,
+			final boolean    switchByteOrder,
+			final long       filePosition   ,
+			final long       fileSize
+		)
+		{
+			final long address = XMemory.getDirectByteBufferAddress(chunk);
+			final long bound   = chunk.capacity();
+			if(filePosition + bound == fileSize)
+			{
+				// the last region ends with the file, so it consists of complete entities if the file does.
+				return (int)bound;
+			}
+			
+			long offset = 0;
+			while(offset + Long.BYTES <= bound)
+			{
+				final long entityLength = switchByteOrder
+					? Long.reverseBytes(XMemory.get_long(address + offset))
+					: XMemory.get_long(address + offset)
+				;
+				if(entityLength <= 0)
+				{
+					throw new PersistenceException(
+						"Invalid entity length " + entityLength + " at file position " + (filePosition + offset) + "."
+					);
+				}
+				if(offset + entityLength > bound)
+				{
+					break;
+				}
+				offset += entityLength;
+			}
+			if(offset == 0)
+			{
+				throw new PersistenceException(
+					"Entity at file position " + filePosition + " exceeds the maximum mapped length of " + bound + "."
+				);
+			}
+			
+			return (int)offset;
+		}
+		
+		/**
+		 * Unmaps the passed mapped regions. They, and any buffer or address derived from them,
+		 * must not be used afterwards.
+		 * 
+		 * @param chunks the mapped regions
+		 */
+		public static void unmap(final ByteBuffer... chunks)
+		{
+			for(final ByteBuffer chunk : chunks)
+			{
+				XMemory.deallocateDirectByteBuffer(chunk);
+			}
+		}
+		
+		/**
+		 * Compresses the passed data with the passed codec into a natively allocated buffer, as the result
+		 * may be referenced by a medium.
+		 * 
+		 * @param data the data to be compressed
+		 * @param codec the compressing codec
+		 * @param bufferPool the pool to obtain temporary buffers from
+		 * @return the encoded data
+		 */
+		static Binary compress(final Binary data, final BinaryCompressionCodec codec, final BufferPool bufferPool)
+		{
+			final ByteBuffer encoded = XMemory.allocateDirectNative(codec.maximumEncodedLength(data));
+			codec.encode(data, encoded, bufferPool);
+			
+			return ChunksWrapper.New(encoded.flip());
+		}
+		
+		
 		/**
 		 * Dummy constructor to prevent instantiation of this static-only utility class.
 		 *
@@ -187,20 +780,59 @@ public interface Serializer<M> extends AutoCloseable
 		private final Function<Binary, M>     toMedium          ;
 		private final Function<M, Binary>     toBinary          ;
 		private PersistenceManager<Binary>    persistenceManager;
-		private Storer                        storer            ;
+		private SerializerStorer              storer            ;
 		private Binary                        input             ;
+		private ChunksChannelReader           inputReader       ;
 		private Binary                        output            ;
+		private ByteBuffer                    inputBuffer       ;
+		private BinaryCompactFormat           compactFormat     ;
+		private BinaryCompressionCodec        compressionCodec  ;
+		private PersistenceObjectRegistry     deltaRegistry     ;
+		private final boolean                 isContext         ;
+		
+		/**
+		 * @return the byte length of the chunks written and read incrementally by
+		 *         {@link #serializeInto(Object, WritableByteChannel)} and {@link #deserializeFrom(ReadableByteChannel)}.
+		 */
+		protected static int streamingChunkSize()
+		{
+			return 1 << 20;
+		}
+		
+		/**
+		 * @return the maximum byte length of the regions a file is mapped in by {@link #deserializeMapped(FileChannel)}.
+		 */
+		protected static long mappedChunkSize()
+		{
+			return Integer.MAX_VALUE;
+		}
 				
 		Default(
 			final SerializerFoundation<?> foundation,
 			final Function<Binary, M>     toMedium  ,
 			final Function<M, Binary>     toBinary
 		)
+		{
+			this(foundation, toMedium, toBinary, false);
+		}
+		
+		/**
+		 * @param isContext whether this instance is one of several contexts created from the same foundation,
+		 *        which requires an object registry and object manager of its own,
+		 *        see {@link SerializerFoundation#createContextPersistenceManager(PersistenceSource, PersistenceTarget)}.
+		 */
+		Default(
+			final SerializerFoundation<?> foundation,
+			final Function<Binary, M>     toMedium  ,
+			final Function<M, Binary>     toBinary  ,
+			final boolean                 isContext
+		)
 		{
 			super();
 			this.foundation = foundation;
 			this.toMedium   = toMedium  ;
 			this.toBinary   = toBinary  ;
+			this.isContext  = isContext ;
 			this.lazyInit();
 		}
 		
@@ -209,15 +841,221 @@ public interface Serializer<M> extends AutoCloseable
 		{
 			this.storer.store(object);
 			this.storer.commit();
-			return this.toMedium.apply(this.output);
+			return this.outputMedium();
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public synchronized <T> T deserialize(final M data)
+		{
+			this.input = this.toBinary.apply(data);
+			return (T)this.persistenceManager.get();
+		}
+		
+		@Override
+		public synchronized M serializeDelta(final Object root, final SerializerSnapshot base)
+		{
+			final HashMapIdId fingerprints = this.storer.storeDelta(root, notNull(base));
+			this.storer.commit();
+			base.advance(fingerprints);
+			
+			return this.outputMedium();
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public synchronized <T> T applyDelta(final M delta)
+		{
+			this.input = this.toBinary.apply(delta);
+			if(this.deltaRegistry == null)
+			{
+				this.deltaRegistry = this.persistenceManager.objectRegistry().Clone();
+			}
+			
+			return (T)Static.loadDelta(this.foundation, this.persistenceManager, this.deltaRegistry);
+		}
+		
+		@Override
+		public synchronized int serializeInto(final Object object, final ByteBuffer target)
+		{
+			this.storer.store(object);
+			this.storer.commit();
+			try
+			{
+				return Static.copyTo(this.output, target);
+			}
+			finally
+			{
+				this.releaseOutput();
+			}
+		}
+		
+		@Override
+		public synchronized long serializeInto(final Object object, final WritableByteChannel target)
+		{
+			if(!this.isTranscoding())
+			{
+				return this.storer.storeInto(object, target, streamingChunkSize());
+			}
+			
+			// a compact or compressed message can only be encoded as a whole.
+			this.storer.store(object);
+			this.storer.commit();
+			try
+			{
+				return Static.writeTo(this.output, target);
+			}
+			finally
+			{
+				this.releaseOutput();
+			}
+		}
+		
+		private M outputMedium()
+		{
+			final M medium = this.toMedium.apply(this.output);
+			
+			// an array is always a copy of the direct output buffers, any other medium might reference them.
+			if(medium instanceof byte[])
+			{
+				this.releaseOutput();
+			}
+			
+			return medium;
+		}
+		
+		private void releaseOutput()
+		{
+			// the output has been copied and is not referenced by any medium, so its buffers can be reused.
+			if(this.output instanceof ChunksBuffer)
+			{
+				((ChunksBuffer)this.output).release();
+			}
+			this.output = null;
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public synchronized <T> T deserialize(final ByteBuffer source, final int offset, final int length)
+		{
+			this.input = this.wrapInput(source, offset, length);
+			try
+			{
+				return (T)this.persistenceManager.get();
+			}
+			finally
+			{
+				// the wrapped memory is owned by the caller (or reused), so it may not be referenced any longer.
+				this.input = null;
+			}
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public synchronized <T> T deserializeFrom(final ReadableByteChannel source)
+		{
+			final ChunksChannelReader reader = ChunksChannelReader.New(
+				source,
+				streamingChunkSize(),
+				this.foundation.isByteOrderMismatch()
+			);
+			try
+			{
+				if(!this.isTranscoding())
+				{
+					// further chunks are read when the loader requests the entities referenced by the first one.
+					this.inputReader = reader;
+					this.input       = mayNull(reader.readChunk());
+				}
+				else
+				{
+					// a compact or compressed message can only be decoded as a whole.
+					final ByteBuffer buffer = reader.readAll();
+					this.input = ChunksWrapper.New(buffer, 0, buffer.limit());
+				}
+				if(this.input == null)
+				{
+					throw new PersistenceException("No data to deserialize.");
+				}
+				
+				return (T)this.persistenceManager.get();
+			}
+			finally
+			{
+				// the chunks are only referenced by the loader until the graph is built.
+				this.input       = null;
+				this.inputReader = null;
+				reader.release();
+			}
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public synchronized <T> T deserializeMapped(final FileChannel source)
+		{
+			// a compact or compressed message can only be decoded as a whole.
+			final ByteBuffer[] chunks = this.isTranscoding()
+				? new ByteBuffer[]{Static.map(source)}
+				: Static.mapEntityChunks(source, this.foundation.isByteOrderMismatch(), mappedChunkSize())
+			;
+			try
+			{
+				this.input = ChunksWrapper.New(chunks);
+				
+				return (T)this.persistenceManager.get();
+			}
+			finally
+			{
+				// the graph is completely built, so nothing references the mapped memory any longer.
+				this.input = null;
+				Static.unmap(chunks);
+			}
+		}
+		
+		private XGettingCollection<? extends Binary> readNextInput(final PersistenceIdSet[] oids)
+		{
+			if(this.inputReader == null)
+			{
+				// not streaming: all entities are contained in the initial input.
+				return null;
+			}
+			
+			return this.inputReader.readChunks(oids);
+		}
+		
+		private Binary wrapInput(final ByteBuffer source, final int offset, final int length)
+		{
+			Objects.checkFromIndexSize(offset, length, source.limit());
+			if(XTypes.isDirectByteBuffer(source))
+			{
+				return ChunksWrapper.New(source, offset, length);
+			}
+			
+			// heap memory can't be read via addresses, so it has to be copied to native memory once.
+			final ByteBuffer inputBuffer = this.ensureInputBuffer(length);
+			inputBuffer.put(0, source, offset, length);
+			
+			return ChunksWrapper.New(inputBuffer, 0, length);
+		}
+		
+		private ByteBuffer ensureInputBuffer(final int length)
+		{
+			if(this.inputBuffer == null || this.inputBuffer.capacity() < length)
+			{
+				this.releaseInputBuffer();
+				this.inputBuffer = XMemory.allocateDirectNative(length);
+			}
+			
+			return this.inputBuffer;
 		}
 		
-		@SuppressWarnings("unchecked")
-		@Override
-		public synchronized <T> T deserialize(final M data)
+		private void releaseInputBuffer()
 		{
-			this.input = this.toBinary.apply(data);
-			return (T)this.persistenceManager.get();
+			if(this.inputBuffer != null)
+			{
+				XMemory.deallocateDirectByteBuffer(this.inputBuffer);
+				this.inputBuffer = null;
+			}
 		}
 		
 		@Override
@@ -228,9 +1066,11 @@ public interface Serializer<M> extends AutoCloseable
 				this.persistenceManager.objectRegistry().truncateAll();
 				this.persistenceManager.close();
 				this.persistenceManager = null;
+				this.deltaRegistry      = null;
 				this.input              = null;
 				this.output             = null;
 			}
+			this.releaseInputBuffer();
 		}
 		
 		@Override
@@ -244,17 +1084,37 @@ public interface Serializer<M> extends AutoCloseable
 		{
 			if(this.persistenceManager == null)
 			{
-				final Source source = ()   -> X.Constant(this.input);
-				final Target target = data -> this.output = data    ;
+				final Source source = new Source()
+				{
+					@Override
+					public XGettingCollection<? extends Binary> read()
+					{
+						return X.Constant(Default.this.decodeInput(Default.this.input));
+					}
+					
+					@Override
+					public XGettingCollection<? extends Binary> readByObjectIds(final PersistenceIdSet[] oids)
+					{
+						return Default.this.readNextInput(oids);
+					}
+				};
+				final Target target = data -> this.output = this.encodeOutput(data);
 								
-				this.persistenceManager = this.foundation
-					.setPersistenceSource(source)
-					.setPersistenceTarget(target)
-					.createPersistenceManager()
+				this.persistenceManager = this.isContext
+					? this.foundation.createContextPersistenceManager(source, target)
+					: this.foundation
+						.setPersistenceSource(source)
+						.setPersistenceTarget(target)
+						.createPersistenceManager()
 				;
-				this.storer             = this.persistenceManager.createStorer(
-					new SerializerStorer.Creator(this.foundation.isByteOrderMismatch())
+				this.storer             = (SerializerStorer)this.persistenceManager.createStorer(
+					new SerializerStorer.Creator(this.foundation.isByteOrderMismatch(), this.foundation.getBufferPool())
 				);
+				this.compactFormat      = this.foundation.isCompactFormat()
+					? BinaryCompactFormat.New(this.foundation.getTypeHandlerManager(), this.foundation.isByteOrderMismatch())
+					: null
+				;
+				this.compressionCodec   = this.foundation.getCompressionCodec();
 			}
 			else
 			{
@@ -262,18 +1122,72 @@ public interface Serializer<M> extends AutoCloseable
 			}
 		}
 		
+		private boolean isTranscoding()
+		{
+			return this.compactFormat != null || this.compressionCodec.isCompressing();
+		}
+		
+		private Binary encodeOutput(final Binary data)
+		{
+			Binary encoded = data;
+			if(this.compactFormat != null)
+			{
+				encoded = this.transcode(data, this.compactFormat::encode);
+			}
+			if(this.compressionCodec.isCompressing())
+			{
+				encoded = this.transcode(
+					encoded,
+					e -> Static.compress(e, this.compressionCodec, this.foundation.getBufferPool())
+				);
+			}
+			
+			return encoded;
+		}
+		
+		private Binary transcode(final Binary data, final Function<Binary, Binary> encoder)
+		{
+			try
+			{
+				return encoder.apply(data);
+			}
+			finally
+			{
+				// the data has been transcoded, so its buffers can be reused.
+				if(data instanceof ChunksBuffer)
+				{
+					((ChunksBuffer)data).release();
+				}
+			}
+		}
+		
+		private Binary decodeInput(final Binary data)
+		{
+			final Binary decompressed = this.compressionCodec.isCompressing()
+				? this.compressionCodec.decode(data, this.foundation.getMaximumDecodedLength())
+				: data
+			;
+			
+			return this.compactFormat == null
+				? decompressed
+				: this.compactFormat.decode(decompressed)
+			;
+		}
+		
 		
 		static class SerializerStorer
-		implements BinaryStorer, PersistenceStoreHandler<Binary>, PersistenceObjectIdRequestor<Binary>
+		implements BinaryStorer, PersistenceStoreHandler<Binary>, PersistenceLocalObjectIdRegistry<Binary>
 		{
 			static class Creator implements PersistenceStorer.Creator<Binary>
 			{
-				private final boolean switchByteOrder;
+				private final boolean    switchByteOrder;
+				private final BufferPool bufferPool     ;
 				
-				Creator(final boolean switchByteOrder)
+				Creator(final boolean switchByteOrder, final BufferPool bufferPool)
 				{
 					super();
 					this.switchByteOrder = switchByteOrder;
+					this.bufferPool      = bufferPool     ;
 				}
 
 				@Override
@@ -313,7 +1227,8 @@ public interface Serializer<M> extends AutoCloseable
 						target              ,
 						bufferSizeProvider  ,
 						this.switchByteOrder,
-						persister
+						persister           ,
+						this.bufferPool
 					);
 				}
 
@@ -335,8 +1250,18 @@ public interface Serializer<M> extends AutoCloseable
 			private final Persister                             persister      ;
 			
 			private final BufferSizeProviderIncremental bufferSizeProvider;
+			private final BufferPool                    bufferPool        ;
 			
 			private ChunksBuffer[] chunks;
+			
+			// only set while storing into a channel, see storeInto.
+			private WritableByteChannel streamTarget        ;
+			private long                streamFlushThreshold;
+			private long                streamedLength      ;
+			
+			// only set while storing a delta, see storeDelta.
+			private SerializerSnapshot deltaBase        ;
+			private HashMapIdId        deltaFingerprints;
 
 			final   Item                    head = new Item(null, 0L, null, null);
 			private Item                    tail;
@@ -351,7 +1276,8 @@ public interface Serializer<M> extends AutoCloseable
 				final PersistenceTarget<Binary>             target            ,
 				final BufferSizeProviderIncremental         bufferSizeProvider,
 				final boolean                               switchByteOrder   ,
-				final Persister                             persister
+				final Persister                             persister         ,
+				final BufferPool                            bufferPool
 			)
 			{
 				super();
@@ -362,6 +1288,7 @@ public interface Serializer<M> extends AutoCloseable
 				this.bufferSizeProvider = notNull(bufferSizeProvider);
 				this.switchByteOrder    =         switchByteOrder    ;
 				this.persister          = mayNull(persister)         ;
+				this.bufferPool         = notNull(bufferPool)        ;
 				
 				this.defaultInitialize();
 			}
@@ -436,8 +1363,8 @@ public interface Serializer<M> extends AutoCloseable
 
 				final ChunksBuffer[] chunks = this.chunks = new ChunksBuffer[1];
 				chunks[0] = this.switchByteOrder
-					? ChunksBufferByteReversing.New(chunks, this.bufferSizeProvider)
-					: ChunksBuffer.New(chunks, this.bufferSizeProvider)
+					? ChunksBufferByteReversing.New(chunks, this.bufferSizeProvider, false, this.bufferPool)
+					: ChunksBuffer.New(chunks, this.bufferSizeProvider, false, this.bufferPool)
 				;
 				
 				// must be clear instead of just reset to avoid memory leaks
@@ -537,11 +1464,127 @@ public interface Serializer<M> extends AutoCloseable
 				// process and collect required instances uniquely in item chain (graph recursion transformed to iteration)
 				for(Item item = this.tail; item != null; item = item.next)
 				{
+					if(this.deltaFingerprints != null)
+					{
+						this.storeDeltaItem(item, item.oid == rootOid);
+						continue;
+					}
 					item.typeHandler.store(this.chunks[0], item.instance, item.oid, this);
+					if(this.streamTarget != null && this.chunks[0].totalLength() >= this.streamFlushThreshold)
+					{
+						this.streamedLength += this.chunks[0].drainCompletedBuffers(this::writeToStreamTarget);
+					}
 				}
 
 				return rootOid;
 			}
+			
+			/**
+			 * Stores the passed graph and writes its data to the passed channel, like {@link #store(Object)}
+			 * and {@link #commit()} with a target writing to the channel. But the completed buffers are already
+			 * written while the graph is traversed, as soon as at least {@code flushThreshold} bytes of them
+			 * are pending. So the buffer memory is bounded by about that threshold plus the largest entity.
+			 * 
+			 * @param root the root object of the graph
+			 * @param target the channel to write to
+			 * @param flushThreshold the byte length of completed buffers to write at once
+			 * @return the number of written bytes
+			 * @throws PersistenceExceptionTransfer if writing to the channel fails
+			 */
+			final long storeInto(final Object root, final WritableByteChannel target, final long flushThreshold)
+			{
+				this.streamTarget         = notNull(target);
+				this.streamFlushThreshold = positive(flushThreshold);
+				this.streamedLength       = 0;
+				try
+				{
+					this.storeGraph(root);
+					
+					final ChunksBuffer chunk = this.chunks[0].complete();
+					for(final ByteBuffer buffer : chunk.buffers())
+					{
+						this.writeToStreamTarget(buffer);
+						this.streamedLength += buffer.limit();
+					}
+					this.notifyCommitListeners();
+					
+					return this.streamedLength;
+				}
+				finally
+				{
+					// the written data is not referenced by any medium, so its buffers can be reused.
+					this.chunks[0].release();
+					this.streamTarget = null;
+					this.clear();
+				}
+			}
+			
+			/**
+			 * Stores the passed graph like {@link #store(Object)}, but drops every entity except the root whose
+			 * serialized record has the same fingerprint as in the passed snapshot.
+			 * <p>
+			 * Other than for plain serialization, the object ids of all entities of the graph are merged into this
+			 * storer's object manager, so that the next delta refers to the same entities by the same object ids.
+			 * 
+			 * @param root the root object of the graph
+			 * @param base the snapshot of the previously serialized graph
+			 * @return the fingerprints of all entities of the graph, to advance the snapshot with once committed
+			 */
+			final HashMapIdId storeDelta(final Object root, final SerializerSnapshot base)
+			{
+				final HashMapIdId fingerprints = HashMapIdId.New(X.checkArrayRange(Math.max(base.size(), 1)));
+				this.deltaBase         = base        ;
+				this.deltaFingerprints = fingerprints;
+				try
+				{
+					this.storeGraph(root);
+				}
+				finally
+				{
+					this.deltaBase         = null;
+					this.deltaFingerprints = null;
+				}
+				this.objectManager.registerLocalRegistry(this);
+				this.objectManager.mergeEntries(this);
+				
+				return fingerprints;
+			}
+			
+			private void storeDeltaItem(final Item item, final boolean isRoot)
+			{
+				final ChunksBuffer chunk        = this.chunks[0];
+				final long         lengthBefore = chunk.currentTotalLength();
+				item.typeHandler.store(chunk, item.instance, item.oid, this);
+				
+				final long length      = chunk.currentTotalLength() - lengthBefore;
+				final long fingerprint = chunk.fingerprintTrailingBytes(length);
+				this.deltaFingerprints.put(item.oid, fingerprint);
+				
+				// the root is always contained, as the receiver's loader returns the first entity.
+				if(!isRoot
+					&& fingerprint != BinaryChangeTracker.NO_FINGERPRINT
+					&& fingerprint == this.deltaBase.fingerprint(item.oid)
+				)
+				{
+					chunk.discardTrailingBytes(length);
+				}
+			}
+			
+			private void writeToStreamTarget(final ByteBuffer buffer)
+			{
+				final ByteBuffer view = buffer.duplicate();
+				try
+				{
+					while(view.hasRemaining())
+					{
+						this.streamTarget.write(view);
+					}
+				}
+				catch(final IOException e)
+				{
+					throw new PersistenceExceptionTransfer(e);
+				}
+			}
 
 			@Override
 			public final long store(final Object root)
@@ -612,6 +1655,38 @@ public interface Serializer<M> extends AutoCloseable
 				return null;
 			}
 			
+			@Override
+			public final PersistenceObjectManager<Binary> parentObjectManager()
+			{
+				return this.objectManager;
+			}
+			
+			@Override
+			public final <T> long lookupObjectId(
+				final T                                    object           ,
+				final PersistenceObjectIdRequestor<Binary> objectIdRequestor,
+				final PersistenceTypeHandler<Binary, T>    optionalHandler
+			)
+			{
+				final Item item = this.hashSlots.get(object);
+				
+				// skip items are local only and not valid for being visible to other storers
+				return item != null && item.typeHandler != null
+					? item.oid
+					: Swizzling.notFoundId()
+				;
+			}
+			
+			@Override
+			public final void iterateMergeableEntries(final PersistenceAcceptor iterator)
+			{
+				// skip items are not contained in the item chain, only in the hash table.
+				for(Item item = this.head.next; item != null; item = item.next)
+				{
+					iterator.accept(item.oid, item.instance);
+				}
+			}
+			
 			public final long lookupOid(final Object object)
 			{
 				final Item item = this.hashSlots.get(object);
@@ -771,4 +1846,327 @@ public interface Serializer<M> extends AutoCloseable
 		
 	}
 	
+
+	
+	/**
+	 * Thread-safe {@link Serializer} that dispatches every call to one of a bounded set of independent
+	 * serializer contexts instead of funneling all callers through a single monitor.
+	 * <p>
+	 * Every context is a complete serializer of its own (persistence manager with its own object registry
+	 * and object manager, storer, input and output), so closing or clearing one context never affects
+	 * the others. But all contexts are created from the same {@link SerializerFoundation} and therefore
+	 * share its type handler manager and type dictionary. Type handlers are created only once, and every load
+	 * looks up the handler of a type id in the shared type handler manager only once, so the contexts contend for
+	 * the manager's lock once per type and load instead of once per entity.
+	 * <p>
+	 * Contexts are created lazily, up to the configured maximum. If all contexts are busy, callers wait
+	 * until one is released. Closing the serializer fails all waiting and subsequent calls, contexts that are
+	 * still in use are closed when their current call releases them.
+	 * <p>
+	 * As every context assigns object ids on its own, but deltas and {@link SerializerSnapshot}s rely on stable
+	 * object ids, {@link #serializeDelta(Object, SerializerSnapshot)} and {@link #applyDelta(Object)} are
+	 * executed by one additional context dedicated to deltas. So delta calls are executed one after another,
+	 * while the regular calls are still executed concurrently by the pooled contexts.
+	 *
+	 * @param <M> the medium type
+	 */
+	public static class Pooled<M> implements Serializer<M>
+	{
+		private static final long CLOSE_CHECK_INTERVAL_MS = 100;
+		
+		private final Supplier<? extends Serializer<M>> contextCreator     ;
+		private final int                               maximumContextCount;
+		private final BlockingQueue<Serializer<M>>      idleContexts       ;
+		private final BulkList<Serializer<M>>           allContexts        ;
+		private       Serializer<M>                     deltaContext       ;
+		private       volatile boolean                  closed             ;
+		
+		Pooled(
+			final Supplier<? extends Serializer<M>> contextCreator     ,
+			final int                               maximumContextCount
+		)
+		{
+			super();
+			this.contextCreator      = contextCreator                              ;
+			this.maximumContextCount = maximumContextCount                         ;
+			this.idleContexts        = new ArrayBlockingQueue<>(maximumContextCount);
+			this.allContexts         = BulkList.New(maximumContextCount)           ;
+		}
+		
+		public final int maximumContextCount()
+		{
+			return this.maximumContextCount;
+		}
+		
+		public final synchronized int contextCount()
+		{
+			return (int)this.allContexts.size();
+		}
+		
+		@Override
+		public M serialize(final Object object)
+		{
+			final Serializer<M> context = this.acquireContext();
+			try
+			{
+				return context.serialize(object);
+			}
+			finally
+			{
+				this.releaseContext(context);
+			}
+		}
+		
+		@Override
+		public <T> T deserialize(final M medium)
+		{
+			final Serializer<M> context = this.acquireContext();
+			try
+			{
+				return context.deserialize(medium);
+			}
+			finally
+			{
+				this.releaseContext(context);
+			}
+		}
+		
+		@Override
+		public int serializeInto(final Object object, final ByteBuffer target)
+		{
+			final Serializer<M> context = this.acquireContext();
+			try
+			{
+				return context.serializeInto(object, target);
+			}
+			finally
+			{
+				this.releaseContext(context);
+			}
+		}
+		
+		@Override
+		public long serializeInto(final Object object, final WritableByteChannel target)
+		{
+			final Serializer<M> context = this.acquireContext();
+			try
+			{
+				return context.serializeInto(object, target);
+			}
+			finally
+			{
+				this.releaseContext(context);
+			}
+		}
+		
+		@Override
+		public <T> T deserialize(final ByteBuffer source, final int offset, final int length)
+		{
+			final Serializer<M> context = this.acquireContext();
+			try
+			{
+				return context.deserialize(source, offset, length);
+			}
+			finally
+			{
+				this.releaseContext(context);
+			}
+		}
+		
+		@Override
+		public <T> T deserializeFrom(final ReadableByteChannel source)
+		{
+			final Serializer<M> context = this.acquireContext();
+			try
+			{
+				return context.deserializeFrom(source);
+			}
+			finally
+			{
+				this.releaseContext(context);
+			}
+		}
+		
+		@Override
+		public <T> T deserializeMapped(final FileChannel source)
+		{
+			final Serializer<M> context = this.acquireContext();
+			try
+			{
+				return context.deserializeMapped(source);
+			}
+			finally
+			{
+				this.releaseContext(context);
+			}
+		}
+		
+		@Override
+		public M serializeDelta(final Object root, final SerializerSnapshot base)
+		{
+			return this.deltaContext().serializeDelta(root, base);
+		}
+		
+		@Override
+		public <T> T applyDelta(final M delta)
+		{
+			return this.deltaContext().applyDelta(delta);
+		}
+		
+		@Override
+		public String exportTypeDictionary()
+		{
+			// all contexts share the foundation's type dictionary, so any context is as good as the other
+			final Serializer<M> context = this.acquireContext();
+			try
+			{
+				return context.exportTypeDictionary();
+			}
+			finally
+			{
+				this.releaseContext(context);
+			}
+		}
+		
+		@Override
+		public synchronized void close()
+		{
+			if(this.closed)
+			{
+				return;
+			}
+			this.closed = true;
+			
+			// idle contexts are closed right away, busy ones by #releaseContext once their call is done.
+			for(Serializer<M> context; (context = this.idleContexts.poll()) != null;)
+			{
+				closeContext(context);
+			}
+			this.allContexts.clear();
+			
+			if(this.deltaContext != null)
+			{
+				closeContext(this.deltaContext);
+				this.deltaContext = null;
+			}
+		}
+		
+		/**
+		 * Returns the context executing all delta calls, which is not part of the pool. The context itself
+		 * executes one call at a time, which keeps the object ids stable across the deltas of a snapshot.
+		 * 
+		 * @return the delta context
+		 */
+		protected synchronized Serializer<M> deltaContext()
+		{
+			this.validateOpen();
+			if(this.deltaContext == null)
+			{
+				this.deltaContext = this.contextCreator.get();
+			}
+			
+			return this.deltaContext;
+		}
+		
+		protected Serializer<M> acquireContext()
+		{
+			this.validateOpen();
+			
+			final Serializer<M> idleContext = this.idleContexts.poll();
+			if(idleContext != null)
+			{
+				return this.validateAcquired(idleContext);
+			}
+			
+			synchronized(this)
+			{
+				this.validateOpen();
+				
+				// creating a context initializes the shared parts of the foundation, hence it must be done under the lock.
+				if(this.allContexts.size() < this.maximumContextCount)
+				{
+					final Serializer<M> newContext = this.contextCreator.get();
+					this.allContexts.add(newContext);
+					return newContext;
+				}
+			}
+			
+			return this.awaitContext();
+		}
+		
+		private Serializer<M> awaitContext()
+		{
+			try
+			{
+				// waiting in intervals lets waiting callers notice a concurrent #close.
+				while(true)
+				{
+					this.validateOpen();
+					final Serializer<M> context = this.idleContexts.poll(CLOSE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+					if(context != null)
+					{
+						return this.validateAcquired(context);
+					}
+				}
+			}
+			catch(final InterruptedException e)
+			{
+				// restore the interruption flag
+				Thread.currentThread().interrupt();
+				throw new PersistenceException("Interrupted while waiting for an idle serializer context.", e);
+			}
+		}
+		
+		private Serializer<M> validateAcquired(final Serializer<M> context)
+		{
+			if(this.closed)
+			{
+				// the context has been released after closing, so this caller is responsible for closing it.
+				closeContext(context);
+				this.validateOpen();
+			}
+			
+			return context;
+		}
+		
+		protected void releaseContext(final Serializer<M> context)
+		{
+			if(this.closed)
+			{
+				closeContext(context);
+				return;
+			}
+			
+			// capacity equals the maximum context count, so offering can never fail.
+			this.idleContexts.offer(context);
+			
+			// #close may have drained the idle contexts in between, the one removing the context closes it.
+			if(this.closed && this.idleContexts.remove(context))
+			{
+				closeContext(context);
+			}
+		}
+		
+		private static void closeContext(final Serializer<?> context)
+		{
+			try
+			{
+				context.close();
+			}
+			catch(final Exception e)
+			{
+				throw new PersistenceException("Closing a serializer context failed.", e);
+			}
+		}
+		
+		private void validateOpen()
+		{
+			if(this.closed)
+			{
+				throw new PersistenceException("Serializer has already been closed.");
+			}
+		}
+		
+	}
+	
 }
@@ -14,9 +14,12 @@ package org.eclipse.serializer;
  * #L%
  */
 
+import static org.eclipse.serializer.util.X.notNull;
+
 import org.eclipse.serializer.collections.HashEnum;
 import org.eclipse.serializer.collections.types.XEnum;
 import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompactFormat;
 import org.eclipse.serializer.persistence.binary.types.BinaryLoader;
 import org.eclipse.serializer.persistence.binary.types.BinaryPersistenceFoundation;
 import org.eclipse.serializer.persistence.binary.types.BinaryStorer;
@@ -24,9 +27,13 @@ import org.eclipse.serializer.persistence.types.PersistenceContextDispatcher;
 import org.eclipse.serializer.persistence.types.PersistenceLoader;
 import org.eclipse.serializer.persistence.types.PersistenceManager;
 import org.eclipse.serializer.persistence.types.PersistenceObjectIdProvider;
+import org.eclipse.serializer.persistence.types.PersistenceObjectManager;
+import org.eclipse.serializer.persistence.types.PersistenceObjectRegistry;
 import org.eclipse.serializer.persistence.types.PersistenceRootsProvider;
+import org.eclipse.serializer.persistence.types.PersistenceSource;
 import org.eclipse.serializer.persistence.types.PersistenceStorer;
 import org.eclipse.serializer.persistence.types.PersistenceStorer.CreationObserver;
+import org.eclipse.serializer.persistence.types.PersistenceTarget;
 import org.eclipse.serializer.persistence.types.PersistenceTypeDictionaryLoader;
 import org.eclipse.serializer.persistence.types.PersistenceTypeDictionaryManager;
 import org.eclipse.serializer.persistence.types.PersistenceTypeHandlerManager;
@@ -63,6 +70,46 @@ public interface SerializerFoundation<F extends SerializerFoundation<?>> extends
 	
 	public F registerEntityTypes(final Iterable<Class<?>> entityTypes);
 	
+	/**
+	 * Returns whether the serialized data is transferred in the {@link BinaryCompactFormat},
+	 * see {@link #setCompactFormat(boolean)}.
+	 * 
+	 * @return whether the compact format is used
+	 */
+	public boolean isCompactFormat();
+	
+	/**
+	 * Defines whether the serialized data is transferred in the {@link BinaryCompactFormat} instead of the
+	 * regular entity format. The compact format encodes entity headers, references and lengths with variable
+	 * length, which makes the data smaller at the cost of transcoding it.
+	 * <p>
+	 * For a {@link Serializer} both sides have to use the same setting, a {@link TypedSerializer}
+	 * flags the format in its data and reads both formats regardless of this setting.
+	 * Default is <code>false</code>.
+	 * 
+	 * @param compactFormat whether to use the compact format
+	 * @return this
+	 */
+	public F setCompactFormat(boolean compactFormat);
+	
+	/**
+	 * Creates a {@link PersistenceManager} with its own object registry and object manager, but sharing
+	 * the type handler manager and all other type related parts with every other persistence manager
+	 * created by this foundation. So several of them can be used concurrently, e.g. by the contexts of a
+	 * {@link Serializer.Pooled}, without assigning or clearing object ids for each other.
+	 * <p>
+	 * Other than {@link #createPersistenceManager()}, the passed source and target are not set to
+	 * this foundation.
+	 * 
+	 * @param source the source of the new persistence manager
+	 * @param target the target of the new persistence manager
+	 * @return a new persistence manager with its own object registry and object manager
+	 */
+	public PersistenceManager<Binary> createContextPersistenceManager(
+		PersistenceSource<Binary> source,
+		PersistenceTarget<Binary> target
+	);
+	
 	
 	public static SerializerFoundation<?> New()
 	{
@@ -84,6 +131,7 @@ public interface SerializerFoundation<F extends SerializerFoundation<?>> extends
 	{
 		private XEnum<Class<?>>                   entityTypes                      ;
 		private SerializerTypeInfoStrategyCreator serializerTypeInfoStrategyCreator;
+		private boolean                           compactFormat                    ;
 		
 		Default()
 		{
@@ -162,6 +210,20 @@ public interface SerializerFoundation<F extends SerializerFoundation<?>> extends
 		}
 		
 		
+		@Override
+		public boolean isCompactFormat()
+		{
+			return this.compactFormat;
+		}
+		
+		@Override
+		public F setCompactFormat(final boolean compactFormat)
+		{
+			this.compactFormat = compactFormat;
+			return this.$();
+		}
+		
+		
 		@Override
 		public F setObjectIdProvider(final PersistenceObjectIdProvider oidProvider)
 		{
@@ -226,6 +288,40 @@ public interface SerializerFoundation<F extends SerializerFoundation<?>> extends
 			return super.createPersistenceManager();
 		}
 		
+		@Override
+		public PersistenceManager<Binary> createContextPersistenceManager(
+			final PersistenceSource<Binary> source,
+			final PersistenceTarget<Binary> target
+		)
+		{
+			final PersistenceTypeHandlerManager<Binary> typeHandlerManager = this.getTypeHandlerManager();
+			typeHandlerManager.initialize();
+			this.getEntityTypes().forEach(typeHandlerManager::ensureTypeHandler);
+			
+			// a new registry and a cloned id provider instead of the foundation's cached ones.
+			final PersistenceObjectRegistry        objectRegistry = this.dispatch(this.ensureObjectRegistry());
+			final PersistenceObjectManager<Binary> objectManager  = PersistenceObjectManager.New(
+				objectRegistry,
+				this.getObjectIdProvider().Clone()
+			);
+			
+			return PersistenceManager.New(
+				objectRegistry,
+				objectManager,
+				typeHandlerManager,
+				this.getContextDispatcher(),
+				this.getStorerCreator(),
+				this.getBuilderCreator(),
+				this.getRegistererCreator(),
+				this.getPersister(),
+				notNull(target),
+				notNull(source),
+				this.ensureStorerCreationObserver(),
+				this.getBufferSizeProvider(),
+				this.getTargetByteOrder()
+			);
+		}
+		
 		
 		protected XEnum<Class<?>> ensureEntityTypes()
 		{
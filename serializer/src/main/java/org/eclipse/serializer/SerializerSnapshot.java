@@ -0,0 +1,110 @@
+package org.eclipse.serializer;
+
+/*-
+ * #%L
+ * Eclipse Serializer
+ * %%
+ * Copyright (C) 2023 - 2026 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * #L%
+ */
+
+import static org.eclipse.serializer.util.X.notNull;
+
+import org.eclipse.serializer.collections.HashMapIdId;
+import org.eclipse.serializer.persistence.binary.types.BinaryChangeTracker;
+
+
+/**
+ * The state of an object graph as of its last {@link Serializer#serializeDelta(Object, SerializerSnapshot) delta
+ * serialization}, used as the base of the next one.
+ * <p>
+ * A snapshot does not keep any data or instances, only a 64-bit {@link BinaryChangeTracker#fingerprint(long, long)
+ * fingerprint} of the serialized record of every entity reachable from the root, mapped by object id.
+ * Object ids are only meaningful for the serializer that assigned them, so a snapshot may only be used with
+ * one serializer. A new snapshot is empty, so the first delta contains the complete graph.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class SerializerSnapshot
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	public static SerializerSnapshot New()
+	{
+		return new SerializerSnapshot(HashMapIdId.New());
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private HashMapIdId fingerprints;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	SerializerSnapshot(final HashMapIdId fingerprints)
+	{
+		super();
+		this.fingerprints = notNull(fingerprints);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	/**
+	 * @return the number of entities contained in the snapshot.
+	 */
+	public final long size()
+	{
+		return this.fingerprints.size();
+	}
+
+	/**
+	 * Returns whether an entity with the passed object id has been contained in the last serialized graph.
+	 *
+	 * @param objectId the object id to look up
+	 * @return whether the entity is contained
+	 */
+	public final boolean contains(final long objectId)
+	{
+		return this.fingerprints.get(objectId, BinaryChangeTracker.NO_FINGERPRINT) != BinaryChangeTracker.NO_FINGERPRINT;
+	}
+
+	/**
+	 * Resets the snapshot, so that the next delta contains the complete graph again, e.g. to resynchronize
+	 * a receiver that has lost a message.
+	 */
+	public final void clear()
+	{
+		this.fingerprints = HashMapIdId.New();
+	}
+
+	final long fingerprint(final long objectId)
+	{
+		return this.fingerprints.get(objectId, BinaryChangeTracker.NO_FINGERPRINT);
+	}
+
+	final void advance(final HashMapIdId fingerprints)
+	{
+		// replaced instead of merged, so entities that are no longer reachable are dropped.
+		this.fingerprints = notNull(fingerprints);
+	}
+
+}
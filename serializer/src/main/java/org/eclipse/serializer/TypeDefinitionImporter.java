@@ -77,7 +77,9 @@ public interface TypeDefinitionImporter
 				
 				if(handler != null)
 				{
-					if(PersistenceTypeDescriptionMember.equalMembers(typeDefinition.allMembers(), handler.allMembers(), this.memberValidator))
+					if(PersistenceTypeDescriptionMember.equalMembers(typeDefinition.allMembers(), handler.allMembers(), this.memberValidator)
+						|| handler.isReadableLayout(typeDefinition)
+					)
 					{
 						logger.trace("Handler for type {}, typeId {} already registered.", typeDefinition.type(), typeDefinition.typeId());
 					}
@@ -14,23 +14,40 @@ package org.eclipse.serializer;
  * #L%
  */
 
+import static org.eclipse.serializer.math.XMath.positive;
 import static org.eclipse.serializer.util.X.notNull;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.serializer.Serializer.Default.SerializerStorer;
+import org.eclipse.serializer.collections.HashMapIdId;
 import org.eclipse.serializer.collections.types.XGettingSequence;
 import org.eclipse.serializer.memory.XMemory;
 import org.eclipse.serializer.persistence.binary.types.Binary;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompactFormat;
+import org.eclipse.serializer.persistence.binary.types.BinaryCompressionCodec;
+import org.eclipse.serializer.persistence.binary.types.ChunksBuffer;
+import org.eclipse.serializer.persistence.binary.types.ChunksChannelReader;
 import org.eclipse.serializer.persistence.binary.types.ChunksWrapper;
+import org.eclipse.serializer.persistence.exceptions.PersistenceException;
+import org.eclipse.serializer.persistence.exceptions.PersistenceExceptionTransfer;
 import org.eclipse.serializer.persistence.types.PersistenceManager;
+import org.eclipse.serializer.persistence.types.PersistenceObjectRegistry;
+import org.eclipse.serializer.persistence.types.PersistenceSource;
+import org.eclipse.serializer.persistence.types.PersistenceTarget;
 import org.eclipse.serializer.persistence.types.PersistenceTypeDefinition;
-import org.eclipse.serializer.persistence.types.Storer;
+import org.eclipse.serializer.typing.XTypes;
 import org.eclipse.serializer.util.X;
 import org.eclipse.serializer.util.logging.Logging;
 import org.slf4j.Logger;
@@ -138,10 +155,78 @@ public interface TypedSerializer<M> extends Serializer<M>
 			notNull(toBinary  )
 		);
 	}
-	
+
+	/**
+	 * Create a new thread-safe TypedSerializer instance based upon the supplied
+	 * {@link SerializerFoundation} that executes up to <code>maximumContextCount</code>
+	 * calls concurrently.
+	 * The serialized data is supplied as byte array.
+	 *
+	 * @param foundation {@link SerializerFoundation} used to configure the serializer contexts.
+	 * @param maximumContextCount the maximum number of pooled serializer contexts.
+	 * @return A new pooled TypedSerializer instance.
+	 *
+	 * @see Serializer.Pooled
+	 */
+	public static TypedSerializer<byte[]> Concurrent(
+		final SerializerFoundation<?> foundation         ,
+		final int                     maximumContextCount
+	)
+	{
+		return Concurrent(
+			foundation         ,
+			maximumContextCount,
+			Static::toBytes    ,
+			Static::toBinary
+		);
+	}
+
+	/**
+	 * Create a new thread-safe TypedSerializer instance based upon the supplied
+	 * {@link SerializerFoundation} that executes up to <code>maximumContextCount</code>
+	 * calls concurrently.
+	 *
+	 * @param <M> the medium type
+	 * @param foundation {@link SerializerFoundation} used to configure the serializer contexts.
+	 * @param maximumContextCount the maximum number of pooled serializer contexts.
+	 * @param toMedium function to convert a {@link Binary} into the medium
+	 * @param toBinary function to convert the medium into a {@link Binary}
+	 * @return A new pooled TypedSerializer instance.
+	 *
+	 * @see Serializer.Pooled
+	 */
+	public static <M> TypedSerializer<M> Concurrent(
+		final SerializerFoundation<?> foundation         ,
+		final int                     maximumContextCount,
+		final Function<Binary, M>     toMedium           ,
+		final Function<M, Binary>     toBinary
+	)
+	{
+		notNull(foundation);
+		notNull(toMedium  );
+		notNull(toBinary  );
+
+		return new TypedSerializer.Pooled<>(
+			() -> new TypedSerializer.Default<>(foundation, toMedium, toBinary, true),
+			positive(maximumContextCount)
+		);
+	}
+
 	
 	public final static class Static
 	{
+		// flags of the first header byte: bit 0 is the byte order, bit 1 the compact format of the data,
+		// bit 2 the compact chars layout of strings, bits 4 to 7 the id of the data's compression codec.
+		static final byte
+			HEADER_BIG_ENDIAN      = 0x1,
+			HEADER_COMPACT_FORMAT  = 0x2,
+			HEADER_COMPACT_STRINGS = 0x4
+		;
+		static final int
+			HEADER_CODEC_SHIFT     = 4   ,
+			HEADER_CODEC_MASK      = 0xF0
+		;
+		
 		public static byte[] toBytes(final Binary binary)
 		{
 			int overallLength = 0;
@@ -169,9 +254,9 @@ public interface TypedSerializer<M> extends Serializer<M>
 				
 		public static Binary toBinary(final byte[] bytes)
 		{
-			//first byte has the source byte order coded: 0 = LITTLE_ENDIAN, otherwise BIG_ENDIAN
+			//first byte has the source byte order coded: bit 0 unset = LITTLE_ENDIAN, otherwise BIG_ENDIAN
 			final byte b = bytes[XMemory.byteSize_int()];
-			final ByteOrder byteOrder = b == 0x0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+			final ByteOrder byteOrder = (b & HEADER_BIG_ENDIAN) == 0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
 			
 			final ByteBuffer bb = ByteBuffer.wrap(bytes).order(byteOrder);
 			final List<ByteBuffer> buffers = new ArrayList<>();
@@ -187,6 +272,116 @@ public interface TypedSerializer<M> extends Serializer<M>
 			return ChunksWrapper.New(buffers.toArray(new ByteBuffer[0]));
 		}
 		
+		/**
+		 * Wraps the length-prefixed chunks contained in the range <code>[offset; offset + length[</code>
+		 * of the passed direct buffer without copying them.
+		 * 
+		 * @param directBuffer the direct buffer containing the serialized data
+		 * @param offset the absolute start index of the data in the buffer
+		 * @param length the length of the data in bytes
+		 * @return a {@link Binary} wrapping slices of the passed buffer
+		 */
+		public static Binary toBinary(final ByteBuffer directBuffer, final int offset, final int length)
+		{
+			Objects.checkFromIndexSize(offset, length, directBuffer.limit());
+			
+			//first byte has the source byte order coded: bit 0 unset = LITTLE_ENDIAN, otherwise BIG_ENDIAN
+			final byte b = directBuffer.get(offset + XMemory.byteSize_int());
+			final ByteOrder byteOrder = (b & HEADER_BIG_ENDIAN) == 0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+			
+			final ByteBuffer bb = directBuffer.slice(offset, length).order(byteOrder);
+			final List<ByteBuffer> buffers = new ArrayList<>();
+			
+			while(bb.hasRemaining()) {
+				final int contentSize = bb.getInt();
+				buffers.add(bb.slice(bb.position(), contentSize).order(byteOrder));
+				bb.position(bb.position() + contentSize);
+			}
+			
+			return ChunksWrapper.New(buffers.toArray(new ByteBuffer[0]));
+		}
+		
+		/**
+		 * Writes the passed buffers length-prefixed, in the same format as {@link #toBytes(Binary)},
+		 * into the passed target buffer, starting at its current position.
+		 * The source buffers' positions are not modified.
+		 * 
+		 * @param sources the buffers to write
+		 * @param target the buffer to write to
+		 * @return the number of written bytes
+		 * @throws BufferOverflowException if the target's remaining capacity is insufficient
+		 */
+		public static int copyTo(final ByteBuffer[] sources, final ByteBuffer target)
+		{
+			long overallLength = 0;
+			for(final ByteBuffer source : sources)
+			{
+				overallLength += source.remaining() + XMemory.byteSize_int();
+			}
+			if(overallLength > target.remaining())
+			{
+				throw new BufferOverflowException();
+			}
+			
+			// length prefixes are always written in native byte order, regardless of the target's order
+			final boolean reverse = target.order() != XMemory.nativeByteOrder();
+			
+			int pos = target.position();
+			for(final ByteBuffer source : sources)
+			{
+				final int length = source.remaining();
+				target.putInt(pos, reverse ? Integer.reverseBytes(length) : length);
+				pos += XMemory.byteSize_int();
+				target.put(pos, source, source.position(), length);
+				pos += length;
+			}
+			target.position(pos);
+			
+			return (int)overallLength;
+		}
+		
+		/**
+		 * Writes the passed buffers length-prefixed, in the same format as {@link #toBytes(Binary)},
+		 * to the passed channel. The source buffers' positions are not modified.
+		 * 
+		 * @param sources the buffers to write
+		 * @param target the channel to write to
+		 * @return the number of written bytes
+		 * @throws PersistenceExceptionTransfer if writing to the channel fails
+		 */
+		public static long writeTo(final ByteBuffer[] sources, final WritableByteChannel target)
+		{
+			final ByteBuffer lengthBuffer = ByteBuffer.allocate(XMemory.byteSize_int())
+				.order(XMemory.nativeByteOrder())
+			;
+			
+			long writtenLength = 0;
+			try
+			{
+				for(final ByteBuffer source : sources)
+				{
+					lengthBuffer.clear();
+					lengthBuffer.putInt(source.remaining()).flip();
+					while(lengthBuffer.hasRemaining())
+					{
+						writtenLength += target.write(lengthBuffer);
+					}
+					
+					final ByteBuffer view = source.duplicate();
+					while(view.hasRemaining())
+					{
+						writtenLength += target.write(view);
+					}
+				}
+			}
+			catch(final IOException e)
+			{
+				throw new PersistenceExceptionTransfer(e);
+			}
+			
+			return writtenLength;
+		}
+		
 		/**
 		 * Dummy constructor to prevent instantiation of this static-only utility class.
 		 *
@@ -232,14 +427,19 @@ public interface TypedSerializer<M> extends Serializer<M>
 		private final Function<Binary, M>             toMedium                   ;
 		private final Function<M, Binary>             toBinary                   ;
 		private PersistenceManager<Binary>            persistenceManager         ;
-		private Storer                                storer                     ;
+		private SerializerStorer                      storer                     ;
+		private PersistenceObjectRegistry             deltaRegistry              ;
 		private Binary                                input                      ;
 		private Binary                                output                     ;
+		private Binary                                dataOutput                 ;
 		private TypeDefinitionBuilder                 typeDefintionBuilder       ;
 		private TypeDefinitionImporter                typeDefinitionImporter     ;
 		private SerializerTypeInfoStrategy			  typeInfoStrategy           ;
 		private TypeInfoCache                         typeInfoCache              ;
 		private long                                  lastTypeInfoImportTimeStamp;
+		private ByteBuffer                            inputBuffer                ;
+		private BinaryCompactFormat                   compactFormat              ;
+		private final boolean                         isContext                  ;
 				
 				
 		Default(
@@ -247,21 +447,122 @@ public interface TypedSerializer<M> extends Serializer<M>
 			final Function<Binary, M>     toMedium  ,
 			final Function<M, Binary>     toBinary
 		)
+		{
+			this(foundation, toMedium, toBinary, false);
+		}
+		
+		/**
+		 * @param isContext whether this instance is one of several contexts created from the same foundation,
+		 *        which requires an object registry and object manager of its own,
+		 *        see {@link SerializerFoundation#createContextPersistenceManager(PersistenceSource, PersistenceTarget)}.
+		 */
+		Default(
+			final SerializerFoundation<?> foundation,
+			final Function<Binary, M>     toMedium  ,
+			final Function<M, Binary>     toBinary  ,
+			final boolean                 isContext
+		)
 		{
 			super();
 			this.foundation = foundation;
 			this.toMedium   = toMedium  ;
 			this.toBinary   = toBinary  ;
+			this.isContext  = isContext ;
 			this.initialize();
 		}
 		
 		@Override
 		public synchronized M serialize(final Object object)
 		{
-			//serialize data
-			this.storer.store(object);
-			this.storer.commit();
-			final ByteBuffer[] dataBuffers = this.output.buffers();
+			return this.toMedium(this.serializeBuffers(object));
+		}
+		
+		@Override
+		public synchronized int serializeInto(final Object object, final ByteBuffer target)
+		{
+			try
+			{
+				return Static.copyTo(this.serializeBuffers(object), target);
+			}
+			finally
+			{
+				this.releaseDataOutput();
+			}
+		}
+		
+		@Override
+		public synchronized long serializeInto(final Object object, final WritableByteChannel target)
+		{
+			try
+			{
+				return Static.writeTo(this.serializeBuffers(object), target);
+			}
+			finally
+			{
+				this.releaseDataOutput();
+			}
+		}
+		
+		private M toMedium(final ByteBuffer[] buffers)
+		{
+			final M medium = this.toMedium.apply(ChunksWrapper.New(buffers));
+			
+			// an array is always a copy of the direct data buffers, any other medium might reference them.
+			if(medium instanceof byte[])
+			{
+				this.releaseDataOutput();
+			}
+			
+			return medium;
+		}
+		
+		private void releaseDataOutput()
+		{
+			// the data has been copied and is not referenced by any medium, so its buffers can be reused.
+			if(this.dataOutput instanceof ChunksBuffer)
+			{
+				((ChunksBuffer)this.dataOutput).release();
+			}
+			this.dataOutput = null;
+		}
+		
+		@Override
+		public synchronized M serializeDelta(final Object root, final SerializerSnapshot base)
+		{
+			return this.toMedium(this.serializeBuffers(root, notNull(base)));
+		}
+		
+		@Override
+		public synchronized <T> T applyDelta(final M delta)
+		{
+			if(this.deltaRegistry == null)
+			{
+				this.deltaRegistry = this.persistenceManager.objectRegistry().Clone();
+			}
+			
+			return this.deserializeBinary(this.toBinary.apply(delta), this.deltaRegistry);
+		}
+		
+		private ByteBuffer[] serializeBuffers(final Object object)
+		{
+			return this.serializeBuffers(object, null);
+		}
+		
+		private ByteBuffer[] serializeBuffers(final Object object, final SerializerSnapshot deltaBase)
+		{
+			//serialize data, only the changed entities if a delta base is given
+			if(deltaBase == null)
+			{
+				this.storer.store(object);
+				this.storer.commit();
+			}
+			else
+			{
+				final HashMapIdId fingerprints = this.storer.storeDelta(object, deltaBase);
+				this.storer.commit();
+				deltaBase.advance(fingerprints);
+			}
+			final ByteBuffer[] dataBuffers = this.encodeDataOutput();
 			
 			final ByteBuffer[] typeInfoBuffers = this.updateTypeInfo();
 						
@@ -270,8 +571,13 @@ public interface TypedSerializer<M> extends Serializer<M>
 				XMemory.byteSize_int() +
 				XMemory.byteSize_long());
 			
-			//set byteOrder as first byte in the output
-			headerBuffer.put((byte)(XMemory.nativeByteOrder() == ByteOrder.LITTLE_ENDIAN ? 0 : 1));
+			//set byteOrder and data format as first byte in the output
+			headerBuffer.put((byte)(
+				(XMemory.nativeByteOrder() == ByteOrder.LITTLE_ENDIAN ? 0 : Static.HEADER_BIG_ENDIAN)
+				| (this.foundation.isCompactFormat() ? Static.HEADER_COMPACT_FORMAT : 0)
+				| (this.foundation.isCompactStrings() ? Static.HEADER_COMPACT_STRINGS : 0)
+				| this.foundation.getCompressionCodec().id() << Static.HEADER_CODEC_SHIFT
+			));
 			headerBuffer.putInt(typeInfoBuffers.length);
 			headerBuffer.putLong(this.typeInfoCache.getLastTypeInfoTimeStamp());
 			headerBuffer.rewind();
@@ -288,7 +594,55 @@ public interface TypedSerializer<M> extends Serializer<M>
 				this.typeInfoCache = new TypeInfoCache(new ByteBuffer[0], 0);
 			}
 			
-			return this.toMedium.apply(ChunksWrapper.New(buffers));
+			return buffers;
+		}
+		
+		private ByteBuffer[] encodeDataOutput()
+		{
+			final BinaryCompressionCodec codec = this.foundation.getCompressionCodec();
+			if(!this.foundation.isCompactFormat() && !codec.isCompressing())
+			{
+				return (this.dataOutput = this.output).buffers();
+			}
+			
+			// only the data is transcoded, the type information must remain readable without knowing the types.
+			this.dataOutput = null;
+			try
+			{
+				Binary data = this.output;
+				if(this.foundation.isCompactFormat())
+				{
+					data = this.compactFormat().encode(data);
+				}
+				if(codec.isCompressing())
+				{
+					data = Serializer.Static.compress(data, codec, this.foundation.getBufferPool());
+				}
+				
+				return data.buffers();
+			}
+			finally
+			{
+				// the data has been transcoded, so its buffers can be reused.
+				if(this.output instanceof ChunksBuffer)
+				{
+					((ChunksBuffer)this.output).release();
+				}
+				this.output = null;
+			}
+		}
+		
+		private BinaryCompactFormat compactFormat()
+		{
+			if(this.compactFormat == null)
+			{
+				this.compactFormat = BinaryCompactFormat.New(
+					this.foundation.getTypeHandlerManager(),
+					this.foundation.isByteOrderMismatch()
+				);
+			}
+			
+			return this.compactFormat;
 		}
 		
 		private ByteBuffer[] updateTypeInfo()
@@ -305,13 +659,101 @@ public interface TypedSerializer<M> extends Serializer<M>
 			return this.typeInfoCache.getCachedTypeInfoBuffers();
 		}
 
-		@SuppressWarnings("unchecked")
 		@Override
 		public synchronized <T> T deserialize(final M data)
 		{
-			final Binary in = this.toBinary.apply(data);
+			return this.deserializeBinary(this.toBinary.apply(data), null);
+		}
+		
+		@Override
+		public synchronized <T> T deserialize(final ByteBuffer source, final int offset, final int length)
+		{
+			Objects.checkFromIndexSize(offset, length, source.limit());
+			try
+			{
+				if(XTypes.isDirectByteBuffer(source))
+				{
+					return this.deserializeBinary(Static.toBinary(source, offset, length), null);
+				}
+				
+				// heap memory can't be read via addresses, so it has to be copied to native memory once.
+				final ByteBuffer inputBuffer = this.ensureInputBuffer(length);
+				inputBuffer.put(0, source, offset, length);
+				
+				return this.deserializeBinary(Static.toBinary(inputBuffer, 0, length), null);
+			}
+			finally
+			{
+				// the wrapped memory is owned by the caller (or reused), so it may not be referenced any longer.
+				this.input = null;
+			}
+		}
+		
+		@Override
+		public synchronized <T> T deserializeFrom(final ReadableByteChannel source)
+		{
+			// the type information precedes the data, so the stream is read as a whole.
+			final ChunksChannelReader reader = ChunksChannelReader.New(
+				source,
+				Serializer.Default.streamingChunkSize(),
+				this.foundation.isByteOrderMismatch()
+			);
+			try
+			{
+				final ByteBuffer buffer = reader.readAll();
+				
+				return this.deserialize(buffer, 0, buffer.limit());
+			}
+			finally
+			{
+				reader.release();
+			}
+		}
+		
+		private ByteBuffer ensureInputBuffer(final int length)
+		{
+			if(this.inputBuffer == null || this.inputBuffer.capacity() < length)
+			{
+				this.releaseInputBuffer();
+				this.inputBuffer = XMemory.allocateDirectNative(length);
+			}
 			
-			//skip byteOder byte, not needed here
+			return this.inputBuffer;
+		}
+		
+		private void releaseInputBuffer()
+		{
+			if(this.inputBuffer != null)
+			{
+				XMemory.deallocateDirectByteBuffer(this.inputBuffer);
+				this.inputBuffer = null;
+			}
+		}
+		
+		/**
+		 * @param deltaRegistry the registry kept across all deltas or {@code null} to load a new graph
+		 */
+		@SuppressWarnings("unchecked")
+		private <T> T deserializeBinary(final Binary in, final PersistenceObjectRegistry deltaRegistry)
+		{
+			//byte order is not needed here, only the data format
+			final boolean isCompactFormat = (in.buffers()[0].get(0) & Static.HEADER_COMPACT_FORMAT) != 0;
+			
+			// the codec is resolved by its id, so data of all built-in codecs is readable regardless of the setting.
+			final BinaryCompressionCodec codec = BinaryCompressionCodec.resolve(
+				(in.buffers()[0].get(0) & Static.HEADER_CODEC_MASK) >>> Static.HEADER_CODEC_SHIFT,
+				this.foundation.getCompressionCodec()
+			);
+			
+			// the string handlers read both chars layouts, but the compact format decodes along the reader's layout.
+			final boolean isCompactStrings = (in.buffers()[0].get(0) & Static.HEADER_COMPACT_STRINGS) != 0;
+			if(isCompactFormat && isCompactStrings != this.foundation.isCompactStrings())
+			{
+				throw new PersistenceException(
+					"Chars layout mismatch in compact format data: data uses compact strings = " + isCompactStrings
+					+ ", serializer uses compact strings = " + this.foundation.isCompactStrings()
+				);
+			}
 			in.buffers()[0].position(XMemory.byteSize_byte());
 			final int typeInfoCount = in.buffers()[0].getInt();
 			final long typeInfoTimeStamp = in.buffers()[0].getLong();
@@ -332,8 +774,19 @@ public interface TypedSerializer<M> extends Serializer<M>
 				this.lastTypeInfoImportTimeStamp = typeInfoTimeStamp;
 			}
 			
-			this.input = ChunksWrapper.New(Arrays.copyOfRange(in.buffers(), typeInfoCount + 1, in.buffers().length));
-			final T content = (T)this.persistenceManager.get();
+			final Binary encoded = ChunksWrapper.New(Arrays.copyOfRange(in.buffers(), typeInfoCount + 1, in.buffers().length));
+			final Binary data    = codec.isCompressing()
+				? codec.decode(encoded, this.foundation.getMaximumDecodedLength())
+				: encoded
+			;
+			this.input = isCompactFormat
+				? this.compactFormat().decode(data)
+				: data
+			;
+			final T content = deltaRegistry == null
+				? (T)this.persistenceManager.get()
+				: (T)Serializer.Static.loadDelta(this.foundation, this.persistenceManager, deltaRegistry)
+			;
 			
 			return content;
 		}
@@ -346,9 +799,12 @@ public interface TypedSerializer<M> extends Serializer<M>
 				this.persistenceManager.objectRegistry().truncateAll();
 				this.persistenceManager.close();
 				this.persistenceManager = null;
+				this.deltaRegistry      = null;
 				this.input              = null;
 				this.output             = null;
+				this.dataOutput         = null;
 			}
+			this.releaseInputBuffer();
 		}
 		
 		@Override
@@ -366,13 +822,15 @@ public interface TypedSerializer<M> extends Serializer<M>
 				final Target target = data -> this.output = data    ;
 								
 				this.foundation.registerEntityType(SerializerTypeInfo.class);
-				this.persistenceManager = this.foundation
-					.setPersistenceSource(source)
-					.setPersistenceTarget(target)
-					.createPersistenceManager()
+				this.persistenceManager = this.isContext
+					? this.foundation.createContextPersistenceManager(source, target)
+					: this.foundation
+						.setPersistenceSource(source)
+						.setPersistenceTarget(target)
+						.createPersistenceManager()
 				;
-				this.storer             = this.persistenceManager.createStorer(
-					new SerializerStorer.Creator(this.foundation.isByteOrderMismatch())
+				this.storer             = (SerializerStorer)this.persistenceManager.createStorer(
+					new SerializerStorer.Creator(this.foundation.isByteOrderMismatch(), this.foundation.getBufferPool())
 				);
 				
 				this.typeDefintionBuilder = new TypeDefinitionBuilder.Default(
@@ -396,4 +854,22 @@ public interface TypedSerializer<M> extends Serializer<M>
 				
 	}
 	
+	
+	/**
+	 * {@link Serializer.Pooled} of {@link TypedSerializer} contexts, see {@link TypedSerializer#Concurrent}.
+	 *
+	 * @param <M> the medium type
+	 */
+	public static class Pooled<M> extends Serializer.Pooled<M> implements TypedSerializer<M>
+	{
+		Pooled(
+			final Supplier<? extends TypedSerializer<M>> contextCreator     ,
+			final int                                    maximumContextCount
+		)
+		{
+			super(contextCreator, maximumContextCount);
+		}
+		
+	}
+	
 }